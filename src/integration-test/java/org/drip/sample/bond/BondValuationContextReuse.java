@@ -0,0 +1,276 @@
+
+package org.drip.sample.bond;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.output.BondRVMeasures;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.param.valuation.WorkoutInfo;
+import org.drip.product.creator.BondBuilder;
+import org.drip.product.credit.BondComponent;
+import org.drip.product.credit.BondValuationContext;
+import org.drip.product.params.EmbeddedOptionSchedule;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.CreditCurveBuilder;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondValuationContextReuse runs the Family of the Price based Measures (the Optimal Exercise Work-out, the
+ * 	Optimal Exercise Yield/Spread/Duration Measures, and the Standard RV Measures) on a Set of Callable
+ * 	Bonds, first with each Measure Call solving its own Work-out and Yields, and then with the Calls made
+ * 	inside a BondValuationContext that shares them. It reports:
+ * 	- The Wall Time to run the Measure Family across the Set in each Mode (dominated by the Z Spread
+ * 		Calibration of the Standard RV Measures, which is not shared).
+ * 	- The Count of the Measures that differ between the Modes.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondValuationContextReuse {
+	private static final int NUM_BOND = 8;
+	private static final int NUM_MEASURE = 16;
+	private static final int NUM_OPTIMAL_EXERCISE_MEASURE = 8;
+
+	private static final BondComponent CallableBond (
+		final JulianDate dtEffective,
+		final int iBond)
+		throws Exception
+	{
+		int iTenor = 6 + iBond % 10;
+
+		BondComponent bond = BondBuilder.CreateSimpleFixed (
+			"CALLABLE" + iBond,
+			"USD",
+			"ISSUER",
+			0.03 + 0.001 * iBond,
+			2,
+			"30/360",
+			dtEffective,
+			dtEffective.addYears (iTenor),
+			null,
+			null
+		);
+
+		double[] adblCallDate = new double[iTenor - 2];
+		double[] adblCallFactor = new double[iTenor - 2];
+
+		for (int j = 0; j < adblCallDate.length; ++j) {
+			adblCallDate[j] = dtEffective.addYears (j + 2).julian();
+
+			adblCallFactor[j] = 1. + 0.005 * (adblCallDate.length - j);
+		}
+
+		bond.setEmbeddedCallSchedule (
+			new EmbeddedOptionSchedule (
+				adblCallDate,
+				adblCallFactor,
+				false,
+				30,
+				false,
+				Double.NaN,
+				"",
+				Double.NaN
+			)
+		);
+
+		return bond;
+	}
+
+	private static final double MeasureToOptimalExercise (
+		final BondComponent bond,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs,
+		final double dblPrice,
+		final int iMeasure)
+	{
+		try {
+			switch (iMeasure) {
+				case 0:
+					return bond.yieldFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+
+				case 1:
+					return bond.gSpreadFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+
+				case 2:
+					return bond.iSpreadFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+
+				case 3:
+					return bond.creditBasisFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+
+				case 4:
+					return bond.modifiedDurationFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+
+				case 5:
+					return bond.macaulayDurationFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+
+				case 6:
+					return bond.convexityFromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+			}
+
+			return bond.yield01FromPriceToOptimalExercise (valParams, csqs, null, dblPrice);
+		} catch (Exception e) {
+		}
+
+		return Double.NaN;
+	}
+
+	private static final void Measures (
+		final BondComponent bond,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs,
+		final double dblPrice,
+		final double[] adblMeasure)
+	{
+		for (int j = 0; j < NUM_OPTIMAL_EXERCISE_MEASURE; ++j)
+			adblMeasure[j] = MeasureToOptimalExercise (bond, valParams, csqs, dblPrice, j);
+
+		WorkoutInfo wi = bond.exerciseYieldFromPrice (valParams, csqs, null, dblPrice);
+
+		BondRVMeasures rv = bond.standardMeasures (valParams, null, csqs, null, wi, dblPrice);
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE] = wi.date();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 1] = wi.yield();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 2] = rv.zSpread();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 3] = rv.gSpread();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 4] = rv.creditBasis();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 5] = rv.yield01();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 6] = rv.modifiedDuration();
+
+		adblMeasure[NUM_OPTIMAL_EXERCISE_MEASURE + 7] = rv.convexity();
+	}
+
+	private static final long MeasureFamily (
+		final BondComponent[] aBond,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs,
+		final double[] adblPrice,
+		final boolean bShareContext,
+		final double[][] aadblMeasure)
+	{
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			BondValuationContext bvc = bShareContext ? BondValuationContext.Open (aBond[i], valParams, csqs,
+				null) : null;
+
+			try {
+				Measures (aBond[i], valParams, csqs, adblPrice[i], aadblMeasure[i]);
+			} finally {
+				if (null != bvc) bvc.close();
+			}
+		}
+
+		return System.nanoTime() - lStart;
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtToday = DateUtil.Today();
+
+		DiscountCurve dc = DiscountCurveBuilder.CreateFromFlatRate (dtToday, "USD", null, 0.04);
+
+		DiscountCurve dcTSY = DiscountCurveBuilder.CreateFromFlatRate (dtToday, "USD", null, 0.03);
+
+		CreditCurve cc = CreditCurveBuilder.FromFlatHazard (dtToday.julian(), "ISSUER", "USD", 0.01, 0.4);
+
+		CurveSurfaceQuoteSet csqs = MarketParamsBuilder.Create (dc, dcTSY, cc, null, null, null, null);
+
+		ValuationParams valParams = ValuationParams.Spot (dtToday, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		BondComponent[] aBond = new BondComponent[NUM_BOND];
+		double[] adblPrice = new double[NUM_BOND];
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			aBond[i] = CallableBond (dtToday.subtractDays (91 * (i % 8)), i);
+
+			adblPrice[i] = aBond[i].priceFromYield (valParams, csqs, null, 0.025 + 0.001 * i);
+		}
+
+		double[][] aadblIndependent = new double[NUM_BOND][NUM_MEASURE];
+		double[][] aadblShared = new double[NUM_BOND][NUM_MEASURE];
+		long lIndependent = 0L;
+		long lShared = 0L;
+
+		for (int iPass = 0; iPass < 2; ++iPass) {
+			lIndependent = MeasureFamily (aBond, valParams, csqs, adblPrice, false, aadblIndependent);
+
+			lShared = MeasureFamily (aBond, valParams, csqs, adblPrice, true, aadblShared);
+		}
+
+		int iNumDifference = 0;
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			for (int j = 0; j < NUM_MEASURE; ++j) {
+				if (0 != Double.compare (aadblIndependent[i][j], aadblShared[i][j])) ++iNumDifference;
+			}
+		}
+
+		System.out.println ("\n\t|---------------------------------------------|");
+
+		System.out.println ("\t|  " + NUM_BOND + " CALLABLE BONDS x " + NUM_MEASURE +
+			" PRICE MEASURES (ms)  |");
+
+		System.out.println ("\t|---------------------------------------------|");
+
+		System.out.println ("\t|  INDEPENDENT SOLVES  |  SHARED CONTEXT      |");
+
+		System.out.println ("\t|---------------------------------------------|");
+
+		System.out.println ("\t|      " + FormatUtil.FormatDouble (lIndependent * 1.e-06, 5, 1, 1.) +
+			"        |      " + FormatUtil.FormatDouble (lShared * 1.e-06, 5, 1, 1.) + "        |");
+
+		System.out.println ("\t|---------------------------------------------|");
+
+		System.out.println ("\n\tMeasures differing between the Modes : " + iNumDifference + " of " +
+			(NUM_BOND * NUM_MEASURE));
+
+		System.out.println ("\n\tBond #0 Workout Yield / Z Spread     : " + FormatUtil.FormatDouble
+			(aadblShared[0][9], 1, 4, 100.) + "% / " + FormatUtil.FormatDouble (aadblShared[0][10], 1, 1,
+				10000.) + " bp");
+	}
+}
@@ -0,0 +1,201 @@
+
+package org.drip.sample.bond;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.function.definition.R1ToR1;
+import org.drip.function.solverR1ToR1.FixedPointFinderNewton;
+import org.drip.function.solverR1ToR1.FixedPointFinderOutput;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.BondBuilder;
+import org.drip.product.credit.BondComponent;
+import org.drip.product.credit.CompiledBondCashFlow;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CompiledYieldSolve calibrates the Yields of a Set of Fixed Coupon Bonds off of their Prices, first by
+ * 	running the Newton Root Finder (with its Numerical Derivative) on BondComponent.priceFromYield - which
+ * 	walks the Coupon Periods on every Evaluation - and then with Halley's Method on the Analytic
+ * 	Derivatives of the Yield Cash Flows compiled once per Bond. It reports:
+ * 	- The Wall Time of the Yield Calibration in each Mode.
+ * 	- The Maximum Yield Difference between the Modes, and the Maximum Re-pricing Error of the Compiled
+ * 		Mode.
+ * 	- The Analytic Modified Duration and Convexity against their 1 bp Finite Difference Estimates.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledYieldSolve {
+	private static final int NUM_BOND = 400;
+
+	private static final double PeriodWalkYield (
+		final BondComponent bond,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs,
+		final double dblPrice)
+		throws Exception
+	{
+		final double dblWorkoutDate = bond.maturityDate().julian();
+
+		R1ToR1 ofYieldToPrice = new R1ToR1 (null) {
+			@Override public double evaluate (
+				final double dblYield)
+				throws Exception
+			{
+				return bond.priceFromYield (valParams, csqs, null, dblWorkoutDate, 1., dblYield) - dblPrice;
+			}
+		};
+
+		FixedPointFinderOutput fpfo = new FixedPointFinderNewton (0., ofYieldToPrice, true).findRoot();
+
+		return null == fpfo || !fpfo.containsRoot() ? Double.NaN : fpfo.getRoot();
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtToday = DateUtil.Today();
+
+		DiscountCurve dc = DiscountCurveBuilder.CreateFromFlatRate (dtToday, "USD", null, 0.03);
+
+		CurveSurfaceQuoteSet csqs = MarketParamsBuilder.Create (dc, null, null, null, null, null, null);
+
+		ValuationParams valParams = ValuationParams.Spot (dtToday, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		BondComponent[] aBond = new BondComponent[NUM_BOND];
+		double[] adblPrice = new double[NUM_BOND];
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			JulianDate dtEffective = dtToday.subtractDays (37 * (i % 50));
+
+			aBond[i] = BondBuilder.CreateSimpleFixed ("BOND" + i, "USD", "", 0.02 + 0.0001 * (i % 60), 2,
+				"30/360", dtEffective, dtEffective.addYears (6 + i % 25), null, null);
+
+			adblPrice[i] = aBond[i].priceFromYield (valParams, csqs, null, 0.01 + 0.0001 * (i % 70));
+		}
+
+		double[] adblPeriodWalkYield = new double[NUM_BOND];
+		double[] adblCompiledYield = new double[NUM_BOND];
+		CompiledBondCashFlow[] aCBCF = new CompiledBondCashFlow[NUM_BOND];
+		long lPeriodWalk = 0L;
+		long lCompiled = 0L;
+
+		for (int iPass = 0; iPass < 3; ++iPass) {
+			long lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_BOND; ++i)
+				adblPeriodWalkYield[i] = PeriodWalkYield (aBond[i], valParams, csqs, adblPrice[i]);
+
+			lPeriodWalk = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_BOND; ++i) {
+				aCBCF[i] = aBond[i].compiledCashFlow (valParams, csqs, null, aBond[i].maturityDate().julian(),
+					1.);
+
+				adblCompiledYield[i] = aCBCF[i].yieldFromPrice (adblPrice[i], 0.);
+			}
+
+			lCompiled = System.nanoTime() - lStart;
+		}
+
+		double dblYieldDifference = 0.;
+		double dblRepricingError = 0.;
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			dblYieldDifference = Math.max (dblYieldDifference, Math.abs (adblPeriodWalkYield[i] -
+				adblCompiledYield[i]));
+
+			dblRepricingError = Math.max (dblRepricingError, Math.abs (aBond[i].priceFromYield (valParams,
+				csqs, null, adblCompiledYield[i]) - adblPrice[i]));
+		}
+
+		System.out.println ("\n\t|-------------------------------------------|");
+
+		System.out.println ("\t| " + NUM_BOND + " FIXED COUPON BONDS - YIELD SOLVE (ms) |");
+
+		System.out.println ("\t|-------------------------------------------|");
+
+		System.out.println ("\t|  PERIOD WALK NEWTON  |  COMPILED HALLEY   |");
+
+		System.out.println ("\t|-------------------------------------------|");
+
+		System.out.println ("\t|      " + FormatUtil.FormatDouble (lPeriodWalk * 1.e-06, 5, 1, 1.) +
+			"        |      " + FormatUtil.FormatDouble (lCompiled * 1.e-06, 5, 1, 1.) + "      |");
+
+		System.out.println ("\t|-------------------------------------------|");
+
+		System.out.println ("\n\tMax Yield Difference (Period Walk vs Compiled) : " + dblYieldDifference);
+
+		System.out.println ("\n\tMax Re-pricing Error (Compiled)                : " + dblRepricingError);
+
+		System.out.println ("\n\t|--------------------------------------------------------------|");
+
+		System.out.println ("\t| BOND |  MOD DUR ANALYTIC / 1BP  |  CONVEXITY ANALYTIC / 1BP  |");
+
+		System.out.println ("\t|--------------------------------------------------------------|");
+
+		for (int i = 0; i < NUM_BOND; i += 97) {
+			double dblYield = adblCompiledYield[i];
+
+			double dblDirtyDown = aCBCF[i].price (dblYield - 0.0001) + aCBCF[i].accrued();
+
+			double dblDirty = aCBCF[i].price (dblYield) + aCBCF[i].accrued();
+
+			double dblDirtyUp = aCBCF[i].price (dblYield + 0.0001) + aCBCF[i].accrued();
+
+			double dblFiniteDuration = (dblDirtyDown - dblDirtyUp) / (0.0002 * dblDirty);
+
+			double dblFiniteConvexity = (dblDirtyDown - 2. * dblDirty + dblDirtyUp) / (1.e-08 * dblDirty);
+
+			System.out.println (
+				"\t| " + FormatUtil.FormatDouble (i, 3, 0, 1.) + " |   " +
+				FormatUtil.FormatDouble (aCBCF[i].modifiedDuration (dblYield), 2, 4, 1.) + " / " +
+				FormatUtil.FormatDouble (dblFiniteDuration, 2, 4, 1.) + "    |    " +
+				FormatUtil.FormatDouble (aCBCF[i].convexity (dblYield), 3, 3, 1.) + " / " +
+				FormatUtil.FormatDouble (dblFiniteConvexity, 3, 3, 1.) + "     |"
+			);
+		}
+
+		System.out.println ("\t|--------------------------------------------------------------|");
+	}
+}
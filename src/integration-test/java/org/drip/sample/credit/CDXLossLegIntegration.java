@@ -0,0 +1,235 @@
+
+package org.drip.sample.credit;
+
+import java.util.Map;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.pricer.CreditPricerParams;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.CDSBuilder;
+import org.drip.product.definition.CreditDefaultSwap;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.CreditCurveBuilder;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CDXLossLegIntegration prices the 5Y SNAC CDS of a 125 Name CDX-style Constituent Set off Piecewise Flat
+ * 	Hazard and Forward Curves under three CreditPricerParams Discretization Schemes:
+ * 	- The Standard 7 Day Step Loss Quadrature.
+ * 	- The 1 Day Step Loss Quadrature, used here as the Reference.
+ * 	- The Analytic ISDA Standard Model style Integration of LossLegIntegrator.
+ * 	It reports the Maximum Deviation of the Fair Premium and the Clean PV from the Reference, and the Wall
+ * 	Time to price the whole Set.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CDXLossLegIntegration {
+	public static final int NUM_NAME = 125;
+	private static final double RECOVERY = 0.4;
+
+	private static final String[] NODE_TENOR = new String[] {
+		"6M", "1Y", "2Y", "3Y", "5Y", "7Y", "10Y"
+	};
+
+	private static final double[] NODE_TIME = new double[] {
+		0.5, 1., 2., 3., 5., 7., 10.
+	};
+
+	private static final double[] FORWARD_RATE = new double[] {
+		0.0025, 0.0040, 0.0085, 0.0125, 0.0190, 0.0240, 0.0275
+	};
+
+	public static final CreditCurve ConstituentCurve (
+		final JulianDate dtStart,
+		final int iName)
+		throws Exception
+	{
+		double dbl5YSpread = 0.0030 + 0.0470 * Math.pow ((iName + 0.5) / NUM_NAME, 3.);
+
+		double[] adblHazardDate = new double[NODE_TENOR.length];
+		double[] adblHazardRate = new double[NODE_TENOR.length];
+
+		for (int j = 0; j < NODE_TENOR.length; ++j) {
+			adblHazardDate[j] = dtStart.addTenor (NODE_TENOR[j]).julian();
+
+			adblHazardRate[j] = dbl5YSpread * (0.6 + 0.4 * Math.sqrt (NODE_TIME[j] / 5.)) / (1. - RECOVERY);
+		}
+
+		return CreditCurveBuilder.CreateCreditCurve (dtStart, "CDX" + iName, "USD", adblHazardDate,
+			adblHazardRate, RECOVERY);
+	}
+
+	public static final DiscountCurve FundingCurve (
+		final JulianDate dtStart)
+		throws Exception
+	{
+		double[] adblForwardDate = new double[NODE_TENOR.length];
+
+		for (int j = 0; j < NODE_TENOR.length; ++j)
+			adblForwardDate[j] = dtStart.addTenor (NODE_TENOR[j]).julian();
+
+		return DiscountCurveBuilder.CreateDC (dtStart, "USD", null, adblForwardDate, FORWARD_RATE, null);
+	}
+
+	private static final long Price (
+		final CreditDefaultSwap[] aCDS,
+		final CurveSurfaceQuoteSet[] aCSQS,
+		final ValuationParams valParams,
+		final CreditPricerParams pricerParams,
+		final double[][] aadblMeasure)
+		throws Exception
+	{
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			Map<String, Double> mapMeasure = aCDS[i].value (valParams, pricerParams, aCSQS[i], null);
+
+			aadblMeasure[i][0] = mapMeasure.get ("FairPremium");
+
+			aadblMeasure[i][1] = mapMeasure.get ("CleanPV");
+		}
+
+		return System.nanoTime() - lStart;
+	}
+
+	private static final void Row (
+		final String strScheme,
+		final long lNanos,
+		final double[][] aadblMeasure,
+		final double[][] aadblReference)
+	{
+		double dblPremiumDeviation = 0.;
+		double dblCleanPVDeviation = 0.;
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			dblPremiumDeviation = Math.max (dblPremiumDeviation, Math.abs (aadblMeasure[i][0] -
+				aadblReference[i][0]));
+
+			dblCleanPVDeviation = Math.max (dblCleanPVDeviation, Math.abs (aadblMeasure[i][1] -
+				aadblReference[i][1]));
+		}
+
+		System.out.println (
+			"\t| " + strScheme + " | " +
+			FormatUtil.FormatDouble (lNanos * 1.e-06, 5, 1, 1.) + " | " +
+			String.format ("%13.2e", dblPremiumDeviation) + " | " +
+			String.format ("%13.2e", dblCleanPVDeviation) + " |"
+		);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		DiscountCurve dc = FundingCurve (dtStart);
+
+		CreditDefaultSwap[] aCDS = new CreditDefaultSwap[NUM_NAME];
+		CurveSurfaceQuoteSet[] aCSQS = new CurveSurfaceQuoteSet[NUM_NAME];
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			aCDS[i] = CDSBuilder.CreateSNAC (dtStart, "5Y", 0.01, "CDX" + i);
+
+			aCSQS[i] = MarketParamsBuilder.Credit (dc, ConstituentCurve (dtStart, i));
+		}
+
+		ValuationParams valParams = ValuationParams.Spot (dtStart, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		CreditPricerParams pricerParamsDayStep = CreditPricerParams.Standard();
+
+		CreditPricerParams pricerParamsReference = new CreditPricerParams (1, null, false,
+			CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+
+		CreditPricerParams pricerParamsAnalytic = new CreditPricerParams (7, null, false,
+			CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC);
+
+		double[][] aadblReference = new double[NUM_NAME][2];
+		double[][] aadblDayStep = new double[NUM_NAME][2];
+		double[][] aadblAnalytic = new double[NUM_NAME][2];
+		long lReference = 0L;
+		long lDayStep = 0L;
+		long lAnalytic = 0L;
+
+		for (int iPass = 0; iPass < 3; ++iPass) {
+			lReference = Price (aCDS, aCSQS, valParams, pricerParamsReference, aadblReference);
+
+			lDayStep = Price (aCDS, aCSQS, valParams, pricerParamsDayStep, aadblDayStep);
+
+			lAnalytic = Price (aCDS, aCSQS, valParams, pricerParamsAnalytic, aadblAnalytic);
+		}
+
+		System.out.println ("\n\t|---------------------------------------------------------------|");
+
+		System.out.println ("\t|  " + NUM_NAME +
+			" NAME 5Y SNAC - MAX DEVIATION FROM 1 DAY STEP REFERENCE   |");
+
+		System.out.println ("\t|---------------------------------------------------------------|");
+
+		System.out.println ("\t|      SCHEME       |  WALL ms | FAIR PREMIUM  |   CLEAN PV    |");
+
+		System.out.println ("\t|---------------------------------------------------------------|");
+
+		Row ("1 DAY STEP       ", lReference, aadblReference, aadblReference);
+
+		Row ("7 DAY STEP       ", lDayStep, aadblDayStep, aadblReference);
+
+		Row ("ANALYTIC         ", lAnalytic, aadblAnalytic, aadblReference);
+
+		System.out.println ("\t|---------------------------------------------------------------|");
+
+		System.out.println ("\n\t|--------------------------------------------------|");
+
+		System.out.println ("\t| NAME  |  7 DAY STEP PREMIUM |  ANALYTIC PREMIUM  |");
+
+		System.out.println ("\t|--------------------------------------------------|");
+
+		for (int i = 0; i < NUM_NAME; i += 31)
+			System.out.println (
+				"\t| " + FormatUtil.FormatDouble (i, 3, 0, 1.) + "  | " +
+				FormatUtil.FormatDouble (aadblDayStep[i][0], 4, 12, 1.) + " | " +
+				FormatUtil.FormatDouble (aadblAnalytic[i][0], 4, 12, 1.) + " |"
+			);
+
+		System.out.println ("\t|--------------------------------------------------|");
+	}
+}
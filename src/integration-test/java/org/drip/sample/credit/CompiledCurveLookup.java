@@ -0,0 +1,272 @@
+
+package org.drip.sample.credit;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.CreditCurveBuilder;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CompiledCurveLookup checks the Binary Search over the Cumulative Integral Nodes that the
+ * 	ForwardHazardCreditCurve and the FlatForwardDiscountCurve now carry against the Node-by-Node Scan from
+ * 	the Epoch they replaced - reproduced here verbatim - on a Daily Grid out past the Final Node:
+ * 	- The Maximum Difference in the Survival and the Discount Factor (Continuous and Discrete Compounding).
+ * 	- The Wall Time per Lookup of the Legacy Scan, the Compiled Scalar Lookup, and the Bulk Array Lookup.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledCurveLookup {
+	private static final int NUM_NODE = 40;
+	private static final int NUM_DAY = 4000;
+	private static final int NUM_TIMING_PASS = 200;
+
+	private static final double LegacySurvival (
+		final double dblEpochDate,
+		final double[] adblHazardDate,
+		final double[] adblHazardRate,
+		final double dblDate)
+	{
+		if (dblDate <= dblEpochDate) return 1.;
+
+		int i = 0;
+		double dblExpArg = 0.;
+		double dblStartDate = dblEpochDate;
+
+		while (i < adblHazardRate.length && dblDate > adblHazardDate[i]) {
+			dblExpArg -= adblHazardRate[i] * (adblHazardDate[i] - dblStartDate);
+			dblStartDate = adblHazardDate[i++];
+		}
+
+		if (i >= adblHazardRate.length) i = adblHazardRate.length - 1;
+
+		dblExpArg -= adblHazardRate[i] * (dblDate - dblStartDate);
+
+		return Math.exp (dblExpArg / 365.25);
+	}
+
+	private static final double LegacyDF (
+		final double dblEpochDate,
+		final double[] adblDate,
+		final double[] adblForwardRate,
+		final String strDayCount,
+		final int iCompoundingFreq,
+		final double dblDate)
+		throws Exception
+	{
+		if (dblDate <= dblEpochDate) return 1.;
+
+		int i = 0;
+		double dblDF = 1.;
+		double dblExpArg = 0.;
+		int iNumDate = adblDate.length;
+		double dblStartDate = dblEpochDate;
+		boolean bDiscreteCompounding = null != strDayCount;
+
+		while (i < iNumDate && (int) dblDate >= (int) adblDate[i]) {
+			if (bDiscreteCompounding)
+				dblDF *= Math.pow (1. + (adblForwardRate[i] / iCompoundingFreq), Convention.YearFraction
+					(dblStartDate, adblDate[i], strDayCount, false, null, "USD") * iCompoundingFreq);
+			else
+				dblExpArg -= adblForwardRate[i] * ((adblDate[i] - dblStartDate) / 365.25);
+
+			dblStartDate = adblDate[i++];
+		}
+
+		if (i >= iNumDate) i = iNumDate - 1;
+
+		if (bDiscreteCompounding)
+			dblDF *= Math.pow (1. + (adblForwardRate[i] / iCompoundingFreq), Convention.YearFraction
+				(dblStartDate, dblDate, strDayCount, false, null, "USD") * iCompoundingFreq);
+		else
+			dblExpArg -= adblForwardRate[i] * ((dblDate - dblStartDate) / 365.25);
+
+		return bDiscreteCompounding ? dblDF : Math.exp (dblExpArg);
+	}
+
+	private static final void Row (
+		final String strLookup,
+		final long lLegacy,
+		final long lCompiled,
+		final long lBulk,
+		final double dblMaxDifference)
+	{
+		double dblNumLookup = 1. * NUM_DAY * NUM_TIMING_PASS;
+
+		System.out.println (
+			"\t| " + strLookup + " | " +
+			FormatUtil.FormatDouble (lLegacy / dblNumLookup, 5, 1, 1.) + " | " +
+			FormatUtil.FormatDouble (lCompiled / dblNumLookup, 5, 1, 1.) + " | " +
+			FormatUtil.FormatDouble (lBulk / dblNumLookup, 5, 1, 1.) + " | " +
+			String.format ("%8.1e", dblMaxDifference) + " |"
+		);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtEpoch = DateUtil.Today();
+
+		double dblEpochDate = dtEpoch.julian();
+
+		double[] adblNodeDate = new double[NUM_NODE];
+		double[] adblNodeRate = new double[NUM_NODE];
+		double[] adblLookupDate = new double[NUM_DAY];
+
+		for (int i = 0; i < NUM_NODE; ++i) {
+			adblNodeDate[i] = dtEpoch.addMonths (3 * (i + 1)).julian();
+
+			adblNodeRate[i] = 0.01 + 0.0005 * i + 0.002 * Math.sin (0.7 * i);
+		}
+
+		for (int i = 0; i < NUM_DAY; ++i)
+			adblLookupDate[i] = dblEpochDate + i + (0 == i % 3 ? 0.5 : 0.);
+
+		CreditCurve cc = CreditCurveBuilder.CreateCreditCurve (dtEpoch, "CC", "USD", adblNodeDate,
+			adblNodeRate, 0.4);
+
+		DiscountCurve dcContinuous = DiscountCurveBuilder.CreateDC (dtEpoch, "USD", null, adblNodeDate,
+			adblNodeRate, null);
+
+		DiscountCurve dcDiscrete = DiscountCurveBuilder.CreateFromFlatYield (dtEpoch, "USD", null, 0.03,
+			"30/360", 2);
+
+		double[] adblFlatYieldDate = new double[] {dblEpochDate};
+		double[] adblFlatYield = new double[] {0.03};
+		double dblSurvivalDifference = 0.;
+		double dblContinuousDifference = 0.;
+		double dblDiscreteDifference = 0.;
+		double dblChecksum = 0.;
+
+		double[] adblSurvival = cc.survival (adblLookupDate);
+
+		double[] adblContinuousDF = dcContinuous.df (adblLookupDate);
+
+		double[] adblDiscreteDF = dcDiscrete.df (adblLookupDate);
+
+		for (int i = 0; i < NUM_DAY; ++i) {
+			dblSurvivalDifference = Math.max (dblSurvivalDifference, Math.abs (adblSurvival[i] -
+				LegacySurvival (dblEpochDate, adblNodeDate, adblNodeRate, adblLookupDate[i])));
+
+			dblContinuousDifference = Math.max (dblContinuousDifference, Math.abs (adblContinuousDF[i] -
+				LegacyDF (dblEpochDate, adblNodeDate, adblNodeRate, null, -1, adblLookupDate[i])));
+
+			dblDiscreteDifference = Math.max (dblDiscreteDifference, Math.abs (adblDiscreteDF[i] - LegacyDF
+				(dblEpochDate, adblFlatYieldDate, adblFlatYield, "30/360", 2, adblLookupDate[i])));
+		}
+
+		long[][] aalTime = new long[2][3];
+
+		for (int iRun = 0; iRun < 3; ++iRun) {
+			long lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_DAY; ++i)
+					dblChecksum += LegacySurvival (dblEpochDate, adblNodeDate, adblNodeRate,
+						adblLookupDate[i]);
+			}
+
+			aalTime[0][0] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_DAY; ++i)
+					dblChecksum += cc.survival (adblLookupDate[i]);
+			}
+
+			aalTime[0][1] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass)
+				dblChecksum += cc.survival (adblLookupDate)[NUM_DAY - 1];
+
+			aalTime[0][2] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_DAY; ++i)
+					dblChecksum += LegacyDF (dblEpochDate, adblNodeDate, adblNodeRate, null, -1,
+						adblLookupDate[i]);
+			}
+
+			aalTime[1][0] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_DAY; ++i)
+					dblChecksum += dcContinuous.df (adblLookupDate[i]);
+			}
+
+			aalTime[1][1] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass)
+				dblChecksum += dcContinuous.df (adblLookupDate)[NUM_DAY - 1];
+
+			aalTime[1][2] = System.nanoTime() - lStart;
+		}
+
+		System.out.println ("\n\t|----------------------------------------------------------|");
+
+		System.out.println ("\t|    " + NUM_NODE + " NODES x " + NUM_DAY +
+			" DATES - NANOS PER LOOKUP, MAX DIFF    |");
+
+		System.out.println ("\t|----------------------------------------------------------|");
+
+		System.out.println ("\t|   LOOKUP    |  LEGACY  | COMPILED |   BULK   | MAX DIFF |");
+
+		System.out.println ("\t|----------------------------------------------------------|");
+
+		Row ("SURVIVAL   ", aalTime[0][0], aalTime[0][1], aalTime[0][2], dblSurvivalDifference);
+
+		Row ("DF (CONT)  ", aalTime[1][0], aalTime[1][1], aalTime[1][2], dblContinuousDifference);
+
+		System.out.println ("\t|----------------------------------------------------------|");
+
+		System.out.println ("\n\tDiscrete Compounding DF Max Difference: " + dblDiscreteDifference);
+
+		System.out.println ("\n\tChecksum: " + dblChecksum);
+	}
+}
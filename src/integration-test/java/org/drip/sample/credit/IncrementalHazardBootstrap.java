@@ -0,0 +1,204 @@
+
+package org.drip.sample.credit;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.ExplicitBootCreditCurve;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.pricer.CreditPricerParams;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.CDSBuilder;
+import org.drip.product.definition.CreditDefaultSwap;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.CreditCurveBuilder;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.drip.state.estimator.NonlinearCurveCalibrator;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * IncrementalHazardBootstrap bootstraps the Hazard Rate Curves of a Set of Single Names off their SNAC CDS
+ * 	Par Spread Term Structures, first with the Incremental Bootstrap of the NonlinearCurveCalibrator (the
+ * 	Legs of the Coupon Periods under the already calibrated Nodes are carried over across the Solver
+ * 	Iterations), and then with the Full Re-valuation of the Calibration CDS on each Iteration. It reports:
+ * 	- The Wall Time of the Bootstrap in each Mode.
+ * 	- The Maximum Difference in the Calibrated Survival between the Modes.
+ * 	- The Maximum Fair Premium Re-pricing Error of the Incrementally Bootstrapped Curves.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class IncrementalHazardBootstrap {
+	private static final int NUM_NAME = 40;
+	private static final double RECOVERY = 0.4;
+
+	private static final String[] CDS_TENOR = new String[] {
+		"6M", "1Y", "2Y", "3Y", "4Y", "5Y", "7Y", "10Y"
+	};
+
+	private static final double[] CDS_TIME = new double[] {
+		0.5, 1., 2., 3., 4., 5., 7., 10.
+	};
+
+	private static final ExplicitBootCreditCurve Bootstrap (
+		final NonlinearCurveCalibrator calibrator,
+		final JulianDate dtStart,
+		final ValuationParams valParams,
+		final DiscountCurve dc,
+		final CreditDefaultSwap[] aCDS,
+		final double[] adblQuote,
+		final int iName)
+		throws Exception
+	{
+		double[] adblDate = new double[aCDS.length];
+		double[] adblHazardRate = new double[aCDS.length];
+
+		for (int j = 0; j < aCDS.length; ++j) {
+			adblHazardRate[j] = Double.NaN;
+
+			adblDate[j] = aCDS[j].maturityDate().julian();
+		}
+
+		ExplicitBootCreditCurve cc = CreditCurveBuilder.CreateCreditCurve (dtStart, "NAME" + iName, "USD",
+			adblDate, adblHazardRate, RECOVERY);
+
+		CreditPricerParams pricerParams = CreditPricerParams.Standard();
+
+		for (int j = 0; j < aCDS.length; ++j) {
+			if (!calibrator.bootstrapHazardRate (cc, aCDS[j], j, valParams, dc, null, pricerParams,
+				"FairPremium", adblQuote[j], null, null, false))
+				throw new Exception ("Cannot bootstrap Node #" + j + " of Name #" + iName);
+		}
+
+		return cc;
+	}
+
+	private static final long BootstrapSet (
+		final NonlinearCurveCalibrator calibrator,
+		final JulianDate dtStart,
+		final ValuationParams valParams,
+		final DiscountCurve dc,
+		final CreditDefaultSwap[][] aaCDS,
+		final double[][] aadblQuote,
+		final ExplicitBootCreditCurve[] aCC)
+		throws Exception
+	{
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < NUM_NAME; ++i)
+			aCC[i] = Bootstrap (calibrator, dtStart, valParams, dc, aaCDS[i], aadblQuote[i], i);
+
+		return System.nanoTime() - lStart;
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		DiscountCurve dc = DiscountCurveBuilder.CreateDC (dtStart, "USD", null, new double[] {
+			dtStart.addTenor ("1Y").julian(), dtStart.addTenor ("3Y").julian(), dtStart.addTenor
+				("5Y").julian(), dtStart.addTenor ("10Y").julian()
+		}, new double[] {0.0040, 0.0125, 0.0190, 0.0275}, null);
+
+		ValuationParams valParams = ValuationParams.Spot (dtStart, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		CreditDefaultSwap[][] aaCDS = new CreditDefaultSwap[NUM_NAME][CDS_TENOR.length];
+		double[][] aadblQuote = new double[NUM_NAME][CDS_TENOR.length];
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			double dbl5YSpread = 30. + 470. * Math.pow ((i + 0.5) / NUM_NAME, 3.);
+
+			for (int j = 0; j < CDS_TENOR.length; ++j) {
+				aaCDS[i][j] = CDSBuilder.CreateSNAC (dtStart, CDS_TENOR[j], 0.01, "NAME" + i);
+
+				aadblQuote[i][j] = dbl5YSpread * (0.6 + 0.4 * Math.sqrt (CDS_TIME[j] / 5.));
+			}
+		}
+
+		NonlinearCurveCalibrator calibratorIncremental = new NonlinearCurveCalibrator (true);
+
+		NonlinearCurveCalibrator calibratorFull = new NonlinearCurveCalibrator (false);
+
+		ExplicitBootCreditCurve[] aCCIncremental = new ExplicitBootCreditCurve[NUM_NAME];
+		ExplicitBootCreditCurve[] aCCFull = new ExplicitBootCreditCurve[NUM_NAME];
+		long lIncremental = 0L;
+		long lFull = 0L;
+
+		for (int iPass = 0; iPass < 2; ++iPass) {
+			lIncremental = BootstrapSet (calibratorIncremental, dtStart, valParams, dc, aaCDS, aadblQuote,
+				aCCIncremental);
+
+			lFull = BootstrapSet (calibratorFull, dtStart, valParams, dc, aaCDS, aadblQuote, aCCFull);
+		}
+
+		double dblSurvivalDifference = 0.;
+		double dblRepricingError = 0.;
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			for (int j = 0; j < CDS_TENOR.length; ++j) {
+				double dblMaturity = aaCDS[i][j].maturityDate().julian();
+
+				dblSurvivalDifference = Math.max (dblSurvivalDifference, Math.abs
+					(aCCIncremental[i].survival (dblMaturity) - aCCFull[i].survival (dblMaturity)));
+
+				dblRepricingError = Math.max (dblRepricingError, Math.abs (aaCDS[i][j].measureValue
+					(valParams, CreditPricerParams.Standard(), MarketParamsBuilder.Credit (dc,
+						aCCIncremental[i]), null, "FairPremium") - aadblQuote[i][j]));
+			}
+		}
+
+		System.out.println ("\n\t|-------------------------------------------|");
+
+		System.out.println ("\t|  " + NUM_NAME + " NAMES x " + CDS_TENOR.length +
+			" SNAC CDS - BOOTSTRAP TIME   |");
+
+		System.out.println ("\t|-------------------------------------------|");
+
+		System.out.println ("\t|  INCREMENTAL (ms)  |  FULL REPRICE (ms)   |");
+
+		System.out.println ("\t|-------------------------------------------|");
+
+		System.out.println ("\t|      " + FormatUtil.FormatDouble (lIncremental * 1.e-06, 5, 1, 1.) +
+			"      |      " + FormatUtil.FormatDouble (lFull * 1.e-06, 5, 1, 1.) + "       |");
+
+		System.out.println ("\t|-------------------------------------------|");
+
+		System.out.println ("\n\tMax Survival Difference (Incremental vs Full) : " + dblSurvivalDifference);
+
+		System.out.println ("\n\tMax Fair Premium Re-pricing Error (bp)        : " + dblRepricingError);
+	}
+}
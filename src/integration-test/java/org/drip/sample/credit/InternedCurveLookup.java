@@ -0,0 +1,168 @@
+
+package org.drip.sample.credit;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.CreditCurveBuilder;
+import org.drip.state.identifier.CreditLabel;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * InternedCurveLookup loads the Credit Curves of a Set of Names into a CurveSurfaceQuoteSet, and times the
+ * 	Resolution of the Curves in the following ways:
+ * 	- Off a Case Insensitive Map keyed by the Fully Qualified Label Name, as CurveSurfaceQuoteSet used to.
+ * 	- Off a freshly created CreditLabel for each Lookup, which interns the Name each time.
+ * 	- Off a CreditLabel held across the Lookups, which caches its Interned ID.
+ * 	- Off the Slot (the Interned ID) resolved once up-front, as a Pricer would across a Valuation.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class InternedCurveLookup {
+	private static final int NUM_NAME = 500;
+	private static final int NUM_TIMING_PASS = 2000;
+
+	private static final void Row (
+		final String strLookup,
+		final long lNanos)
+	{
+		System.out.println ("\t| " + strLookup + " | " + FormatUtil.FormatDouble (lNanos / (1. * NUM_NAME *
+			NUM_TIMING_PASS), 4, 1, 1.) + " |");
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		double[] adblHazardDate = new double[] {
+			dtStart.addTenor ("1Y").julian(), dtStart.addTenor ("5Y").julian(), dtStart.addTenor
+				("10Y").julian()
+		};
+
+		String[] astrName = new String[NUM_NAME];
+		int[] aiSlot = new int[NUM_NAME];
+		CreditLabel[] aCreditLabel = new CreditLabel[NUM_NAME];
+		CurveSurfaceQuoteSet csqs = new CurveSurfaceQuoteSet();
+
+		CaseInsensitiveTreeMap<CreditCurve> mapCreditCurve = new CaseInsensitiveTreeMap<CreditCurve>();
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			double dblHazardRate = 0.005 + 0.04 * i / NUM_NAME;
+
+			CreditCurve cc = CreditCurveBuilder.CreateCreditCurve (dtStart, astrName[i] = "NAME" + i, "USD",
+				adblHazardDate, new double[] {dblHazardRate, dblHazardRate, dblHazardRate}, 0.4);
+
+			csqs.setCreditCurve (cc);
+
+			mapCreditCurve.put (cc.label().fullyQualifiedName(), cc);
+
+			aiSlot[i] = (aCreditLabel[i] = CreditLabel.Standard (astrName[i])).internedID();
+
+			if (csqs.creditCurve (aiSlot[i]) != cc || csqs.creditCurve (aCreditLabel[i]) != cc)
+				throw new Exception ("Slot Mismatch for " + astrName[i]);
+		}
+
+		long[] alTime = new long[4];
+		int iNumHit = 0;
+
+		for (int iRun = 0; iRun < 3; ++iRun) {
+			long lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_NAME; ++i) {
+					String strLabel = CreditLabel.Standard (astrName[i]).fullyQualifiedName();
+
+					if (mapCreditCurve.containsKey (strLabel) && null != mapCreditCurve.get (strLabel))
+						++iNumHit;
+				}
+			}
+
+			alTime[0] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_NAME; ++i) {
+					if (null != csqs.creditCurve (CreditLabel.Standard (astrName[i]))) ++iNumHit;
+				}
+			}
+
+			alTime[1] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_NAME; ++i) {
+					if (null != csqs.creditCurve (aCreditLabel[i])) ++iNumHit;
+				}
+			}
+
+			alTime[2] = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int iPass = 0; iPass < NUM_TIMING_PASS; ++iPass) {
+				for (int i = 0; i < NUM_NAME; ++i) {
+					if (null != csqs.creditCurve (aiSlot[i])) ++iNumHit;
+				}
+			}
+
+			alTime[3] = System.nanoTime() - lStart;
+		}
+
+		System.out.println ("\n\t|--------------------------------|");
+
+		System.out.println ("\t|  " + NUM_NAME + " NAMES - NANOS PER LOOKUP  |");
+
+		System.out.println ("\t|--------------------------------|");
+
+		Row ("NAME KEYED MAP      ", alTime[0]);
+
+		Row ("FRESH LABEL         ", alTime[1]);
+
+		Row ("HELD LABEL          ", alTime[2]);
+
+		Row ("RESOLVED SLOT       ", alTime[3]);
+
+		System.out.println ("\t|--------------------------------|");
+
+		System.out.println ("\n\tHits: " + iNumHit + " of " + (12 * NUM_NAME * NUM_TIMING_PASS));
+	}
+}
@@ -0,0 +1,215 @@
+package org.drip.sample.credit;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.creator.QuoteBuilder;
+import org.drip.param.definition.ProductQuote;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.pricer.CreditPricerParams;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.BondBuilder;
+import org.drip.product.creator.CDSBuilder;
+import org.drip.product.definition.Bond;
+import org.drip.product.definition.CreditDefaultSwap;
+import org.drip.product.definition.FixedIncomeComponent;
+import org.drip.quant.common.CollectionUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * RestrictedMeasureRequest checks the Measure Request Valuation of a CDS and of a Fixed Coupon Bond - the
+ * 	value() Variant that takes the Set of the requested Measure Names, and that skips the Passes none of
+ * 	them depend on - against the Full Measure Map restricted to the same Set. The Requests cover:
+ * 	- Fair Only, Un-prefixed, Market Only, and Mixed Measure Sets.
+ * 	- Accrual Only Sets on the CDS, and Workout/Relative Value Fair Sets on the Bond.
+ * 	- Each of the above with and without a Product Quote in the Market Parameters.
+ * 	The Market Parameters are rebuilt for every Valuation, since the CDS Market Pass re-points the Credit
+ * 	Curve of the Parameters it is handed. The Run fails on the first Request whose Restricted Map does not
+ * 	match bitwise.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RestrictedMeasureRequest {
+	private static final String[] CDS_REQUEST = new String[] {
+		"ACCRUAL ONLY",
+		"FAIR ONLY",
+		"UN-PREFIXED",
+		"MARKET ONLY",
+		"MIXED"
+	};
+
+	private static final String[][] CDS_MEASURE = new String[][] {
+		{"Accrued", "FairAccrued01", "AccrualDays"},
+		{"FairPV", "FairCleanPV", "FairParSpread", "FairUpfront", "FairDV01"},
+		{"PV", "DV01", "Upfront", "ParSpread"},
+		{"MarketPV", "MarketCleanDV01", "MarketParSpread", "MarketCreditBasis"},
+		{"FairPV", "MarketPV", "PV", "Accrued"}
+	};
+
+	private static final String[] BOND_REQUEST = new String[] {
+		"FAIR WORKOUT",
+		"FAIR RV",
+		"FAIR SPREAD",
+		"UN-PREFIXED",
+		"MARKET ONLY",
+		"MIXED"
+	};
+
+	private static final String[][] BOND_MEASURE = new String[][] {
+		{"FairDirtyPV", "FairCleanPrice", "FairParPV", "FairRisklessCleanDV01"},
+		{"FairYield", "FairZSpread", "FairModifiedDuration", "FairPV"},
+		{"FairParSpread", "FairPV"},
+		{"Price", "Yield", "DV01", "ParSpread"},
+		{"MarketCleanPrice", "MarketDirtyPV", "MarketParPV", "MarketInputType=Yield"},
+		{"FairPV", "MarketCleanPrice", "Yield", "FairYield"}
+	};
+
+	private static final boolean Match (
+		final CaseInsensitiveTreeMap<Double> map1,
+		final CaseInsensitiveTreeMap<Double> map2)
+	{
+		if (null == map1 || null == map2) return map1 == map2;
+
+		if (map1.size() != map2.size()) return false;
+
+		for (Map.Entry<String, Double> me : map1.entrySet()) {
+			Double dbl2 = map2.get (me.getKey());
+
+			if (null == dbl2 || 0 != me.getValue().compareTo (dbl2)) return false;
+		}
+
+		return true;
+	}
+
+	private static final CurveSurfaceQuoteSet MarketParams (
+		final FixedIncomeComponent comp,
+		final JulianDate dtSpot,
+		final String strQuote,
+		final double dblQuote)
+		throws Exception
+	{
+		DiscountCurve dc = CDXLossLegIntegration.FundingCurve (dtSpot);
+
+		CurveSurfaceQuoteSet csqs = comp instanceof CreditDefaultSwap ? MarketParamsBuilder.Credit (dc,
+			CDXLossLegIntegration.ConstituentCurve (dtSpot, 0)) : MarketParamsBuilder.Create (dc, null, null,
+				null, null, null, null);
+
+		if (null == strQuote) return csqs;
+
+		ProductQuote pq = QuoteBuilder.CreateProductQuote();
+
+		pq.addQuote (strQuote, QuoteBuilder.CreateQuote ("mid", dblQuote, Double.NaN), true);
+
+		csqs.setProductQuote (comp.name(), pq);
+
+		return csqs;
+	}
+
+	private static final void Run (
+		final FixedIncomeComponent comp,
+		final JulianDate dtSpot,
+		final ValuationParams valParams,
+		final CreditPricerParams pricerParams,
+		final String strQuote,
+		final double dblQuote,
+		final String[] astrRequest,
+		final String[][] aastrMeasure)
+		throws Exception
+	{
+		boolean bQuoted = null != strQuote;
+
+		CaseInsensitiveTreeMap<Double> mapFull = comp.value (valParams, pricerParams, MarketParams (comp,
+			dtSpot, strQuote, dblQuote), null);
+
+		for (int i = 0; i < astrRequest.length; ++i) {
+			Set<String> setstrMeasure = new HashSet<String> (Arrays.asList (aastrMeasure[i]));
+
+			CaseInsensitiveTreeMap<Double> mapRestricted = comp.value (valParams, pricerParams, MarketParams
+				(comp, dtSpot, strQuote, dblQuote), null, setstrMeasure);
+
+			boolean bMatch = Match (mapRestricted, CollectionUtil.RestrictKeys (mapFull, setstrMeasure));
+
+			System.out.println ("\t| " + comp.name() + " | " + (bQuoted ? "QUOTED  " : "UNQUOTED") + " | " +
+				astrRequest[i] + " => " + (null == mapRestricted ? 0 : mapRestricted.size()) + " of " +
+					setstrMeasure.size() + " Measures | MATCH: " + bMatch);
+
+			if (!bMatch)
+				throw new Exception ("Restricted Measure Mismatch for " + comp.name() + " " +
+					astrRequest[i]);
+		}
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtSpot = DateUtil.Today();
+
+		ValuationParams valParams = ValuationParams.Spot (dtSpot, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		CreditPricerParams pricerParams = CreditPricerParams.Standard();
+
+		CreditDefaultSwap cds = CDSBuilder.CreateSNAC (dtSpot, "5Y", 0.01, "CDX0");
+
+		Bond bond = BondBuilder.CreateSimpleFixed ("UST_7Y", "USD", "", 0.03, 2, "30/360", dtSpot.subtractDays
+			(45), dtSpot.addYears (7), null, null);
+
+		double dblCDSUpfrontQuote = cds.measureValue (valParams, pricerParams, MarketParams (cds, dtSpot,
+			null, Double.NaN), null, "Upfront") + 0.5;
+
+		System.out.println ("\n\t|-------------------------------------------------------------------|");
+
+		Run (cds, dtSpot, valParams, pricerParams, null, Double.NaN, CDS_REQUEST, CDS_MEASURE);
+
+		Run (bond, dtSpot, valParams, pricerParams, null, Double.NaN, BOND_REQUEST, BOND_MEASURE);
+
+		System.out.println ("\t|-------------------------------------------------------------------|");
+
+		Run (cds, dtSpot, valParams, pricerParams, "Upfront", dblCDSUpfrontQuote, CDS_REQUEST, CDS_MEASURE);
+
+		Run (bond, dtSpot, valParams, pricerParams, "Yield", 0.04, BOND_REQUEST, BOND_MEASURE);
+
+		System.out.println ("\t|-------------------------------------------------------------------|");
+	}
+}
@@ -98,7 +98,7 @@ public class MultiFactorLIBORCurveEvolver {
 	 *  	USE WITH CARE: This org.drip.sample ignores errors and does not handle exceptions.
 	 */
 
-	private static final SingleStreamComponent[] DepositInstrumentsFromMaturityDays (
+	public static final SingleStreamComponent[] DepositInstrumentsFromMaturityDays (
 		final JulianDate dtEffective,
 		final String strCurrency,
 		final int[] aiDay)
@@ -167,7 +167,7 @@ public class MultiFactorLIBORCurveEvolver {
 	 *  	USE WITH CARE: This org.drip.sample ignores errors and does not handle exceptions.
 	 */
 
-	private static final FixFloatComponent[] SwapInstrumentsFromMaturityTenor (
+	public static final FixFloatComponent[] SwapInstrumentsFromMaturityTenor (
 		final JulianDate dtEffective,
 		final String strCurrency,
 		final String[] astrMaturityTenor)
@@ -502,7 +502,7 @@ public class MultiFactorLIBORCurveEvolver {
 		return dc;
 	}
 
-	private static final ForwardCurve LIBORSpan (
+	public static final ForwardCurve LIBORSpan (
 		final DiscountCurve dc,
 		final ForwardLabel forwardLabel,
 		final SegmentCustomBuilderControl scbc,
@@ -545,7 +545,7 @@ public class MultiFactorLIBORCurveEvolver {
 		);
 	}
 
-	private static final MarketSurface FlatVolatilitySurface (
+	public static final MarketSurface FlatVolatilitySurface (
 		final JulianDate dtStart,
 		final String strCurrency,
 		final double dblFlatVol)
@@ -603,7 +603,7 @@ public class MultiFactorLIBORCurveEvolver {
 		);
 	}
 
-	private static final LognormalLIBORVolatility LLVInstance (
+	public static final LognormalLIBORVolatility LLVInstance (
 		final double dblSpotDate,
 		final ForwardLabel forwardLabel,
 		final MarketSurface[] aMS,
@@ -0,0 +1,251 @@
+package org.drip.sample.lmm;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.definition.MarketSurface;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.dynamics.evolution.PathSimulationControl;
+import org.drip.dynamics.lmm.BGMCurveUpdate;
+import org.drip.dynamics.lmm.LognormalLIBORCurveEvolver;
+import org.drip.function.R1ToR1.QuadraticRationalShapeControl;
+import org.drip.quant.common.FormatUtil;
+import org.drip.sequence.random.RandomEngine;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.spline.basis.PolynomialFunctionSetParams;
+import org.drip.spline.params.ResponseScalingShapeControl;
+import org.drip.spline.params.SegmentCustomBuilderControl;
+import org.drip.spline.params.SegmentInelasticDesignControl;
+import org.drip.spline.stretch.MultiSegmentSequenceBuilder;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.drip.state.identifier.ForwardLabel;
+import org.drip.state.identifier.FundingLabel;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * ReproducibleLIBORMonteCarlo runs the Seeded Monte-Carlo Evolution of the LIBOR Forward Curve - the Tenor
+ * 	LIBOR Rates at each Evolution Step, averaged across the Paths - serially, and then across a Range of
+ * 	Thread Counts, for each of a Range of Chunk Sizes. Path #i always draws from Sub-stream #i of the
+ * 	Seeded Engine, and the Chunk Sums are reduced in Chunk Order, so for a given Chunk Size the Time
+ * 	Step/Tenor LIBOR Matrix has to be bitwise identical to the Serial one whatever the Thread Count; the
+ * 	Run fails on the first Mismatch. Across Chunk Sizes only the Grouping of the Floating Point Sums
+ * 	changes, so the Matrices are shown to agree to within Round-off instead.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ReproducibleLIBORMonteCarlo {
+	private static final int NUM_PATH = 24;
+	private static final long SEED = 20150615L;
+
+	private static final int[] CHUNK_SIZE = new int[] {
+		1, 5, 8, PathSimulationControl.DEFAULT_CHUNK_SIZE
+	};
+
+	private static final int[] THREAD_COUNT = new int[] {
+		2, 3, 4, 8
+	};
+
+	private static final double[][] Simulate (
+		final LognormalLIBORCurveEvolver llce,
+		final BGMCurveUpdate bgmInitial,
+		final JulianDate dtSpot,
+		final JulianDate dtView,
+		final int iNumThread,
+		final int iChunkSize)
+		throws Exception
+	{
+		double[][] aadblTenorLIBOR = llce.simulatePrincipalMetric (
+			dtSpot.julian(),
+			dtSpot.addTenor ("1W").julian(),
+			1.,
+			dtView.julian(),
+			bgmInitial,
+			new PathSimulationControl (
+				NUM_PATH,
+				iNumThread,
+				iChunkSize,
+				RandomEngine.Seeded (SEED)
+			)
+		);
+
+		if (null == aadblTenorLIBOR)
+			throw new Exception ("Cannot simulate " + iNumThread + " Thread(s) x " + iChunkSize +
+				" Path Chunks");
+
+		return aadblTenorLIBOR;
+	}
+
+	private static final boolean BitwiseMatch (
+		final double[][] aadbl1,
+		final double[][] aadbl2)
+	{
+		if (aadbl1.length != aadbl2.length) return false;
+
+		for (int i = 0; i < aadbl1.length; ++i) {
+			if (aadbl1[i].length != aadbl2[i].length) return false;
+
+			for (int j = 0; j < aadbl1[i].length; ++j) {
+				if (Double.doubleToRawLongBits (aadbl1[i][j]) != Double.doubleToRawLongBits (aadbl2[i][j]))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static final double MaxAbsoluteDifference (
+		final double[][] aadbl1,
+		final double[][] aadbl2)
+	{
+		double dblMaxAbsoluteDifference = 0.;
+
+		for (int i = 0; i < aadbl1.length; ++i) {
+			for (int j = 0; j < aadbl1[i].length; ++j)
+				dblMaxAbsoluteDifference = Math.max (dblMaxAbsoluteDifference, Math.abs (aadbl1[i][j] -
+					aadbl2[i][j]));
+		}
+
+		return dblMaxAbsoluteDifference;
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		String strCurrency = "USD";
+		int iNumForwardTenor = 5;
+		int iNumFactor = 2;
+
+		double[][] aadblCorrelation = new double[][] {
+			{1.0, 0.1, 0.2},
+			{0.1, 1.0, 0.2},
+			{0.2, 0.1, 1.0}
+		};
+
+		SegmentCustomBuilderControl scbc = new SegmentCustomBuilderControl (
+			MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL,
+			new PolynomialFunctionSetParams (4),
+			SegmentInelasticDesignControl.Create (
+				2,
+				2
+			),
+			new ResponseScalingShapeControl (
+				true,
+				new QuadraticRationalShapeControl (1.)
+			),
+			null
+		);
+
+		JulianDate dtSpot = DateUtil.Today();
+
+		JulianDate dtView = dtSpot.addTenor ("1Y");
+
+		MarketSurface[] aMS = new MarketSurface[] {
+			MultiFactorLIBORCurveEvolver.FlatVolatilitySurface (dtSpot, strCurrency, 0.35),
+			MultiFactorLIBORCurveEvolver.FlatVolatilitySurface (dtSpot, strCurrency, 0.42),
+			MultiFactorLIBORCurveEvolver.FlatVolatilitySurface (dtSpot, strCurrency, 0.27)
+		};
+
+		FundingLabel fundingLabel = FundingLabel.Standard (strCurrency);
+
+		ForwardLabel forwardLabel = ForwardLabel.Create (strCurrency, "3M");
+
+		DiscountCurve dc = DiscountCurveBuilder.CreateFromFlatRate (dtSpot, strCurrency, null, 0.02);
+
+		LognormalLIBORCurveEvolver llce = LognormalLIBORCurveEvolver.Create (
+			fundingLabel,
+			forwardLabel,
+			iNumForwardTenor,
+			scbc
+		);
+
+		BGMCurveUpdate bgmInitial = BGMCurveUpdate.Create (
+			fundingLabel,
+			forwardLabel,
+			dtSpot.julian(),
+			dtSpot.julian(),
+			MultiFactorLIBORCurveEvolver.LIBORSpan (
+				dc,
+				forwardLabel,
+				scbc,
+				dtView,
+				iNumForwardTenor
+			),
+			null,
+			dc,
+			null,
+			null,
+			null,
+			null,
+			null,
+			MultiFactorLIBORCurveEvolver.LLVInstance (
+				dtSpot.julian(),
+				forwardLabel,
+				aMS,
+				aadblCorrelation,
+				iNumFactor
+			)
+		);
+
+		double[][] aadblReferenceTenorLIBOR = null;
+
+		System.out.println ("\n\t|-------------------------------------------------------------------|");
+
+		System.out.println ("\t|  CHUNK  | THREADS | SERIAL == PARALLEL | MAX |DIFF| vs. 1ST CHUNK |");
+
+		System.out.println ("\t|-------------------------------------------------------------------|");
+
+		for (int iChunkSize : CHUNK_SIZE) {
+			double[][] aadblSerialTenorLIBOR = Simulate (llce, bgmInitial, dtSpot, dtView, 1, iChunkSize);
+
+			if (null == aadblReferenceTenorLIBOR) aadblReferenceTenorLIBOR = aadblSerialTenorLIBOR;
+
+			for (int iNumThread : THREAD_COUNT) {
+				boolean bMatch = BitwiseMatch (aadblSerialTenorLIBOR, Simulate (llce, bgmInitial, dtSpot,
+					dtView, iNumThread, iChunkSize));
+
+				System.out.println ("\t|   " + FormatUtil.FormatDouble (iChunkSize, 2, 0, 1.) + "   |    " +
+					iNumThread + "    |       " + (bMatch ? "true " : "false") + "        |         " +
+						String.format ("%9.2e", MaxAbsoluteDifference (aadblReferenceTenorLIBOR,
+							aadblSerialTenorLIBOR)) + "          |");
+
+				if (!bMatch)
+					throw new Exception ("Serial/Parallel Mismatch for " + iNumThread + " Threads x " +
+						iChunkSize + " Path Chunks");
+			}
+		}
+
+		System.out.println ("\t|-------------------------------------------------------------------|");
+	}
+}
@@ -0,0 +1,287 @@
+
+package org.drip.sample.misc;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.eventday.Weekend;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.market.definition.IBORIndexContainer;
+import org.drip.param.market.LatentStateFixingsContainer;
+import org.drip.param.market.LatentStateFixingsSeries;
+import org.drip.param.market.LatentStateFixingsStore;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.identifier.FXLabel;
+import org.drip.state.identifier.ForwardLabel;
+import org.drip.state.identifier.LatentStateLabel;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ColumnarFixingsStore generates 20 Years of Daily (Week-day) Fixings for the Forward Indices of 24
+ * 	Currencies across 6 Tenors, for the EUR LIBOR 3M Index, and for the USD FX Pairs, writes them to a CSV
+ * 	File, and then:
+ * 	- Bulk loads the CSV File into a LatentStateFixingsContainer, and converts it into the Binary File.
+ * 	- Bulk loads the Binary File into a second Container, and verifies it against the first.
+ * 	- Times the Fixing Lookups against the Container and against the Date keyed Tree Maps of Case
+ * 		Insensitive Label Maps that the Container used to hold.
+ * 	- Slices the Last Year of a Series.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ColumnarFixingsStore {
+	private static final int NUM_YEAR = 20;
+	private static final int NUM_LOOKUP = 1000000;
+
+	private static final String[] CURRENCY = new String[] {
+		"AUD", "CAD", "CHF", "CLP", "CNY", "CZK", "DKK", "EUR", "GBP", "HKD", "HUF", "IDR",
+		"INR", "JPY", "MXN", "NOK", "NZD", "PLN", "RMB", "SEK", "SGD", "SKK", "USD", "ZAR"
+	};
+
+	private static final String[] TENOR = new String[] {
+		"1M", "2M", "3M", "6M", "9M", "12M"
+	};
+
+	private static final double LegacyFixing (
+		final Map<JulianDate, CaseInsensitiveTreeMap<Double>> mmFixing,
+		final double dblDate,
+		final LatentStateLabel lsl)
+		throws Exception
+	{
+		JulianDate dt = new JulianDate (dblDate);
+
+		if (!mmFixing.containsKey (dt)) throw new Exception ("Cannot locate Fixing for the Date");
+
+		CaseInsensitiveTreeMap<Double> mapFixing = mmFixing.get (dt);
+
+		String strLabel = lsl.fullyQualifiedName();
+
+		if (!mapFixing.containsKey (strLabel)) throw new Exception ("Cannot locate Label Entry for the Date");
+
+		return mapFixing.get (strLabel);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtEnd = DateUtil.Today();
+
+		JulianDate dtStart = dtEnd.subtractTenor (NUM_YEAR + "Y");
+
+		int iNumForward = CURRENCY.length * TENOR.length;
+		int iNumFX = CURRENCY.length - 1;
+		int iNumLabel = iNumForward + iNumFX + 1;
+		String[] astrCode = new String[iNumLabel];
+		LatentStateLabel[] aLSL = new LatentStateLabel[iNumLabel];
+
+		for (int i = 0; i < CURRENCY.length; ++i) {
+			for (int j = 0; j < TENOR.length; ++j)
+				aLSL[i * TENOR.length + j] = ForwardLabel.Standard (astrCode[i * TENOR.length + j] =
+					CURRENCY[i] + "-" + TENOR[j]);
+		}
+
+		for (int i = 0, k = iNumForward; i < CURRENCY.length; ++i) {
+			if (!"USD".equals (CURRENCY[i]))
+				aLSL[k] = FXLabel.Standard (astrCode[k++] = "USD/" + CURRENCY[i]);
+		}
+
+		/*
+		 * A Forward Label off an Index other than the Jurisdiction's Standard one, keyed by its Fully
+		 * 	Qualified Name
+		 */
+
+		aLSL[iNumLabel - 1] = ForwardLabel.Create (IBORIndexContainer.IndexFromName ("EUR-LIBOR"), "3M");
+
+		astrCode[iNumLabel - 1] = aLSL[iNumLabel - 1].fullyQualifiedName();
+
+		File fCSV = File.createTempFile ("fixings", ".csv");
+
+		File fBinary = File.createTempFile ("fixings", ".bin");
+
+		fCSV.deleteOnExit();
+
+		fBinary.deleteOnExit();
+
+		PrintWriter pw = new PrintWriter (new FileWriter (fCSV));
+
+		StringBuilder sb = new StringBuilder ("Date");
+
+		for (int k = 0; k < iNumLabel; ++k)
+			sb.append (",").append (astrCode[k]);
+
+		pw.println (sb.toString());
+
+		int iNumDate = 0;
+		Weekend weekend = Weekend.StandardWeekend();
+
+		double[] adblDate = new double[NUM_YEAR * 262 + 10];
+
+		for (JulianDate dt = dtStart; dt.julian() <= dtEnd.julian(); dt = dt.addDays (1)) {
+			if (weekend.isWeekend (dt.julian())) continue;
+
+			sb = new StringBuilder (dt.toYYYYMMDD ("-"));
+
+			for (int k = 0; k < iNumLabel; ++k)
+				sb.append (",").append (0 == (iNumDate + k) % 97 ? "" : FormatUtil.FormatDouble (0.01 +
+					0.005 * Math.sin (0.001 * iNumDate + k), 1, 6, 1.));
+
+			pw.println (sb.toString());
+
+			adblDate[iNumDate++] = dt.julian();
+		}
+
+		pw.close();
+
+		LatentStateFixingsContainer lsfcCSV = new LatentStateFixingsContainer();
+
+		long lStart = System.nanoTime();
+
+		int iNumFixing = LatentStateFixingsStore.LoadCSV (fCSV.getPath(), lsfcCSV);
+
+		long lCSVLoad = System.nanoTime() - lStart;
+
+		OutputStream os = new FileOutputStream (fBinary);
+
+		LatentStateFixingsStore.WriteBinary (os, lsfcCSV);
+
+		os.close();
+
+		LatentStateFixingsContainer lsfcBinary = new LatentStateFixingsContainer();
+
+		lStart = System.nanoTime();
+
+		int iNumBinaryFixing = LatentStateFixingsStore.LoadBinary (fBinary.getPath(), lsfcBinary);
+
+		long lBinaryLoad = System.nanoTime() - lStart;
+
+		Map<JulianDate, CaseInsensitiveTreeMap<Double>> mmLegacyFixing = new TreeMap<JulianDate,
+			CaseInsensitiveTreeMap<Double>>();
+
+		int iNumMismatch = 0;
+
+		for (int k = 0; k < iNumLabel; ++k) {
+			LatentStateFixingsSeries lsfsCSV = lsfcCSV.series (aLSL[k]);
+
+			LatentStateFixingsSeries lsfsBinary = lsfcBinary.series (aLSL[k]);
+
+			for (int i = 0; i < lsfsCSV.size(); ++i) {
+				JulianDate dt = new JulianDate (lsfsCSV.day (i));
+
+				if (!mmLegacyFixing.containsKey (dt))
+					mmLegacyFixing.put (dt, new CaseInsensitiveTreeMap<Double>());
+
+				mmLegacyFixing.get (dt).put (aLSL[k].fullyQualifiedName(), lsfsCSV.fixingAt (i));
+
+				if (lsfsCSV.day (i) != lsfsBinary.day (i) || lsfsCSV.fixingAt (i) != lsfsBinary.fixingAt (i))
+					++iNumMismatch;
+			}
+		}
+
+		int[] aiLookupLabel = new int[NUM_LOOKUP];
+		double[] adblLookupDate = new double[NUM_LOOKUP];
+
+		for (int i = 0; i < NUM_LOOKUP; ++i) {
+			int iDate = (int) ((i * 7919L) % iNumDate);
+
+			aiLookupLabel[i] = (int) ((i * 104729L) % iNumLabel);
+
+			if (0 == (iDate + aiLookupLabel[i]) % 97) iDate = (iDate + 1) % iNumDate;
+
+			adblLookupDate[i] = adblDate[iDate];
+		}
+
+		double dblLegacyChecksum = 0.;
+		double dblColumnarChecksum = 0.;
+		long lLegacyLookup = 0L;
+		long lColumnarLookup = 0L;
+
+		for (int iRun = 0; iRun < 3; ++iRun) {
+			dblLegacyChecksum = 0.;
+			dblColumnarChecksum = 0.;
+
+			lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_LOOKUP; ++i)
+				dblLegacyChecksum += LegacyFixing (mmLegacyFixing, adblLookupDate[i], aLSL[aiLookupLabel[i]]);
+
+			lLegacyLookup = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_LOOKUP; ++i)
+				dblColumnarChecksum += lsfcBinary.fixing (adblLookupDate[i], aLSL[aiLookupLabel[i]]);
+
+			lColumnarLookup = System.nanoTime() - lStart;
+		}
+
+		LatentStateFixingsSeries lsfsLastYear = lsfcBinary.slice (aLSL[0], dtEnd.subtractTenor
+			("1Y").julian(), dtEnd.julian());
+
+		System.out.println ("\n\t" + iNumLabel + " Labels x " + iNumDate + " Dates => " + iNumFixing +
+			" CSV Fixings, " + iNumBinaryFixing + " Binary Fixings, " + iNumMismatch + " Mismatches");
+
+		System.out.println ("\n\tCSV Load (ms)    : " + FormatUtil.FormatDouble (lCSVLoad * 1.e-06, 5, 1,
+			1.));
+
+		System.out.println ("\tBinary Load (ms) : " + FormatUtil.FormatDouble (lBinaryLoad * 1.e-06, 5, 1,
+			1.) + " (" + fBinary.length() / 1024 + " KB vs " + fCSV.length() / 1024 + " KB CSV)");
+
+		System.out.println ("\n\t|--------------------------------------------|");
+
+		System.out.println ("\t|   LOOKUP   | NANOS PER LOOKUP |  CHECKSUM  |");
+
+		System.out.println ("\t|--------------------------------------------|");
+
+		System.out.println ("\t| LEGACY MAP |     " + FormatUtil.FormatDouble (1. * lLegacyLookup /
+			NUM_LOOKUP, 4, 1, 1.) + "      |" + FormatUtil.FormatDouble (dblLegacyChecksum, 5, 4, 1.) + " |");
+
+		System.out.println ("\t| COLUMNAR   |     " + FormatUtil.FormatDouble (1. * lColumnarLookup /
+			NUM_LOOKUP, 4, 1, 1.) + "      |" + FormatUtil.FormatDouble (dblColumnarChecksum, 5, 4, 1.) +
+				" |");
+
+		System.out.println ("\t|--------------------------------------------|");
+
+		System.out.println ("\n\t" + astrCode[0] + " Fixings over the Last Year: " + lsfsLastYear.size() +
+			" (" + new JulianDate (lsfsLastYear.day (0)) + " => " + new JulianDate (lsfsLastYear.day
+				(lsfsLastYear.size() - 1)) + ")");
+	}
+}
@@ -0,0 +1,160 @@
+package org.drip.sample.misc;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.daycount.Convention;
+import org.drip.service.api.CreditAnalytics;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * CompiledCalendarEquivalence checks the Compiled Bit-set Holiday Calendars against the String Holiday Rule
+ * 	Walk they replace. The Reference Results are generated with the Compiled Range moved out of the Way, so
+ * 	that every Date falls back to the Rule Walk; the Compiled Range is then restored, and IsHoliday (All,
+ * 	Week Day, and Weekend Holidays), Adjust, RollDate (under each Roll Mode), and the Business Day/Holiday
+ * 	Counts over Spans that straddle the Range Edges are re-evaluated and compared for every Date from the
+ * 	Year before the first Compiled Year to the Year after the last one. Single Locations as well as
+ * 	Multi-Location Calendar Sets are covered; the Run fails on the first Mismatch.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledCalendarEquivalence {
+	private static final int START_YEAR = 1970;
+	private static final int END_YEAR = 2100;
+	private static final int SPAN_DAYS = 45;
+	private static final int SPAN_STRIDE = 11;
+
+	private static final int[] ROLL_MODE = new int[] {
+		Convention.DATE_ROLL_FOLLOWING,
+		Convention.DATE_ROLL_MODIFIED_FOLLOWING,
+		Convention.DATE_ROLL_PREVIOUS,
+		Convention.DATE_ROLL_MODIFIED_PREVIOUS
+	};
+
+	private static final String[] CALENDAR_SET = new String[] {
+		"USD",
+		"GBP",
+		"EUR",
+		"JPY",
+		"USD,GBP",
+		"EUR,USD,JPY"
+	};
+
+	private static final double[][] Evaluate (
+		final String strCalendarSet,
+		final double dblFirstDate,
+		final int iNumDate)
+		throws Exception
+	{
+		double[][] aadblResult = new double[iNumDate][];
+
+		for (int i = 0; i < iNumDate; ++i) {
+			double dblDate = dblFirstDate + i;
+			boolean bSpan = 0 == i % SPAN_STRIDE;
+			double[] adblResult = aadblResult[i] = new double[4 + ROLL_MODE.length + (bSpan ? 2 : 0)];
+
+			adblResult[0] = Convention.IsHoliday (dblDate, strCalendarSet) ? 1. : 0.;
+
+			adblResult[1] = Convention.IsHoliday (dblDate, strCalendarSet, Convention.WEEKDAY_HOLS) ? 1. :
+				0.;
+
+			adblResult[2] = Convention.IsHoliday (dblDate, strCalendarSet, Convention.WEEKEND_HOLS) ? 1. :
+				0.;
+
+			adblResult[3] = Convention.Adjust (dblDate, strCalendarSet, Convention.DATE_ROLL_FOLLOWING);
+
+			for (int j = 0; j < ROLL_MODE.length; ++j)
+				adblResult[4 + j] = Convention.RollDate (dblDate, ROLL_MODE[j], strCalendarSet, 1);
+
+			if (bSpan) {
+				adblResult[4 + ROLL_MODE.length] = Convention.BusinessDays (dblDate, dblDate + SPAN_DAYS,
+					strCalendarSet);
+
+				adblResult[5 + ROLL_MODE.length] = Convention.Holidays (dblDate, dblDate + SPAN_DAYS,
+					strCalendarSet);
+			}
+		}
+
+		return aadblResult;
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		double dblFirstDate = DateUtil.CreateFromYMD (START_YEAR - 1, DateUtil.JANUARY, 1).julian();
+
+		int iNumDate = (int) (DateUtil.CreateFromYMD (END_YEAR + 1, DateUtil.DECEMBER, 31).julian() -
+			dblFirstDate) + 1;
+
+		System.out.println ("\n\t|-------------------------------------------------------|");
+
+		System.out.println ("\t|   CALENDAR SET   |  DATES  | HOLIDAYS |  SPANS  | MATCH |");
+
+		System.out.println ("\t|-------------------------------------------------------|");
+
+		for (String strCalendarSet : CALENDAR_SET) {
+			Convention.SetCompiledCalendarRange (END_YEAR + 1000, END_YEAR + 1000);
+
+			double[][] aadblReference = Evaluate (strCalendarSet, dblFirstDate, iNumDate);
+
+			Convention.SetCompiledCalendarRange (START_YEAR, END_YEAR);
+
+			if (null == Convention.CompiledCalendarSet (strCalendarSet))
+				throw new Exception ("No Compiled Calendar for " + strCalendarSet);
+
+			double[][] aadblCompiled = Evaluate (strCalendarSet, dblFirstDate, iNumDate);
+
+			int iNumHoliday = 0;
+			int iNumSpan = 0;
+
+			for (int i = 0; i < iNumDate; ++i) {
+				for (int j = 0; j < aadblReference[i].length; ++j) {
+					if (aadblReference[i][j] != aadblCompiled[i][j])
+						throw new Exception ("Calendar Mismatch for " + strCalendarSet + " on " +
+							DateUtil.FromJulian (dblFirstDate + i) + " [Field #" + j + "]: " +
+								aadblReference[i][j] + " != " + aadblCompiled[i][j]);
+				}
+
+				if (1. == aadblReference[i][0]) ++iNumHoliday;
+
+				if (4 + ROLL_MODE.length < aadblReference[i].length) ++iNumSpan;
+			}
+
+			System.out.println (String.format ("\t| %16s | %7d | %8d | %7d | %5s |", strCalendarSet,
+				iNumDate, iNumHoliday, iNumSpan, true));
+		}
+
+		System.out.println ("\t|-------------------------------------------------------|");
+	}
+}
@@ -0,0 +1,293 @@
+
+package org.drip.sample.option;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.definition.MarketSurface;
+import org.drip.analytics.support.AnalyticsHelper;
+import org.drip.function.definition.R1ToR1;
+import org.drip.function.solverR1ToR1.FixedPointFinderBrent;
+import org.drip.function.solverR1ToR1.FixedPointFinderOutput;
+import org.drip.param.creator.ScenarioMarketSurfaceBuilder;
+import org.drip.param.valuation.CollateralizationParams;
+import org.drip.pricer.option.BlackNormalAlgorithm;
+import org.drip.pricer.option.BlackScholesAlgorithm;
+import org.drip.pricer.option.FokkerPlanckGenerator;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.spline.basis.PolynomialFunctionSetParams;
+import org.drip.spline.params.SegmentCustomBuilderControl;
+import org.drip.spline.params.SegmentInelasticDesignControl;
+import org.drip.spline.stretch.MultiSegmentSequenceBuilder;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ImpliedVolatilitySurfaceInversion rebuilds a Black-Scholes and a Bachelier Volatility Surface from a Grid
+ * 	of Option Price Quotes, comparing the Node-by-Node Brent Root Search around the Payoff against the
+ * 	Batch Closed-form Inversion of FokkerPlanckGenerator (serially, and with the Expiries fanned out across
+ * 	the Available Processors), and then feeds the Price Grid straight into the
+ * 	ScenarioMarketSurfaceBuilder.
+ * 	The Quotes are Calls, so the largest Errors sit on the short-dated deep In-the-Money Nodes, whose Time
+ * 	Value is a tiny Fraction of the Price.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ImpliedVolatilitySurfaceInversion {
+	private static final double RATE = 0.01;
+	private static final double SPOT = 100.;
+	private static final int NUM_STRIKE = 41;
+
+	private static final String[] TENOR = new String[] {
+		"1M", "2M", "3M", "6M", "9M", "12M", "18M", "24M", "30M", "36M", "48M", "60M"
+	};
+
+	private static final SegmentCustomBuilderControl CubicPolySCBC()
+		throws Exception
+	{
+		return new SegmentCustomBuilderControl (
+			MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL,
+			new PolynomialFunctionSetParams (4),
+			SegmentInelasticDesignControl.Create (
+				2,
+				2
+			),
+			null,
+			null
+		);
+	}
+
+	private static final double SmileVolatility (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final boolean bNormal)
+	{
+		double dblLogMoneyness = Math.log (dblStrike / SPOT);
+
+		double dblLognormalVolatility = 0.18 + 0.04 * Math.exp (-dblTimeToExpiry) - 0.10 * dblLogMoneyness +
+			0.30 * dblLogMoneyness * dblLogMoneyness;
+
+		return bNormal ? dblLognormalVolatility * SPOT : dblLognormalVolatility;
+	}
+
+	private static final double BrentImpliedVolatility (
+		final FokkerPlanckGenerator fpg,
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblPrice)
+		throws Exception
+	{
+		R1ToR1 au = new R1ToR1 (null) {
+			@Override public double evaluate (
+				final double dblVolatility)
+				throws Exception
+			{
+				return fpg.payoff (dblStrike, dblTimeToExpiry, RATE, SPOT, false, false, dblVolatility,
+					true) - dblPrice;
+			}
+		};
+
+		FixedPointFinderOutput fpop = new FixedPointFinderBrent (0., au, true).findRoot();
+
+		if (null == fpop || !fpop.containsRoot()) throw new Exception ("Cannot imply Volatility");
+
+		return Math.abs (fpop.getRoot());
+	}
+
+	private static final double MaxRelativeError (
+		final double[][] aadblVolatility,
+		final double[][] aadblExact)
+	{
+		double dblMaxError = 0.;
+
+		for (int i = 0; i < aadblExact.length; ++i) {
+			for (int j = 0; j < aadblExact[i].length; ++j)
+				dblMaxError = Math.max (dblMaxError, Math.abs (aadblVolatility[i][j] - aadblExact[i][j]) /
+					aadblExact[i][j]);
+		}
+
+		return dblMaxError;
+	}
+
+	private static final void Row (
+		final String strScheme,
+		final long lNanos,
+		final double dblMaxError)
+	{
+		System.out.println (
+			"\t| " + strScheme + " | " +
+			FormatUtil.FormatDouble (lNanos * 1.e-06, 5, 2, 1.) + " | " +
+			String.format ("%9.2e", dblMaxError) + " |"
+		);
+	}
+
+	private static final double[][] Compare (
+		final String strModel,
+		final FokkerPlanckGenerator fpg,
+		final boolean bNormal,
+		final double[] adblStrike,
+		final double[] adblTimeToExpiry)
+		throws Exception
+	{
+		int iNumTenor = adblTimeToExpiry.length;
+		double[][] aadblPrice = new double[NUM_STRIKE][iNumTenor];
+		double[][] aadblExact = new double[NUM_STRIKE][iNumTenor];
+		double[][] aadblBrent = new double[NUM_STRIKE][iNumTenor];
+
+		for (int i = 0; i < NUM_STRIKE; ++i) {
+			for (int j = 0; j < iNumTenor; ++j) {
+				aadblExact[i][j] = SmileVolatility (adblStrike[i], adblTimeToExpiry[j], bNormal);
+
+				aadblPrice[i][j] = fpg.payoff (adblStrike[i], adblTimeToExpiry[j], RATE, SPOT, false,
+					false, aadblExact[i][j], true);
+			}
+		}
+
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < NUM_STRIKE; ++i) {
+			for (int j = 0; j < iNumTenor; ++j)
+				aadblBrent[i][j] = BrentImpliedVolatility (fpg, adblStrike[i], adblTimeToExpiry[j],
+					aadblPrice[i][j]);
+		}
+
+		long lBrent = System.nanoTime() - lStart;
+
+		lStart = System.nanoTime();
+
+		double[][] aadblSerial = fpg.impliedVolatilityFromPrice (adblStrike, adblTimeToExpiry, RATE, SPOT,
+			false, false, aadblPrice, 1);
+
+		long lSerial = System.nanoTime() - lStart;
+
+		int iNumThread = Runtime.getRuntime().availableProcessors();
+
+		lStart = System.nanoTime();
+
+		double[][] aadblParallel = fpg.impliedVolatilityFromPrice (adblStrike, adblTimeToExpiry, RATE, SPOT,
+			false, false, aadblPrice, iNumThread);
+
+		long lParallel = System.nanoTime() - lStart;
+
+		System.out.println ("\n\t|------------------------------------------------|");
+
+		System.out.println ("\t| " + strModel + " " + NUM_STRIKE + " x " + iNumTenor + " QUOTES" + " " +
+			iNumThread + " THREADS");
+
+		System.out.println ("\t|------------------------------------------------|");
+
+		System.out.println ("\t|         SCHEME          | WALL (ms) | MAX ERROR |");
+
+		System.out.println ("\t|------------------------------------------------|");
+
+		Row ("BRENT PER NODE         ", lBrent, MaxRelativeError (aadblBrent, aadblExact));
+
+		Row ("BATCH CLOSED FORM      ", lSerial, MaxRelativeError (aadblSerial, aadblExact));
+
+		Row ("BATCH CLOSED FORM ||   ", lParallel, MaxRelativeError (aadblParallel, aadblExact));
+
+		System.out.println ("\t|------------------------------------------------|");
+
+		return aadblPrice;
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		double[] adblStrike = new double[NUM_STRIKE];
+		double[] adblTimeToExpiry = new double[TENOR.length];
+
+		for (int i = 0; i < NUM_STRIKE; ++i)
+			adblStrike[i] = SPOT * (0.6 + 0.02 * i);
+
+		for (int j = 0; j < TENOR.length; ++j)
+			adblTimeToExpiry[j] = AnalyticsHelper.TenorToYearFraction (TENOR[j]);
+
+		double[][] aadblPrice = null;
+
+		for (int iPass = 0; iPass < 2; ++iPass)
+			aadblPrice = Compare ("BLACK SCHOLES", new BlackScholesAlgorithm(), false, adblStrike,
+				adblTimeToExpiry);
+
+		for (int iPass = 0; iPass < 2; ++iPass)
+			Compare ("BACHELIER    ", new BlackNormalAlgorithm(), true, adblStrike, adblTimeToExpiry);
+
+		MarketSurface volSurface = ScenarioMarketSurfaceBuilder.ImpliedVolatilityMarketSurface (
+			"BLACK_SCHOLES_IMPLIED_VOLATILITY_SURFACE",
+			dtStart,
+			"USD",
+			new CollateralizationParams (
+				"OVERNIGHT_INDEX",
+				"USD"
+			),
+			RATE,
+			SPOT,
+			false,
+			false,
+			adblStrike,
+			TENOR,
+			aadblPrice,
+			new BlackScholesAlgorithm(),
+			CubicPolySCBC(),
+			CubicPolySCBC()
+		);
+
+		System.out.println ("\n\t|-------------------------------------------------------|");
+
+		System.out.println ("\t| STRIKE |   TENOR  |  SURFACE  |   SMILE   |   ERROR   |");
+
+		System.out.println ("\t|-------------------------------------------------------|");
+
+		for (double dblStrike : new double[] {70., 90., 100., 110., 130.}) {
+			for (String strTenor : new String[] {"6M", "24M", "60M"}) {
+				double dblSmile = SmileVolatility (dblStrike, AnalyticsHelper.TenorToYearFraction (strTenor),
+					false);
+
+				double dblSurface = volSurface.node (dblStrike, strTenor);
+
+				System.out.println (
+					"\t| " + FormatUtil.FormatDouble (dblStrike, 3, 0, 1.) + "   |   " +
+					String.format ("%-7s", strTenor) + "| " +
+					FormatUtil.FormatDouble (dblSurface, 2, 4, 100.) + "% | " +
+					FormatUtil.FormatDouble (dblSmile, 2, 4, 100.) + "% | " +
+					String.format ("%9.2e", Math.abs (dblSurface - dblSmile)) + " |"
+				);
+			}
+		}
+
+		System.out.println ("\t|-------------------------------------------------------|");
+	}
+}
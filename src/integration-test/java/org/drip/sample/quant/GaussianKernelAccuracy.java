@@ -0,0 +1,244 @@
+package org.drip.sample.quant;
+
+import org.drip.measure.continuous.GaussianKernel;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * GaussianKernelAccuracy reports the Accuracy and the Cost of the Rational Approximation Standard Normal
+ * 	CDF/Inverse CDF of GaussianKernel against the Legacy Scheme it replaced in Gaussian - the Taylor Series
+ * 	CDF with the +/- 8 Cut-offs, and the Bisection Inverse CDF to 1.e-08 - reproduced here verbatim:
+ * 	- The CDF Differences across the Line, and the Relative Tail Error in the Region the Cut-off zeroes
+ * 		out.
+ * 	- The Round-trip Error |CDF (InverseCDF (p)) - p| / p of both Inverses over the Probability Decades.
+ * 	- The Wall Time per Call of each Scheme (the JMH Benchmark GaussianKernelBenchmark gives the
+ * 		controlled Numbers).
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class GaussianKernelAccuracy {
+	private static final int NUM_TIMING_CALL = 200000;
+
+	private static final double LegacyCDF (
+		final double dblX)
+	{
+		if (dblX < -8.) return 0.;
+
+		if (dblX > 8.) return 1.;
+
+		double dblSum = 0.;
+		double dblTerm = dblX;
+
+		for (int i = 3; dblSum + dblTerm != dblSum; i += 2) {
+			dblSum = dblSum + dblTerm;
+			dblTerm = dblTerm * dblX * dblX / i;
+		}
+
+		return 0.5 + dblSum * Math.exp (-0.5 * dblX * dblX) / Math.sqrt (2 * Math.PI);
+	}
+
+	private static final double LegacyInverseCDF (
+		final double dblY,
+		final double dblLowCutoff,
+		final double dblHighCutoff)
+	{
+		double dblMid = 0.5 * (dblHighCutoff + dblLowCutoff);
+
+		if (dblHighCutoff - dblLowCutoff < .00000001) return dblMid;
+
+		return LegacyCDF (dblMid) > dblY ? LegacyInverseCDF (dblY, dblLowCutoff, dblMid) : LegacyInverseCDF
+			(dblY, dblMid, dblHighCutoff);
+	}
+
+	private static final void CDFComparison()
+	{
+		System.out.println ("\n\t|-----------------------------------------------------------------|");
+
+		System.out.println ("\t|     X    |      LEGACY CDF      |      KERNEL CDF      |   DIFF   |");
+
+		System.out.println ("\t|-----------------------------------------------------------------|");
+
+		for (double dblX = -10.; dblX <= 10.; dblX += 1.) {
+			double dblLegacyCDF = LegacyCDF (dblX);
+
+			double dblKernelCDF = GaussianKernel.CDF (dblX);
+
+			System.out.println (
+				"\t| " + FormatUtil.FormatDouble (dblX, 3, 2, 1.) + " | " +
+				String.format ("%.14e", dblLegacyCDF) + " | " +
+				String.format ("%.14e", dblKernelCDF) + " | " +
+				String.format ("%.1e", Math.abs (dblLegacyCDF - dblKernelCDF)) + " |"
+			);
+		}
+
+		System.out.println ("\t|-----------------------------------------------------------------|");
+
+		System.out.println ("\n\t|----------------------------------------------------------|");
+
+		System.out.println ("\t|     X    |    KERNEL CDF    | LEGACY REL ERR | MILLS GAP |");
+
+		System.out.println ("\t|----------------------------------------------------------|");
+
+		for (double dblX = -8.5; dblX >= -36.; dblX -= 2.5) {
+			double dblKernelCDF = GaussianKernel.CDF (dblX);
+
+			/*
+			 * The Asymptotic Mills Ratio Bound phi (x) / |x| * (1 - 1 / x^2) <= CDF (x) <= phi (x) / |x|
+			 */
+
+			double dblMillsUpper = GaussianKernel.Density (dblX) / -dblX;
+
+			System.out.println (
+				"\t| " + FormatUtil.FormatDouble (dblX, 3, 2, 1.) + " | " +
+				String.format ("%.10e", dblKernelCDF) + " | " +
+				String.format ("%14.2e", Math.abs (LegacyCDF (dblX) - dblKernelCDF) / dblKernelCDF) + " | " +
+				String.format ("%9.2e", (dblMillsUpper - dblKernelCDF) / dblMillsUpper * dblX * dblX) + " |"
+			);
+		}
+
+		System.out.println ("\t|----------------------------------------------------------|");
+	}
+
+	private static final void InverseCDFComparison()
+	{
+		System.out.println ("\n\t|---------------------------------------------------|");
+
+		System.out.println ("\t|    P    | LEGACY ROUND TRIP | KERNEL ROUND TRIP |");
+
+		System.out.println ("\t|---------------------------------------------------|");
+
+		for (int iDecade = 1; iDecade <= 15; ++iDecade) {
+			double dblLegacyError = 0.;
+			double dblKernelError = 0.;
+
+			for (int i = 1; i <= 9; ++i) {
+				double dblP = i * Math.pow (10., -iDecade);
+
+				dblLegacyError = Math.max (dblLegacyError, Math.abs (GaussianKernel.CDF (LegacyInverseCDF
+					(dblP, -8., 8.)) - dblP) / dblP);
+
+				dblKernelError = Math.max (dblKernelError, Math.abs (GaussianKernel.CDF
+					(GaussianKernel.InverseCDF (dblP)) - dblP) / dblP);
+			}
+
+			System.out.println (
+				"\t|  1e-" + FormatUtil.FormatDouble (iDecade, 2, 0, 1.) + " | " +
+				String.format ("%17.2e", dblLegacyError) + " | " +
+				String.format ("%17.2e", dblKernelError) + " |"
+			);
+		}
+
+		System.out.println ("\t|---------------------------------------------------|");
+	}
+
+	private static final void Timing()
+	{
+		double[] adblX = new double[NUM_TIMING_CALL];
+		double[] adblP = new double[NUM_TIMING_CALL];
+		double[] adblOut = new double[NUM_TIMING_CALL];
+
+		for (int i = 0; i < NUM_TIMING_CALL; ++i) {
+			adblP[i] = (i + 0.5) / NUM_TIMING_CALL;
+			adblX[i] = -6. + 12. * adblP[i];
+		}
+
+		double dblChecksum = 0.;
+
+		for (int iPass = 0; iPass < 2; ++iPass) {
+			long lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_TIMING_CALL; ++i)
+				dblChecksum += LegacyCDF (adblX[i]);
+
+			long lLegacyCDF = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			GaussianKernel.CDF (adblX, adblOut);
+
+			long lKernelCDF = System.nanoTime() - lStart;
+
+			dblChecksum += adblOut[NUM_TIMING_CALL / 2];
+
+			lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_TIMING_CALL / 100; ++i)
+				dblChecksum += LegacyInverseCDF (adblP[100 * i], -8., 8.);
+
+			long lLegacyInverseCDF = (System.nanoTime() - lStart) * 100;
+
+			lStart = System.nanoTime();
+
+			GaussianKernel.InverseCDF (adblP, adblOut);
+
+			long lKernelInverseCDF = System.nanoTime() - lStart;
+
+			dblChecksum += adblOut[NUM_TIMING_CALL / 2];
+
+			if (0 == iPass) continue;
+
+			System.out.println ("\n\t|-------------------------------------------|");
+
+			System.out.println ("\t|   NANOS PER CALL   |  LEGACY  |  KERNEL  |");
+
+			System.out.println ("\t|-------------------------------------------|");
+
+			System.out.println ("\t| CDF                | " +
+				FormatUtil.FormatDouble (1. * lLegacyCDF / NUM_TIMING_CALL, 6, 1, 1.) + " | " +
+				FormatUtil.FormatDouble (1. * lKernelCDF / NUM_TIMING_CALL, 6, 1, 1.) + " |"
+			);
+
+			System.out.println ("\t| INVERSE CDF        | " +
+				FormatUtil.FormatDouble (1. * lLegacyInverseCDF / NUM_TIMING_CALL, 6, 1, 1.) + " | " +
+				FormatUtil.FormatDouble (1. * lKernelInverseCDF / NUM_TIMING_CALL, 6, 1, 1.) + " |"
+			);
+
+			System.out.println ("\t|-------------------------------------------|");
+		}
+
+		System.out.println ("\n\tChecksum: " + dblChecksum);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		CDFComparison();
+
+		InverseCDFComparison();
+
+		Timing();
+	}
+}
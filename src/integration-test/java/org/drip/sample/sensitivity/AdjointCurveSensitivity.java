@@ -0,0 +1,232 @@
+
+package org.drip.sample.sensitivity;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.output.AdjointSensitivity;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.market.otc.FixedFloatSwapConvention;
+import org.drip.market.otc.IBORFixedFloatContainer;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.pricer.CreditPricerParams;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.BondBuilder;
+import org.drip.product.creator.CDSBuilder;
+import org.drip.product.definition.CalibratableFixedIncomeComponent;
+import org.drip.quant.calculus.WengertJacobian;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.CreditCurveBuilder;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.drip.state.identifier.CreditLabel;
+import org.drip.state.identifier.FundingLabel;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * AdjointCurveSensitivity computes the Sensitivities of the PV of a Fix-Float Swap, a SNAC CDS, and a Fixed
+ * 	Coupon Credit Risky Bond to every Node of the Funding and the Credit Curves off of a single recorded
+ * 	Valuation and a single Backward Sweep of the Adjoint Tape, and compares them against the Node-by-Node
+ * 	Bump-and-Reprice Sensitivities. It reports:
+ * 	- The PV recorded on the Tape against the PV of the Component Valuation.
+ * 	- The Adjoint and the Bumped (1 bp, One-sided) Sensitivities for each Curve Node.
+ * 	- The Wall Time of the Adjoint Sweep against that of the Bump-and-Reprice.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AdjointCurveSensitivity {
+	private static final double BUMP = 0.0001;
+	private static final String CREDIT_NAME = "ACME";
+
+	private static final String[] NODE_TENOR = new String[] {
+		"1Y", "2Y", "3Y", "5Y", "7Y", "10Y"
+	};
+
+	private static final double[] FUNDING_RATE = new double[] {
+		0.0040, 0.0085, 0.0125, 0.0190, 0.0235, 0.0275
+	};
+
+	private static final double[] HAZARD_RATE = new double[] {
+		0.0080, 0.0100, 0.0120, 0.0150, 0.0170, 0.0190
+	};
+
+	private static final double[] NodeDates (
+		final JulianDate dtStart)
+	{
+		double[] adblDate = new double[NODE_TENOR.length];
+
+		for (int i = 0; i < NODE_TENOR.length; ++i)
+			adblDate[i] = dtStart.addTenor (NODE_TENOR[i]).julian();
+
+		return adblDate;
+	}
+
+	private static final double[] Bumped (
+		final double[] adblNode,
+		final int iBumpNode)
+	{
+		double[] adblBumped = new double[adblNode.length];
+
+		for (int i = 0; i < adblNode.length; ++i)
+			adblBumped[i] = adblNode[i] + (i == iBumpNode ? BUMP : 0.);
+
+		return adblBumped;
+	}
+
+	private static final CurveSurfaceQuoteSet Market (
+		final JulianDate dtStart,
+		final int iFundingBumpNode,
+		final int iCreditBumpNode)
+	{
+		double[] adblDate = NodeDates (dtStart);
+
+		DiscountCurve dc = DiscountCurveBuilder.CreateDC (dtStart, "USD", null, adblDate, Bumped
+			(FUNDING_RATE, iFundingBumpNode), null);
+
+		CreditCurve cc = CreditCurveBuilder.CreateCreditCurve (dtStart, CREDIT_NAME, "USD", adblDate, Bumped
+			(HAZARD_RATE, iCreditBumpNode), 0.4);
+
+		return MarketParamsBuilder.Credit (dc, cc);
+	}
+
+	private static final double PV (
+		final CalibratableFixedIncomeComponent comp,
+		final ValuationParams valParams,
+		final CreditPricerParams pricerParams,
+		final CurveSurfaceQuoteSet csqs)
+	{
+		return comp.value (valParams, pricerParams, csqs, null).get ("PV");
+	}
+
+	private static final void Run (
+		final CalibratableFixedIncomeComponent comp,
+		final JulianDate dtStart,
+		final ValuationParams valParams,
+		final CreditPricerParams pricerParams)
+		throws Exception
+	{
+		CurveSurfaceQuoteSet csqs = Market (dtStart, -1, -1);
+
+		AdjointSensitivity as = null;
+		long lAdjoint = 0L;
+		long lBump = 0L;
+
+		for (int iPass = 0; iPass < 2; ++iPass) {
+			long lStart = System.nanoTime();
+
+			as = comp.adjointPVSensitivity (valParams, pricerParams, csqs, "Rate");
+
+			lAdjoint = System.nanoTime() - lStart;
+		}
+
+		double dblBasePV = PV (comp, valParams, pricerParams, csqs);
+
+		WengertJacobian wjFunding = as.fundingSensitivity (FundingLabel.Standard ("USD"));
+
+		WengertJacobian wjCredit = as.creditSensitivity (CreditLabel.Standard (CREDIT_NAME));
+
+		double[] adblFundingBump = new double[NODE_TENOR.length];
+		double[] adblCreditBump = new double[NODE_TENOR.length];
+
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < NODE_TENOR.length; ++i) {
+			adblFundingBump[i] = (PV (comp, valParams, pricerParams, Market (dtStart, i, -1)) - dblBasePV) /
+				BUMP;
+
+			if (null != wjCredit)
+				adblCreditBump[i] = (PV (comp, valParams, pricerParams, Market (dtStart, -1, i)) -
+					dblBasePV) / BUMP;
+		}
+
+		lBump = System.nanoTime() - lStart;
+
+		System.out.println ("\n\t|------------------------------------------------------------------|");
+
+		System.out.println ("\t| " + comp.name());
+
+		System.out.println ("\t| TAPE PV: " + FormatUtil.FormatDouble (as.value(), 3, 8, 1.) +
+			"  |  VALUATION PV: " + FormatUtil.FormatDouble (dblBasePV, 3, 8, 1.));
+
+		System.out.println ("\t|------------------------------------------------------------------|");
+
+		System.out.println ("\t| NODE |  FUNDING ADJ |  FUNDING BMP |  CREDIT ADJ  |  CREDIT BMP  |");
+
+		System.out.println ("\t|------------------------------------------------------------------|");
+
+		for (int i = 0; i < NODE_TENOR.length; ++i) {
+			String strCreditAdjoint = null == wjCredit ? "          " : FormatUtil.FormatDouble
+				(wjCredit.firstDerivative (0, i), 4, 4, 1.);
+
+			String strCreditBump = null == wjCredit ? "          " : FormatUtil.FormatDouble
+				(adblCreditBump[i], 4, 4, 1.);
+
+			System.out.println ("\t| " + NODE_TENOR[i] + (3 == NODE_TENOR[i].length() ? "  | " : "   | ") +
+				FormatUtil.FormatDouble (wjFunding.firstDerivative (0, i), 4, 4, 1.) + "   | " +
+					FormatUtil.FormatDouble (adblFundingBump[i], 4, 4, 1.) + "   | " + strCreditAdjoint +
+						"   | " + strCreditBump + "   |");
+		}
+
+		System.out.println ("\t|------------------------------------------------------------------|");
+
+		System.out.println ("\t| ADJOINT (ms): " + FormatUtil.FormatDouble (lAdjoint * 1.e-06, 4, 3, 1.) +
+			"  |  BUMP-AND-REPRICE, " + (null == wjCredit ? NODE_TENOR.length : 2 * NODE_TENOR.length) +
+				" CURVES (ms): " + FormatUtil.FormatDouble (lBump * 1.e-06, 4, 3, 1.));
+
+		System.out.println ("\t|------------------------------------------------------------------|");
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		ValuationParams valParams = ValuationParams.Spot (dtStart, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		CreditPricerParams pricerParams = CreditPricerParams.Standard();
+
+		FixedFloatSwapConvention ffConv = IBORFixedFloatContainer.ConventionFromJurisdiction ("USD", "ALL",
+			"7Y", "MAIN");
+
+		Run (ffConv.createFixFloatComponent (dtStart, "7Y", 0.02, 0., 1.), dtStart, valParams, pricerParams);
+
+		Run (CDSBuilder.CreateSNAC (dtStart, "5Y", 0.01, CREDIT_NAME), dtStart, valParams, pricerParams);
+
+		Run (BondBuilder.CreateSimpleFixed (CREDIT_NAME + "_7Y", "USD", CREDIT_NAME, 0.05, 2, "30/360",
+			dtStart.subtractDays (45), dtStart.addYears (7), null, null), dtStart, valParams, pricerParams);
+	}
+}
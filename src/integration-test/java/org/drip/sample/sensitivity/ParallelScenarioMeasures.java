@@ -0,0 +1,257 @@
+
+package org.drip.sample.sensitivity;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.output.ComponentMeasures;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.market.otc.FixedFloatSwapConvention;
+import org.drip.market.otc.IBORFixedFloatContainer;
+import org.drip.param.creator.MarketParamsBuilder;
+import org.drip.param.creator.ScenarioDiscountCurveBuilder;
+import org.drip.param.definition.ScenarioDiscountCurve;
+import org.drip.param.definition.ScenarioMarketParams;
+import org.drip.param.pricer.CreditPricerParams;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.BondBuilder;
+import org.drip.product.definition.CalibratableFixedIncomeComponent;
+import org.drip.product.definition.FixedIncomeComponent;
+import org.drip.product.definition.ScenarioValuationEngine;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * ParallelScenarioMeasures generates the Full Set of the Scenario Measures - the Flat and the Tenor Bumped
+ * 	Funding Deltas and Gammas - of a Fix-Float Swap and of a Fixed Coupon Bond off of a Scenario Market
+ * 	Parameters Container, first serially and then with the Scenarios fanned out across a Thread Pool. It
+ * 	reports:
+ * 	- Whether the Serial and the Parallel Measures match exactly.
+ * 	- The Wall Time of the Serial and the Parallel Scenario Valuations.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ParallelScenarioMeasures {
+	private static final String[] NODE_TENOR = new String[] {
+		"1Y", "2Y", "3Y", "5Y", "7Y", "10Y"
+	};
+
+	private static final double[] SWAP_RATE = new double[] {
+		0.0040, 0.0085, 0.0125, 0.0190, 0.0235, 0.0275
+	};
+
+	private static final ScenarioMarketParams MarketParams (
+		final JulianDate dtStart,
+		final ValuationParams valParams,
+		final FixedFloatSwapConvention ffConv)
+		throws Exception
+	{
+		CalibratableFixedIncomeComponent[] aSwap = new CalibratableFixedIncomeComponent[NODE_TENOR.length];
+		String[] astrSwapMeasure = new String[NODE_TENOR.length];
+
+		for (int i = 0; i < NODE_TENOR.length; ++i) {
+			astrSwapMeasure[i] = "Rate";
+
+			aSwap[i] = ffConv.createFixFloatComponent (dtStart, NODE_TENOR[i], SWAP_RATE[i], 0., 1.);
+		}
+
+		ScenarioMarketParams mpc = MarketParamsBuilder.CreateMarketParams();
+
+		ScenarioDiscountCurve sdc = ScenarioDiscountCurveBuilder.FromIRCSG ("USD",
+			DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD, aSwap);
+
+		sdc.cookScenarioDC (valParams, null, astrSwapMeasure, SWAP_RATE, 0.0001, null, null,
+			ScenarioDiscountCurve.DC_FLAT_UP | ScenarioDiscountCurve.DC_FLAT_DN |
+				ScenarioDiscountCurve.DC_TENOR_UP | ScenarioDiscountCurve.DC_TENOR_DN);
+
+		mpc.addScenarioDiscountCurve ("USD", sdc);
+
+		return mpc;
+	}
+
+	private static final boolean Match (
+		final CaseInsensitiveTreeMap<Double> map1,
+		final CaseInsensitiveTreeMap<Double> map2)
+	{
+		if (null == map1 || null == map2) return map1 == map2;
+
+		if (map1.size() != map2.size()) return false;
+
+		for (Map.Entry<String, Double> me : map1.entrySet()) {
+			String strMeasure = me.getKey();
+
+			if (strMeasure.toLowerCase().endsWith ("calctime")) continue;
+
+			Double dbl2 = map2.get (strMeasure);
+
+			if (null == dbl2 || 0 != me.getValue().compareTo (dbl2)) return false;
+		}
+
+		return true;
+	}
+
+	private static final boolean TenorMatch (
+		final CaseInsensitiveTreeMap<CaseInsensitiveTreeMap<Double>> mm1,
+		final CaseInsensitiveTreeMap<CaseInsensitiveTreeMap<Double>> mm2)
+	{
+		if (null == mm1 || null == mm2) return mm1 == mm2;
+
+		if (mm1.size() != mm2.size()) return false;
+
+		for (Map.Entry<String, CaseInsensitiveTreeMap<Double>> me : mm1.entrySet()) {
+			if (!Match (me.getValue(), mm2.get (me.getKey()))) return false;
+		}
+
+		return true;
+	}
+
+	private static final int TenorCount (
+		final CaseInsensitiveTreeMap<CaseInsensitiveTreeMap<Double>> mm)
+	{
+		return null == mm ? 0 : mm.size();
+	}
+
+	private static final double TenorSum (
+		final CaseInsensitiveTreeMap<CaseInsensitiveTreeMap<Double>> mm,
+		final String strMeasure)
+	{
+		double dblSum = 0.;
+
+		if (null == mm) return dblSum;
+
+		for (CaseInsensitiveTreeMap<Double> map : mm.values())
+			dblSum += map.get (strMeasure);
+
+		return dblSum;
+	}
+
+	private static final void Run (
+		final FixedIncomeComponent comp,
+		final ValuationParams valParams,
+		final CreditPricerParams pricerParams,
+		final ScenarioMarketParams mpc,
+		final ExecutorService es)
+		throws Exception
+	{
+		ScenarioValuationEngine sveParallel = new ScenarioValuationEngine (es, null);
+
+		ComponentMeasures cmSerial = null;
+		ComponentMeasures cmParallel = null;
+		long lSerial = 0L;
+		long lParallel = 0L;
+
+		for (int iPass = 0; iPass < 3; ++iPass) {
+			long lStart = System.nanoTime();
+
+			cmSerial = comp.measures (valParams, pricerParams, mpc, null);
+
+			lSerial = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			cmParallel = comp.measures (valParams, pricerParams, mpc, null, sveParallel);
+
+			lParallel = System.nanoTime() - lStart;
+		}
+
+		boolean bMatch = Match (cmSerial.baseMeasures(), cmParallel.baseMeasures()) &&
+			Match (cmSerial.flatIRDeltaMeasures(), cmParallel.flatIRDeltaMeasures()) &&
+			Match (cmSerial.flatIRGammaMeasures(), cmParallel.flatIRGammaMeasures()) &&
+			Match (cmSerial.flatCreditDeltaMeasures(), cmParallel.flatCreditDeltaMeasures()) &&
+			Match (cmSerial.flatCreditGammaMeasures(), cmParallel.flatCreditGammaMeasures()) &&
+			Match (cmSerial.flatRRDeltaMeasures(), cmParallel.flatRRDeltaMeasures()) &&
+			Match (cmSerial.flatRRGammaMeasures(), cmParallel.flatRRGammaMeasures()) &&
+			TenorMatch (cmSerial.tenorIRDeltaMeasures(), cmParallel.tenorIRDeltaMeasures()) &&
+			TenorMatch (cmSerial.tenorIRGammaMeasures(), cmParallel.tenorIRGammaMeasures()) &&
+			TenorMatch (cmSerial.tenorCreditDeltaMeasures(), cmParallel.tenorCreditDeltaMeasures()) &&
+			TenorMatch (cmSerial.tenorCreditGammaMeasures(), cmParallel.tenorCreditGammaMeasures());
+
+		System.out.println ("\n\t|------------------------------------------------------------------|");
+
+		System.out.println ("\t| " + comp.name());
+
+		System.out.println ("\t|------------------------------------------------------------------|");
+
+		System.out.println ("\t| BASE PV          : " + FormatUtil.FormatDouble (cmSerial.baseMeasures().get
+			("PV"), 6, 4, 1.));
+
+		System.out.println ("\t| IR TENOR DELTA PV: " + FormatUtil.FormatDouble (TenorSum
+			(cmSerial.tenorIRDeltaMeasures(), "PV"), 6, 4, 1.));
+
+		System.out.println ("\t| IR TENOR DELTAS  : " + TenorCount (cmSerial.tenorIRDeltaMeasures()) +
+			"  |  IR TENOR GAMMAS: " + TenorCount (cmSerial.tenorIRGammaMeasures()));
+
+		System.out.println ("\t| SERIAL == PARALLEL: " + bMatch);
+
+		System.out.println ("\t| SERIAL (ms): " + FormatUtil.FormatDouble (lSerial * 1.e-06, 5, 3, 1.) +
+			"  |  PARALLEL (ms): " + FormatUtil.FormatDouble (lParallel * 1.e-06, 5, 3, 1.));
+
+		System.out.println ("\t|------------------------------------------------------------------|");
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		ValuationParams valParams = ValuationParams.Spot (dtStart, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		CreditPricerParams pricerParams = CreditPricerParams.Standard();
+
+		FixedFloatSwapConvention ffConv = IBORFixedFloatContainer.ConventionFromJurisdiction ("USD", "ALL",
+			"10Y", "MAIN");
+
+		ScenarioMarketParams mpc = MarketParams (dtStart, valParams, ffConv);
+
+		ExecutorService es = Executors.newFixedThreadPool (Runtime.getRuntime().availableProcessors());
+
+		try {
+			Run (ffConv.createFixFloatComponent (dtStart, "7Y", 0.02, 0., 1.), valParams, pricerParams, mpc,
+				es);
+
+			Run (BondBuilder.CreateSimpleFixed ("UST_7Y", "USD", "", 0.03, 2, "30/360", dtStart.subtractDays
+				(45), dtStart.addYears (7), null, null), valParams, pricerParams, mpc, es);
+		} finally {
+			es.shutdown();
+		}
+	}
+}
@@ -0,0 +1,317 @@
+
+package org.drip.sample.sensitivity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.drip.analytics.date.DateUtil;
+import org.drip.analytics.date.JulianDate;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.market.otc.IBORFixedFloatContainer;
+import org.drip.param.valuation.ValuationParams;
+import org.drip.product.creator.CDSBuilder;
+import org.drip.product.definition.CalibratableFixedIncomeComponent;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.drip.state.estimator.CreditCurveScenarioGenerator;
+import org.drip.state.estimator.RatesCurveScenarioGenerator;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * TenorBumpedScenarioCurves generates the Tenor Bumped Scenario Curves of a Set of SNAC CDS Hazard Curves
+ * 	and of an OTC IRS Discount Curve off the CreditCurveScenarioGenerator/RatesCurveScenarioGenerator in
+ * 	three Modes:
+ * 	- Serial, each Bumped Curve calibrated from scratch.
+ * 	- Serial, each Bumped Curve warm-started off the Nodes of the Base Curve ahead of the bumped Tenor.
+ * 	- Warm-started, with the Bumped Curves calibrated in parallel on a Fixed Thread Pool.
+ * 	It reports the Wall Time of each Mode, and the Maximum Difference between the Curves generated from
+ * 	scratch and the warm-started parallel ones.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class TenorBumpedScenarioCurves {
+	private static final int NUM_NAME = 12;
+	private static final double RECOVERY = 0.4;
+	private static final double CDS_BUMP = 1.;
+	private static final double IRS_BUMP = 0.0001;
+
+	private static final String[] CDS_TENOR = new String[] {
+		"6M", "1Y", "2Y", "3Y", "4Y", "5Y", "7Y", "10Y"
+	};
+
+	private static final double[] CDS_TIME = new double[] {
+		0.5, 1., 2., 3., 4., 5., 7., 10.
+	};
+
+	private static final String[] IRS_TENOR = new String[] {
+		"1Y", "2Y", "3Y", "4Y", "5Y", "6Y", "7Y", "8Y", "9Y", "10Y", "12Y", "15Y", "20Y", "25Y", "30Y"
+	};
+
+	private static final double[] IRS_QUOTE = new double[] {
+		0.0166, 0.0206, 0.0241, 0.0269, 0.0292, 0.0311, 0.0326, 0.0340, 0.0351, 0.0375, 0.0393, 0.0402,
+			0.0407, 0.0409, 0.0409
+	};
+
+	private static final double MaxSurvivalDifference (
+		final Map<String, CreditCurve> mapCC1,
+		final Map<String, CreditCurve> mapCC2,
+		final CalibratableFixedIncomeComponent[] aCDS)
+		throws Exception
+	{
+		double dblDifference = 0.;
+
+		for (Map.Entry<String, CreditCurve> me : mapCC1.entrySet()) {
+			CreditCurve cc2 = mapCC2.get (me.getKey());
+
+			for (CalibratableFixedIncomeComponent cds : aCDS) {
+				double dblMaturity = cds.maturityDate().julian();
+
+				dblDifference = Math.max (dblDifference, Math.abs (me.getValue().survival (dblMaturity) -
+					cc2.survival (dblMaturity)));
+			}
+		}
+
+		return dblDifference;
+	}
+
+	private static final double MaxDFDifference (
+		final Map<String, DiscountCurve> mapDC1,
+		final Map<String, DiscountCurve> mapDC2,
+		final CalibratableFixedIncomeComponent[] aIRS)
+		throws Exception
+	{
+		double dblDifference = 0.;
+
+		for (Map.Entry<String, DiscountCurve> me : mapDC1.entrySet()) {
+			DiscountCurve dc2 = mapDC2.get (me.getKey());
+
+			for (CalibratableFixedIncomeComponent irs : aIRS) {
+				double dblMaturity = irs.maturityDate().julian();
+
+				dblDifference = Math.max (dblDifference, Math.abs (me.getValue().df (dblMaturity) - dc2.df
+					(dblMaturity)));
+			}
+		}
+
+		return dblDifference;
+	}
+
+	private static final void Row (
+		final String strMode,
+		final long lCreditNanos,
+		final long lRatesNanos)
+	{
+		System.out.println (
+			"\t| " + strMode + " |   " +
+			FormatUtil.FormatDouble (lCreditNanos * 1.e-06, 5, 1, 1.) + "    | " +
+			FormatUtil.FormatDouble (lRatesNanos * 1.e-06, 5, 1, 1.) + "  |"
+		);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.Today();
+
+		ValuationParams valParams = ValuationParams.Spot (dtStart, 0, "", Convention.DATE_ROLL_ACTUAL);
+
+		DiscountCurve dc = DiscountCurveBuilder.CreateDC (dtStart, "USD", null, new double[] {
+			dtStart.addTenor ("1Y").julian(), dtStart.addTenor ("3Y").julian(), dtStart.addTenor
+				("5Y").julian(), dtStart.addTenor ("10Y").julian()
+		}, new double[] {0.0040, 0.0125, 0.0190, 0.0275}, null);
+
+		String[] astrCDSMeasure = new String[CDS_TENOR.length];
+
+		for (int j = 0; j < CDS_TENOR.length; ++j)
+			astrCDSMeasure[j] = "FairPremium";
+
+		CalibratableFixedIncomeComponent[] aIRS = new CalibratableFixedIncomeComponent[IRS_TENOR.length];
+		String[] astrIRSMeasure = new String[IRS_TENOR.length];
+
+		for (int j = 0; j < IRS_TENOR.length; ++j) {
+			aIRS[j] = IBORFixedFloatContainer.ConventionFromJurisdiction ("USD", "ALL", IRS_TENOR[j],
+				"MAIN").createFixFloatComponent (dtStart, IRS_TENOR[j], 0., 0., 1.);
+
+			astrIRSMeasure[j] = "Rate";
+		}
+
+		int iNumThread = Runtime.getRuntime().availableProcessors();
+
+		ExecutorService es = Executors.newFixedThreadPool (iNumThread);
+
+		RatesCurveScenarioGenerator rcsgSerial = new RatesCurveScenarioGenerator ("USD", null, aIRS);
+
+		RatesCurveScenarioGenerator rcsgParallel = new RatesCurveScenarioGenerator ("USD", null, aIRS, es);
+
+		CalibratableFixedIncomeComponent[][] aaCDS = new
+			CalibratableFixedIncomeComponent[NUM_NAME][CDS_TENOR.length];
+		CreditCurveScenarioGenerator[] aCCSGSerial = new CreditCurveScenarioGenerator[NUM_NAME];
+		CreditCurveScenarioGenerator[] aCCSGParallel = new CreditCurveScenarioGenerator[NUM_NAME];
+		double[][] aadblCDSQuote = new double[NUM_NAME][CDS_TENOR.length];
+		CreditCurve[] aCCBase = new CreditCurve[NUM_NAME];
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			double dbl5YSpread = 30. + 470. * Math.pow ((i + 0.5) / NUM_NAME, 3.);
+
+			for (int j = 0; j < CDS_TENOR.length; ++j) {
+				aaCDS[i][j] = CDSBuilder.CreateSNAC (dtStart, CDS_TENOR[j], 0.01, "NAME" + i);
+
+				aadblCDSQuote[i][j] = dbl5YSpread * (0.6 + 0.4 * Math.sqrt (CDS_TIME[j] / 5.));
+			}
+
+			aCCSGSerial[i] = new CreditCurveScenarioGenerator (aaCDS[i]);
+
+			aCCSGParallel[i] = new CreditCurveScenarioGenerator (aaCDS[i], es);
+
+			aCCBase[i] = aCCSGSerial[i].createCC ("NAME" + i, valParams, dc, null, aadblCDSQuote[i], RECOVERY,
+				astrCDSMeasure, null, null, false);
+		}
+
+		DiscountCurve dcBase = rcsgSerial.createIRCurve (valParams, null, IRS_QUOTE, 0., astrIRSMeasure, null,
+			null);
+
+		List<CaseInsensitiveTreeMap<CreditCurve>> lsMapCCCold = new
+			ArrayList<CaseInsensitiveTreeMap<CreditCurve>>();
+		List<CaseInsensitiveTreeMap<CreditCurve>> lsMapCCWarm = new
+			ArrayList<CaseInsensitiveTreeMap<CreditCurve>>();
+		List<CaseInsensitiveTreeMap<CreditCurve>> lsMapCCParallel = new
+			ArrayList<CaseInsensitiveTreeMap<CreditCurve>>();
+		CaseInsensitiveTreeMap<DiscountCurve> mapDCCold = null;
+		CaseInsensitiveTreeMap<DiscountCurve> mapDCWarm = null;
+		CaseInsensitiveTreeMap<DiscountCurve> mapDCParallel = null;
+		long lCreditCold = 0L;
+		long lCreditWarm = 0L;
+		long lCreditParallel = 0L;
+		long lRatesCold = 0L;
+		long lRatesWarm = 0L;
+		long lRatesParallel = 0L;
+
+		for (int iPass = 0; iPass < 2; ++iPass) {
+			lsMapCCCold.clear();
+
+			lsMapCCWarm.clear();
+
+			lsMapCCParallel.clear();
+
+			long lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_NAME; ++i)
+				lsMapCCCold.add (aCCSGSerial[i].createTenorCCMap ("NAME" + i, valParams, dc, null,
+					aadblCDSQuote[i], CDS_BUMP, RECOVERY, astrCDSMeasure, null, null, false, null));
+
+			lCreditCold = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_NAME; ++i)
+				lsMapCCWarm.add (aCCSGSerial[i].createTenorCCMap ("NAME" + i, valParams, dc, null,
+					aadblCDSQuote[i], CDS_BUMP, RECOVERY, astrCDSMeasure, null, null, false, aCCBase[i]));
+
+			lCreditWarm = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			for (int i = 0; i < NUM_NAME; ++i)
+				lsMapCCParallel.add (aCCSGParallel[i].createTenorCCMap ("NAME" + i, valParams, dc, null,
+					aadblCDSQuote[i], CDS_BUMP, RECOVERY, astrCDSMeasure, null, null, false, aCCBase[i]));
+
+			lCreditParallel = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			mapDCCold = rcsgSerial.createTenorIRCurveMap (valParams, null, IRS_QUOTE, IRS_BUMP,
+				astrIRSMeasure, null, null, null);
+
+			lRatesCold = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			mapDCWarm = rcsgSerial.createTenorIRCurveMap (valParams, null, IRS_QUOTE, IRS_BUMP,
+				astrIRSMeasure, null, null, dcBase);
+
+			lRatesWarm = System.nanoTime() - lStart;
+
+			lStart = System.nanoTime();
+
+			mapDCParallel = rcsgParallel.createTenorIRCurveMap (valParams, null, IRS_QUOTE, IRS_BUMP,
+				astrIRSMeasure, null, null, dcBase);
+
+			lRatesParallel = System.nanoTime() - lStart;
+		}
+
+		es.shutdown();
+
+		double dblSurvivalDifference = 0.;
+
+		for (int i = 0; i < NUM_NAME; ++i)
+			dblSurvivalDifference = Math.max (dblSurvivalDifference, Math.max (MaxSurvivalDifference
+				(lsMapCCCold.get (i), lsMapCCWarm.get (i), aaCDS[i]), MaxSurvivalDifference (lsMapCCCold.get
+					(i), lsMapCCParallel.get (i), aaCDS[i])));
+
+		double dblDFDifference = Math.max (MaxDFDifference (mapDCCold, mapDCWarm, aIRS), MaxDFDifference
+			(mapDCCold, mapDCParallel, aIRS));
+
+		System.out.println ("\n\t|-------------------------------------------------|");
+
+		System.out.println ("\t|  TENOR BUMPED CURVES - WALL TIME (" + iNumThread + " THREADS)" +
+			(10 > iNumThread ? "    " : "   ") + "|");
+
+		System.out.println ("\t|-------------------------------------------------|");
+
+		System.out.println ("\t|        MODE         | " + NUM_NAME + " x " + CDS_TENOR.length +
+			" CDS ms | " + IRS_TENOR.length + " IRS ms |");
+
+		System.out.println ("\t|-------------------------------------------------|");
+
+		Row ("SERIAL COLD START  ", lCreditCold, lRatesCold);
+
+		Row ("SERIAL WARM START  ", lCreditWarm, lRatesWarm);
+
+		Row ("PARALLEL WARM START", lCreditParallel, lRatesParallel);
+
+		System.out.println ("\t|-------------------------------------------------|");
+
+		System.out.println ("\n\tMax Survival Difference (Cold vs Warm) : " + dblSurvivalDifference);
+
+		System.out.println ("\n\tMax DF Difference (Cold vs Warm)       : " + dblDFDifference);
+	}
+}
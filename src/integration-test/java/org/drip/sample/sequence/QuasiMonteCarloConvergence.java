@@ -0,0 +1,184 @@
+
+package org.drip.sample.sequence;
+
+import org.drip.measure.continuous.Gaussian;
+import org.drip.quant.common.FormatUtil;
+import org.drip.sequence.metrics.ControlVariateMetrics;
+import org.drip.sequence.random.BoxMullerGaussian;
+import org.drip.sequence.random.QuasiRandomPathGenerator;
+import org.drip.sequence.random.RandomEngine;
+import org.drip.sequence.random.UnivariateSequenceGenerator;
+import org.drip.service.api.CreditAnalytics;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * QuasiMonteCarloConvergence benchmarks the RMSE against the Wall Time of the Monte-Carlo Valuation of a
+ * 	European Call on a Log-normal Underlier simulated over a Grid of Time Steps, comparing Pseudo-random
+ * 	Draws against (Digitally Shifted) Sobol Paths assembled through a Brownian Bridge, with and without
+ * 	Antithetic Pairing and a Terminal Underlier Control Variate.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class QuasiMonteCarloConvergence {
+	private static final double SPOT = 100.;
+	private static final double STRIKE = 105.;
+	private static final double RATE = 0.02;
+	private static final double VOLATILITY = 0.25;
+	private static final double MATURITY = 1.;
+	private static final int NUM_STEP = 16;
+	private static final int NUM_REPLICATION = 16;
+
+	private static final double BlackScholesCall()
+		throws Exception
+	{
+		double dblVolatilitySQRT = VOLATILITY * Math.sqrt (MATURITY);
+
+		double dblD1 = (Math.log (SPOT / STRIKE) + (RATE + 0.5 * VOLATILITY * VOLATILITY) * MATURITY) /
+			dblVolatilitySQRT;
+
+		return SPOT * Gaussian.CDF (dblD1) - STRIKE * Math.exp (-RATE * MATURITY) * Gaussian.CDF (dblD1 -
+			dblVolatilitySQRT);
+	}
+
+	private static final double Replicate (
+		final UnivariateSequenceGenerator usg,
+		final int iNumPath,
+		final boolean bControlVariate)
+		throws Exception
+	{
+		double dblDT = MATURITY / NUM_STEP;
+		double[] adblPayoff = new double[iNumPath];
+		double[] adblTerminal = new double[iNumPath];
+		double dblDiscountFactor = Math.exp (-RATE * MATURITY);
+		double dblDrift = (RATE - 0.5 * VOLATILITY * VOLATILITY) * dblDT;
+		double dblDiffusion = VOLATILITY * Math.sqrt (dblDT);
+
+		for (int iPath = 0; iPath < iNumPath; ++iPath) {
+			double dblLogSpot = Math.log (SPOT);
+
+			for (int iStep = 0; iStep < NUM_STEP; ++iStep)
+				dblLogSpot += dblDrift + dblDiffusion * usg.random();
+
+			double dblTerminal = Math.exp (dblLogSpot);
+
+			adblTerminal[iPath] = dblDiscountFactor * dblTerminal;
+			adblPayoff[iPath] = dblDiscountFactor * Math.max (dblTerminal - STRIKE, 0.);
+		}
+
+		ControlVariateMetrics cvm = new ControlVariateMetrics (adblPayoff, adblTerminal, SPOT);
+
+		return bControlVariate ? cvm.adjustedMean() : cvm.targetMean();
+	}
+
+	private static final void Benchmark (
+		final String strScheme,
+		final int iNumPath,
+		final boolean bQuasiRandom,
+		final boolean bAntithetic,
+		final boolean bControlVariate,
+		final double dblExact)
+		throws Exception
+	{
+		double dblSquaredError = 0.;
+
+		RandomEngine re = RandomEngine.Seeded (20151231L);
+
+		long lStart = System.nanoTime();
+
+		for (int iReplication = 0; iReplication < NUM_REPLICATION; ++iReplication) {
+			UnivariateSequenceGenerator usg = null;
+
+			if (bQuasiRandom)
+				usg = new QuasiRandomPathGenerator (
+					1,
+					NUM_STEP,
+					true,
+					bAntithetic,
+					re.substream (iReplication)
+				).variate (0);
+			else {
+				usg = new BoxMullerGaussian (
+					0.,
+					1.
+				);
+
+				usg.setEngine (re.substream (iReplication));
+			}
+
+			double dblError = Replicate (
+				usg,
+				iNumPath,
+				bControlVariate
+			) - dblExact;
+
+			dblSquaredError += dblError * dblError;
+		}
+
+		double dblWallTime = (System.nanoTime() - lStart) * 1.e-06 / NUM_REPLICATION;
+
+		System.out.println (
+			"\t| " + strScheme + " | " +
+			FormatUtil.FormatDouble (iNumPath, 5, 0, 1.) + " | " +
+			FormatUtil.FormatDouble (Math.sqrt (dblSquaredError / NUM_REPLICATION), 1, 6, 1.) + " | " +
+			FormatUtil.FormatDouble (dblWallTime, 4, 2, 1.) + " |"
+		);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		double dblExact = BlackScholesCall();
+
+		int[] aiNumPath = new int[] {256, 1024, 4096};
+
+		System.out.println ("\n\t|--------------------------------------------------------------|");
+
+		System.out.println ("\t|           SCHEME           | PATHS  |   RMSE   | WALL (ms)  |");
+
+		System.out.println ("\t|--------------------------------------------------------------|");
+
+		for (int iNumPath : aiNumPath) {
+			Benchmark ("PSEUDO RANDOM             ", iNumPath, false, false, false, dblExact);
+
+			Benchmark ("SOBOL + BRIDGE            ", iNumPath, true, false, false, dblExact);
+
+			Benchmark ("SOBOL + BRIDGE + ANTI     ", iNumPath, true, true, false, dblExact);
+
+			Benchmark ("SOBOL + BRIDGE + ANTI + CV", iNumPath, true, true, true, dblExact);
+
+			System.out.println ("\t|--------------------------------------------------------------|");
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package org.drip.sample.stochvol;
+
+import org.drip.param.pricer.HestonOptionPricerParams;
+import org.drip.pricer.option.BlackScholesAlgorithm;
+import org.drip.pricer.option.HestonStochasticVolatilityAlgorithm;
+import org.drip.quant.common.FormatUtil;
+import org.drip.quant.fourier.PhaseAdjuster;
+import org.drip.service.api.CreditAnalytics;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * HestonStrikeGridFFT compares the Strike-by-Strike Fourier Quadrature of the Heston (1993) Payoff against
+ * 	the Carr-Madan FFT Strike Grid Mode of HestonStochasticVolatilityAlgorithm:
+ * 	- In the Black Scholes Limit (vanishing Vol of Vol, Initial Variance at the Long Run Level), against
+ * 		the Closed Form Black Scholes Prices.
+ * 	- Across a full Heston Smile, Quadrature against FFT - the Gap is the Truncation Error of the 0.1 Step
+ * 		Quadrature, which the Black Scholes Limit above isolates.
+ * 	- The Wall Time to price a Strike x Expiry Grid both ways.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HestonStrikeGridFFT {
+	private static final double RATE = 0.01;
+	private static final double SPOT = 1.;
+	private static final int NUM_STRIKE = 101;
+
+	private static final double[] TIME_TO_EXPIRY = new double[] {
+		0.02, 0.10, 0.25, 0.50, 1.00, 2.00, 3.00, 5.00, 7.00, 10.0, 15.0, 20.0
+	};
+
+	private static final double[] StrikeGrid()
+	{
+		double[] adblStrike = new double[NUM_STRIKE];
+
+		for (int i = 0; i < NUM_STRIKE; ++i)
+			adblStrike[i] = SPOT * (0.5 + 0.01 * i);
+
+		return adblStrike;
+	}
+
+	private static final HestonStochasticVolatilityAlgorithm Heston (
+		final double dblRho,
+		final double dblSigma,
+		final double dblTheta)
+		throws Exception
+	{
+		return new HestonStochasticVolatilityAlgorithm (
+			new HestonOptionPricerParams (
+				HestonStochasticVolatilityAlgorithm.PAYOFF_TRANSFORM_SCHEME_HESTON_1993,
+				dblRho,
+				1.,
+				dblSigma,
+				dblTheta,
+				0.,
+				PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL
+			)
+		);
+	}
+
+	private static final void BlackScholesLimit (
+		final double[] adblStrike)
+		throws Exception
+	{
+		double dblVolatility = 0.2;
+
+		HestonStochasticVolatilityAlgorithm hsva = Heston (0., 0.0001, dblVolatility * dblVolatility);
+
+		BlackScholesAlgorithm bsa = new BlackScholesAlgorithm();
+
+		System.out.println ("\n\t|-----------------------------------|");
+
+		System.out.println ("\t|    BLACK SCHOLES LIMIT MAX ERROR  |");
+
+		System.out.println ("\t|-----------------------------------|");
+
+		System.out.println ("\t|   TTE   | QUADRATURE |    FFT     |");
+
+		System.out.println ("\t|-----------------------------------|");
+
+		for (double dblTimeToExpiry : TIME_TO_EXPIRY) {
+			double dblQuadratureError = 0.;
+			double dblFFTError = 0.;
+
+			double[] adblFFTPrice = hsva.payoff (adblStrike, dblTimeToExpiry, RATE, SPOT, false, false,
+				dblVolatility * dblVolatility, true);
+
+			for (int i = 0; i < NUM_STRIKE; ++i) {
+				double dblBlackScholesPrice = bsa.payoff (adblStrike[i], dblTimeToExpiry, RATE, SPOT, false,
+					false, dblVolatility, true);
+
+				dblQuadratureError = Math.max (dblQuadratureError, Math.abs (hsva.payoff (adblStrike[i],
+					dblTimeToExpiry, RATE, SPOT, false, false, dblVolatility * dblVolatility, true) -
+						dblBlackScholesPrice));
+
+				dblFFTError = Math.max (dblFFTError, Math.abs (adblFFTPrice[i] - dblBlackScholesPrice));
+			}
+
+			System.out.println (
+				"\t| " + FormatUtil.FormatDouble (dblTimeToExpiry, 2, 2, 1.) + "  | " +
+				String.format ("%10.2e", dblQuadratureError) + " | " +
+				String.format ("%10.2e", dblFFTError) + " |"
+			);
+		}
+
+		System.out.println ("\t|-----------------------------------|");
+	}
+
+	private static final void HestonSmile (
+		final double[] adblStrike)
+		throws Exception
+	{
+		double dblInitialVariance = 0.2;
+
+		HestonStochasticVolatilityAlgorithm hsva = Heston (0.3, 0.5, 0.2);
+
+		System.out.println ("\n\t|----------------------------------------------------------|");
+
+		System.out.println ("\t|   TTE   |  ATM QUADRATURE  |     ATM FFT      | MAX DIFF |");
+
+		System.out.println ("\t|----------------------------------------------------------|");
+
+		for (double dblTimeToExpiry : TIME_TO_EXPIRY) {
+			double[] adblFFTPrice = hsva.payoff (adblStrike, dblTimeToExpiry, RATE, SPOT, false, false,
+				dblInitialVariance, true);
+
+			double dblMaxDifference = 0.;
+
+			for (int i = 0; i < NUM_STRIKE; ++i)
+				dblMaxDifference = Math.max (dblMaxDifference, Math.abs (adblFFTPrice[i] - hsva.payoff
+					(adblStrike[i], dblTimeToExpiry, RATE, SPOT, false, false, dblInitialVariance, true)));
+
+			System.out.println (
+				"\t| " + FormatUtil.FormatDouble (dblTimeToExpiry, 2, 2, 1.) + "  | " +
+				FormatUtil.FormatDouble (hsva.payoff (SPOT, dblTimeToExpiry, RATE, SPOT, false, false,
+					dblInitialVariance, true), 1, 12, 1.) + " | " +
+				FormatUtil.FormatDouble (adblFFTPrice[NUM_STRIKE / 2], 1, 12, 1.) + " | " +
+				String.format ("%8.2e", dblMaxDifference) + " |"
+			);
+		}
+
+		System.out.println ("\t|----------------------------------------------------------|");
+	}
+
+	private static final void Timing (
+		final double[] adblStrike)
+		throws Exception
+	{
+		double dblChecksum = 0.;
+		double dblInitialVariance = 0.2;
+
+		for (int iPass = 0; iPass < 3; ++iPass) {
+			HestonStochasticVolatilityAlgorithm hsvaQuadrature = Heston (0.3, 0.5, 0.2);
+
+			long lStart = System.nanoTime();
+
+			for (double dblTimeToExpiry : TIME_TO_EXPIRY) {
+				for (int i = 0; i < NUM_STRIKE; ++i)
+					dblChecksum += hsvaQuadrature.payoff (adblStrike[i], dblTimeToExpiry, RATE, SPOT, false,
+						false, dblInitialVariance, true);
+			}
+
+			long lQuadrature = System.nanoTime() - lStart;
+
+			HestonStochasticVolatilityAlgorithm hsvaFFT = Heston (0.3, 0.5, 0.2);
+
+			lStart = System.nanoTime();
+
+			for (double dblTimeToExpiry : TIME_TO_EXPIRY)
+				dblChecksum += hsvaFFT.payoff (adblStrike, dblTimeToExpiry, RATE, SPOT, false, false,
+					dblInitialVariance, true)[0];
+
+			long lFFT = System.nanoTime() - lStart;
+
+			if (2 != iPass) continue;
+
+			System.out.println ("\n\t|-------------------------------------|");
+
+			System.out.println ("\t| " + NUM_STRIKE + " x " + TIME_TO_EXPIRY.length +
+				" GRID WALL TIME (ms)        |");
+
+			System.out.println ("\t|-------------------------------------|");
+
+			System.out.println ("\t| QUADRATURE (EXPIRY CACHED) | " +
+				FormatUtil.FormatDouble (lQuadrature * 1.e-06, 4, 2, 1.) + " |");
+
+			System.out.println ("\t| FFT STRIKE GRID            | " +
+				FormatUtil.FormatDouble (lFFT * 1.e-06, 4, 2, 1.) + " |");
+
+			System.out.println ("\t|-------------------------------------|");
+		}
+
+		System.out.println ("\n\tChecksum: " + dblChecksum);
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		double[] adblStrike = StrikeGrid();
+
+		BlackScholesLimit (adblStrike);
+
+		HestonSmile (adblStrike);
+
+		Timing (adblStrike);
+	}
+}
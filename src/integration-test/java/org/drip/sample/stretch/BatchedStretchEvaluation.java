@@ -0,0 +1,192 @@
+
+package org.drip.sample.stretch;
+
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.spline.basis.PolynomialFunctionSetParams;
+import org.drip.spline.params.SegmentCustomBuilderControl;
+import org.drip.spline.params.SegmentInelasticDesignControl;
+import org.drip.spline.segment.LatentStateResponseModel;
+import org.drip.spline.stretch.*;
+import org.testng.annotations.Test;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BatchedStretchEvaluation builds a Calibrated Polynomial Basis Spline Stretch over a large Number of
+ * 	Segments, and evaluates it over a Sorted Grid of Predictor Ordinates in three Modes:
+ * 	- Linear Scan: Each Ordinate locates its Segment by scanning the Segments from the Left.
+ * 	- Point-wise: Each Ordinate goes through responseValue, which locates the Segment through the Binary
+ * 		Search of containingIndex.
+ * 	- Batched: The whole Grid goes through responseValues, which walks the Segments forward.
+ * 	It reports the Wall Time of each Mode, and the Maximum Response Difference from the Linear Scan.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BatchedStretchEvaluation {
+	private static final int NUM_SEGMENT = 200;
+	private static final int NUM_ORDINATE = 200000;
+
+	private static final long LinearScan (
+		final MultiSegmentSequence mss,
+		final double[] adblX,
+		final double[] adblY)
+		throws Exception
+	{
+		LatentStateResponseModel[] aLSRM = mss.segments();
+
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < adblX.length; ++i) {
+			int j = 0;
+
+			while (aLSRM[j].right() < adblX[i])
+				++j;
+
+			adblY[i] = aLSRM[j].responseValue (adblX[i]);
+		}
+
+		return System.nanoTime() - lStart;
+	}
+
+	private static final long PointWise (
+		final MultiSegmentSequence mss,
+		final double[] adblX,
+		final double[] adblY)
+		throws Exception
+	{
+		long lStart = System.nanoTime();
+
+		for (int i = 0; i < adblX.length; ++i)
+			adblY[i] = mss.responseValue (adblX[i]);
+
+		return System.nanoTime() - lStart;
+	}
+
+	@Test(dataProvider = "mainparam", dataProviderClass = org.drip.sample.TestNGDataProvider.class)
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		double[] adblKnot = new double[NUM_SEGMENT + 1];
+		double[] adblKnotResponse = new double[NUM_SEGMENT + 1];
+
+		for (int i = 0; i <= NUM_SEGMENT; ++i) {
+			adblKnot[i] = 0.25 * i;
+
+			adblKnotResponse[i] = Math.sin (0.3 * adblKnot[i]) + 0.01 * adblKnot[i];
+		}
+
+		SegmentCustomBuilderControl[] aSCBC = new SegmentCustomBuilderControl[NUM_SEGMENT];
+
+		for (int i = 0; i < NUM_SEGMENT; ++i)
+			aSCBC[i] = new SegmentCustomBuilderControl (
+				MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL,
+				new PolynomialFunctionSetParams (4),
+				SegmentInelasticDesignControl.Create (2, 2),
+				null,
+				null
+			);
+
+		MultiSegmentSequence mss = MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator (
+			"BATCHED_STRETCH",
+			adblKnot,
+			adblKnotResponse,
+			aSCBC,
+			null,
+			BoundarySettings.NaturalStandard(),
+			MultiSegmentSequence.CALIBRATE
+		);
+
+		double dblXLeft = mss.getLeftPredictorOrdinateEdge();
+
+		double dblXRight = mss.getRightPredictorOrdinateEdge();
+
+		double[] adblX = new double[NUM_ORDINATE];
+		double[] adblYLinearScan = new double[NUM_ORDINATE];
+		double[] adblYPointWise = new double[NUM_ORDINATE];
+		double[] adblYBatched = null;
+		long lLinearScan = 0L;
+		long lPointWise = 0L;
+		long lBatched = 0L;
+
+		for (int i = 0; i < NUM_ORDINATE; ++i)
+			adblX[i] = dblXLeft + (dblXRight - dblXLeft) * i / (NUM_ORDINATE - 1);
+
+		for (int iPass = 0; iPass < 5; ++iPass) {
+			lLinearScan = LinearScan (mss, adblX, adblYLinearScan);
+
+			lPointWise = PointWise (mss, adblX, adblYPointWise);
+
+			long lStart = System.nanoTime();
+
+			adblYBatched = mss.responseValues (adblX);
+
+			lBatched = System.nanoTime() - lStart;
+		}
+
+		double dblPointWiseDifference = 0.;
+		double dblBatchedDifference = 0.;
+
+		for (int i = 0; i < NUM_ORDINATE; ++i) {
+			dblPointWiseDifference = Math.max (dblPointWiseDifference, Math.abs (adblYPointWise[i] -
+				adblYLinearScan[i]));
+
+			dblBatchedDifference = Math.max (dblBatchedDifference, Math.abs (adblYBatched[i] -
+				adblYLinearScan[i]));
+		}
+
+		System.out.println ("\n\t|--------------------------------------------------------------|");
+
+		System.out.println ("\t|   " + NUM_SEGMENT + " SEGMENTS x " + NUM_ORDINATE +
+			" SORTED ORDINATES - WALL TIME (ms)    |");
+
+		System.out.println ("\t|--------------------------------------------------------------|");
+
+		System.out.println ("\t|    LINEAR SCAN     |     POINT-WISE     |       BATCHED      |");
+
+		System.out.println ("\t|--------------------------------------------------------------|");
+
+		System.out.println (
+			"\t|      " + FormatUtil.FormatDouble (lLinearScan * 1.e-06, 5, 1, 1.) + "      |      " +
+			FormatUtil.FormatDouble (lPointWise * 1.e-06, 5, 1, 1.) + "      |      " +
+			FormatUtil.FormatDouble (lBatched * 1.e-06, 5, 1, 1.) + "      |"
+		);
+
+		System.out.println ("\t|--------------------------------------------------------------|");
+
+		System.out.println ("\n\tMax Point-wise Response Difference from Linear Scan : " +
+			dblPointWiseDifference);
+
+		System.out.println ("\n\tMax Batched Response Difference from Linear Scan    : " +
+			dblBatchedDifference);
+	}
+}
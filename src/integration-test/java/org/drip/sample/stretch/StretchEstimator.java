@@ -69,7 +69,7 @@ public class StretchEstimator {
 	 * 	WARNING: Insufficient Error Checking, so use caution
 	 */
 
-	private static final SegmentCustomBuilderControl PolynomialSegmentControlParams (
+	public static final SegmentCustomBuilderControl PolynomialSegmentControlParams (
 		final int iNumBasis,
 		final SegmentInelasticDesignControl sdic,
 		final ResponseScalingShapeControl rssc)
@@ -153,7 +153,7 @@ public class StretchEstimator {
 	 * 	WARNING: Insufficient Error Checking, so use caution
 	 */
 
-	private static final SegmentCustomBuilderControl KaklisPandelisSegmentControlParams (
+	public static final SegmentCustomBuilderControl KaklisPandelisSegmentControlParams (
 		final int iKPTensionDegree,
 		final SegmentInelasticDesignControl sdic,
 		final ResponseScalingShapeControl rssc)
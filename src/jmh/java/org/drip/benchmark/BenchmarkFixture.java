@@ -0,0 +1,136 @@
+
+package org.drip.benchmark;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BenchmarkFixture assembles the Market Fixtures shared by the JMH Benchmarks out of the org.drip.sample
+ * 	Builders, so that the Benchmarks time the same Set-ups the Samples exercise. The Deposit and the Swap
+ * 	Instruments of the Shape Preserving Discount Curve come off the lmm MultiFactorLIBORCurveEvolver
+ * 	Sample; the Credit Fixtures are served directly by the credit CDXLossLegIntegration Sample.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BenchmarkFixture {
+
+	/**
+	 * Retrieve the Fixed Spot Date the Benchmark Fixtures are built off of, so that the Schedules, the
+	 * 	Holiday Alignment, and the Calibration Inputs do not shift with the Run Date
+	 * 
+	 * @return The Spot Date
+	 */
+
+	public static final org.drip.analytics.date.JulianDate SpotDate()
+	{
+		return org.drip.analytics.date.DateUtil.CreateFromYMD (2015, org.drip.analytics.date.DateUtil.JUNE,
+			15);
+	}
+
+	/**
+	 * Construct the Deposit, EDF, and Swap Stretches of the MultiFactorLIBORCurveEvolver Sample
+	 * 
+	 * @param dtSpot The Spot Date
+	 * @param strCurrency The Currency
+	 * 
+	 * @return Array of the Deposit, EDF, and Swap Stretches
+	 * 
+	 * @throws java.lang.Exception Thrown if the Stretches cannot be constructed
+	 */
+
+	public static final org.drip.state.inference.LatentStateStretchSpec[] OTCStretchSpec (
+		final org.drip.analytics.date.JulianDate dtSpot,
+		final java.lang.String strCurrency)
+		throws java.lang.Exception
+	{
+		return new org.drip.state.inference.LatentStateStretchSpec[] {
+			org.drip.state.estimator.LatentStateStretchBuilder.ForwardFundingStretchSpec ("DEPOSIT",
+				org.drip.sample.lmm.MultiFactorLIBORCurveEvolver.DepositInstrumentsFromMaturityDays (dtSpot,
+					strCurrency, new int[] {1, 2, 7, 14, 30, 60}), "ForwardRate", new double[] {0.0013,
+						0.0017, 0.0017, 0.0018, 0.0020, 0.0023}),
+			org.drip.state.estimator.LatentStateStretchBuilder.ForwardFundingStretchSpec ("EDF",
+				org.drip.product.creator.SingleStreamComponentBuilder.FuturesPack (dtSpot, 8, strCurrency),
+					"ForwardRate", new double[] {0.0027, 0.0032, 0.0041, 0.0054, 0.0077, 0.0104, 0.0134,
+						0.0160}),
+			org.drip.state.estimator.LatentStateStretchBuilder.ForwardFundingStretchSpec ("SWAP",
+				org.drip.sample.lmm.MultiFactorLIBORCurveEvolver.SwapInstrumentsFromMaturityTenor (dtSpot,
+					strCurrency, new java.lang.String[] {"4Y", "5Y", "6Y", "7Y", "8Y", "9Y", "10Y", "11Y",
+						"12Y", "15Y", "20Y", "25Y", "30Y", "40Y", "50Y"}), "SwapRate", new double[] {0.0166,
+							0.0206, 0.0241, 0.0269, 0.0292, 0.0311, 0.0326, 0.0340, 0.0351, 0.0375, 0.0393,
+								0.0402, 0.0407, 0.0409, 0.0409})
+		};
+	}
+
+	/**
+	 * Construct the Linear Curve Calibrator of the MultiFactorLIBORCurveEvolver Sample - Quartic Polynomial
+	 * 	Basis, C2, Second Order Roughness Penalty, Quadratic Rational Shape Control, Natural Boundary
+	 * 
+	 * @return The Linear Curve Calibrator
+	 * 
+	 * @throws java.lang.Exception Thrown if the Calibrator cannot be constructed
+	 */
+
+	public static final org.drip.state.inference.LinearLatentStateCalibrator OTCCalibrator()
+		throws java.lang.Exception
+	{
+		return new org.drip.state.inference.LinearLatentStateCalibrator
+			(org.drip.sample.stretch.StretchEstimator.PolynomialSegmentControlParams (4,
+				org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), new
+					org.drip.spline.params.ResponseScalingShapeControl (true, new
+						org.drip.function.R1ToR1.QuadraticRationalShapeControl (0.))),
+							org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+								org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE, null, null);
+	}
+
+	/**
+	 * Calibrate the Shape Preserving Discount Curve of the MultiFactorLIBORCurveEvolver Sample
+	 * 
+	 * @param dtSpot The Spot Date
+	 * @param strCurrency The Currency
+	 * 
+	 * @return The Shape Preserving Discount Curve
+	 * 
+	 * @throws java.lang.Exception Thrown if the Discount Curve cannot be calibrated
+	 */
+
+	public static final org.drip.analytics.rates.DiscountCurve OTCDiscountCurve (
+		final org.drip.analytics.date.JulianDate dtSpot,
+		final java.lang.String strCurrency)
+		throws java.lang.Exception
+	{
+		org.drip.analytics.rates.DiscountCurve dc =
+			org.drip.param.creator.ScenarioDiscountCurveBuilder.ShapePreservingDFBuild (OTCCalibrator(),
+				OTCStretchSpec (dtSpot, strCurrency), new org.drip.param.valuation.ValuationParams (dtSpot,
+					dtSpot, strCurrency), null, null, null, 1.);
+
+		if (null == dc)
+			throw new java.lang.Exception ("BenchmarkFixture::OTCDiscountCurve => Cannot calibrate");
+
+		return dc;
+	}
+}
@@ -0,0 +1,96 @@
+
+package org.drip.benchmark.analytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ConventionBenchmark measures the Per-Call Cost of the Holiday Calendar Look-ups of Convention - the
+ * 	Business Day Adjustment under the Following/Modified Following Rules, and the Holiday Test - over a
+ * 	Grid of Calendar Days spanning 10 Years from the Fixture Spot Date, for each of the Calendars in the
+ * 	Parameter Set.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.NANOSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class ConventionBenchmark {
+	private static final int GRID_SIZE = 4096;
+
+	@org.openjdk.jmh.annotations.Param ({"USD", "EUR", "GBP", "JPY"})
+	public java.lang.String _strCalendar;
+
+	private int _iIndex = 0;
+	private double[] _adblDate = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		double dblSpot = org.drip.benchmark.BenchmarkFixture.SpotDate().julian();
+
+		_adblDate = new double[GRID_SIZE];
+
+		for (int i = 0; i < GRID_SIZE; ++i)
+			_adblDate[i] = dblSpot + (i * 3653) / GRID_SIZE;
+	}
+
+	private final int next()
+	{
+		return _iIndex = (_iIndex + 1) & (GRID_SIZE - 1);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double adjustFollowing()
+		throws java.lang.Exception
+	{
+		return org.drip.analytics.daycount.Convention.Adjust (_adblDate[next()], _strCalendar,
+			org.drip.analytics.daycount.Convention.DATE_ROLL_FOLLOWING);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double adjustModifiedFollowing()
+		throws java.lang.Exception
+	{
+		return org.drip.analytics.daycount.Convention.Adjust (_adblDate[next()], _strCalendar,
+			org.drip.analytics.daycount.Convention.DATE_ROLL_MODIFIED_FOLLOWING);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public boolean isHoliday()
+		throws java.lang.Exception
+	{
+		return org.drip.analytics.daycount.Convention.IsHoliday (_adblDate[next()], _strCalendar);
+	}
+}
@@ -0,0 +1,130 @@
+
+package org.drip.benchmark.dynamics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LMMPathBenchmark measures the Cost of Simulating a single Path of the Three Factor Lognormal LIBOR Market
+ * 	Model of the MultiFactorLIBORCurveEvolver Sample - the 3M LIBOR Curve viewed 1Y out, off the Shape
+ * 	Preserving Discount Curve, evolved in Daily Steps over a 1M Simulation Horizon. A Path runs to Seconds,
+ * 	so each Iteration times a single Path.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.SingleShotTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.MILLISECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 3)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10)
+@org.openjdk.jmh.annotations.Fork (1)
+public class LMMPathBenchmark {
+	private static final int NUM_FACTOR = 2;
+	private static final int NUM_FORWARD_TENOR = 5;
+
+	private static final double[][] CORRELATION = new double[][] {
+		{1.0, 0.1, 0.2},
+		{0.1, 1.0, 0.2},
+		{0.2, 0.1, 1.0}
+	};
+
+	private static final double[] FLAT_VOLATILITY = new double[] {
+		0.35, 0.42, 0.27
+	};
+
+	private double _dblSpotDate = java.lang.Double.NaN;
+	private double _dblViewDate = java.lang.Double.NaN;
+	private double _dblSimulationEndDate = java.lang.Double.NaN;
+	private org.drip.dynamics.lmm.BGMCurveUpdate _bgmcuSpot = null;
+	private org.drip.dynamics.lmm.LognormalLIBORCurveEvolver _llce = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		java.lang.String strCurrency = "USD";
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.benchmark.BenchmarkFixture.SpotDate();
+
+		org.drip.analytics.date.JulianDate dtView = dtSpot.addTenor ("1Y");
+
+		org.drip.spline.params.SegmentCustomBuilderControl scbc =
+			org.drip.sample.stretch.StretchEstimator.PolynomialSegmentControlParams (4,
+				org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2), new
+					org.drip.spline.params.ResponseScalingShapeControl (true, new
+						org.drip.function.R1ToR1.QuadraticRationalShapeControl (1.)));
+
+		org.drip.analytics.definition.MarketSurface[] aMS = new
+			org.drip.analytics.definition.MarketSurface[FLAT_VOLATILITY.length];
+
+		for (int i = 0; i < FLAT_VOLATILITY.length; ++i)
+			aMS[i] = org.drip.sample.lmm.MultiFactorLIBORCurveEvolver.FlatVolatilitySurface (dtSpot,
+				strCurrency, FLAT_VOLATILITY[i]);
+
+		org.drip.state.identifier.FundingLabel fundingLabel = org.drip.state.identifier.FundingLabel.Standard
+			(strCurrency);
+
+		org.drip.state.identifier.ForwardLabel forwardLabel = org.drip.state.identifier.ForwardLabel.Create
+			(strCurrency, "3M");
+
+		org.drip.analytics.rates.DiscountCurve dc = org.drip.benchmark.BenchmarkFixture.OTCDiscountCurve
+			(dtSpot, strCurrency);
+
+		_llce = org.drip.dynamics.lmm.LognormalLIBORCurveEvolver.Create (fundingLabel, forwardLabel,
+			NUM_FORWARD_TENOR, scbc);
+
+		_bgmcuSpot = org.drip.dynamics.lmm.BGMCurveUpdate.Create (fundingLabel, forwardLabel, dtSpot.julian(),
+			dtSpot.julian(), org.drip.sample.lmm.MultiFactorLIBORCurveEvolver.LIBORSpan (dc, forwardLabel,
+				scbc, dtView, NUM_FORWARD_TENOR), null, dc, null, null, null, null, null,
+					org.drip.sample.lmm.MultiFactorLIBORCurveEvolver.LLVInstance (dtSpot.julian(),
+						forwardLabel, aMS, CORRELATION, NUM_FACTOR));
+
+		_dblSpotDate = dtSpot.julian();
+
+		_dblViewDate = dtView.julian();
+
+		_dblSimulationEndDate = dtSpot.addTenor ("1M").julian();
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.dynamics.lmm.BGMCurveUpdate path()
+	{
+		double dblSimulationDate = _dblSpotDate;
+		org.drip.dynamics.lmm.BGMCurveUpdate bgmcu = _bgmcuSpot;
+
+		while (dblSimulationDate < _dblSimulationEndDate && null != bgmcu) {
+			bgmcu = _llce.evolve (dblSimulationDate, _dblViewDate, 1. / 365., bgmcu);
+
+			dblSimulationDate += 1.;
+		}
+
+		return bgmcu;
+	}
+}
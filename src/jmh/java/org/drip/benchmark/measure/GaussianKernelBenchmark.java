@@ -0,0 +1,166 @@
+
+package org.drip.benchmark.measure;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * GaussianKernelBenchmark measures the Per-Call Cost of the Standard Normal CDF and Inverse CDF over a fixed
+ * 	Grid of Variates spanning [-8, 8] and of Probabilities spanning (0, 1), for:
+ * 	- The Legacy Taylor Series CDF and Bisection Inverse CDF that Gaussian used to carry.
+ * 	- The Gaussian Entry Points, which now delegate to GaussianKernel under the Exception Contract.
+ * 	- The GaussianKernel Scalar and Bulk Variants.
+ * 
+ * The Accuracy Counterpart is the GaussianKernelAccuracy Sample.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.NANOSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class GaussianKernelBenchmark {
+	private static final int GRID_SIZE = 1024;
+
+	private int _iIndex = 0;
+	private double[] _adblX = null;
+	private double[] _adblP = null;
+	private double[] _adblOut = null;
+
+	@org.openjdk.jmh.annotations.Setup
+	public void setup()
+	{
+		_adblX = new double[GRID_SIZE];
+		_adblP = new double[GRID_SIZE];
+		_adblOut = new double[GRID_SIZE];
+
+		for (int i = 0; i < GRID_SIZE; ++i) {
+			_adblP[i] = (i + 0.5) / GRID_SIZE;
+			_adblX[i] = -8. + 16. * _adblP[i];
+		}
+	}
+
+	private static final double LegacyCDF (
+		final double dblX)
+	{
+		if (dblX < -8.) return 0.;
+
+		if (dblX > 8.) return 1.;
+
+		double dblSum = 0.;
+		double dblTerm = dblX;
+
+		for (int i = 3; dblSum + dblTerm != dblSum; i += 2) {
+			dblSum = dblSum + dblTerm;
+			dblTerm = dblTerm * dblX * dblX / i;
+		}
+
+		return 0.5 + dblSum * java.lang.Math.exp (-0.5 * dblX * dblX) / java.lang.Math.sqrt (2 *
+			java.lang.Math.PI);
+	}
+
+	private static final double LegacyInverseCDF (
+		final double dblY,
+		final double dblLowCutoff,
+		final double dblHighCutoff)
+	{
+		double dblMid = 0.5 * (dblHighCutoff + dblLowCutoff);
+
+		if (dblHighCutoff - dblLowCutoff < .00000001) return dblMid;
+
+		return LegacyCDF (dblMid) > dblY ? LegacyInverseCDF (dblY, dblLowCutoff, dblMid) : LegacyInverseCDF
+			(dblY, dblMid, dblHighCutoff);
+	}
+
+	private final int next()
+	{
+		return _iIndex = (_iIndex + 1) & (GRID_SIZE - 1);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double legacyCDF()
+	{
+		return LegacyCDF (_adblX[next()]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double gaussianCDF()
+		throws java.lang.Exception
+	{
+		return org.drip.measure.continuous.Gaussian.CDF (_adblX[next()]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double kernelCDF()
+	{
+		return org.drip.measure.continuous.GaussianKernel.CDF (_adblX[next()]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double legacyInverseCDF()
+	{
+		return LegacyInverseCDF (_adblP[next()], -8., 8.);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double gaussianInverseCDF()
+		throws java.lang.Exception
+	{
+		return org.drip.measure.continuous.Gaussian.InverseCDF (_adblP[next()]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double kernelInverseCDF()
+	{
+		return org.drip.measure.continuous.GaussianKernel.InverseCDF (_adblP[next()]);
+	}
+
+	/*
+	 * The Bulk Variants are reported per Grid - divide by GRID_SIZE for the Per-Variate Cost
+	 */
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public void kernelBulkCDF (
+		final org.openjdk.jmh.infra.Blackhole bh)
+	{
+		bh.consume (org.drip.measure.continuous.GaussianKernel.CDF (_adblX, _adblOut));
+
+		bh.consume (_adblOut);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public void kernelBulkInverseCDF (
+		final org.openjdk.jmh.infra.Blackhole bh)
+	{
+		bh.consume (org.drip.measure.continuous.GaussianKernel.InverseCDF (_adblP, _adblOut));
+
+		bh.consume (_adblOut);
+	}
+}
@@ -0,0 +1,106 @@
+
+package org.drip.benchmark.product;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondYieldBenchmark measures the Per-Call Cost of the Yield to Maturity Solve off the Price, and of its
+ * 	Inverse, across the Fixed Coupon Bond Set of the CompiledYieldSolve Sample, cycling over the Bonds.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class BondYieldBenchmark {
+	private static final int NUM_BOND = 400;
+
+	private int _iIndex = 0;
+	private double[] _adblPrice = null;
+	private double[] _adblYield = null;
+	private org.drip.product.credit.BondComponent[] _aBond = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.benchmark.BenchmarkFixture.SpotDate();
+
+		_csqs = org.drip.param.creator.MarketParamsBuilder.Create
+			(org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtSpot, "USD", null, 0.03),
+				null, null, null, null, null, null);
+
+		_valParams = org.drip.param.valuation.ValuationParams.Spot (dtSpot, 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+		_aBond = new org.drip.product.credit.BondComponent[NUM_BOND];
+		_adblPrice = new double[NUM_BOND];
+		_adblYield = new double[NUM_BOND];
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			org.drip.analytics.date.JulianDate dtEffective = dtSpot.subtractDays (37 * (i % 50));
+
+			_aBond[i] = org.drip.product.creator.BondBuilder.CreateSimpleFixed ("BOND" + i, "USD", "", 0.02 +
+				0.0001 * (i % 60), 2, "30/360", dtEffective, dtEffective.addYears (6 + i % 25), null, null);
+
+			_adblPrice[i] = _aBond[i].priceFromYield (_valParams, _csqs, null, _adblYield[i] = 0.01 + 0.0001 *
+				(i % 70));
+		}
+	}
+
+	private final int next()
+	{
+		return _iIndex = (_iIndex + 1) % NUM_BOND;
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double yieldFromPrice()
+		throws java.lang.Exception
+	{
+		int i = next();
+
+		return _aBond[i].yieldFromPrice (_valParams, _csqs, null, _adblPrice[i]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double priceFromYield()
+		throws java.lang.Exception
+	{
+		int i = next();
+
+		return _aBond[i].priceFromYield (_valParams, _csqs, null, _adblYield[i]);
+	}
+}
@@ -0,0 +1,105 @@
+
+package org.drip.benchmark.product;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CDSValueBenchmark measures the Per-Call Cost of the Full Measure Set Valuation of the 5Y SNAC CDS of the
+ * 	125 Name CDX-style Constituent Set of the CDXLossLegIntegration Sample, cycling over the Constituents,
+ * 	under the Standard 7 Day Step Loss Quadrature and under the Analytic Loss Leg Integration.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class CDSValueBenchmark {
+	private static final int NUM_NAME = org.drip.sample.credit.CDXLossLegIntegration.NUM_NAME;
+
+	private int _iIndex = 0;
+	private org.drip.product.definition.CreditDefaultSwap[] _aCDS = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet[] _aCSQS = null;
+	private org.drip.param.pricer.CreditPricerParams _pricerParamsDayStep = null;
+	private org.drip.param.pricer.CreditPricerParams _pricerParamsAnalytic = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.benchmark.BenchmarkFixture.SpotDate();
+
+		org.drip.analytics.rates.DiscountCurve dc = org.drip.sample.credit.CDXLossLegIntegration.FundingCurve
+			(dtSpot);
+
+		_aCDS = new org.drip.product.definition.CreditDefaultSwap[NUM_NAME];
+		_aCSQS = new org.drip.param.market.CurveSurfaceQuoteSet[NUM_NAME];
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (dtSpot, "5Y", 0.01, "CDX" + i);
+
+			_aCSQS[i] = org.drip.param.creator.MarketParamsBuilder.Credit (dc,
+				org.drip.sample.credit.CDXLossLegIntegration.ConstituentCurve (dtSpot, i));
+		}
+
+		_valParams = org.drip.param.valuation.ValuationParams.Spot (dtSpot, 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+		_pricerParamsDayStep = org.drip.param.pricer.CreditPricerParams.Standard();
+
+		_pricerParamsAnalytic = new org.drip.param.pricer.CreditPricerParams (7, null, false,
+			org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC);
+	}
+
+	private final int next()
+	{
+		return _iIndex = (_iIndex + 1) % NUM_NAME;
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public java.util.Map<java.lang.String, java.lang.Double> valueDayStep()
+	{
+		int i = next();
+
+		return _aCDS[i].value (_valParams, _pricerParamsDayStep, _aCSQS[i], null);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public java.util.Map<java.lang.String, java.lang.Double> valueAnalytic()
+	{
+		int i = next();
+
+		return _aCDS[i].value (_valParams, _pricerParamsAnalytic, _aCSQS[i], null);
+	}
+}
@@ -0,0 +1,174 @@
+
+package org.drip.benchmark.product;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureVectorBenchmark sets the Per-Call Cost of the Map based Valuation API against that of the
+ * 	MeasureVector it is generated off of, for the CDS Set of the CDSValueBenchmark and for a Yield Quoted
+ * 	Fixed Coupon Bond Set, so that both the Fair and the Market Passes are run. The Measure Assembly Step
+ * 	is also timed on its own, off of a fixed Set of Bond Workout Measures, since the Valuation itself
+ * 	dwarfs it in the full Passes. Run it under the GC Profiler - gradle jmh -PjmhInclude=MeasureVector
+ * 	-PjmhProfiler=gc - and compare the gc.alloc.rate.norm Bytes per Operation across the Map and the
+ * 	Vector Variants.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class MeasureVectorBenchmark {
+	private static final int NUM_BOND = 100;
+	private static final int NUM_NAME = org.drip.sample.credit.CDXLossLegIntegration.NUM_NAME;
+
+	private int _iCDSIndex = 0;
+	private int _iBondIndex = 0;
+	private org.drip.product.credit.BondComponent[] _aBond = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqsBond = null;
+	private org.drip.product.definition.CreditDefaultSwap[] _aCDS = null;
+	private org.drip.analytics.output.BondWorkoutMeasures _bwm = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet[] _aCSQSCDS = null;
+	private org.drip.param.pricer.CreditPricerParams _pricerParams = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.benchmark.BenchmarkFixture.SpotDate();
+
+		org.drip.analytics.rates.DiscountCurve dc = org.drip.sample.credit.CDXLossLegIntegration.FundingCurve
+			(dtSpot);
+
+		_aCDS = new org.drip.product.definition.CreditDefaultSwap[NUM_NAME];
+		_aCSQSCDS = new org.drip.param.market.CurveSurfaceQuoteSet[NUM_NAME];
+
+		for (int i = 0; i < NUM_NAME; ++i) {
+			_aCDS[i] = org.drip.product.creator.CDSBuilder.CreateSNAC (dtSpot, "5Y", 0.01, "CDX" + i);
+
+			_aCSQSCDS[i] = org.drip.param.creator.MarketParamsBuilder.Credit (dc,
+				org.drip.sample.credit.CDXLossLegIntegration.ConstituentCurve (dtSpot, i));
+		}
+
+		_csqsBond = org.drip.param.creator.MarketParamsBuilder.Create
+			(org.drip.state.creator.DiscountCurveBuilder.CreateFromFlatRate (dtSpot, "USD", null, 0.03),
+				null, null, null, null, null, null);
+
+		_aBond = new org.drip.product.credit.BondComponent[NUM_BOND];
+
+		for (int i = 0; i < NUM_BOND; ++i) {
+			org.drip.analytics.date.JulianDate dtEffective = dtSpot.subtractDays (37 * (i % 50));
+
+			_aBond[i] = org.drip.product.creator.BondBuilder.CreateSimpleFixed ("BOND" + i, "USD", "", 0.02 +
+				0.0001 * (i % 60), 2, "30/360", dtEffective, dtEffective.addYears (6 + i % 25), null, null);
+
+			org.drip.param.definition.ProductQuote pq =
+				org.drip.param.creator.QuoteBuilder.CreateProductQuote();
+
+			pq.addQuote ("Yield", org.drip.param.creator.QuoteBuilder.CreateQuote ("mid", 0.01 + 0.0001 * (i
+				% 70), java.lang.Double.NaN), true);
+
+			_csqsBond.setProductQuote (_aBond[i].name(), pq);
+		}
+
+		org.drip.analytics.output.BondCouponMeasures bcmRisky = new
+			org.drip.analytics.output.BondCouponMeasures (0.0005, 0., 0.02, 0.99);
+
+		org.drip.analytics.output.BondCouponMeasures bcmRiskless = new
+			org.drip.analytics.output.BondCouponMeasures (0.0006, 0., 0.03, 1.01);
+
+		_bwm = new org.drip.analytics.output.BondWorkoutMeasures (bcmRisky, bcmRiskless, 0.98, 1., 0.85,
+			0.87, 0.04, 0.4, 0.6, 0.99, 0.39, 0.0001, 0.05, 0., 0.999);
+
+		_valParams = org.drip.param.valuation.ValuationParams.Spot (dtSpot, 0, "",
+			org.drip.analytics.daycount.Convention.DATE_ROLL_ACTUAL);
+
+		_pricerParams = new org.drip.param.pricer.CreditPricerParams (7, null, false,
+			org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC);
+	}
+
+	private final int nextCDS()
+	{
+		return _iCDSIndex = (_iCDSIndex + 1) % NUM_NAME;
+	}
+
+	private final int nextBond()
+	{
+		return _iBondIndex = (_iBondIndex + 1) % NUM_BOND;
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public java.util.Map<java.lang.String, java.lang.Double> cdsValueMap()
+	{
+		int i = nextCDS();
+
+		return _aCDS[i].value (_valParams, _pricerParams, _aCSQSCDS[i], null);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.analytics.support.MeasureVector cdsMeasureVector()
+	{
+		int i = nextCDS();
+
+		return _aCDS[i].measureVector (_valParams, _pricerParams, _aCSQSCDS[i], null);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public java.util.Map<java.lang.String, java.lang.Double> bondValueMap()
+	{
+		return _aBond[nextBond()].value (_valParams, null, _csqsBond, null);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.analytics.support.MeasureVector bondMeasureVector()
+	{
+		return _aBond[nextBond()].measureVector (_valParams, null, _csqsBond, null);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public java.util.Map<java.lang.String, java.lang.Double> bondWorkoutMeasureMap()
+	{
+		return _bwm.toMap ("Fair");
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.analytics.support.MeasureVector bondWorkoutMeasureVector()
+	{
+		org.drip.analytics.support.MeasureVector mv = new org.drip.analytics.support.MeasureVector();
+
+		_bwm.setMeasures (mv, "Fair");
+
+		return mv;
+	}
+}
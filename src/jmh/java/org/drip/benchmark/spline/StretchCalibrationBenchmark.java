@@ -0,0 +1,126 @@
+
+package org.drip.benchmark.spline;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * StretchCalibrationBenchmark measures the Cost of Constructing and Calibrating the Spline Stretch through
+ * 	MultiSegmentSequenceBuilder over the Knots of the StretchEstimator Sample, for the C2 Polynomial,
+ * 	Exponential Tension, and Kaklis-Pandelis Bases under the Quadratic Rational Shape Control and the
+ * 	Natural Boundary.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class StretchCalibrationBenchmark {
+
+	/*
+	 * Predictor/Response Knots of the StretchEstimator Sample Test Sequence
+	 */
+
+	private static final double[] PREDICTOR = new double[] {
+		1.00, 1.50, 2.00, 3.00, 4.00, 5.00, 6.50, 8.00, 10.00
+	};
+
+	private static final double[] RESPONSE = new double[] {
+		25.00, 20.25, 16.00, 9.00, 4.00, 1.00, 0.25, 4.00, 16.00
+	};
+
+	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBCPolynomial = null;
+	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBCKaklisPandelis = null;
+	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBCExponentialTension = null;
+
+	private static final org.drip.spline.params.SegmentCustomBuilderControl[] SegmentControlArray (
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc)
+	{
+		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
+			org.drip.spline.params.SegmentCustomBuilderControl[PREDICTOR.length - 1];
+
+		for (int i = 0; i < aSCBC.length; ++i)
+			aSCBC[i] = scbc;
+
+		return aSCBC;
+	}
+
+	private static final org.drip.spline.stretch.MultiSegmentSequence Calibrate (
+		final org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC)
+	{
+		return org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
+			("SPLINE_STRETCH", PREDICTOR, RESPONSE, aSCBC, null,
+				org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+					org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
+	}
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		org.drip.spline.params.ResponseScalingShapeControl rssc = new
+			org.drip.spline.params.ResponseScalingShapeControl (true, new
+				org.drip.function.R1ToR1.QuadraticRationalShapeControl (1.));
+
+		org.drip.spline.params.SegmentInelasticDesignControl sdic =
+			org.drip.spline.params.SegmentInelasticDesignControl.Create (2, 2);
+
+		_aSCBCPolynomial = SegmentControlArray
+			(org.drip.sample.stretch.StretchEstimator.PolynomialSegmentControlParams (4, sdic, rssc));
+
+		_aSCBCExponentialTension = SegmentControlArray
+			(org.drip.sample.stretch.StretchEstimator.ExponentialTensionSegmentControlParams (1., sdic,
+				rssc));
+
+		_aSCBCKaklisPandelis = SegmentControlArray
+			(org.drip.sample.stretch.StretchEstimator.KaklisPandelisSegmentControlParams (2, sdic, rssc));
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.spline.stretch.MultiSegmentSequence polynomial()
+	{
+		return Calibrate (_aSCBCPolynomial);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.spline.stretch.MultiSegmentSequence exponentialTension()
+	{
+		return Calibrate (_aSCBCExponentialTension);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.spline.stretch.MultiSegmentSequence kaklisPandelis()
+	{
+		return Calibrate (_aSCBCKaklisPandelis);
+	}
+}
@@ -0,0 +1,104 @@
+
+package org.drip.benchmark.state;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CurveBenchmark measures the Per-Call Cost of the Point Look-ups of the Latent State Curves over a Grid of
+ * 	Dates spanning the first 10 Years off the Spot:
+ * 	- The Discount Factor off the Shape Preserving Spline Curve calibrated to the Deposit/EDF/Swap Set of
+ * 		the MultiFactorLIBORCurveEvolver Sample.
+ * 	- The Discount Factor off the Piecewise Flat Forward Curve of the CDXLossLegIntegration Sample.
+ * 	- The Survival off the Piecewise Flat Hazard Curve of the CDXLossLegIntegration Sample.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.NANOSECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 1)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 1)
+@org.openjdk.jmh.annotations.Fork (1)
+public class CurveBenchmark {
+	private static final int GRID_SIZE = 1024;
+
+	private int _iIndex = 0;
+	private double[] _adblDate = null;
+	private org.drip.analytics.definition.CreditCurve _ccHazard = null;
+	private org.drip.analytics.rates.DiscountCurve _dcSpline = null;
+	private org.drip.analytics.rates.DiscountCurve _dcFlatForward = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.benchmark.BenchmarkFixture.SpotDate();
+
+		_dcSpline = org.drip.benchmark.BenchmarkFixture.OTCDiscountCurve (dtSpot, "USD");
+
+		_dcFlatForward = org.drip.sample.credit.CDXLossLegIntegration.FundingCurve (dtSpot);
+
+		_ccHazard = org.drip.sample.credit.CDXLossLegIntegration.ConstituentCurve (dtSpot, 62);
+
+		double dblSpot = dtSpot.julian();
+
+		_adblDate = new double[GRID_SIZE];
+
+		for (int i = 0; i < GRID_SIZE; ++i)
+			_adblDate[i] = dblSpot + 1. + 3652. * (i + 0.5) / GRID_SIZE;
+	}
+
+	private final int next()
+	{
+		return _iIndex = (_iIndex + 1) & (GRID_SIZE - 1);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double splineDF()
+		throws java.lang.Exception
+	{
+		return _dcSpline.df (_adblDate[next()]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double flatForwardDF()
+		throws java.lang.Exception
+	{
+		return _dcFlatForward.df (_adblDate[next()]);
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public double survival()
+		throws java.lang.Exception
+	{
+		return _ccHazard.survival (_adblDate[next()]);
+	}
+}
@@ -0,0 +1,70 @@
+
+package org.drip.benchmark.state;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SpanCalibrationBenchmark measures the Cost of the LinearLatentStateCalibrator Span Calibration of the
+ * 	Shape Preserving Discount Curve off the Deposit/EDF/Swap Stretches of the MultiFactorLIBORCurveEvolver
+ * 	Sample.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+@org.openjdk.jmh.annotations.State (org.openjdk.jmh.annotations.Scope.Thread)
+@org.openjdk.jmh.annotations.BenchmarkMode (org.openjdk.jmh.annotations.Mode.AverageTime)
+@org.openjdk.jmh.annotations.OutputTimeUnit (java.util.concurrent.TimeUnit.MILLISECONDS)
+@org.openjdk.jmh.annotations.Warmup (iterations = 5, time = 2)
+@org.openjdk.jmh.annotations.Measurement (iterations = 10, time = 2)
+@org.openjdk.jmh.annotations.Fork (1)
+public class SpanCalibrationBenchmark {
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.state.inference.LinearLatentStateCalibrator _llsc = null;
+	private org.drip.state.inference.LatentStateStretchSpec[] _aStretchSpec = null;
+
+	@org.openjdk.jmh.annotations.Setup (org.openjdk.jmh.annotations.Level.Trial)
+	public void setup()
+		throws java.lang.Exception
+	{
+		org.drip.service.api.CreditAnalytics.Init ("");
+
+		org.drip.analytics.date.JulianDate dtSpot = org.drip.benchmark.BenchmarkFixture.SpotDate();
+
+		_llsc = org.drip.benchmark.BenchmarkFixture.OTCCalibrator();
+
+		_aStretchSpec = org.drip.benchmark.BenchmarkFixture.OTCStretchSpec (dtSpot, "USD");
+
+		_valParams = new org.drip.param.valuation.ValuationParams (dtSpot, dtSpot, "USD");
+	}
+
+	@org.openjdk.jmh.annotations.Benchmark
+	public org.drip.spline.grid.OverlappingStretchSpan calibrateSpan()
+	{
+		return _llsc.calibrateSpan (_aStretchSpec, 1., _valParams, null, null, null);
+	}
+}
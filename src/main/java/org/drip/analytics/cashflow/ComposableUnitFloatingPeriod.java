@@ -159,6 +159,59 @@ public class ComposableUnitFloatingPeriod extends org.drip.analytics.cashflow.Co
 			_refIndexPeriod.dcf());
 	}
 
+	@Override public int adjointBaseRate (
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == lsat)
+			throw new java.lang.Exception ("ComposableUnitFloatingPeriod::adjointBaseRate => Invalid Inputs");
+
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = lsat.csqs();
+
+		org.drip.state.identifier.ForwardLabel forwardLabel = _refIndexPeriod.forwardLabel();
+
+		org.drip.market.definition.FloaterIndex floaterIndex = forwardLabel.floaterIndex();
+
+		if (!(floaterIndex instanceof org.drip.market.definition.OvernightIndex)) {
+			double dblFixingDate = _refIndexPeriod.fixingDate();
+
+			if (csqs.available (dblFixingDate, forwardLabel))
+				return lsat.tape().leaf (csqs.fixing (dblFixingDate, forwardLabel));
+		} else {
+			org.drip.analytics.date.JulianDate dtValidFixing = lookBackProjectionDate (csqs,
+				(org.drip.market.definition.OvernightIndex) floaterIndex);
+
+			if (null != dtValidFixing) return lsat.tape().leaf (csqs.fixing (dtValidFixing, forwardLabel));
+		}
+
+		double dblReferencePeriodEndDate = _refIndexPeriod.endDate();
+
+		org.drip.analytics.rates.ForwardCurve fc = csqs.forwardCurve (forwardLabel);
+
+		if (null != fc) return lsat.forward (fc, dblReferencePeriodEndDate);
+
+		String strForwardCurrency = forwardLabel.currency();
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve
+			(org.drip.state.identifier.FundingLabel.Standard (strForwardCurrency));
+
+		if (null == dcFunding)
+			throw new java.lang.Exception
+				("ComposableUnitFloatingPeriod::adjointBaseRate => Cannot locate Funding Curve " +
+					strForwardCurrency);
+
+		double dblEpochDate = dcFunding.epoch().julian();
+
+		double dblReferencePeriodStartDate = _refIndexPeriod.startDate();
+
+		if (dblEpochDate > dblReferencePeriodStartDate)
+			dblReferencePeriodEndDate = new org.drip.analytics.date.JulianDate
+				(dblReferencePeriodStartDate = dblEpochDate).addTenor (forwardLabel.tenor()).julian();
+
+		return lsat.libor (dcFunding, dblReferencePeriodStartDate, dblReferencePeriodEndDate,
+			_refIndexPeriod.dcf());
+	}
+
 	@Override public double basis()
 	{
 		return _dblSpread;
@@ -298,6 +298,44 @@ public abstract class ComposableUnitPeriod {
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
 		throws java.lang.Exception;
 
+	/**
+	 * Record the Period Full Coupon Rate on the Adjoint Tape
+	 * 
+	 * @param lsat The Latent State Adjoint Tape
+	 * 
+	 * @return Index of the Full Coupon Rate Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Full Coupon Rate cannot be recorded
+	 */
+
+	public int adjointFullCouponRate (
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		return lsat.tape().affine (adjointBaseRate (lsat), 1., basis());
+	}
+
+	/**
+	 * Record the Period Base Coupon Rate on the Adjoint Tape - by default as a Leaf that does not depend on
+	 * 	any Latent State
+	 * 
+	 * @param lsat The Latent State Adjoint Tape
+	 * 
+	 * @return Index of the Base Coupon Rate Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Base Coupon Rate cannot be recorded
+	 */
+
+	public int adjointBaseRate (
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == lsat)
+			throw new java.lang.Exception ("ComposableUnitPeriod::adjointBaseRate => Invalid Inputs");
+
+		return lsat.tape().leaf (baseRate (lsat.csqs()));
+	}
+
 	/**
 	 * Get the Period Coupon Basis
 	 * 
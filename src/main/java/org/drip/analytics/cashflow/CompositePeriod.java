@@ -835,6 +835,61 @@ public abstract class CompositePeriod {
 		return null;
 	}
 
+	/**
+	 * Record the Full Period Coupon Rate on the Adjoint Tape - the DCF Weighted Unit Rates under Arithmetic
+	 * 	Compounding, and the Compounded Unit Accrual under Geometric Compounding, as couponMetrics does
+	 * 
+	 * @param lsat The Latent State Adjoint Tape
+	 * 
+	 * @return Index of the Full Period Coupon Rate Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Full Period Coupon Rate cannot be recorded
+	 */
+
+	public int adjointCouponRate (
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == lsat)
+			throw new java.lang.Exception ("CompositePeriod::adjointCouponRate => Invalid Inputs");
+
+		int iAccrual = -1;
+		double dblDCF = 0.;
+
+		org.drip.quant.calculus.AdjointTape tape = lsat.tape();
+
+		if (org.drip.analytics.support.CompositePeriodBuilder.ACCRUAL_COMPOUNDING_RULE_ARITHMETIC ==
+			_iAccrualCompoundingRule) {
+			for (org.drip.analytics.cashflow.ComposableUnitPeriod cup : _lsCUP) {
+				double dblUnitDCF = cup.fullCouponDCF();
+
+				int iUnitRate = cup.adjointFullCouponRate (lsat);
+
+				dblDCF += dblUnitDCF;
+				iAccrual = -1 == iAccrual ? tape.affine (iUnitRate, dblUnitDCF, 0.) : tape.linear (iAccrual,
+					1., iUnitRate, dblUnitDCF);
+			}
+
+			return tape.affine (iAccrual, 1. / dblDCF, 0.);
+		}
+
+		if (org.drip.analytics.support.CompositePeriodBuilder.ACCRUAL_COMPOUNDING_RULE_GEOMETRIC ==
+			_iAccrualCompoundingRule) {
+			for (org.drip.analytics.cashflow.ComposableUnitPeriod cup : _lsCUP) {
+				double dblUnitDCF = cup.fullCouponDCF();
+
+				int iUnitAccrual = tape.affine (cup.adjointFullCouponRate (lsat), dblUnitDCF, 1.);
+
+				dblDCF += dblUnitDCF;
+				iAccrual = -1 == iAccrual ? iUnitAccrual : tape.multiply (iAccrual, iUnitAccrual);
+			}
+
+			return tape.affine (iAccrual, 1. / dblDCF, -1. / dblDCF);
+		}
+
+		throw new java.lang.Exception ("CompositePeriod::adjointCouponRate => Unknown Compounding Rule");
+	}
+
 	/**
 	 * Compute the Coupon Accrual DCF to the specified Accrual End Date
 	 * 
@@ -1033,6 +1088,14 @@ public abstract class CompositePeriod {
 
 		double dblPeriodEndDate = dblEndDate < dblWorkoutDate ? dblEndDate : dblWorkoutDate;
 
+		/*
+		 * The Analytic Scheme integrates the Loss Leg without any Quadrature Periods - the Consumers that
+		 * 	need them explicitly get the Day Step Periods
+		 */
+
+		if (org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC == iDiscretizationScheme)
+			iDiscretizationScheme = org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP;
+
 		if (org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP == iDiscretizationScheme &&
 			(null == (lsLQM = org.drip.analytics.support.LossQuadratureGenerator.GenerateDayStepLossPeriods
 				(comp, valParams, this, dblPeriodEndDate, pricerParams.unitSize(), csqs)) || 0 ==
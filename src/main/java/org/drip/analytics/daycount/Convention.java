@@ -101,8 +101,17 @@ public class Convention {
 	private static final int INIT_FROM_HOLS_SOURCE = 4;
 
 	private static int s_iInitHols = INIT_FROM_HOLS_SOURCE;
+	private static int s_iCompiledCalendarEndYear = 2100;
+	private static int s_iCompiledCalendarStartYear = 1970;
+	private static boolean s_bLazyLocHols = false;
 	private static org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>
 		s_mapLocHols = null;
+	private static org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.holset.LocationHoliday>
+		s_mapLocationSnapshot = null;
+
+	private static java.util.concurrent.ConcurrentHashMap<String,
+		org.drip.analytics.eventday.CompiledCalendar> s_mapCompiledCalendar = new
+			java.util.concurrent.ConcurrentHashMap<String, org.drip.analytics.eventday.CompiledCalendar>();
 
 	private static
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.daycount.DCFCalculator>
@@ -157,312 +166,210 @@ public class Convention {
 		return UpdateDCCalcMap (new org.drip.analytics.daycount.DCNL_Act());
 	}
 
-	private static final boolean AddLH (
-		final org.drip.analytics.holset.LocationHoliday lh,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale> mapHols)
+	private static final boolean InitHolsFromSource()
 	{
-		if (null == lh || null == mapHols) return false;
-
-		String strLocation = lh.getHolidayLoc();
-
-		org.drip.analytics.eventday.Locale locHols = lh.getHolidaySet();
-
-		if (null == locHols || null == strLocation || strLocation.isEmpty()) return false;
+		s_mapLocHols = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>();
 
-		mapHols.put (strLocation, locHols);
+		s_mapLocationSnapshot = org.drip.analytics.holset.HolidaySnapshot.LoadResource();
 
-		return true;
+		return s_bLazyLocHols = true;
 	}
 
-	private static final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>
-		SetHolsFromSource()
+	private static final synchronized org.drip.analytics.eventday.Locale LocationLocale (
+		final String strLocation)
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale> mapHols = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>();
-
-		AddLH (new org.drip.analytics.holset.AEDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ANGHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ARAHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ARFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ARNHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ARPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ARSHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ATSHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.AUDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.AZMHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BAKHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BBDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BEFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BGLHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BHDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BMDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BRCHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BRLHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.BSDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CADHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CAEHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CERHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CFFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CHFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CLFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CLUHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CNYHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.COFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CONHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.COPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CRCHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CYPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.CZKHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.DEMHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.DKKHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.DOPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.DTFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ECSHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.EEKHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.EGPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ESBHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ESPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ESTHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.EUBHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.EURHoliday(), mapHols);
+		if (null == s_mapLocHols || null == strLocation || strLocation.isEmpty()) return null;
 
-		AddLH (new org.drip.analytics.holset.GBPHoliday(), mapHols);
+		org.drip.analytics.eventday.Locale lh = s_mapLocHols.get (strLocation);
 
-		AddLH (new org.drip.analytics.holset.GELHoliday(), mapHols);
+		if (null != lh || !s_bLazyLocHols) return lh;
 
-		AddLH (new org.drip.analytics.holset.GFRHoliday(), mapHols);
+		org.drip.analytics.holset.LocationHoliday lhSource = null == s_mapLocationSnapshot ? null :
+			s_mapLocationSnapshot.get (strLocation);
 
-		AddLH (new org.drip.analytics.holset.GRDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.HKDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.HRKHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.HUFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.IBRHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.IDRHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.IEPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.IGPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ILSHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.INRHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.IPCHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.ITLHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.JMDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.JPYHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.KPWHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.KRWHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.KWDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.KYDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.KZTHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.LKRHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.LTLHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.LUFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.LUXHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.LVLHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MDLHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MIXHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MKDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MXCHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MXNHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MXPHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MXVHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.MYRHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.NLGHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.NOKHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.NZDHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.PABHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.PEFHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.PENHoliday(), mapHols);
-
-		AddLH (new org.drip.analytics.holset.PESHoliday(), mapHols);
+		if (null == lhSource && null == (lhSource = org.drip.analytics.holset.LocationHolidayRegistry.Source
+			(strLocation)))
+			return null;
 
-		AddLH (new org.drip.analytics.holset.PHPHoliday(), mapHols);
+		if (null != (lh = lhSource.getHolidaySet())) s_mapLocHols.put (strLocation, lh);
 
-		AddLH (new org.drip.analytics.holset.PLNHoliday(), mapHols);
+		return lh;
+	}
 
-		AddLH (new org.drip.analytics.holset.PLZHoliday(), mapHols);
+	private static final boolean LocationHoliday (
+		final String strCalendarSet,
+		final double dblDate,
+		final int iHolType)
+	{
+		if (null == strCalendarSet || strCalendarSet.isEmpty() || !org.drip.quant.common.NumberUtil.IsValid
+			(dblDate))
+			return false;
 
-		AddLH (new org.drip.analytics.holset.PTEHoliday(), mapHols);
+		String[] astrCalendars = strCalendarSet.split (",");
 
-		AddLH (new org.drip.analytics.holset.QEFHoliday(), mapHols);
+		for (String strCalendar : astrCalendars) {
+			if (null != strCalendar) {
+				org.drip.analytics.eventday.Locale lh = LocationLocale (strCalendar);
 
-		AddLH (new org.drip.analytics.holset.RUBHoliday(), mapHols);
+				if (null == lh) continue;
 
-		AddLH (new org.drip.analytics.holset.RURHoliday(), mapHols);
+				if (0 != (WEEKEND_HOLS & iHolType) && null != lh.weekendDays() && lh.weekendDays().isWeekend
+					(dblDate))
+					return true;
 
-		AddLH (new org.drip.analytics.holset.SARHoliday(), mapHols);
+				if (null == lh.holidays() || 0 == (WEEKDAY_HOLS & iHolType)) continue;
 
-		AddLH (new org.drip.analytics.holset.SEKHoliday(), mapHols);
+				for (org.drip.analytics.eventday.Base hol : lh.holidays()) {
+					try {
+						if (null != hol && (int) dblDate == (int) hol.dateInYear
+							(org.drip.analytics.date.DateUtil.Year (dblDate), true))
+							return true;
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+					}
+				}
+			}
+		}
 
-		AddLH (new org.drip.analytics.holset.SGDHoliday(), mapHols);
+		return false;
+	}
 
-		AddLH (new org.drip.analytics.holset.SITHoliday(), mapHols);
+	private static final String CalendarOrDefault (
+		final String strCalendar)
+	{
+		return null == strCalendar || strCalendar.isEmpty() ? "USD" : strCalendar;
+	}
 
-		AddLH (new org.drip.analytics.holset.SKKHoliday(), mapHols);
+	private static final org.drip.analytics.eventday.CompiledCalendar CompileLocation (
+		final String strLocation)
+	{
+		org.drip.analytics.eventday.CompiledCalendar cc = s_mapCompiledCalendar.get (strLocation);
 
-		AddLH (new org.drip.analytics.holset.SVCHoliday(), mapHols);
+		if (null != cc) return cc;
 
-		AddLH (new org.drip.analytics.holset.TABHoliday(), mapHols);
+		java.util.List<org.drip.analytics.eventday.Locale> lsLocale = new
+			java.util.ArrayList<org.drip.analytics.eventday.Locale>();
 
-		AddLH (new org.drip.analytics.holset.TGTHoliday(), mapHols);
+		org.drip.analytics.eventday.Locale lh = LocationLocale (strLocation);
 
-		AddLH (new org.drip.analytics.holset.THBHoliday(), mapHols);
+		if (null != lh) lsLocale.add (lh);
 
-		AddLH (new org.drip.analytics.holset.TRLHoliday(), mapHols);
+		if (null == (cc = org.drip.analytics.eventday.CompiledCalendar.Create (lsLocale,
+			s_iCompiledCalendarStartYear, s_iCompiledCalendarEndYear)))
+			return null;
 
-		AddLH (new org.drip.analytics.holset.TRYHoliday(), mapHols);
+		org.drip.analytics.eventday.CompiledCalendar ccExisting = s_mapCompiledCalendar.putIfAbsent
+			(strLocation, cc);
 
-		AddLH (new org.drip.analytics.holset.TWDHoliday(), mapHols);
+		return null == ccExisting ? cc : ccExisting;
+	}
 
-		AddLH (new org.drip.analytics.holset.UAHHoliday(), mapHols);
+	private static final double RollForward (
+		final double dblDate,
+		final String strCalendarSet)
+		throws java.lang.Exception
+	{
+		org.drip.analytics.eventday.CompiledCalendar cc = CompiledCalendarSet (CalendarOrDefault
+			(strCalendarSet));
 
-		AddLH (new org.drip.analytics.holset.USDHoliday(), mapHols);
+		if (null != cc && cc.covers (dblDate)) {
+			int iBusinessDay = cc.nextBusinessDay ((int) dblDate);
 
-		AddLH (new org.drip.analytics.holset.USVHoliday(), mapHols);
+			if (-1 != iBusinessDay) return iBusinessDay;
+		}
 
-		AddLH (new org.drip.analytics.holset.UVRHoliday(), mapHols);
+		double dblRolledDate = dblDate;
 
-		AddLH (new org.drip.analytics.holset.UYUHoliday(), mapHols);
+		while (IsHoliday (dblRolledDate, strCalendarSet))
+			++dblRolledDate;
 
-		AddLH (new org.drip.analytics.holset.UYUHoliday(), mapHols);
+		return dblRolledDate;
+	}
 
-		AddLH (new org.drip.analytics.holset.VACHoliday(), mapHols);
+	private static final double RollBackward (
+		final double dblDate,
+		final String strCalendarSet)
+		throws java.lang.Exception
+	{
+		org.drip.analytics.eventday.CompiledCalendar cc = CompiledCalendarSet (CalendarOrDefault
+			(strCalendarSet));
 
-		AddLH (new org.drip.analytics.holset.VEBHoliday(), mapHols);
+		if (null != cc && cc.covers (dblDate)) {
+			int iBusinessDay = cc.previousBusinessDay ((int) dblDate);
 
-		AddLH (new org.drip.analytics.holset.VEFHoliday(), mapHols);
+			if (-1 != iBusinessDay) return iBusinessDay;
+		}
 
-		AddLH (new org.drip.analytics.holset.VNDHoliday(), mapHols);
+		double dblRolledDate = dblDate;
 
-		AddLH (new org.drip.analytics.holset.XDRHoliday(), mapHols);
+		while (IsHoliday (dblRolledDate, strCalendarSet))
+			--dblRolledDate;
 
-		AddLH (new org.drip.analytics.holset.XEUHoliday(), mapHols);
+		return dblRolledDate;
+	}
 
-		AddLH (new org.drip.analytics.holset.ZALHoliday(), mapHols);
+	/**
+	 * Set the Range of Years covered by the Compiled Holiday Calendars. Dates outside of this Range fall
+	 * 	back to the Holiday Rule Evaluation off of the Locale.
+	 * 
+	 * @param iStartYear First Year (Inclusive)
+	 * @param iEndYear Last Year (Inclusive)
+	 * 
+	 * @return Success (true) Failure (false)
+	 */
 
-		AddLH (new org.drip.analytics.holset.ZARHoliday(), mapHols);
+	public static final boolean SetCompiledCalendarRange (
+		final int iStartYear,
+		final int iEndYear)
+	{
+		if (0 >= iStartYear || iStartYear > iEndYear) return false;
 
-		AddLH (new org.drip.analytics.holset.ZUSHoliday(), mapHols);
+		s_iCompiledCalendarStartYear = iStartYear;
+		s_iCompiledCalendarEndYear = iEndYear;
 
-		AddLH (new org.drip.analytics.holset.ZWDHoliday(), mapHols);
+		s_mapCompiledCalendar.clear();
 
-		return mapHols;
+		return true;
 	}
 
-	private static final boolean LocationHoliday (
-		final String strCalendarSet,
-		final double dblDate,
-		final int iHolType)
+	/**
+	 * Retrieve the Compiled Calendar corresponding to the Calendar Set, building and caching it if needed.
+	 * 	Calendar Sets are comma-separated Location Lists, and are compiled as the Union of the Compiled
+	 * 	Locations.
+	 * 
+	 * @param strCalendarSet The Calendar Set
+	 * 
+	 * @return The Compiled Calendar
+	 */
+
+	public static final org.drip.analytics.eventday.CompiledCalendar CompiledCalendarSet (
+		final String strCalendarSet)
 	{
-		if (null == strCalendarSet || strCalendarSet.isEmpty() || !org.drip.quant.common.NumberUtil.IsValid
-			(dblDate))
-			return false;
+		if (null == strCalendarSet || strCalendarSet.isEmpty() || null == s_mapLocHols) return null;
 
-		String[] astrCalendars = strCalendarSet.split (",");
+		org.drip.analytics.eventday.CompiledCalendar cc = s_mapCompiledCalendar.get (strCalendarSet);
 
-		for (String strCalendar : astrCalendars) {
-			if (null != strCalendar && null != s_mapLocHols.get (strCalendar)) {
-				org.drip.analytics.eventday.Locale lh = s_mapLocHols.get (strCalendar);
+		if (null != cc) return cc;
 
-				if (null == lh) continue;
+		if (-1 == strCalendarSet.indexOf (',')) return CompileLocation (strCalendarSet);
 
-				if (0 != (WEEKEND_HOLS & iHolType) && null != lh.weekendDays() && lh.weekendDays().isWeekend
-					(dblDate))
-					return true;
+		java.util.List<org.drip.analytics.eventday.CompiledCalendar> lsCompiledCalendar = new
+			java.util.ArrayList<org.drip.analytics.eventday.CompiledCalendar>();
 
-				if (null == lh.holidays() || 0 == (WEEKDAY_HOLS & iHolType)) continue;
+		for (String strCalendar : strCalendarSet.split (",")) {
+			if (null == (cc = CompileLocation (strCalendar))) return null;
 
-				for (org.drip.analytics.eventday.Base hol : lh.holidays()) {
-					try {
-						if (null != hol && (int) dblDate == (int) hol.dateInYear
-							(org.drip.analytics.date.DateUtil.Year (dblDate), true))
-							return true;
-					} catch (java.lang.Exception e) {
-						e.printStackTrace();
-					}
-				}
-			}
+			lsCompiledCalendar.add (cc);
 		}
 
-		return false;
+		if (null == (cc = org.drip.analytics.eventday.CompiledCalendar.Union (lsCompiledCalendar)))
+			return null;
+
+		org.drip.analytics.eventday.CompiledCalendar ccExisting = s_mapCompiledCalendar.putIfAbsent
+			(strCalendarSet, cc);
+
+		return null == ccExisting ? cc : ccExisting;
 	}
 
 	/**
@@ -478,11 +385,11 @@ public class Convention {
 	{
 		if (!SetDCCalc()) return false;
 
-		if (INIT_FROM_HOLS_SOURCE == s_iInitHols) {
-			if (null == (s_mapLocHols = SetHolsFromSource())) return false;
+		s_mapCompiledCalendar.clear();
 
-			return true;
-		}
+		if (INIT_FROM_HOLS_SOURCE == s_iInitHols) return InitHolsFromSource();
+
+		s_bLazyLocHols = false;
 
 		try {
 			if (INIT_FROM_HOLS_XML == s_iInitHols)
@@ -497,20 +404,33 @@ public class Convention {
 			e.printStackTrace();
 		}
 
-		if (null == s_mapLocHols && null == (s_mapLocHols = SetHolsFromSource()))  return false;
+		if (null == s_mapLocHols && !InitHolsFromSource()) return false;
 
 		return false;
 	}
 
 	/**
-	 * Retrieve the set of holiday locations
+	 * Retrieve the set of holiday locations - when the locations are loaded on demand, this includes the
+	 * 	locations that are yet to be loaded.
 	 * 
 	 * @return Set of holiday locations
 	 */
 
-	public static final java.util.Set<String> HolidayLocations()
+	public static final synchronized java.util.Set<String> HolidayLocations()
 	{
-		return s_mapLocHols.keySet();
+		if (!s_bLazyLocHols) return s_mapLocHols.keySet();
+
+		java.util.Set<String> setLocation = new java.util.TreeSet<String>
+			(java.lang.String.CASE_INSENSITIVE_ORDER);
+
+		setLocation.addAll (s_mapLocHols.keySet());
+
+		setLocation.addAll (java.util.Arrays.asList
+			(org.drip.analytics.holset.LocationHolidayRegistry.Locations()));
+
+		if (null != s_mapLocationSnapshot) setLocation.addAll (s_mapLocationSnapshot.keySet());
+
+		return setLocation;
 	}
 
 	/**
@@ -531,8 +451,8 @@ public class Convention {
 		java.util.Set<java.lang.Integer> si = new java.util.HashSet<java.lang.Integer>();
 
 		for (String strCalendar : astrCalendars) {
-			if (null != strCalendar && null != s_mapLocHols.get (strCalendar)) {
-				org.drip.analytics.eventday.Locale lh = s_mapLocHols.get (strCalendar);
+			if (null != strCalendar) {
+				org.drip.analytics.eventday.Locale lh = LocationLocale (strCalendar);
 
 				if (null == lh || null == lh.weekendDays() || null == lh.weekendDays().days()) continue;
 
@@ -672,27 +592,19 @@ public class Convention {
 
 		double dblRolledDate = dblDate;
 
-		while (0 != iNumDaysToRoll) {
+		if (0 != iNumDaysToRoll) {
 			if (DATE_ROLL_FOLLOWING == iRollMode || DATE_ROLL_MODIFIED_FOLLOWING == iRollMode ||
-				DATE_ROLL_MODIFIED_FOLLOWING_BIMONTHLY == iRollMode) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					++dblRolledDate;
-			}
-
-			if (DATE_ROLL_PREVIOUS == iRollMode || DATE_ROLL_MODIFIED_PREVIOUS == iRollMode) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					--dblRolledDate;
-			}
+				DATE_ROLL_MODIFIED_FOLLOWING_BIMONTHLY == iRollMode)
+				dblRolledDate = RollForward (dblRolledDate, strCalendarSet);
 
-			--iNumDaysToRoll;
+			if (DATE_ROLL_PREVIOUS == iRollMode || DATE_ROLL_MODIFIED_PREVIOUS == iRollMode)
+				dblRolledDate = RollBackward (dblRolledDate, strCalendarSet);
 		}
 
 		if (DATE_ROLL_MODIFIED_FOLLOWING == iRollMode) {
 			if (org.drip.analytics.date.DateUtil.Month (dblDate) != org.drip.analytics.date.DateUtil.Month
-				(dblRolledDate)) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					--dblRolledDate;
-			}
+				(dblRolledDate))
+				dblRolledDate = RollBackward (dblRolledDate, strCalendarSet);
 		}
 
 		if (DATE_ROLL_MODIFIED_FOLLOWING_BIMONTHLY == iRollMode) {
@@ -700,18 +612,14 @@ public class Convention {
 
 			int iRolledDay = org.drip.analytics.date.DateUtil.Day (dblRolledDate);
 
-			if ((15 < iOriginalDay && 15 > iRolledDay) || (15 > iOriginalDay && 15 < iRolledDay)) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					--dblRolledDate;
-			}
+			if ((15 < iOriginalDay && 15 > iRolledDay) || (15 > iOriginalDay && 15 < iRolledDay))
+				dblRolledDate = RollBackward (dblRolledDate, strCalendarSet);
 		}
 
 		if (DATE_ROLL_MODIFIED_PREVIOUS == iRollMode) {
 			if (org.drip.analytics.date.DateUtil.Month (dblDate) != org.drip.analytics.date.DateUtil.Month
-				(dblRolledDate)) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					++dblRolledDate;
-			}
+				(dblRolledDate))
+				dblRolledDate = RollForward (dblRolledDate, strCalendarSet);
 		}
 
 		return dblRolledDate;
@@ -738,8 +646,15 @@ public class Convention {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("Convention::IsHoliday => Cannot a NaN date for holiday!");
 
-		return LocationHoliday ((null == strCalendar || strCalendar.isEmpty() || "".equalsIgnoreCase
-			(strCalendar)) ? "USD" : strCalendar, dblDate, iHolType);
+		String strCalendarSet = CalendarOrDefault (strCalendar);
+
+		org.drip.analytics.eventday.CompiledCalendar cc = CompiledCalendarSet (strCalendarSet);
+
+		if (null != cc && cc.covers (dblDate))
+			return cc.isHoliday ((int) dblDate, 0 != (WEEKEND_HOLS & iHolType), 0 != (WEEKDAY_HOLS &
+				iHolType));
+
+		return LocationHoliday (strCalendarSet, dblDate, iHolType);
 	}
 
 	/**
@@ -785,6 +700,12 @@ public class Convention {
 
 		if (dblStart == dblFinish) return 0;
 
+		org.drip.analytics.eventday.CompiledCalendar cc = CompiledCalendarSet (CalendarOrDefault
+			(strCalendar));
+
+		if (null != cc && cc.covers (dblStart + 1) && cc.covers (dblFinish))
+			return cc.businessDays ((int) dblStart + 1, (int) dblFinish + 1);
+
 		int iNumBusDays = 0;
 		double dblDate = dblStart + 1;
 
@@ -870,6 +791,12 @@ public class Convention {
 			dblBegin = dblFinish;
 		}
 
+		org.drip.analytics.eventday.CompiledCalendar cc = CompiledCalendarSet (CalendarOrDefault
+			(strCalendar));
+
+		if (null != cc && cc.covers (dblBegin) && cc.covers (dblEnd))
+			return cc.holidays ((int) dblBegin, (int) dblEnd);
+
 		while (dblBegin != dblEnd) {
 			if (IsHoliday (dblBegin++, strCalendar)) ++iNumHolidays;
 		}
@@ -898,11 +825,7 @@ public class Convention {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("Convention::Adjust => Cannot adjust a NaN date!");
 
-		double dblDateAdjusted = dblDate;
-
-		while (IsHoliday (dblDateAdjusted, strCalendar)) ++dblDateAdjusted;
-
-		return dblDateAdjusted;
+		return RollForward (dblDate, strCalendar);
 	}
 
 	/**
@@ -934,7 +857,7 @@ public class Convention {
 
 		double dblDate = org.drip.analytics.date.DateUtil.CreateFromYMD (2011, 5, 5).julian();
 
-		org.drip.analytics.eventday.Locale lh = s_mapLocHols.get ("HKD");
+		org.drip.analytics.eventday.Locale lh = LocationLocale ("HKD");
 
 		System.out.println (lh.weekendDays());
 
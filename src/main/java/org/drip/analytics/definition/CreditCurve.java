@@ -164,6 +164,32 @@ public abstract class CreditCurve implements org.drip.analytics.definition.Curve
 		return survival (dt.julian());
 	}
 
+	/**
+	 * Calculate the survival to each of the given dates
+	 * 
+	 * @param adblDate Array of Dates
+	 * 
+	 * @return Array of the Survival Probabilities
+	 * 
+	 * @throws java.lang.Exception Thrown if the survival probabilities cannot be calculated
+	 */
+
+	public double[] survival (
+		final double[] adblDate)
+		throws java.lang.Exception
+	{
+		if (null == adblDate || 0 == adblDate.length)
+			throw new java.lang.Exception ("CreditCurve::survival => Invalid Dates");
+
+		int iNumDate = adblDate.length;
+		double[] adblSurvival = new double[iNumDate];
+
+		for (int i = 0; i < iNumDate; ++i)
+			adblSurvival[i] = survival (adblDate[i]);
+
+		return adblSurvival;
+	}
+
 	/**
 	 * Calculate the survival to the given tenor
 	 * 
@@ -450,6 +476,23 @@ public abstract class CreditCurve implements org.drip.analytics.definition.Curve
 		return hazard (new org.drip.analytics.date.JulianDate (_dblEpochDate).addTenor (strTenor));
 	}
 
+	/**
+	 * Retrieve the Jacobian of the Survival Probability to the given Date with respect to the Curve's
+	 * 	Manifest Measures
+	 * 
+	 * @param dblDate Date
+	 * @param strManifestMeasure Manifest Measure
+	 * 
+	 * @return The Jacobian of the Survival Probability (NULL => Not exposed by the Curve)
+	 */
+
+	public org.drip.quant.calculus.WengertJacobian jackDSurvivalDManifestMeasure (
+		final double dblDate,
+		final String strManifestMeasure)
+	{
+		return null;
+	}
+
 	/**
 	 * Create a flat hazard curve from the inputs
 	 * 
@@ -0,0 +1,398 @@
+
+package org.drip.analytics.eventday;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CompiledCalendar holds the Pre-computed Weekend and Week Day Holiday Bit Sets of one or more Locales over
+ *  a Contiguous Range of Years. It exports the following Functionality:
+ *  - Constant Time Holiday Lookup for any Date inside the Compiled Range
+ *  - Next/Previous Business Day Lookup using Word-level Bit Scans
+ *  - Constant Time Holiday/Business Day Counts between 2 Dates using the Per-Word Holiday Prefix Counts
+ *  - Union of Compiled Calendars into a Calendar Set
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledCalendar {
+	private int _iEndDate = 0;
+	private int _iStartDate = 0;
+	private long[] _alHolidayBit = null;
+	private long[] _alWeekendBit = null;
+	private long[] _alWeekdayHolidayBit = null;
+	private int[] _aiHolidayCountPrefix = null;
+
+	private static final void SetBit (
+		final long[] alBit,
+		final int iIndex)
+	{
+		alBit[iIndex >> 6] |= 1L << (iIndex & 63);
+	}
+
+	private static final boolean IsBitSet (
+		final long[] alBit,
+		final int iIndex)
+	{
+		return 0L != (alBit[iIndex >> 6] & (1L << (iIndex & 63)));
+	}
+
+	/**
+	 * Compile the Weekends and the Week Day Holidays of the specified Locales over the Range of Years
+	 * 
+	 * @param lsLocale List of Locales - may be empty, in which case no Day is a Holiday
+	 * @param iStartYear First Year (Inclusive) of the Compiled Range
+	 * @param iEndYear Last Year (Inclusive) of the Compiled Range
+	 * 
+	 * @return The CompiledCalendar Instance
+	 */
+
+	public static final CompiledCalendar Create (
+		final java.util.List<Locale> lsLocale,
+		final int iStartYear,
+		final int iEndYear)
+	{
+		if (null == lsLocale || iStartYear > iEndYear) return null;
+
+		int iNumYear = iEndYear - iStartYear + 1;
+		int[] aiYearStart = new int[iNumYear + 1];
+
+		try {
+			for (int i = 0; i <= iNumYear; ++i)
+				aiYearStart[i] = (int) org.drip.analytics.date.DateUtil.ToJulian (iStartYear + i,
+					org.drip.analytics.date.DateUtil.JANUARY, 1);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		int iStartDate = aiYearStart[0];
+		int iEndDate = aiYearStart[iNumYear];
+		int iNumWord = ((iEndDate - iStartDate) >> 6) + 1;
+		long[] alWeekendBit = new long[iNumWord];
+		long[] alWeekdayHolidayBit = new long[iNumWord];
+
+		for (Locale loc : lsLocale) {
+			if (null == loc) continue;
+
+			Weekend wkend = loc.weekendDays();
+
+			if (null != wkend) {
+				for (int iDate = iStartDate; iDate < iEndDate; ++iDate) {
+					if (wkend.isWeekend (iDate)) SetBit (alWeekendBit, iDate - iStartDate);
+				}
+			}
+
+			java.util.Set<Base> setHoliday = loc.holidays();
+
+			if (null == setHoliday) continue;
+
+			for (Base hol : setHoliday) {
+				if (null == hol) continue;
+
+				try {
+					if (hol instanceof Static) {
+						int iDate = (int) hol.dateInYear (iStartYear, true);
+
+						if (iDate >= iStartDate && iDate < iEndDate)
+							SetBit (alWeekdayHolidayBit, iDate - iStartDate);
+
+						continue;
+					}
+
+					for (int i = 0; i < iNumYear; ++i) {
+						int iDate = (int) hol.dateInYear (iStartYear + i, true);
+
+						if (iDate >= aiYearStart[i] && iDate < aiYearStart[i + 1])
+							SetBit (alWeekdayHolidayBit, iDate - iStartDate);
+					}
+				} catch (java.lang.Exception e) {
+					e.printStackTrace();
+				}
+			}
+		}
+
+		try {
+			return new CompiledCalendar (iStartDate, iEndDate, alWeekendBit, alWeekdayHolidayBit);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct the Union of the specified Compiled Calendars - all of them must cover the same Range
+	 * 
+	 * @param lsCompiledCalendar List of the Compiled Calendars
+	 * 
+	 * @return The Compiled Calendar Union
+	 */
+
+	public static final CompiledCalendar Union (
+		final java.util.List<CompiledCalendar> lsCompiledCalendar)
+	{
+		if (null == lsCompiledCalendar || 0 == lsCompiledCalendar.size()) return null;
+
+		CompiledCalendar ccFirst = lsCompiledCalendar.get (0);
+
+		if (null == ccFirst) return null;
+
+		int iNumWord = ccFirst._alHolidayBit.length;
+		long[] alWeekendBit = new long[iNumWord];
+		long[] alWeekdayHolidayBit = new long[iNumWord];
+
+		for (CompiledCalendar cc : lsCompiledCalendar) {
+			if (null == cc || cc._iStartDate != ccFirst._iStartDate || cc._iEndDate != ccFirst._iEndDate)
+				return null;
+
+			for (int i = 0; i < iNumWord; ++i) {
+				alWeekendBit[i] |= cc._alWeekendBit[i];
+				alWeekdayHolidayBit[i] |= cc._alWeekdayHolidayBit[i];
+			}
+		}
+
+		try {
+			return new CompiledCalendar (ccFirst._iStartDate, ccFirst._iEndDate, alWeekendBit,
+				alWeekdayHolidayBit);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * CompiledCalendar Constructor
+	 * 
+	 * @param iStartDate Start Date (Inclusive) of the Compiled Range
+	 * @param iEndDate End Date (Exclusive) of the Compiled Range
+	 * @param alWeekendBit Weekend Bit Set, indexed off of the Start Date
+	 * @param alWeekdayHolidayBit Week Day Holiday Bit Set, indexed off of the Start Date
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are invalid
+	 */
+
+	public CompiledCalendar (
+		final int iStartDate,
+		final int iEndDate,
+		final long[] alWeekendBit,
+		final long[] alWeekdayHolidayBit)
+		throws java.lang.Exception
+	{
+		if (iStartDate >= iEndDate || null == alWeekendBit || null == alWeekdayHolidayBit)
+			throw new java.lang.Exception ("CompiledCalendar ctr: Invalid Inputs");
+
+		int iNumWord = ((iEndDate - iStartDate) >> 6) + 1;
+
+		if (iNumWord != alWeekendBit.length || iNumWord != alWeekdayHolidayBit.length)
+			throw new java.lang.Exception ("CompiledCalendar ctr: Invalid Inputs");
+
+		_iEndDate = iEndDate;
+		_iStartDate = iStartDate;
+		_alWeekendBit = alWeekendBit;
+		_alHolidayBit = new long[iNumWord];
+		_aiHolidayCountPrefix = new int[iNumWord + 1];
+		_alWeekdayHolidayBit = alWeekdayHolidayBit;
+
+		for (int i = 0; i < iNumWord; ++i) {
+			_alHolidayBit[i] = _alWeekendBit[i] | _alWeekdayHolidayBit[i];
+
+			_aiHolidayCountPrefix[i + 1] = _aiHolidayCountPrefix[i] + java.lang.Long.bitCount
+				(_alHolidayBit[i]);
+		}
+	}
+
+	/**
+	 * Retrieve the Start Date (Inclusive) of the Compiled Range
+	 * 
+	 * @return The Start Date
+	 */
+
+	public int startDate()
+	{
+		return _iStartDate;
+	}
+
+	/**
+	 * Retrieve the End Date (Exclusive) of the Compiled Range
+	 * 
+	 * @return The End Date
+	 */
+
+	public int endDate()
+	{
+		return _iEndDate;
+	}
+
+	/**
+	 * Indicate if the specified Date is a Whole Day inside the Compiled Range
+	 * 
+	 * @param dblDate The Date
+	 * 
+	 * @return TRUE => The Date is covered by the Compiled Calendar
+	 */
+
+	public boolean covers (
+		final double dblDate)
+	{
+		return dblDate >= _iStartDate && dblDate < _iEndDate && dblDate == (int) dblDate;
+	}
+
+	/**
+	 * Indicate if the specified Date is a Holiday of the given Type
+	 * 
+	 * @param iDate The Date - must lie inside the Compiled Range
+	 * @param bWeekend TRUE => Weekends are Holidays
+	 * @param bWeekday TRUE => Week Day Holidays are Holidays
+	 * 
+	 * @return TRUE => The Date is a Holiday
+	 */
+
+	public boolean isHoliday (
+		final int iDate,
+		final boolean bWeekend,
+		final boolean bWeekday)
+	{
+		int iIndex = iDate - _iStartDate;
+
+		if (bWeekend && bWeekday) return IsBitSet (_alHolidayBit, iIndex);
+
+		return (bWeekend && IsBitSet (_alWeekendBit, iIndex)) || (bWeekday && IsBitSet
+			(_alWeekdayHolidayBit, iIndex));
+	}
+
+	/**
+	 * Indicate if the specified Date is either a Weekend or a Week Day Holiday
+	 * 
+	 * @param iDate The Date - must lie inside the Compiled Range
+	 * 
+	 * @return TRUE => The Date is a Holiday
+	 */
+
+	public boolean isHoliday (
+		final int iDate)
+	{
+		return IsBitSet (_alHolidayBit, iDate - _iStartDate);
+	}
+
+	/**
+	 * Retrieve the First Business Day On or After the specified Date
+	 * 
+	 * @param iDate The Date - must lie inside the Compiled Range
+	 * 
+	 * @return The First Business Day On or After the Date; -1 if none exists inside the Compiled Range
+	 */
+
+	public int nextBusinessDay (
+		final int iDate)
+	{
+		int iIndex = iDate - _iStartDate;
+		int iNumDays = _iEndDate - _iStartDate;
+		int iWord = iIndex >> 6;
+
+		long lOpen = ~_alHolidayBit[iWord] & (-1L << (iIndex & 63));
+
+		while (0L == lOpen) {
+			if (++iWord == _alHolidayBit.length) return -1;
+
+			lOpen = ~_alHolidayBit[iWord];
+		}
+
+		int iBusinessIndex = (iWord << 6) + java.lang.Long.numberOfTrailingZeros (lOpen);
+
+		return iBusinessIndex < iNumDays ? _iStartDate + iBusinessIndex : -1;
+	}
+
+	/**
+	 * Retrieve the Last Business Day On or Before the specified Date
+	 * 
+	 * @param iDate The Date - must lie inside the Compiled Range
+	 * 
+	 * @return The Last Business Day On or Before the Date; -1 if none exists inside the Compiled Range
+	 */
+
+	public int previousBusinessDay (
+		final int iDate)
+	{
+		int iIndex = iDate - _iStartDate;
+		int iWord = iIndex >> 6;
+
+		long lOpen = ~_alHolidayBit[iWord] & (-1L >>> (63 - (iIndex & 63)));
+
+		while (0L == lOpen) {
+			if (--iWord < 0) return -1;
+
+			lOpen = ~_alHolidayBit[iWord];
+		}
+
+		return _iStartDate + (iWord << 6) + 63 - java.lang.Long.numberOfLeadingZeros (lOpen);
+	}
+
+	private int holidaysBefore (
+		final int iIndex)
+	{
+		int iWord = iIndex >> 6;
+		int iBit = iIndex & 63;
+
+		return 0 == iBit ? _aiHolidayCountPrefix[iWord] : _aiHolidayCountPrefix[iWord] +
+			java.lang.Long.bitCount (_alHolidayBit[iWord] & ((1L << iBit) - 1L));
+	}
+
+	/**
+	 * Count the Holidays in the Date Range [iStartDate, iEndDate)
+	 * 
+	 * @param iStartDate Start Date (Inclusive) - must lie inside the Compiled Range
+	 * @param iEndDate End Date (Exclusive) - must lie inside the Compiled Range, or be the Range End
+	 * 
+	 * @return The Number of Holidays
+	 */
+
+	public int holidays (
+		final int iStartDate,
+		final int iEndDate)
+	{
+		return holidaysBefore (iEndDate - _iStartDate) - holidaysBefore (iStartDate - _iStartDate);
+	}
+
+	/**
+	 * Count the Business Days in the Date Range [iStartDate, iEndDate)
+	 * 
+	 * @param iStartDate Start Date (Inclusive) - must lie inside the Compiled Range
+	 * @param iEndDate End Date (Exclusive) - must lie inside the Compiled Range, or be the Range End
+	 * 
+	 * @return The Number of Business Days
+	 */
+
+	public int businessDays (
+		final int iStartDate,
+		final int iEndDate)
+	{
+		return iEndDate - iStartDate - holidays (iStartDate, iEndDate);
+	}
+}
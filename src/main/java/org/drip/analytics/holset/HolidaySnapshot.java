@@ -0,0 +1,434 @@
+
+package org.drip.analytics.holset;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * HolidaySnapshot writes and reads the Compact Binary Snapshot of the Holiday Locations. The Snapshot is
+ * 	generated at Build Time from the Holiday Sources in this Package, and holds for each Location the
+ * 	Weekend Days, a Description Table, and the Packed Julian Days of the Static Holidays, so that the
+ * 	Locale can be materialized on first use without parsing the Date Strings. The Snapshot Layout is:
+ * 	- Header: Magic, Version, Location Count
+ * 	- Index: Location Name and the Location Block Offset for each Location
+ * 	- Location Block: Weekend Days, Description Table, Holiday Julian Days, Holiday Description Indices
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HolidaySnapshot {
+
+	/**
+	 * Name of the Snapshot Resource, relative to this Package
+	 */
+
+	public static final String RESOURCE = "holidays.bin";
+
+	private static final int SNAPSHOT_MAGIC = 0x48534E50;
+	private static final int SNAPSHOT_VERSION = 1;
+
+	static class SnapshotLocationHoliday implements LocationHoliday {
+		private int _iOffset = -1;
+		private String _strLocation = "";
+		private java.nio.ByteBuffer _bb = null;
+
+		SnapshotLocationHoliday (
+			final String strLocation,
+			final java.nio.ByteBuffer bb,
+			final int iOffset)
+		{
+			_bb = bb;
+			_iOffset = iOffset;
+			_strLocation = strLocation;
+		}
+
+		@Override public String getHolidayLoc()
+		{
+			return _strLocation;
+		}
+
+		@Override public org.drip.analytics.eventday.Locale getHolidaySet()
+		{
+			java.nio.ByteBuffer bb = _bb.duplicate();
+
+			bb.position (_iOffset);
+
+			org.drip.analytics.eventday.Locale lh = new org.drip.analytics.eventday.Locale();
+
+			try {
+				int iNumWeekendDay = bb.getInt();
+
+				if (0 != iNumWeekendDay) {
+					int[] aiWeekendDay = new int[iNumWeekendDay];
+
+					for (int i = 0; i < iNumWeekendDay; ++i)
+						aiWeekendDay[i] = bb.getInt();
+
+					if (!lh.addWeekend (aiWeekendDay)) return null;
+				}
+
+				int iNumDescription = bb.getInt();
+
+				String[] astrDescription = new String[iNumDescription];
+
+				for (int i = 0; i < iNumDescription; ++i)
+					astrDescription[i] = GetString (bb);
+
+				int iNumHoliday = bb.getInt();
+
+				int iDescriptionIndexStart = bb.position() + 4 * iNumHoliday;
+
+				for (int i = 0; i < iNumHoliday; ++i) {
+					if (!lh.addStaticHoliday (new org.drip.analytics.date.JulianDate (bb.getInt()),
+						astrDescription[bb.getInt (iDescriptionIndexStart + 4 * i)]))
+						return null;
+				}
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			}
+
+			return lh;
+		}
+	}
+
+	private static final void PutString (
+		final java.io.DataOutputStream dos,
+		final String str)
+		throws java.lang.Exception
+	{
+		byte[] abString = (null == str ? "" : str).getBytes ("UTF-8");
+
+		dos.writeInt (abString.length);
+
+		dos.write (abString);
+	}
+
+	private static final String GetString (
+		final java.nio.ByteBuffer bb)
+		throws java.lang.Exception
+	{
+		byte[] abString = new byte[bb.getInt()];
+
+		bb.get (abString);
+
+		return new String (abString, "UTF-8");
+	}
+
+	private static final byte[] LocationBlock (
+		final org.drip.analytics.eventday.Locale lh)
+		throws java.lang.Exception
+	{
+		java.util.List<java.lang.Integer> lsDate = new java.util.ArrayList<java.lang.Integer>();
+
+		java.util.List<java.lang.Integer> lsDescriptionIndex = new java.util.ArrayList<java.lang.Integer>();
+
+		java.util.Map<String, java.lang.Integer> mapDescriptionIndex = new
+			java.util.LinkedHashMap<String, java.lang.Integer>();
+
+		java.util.Set<org.drip.analytics.eventday.Base> setHoliday = lh.holidays();
+
+		if (null != setHoliday) {
+			for (org.drip.analytics.eventday.Base hol : setHoliday) {
+				if (!(hol instanceof org.drip.analytics.eventday.Static)) return null;
+
+				String strDescription = null == hol.description() ? "" : hol.description();
+
+				java.lang.Integer iDescriptionIndex = mapDescriptionIndex.get (strDescription);
+
+				if (null == iDescriptionIndex)
+					mapDescriptionIndex.put (strDescription, iDescriptionIndex = mapDescriptionIndex.size());
+
+				lsDate.add ((int) hol.dateInYear (0, false));
+
+				lsDescriptionIndex.add (iDescriptionIndex);
+			}
+		}
+
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+		java.io.DataOutputStream dos = new java.io.DataOutputStream (baos);
+
+		org.drip.analytics.eventday.Weekend wkend = lh.weekendDays();
+
+		int[] aiWeekendDay = null == wkend ? null : wkend.days();
+
+		if (null == aiWeekendDay)
+			dos.writeInt (0);
+		else {
+			dos.writeInt (aiWeekendDay.length);
+
+			for (int iWeekendDay : aiWeekendDay)
+				dos.writeInt (iWeekendDay);
+		}
+
+		dos.writeInt (mapDescriptionIndex.size());
+
+		for (String strDescription : mapDescriptionIndex.keySet())
+			PutString (dos, strDescription);
+
+		dos.writeInt (lsDate.size());
+
+		for (int iDate : lsDate)
+			dos.writeInt (iDate);
+
+		for (int iDescriptionIndex : lsDescriptionIndex)
+			dos.writeInt (iDescriptionIndex);
+
+		dos.flush();
+
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Write the Snapshot of the specified Locales. Locales holding Rule-based (non-Static) Holidays cannot
+	 * 	be snapshot, and are left out.
+	 * 
+	 * @param mapLocale Map of the Location Name to the Locale
+	 * @param os The Output Stream
+	 * 
+	 * @return Number of Locations written; -1 on Failure
+	 */
+
+	public static final int Write (
+		final java.util.Map<String, org.drip.analytics.eventday.Locale> mapLocale,
+		final java.io.OutputStream os)
+	{
+		if (null == mapLocale || null == os) return -1;
+
+		java.util.Map<String, byte[]> mapLocationBlock = new java.util.LinkedHashMap<String, byte[]>();
+
+		try {
+			for (java.util.Map.Entry<String, org.drip.analytics.eventday.Locale> me : mapLocale.entrySet()) {
+				String strLocation = me.getKey();
+
+				org.drip.analytics.eventday.Locale lh = me.getValue();
+
+				if (null == strLocation || strLocation.isEmpty() || null == lh) continue;
+
+				byte[] abLocationBlock = LocationBlock (lh);
+
+				if (null != abLocationBlock) mapLocationBlock.put (strLocation, abLocationBlock);
+			}
+
+			java.io.ByteArrayOutputStream baosIndex = new java.io.ByteArrayOutputStream();
+
+			java.io.DataOutputStream dosIndex = new java.io.DataOutputStream (baosIndex);
+
+			for (String strLocation : mapLocationBlock.keySet()) {
+				PutString (dosIndex, strLocation);
+
+				dosIndex.writeInt (0);
+			}
+
+			dosIndex.flush();
+
+			int iOffset = 12 + baosIndex.size();
+
+			java.io.DataOutputStream dos = new java.io.DataOutputStream (new java.io.BufferedOutputStream
+				(os));
+
+			dos.writeInt (SNAPSHOT_MAGIC);
+
+			dos.writeInt (SNAPSHOT_VERSION);
+
+			dos.writeInt (mapLocationBlock.size());
+
+			for (java.util.Map.Entry<String, byte[]> me : mapLocationBlock.entrySet()) {
+				PutString (dos, me.getKey());
+
+				dos.writeInt (iOffset);
+
+				iOffset += me.getValue().length;
+			}
+
+			for (byte[] abLocationBlock : mapLocationBlock.values())
+				dos.write (abLocationBlock);
+
+			dos.flush();
+
+			return mapLocationBlock.size();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Read the Snapshot Index from the Buffer. Only the Index is decoded here - each Location Block is
+	 * 	decoded into its Locale when the Location Holiday Set is requested.
+	 * 
+	 * @param bb The Snapshot Buffer
+	 * 
+	 * @return Map of the Location Name to the Snapshot backed Location Holiday
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<LocationHoliday> Load (
+		final java.nio.ByteBuffer bb)
+	{
+		if (null == bb) return null;
+
+		java.nio.ByteBuffer bbIndex = bb.duplicate();
+
+		try {
+			if (SNAPSHOT_MAGIC != bbIndex.getInt() || SNAPSHOT_VERSION != bbIndex.getInt()) return null;
+
+			int iNumLocation = bbIndex.getInt();
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<LocationHoliday> mapLocationHoliday = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<LocationHoliday>();
+
+			for (int i = 0; i < iNumLocation; ++i) {
+				String strLocation = GetString (bbIndex);
+
+				mapLocationHoliday.put (strLocation, new SnapshotLocationHoliday (strLocation, bb,
+					bbIndex.getInt()));
+			}
+
+			return mapLocationHoliday;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Memory Map the Snapshot File and read its Index
+	 * 
+	 * @param strFile The Snapshot File
+	 * 
+	 * @return Map of the Location Name to the Snapshot backed Location Holiday
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<LocationHoliday> Load (
+		final String strFile)
+	{
+		if (null == strFile || strFile.isEmpty()) return null;
+
+		java.io.RandomAccessFile raf = null;
+
+		try {
+			raf = new java.io.RandomAccessFile (strFile, "r");
+
+			java.nio.channels.FileChannel fc = raf.getChannel();
+
+			return Load (fc.map (java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, fc.size()));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				if (null != raf) raf.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Read the Index of the Snapshot bundled as a Resource with this Package
+	 * 
+	 * @return Map of the Location Name to the Snapshot backed Location Holiday; null if the Resource is
+	 * 	not available
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<LocationHoliday> LoadResource()
+	{
+		java.io.InputStream is = HolidaySnapshot.class.getResourceAsStream (RESOURCE);
+
+		if (null == is) return null;
+
+		try {
+			java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+			byte[] abChunk = new byte[65536];
+			int iNumRead = 0;
+
+			while (-1 != (iNumRead = is.read (abChunk)))
+				baos.write (abChunk, 0, iNumRead);
+
+			return Load (java.nio.ByteBuffer.wrap (baos.toByteArray()));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				is.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Generate the Snapshot File from the Registered Holiday Sources
+	 * 
+	 * @param astrArgs The Snapshot File Path
+	 * 
+	 * @throws java.lang.Exception Thrown if the Snapshot cannot be generated
+	 */
+
+	public static final void main (
+		final String[] astrArgs)
+		throws java.lang.Exception
+	{
+		if (null == astrArgs || 1 != astrArgs.length)
+			throw new java.lang.Exception ("HolidaySnapshot::main => Usage: HolidaySnapshot <Snapshot File>");
+
+		java.util.Map<String, org.drip.analytics.eventday.Locale> mapLocale = new
+			java.util.LinkedHashMap<String, org.drip.analytics.eventday.Locale>();
+
+		for (String strLocation : LocationHolidayRegistry.Locations()) {
+			LocationHoliday lhSource = LocationHolidayRegistry.Source (strLocation);
+
+			if (null != lhSource) mapLocale.put (lhSource.getHolidayLoc(), lhSource.getHolidaySet());
+		}
+
+		java.io.File fSnapshot = new java.io.File (astrArgs[0]);
+
+		if (null != fSnapshot.getParentFile()) fSnapshot.getParentFile().mkdirs();
+
+		java.io.OutputStream os = new java.io.FileOutputStream (fSnapshot);
+
+		try {
+			int iNumLocation = Write (mapLocale, os);
+
+			if (0 > iNumLocation)
+				throw new java.lang.Exception ("HolidaySnapshot::main => Cannot write " + astrArgs[0]);
+
+			System.out.println ("HolidaySnapshot::main => " + iNumLocation + " Locations written to " +
+				astrArgs[0]);
+		} finally {
+			os.close();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+
+package org.drip.analytics.holset;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LocationHolidayRegistry holds the Set of Holiday Locations available from the Holiday Sources in this
+ * 	Package, and instantiates the Source for a given Location only when it is first requested. This keeps
+ * 	the Processes that use only a few Locations from loading/parsing the full Set of Holiday Sources.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LocationHolidayRegistry {
+	private static final String[] s_astrLocation = new String[] {
+		"AED", "ANG", "ARA", "ARF", "ARN", "ARP", "ARS", "ATS", "AUD", "AZM", "BAK", "BBD", "BEF", "BGL",
+		"BHD", "BMD", "BRC", "BRL", "BSD", "CAD", "CAE", "CER", "CFF", "CHF", "CLF", "CLU", "CNY", "COF",
+		"CON", "COP", "CRC", "CYP", "CZK", "DEM", "DKK", "DOP", "DTF", "ECS", "EEK", "EGP", "ESB", "ESP",
+		"EST", "EUB", "EUR", "GBP", "GEL", "GFR", "GRD", "HKD", "HRK", "HUF", "IBR", "IDR", "IEP", "IGP",
+		"ILS", "INR", "IPC", "ITL", "JMD", "JPY", "KPW", "KRW", "KWD", "KYD", "KZT", "LKR", "LTL", "LUF",
+		"LUX", "LVL", "MDL", "MIX", "MKD", "MXC", "MXN", "MXP", "MXV", "MYR", "NLG", "NOK", "NZD", "PAB",
+		"PEF", "PEN", "PES", "PHP", "PLN", "PLZ", "PTE", "QEF", "RUB", "RUR", "SAR", "SEK", "SGD", "SIT",
+		"SKK", "SVC", "TAB", "TGT", "THB", "TRL", "TRY", "TWD", "UAH", "USD", "USV", "UVR", "UYU", "VAC",
+		"VEB", "VEF", "VND", "XDR", "XEU", "ZAL", "ZAR", "ZUS", "ZWD"
+	};
+
+	private static java.util.Set<String> s_setLocation = new java.util.HashSet<String>
+		(java.util.Arrays.asList (s_astrLocation));
+
+	/**
+	 * Retrieve the Array of the Registered Holiday Locations
+	 * 
+	 * @return Array of the Registered Holiday Locations
+	 */
+
+	public static final String[] Locations()
+	{
+		String[] astrLocation = new String[s_astrLocation.length];
+
+		for (int i = 0; i < s_astrLocation.length; ++i)
+			astrLocation[i] = s_astrLocation[i];
+
+		return astrLocation;
+	}
+
+	/**
+	 * Indicate if the Location is Registered
+	 * 
+	 * @param strLocation The Location
+	 * 
+	 * @return TRUE => The Location is Registered
+	 */
+
+	public static final boolean IsRegistered (
+		final String strLocation)
+	{
+		return null != strLocation && s_setLocation.contains (strLocation.toUpperCase());
+	}
+
+	/**
+	 * Instantiate the Holiday Source for the specified Location
+	 * 
+	 * @param strLocation The Location
+	 * 
+	 * @return The Holiday Source for the Location - null if the Location is not Registered
+	 */
+
+	public static final LocationHoliday Source (
+		final String strLocation)
+	{
+		if (!IsRegistered (strLocation)) return null;
+
+		try {
+			return (LocationHoliday) java.lang.Class.forName ("org.drip.analytics.holset." +
+				strLocation.toUpperCase() + "Holiday").getDeclaredConstructor().newInstance();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,245 @@
+
+package org.drip.analytics.output;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * AdjointSensitivity holds the Output of a single Backward Sweep over a recorded Valuation - the Value of
+ * 	the Output, and the WengertJacobian of the Output to the Manifest Measures of each Funding, Forward,
+ * 	and Credit Curve read by the Valuation, keyed by the Fully Qualified Name of the Curve's Latent State
+ * 	Label.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AdjointSensitivity {
+	private String _strManifestMeasure = "";
+	private double _dblValue = java.lang.Double.NaN;
+
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+		_mapCredit = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>();
+
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+		_mapForward = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>();
+
+	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+		_mapFunding = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>();
+
+	private static final boolean Add (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+			mapSensitivity,
+		final String strLabel,
+		final org.drip.quant.calculus.WengertJacobian wj)
+	{
+		if (null == strLabel || strLabel.isEmpty() || null == wj) return false;
+
+		org.drip.quant.calculus.WengertJacobian wjExisting = mapSensitivity.get (strLabel);
+
+		if (null == wjExisting) {
+			mapSensitivity.put (strLabel, wj);
+
+			return true;
+		}
+
+		return wjExisting.numParameters() == wj.numParameters() && wjExisting.cumulativeMerge (wj);
+	}
+
+	/**
+	 * AdjointSensitivity Constructor
+	 * 
+	 * @param dblValue The Value of the Output
+	 * @param strManifestMeasure The Manifest Measure the Sensitivities are taken to
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public AdjointSensitivity (
+		final double dblValue,
+		final String strManifestMeasure)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblValue = dblValue))
+			throw new java.lang.Exception ("AdjointSensitivity ctr: Invalid Inputs");
+
+		_strManifestMeasure = strManifestMeasure;
+	}
+
+	/**
+	 * Retrieve the Value of the Output
+	 * 
+	 * @return The Value of the Output
+	 */
+
+	public double value()
+	{
+		return _dblValue;
+	}
+
+	/**
+	 * Retrieve the Manifest Measure the Sensitivities are taken to
+	 * 
+	 * @return The Manifest Measure
+	 */
+
+	public String manifestMeasure()
+	{
+		return _strManifestMeasure;
+	}
+
+	/**
+	 * Add (or accumulate into) the Sensitivity to the Manifest Measures of the specified Funding Curve
+	 * 
+	 * @param strLabel Fully Qualified Name of the Funding Label
+	 * @param wj The Sensitivity WengertJacobian
+	 * 
+	 * @return TRUE => The Sensitivity has been successfully added
+	 */
+
+	public boolean addFundingSensitivity (
+		final String strLabel,
+		final org.drip.quant.calculus.WengertJacobian wj)
+	{
+		return Add (_mapFunding, strLabel, wj);
+	}
+
+	/**
+	 * Add (or accumulate into) the Sensitivity to the Manifest Measures of the specified Forward Curve
+	 * 
+	 * @param strLabel Fully Qualified Name of the Forward Label
+	 * @param wj The Sensitivity WengertJacobian
+	 * 
+	 * @return TRUE => The Sensitivity has been successfully added
+	 */
+
+	public boolean addForwardSensitivity (
+		final String strLabel,
+		final org.drip.quant.calculus.WengertJacobian wj)
+	{
+		return Add (_mapForward, strLabel, wj);
+	}
+
+	/**
+	 * Add (or accumulate into) the Sensitivity to the Manifest Measures of the specified Credit Curve
+	 * 
+	 * @param strLabel Fully Qualified Name of the Credit Label
+	 * @param wj The Sensitivity WengertJacobian
+	 * 
+	 * @return TRUE => The Sensitivity has been successfully added
+	 */
+
+	public boolean addCreditSensitivity (
+		final String strLabel,
+		final org.drip.quant.calculus.WengertJacobian wj)
+	{
+		return Add (_mapCredit, strLabel, wj);
+	}
+
+	/**
+	 * Retrieve the Sensitivity to the Manifest Measures of the specified Funding Curve
+	 * 
+	 * @param fundingLabel The Funding Label
+	 * 
+	 * @return The Sensitivity WengertJacobian (NULL => The Curve has not been read, or does not expose its
+	 * 	Jacobian)
+	 */
+
+	public org.drip.quant.calculus.WengertJacobian fundingSensitivity (
+		final org.drip.state.identifier.FundingLabel fundingLabel)
+	{
+		return null == fundingLabel ? null : _mapFunding.get (fundingLabel.fullyQualifiedName());
+	}
+
+	/**
+	 * Retrieve the Sensitivity to the Manifest Measures of the specified Forward Curve
+	 * 
+	 * @param forwardLabel The Forward Label
+	 * 
+	 * @return The Sensitivity WengertJacobian (NULL => The Curve has not been read, or does not expose its
+	 * 	Jacobian)
+	 */
+
+	public org.drip.quant.calculus.WengertJacobian forwardSensitivity (
+		final org.drip.state.identifier.ForwardLabel forwardLabel)
+	{
+		return null == forwardLabel ? null : _mapForward.get (forwardLabel.fullyQualifiedName());
+	}
+
+	/**
+	 * Retrieve the Sensitivity to the Manifest Measures of the specified Credit Curve
+	 * 
+	 * @param creditLabel The Credit Label
+	 * 
+	 * @return The Sensitivity WengertJacobian (NULL => The Curve has not been read, or does not expose its
+	 * 	Jacobian)
+	 */
+
+	public org.drip.quant.calculus.WengertJacobian creditSensitivity (
+		final org.drip.state.identifier.CreditLabel creditLabel)
+	{
+		return null == creditLabel ? null : _mapCredit.get (creditLabel.fullyQualifiedName());
+	}
+
+	/**
+	 * Retrieve the Funding Curve Sensitivities, keyed by the Fully Qualified Name of the Label
+	 * 
+	 * @return The Funding Curve Sensitivities
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+		fundingSensitivity()
+	{
+		return _mapFunding;
+	}
+
+	/**
+	 * Retrieve the Forward Curve Sensitivities, keyed by the Fully Qualified Name of the Label
+	 * 
+	 * @return The Forward Curve Sensitivities
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+		forwardSensitivity()
+	{
+		return _mapForward;
+	}
+
+	/**
+	 * Retrieve the Credit Curve Sensitivities, keyed by the Fully Qualified Name of the Label
+	 * 
+	 * @return The Credit Curve Sensitivities
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.quant.calculus.WengertJacobian>
+		creditSensitivity()
+	{
+		return _mapCredit;
+	}
+}
@@ -41,6 +41,14 @@ package org.drip.analytics.output;
  */
 
 public class BondCouponMeasures {
+	private static final int MEASURE_COUPON_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CouponPV");
+	private static final int MEASURE_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("DV01");
+	private static final int MEASURE_INDEX_COUPON_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("IndexCouponPV");
+	private static final int MEASURE_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("PV");
 	private double _dblDV01 = java.lang.Double.NaN;
 	private double _dblIndexCouponPV = java.lang.Double.NaN;
 	private double _dblCouponPV = java.lang.Double.NaN;
@@ -180,6 +188,32 @@ public class BondCouponMeasures {
 		return true;
 	}
 
+	/**
+	 * Set the Measures onto the specified MeasureVector, under their (optionally Prefixed) Measure IDs
+	 * 
+	 * @param mv The MeasureVector
+	 * @param strPrefix Measure name prefix
+	 * 
+	 * @return TRUE => The Measures have been set
+	 */
+
+	public boolean setMeasures (
+		final org.drip.analytics.support.MeasureVector mv,
+		final String strPrefix)
+	{
+		if (null == mv) return false;
+
+		mv.setPrefixed (strPrefix, MEASURE_DV01, _dblDV01);
+
+		mv.setPrefixed (strPrefix, MEASURE_INDEX_COUPON_PV, _dblIndexCouponPV);
+
+		mv.setPrefixed (strPrefix, MEASURE_COUPON_PV, _dblCouponPV);
+
+		mv.setPrefixed (strPrefix, MEASURE_PV, _dblPV);
+
+		return true;
+	}
+
 	/**
 	 * Return the state as a named measure map
 	 * 
@@ -44,6 +44,58 @@ package org.drip.analytics.output;
  */
 
 public class BondRVMeasures {
+	private static final int MEASURE_ASW =
+		org.drip.analytics.support.MeasureRegistry.ID ("ASW");
+	private static final int MEASURE_ASSET_SWAP_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("AssetSwapSpread");
+	private static final int MEASURE_BOND_BASIS =
+		org.drip.analytics.support.MeasureRegistry.ID ("BondBasis");
+	private static final int MEASURE_CONVEXITY =
+		org.drip.analytics.support.MeasureRegistry.ID ("Convexity");
+	private static final int MEASURE_CREDIT_BASIS =
+		org.drip.analytics.support.MeasureRegistry.ID ("CreditBasis");
+	private static final int MEASURE_DISCOUNT_MARGIN =
+		org.drip.analytics.support.MeasureRegistry.ID ("DiscountMargin");
+	private static final int MEASURE_DURATION =
+		org.drip.analytics.support.MeasureRegistry.ID ("Duration");
+	private static final int MEASURE_G_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("GSpread");
+	private static final int MEASURE_I_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("ISpread");
+	private static final int MEASURE_MACAULAY_DURATION =
+		org.drip.analytics.support.MeasureRegistry.ID ("MacaulayDuration");
+	private static final int MEASURE_MODIFIED_DURATION =
+		org.drip.analytics.support.MeasureRegistry.ID ("ModifiedDuration");
+	private static final int MEASURE_OAS =
+		org.drip.analytics.support.MeasureRegistry.ID ("OAS");
+	private static final int MEASURE_OA_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("OASpread");
+	private static final int MEASURE_OPTION_ADJUSTED_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("OptionAdjustedSpread");
+	private static final int MEASURE_PECS =
+		org.drip.analytics.support.MeasureRegistry.ID ("PECS");
+	private static final int MEASURE_PRICE =
+		org.drip.analytics.support.MeasureRegistry.ID ("Price");
+	private static final int MEASURE_TSY_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("TSYSpread");
+	private static final int MEASURE_WORKOUT_DATE =
+		org.drip.analytics.support.MeasureRegistry.ID ("WorkoutDate");
+	private static final int MEASURE_WORKOUT_FACTOR =
+		org.drip.analytics.support.MeasureRegistry.ID ("WorkoutFactor");
+	private static final int MEASURE_WORKOUT_TYPE =
+		org.drip.analytics.support.MeasureRegistry.ID ("WorkoutType");
+	private static final int MEASURE_WORKOUT_YIELD =
+		org.drip.analytics.support.MeasureRegistry.ID ("WorkoutYield");
+	private static final int MEASURE_YIELD =
+		org.drip.analytics.support.MeasureRegistry.ID ("Yield");
+	private static final int MEASURE_YIELD_01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("Yield01");
+	private static final int MEASURE_YIELD_BASIS =
+		org.drip.analytics.support.MeasureRegistry.ID ("YieldBasis");
+	private static final int MEASURE_YIELD_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("YieldSpread");
+	private static final int MEASURE_Z_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("ZSpread");
 	private double _dblPECS = java.lang.Double.NaN;
 	private double _dblPrice = java.lang.Double.NaN;
 	private double _dblGSpread = java.lang.Double.NaN;
@@ -299,71 +351,88 @@ public class BondRVMeasures {
 	}
 
 	/**
-	 * Return the state as a measure map
+	 * Set the Measures onto the specified MeasureVector, under their (optionally Prefixed) Measure IDs
 	 * 
-	 * @param strPrefix RV Measure name prefix
+	 * @param mv The MeasureVector
+	 * @param strPrefix Measure name prefix
 	 * 
-	 * @return Map of the RV measures
+	 * @return TRUE => The Measures have been set
 	 */
 
-	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
+	public boolean setMeasures (
+		final org.drip.analytics.support.MeasureVector mv,
 		final String strPrefix)
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapRVMeasures = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		if (null == mv) return false;
+
+		mv.setPrefixed (strPrefix, MEASURE_ASSET_SWAP_SPREAD, _dblAssetSwapSpread);
 
-		mapRVMeasures.put (strPrefix + "AssetSwapSpread", _dblAssetSwapSpread);
+		mv.setPrefixed (strPrefix, MEASURE_ASW, _dblAssetSwapSpread);
 
-		mapRVMeasures.put (strPrefix + "ASW", _dblAssetSwapSpread);
+		mv.setPrefixed (strPrefix, MEASURE_BOND_BASIS, _dblBondBasis);
 
-		mapRVMeasures.put (strPrefix + "BondBasis", _dblBondBasis);
+		mv.setPrefixed (strPrefix, MEASURE_CONVEXITY, _dblConvexity);
 
-		mapRVMeasures.put (strPrefix + "Convexity", _dblConvexity);
+		mv.setPrefixed (strPrefix, MEASURE_CREDIT_BASIS, _dblCreditBasis);
 
-		mapRVMeasures.put (strPrefix + "CreditBasis", _dblCreditBasis);
+		mv.setPrefixed (strPrefix, MEASURE_DISCOUNT_MARGIN, _dblDiscountMargin);
 
-		mapRVMeasures.put (strPrefix + "DiscountMargin", _dblDiscountMargin);
+		mv.setPrefixed (strPrefix, MEASURE_DURATION, _dblModifiedDuration);
 
-		mapRVMeasures.put (strPrefix + "Duration", _dblModifiedDuration);
+		mv.setPrefixed (strPrefix, MEASURE_G_SPREAD, _dblGSpread);
 
-		mapRVMeasures.put (strPrefix + "GSpread", _dblGSpread);
+		mv.setPrefixed (strPrefix, MEASURE_I_SPREAD, _dblISpread);
 
-		mapRVMeasures.put (strPrefix + "ISpread", _dblISpread);
+		mv.setPrefixed (strPrefix, MEASURE_MACAULAY_DURATION, _dblMacaulayDuration);
 
-		mapRVMeasures.put (strPrefix + "MacaulayDuration", _dblMacaulayDuration);
+		mv.setPrefixed (strPrefix, MEASURE_MODIFIED_DURATION, _dblModifiedDuration);
 
-		mapRVMeasures.put (strPrefix + "ModifiedDuration", _dblModifiedDuration);
+		mv.setPrefixed (strPrefix, MEASURE_OAS, _dblOASpread);
 
-		mapRVMeasures.put (strPrefix + "OAS", _dblOASpread);
+		mv.setPrefixed (strPrefix, MEASURE_OA_SPREAD, _dblOASpread);
 
-		mapRVMeasures.put (strPrefix + "OASpread", _dblOASpread);
+		mv.setPrefixed (strPrefix, MEASURE_OPTION_ADJUSTED_SPREAD, _dblOASpread);
 
-		mapRVMeasures.put (strPrefix + "OptionAdjustedSpread", _dblOASpread);
+		mv.setPrefixed (strPrefix, MEASURE_PECS, _dblPECS);
 
-		mapRVMeasures.put (strPrefix + "PECS", _dblPECS);
+		mv.setPrefixed (strPrefix, MEASURE_PRICE, _dblPrice);
 
-		mapRVMeasures.put (strPrefix + "Price", _dblPrice);
+		mv.setPrefixed (strPrefix, MEASURE_TSY_SPREAD, _dblTSYSpread);
 
-		mapRVMeasures.put (strPrefix + "TSYSpread", _dblTSYSpread);
+		mv.setPrefixed (strPrefix, MEASURE_WORKOUT_DATE, _wi.date());
 
-		mapRVMeasures.put (strPrefix + "WorkoutDate", _wi.date());
+		mv.setPrefixed (strPrefix, MEASURE_WORKOUT_FACTOR, _wi.factor());
 
-		mapRVMeasures.put (strPrefix + "WorkoutFactor", _wi.factor());
+		mv.setPrefixed (strPrefix, MEASURE_WORKOUT_TYPE, (double) _wi.type());
 
-		mapRVMeasures.put (strPrefix + "WorkoutType", (double) _wi.type());
+		mv.setPrefixed (strPrefix, MEASURE_WORKOUT_YIELD, _wi.yield());
 
-		mapRVMeasures.put (strPrefix + "WorkoutYield", _wi.yield());
+		mv.setPrefixed (strPrefix, MEASURE_YIELD, _wi.yield());
 
-		mapRVMeasures.put (strPrefix + "Yield", _wi.yield());
+		mv.setPrefixed (strPrefix, MEASURE_YIELD_01, _dblYield01);
 
-		mapRVMeasures.put (strPrefix + "Yield01", _dblYield01);
+		mv.setPrefixed (strPrefix, MEASURE_YIELD_BASIS, _dblBondBasis);
 
-		mapRVMeasures.put (strPrefix + "YieldBasis", _dblBondBasis);
+		mv.setPrefixed (strPrefix, MEASURE_YIELD_SPREAD, _dblBondBasis);
 
-		mapRVMeasures.put (strPrefix + "YieldSpread", _dblBondBasis);
+		mv.setPrefixed (strPrefix, MEASURE_Z_SPREAD, _dblZSpread);
+
+		return true;
+	}
+
+	/**
+	 * Return the state as a measure map
+	 * 
+	 * @param strPrefix RV Measure name prefix
+	 * 
+	 * @return Map of the RV measures
+	 */
 
-		mapRVMeasures.put (strPrefix + "ZSpread", _dblZSpread);
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
+		final String strPrefix)
+	{
+		org.drip.analytics.support.MeasureVector mv = new org.drip.analytics.support.MeasureVector();
 
-		return mapRVMeasures;
+		return setMeasures (mv, strPrefix) ? mv.toMap() : null;
 	}
 }
@@ -44,6 +44,60 @@ package org.drip.analytics.output;
  */
 
 public class BondWorkoutMeasures {
+	private static final int MEASURE_ACCRUED =
+		org.drip.analytics.support.MeasureRegistry.ID ("Accrued");
+	private static final int MEASURE_ACCRUED_01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("Accrued01");
+	private static final int MEASURE_CLEAN_COUPON_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanCouponPV");
+	private static final int MEASURE_CLEAN_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanDV01");
+	private static final int MEASURE_CLEAN_INDEX_COUPON_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanIndexCouponPV");
+	private static final int MEASURE_CLEAN_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanPV");
+	private static final int MEASURE_CLEAN_PRICE =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanPrice");
+	private static final int MEASURE_CREDIT_RISKLESS_PAR_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CreditRisklessParPV");
+	private static final int MEASURE_CREDIT_RISKLESS_PRINCIPAL_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CreditRisklessPrincipalPV");
+	private static final int MEASURE_CREDIT_RISKY_PAR_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CreditRiskyParPV");
+	private static final int MEASURE_CREDIT_RISKY_PRINCIPAL_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CreditRiskyPrincipalPV");
+	private static final int MEASURE_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("DV01");
+	private static final int MEASURE_DEFAULT_EXPOSURE =
+		org.drip.analytics.support.MeasureRegistry.ID ("DefaultExposure");
+	private static final int MEASURE_DEFAULT_EXPOSURE_NO_REC =
+		org.drip.analytics.support.MeasureRegistry.ID ("DefaultExposureNoRec");
+	private static final int MEASURE_DIRTY_COUPON_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyCouponPV");
+	private static final int MEASURE_DIRTY_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyDV01");
+	private static final int MEASURE_DIRTY_INDEX_COUPON_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyIndexCouponPV");
+	private static final int MEASURE_DIRTY_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyPV");
+	private static final int MEASURE_DIRTY_PRICE =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyPrice");
+	private static final int MEASURE_EXPECTED_RECOVERY =
+		org.drip.analytics.support.MeasureRegistry.ID ("ExpectedRecovery");
+	private static final int MEASURE_FIRST_COUPON_RATE =
+		org.drip.analytics.support.MeasureRegistry.ID ("FirstCouponRate");
+	private static final int MEASURE_FIRST_INDEX_RATE =
+		org.drip.analytics.support.MeasureRegistry.ID ("FirstIndexRate");
+	private static final int MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT =
+		org.drip.analytics.support.MeasureRegistry.ID ("LossOnInstantaneousDefault");
+	private static final int MEASURE_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("PV");
+	private static final int MEASURE_PAR_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("ParPV");
+	private static final int MEASURE_PRINCIPAL_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("PrincipalPV");
+	private static final int MEASURE_RECOVERY_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("RecoveryPV");
 	private double _dblAccrued01 = java.lang.Double.NaN;
 	private double _dblRecoveryPV = java.lang.Double.NaN;
 	private BondCouponMeasures _bcmCreditRiskyClean = null;
@@ -318,115 +372,128 @@ public class BondWorkoutMeasures {
 	}
 
 	/**
-	 * Return the state as a measure map
+	 * Set the Measures onto the specified MeasureVector, under their (optionally Prefixed) Measure IDs
 	 * 
+	 * @param mv The MeasureVector
 	 * @param strPrefix Measure name prefix
 	 * 
-	 * @return Map of the measures
+	 * @return TRUE => The Measures have been set
 	 */
 
-	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
+	public boolean setMeasures (
+		final org.drip.analytics.support.MeasureVector mv,
 		final String strPrefix)
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		if (null == mv) return false;
 
-		mapMeasures.put (strPrefix + "Accrued", _dblAccrued01 * _dblFirstCouponRate);
+		mv.setPrefixed (strPrefix, MEASURE_ACCRUED, _dblAccrued01 * _dblFirstCouponRate);
 
-		mapMeasures.put (strPrefix + "Accrued01", _dblAccrued01);
+		mv.setPrefixed (strPrefix, MEASURE_ACCRUED_01, _dblAccrued01);
 
-		mapMeasures.put (strPrefix + "CleanCouponPV", _bcmCreditRisklessClean.couponPV());
+		mv.setPrefixed (strPrefix, MEASURE_CLEAN_COUPON_PV, _bcmCreditRisklessClean.couponPV());
 
-		mapMeasures.put (strPrefix + "CleanDV01", _bcmCreditRisklessClean.dv01());
+		mv.setPrefixed (strPrefix, MEASURE_CLEAN_DV01, _bcmCreditRisklessClean.dv01());
 
-		mapMeasures.put (strPrefix + "CleanIndexCouponPV", _bcmCreditRisklessClean.indexCouponPV());
+		mv.setPrefixed (strPrefix, MEASURE_CLEAN_INDEX_COUPON_PV, _bcmCreditRisklessClean.indexCouponPV());
 
-		mapMeasures.put (strPrefix + "CleanPrice", _bcmCreditRisklessClean.pv());
+		mv.setPrefixed (strPrefix, MEASURE_CLEAN_PRICE, _bcmCreditRisklessClean.pv());
 
-		mapMeasures.put (strPrefix + "CleanPV", _bcmCreditRisklessClean.pv());
+		mv.setPrefixed (strPrefix, MEASURE_CLEAN_PV, _bcmCreditRisklessClean.pv());
 
-		mapMeasures.put (strPrefix + "CreditRisklessParPV", _dblCreditRisklessParPV);
+		mv.setPrefixed (strPrefix, MEASURE_CREDIT_RISKLESS_PAR_PV, _dblCreditRisklessParPV);
 
-		mapMeasures.put (strPrefix + "CreditRisklessPrincipalPV", _dblCreditRisklessPrincipalPV);
+		mv.setPrefixed (strPrefix, MEASURE_CREDIT_RISKLESS_PRINCIPAL_PV, _dblCreditRisklessPrincipalPV);
 
-		mapMeasures.put (strPrefix + "CreditRiskyParPV", _dblCreditRiskyParPV);
+		mv.setPrefixed (strPrefix, MEASURE_CREDIT_RISKY_PAR_PV, _dblCreditRiskyParPV);
 
-		mapMeasures.put (strPrefix + "CreditRiskyPrincipalPV", _dblCreditRiskyPrincipalPV);
+		mv.setPrefixed (strPrefix, MEASURE_CREDIT_RISKY_PRINCIPAL_PV, _dblCreditRiskyPrincipalPV);
 
-		mapMeasures.put (strPrefix + "DefaultExposure", _dblDefaultExposure);
+		mv.setPrefixed (strPrefix, MEASURE_DEFAULT_EXPOSURE, _dblDefaultExposure);
 
-		mapMeasures.put (strPrefix + "DefaultExposureNoRec", _dblDefaultExposureNoRec);
+		mv.setPrefixed (strPrefix, MEASURE_DEFAULT_EXPOSURE_NO_REC, _dblDefaultExposureNoRec);
 
-		mapMeasures.put (strPrefix + "DirtyCouponPV", _bcmCreditRisklessDirty.couponPV());
+		mv.setPrefixed (strPrefix, MEASURE_DIRTY_COUPON_PV, _bcmCreditRisklessDirty.couponPV());
 
-		mapMeasures.put (strPrefix + "DirtyDV01", _bcmCreditRisklessDirty.dv01());
+		mv.setPrefixed (strPrefix, MEASURE_DIRTY_DV01, _bcmCreditRisklessDirty.dv01());
 
-		mapMeasures.put (strPrefix + "DirtyIndexCouponPV", _bcmCreditRisklessDirty.indexCouponPV());
+		mv.setPrefixed (strPrefix, MEASURE_DIRTY_INDEX_COUPON_PV, _bcmCreditRisklessDirty.indexCouponPV());
 
-		mapMeasures.put (strPrefix + "DirtyPrice", _bcmCreditRisklessDirty.pv());
+		mv.setPrefixed (strPrefix, MEASURE_DIRTY_PRICE, _bcmCreditRisklessDirty.pv());
 
-		mapMeasures.put (strPrefix + "DirtyPV", _bcmCreditRisklessDirty.pv());
+		mv.setPrefixed (strPrefix, MEASURE_DIRTY_PV, _bcmCreditRisklessDirty.pv());
 
-		mapMeasures.put (strPrefix + "DV01", _bcmCreditRisklessClean.dv01());
+		mv.setPrefixed (strPrefix, MEASURE_DV01, _bcmCreditRisklessClean.dv01());
 
-		mapMeasures.put (strPrefix + "ExpectedRecovery", _dblExpectedRecovery);
+		mv.setPrefixed (strPrefix, MEASURE_EXPECTED_RECOVERY, _dblExpectedRecovery);
 
-		mapMeasures.put (strPrefix + "FirstCouponRate", _dblFirstCouponRate);
+		mv.setPrefixed (strPrefix, MEASURE_FIRST_COUPON_RATE, _dblFirstCouponRate);
 
-		mapMeasures.put (strPrefix + "FirstIndexRate", _dblFirstIndexRate);
+		mv.setPrefixed (strPrefix, MEASURE_FIRST_INDEX_RATE, _dblFirstIndexRate);
 
-		mapMeasures.put (strPrefix + "LossOnInstantaneousDefault", _dblLossOnInstantaneousDefault);
+		mv.setPrefixed (strPrefix, MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT, _dblLossOnInstantaneousDefault);
 
-		mapMeasures.put (strPrefix + "ParPV", _dblCreditRisklessParPV);
+		mv.setPrefixed (strPrefix, MEASURE_PAR_PV, _dblCreditRisklessParPV);
 
-		mapMeasures.put (strPrefix + "PrincipalPV", _dblCreditRisklessPrincipalPV);
+		mv.setPrefixed (strPrefix, MEASURE_PRINCIPAL_PV, _dblCreditRisklessPrincipalPV);
 
-		mapMeasures.put (strPrefix + "PV", _bcmCreditRisklessClean.pv());
+		mv.setPrefixed (strPrefix, MEASURE_PV, _bcmCreditRisklessClean.pv());
 
-		mapMeasures.put (strPrefix + "RecoveryPV", _dblRecoveryPV);
+		mv.setPrefixed (strPrefix, MEASURE_RECOVERY_PV, _dblRecoveryPV);
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRisklessDirty.toMap (strPrefix +
-			"RisklessDirty"));
+		_bcmCreditRisklessDirty.setMeasures (mv, strPrefix + "RisklessDirty");
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRisklessClean.toMap
-			(strPrefix + "RisklessClean"));
+		_bcmCreditRisklessClean.setMeasures (mv, strPrefix + "RisklessClean");
 
 		if (null != _bcmCreditRiskyDirty) {
-			mapMeasures.put (strPrefix + "CleanCouponPV", _bcmCreditRiskyClean.couponPV());
+			mv.setPrefixed (strPrefix, MEASURE_CLEAN_COUPON_PV, _bcmCreditRiskyClean.couponPV());
 
-			mapMeasures.put (strPrefix + "CleanDV01", _bcmCreditRiskyClean.dv01());
+			mv.setPrefixed (strPrefix, MEASURE_CLEAN_DV01, _bcmCreditRiskyClean.dv01());
 
-			mapMeasures.put (strPrefix + "CleanIndexCouponPV", _bcmCreditRiskyClean.indexCouponPV());
+			mv.setPrefixed (strPrefix, MEASURE_CLEAN_INDEX_COUPON_PV, _bcmCreditRiskyClean.indexCouponPV());
 
-			mapMeasures.put (strPrefix + "CleanPrice", _bcmCreditRiskyClean.pv());
+			mv.setPrefixed (strPrefix, MEASURE_CLEAN_PRICE, _bcmCreditRiskyClean.pv());
 
-			mapMeasures.put (strPrefix + "CleanPV", _bcmCreditRiskyClean.pv());
+			mv.setPrefixed (strPrefix, MEASURE_CLEAN_PV, _bcmCreditRiskyClean.pv());
 
-			mapMeasures.put (strPrefix + "DirtyCouponPV", _bcmCreditRiskyDirty.couponPV());
+			mv.setPrefixed (strPrefix, MEASURE_DIRTY_COUPON_PV, _bcmCreditRiskyDirty.couponPV());
 
-			mapMeasures.put (strPrefix + "DirtyDV01", _bcmCreditRiskyDirty.dv01());
+			mv.setPrefixed (strPrefix, MEASURE_DIRTY_DV01, _bcmCreditRiskyDirty.dv01());
 
-			mapMeasures.put (strPrefix + "DirtyIndexCouponPV", _bcmCreditRiskyDirty.indexCouponPV());
+			mv.setPrefixed (strPrefix, MEASURE_DIRTY_INDEX_COUPON_PV, _bcmCreditRiskyDirty.indexCouponPV());
 
-			mapMeasures.put (strPrefix + "DirtyPrice", _bcmCreditRiskyDirty.pv());
+			mv.setPrefixed (strPrefix, MEASURE_DIRTY_PRICE, _bcmCreditRiskyDirty.pv());
 
-			mapMeasures.put (strPrefix + "DirtyPV", _bcmCreditRiskyDirty.pv());
+			mv.setPrefixed (strPrefix, MEASURE_DIRTY_PV, _bcmCreditRiskyDirty.pv());
 
-			mapMeasures.put (strPrefix + "DV01", _bcmCreditRiskyClean.dv01());
+			mv.setPrefixed (strPrefix, MEASURE_DV01, _bcmCreditRiskyClean.dv01());
 
-			mapMeasures.put (strPrefix + "ParPV", _dblCreditRiskyParPV);
+			mv.setPrefixed (strPrefix, MEASURE_PAR_PV, _dblCreditRiskyParPV);
 
-			mapMeasures.put (strPrefix + "PrincipalPV", _dblCreditRiskyPrincipalPV);
+			mv.setPrefixed (strPrefix, MEASURE_PRINCIPAL_PV, _dblCreditRiskyPrincipalPV);
 
-			mapMeasures.put (strPrefix + "PV", _bcmCreditRiskyClean.pv());
+			mv.setPrefixed (strPrefix, MEASURE_PV, _bcmCreditRiskyClean.pv());
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRiskyDirty.toMap
-				(strPrefix + "RiskyDirty"));
+			_bcmCreditRiskyDirty.setMeasures (mv, strPrefix + "RiskyDirty");
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRiskyClean.toMap
-				(strPrefix + "RiskyClean"));
+			_bcmCreditRiskyClean.setMeasures (mv, strPrefix + "RiskyClean");
 		}
 
-		return mapMeasures;
+		return true;
+	}
+
+	/**
+	 * Return the state as a measure map
+	 * 
+	 * @param strPrefix Measure name prefix
+	 * 
+	 * @return Map of the measures
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
+		final String strPrefix)
+	{
+		org.drip.analytics.support.MeasureVector mv = new org.drip.analytics.support.MeasureVector();
+
+		return setMeasures (mv, strPrefix) ? mv.toMap() : null;
 	}
 }
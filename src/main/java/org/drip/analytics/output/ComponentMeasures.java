@@ -49,6 +49,7 @@ package org.drip.analytics.output;
 public class ComponentMeasures {
 	private double _dblCalcTime = java.lang.Double.NaN;
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> _mapBaseMeasures = null;
+	private org.drip.analytics.support.MeasureVector _mvBaseMeasures = null;
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> _mapFlatIRDeltaMeasures =
 		null;
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> _mapFlatIRGammaMeasures =
@@ -120,16 +121,30 @@ public class ComponentMeasures {
 	}
 
 	/**
-	 * Retrieve the Base Measure Map
+	 * Retrieve the Base Measure Map. When the Base Measures have been set as a MeasureVector, the Map is
+	 * 	generated off of it on the first Request.
 	 * 
 	 * @return The Base Measure Map
 	 */
 
 	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> baseMeasures()
 	{
+		if (null == _mapBaseMeasures && null != _mvBaseMeasures) _mapBaseMeasures = _mvBaseMeasures.toMap();
+
 		return _mapBaseMeasures;
 	}
 
+	/**
+	 * Retrieve the Base Measure Vector
+	 * 
+	 * @return The Base Measure Vector (null => The Base Measures have been set as a Map)
+	 */
+
+	public org.drip.analytics.support.MeasureVector baseMeasureVector()
+	{
+		return _mvBaseMeasures;
+	}
+
 	/**
 	 * Set the Base Measures Map
 	 * 
@@ -144,6 +159,25 @@ public class ComponentMeasures {
 		if (null == mapBaseMeasures || 0 == mapBaseMeasures.size()) return false;
 
 		_mapBaseMeasures = mapBaseMeasures;
+		_mvBaseMeasures = null;
+		return true;
+	}
+
+	/**
+	 * Set the Base Measures Vector
+	 * 
+	 * @param mvBaseMeasures The Base Measures Vector
+	 * 
+	 * @return TRUE => The Base Measures Vector Successfully Set
+	 */
+
+	public boolean setBaseMeasures (
+		final org.drip.analytics.support.MeasureVector mvBaseMeasures)
+	{
+		if (null == mvBaseMeasures || 0 == mvBaseMeasures.size()) return false;
+
+		_mvBaseMeasures = mvBaseMeasures;
+		_mapBaseMeasures = null;
 		return true;
 	}
 
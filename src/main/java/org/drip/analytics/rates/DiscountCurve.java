@@ -49,7 +49,12 @@ package org.drip.analytics.rates;
 
 public abstract class DiscountCurve implements org.drip.analytics.rates.DiscountFactorEstimator,
 	org.drip.analytics.definition.Curve {
-	private static final int NUM_DF_QUADRATURES = 5;
+
+	/**
+	 * Number of the Trapezoidal Quadratures used in the Effective Discount Factor
+	 */
+
+	public static final int NUM_DF_QUADRATURES = 5;
 
 	protected String _strCurrency = "";
 	protected double _dblEpochDate = java.lang.Double.NaN;
@@ -233,6 +238,32 @@ public abstract class DiscountCurve implements org.drip.analytics.rates.Discount
 		return df (epoch().addTenor (strTenor));
 	}
 
+	/**
+	 * Calculate the Discount Factor to each of the given Dates
+	 * 
+	 * @param adblDate Array of Dates
+	 * 
+	 * @return Array of the Discount Factors
+	 * 
+	 * @throws java.lang.Exception Thrown if the Discount Factors cannot be calculated
+	 */
+
+	public double[] df (
+		final double[] adblDate)
+		throws java.lang.Exception
+	{
+		if (null == adblDate || 0 == adblDate.length)
+			throw new java.lang.Exception ("DiscountCurve::df => Invalid Dates");
+
+		int iNumDate = adblDate.length;
+		double[] adblDF = new double[iNumDate];
+
+		for (int i = 0; i < iNumDate; ++i)
+			adblDF[i] = df (adblDate[i]);
+
+		return adblDF;
+	}
+
 	@Override public double effectiveDF (
 		final double dblDate1,
 		final double dblDate2)
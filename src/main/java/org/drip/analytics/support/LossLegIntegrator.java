@@ -0,0 +1,236 @@
+
+package org.drip.analytics.support;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LossLegIntegrator integrates the Protection Leg and the Accrual-on-Default of a Coupon Period in Closed
+ * 	Form, ISDA Standard Model style, streaming over the Knots without materializing any Loss Quadrature
+ * 	Periods. The Knots are the Period Edges, the Hazard Nodes of a ForwardHazardCreditCurve, and the
+ * 	Forward Nodes of a FlatForwardDiscountCurve (pulled back by the Loss Pay Lag); a Curve that does not
+ * 	expose its Nodes is stepped at the Fallback Day Step instead. Between the Knots the Survival and the
+ * 	Discount Factor are Log-linear and the Accrual DCF is linear, so that over [t0, t1] with the Hazard
+ * 	Integral H = ln (S0 / S1), the Discount Integral F = ln (D0 / D1), and y = H + F:
+ * 	- Protection = D0 * S0 * H * (1 - exp (-y)) / y
+ * 	- Accrual on Default = D0 * S0 * H * [A0 * (1 - exp (-y)) / y + dA * (1 - exp (-y) * (1 + y)) / y^2]
+ * 	with the Series Expansions used for small y. The Accrual DCF Increment dA is taken off the Knot
+ * 	Mid-point (as the Loss Quadrature does), since the Period Accrual DCF is not continuous at the Period
+ * 	End.
+ *
+ * The Results are added into a Caller Supplied Accumulator Array, weighted by the Notional and the Loss
+ * 	Given Default as indexed below.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LossLegIntegrator {
+
+	/**
+	 * Accumulator Index of the Discounted Loss (Notional x Loss Given Default x Protection)
+	 */
+
+	public static final int LOSS_PV = 0;
+
+	/**
+	 * Accumulator Index of the Discounted Loss without Recovery (Notional x Protection)
+	 */
+
+	public static final int LOSS_NO_REC_PV = 1;
+
+	/**
+	 * Accumulator Index of the Expected Loss (Notional x Loss Given Default x Default Probability)
+	 */
+
+	public static final int EXPECTED_LOSS = 2;
+
+	/**
+	 * Accumulator Index of the Expected Loss without Recovery (Notional x Default Probability)
+	 */
+
+	public static final int EXPECTED_LOSS_NO_REC = 3;
+
+	/**
+	 * Accumulator Index of the Discounted Accrual DCF on Default (Notional x Accrual on Default)
+	 */
+
+	public static final int ACCRUAL_ON_DEFAULT_PV = 4;
+
+	/**
+	 * Size of the Accumulator Array
+	 */
+
+	public static final int NUM_ACCUMULATOR = 5;
+
+	private static final double SERIES_CUTOFF = 1.e-04;
+
+	private static final double FirstMoment (
+		final double dblY)
+	{
+		if (java.lang.Math.abs (dblY) < SERIES_CUTOFF)
+			return 1. - dblY * (1. / 2. - dblY * (1. / 6. - dblY / 24.));
+
+		return -java.lang.Math.expm1 (-dblY) / dblY;
+	}
+
+	private static final double SecondMoment (
+		final double dblY)
+	{
+		if (java.lang.Math.abs (dblY) < SERIES_CUTOFF)
+			return 1. / 2. - dblY * (1. / 3. - dblY * (1. / 8. - dblY / 30.));
+
+		return (-java.lang.Math.expm1 (-dblY) - dblY * java.lang.Math.exp (-dblY)) / (dblY * dblY);
+	}
+
+	/**
+	 * Integrate the Protection/Accrual-on-Default of the Coupon Period from the Valuation Date (or the Period
+	 * 	Start) to the earlier of the Period End and the Workout Date, and add it into the Accumulator
+	 * 
+	 * @param comp Component for which the Loss Leg is integrated
+	 * @param valParams ValuationParams
+	 * @param period The enveloping Coupon Period
+	 * @param dblWorkoutDate Double JulianDate representing the absolute end of the Integration
+	 * @param iFallbackDayStep Day Step used against a Curve that does not expose its Nodes
+	 * @param dc The Funding Curve
+	 * @param cc The Credit Curve
+	 * @param adblAccumulator The Accumulator Array (at least NUM_ACCUMULATOR long)
+	 * 
+	 * @return TRUE => The Coupon Period has been successfully integrated into the Accumulator
+	 */
+
+	public static final boolean Accumulate (
+		final org.drip.product.definition.CreditComponent comp,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.cashflow.CompositePeriod period,
+		final double dblWorkoutDate,
+		final int iFallbackDayStep,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.definition.CreditCurve cc,
+		final double[] adblAccumulator)
+	{
+		if (null == comp || null == valParams || null == period || null == dc || null == cc || null ==
+			adblAccumulator || NUM_ACCUMULATOR > adblAccumulator.length ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) || 0 >= iFallbackDayStep)
+			return false;
+
+		double dblPeriodEndDate = period.endDate();
+
+		double dblStartDate = period.startDate();
+
+		double dblValueDate = valParams.valueDate();
+
+		if (dblPeriodEndDate > dblWorkoutDate) dblPeriodEndDate = dblWorkoutDate;
+
+		if (dblStartDate < dblValueDate) dblStartDate = dblValueDate;
+
+		if (dblStartDate >= dblPeriodEndDate) return true;
+
+		int iLossPayLag = comp.creditValuationParams().lossPayLag();
+
+		org.drip.state.curve.PiecewiseFlatIntegral pfiHazard = cc instanceof
+			org.drip.state.curve.ForwardHazardCreditCurve ? ((org.drip.state.curve.ForwardHazardCreditCurve)
+				cc).compiledHazard() : null;
+
+		org.drip.state.curve.PiecewiseFlatIntegral pfiForward = dc instanceof
+			org.drip.state.curve.FlatForwardDiscountCurve ? ((org.drip.state.curve.FlatForwardDiscountCurve)
+				dc).compiledForward() : null;
+
+		boolean bFallbackStep = null == pfiHazard || null == pfiForward;
+
+		try {
+			double dblKnotStart = dblStartDate;
+
+			double dblSurvivalStart = cc.survival (dblKnotStart);
+
+			double dblDFStart = dc.df (dblKnotStart + iLossPayLag);
+
+			while (dblKnotStart < dblPeriodEndDate && 0. < dblSurvivalStart) {
+				double dblKnotEnd = dblPeriodEndDate;
+
+				if (bFallbackStep && dblKnotStart + iFallbackDayStep < dblKnotEnd)
+					dblKnotEnd = dblKnotStart + iFallbackDayStep;
+
+				if (null != pfiHazard) {
+					double dblHazardNode = pfiHazard.nextNode (dblKnotStart);
+
+					if (dblHazardNode < dblKnotEnd) dblKnotEnd = dblHazardNode;
+				}
+
+				if (null != pfiForward) {
+					double dblForwardNode = pfiForward.nextNode (dblKnotStart + iLossPayLag) - iLossPayLag;
+
+					if (dblForwardNode < dblKnotEnd) dblKnotEnd = dblForwardNode;
+				}
+
+				double dblSurvivalEnd = cc.survival (dblKnotEnd);
+
+				double dblDFEnd = dc.df (dblKnotEnd + iLossPayLag);
+
+				double dblAccrualDCFStart = period.accrualDCF (dblKnotStart);
+
+				double dblAccrualDCFSlope = 2. * (period.accrualDCF (0.5 * (dblKnotStart + dblKnotEnd)) -
+					dblAccrualDCFStart);
+
+				double dblNotional = comp.notional (dblKnotStart, dblKnotEnd);
+
+				double dblLGD = 1. - comp.recovery (dblKnotStart, dblKnotEnd, cc);
+
+				double dblDefaultProbability = dblSurvivalStart - dblSurvivalEnd;
+				double dblProtection = dblDFStart * dblDefaultProbability;
+				double dblAccrualOnDefault = dblAccrualDCFStart * dblProtection;
+
+				if (0. < dblSurvivalEnd) {
+					double dblHazardIntegral = java.lang.Math.log (dblSurvivalStart / dblSurvivalEnd);
+
+					double dblY = dblHazardIntegral + java.lang.Math.log (dblDFStart / dblDFEnd);
+
+					double dblFirstMoment = FirstMoment (dblY);
+
+					double dblScale = dblDFStart * dblSurvivalStart * dblHazardIntegral;
+					dblProtection = dblScale * dblFirstMoment;
+					dblAccrualOnDefault = dblScale * (dblAccrualDCFStart * dblFirstMoment +
+						dblAccrualDCFSlope * SecondMoment (dblY));
+				}
+
+				adblAccumulator[LOSS_PV] += dblNotional * dblLGD * dblProtection;
+				adblAccumulator[LOSS_NO_REC_PV] += dblNotional * dblProtection;
+				adblAccumulator[EXPECTED_LOSS] += dblNotional * dblLGD * dblDefaultProbability;
+				adblAccumulator[EXPECTED_LOSS_NO_REC] += dblNotional * dblDefaultProbability;
+				adblAccumulator[ACCRUAL_ON_DEFAULT_PV] += dblNotional * dblAccrualOnDefault;
+				dblKnotStart = dblKnotEnd;
+				dblSurvivalStart = dblSurvivalEnd;
+				dblDFStart = dblDFEnd;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+}
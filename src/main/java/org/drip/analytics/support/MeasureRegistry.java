@@ -0,0 +1,209 @@
+
+package org.drip.analytics.support;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureRegistry interns the Measure Names into dense integer Measure IDs, so that Measure Results can be
+ * 	held in flat Primitive Arrays and looked up in O(1) by ID. Names are matched case-insensitively, and
+ * 	the first spelling registered is the one reported back. The Prefixed variants ("Fair", "Market", ...)
+ * 	of a Measure are themselves interned Measures; the ID Mapping from a Measure to its Prefixed variant is
+ * 	cached per Prefix, so the Prefixing carries no String Work once warmed up. The Registry only grows, and
+ * 	is safe for concurrent use - the Look-ups are lock-free, and only the Interning of a new Measure (or
+ * 	of a new Prefixed Mapping) is serialized.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureRegistry {
+	private static volatile int s_iCount = 0;
+	private static volatile String[] s_astrKey = new String[256];
+	private static volatile String[] s_astrName = new String[256];
+
+	private static final java.util.concurrent.ConcurrentHashMap<String, java.lang.Integer> s_mapID = new
+		java.util.concurrent.ConcurrentHashMap<String, java.lang.Integer>();
+
+	private static final java.util.concurrent.ConcurrentHashMap<String, int[]> s_mapPrefixedID = new
+		java.util.concurrent.ConcurrentHashMap<String, int[]>();
+
+	private static final synchronized int Intern (
+		final String strMeasure,
+		final String strKey)
+	{
+		java.lang.Integer iID = s_mapID.get (strKey);
+
+		if (null != iID) return iID;
+
+		int iCount = s_iCount;
+		String[] astrKey = s_astrKey;
+		String[] astrName = s_astrName;
+
+		if (iCount == astrName.length) {
+			astrKey = new String[2 * iCount];
+			astrName = new String[2 * iCount];
+
+			java.lang.System.arraycopy (s_astrKey, 0, astrKey, 0, iCount);
+
+			java.lang.System.arraycopy (s_astrName, 0, astrName, 0, iCount);
+
+			s_astrKey = astrKey;
+			s_astrName = astrName;
+		}
+
+		astrKey[iCount] = strKey;
+		astrName[iCount] = strMeasure;
+		s_iCount = iCount + 1;
+
+		s_mapID.put (strKey, iCount);
+
+		return iCount;
+	}
+
+	private static final synchronized int InternPrefixed (
+		final String strPrefix,
+		final int iID)
+	{
+		int[] aiPrefixedID = s_mapPrefixedID.get (strPrefix);
+
+		if (null == aiPrefixedID || iID >= aiPrefixedID.length) {
+			int iPreviousLength = null == aiPrefixedID ? 0 : aiPrefixedID.length;
+			int[] aiGrownID = new int[java.lang.Math.max (s_astrName.length, iID + 1)];
+
+			if (null != aiPrefixedID)
+				java.lang.System.arraycopy (aiPrefixedID, 0, aiGrownID, 0, iPreviousLength);
+
+			java.util.Arrays.fill (aiGrownID, iPreviousLength, aiGrownID.length, -1);
+
+			s_mapPrefixedID.put (strPrefix, aiPrefixedID = aiGrownID);
+		}
+
+		if (-1 == aiPrefixedID[iID]) aiPrefixedID[iID] = ID (strPrefix + Name (iID));
+
+		return aiPrefixedID[iID];
+	}
+
+	/**
+	 * Retrieve the ID of the specified Measure, interning it if it has not been seen before
+	 * 
+	 * @param strMeasure The Measure Name
+	 * 
+	 * @return The Measure ID (-1 => Invalid Measure Name)
+	 */
+
+	public static final int ID (
+		final String strMeasure)
+	{
+		if (null == strMeasure || strMeasure.isEmpty()) return -1;
+
+		String strKey = strMeasure.toLowerCase();
+
+		java.lang.Integer iID = s_mapID.get (strKey);
+
+		return null != iID ? iID : Intern (strMeasure, strKey);
+	}
+
+	/**
+	 * Look up the ID of the specified Measure without interning it
+	 * 
+	 * @param strMeasure The Measure Name
+	 * 
+	 * @return The Measure ID (-1 => The Measure has not been registered)
+	 */
+
+	public static final int Lookup (
+		final String strMeasure)
+	{
+		if (null == strMeasure) return -1;
+
+		java.lang.Integer iID = s_mapID.get (strMeasure.toLowerCase());
+
+		return null == iID ? -1 : iID;
+	}
+
+	/**
+	 * Retrieve the Name of the Measure corresponding to the specified ID
+	 * 
+	 * @param iID The Measure ID
+	 * 
+	 * @return The Measure Name (null => Invalid ID)
+	 */
+
+	public static final String Name (
+		final int iID)
+	{
+		return 0 > iID || iID >= s_iCount ? null : s_astrName[iID];
+	}
+
+	/**
+	 * Retrieve the Lower-cased Key of the Measure corresponding to the specified ID - the Form the
+	 * 	CaseInsensitiveTreeMap stores its Keys in, so that re-casing it on put allocates nothing
+	 * 
+	 * @param iID The Measure ID
+	 * 
+	 * @return The Measure Key (null => Invalid ID)
+	 */
+
+	public static final String Key (
+		final int iID)
+	{
+		return 0 > iID || iID >= s_iCount ? null : s_astrKey[iID];
+	}
+
+	/**
+	 * Retrieve the Number of the Measures registered
+	 * 
+	 * @return The Number of the Measures registered
+	 */
+
+	public static final int Count()
+	{
+		return s_iCount;
+	}
+
+	/**
+	 * Retrieve the ID of the Prefixed Variant of the specified Measure, interning it if necessary
+	 * 
+	 * @param strPrefix The Prefix
+	 * @param iID The Measure ID
+	 * 
+	 * @return The ID of the Prefixed Measure (-1 => Invalid Inputs)
+	 */
+
+	public static final int PrefixedID (
+		final String strPrefix,
+		final int iID)
+	{
+		if (null == strPrefix || strPrefix.isEmpty() || 0 > iID || iID >= s_iCount) return -1;
+
+		int[] aiPrefixedID = s_mapPrefixedID.get (strPrefix);
+
+		int iPrefixedID = null == aiPrefixedID || iID >= aiPrefixedID.length ? -1 : aiPrefixedID[iID];
+
+		return 0 <= iPrefixedID && iPrefixedID < s_iCount ? iPrefixedID : InternPrefixed (strPrefix, iID);
+	}
+}
@@ -0,0 +1,331 @@
+
+package org.drip.analytics.support;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureVector holds a Set of Measure Results in a flat double Array addressed by the Measure IDs interned
+ * 	in the MeasureRegistry - a Measure Set costs two Arrays rather than a Boxed Double and a Tree Node per
+ * 	Entry. The CaseInsensitiveTreeMap expected by the Map based Valuation API is generated as a fresh Copy
+ * 	on Request, so that the Callers may freely modify it; the Copy is keyed off of the Registry's
+ * 	Lower-cased Keys, so it costs a Tree Node and a Boxed Double per Entry, and no String Work.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureVector {
+	private int _iSize = 0;
+	private int[] _aiSetID = null;
+	private boolean[] _abSet = null;
+	private double[] _adblValue = null;
+
+	private void ensureCapacity (
+		final int iID)
+	{
+		if (iID < _adblValue.length) return;
+
+		int iLength = java.lang.Math.max (iID + 1, java.lang.Math.max (2 * _adblValue.length,
+			org.drip.analytics.support.MeasureRegistry.Count()));
+
+		_abSet = java.util.Arrays.copyOf (_abSet, iLength);
+
+		_adblValue = java.util.Arrays.copyOf (_adblValue, iLength);
+	}
+
+	/**
+	 * Construct a MeasureVector from the Entries of the specified Measure Map
+	 * 
+	 * @param mapMeasures The Measure Map
+	 * 
+	 * @return The MeasureVector Instance (null => Invalid Map)
+	 */
+
+	public static final MeasureVector FromMap (
+		final java.util.Map<String, java.lang.Double> mapMeasures)
+	{
+		if (null == mapMeasures) return null;
+
+		MeasureVector mv = new MeasureVector();
+
+		for (java.util.Map.Entry<String, java.lang.Double> me : mapMeasures.entrySet()) {
+			java.lang.Double dbl = me.getValue();
+
+			if (null != dbl) mv.set (me.getKey(), dbl);
+		}
+
+		return mv;
+	}
+
+	/**
+	 * Empty MeasureVector Constructor
+	 */
+
+	public MeasureVector()
+	{
+		int iLength = java.lang.Math.max (16, org.drip.analytics.support.MeasureRegistry.Count());
+
+		_aiSetID = new int[16];
+		_abSet = new boolean[iLength];
+		_adblValue = new double[iLength];
+	}
+
+	/**
+	 * Set the Value of the Measure identified by its ID
+	 * 
+	 * @param iID The Measure ID
+	 * @param dblValue The Measure Value
+	 * 
+	 * @return TRUE => The Value has been set
+	 */
+
+	public boolean set (
+		final int iID,
+		final double dblValue)
+	{
+		if (0 > iID) return false;
+
+		ensureCapacity (iID);
+
+		if (!_abSet[iID]) {
+			if (_iSize == _aiSetID.length) _aiSetID = java.util.Arrays.copyOf (_aiSetID, 2 * _iSize);
+
+			_abSet[iID] = true;
+			_aiSetID[_iSize++] = iID;
+		}
+
+		_adblValue[iID] = dblValue;
+		return true;
+	}
+
+	/**
+	 * Set the Value of the named Measure
+	 * 
+	 * @param strMeasure The Measure Name
+	 * @param dblValue The Measure Value
+	 * 
+	 * @return TRUE => The Value has been set
+	 */
+
+	public boolean set (
+		final String strMeasure,
+		final double dblValue)
+	{
+		return set (org.drip.analytics.support.MeasureRegistry.ID (strMeasure), dblValue);
+	}
+
+	/**
+	 * Set the Value of the Prefixed Variant of the Measure identified by its ID
+	 * 
+	 * @param strPrefix The Prefix (NULL/Empty => The Measure itself)
+	 * @param iID The Measure ID
+	 * @param dblValue The Measure Value
+	 * 
+	 * @return TRUE => The Value has been set
+	 */
+
+	public boolean setPrefixed (
+		final String strPrefix,
+		final int iID,
+		final double dblValue)
+	{
+		return set (null == strPrefix || strPrefix.isEmpty() ? iID :
+			org.drip.analytics.support.MeasureRegistry.PrefixedID (strPrefix, iID), dblValue);
+	}
+
+	/**
+	 * Indicate if the Measure identified by its ID has been set
+	 * 
+	 * @param iID The Measure ID
+	 * 
+	 * @return TRUE => The Measure has been set
+	 */
+
+	public boolean contains (
+		final int iID)
+	{
+		return 0 <= iID && iID < _abSet.length && _abSet[iID];
+	}
+
+	/**
+	 * Indicate if the named Measure has been set
+	 * 
+	 * @param strMeasure The Measure Name
+	 * 
+	 * @return TRUE => The Measure has been set
+	 */
+
+	public boolean contains (
+		final String strMeasure)
+	{
+		return contains (org.drip.analytics.support.MeasureRegistry.Lookup (strMeasure));
+	}
+
+	/**
+	 * Retrieve the Value of the Measure identified by its ID
+	 * 
+	 * @param iID The Measure ID
+	 * 
+	 * @return The Measure Value (NaN => The Measure has not been set)
+	 */
+
+	public double get (
+		final int iID)
+	{
+		return contains (iID) ? _adblValue[iID] : java.lang.Double.NaN;
+	}
+
+	/**
+	 * Retrieve the Value of the named Measure
+	 * 
+	 * @param strMeasure The Measure Name
+	 * 
+	 * @return The Measure Value (NaN => The Measure has not been set)
+	 */
+
+	public double get (
+		final String strMeasure)
+	{
+		return get (org.drip.analytics.support.MeasureRegistry.Lookup (strMeasure));
+	}
+
+	/**
+	 * Retrieve the Number of the Measures set
+	 * 
+	 * @return The Number of the Measures set
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the IDs of the Measures set, in the Order they were first set
+	 * 
+	 * @return The Array of the Measure IDs
+	 */
+
+	public int[] ids()
+	{
+		return java.util.Arrays.copyOf (_aiSetID, _iSize);
+	}
+
+	/**
+	 * Copy every Measure currently set onto its Prefixed Variant - the Counterpart of merging the
+	 * 	CollectionUtil.PrefixKeys Output back onto the Measure Map
+	 * 
+	 * @param strPrefix The Prefix
+	 * 
+	 * @return TRUE => The Prefixed Measures have been set
+	 */
+
+	public boolean addPrefixed (
+		final String strPrefix)
+	{
+		if (null == strPrefix || strPrefix.isEmpty()) return false;
+
+		int iSize = _iSize;
+
+		for (int i = 0; i < iSize; ++i) {
+			int iID = _aiSetID[i];
+
+			if (!set (org.drip.analytics.support.MeasureRegistry.PrefixedID (strPrefix, iID),
+				_adblValue[iID]))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Merge the Measures of the specified Vector onto this one, over-writing the common Measures
+	 * 
+	 * @param mv The Vector to merge
+	 * 
+	 * @return TRUE => The Vector has been merged
+	 */
+
+	public boolean merge (
+		final MeasureVector mv)
+	{
+		if (null == mv) return false;
+
+		for (int i = 0; i < mv._iSize; ++i) {
+			int iID = mv._aiSetID[i];
+
+			set (iID, mv._adblValue[iID]);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Generate a Vector restricted to the specified Set of Measure Names
+	 * 
+	 * @param setstrMeasure The Set of Measure Names
+	 * 
+	 * @return The Restricted Vector
+	 */
+
+	public MeasureVector restrict (
+		final java.util.Set<String> setstrMeasure)
+	{
+		if (null == setstrMeasure) return null;
+
+		MeasureVector mv = new MeasureVector();
+
+		for (String strMeasure : setstrMeasure) {
+			int iID = org.drip.analytics.support.MeasureRegistry.Lookup (strMeasure);
+
+			if (contains (iID)) mv.set (iID, _adblValue[iID]);
+		}
+
+		return mv;
+	}
+
+	/**
+	 * Generate a CaseInsensitiveTreeMap Copy of the Measures. The Copy is owned by the Caller, and does not
+	 * 	track subsequent Updates to the Vector.
+	 * 
+	 * @return The CaseInsensitiveTreeMap Copy of the Measures
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap()
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (int i = 0; i < _iSize; ++i) {
+			int iID = _aiSetID[i];
+
+			mapMeasure.put (org.drip.analytics.support.MeasureRegistry.Key (iID), _adblValue[iID]);
+		}
+
+		return mapMeasure;
+	}
+}
@@ -0,0 +1,189 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PathSimulationControl holds the Settings that drive a Path-level Monte-Carlo Simulation - the Number of
+ * 	Paths, the Number of Worker Threads, the Number of Paths per Chunk of Work, and the Master Random
+ * 	Engine whose Sub-stream #i drives Path #i. Paths are accumulated Chunk by Chunk, and the Chunk Sums are
+ * 	reduced in Chunk Order, so for a given Seed and Chunk Size the Result does not depend on the Thread
+ * 	Count.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PathSimulationControl {
+	private int _iNumPath = -1;
+	private int _iNumThread = -1;
+	private int _iChunkSize = -1;
+	private org.drip.sequence.random.RandomEngine _re = null;
+
+	/**
+	 * Default Number of Paths per Chunk
+	 */
+
+	public static final int DEFAULT_CHUNK_SIZE = 64;
+
+	/**
+	 * Construct a Serial (Single Thread) PathSimulationControl Instance
+	 * 
+	 * @param iNumPath Number of Paths
+	 * @param re The Master Random Engine
+	 * 
+	 * @return The Serial PathSimulationControl Instance
+	 */
+
+	public static final PathSimulationControl Serial (
+		final int iNumPath,
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		try {
+			return new PathSimulationControl (iNumPath, 1, DEFAULT_CHUNK_SIZE, re);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct a PathSimulationControl Instance that uses all the Available Processors
+	 * 
+	 * @param iNumPath Number of Paths
+	 * @param lSeed The Seed of the Master Random Engine
+	 * 
+	 * @return The PathSimulationControl Instance
+	 */
+
+	public static final PathSimulationControl Standard (
+		final int iNumPath,
+		final long lSeed)
+	{
+		try {
+			return new PathSimulationControl (iNumPath, java.lang.Runtime.getRuntime().availableProcessors(),
+				DEFAULT_CHUNK_SIZE, org.drip.sequence.random.RandomEngine.Seeded (lSeed));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * PathSimulationControl Constructor
+	 * 
+	 * @param iNumPath Number of Paths
+	 * @param iNumThread Number of Worker Threads
+	 * @param iChunkSize Number of Paths per Chunk
+	 * @param re The Master Random Engine
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PathSimulationControl (
+		final int iNumPath,
+		final int iNumThread,
+		final int iChunkSize,
+		final org.drip.sequence.random.RandomEngine re)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumPath = iNumPath) || 0 >= (_iNumThread = iNumThread) || 0 >= (_iChunkSize =
+			iChunkSize) || null == (_re = re))
+			throw new java.lang.Exception ("PathSimulationControl ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Number of Paths
+	 * 
+	 * @return The Number of Paths
+	 */
+
+	public int numPath()
+	{
+		return _iNumPath;
+	}
+
+	/**
+	 * Retrieve the Number of Worker Threads
+	 * 
+	 * @return The Number of Worker Threads
+	 */
+
+	public int numThread()
+	{
+		return _iNumThread;
+	}
+
+	/**
+	 * Retrieve the Number of Paths per Chunk
+	 * 
+	 * @return The Number of Paths per Chunk
+	 */
+
+	public int chunkSize()
+	{
+		return _iChunkSize;
+	}
+
+	/**
+	 * Retrieve the Number of Chunks the Paths are split into
+	 * 
+	 * @return The Number of Chunks
+	 */
+
+	public int numChunk()
+	{
+		return (_iNumPath + _iChunkSize - 1) / _iChunkSize;
+	}
+
+	/**
+	 * Retrieve the Master Random Engine
+	 * 
+	 * @return The Master Random Engine
+	 */
+
+	public org.drip.sequence.random.RandomEngine engine()
+	{
+		return _re;
+	}
+
+	/**
+	 * Retrieve the Random Engine Sub-stream that drives the specified Path
+	 * 
+	 * @param iPath The Path Index
+	 * 
+	 * @return The Path Random Engine
+	 */
+
+	public org.drip.sequence.random.RandomEngine pathEngine (
+		final int iPath)
+	{
+		return _re.substream (iPath);
+	}
+}
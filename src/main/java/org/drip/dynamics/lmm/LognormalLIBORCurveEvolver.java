@@ -601,12 +601,15 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		final org.drip.analytics.rates.ForwardCurve fc,
 		final String strForwardTenor,
 		final double dblForwardDCF,
-		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
+		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv,
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		double[] adblLIBOR = new double[_iNumForwardTenor + 1];
 		double[] adblTenorDate = new double[_iNumForwardTenor + 1];
 
-		double[] adblMultivariateRandom = llv.msg().random();
+		double[] adblMultivariateRandom = llv.msg().random (re);
+
+		if (null == adblMultivariateRandom) return null;
 
 		try {
 			org.drip.analytics.date.JulianDate dtTargetPoint = new org.drip.analytics.date.JulianDate
@@ -656,39 +659,25 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		return null;
 	}
 
-	@Override public double[][] simulatePrincipalMetric (
+	private double[][] simulatePathChunk (
+		final int iPathStart,
+		final int iPathEnd,
 		final double dblEvolutionStartDate,
 		final double dblEvolutionFinishDate,
 		final double dblEvolutionIncrement,
 		final double dblViewDate,
-		final org.drip.dynamics.evolution.LSQMCurveUpdate lsqmStart,
-		final int iNumSimulation)
+		final int iNumTimeStep,
+		final org.drip.analytics.rates.ForwardCurve fc,
+		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv,
+		final org.drip.dynamics.evolution.PathSimulationControl psc)
 	{
-		if (!org.drip.quant.common.NumberUtil.IsValid (dblViewDate) ||
-			!org.drip.quant.common.NumberUtil.IsValid (dblEvolutionStartDate) || dblEvolutionStartDate >
-				dblViewDate || !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionFinishDate) ||
-					dblEvolutionFinishDate <= dblEvolutionStartDate || dblEvolutionFinishDate > dblViewDate
-						|| !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionIncrement) ||
-							dblEvolutionIncrement <= 0. || null == lsqmStart || !(lsqmStart instanceof
-								org.drip.dynamics.lmm.BGMCurveUpdate) || 1 >= iNumSimulation)
-			return null;
-
-		org.drip.dynamics.lmm.BGMCurveUpdate bgmMetrics = (org.drip.dynamics.lmm.BGMCurveUpdate) lsqmStart;
-
-		org.drip.dynamics.lmm.LognormalLIBORVolatility llv = bgmMetrics.lognormalLIBORVolatility();
-
-		String strForwardLabel = _lslForward.fullyQualifiedName() + "_QM_LIBOR";
-
-		org.drip.analytics.rates.ForwardCurve fc = bgmMetrics.forwardCurve();
-
 		String strForwardTenor = _lslForward.tenor();
 
-		int iNumTimeStep = (int) ((dblEvolutionFinishDate - dblEvolutionStartDate) / dblEvolutionIncrement) +
-			1;
-		double[][] aadblTenorLIBOR = new double[iNumTimeStep][_iNumForwardTenor + 1];
-		double dblAnnualEvolutionIncrement = dblEvolutionIncrement / 365.;
-		org.drip.analytics.rates.ForwardCurve fcLIBOR = fc;
 		double dblForwardDCF = java.lang.Double.NaN;
+		double dblAnnualEvolutionIncrement = dblEvolutionIncrement / 365.;
+		double[][] aadblTenorLIBOR = new double[iNumTimeStep][_iNumForwardTenor + 1];
+
+		String strForwardLabel = _lslForward.fullyQualifiedName() + "_QM_LIBOR";
 
 		double dblAnnualEvolutionIncrementSQRT = java.lang.Math.sqrt (dblAnnualEvolutionIncrement);
 
@@ -703,18 +692,16 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 			return null;
 		}
 
-		for (int i = 0 ; i < iNumTimeStep; ++i) {
-			for (int j = 0 ; j <= _iNumForwardTenor; ++j)
-				aadblTenorLIBOR[i][j] = 0.;
-		}
-
-		for (int iSimulationIndex = 0; iSimulationIndex < iNumSimulation; ++iSimulationIndex) {
+		for (int iSimulationIndex = iPathStart; iSimulationIndex < iPathEnd; ++iSimulationIndex) {
 			int iEvolutionTimeIndex = 0;
+			org.drip.analytics.rates.ForwardCurve fcLIBOR = fc;
 
-			for (double dblEvolutionDate = dblEvolutionStartDate; dblEvolutionDate <= dblEvolutionFinishDate;
-				dblEvolutionDate += dblEvolutionIncrement) {
+			org.drip.sequence.random.RandomEngine re = psc.pathEngine (iSimulationIndex);
+
+			for (double dblEvolutionDate = dblEvolutionStartDate; dblEvolutionDate <= dblEvolutionFinishDate
+				&& iEvolutionTimeIndex < iNumTimeStep; dblEvolutionDate += dblEvolutionIncrement) {
 				TenorDate td = simulateLIBOR (dblEvolutionDate, dblViewDate, dblAnnualEvolutionIncrement,
-					dblAnnualEvolutionIncrementSQRT, fcLIBOR, strForwardTenor, dblForwardDCF, llv);
+					dblAnnualEvolutionIncrementSQRT, fcLIBOR, strForwardTenor, dblForwardDCF, llv, re);
 
 				if (null == td) return null;
 
@@ -739,9 +726,130 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 			}
 		}
 
+		return aadblTenorLIBOR;
+	}
+
+	@Override public double[][] simulatePrincipalMetric (
+		final double dblEvolutionStartDate,
+		final double dblEvolutionFinishDate,
+		final double dblEvolutionIncrement,
+		final double dblViewDate,
+		final org.drip.dynamics.evolution.LSQMCurveUpdate lsqmStart,
+		final int iNumSimulation)
+	{
+		return 1 >= iNumSimulation ? null : simulatePrincipalMetric (dblEvolutionStartDate,
+			dblEvolutionFinishDate, dblEvolutionIncrement, dblViewDate, lsqmStart,
+				org.drip.dynamics.evolution.PathSimulationControl.Serial (iNumSimulation,
+					org.drip.sequence.random.RandomEngine.Standard()));
+	}
+
+	/**
+	 * Simulate the Principal Metric (the Tenor LIBOR Rates at each Evolution Step, averaged across the
+	 * 	Paths), fanning the Paths out across the Worker Threads of the Simulation Control. Path #i always
+	 * 	draws from Sub-stream #i of the Master Engine, so the Result is reproducible for a fixed Seed.
+	 * 
+	 * @param dblEvolutionStartDate Evolution Start Date
+	 * @param dblEvolutionFinishDate Evolution Finish Date
+	 * @param dblEvolutionIncrement Evolution Increment
+	 * @param dblViewDate View Date
+	 * @param lsqmStart The Starting Latent State Quantification Metric
+	 * @param psc The Path Simulation Control
+	 * 
+	 * @return The Array of the Tenor LIBOR Rates at each Evolution Step
+	 */
+
+	public double[][] simulatePrincipalMetric (
+		final double dblEvolutionStartDate,
+		final double dblEvolutionFinishDate,
+		final double dblEvolutionIncrement,
+		final double dblViewDate,
+		final org.drip.dynamics.evolution.LSQMCurveUpdate lsqmStart,
+		final org.drip.dynamics.evolution.PathSimulationControl psc)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblViewDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblEvolutionStartDate) || dblEvolutionStartDate >
+				dblViewDate || !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionFinishDate) ||
+					dblEvolutionFinishDate <= dblEvolutionStartDate || dblEvolutionFinishDate > dblViewDate
+						|| !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionIncrement) ||
+							dblEvolutionIncrement <= 0. || null == lsqmStart || !(lsqmStart instanceof
+								org.drip.dynamics.lmm.BGMCurveUpdate) || null == psc)
+			return null;
+
+		org.drip.dynamics.lmm.BGMCurveUpdate bgmMetrics = (org.drip.dynamics.lmm.BGMCurveUpdate) lsqmStart;
+
+		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv = bgmMetrics.lognormalLIBORVolatility();
+
+		final org.drip.analytics.rates.ForwardCurve fc = bgmMetrics.forwardCurve();
+
+		final int iNumTimeStep = (int) ((dblEvolutionFinishDate - dblEvolutionStartDate) /
+			dblEvolutionIncrement) + 1;
+		double[][] aadblTenorLIBOR = new double[iNumTimeStep][_iNumForwardTenor + 1];
+		final int iChunkSize = psc.chunkSize();
+		int iNumThread = psc.numThread();
+		final int iNumPath = psc.numPath();
+		int iNumChunk = psc.numChunk();
+
+		java.util.List<double[][]> lsChunkTenorLIBOR = new java.util.ArrayList<double[][]>();
+
+		if (1 == iNumThread || 1 == iNumChunk) {
+			for (int iChunk = 0; iChunk < iNumChunk; ++iChunk) {
+				int iPathStart = iChunk * iChunkSize;
+
+				double[][] aadblChunkTenorLIBOR = simulatePathChunk (iPathStart, java.lang.Math.min (iNumPath,
+					iPathStart + iChunkSize), dblEvolutionStartDate, dblEvolutionFinishDate,
+						dblEvolutionIncrement, dblViewDate, iNumTimeStep, fc, llv, psc);
+
+				if (null == aadblChunkTenorLIBOR) return null;
+
+				lsChunkTenorLIBOR.add (aadblChunkTenorLIBOR);
+			}
+		} else {
+			java.util.List<java.util.concurrent.Future<double[][]>> lsFuture = new
+				java.util.ArrayList<java.util.concurrent.Future<double[][]>>();
+
+			java.util.concurrent.ExecutorService es = java.util.concurrent.Executors.newFixedThreadPool
+				(java.lang.Math.min (iNumThread, iNumChunk));
+
+			try {
+				for (int iChunk = 0; iChunk < iNumChunk; ++iChunk) {
+					final int iPathStart = iChunk * iChunkSize;
+
+					lsFuture.add (es.submit (new java.util.concurrent.Callable<double[][]>() {
+						@Override public double[][] call()
+						{
+							return simulatePathChunk (iPathStart, java.lang.Math.min (iNumPath, iPathStart +
+								iChunkSize), dblEvolutionStartDate, dblEvolutionFinishDate,
+									dblEvolutionIncrement, dblViewDate, iNumTimeStep, fc, llv, psc);
+						}
+					}));
+				}
+
+				for (java.util.concurrent.Future<double[][]> f : lsFuture) {
+					double[][] aadblChunkTenorLIBOR = f.get();
+
+					if (null == aadblChunkTenorLIBOR) return null;
+
+					lsChunkTenorLIBOR.add (aadblChunkTenorLIBOR);
+				}
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			} finally {
+				es.shutdownNow();
+			}
+		}
+
+		for (double[][] aadblChunkTenorLIBOR : lsChunkTenorLIBOR) {
+			for (int i = 0 ; i < iNumTimeStep; ++i) {
+				for (int j = 0 ; j <= _iNumForwardTenor; ++j)
+					aadblTenorLIBOR[i][j] += aadblChunkTenorLIBOR[i][j];
+			}
+		}
+
 		for (int i = 0 ; i < iNumTimeStep; ++i) {
 			for (int j = 0 ; j <= _iNumForwardTenor; ++j)
-				aadblTenorLIBOR[i][j] /= iNumSimulation;
+				aadblTenorLIBOR[i][j] /= iNumPath;
 		}
 
 		return aadblTenorLIBOR;
@@ -168,9 +168,29 @@ public abstract class R1ToRd {
 	public double[] integrate (
 		final double dblLeftEdge,
 		final double dblRightEdge)
+	{
+		return integrate (dblLeftEdge, dblRightEdge, org.drip.sequence.random.RandomEngine.Standard());
+	}
+
+	/**
+	 * Integrate over the given Input Range Using Uniform Monte-Carlo Samples drawn from the specified Random
+	 * 	Engine
+	 * 
+	 * @param dblLeftEdge Input Left Edge
+	 * @param dblRightEdge Input Right Edge
+	 * @param re The Random Engine
+	 *  
+	 * @return The Array Containing the Result of the Integration over the specified Range
+	 */
+
+	public double[] integrate (
+		final double dblLeftEdge,
+		final double dblRightEdge,
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblLeftEdge) ||
-			!org.drip.quant.common.NumberUtil.IsValid (dblRightEdge) || dblRightEdge <= dblLeftEdge)
+			!org.drip.quant.common.NumberUtil.IsValid (dblRightEdge) || dblRightEdge <= dblLeftEdge || null ==
+				re)
 			return null;
 
 		int iOutputDimension = -1;
@@ -178,7 +198,7 @@ public abstract class R1ToRd {
 		double dblVariateWidth = dblRightEdge - dblLeftEdge;
 
 		for (int i = 0; i < QUADRATURE_SAMPLING; ++i) {
-			double[] adblValue = evaluate (dblLeftEdge + java.lang.Math.random() * dblVariateWidth);
+			double[] adblValue = evaluate (dblLeftEdge + re.nextDouble() * dblVariateWidth);
 
 			if (null == adblValue || 0 == (iOutputDimension = adblValue.length)) return null;
 
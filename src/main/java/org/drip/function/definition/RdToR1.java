@@ -180,9 +180,31 @@ public abstract class RdToR1 {
 		final double[] adblLeftEdge,
 		final double[] adblRightEdge)
 		throws java.lang.Exception
+	{
+		return integrate (adblLeftEdge, adblRightEdge, org.drip.sequence.random.RandomEngine.Standard());
+	}
+
+	/**
+	 * Evaluate the Integral of the Function over the specified Range using Uniform Monte-Carlo Samples
+	 * 	drawn from the specified Random Engine
+	 * 
+	 * @param adblLeftEdge Array of Input Left Edge
+	 * @param adblRightEdge Array of Input Right Edge
+	 * @param re The Random Engine
+	 *  
+	 * @return The Result of the Integration over the specified Range
+	 * 
+	 * @throws java.lang.Exception Thrown if the Integration cannot be done
+	 */
+
+	public double integrate (
+		final double[] adblLeftEdge,
+		final double[] adblRightEdge,
+		final org.drip.sequence.random.RandomEngine re)
+		throws java.lang.Exception
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (adblLeftEdge) ||
-			!org.drip.quant.common.NumberUtil.IsValid (adblRightEdge))
+			!org.drip.quant.common.NumberUtil.IsValid (adblRightEdge) || null == re)
 			throw new java.lang.Exception ("RdToR1::integrate => Invalid Inputs");
 
 		double dblIntegrand = 0.;
@@ -197,8 +219,10 @@ public abstract class RdToR1 {
 			adblVariateWidth[j] = adblRightEdge[j] - adblLeftEdge[j];
 
 		for (int i = 0; i < QUADRATURE_SAMPLING; ++i) {
+			re.fill (adblVariate);
+
 			for (int j = 0; j < iNumVariate; ++j)
-				adblVariate[j] = adblLeftEdge[j] + java.lang.Math.random() * adblVariateWidth[j];
+				adblVariate[j] = adblLeftEdge[j] + adblVariate[j] * adblVariateWidth[j];
 
 			dblIntegrand += evaluate (adblVariate);
 		}
@@ -221,9 +245,28 @@ public abstract class RdToR1 {
 	public org.drip.function.definition.VariateOutputPair maxima (
 		final double[] adblVariateLeft,
 		final double[] adblVariateRight)
+	{
+		return maxima (adblVariateLeft, adblVariateRight, org.drip.sequence.random.RandomEngine.Standard());
+	}
+
+	/**
+	 * Compute the Maximum VOP within the Variate Array Range Using Uniform Monte-Carlo Samples drawn from the
+	 * 	specified Random Engine
+	 * 
+	 * @param adblVariateLeft The Range Left End Array
+	 * @param adblVariateRight The Range Right End Array
+	 * @param re The Random Engine
+	 * 
+	 * @return The Maximum VOP
+	 */
+
+	public org.drip.function.definition.VariateOutputPair maxima (
+		final double[] adblVariateLeft,
+		final double[] adblVariateRight,
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (adblVariateLeft) ||
-			!org.drip.quant.common.NumberUtil.IsValid (adblVariateRight))
+			!org.drip.quant.common.NumberUtil.IsValid (adblVariateRight) || null == re)
 			return null;
 
 		double dblValue = java.lang.Double.NaN;
@@ -239,8 +282,10 @@ public abstract class RdToR1 {
 			adblVariateWidth[j] = adblVariateRight[j] - adblVariateLeft[j];
 
 		for (int i = 0; i < EXTREMA_SAMPLING; ++i) {
+			re.fill (adblVariate);
+
 			for (int j = 0; j < iNumVariate; ++j)
-				adblVariate[j] = adblVariateLeft[j] + java.lang.Math.random() * adblVariateWidth[j];
+				adblVariate[j] = adblVariateLeft[j] + adblVariate[j] * adblVariateWidth[j];
 
 			try {
 				dblValue = evaluate (adblVariate);
@@ -287,9 +332,28 @@ public abstract class RdToR1 {
 	public org.drip.function.definition.VariateOutputPair minima (
 		final double[] adblVariateLeft,
 		final double[] adblVariateRight)
+	{
+		return minima (adblVariateLeft, adblVariateRight, org.drip.sequence.random.RandomEngine.Standard());
+	}
+
+	/**
+	 * Compute the Minimum VOP within the Variate Array Range Using Uniform Monte-Carlo Samples drawn from the
+	 * 	specified Random Engine
+	 * 
+	 * @param adblVariateLeft The Range Left End Array
+	 * @param adblVariateRight The Range Right End Array
+	 * @param re The Random Engine
+	 * 
+	 * @return The Minimum VOP
+	 */
+
+	public org.drip.function.definition.VariateOutputPair minima (
+		final double[] adblVariateLeft,
+		final double[] adblVariateRight,
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (adblVariateLeft) ||
-			!org.drip.quant.common.NumberUtil.IsValid (adblVariateRight))
+			!org.drip.quant.common.NumberUtil.IsValid (adblVariateRight) || null == re)
 			return null;
 
 		double dblValue = java.lang.Double.NaN;
@@ -305,8 +369,10 @@ public abstract class RdToR1 {
 			adblVariateWidth[j] = adblVariateRight[j] - adblVariateLeft[j];
 
 		for (int i = 0; i < EXTREMA_SAMPLING; ++i) {
+			re.fill (adblVariate);
+
 			for (int j = 0; j < iNumVariate; ++j)
-				adblVariate[j] = adblVariateLeft[j] + java.lang.Math.random() * adblVariateWidth[j];
+				adblVariate[j] = adblVariateLeft[j] + adblVariate[j] * adblVariateWidth[j];
 
 			try {
 				dblValue = evaluate (adblVariate);
@@ -180,9 +180,28 @@ public abstract class RdToRd {
 	public double[] integrate (
 		final double[] adblLeftEdge,
 		final double[] adblRightEdge)
+	{
+		return integrate (adblLeftEdge, adblRightEdge, org.drip.sequence.random.RandomEngine.Standard());
+	}
+
+	/**
+	 * Integrate over the given Input Range Using Uniform Monte-Carlo Samples drawn from the specified Random
+	 * 	Engine
+	 * 
+	 * @param adblLeftEdge Array of Input Left Edge
+	 * @param adblRightEdge Array of Input Right Edge
+	 * @param re The Random Engine
+	 *  
+	 * @return The Array Containing the Result of the Integration over the specified Range
+	 */
+
+	public double[] integrate (
+		final double[] adblLeftEdge,
+		final double[] adblRightEdge,
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (adblLeftEdge) ||
-			!org.drip.quant.common.NumberUtil.IsValid (adblRightEdge))
+			!org.drip.quant.common.NumberUtil.IsValid (adblRightEdge) || null == re)
 			return null;
 
 		int iOutputDimension = -1;
@@ -197,8 +216,10 @@ public abstract class RdToRd {
 			adblVariateWidth[j] = adblRightEdge[j] - adblLeftEdge[j];
 
 		for (int i = 0; i < QUADRATURE_SAMPLING; ++i) {
+			re.fill (adblVariate);
+
 			for (int j = 0; j < iNumVariate; ++j)
-				adblVariate[j] = adblLeftEdge[j] + java.lang.Math.random() * adblVariateWidth[j];
+				adblVariate[j] = adblLeftEdge[j] + adblVariate[j] * adblVariateWidth[j];
 
 			double[] adblValue = evaluate (adblVariate);
 
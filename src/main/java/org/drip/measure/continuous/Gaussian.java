@@ -38,20 +38,12 @@ package org.drip.measure.continuous;
  */
 
 public class Gaussian {
-    private static final double InverseCDF (
-    	final double dblY,
-    	final double dblTolerance,
-    	final double dblLowCutoff,
-    	final double dblHighCutoff)
-    	throws java.lang.Exception
-    {
-        double dblMid = 0.5 * (dblHighCutoff + dblLowCutoff);
 
-        if (dblHighCutoff - dblLowCutoff < dblTolerance) return dblMid;
+    /**
+     * The Bound the Inverse CDF is clamped to - 0 and 1 (and Probabilities in the far Tails) map to -/+ 8
+     */
 
-        return CDF (dblMid) > dblY ? InverseCDF (dblY, dblTolerance, dblLowCutoff, dblMid) : InverseCDF
-        	(dblY, dblTolerance, dblMid, dblHighCutoff);
-    }
+    public static final double INVERSE_CDF_BOUND = 8.;
 
     /**
      * Retrieve the Density at the specified Point using Zero Mean and Unit Variance
@@ -89,23 +81,11 @@ public class Gaussian {
     {
     	if (java.lang.Double.isNaN (dblX)) throw new java.lang.Exception ("Gaussian::CDF => Invalid Inputs");
 
-        if (dblX < -8.) return 0.;
-
-        if (dblX > 8.) return 1.;
-
-        double dblSum = 0.;
-        double dblTerm = dblX;
-
-        for (int i = 3; dblSum + dblTerm != dblSum; i += 2) {
-        	dblSum  = dblSum + dblTerm;
-        	dblTerm = dblTerm * dblX * dblX / i;
-        }
-
-        return 0.5 + dblSum * Density (dblX);
+        return org.drip.measure.continuous.GaussianKernel.CDF (dblX);
     }
 
     /**
-     * Compute the Inverse CDF of the Distribution up to the specified Y
+     * Compute the Inverse CDF of the Distribution up to the specified Y, clamped to +/- INVERSE_CDF_BOUND
      * 
      * @param dblY Y
      * 
@@ -121,6 +101,12 @@ public class Gaussian {
     	if (!org.drip.quant.common.NumberUtil.IsValid (dblY))
     		throw new java.lang.Exception ("Gaussian::InverseCDF => Invalid Inputs");
 
-        return InverseCDF (dblY, .00000001, -8., 8.);
+        double dblX = org.drip.measure.continuous.GaussianKernel.InverseCDF (dblY);
+
+        if (java.lang.Double.isNaN (dblX))
+    		throw new java.lang.Exception ("Gaussian::InverseCDF => Invalid Inputs");
+
+        return dblX < -INVERSE_CDF_BOUND ? -INVERSE_CDF_BOUND : dblX > INVERSE_CDF_BOUND ?
+        	INVERSE_CDF_BOUND : dblX;
     } 
 }
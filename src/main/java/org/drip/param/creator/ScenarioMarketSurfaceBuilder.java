@@ -83,9 +83,9 @@ public class ScenarioMarketSurfaceBuilder {
 		}
 
 		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBCWireSpan = new
-			org.drip.spline.params.SegmentCustomBuilderControl[iNumX - 1];
+			org.drip.spline.params.SegmentCustomBuilderControl[iNumMaturity - 1];
 
-		for (int i = 0; i < iNumX - 1; ++i)
+		for (int i = 0; i < iNumMaturity - 1; ++i)
 			aSCBCWireSpan[i] = scbcWireSpan;
 
 		java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> mapWireSpan = new
@@ -552,7 +552,8 @@ public class ScenarioMarketSurfaceBuilder {
 		int iStrike = 0;
 		int iNumTenor = astrTenor.length;
 		int iNumStrike = adblStrike.length;
-		double[][] aadblImpliedNode = new double[iNumStrike][iNumTenor];
+		double[] adblTimeToExpiry = new double[iNumTenor];
+		double[][] aadblCallPrice = new double[iNumStrike][iNumTenor];
 		org.drip.pricer.option.HestonStochasticVolatilityAlgorithm hsva = null;
 
 		try {
@@ -565,34 +566,98 @@ public class ScenarioMarketSurfaceBuilder {
 
 		if (0 == iNumTenor || 0 == iNumStrike) return null;
 
-		for (double dblStrike : adblStrike) {
-			int iTenor = 0;
-
-			for (String strTenor : astrTenor) {
-				try {
-					double dblTimeToExpiry = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction
-						(strTenor);
+		try {
+			for (int j = 0; j < iNumTenor; ++j)
+				adblTimeToExpiry[j] = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction
+					(astrTenor[j]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
 
-					org.drip.pricer.option.Greeks callGreeks = hsva.greeks (dblStrike, dblTimeToExpiry,
-						dblRiskFreeRate, dblUnderlier, false, bIsForward, dblInitialVolatility);
+			return null;
+		}
 
-					if (null == callGreeks) return null;
+		for (double dblStrike : adblStrike) {
+			for (int j = 0; j < iNumTenor; ++j) {
+				org.drip.pricer.option.Greeks callGreeks = hsva.greeks (dblStrike, adblTimeToExpiry[j],
+					dblRiskFreeRate, dblUnderlier, false, bIsForward, dblInitialVolatility);
 
-					aadblImpliedNode[iStrike][iTenor++] = bPriceSurface ? callGreeks.price() : new
-						org.drip.pricer.option.BlackScholesAlgorithm().impliedVolatilityFromPrice
-							(dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, false, false,
-								callGreeks.price());
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
+				if (null == callGreeks) return null;
 
-					return null;
-				}
+				aadblCallPrice[iStrike][j] = callGreeks.price();
 			}
 
 			++iStrike;
 		}
 
+		double[][] aadblImpliedNode = bPriceSurface ? aadblCallPrice : hsva.impliedBlackScholesVolatility
+			(adblStrike, adblTimeToExpiry, dblRiskFreeRate, dblUnderlier, false, false, aadblCallPrice,
+				java.lang.Runtime.getRuntime().availableProcessors());
+
+		if (null == aadblImpliedNode) return null;
+
 		return CustomWireSurface (strName, dtStart, strCurrency, collatParams, adblStrike, astrTenor,
 			aadblImpliedNode, scbcWireSpan, scbcSurface);
 	}
+
+	/**
+	 * Construct a Scenario Implied Volatility Market Surface from a Grid of Option Price Quotes, inverting
+	 * 	the Quotes through the Batch Implied Volatility of the specified Generator with the Expiries fanned
+	 * 	out across the Available Processors
+	 * 
+	 * @param strName Surface Name
+	 * @param dtStart Epoch/Start Date
+	 * @param strCurrency Currency
+	 * @param collatParams Collateral Parameters
+	 * @param dblRiskFreeRate Risk-Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Quotes are Put Prices
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param adblStrike Array of Strikes
+	 * @param astrTenor Array of Maturity Tenors
+	 * @param aadblPrice Grid of Option Prices, indexed by Strike and then by Tenor
+	 * @param fpg The Generator whose Volatility is implied
+	 * @param scbcWireSpan The Wire Span Segment Customizer
+	 * @param scbcSurface The Surface Segment Customizer
+	 * 
+	 * @return Instance of the Implied Volatility Market Surface
+	 */
+
+	public static final org.drip.analytics.definition.MarketSurface ImpliedVolatilityMarketSurface (
+		final String strName,
+		final org.drip.analytics.date.JulianDate dtStart,
+		final String strCurrency,
+		final org.drip.param.valuation.CollateralizationParams collatParams,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[] adblStrike,
+		final String[] astrTenor,
+		final double[][] aadblPrice,
+		final org.drip.pricer.option.FokkerPlanckGenerator fpg,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcWireSpan,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcSurface)
+	{
+		if (null == astrTenor || null == fpg) return null;
+
+		int iNumTenor = astrTenor.length;
+		double[] adblTimeToExpiry = new double[iNumTenor];
+
+		try {
+			for (int j = 0; j < iNumTenor; ++j)
+				adblTimeToExpiry[j] = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction
+					(astrTenor[j]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		double[][] aadblImpliedVolatility = fpg.impliedVolatilityFromPrice (adblStrike, adblTimeToExpiry,
+			dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, aadblPrice,
+				java.lang.Runtime.getRuntime().availableProcessors());
+
+		return null == aadblImpliedVolatility ? null : CustomWireSurface (strName, dtStart, strCurrency,
+			collatParams, adblStrike, astrTenor, aadblImpliedVolatility, scbcWireSpan, scbcSurface);
+	}
 }
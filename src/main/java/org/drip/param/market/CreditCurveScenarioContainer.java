@@ -82,6 +82,33 @@ public class CreditCurveScenarioContainer extends org.drip.param.definition.Scen
 			throw new java.lang.Exception ("CreditCurveScenarioContainer ctr => Invalid Inputs!");
 	}
 
+	/**
+	 * Construct CreditCurveScenarioContainer from the array of calibration instruments, the coupon bump
+	 * 	parameter, the recovery bump parameter, and the Executor on which the Tenor Bumped Curves are
+	 * 	calibrated in parallel
+	 * 
+	 * @param aCalibInst Array of calibration instruments
+	 * @param dblCouponBump Coupon Bump
+	 * @param dblRecoveryBump Recovery Bump
+	 * @param es The Executor Service (NULL => Calibrate the Tenor Bumped Curves serially)
+	 * 
+	 * @throws java.lang.Exception Thrown if inputs are invalid
+	 */
+
+	public CreditCurveScenarioContainer (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final double dblCouponBump,
+		final double dblRecoveryBump,
+		final java.util.concurrent.ExecutorService es)
+		throws java.lang.Exception
+	{
+		if (null == aCalibInst || 0 == aCalibInst.length || !org.drip.quant.common.NumberUtil.IsValid
+			(_dblCouponBump = dblCouponBump) || !org.drip.quant.common.NumberUtil.IsValid (_dblRecoveryBump =
+				dblRecoveryBump) || null == (_ccsg = new
+					org.drip.state.estimator.CreditCurveScenarioGenerator (aCalibInst, es)))
+			throw new java.lang.Exception ("CreditCurveScenarioContainer ctr => Invalid Inputs!");
+	}
+
 	@Override public boolean cookScenarioCC (
 		final String strName,
 		final org.drip.param.valuation.ValuationParams valParams,
@@ -120,13 +147,13 @@ public class CreditCurveScenarioContainer extends org.drip.param.definition.Scen
 
 		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_UP & iScenario)) {
 			if (null == (_mapTenorCCBumpUp = _ccsg.createTenorCCMap (strName, valParams, dc, dcTSY,
-				adblQuote, _dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
+				adblQuote, _dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat, _ccBase)))
 				return false;
 		}
 
 		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_DN & iScenario)) {
 			if (null == (_mapTenorCCBumpDn = _ccsg.createTenorCCMap (strName, valParams, dc, dcTSY,
-				adblQuote, -_dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
+				adblQuote, -_dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat, _ccBase)))
 				return false;
 		}
 
@@ -46,37 +46,37 @@ public class CurveSurfaceQuoteSet {
 			_mapPayCurrencyForeignCollateralDC = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
-		_mapEquityCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>
+		_lsstFXCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
-		_mapCreditCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>
+		_lsstEquityCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.ForwardCurve>
-		_mapForwardCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.ForwardCurve>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>
+		_lsstPaydownCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
-		_mapFundingCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>
+		_lsstRecoveryCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
-		_mapFXCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.analytics.rates.ForwardCurve>
+		_lsstForwardCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.analytics.rates.ForwardCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
-		_mapGovvieCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.analytics.rates.DiscountCurve>
+		_lsstGovvieCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.analytics.rates.DiscountCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
-		_mapPaydownCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.analytics.rates.DiscountCurve>
+		_lsstFundingCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.analytics.rates.DiscountCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
-		_mapRecoveryCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.analytics.definition.CreditCurve>
+		_lsstCreditCurve = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.analytics.definition.CreditCurve>();
 
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
 		_mapCollateralVolatilitySurface = new
@@ -461,11 +461,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.definition.CreditCurve creditCurve (
 		final org.drip.state.identifier.CreditLabel creditLabel)
 	{
-		if (null == creditLabel) return null;
+		return null == creditLabel ? null : creditCurve (creditLabel.lookupID());
+	}
 
-		String strCreditLabel = creditLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Credit Latent State from the Slot - the Interned ID of its Label - that the Pricers may
+	 * 	resolve once and hold across a Valuation
+	 * 
+	 * @param iCreditSlot The Credit Latent State Slot
+	 * 
+	 * @return The Credit Latent State from the Slot
+	 */
 
-		return !_mapCreditCurve.containsKey (strCreditLabel) ? null : _mapCreditCurve.get (strCreditLabel);
+	public org.drip.analytics.definition.CreditCurve creditCurve (
+		final int iCreditSlot)
+	{
+		return _lsstCreditCurve.get (iCreditSlot);
 	}
 
 	/**
@@ -481,7 +492,12 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == cc) return false;
 
-		_mapCreditCurve.put (cc.label().fullyQualifiedName(), cc);
+		int iCreditSlot = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+			(org.drip.state.identifier.CreditLabel.class, cc.label().fullyQualifiedName());
+
+		if (0 > iCreditSlot) return false;
+
+		_lsstCreditCurve.set (iCreditSlot, cc);
 
 		return true;
 	}
@@ -497,11 +513,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 equityCurve (
 		final org.drip.state.identifier.EquityLabel equityLabel)
 	{
-		if (null == equityLabel) return null;
+		return null == equityLabel ? null : equityCurve (equityLabel.lookupID());
+	}
 
-		String strCode = equityLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Equity Curve from the Slot - the Interned ID of its Label - that the Pricers may resolve
+	 * 	once and hold across a Valuation
+	 * 
+	 * @param iEquitySlot The Equity Latent State Slot
+	 * 
+	 * @return Equity Curve
+	 */
 
-		return _mapEquityCurve.containsKey (strCode) ? _mapEquityCurve.get (strCode) : null;
+	public org.drip.function.definition.R1ToR1 equityCurve (
+		final int iEquitySlot)
+	{
+		return _lsstEquityCurve.get (iEquitySlot);
 	}
 
 	/**
@@ -519,7 +546,11 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == equityLabel || null == auEquity) return false;
 
-		_mapEquityCurve.put (equityLabel.fullyQualifiedName(), auEquity);
+		int iEquitySlot = equityLabel.internedID();
+
+		if (0 > iEquitySlot) return false;
+
+		_lsstEquityCurve.set (iEquitySlot, auEquity);
 
 		return true;
 	}
@@ -535,12 +566,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.rates.ForwardCurve forwardCurve (
 		final org.drip.state.identifier.ForwardLabel forwardLabel)
 	{
-		if (null == forwardLabel) return null;
+		return null == forwardLabel ? null : forwardCurve (forwardLabel.lookupID());
+	}
 
-		String strForwardLabel = forwardLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Forward Curve from the Slot - the Interned ID of its Label - that the Pricers may resolve
+	 * 	once and hold across a Valuation
+	 * 
+	 * @param iForwardSlot Forward Latent State Slot
+	 * 
+	 * @return Forward Curve
+	 */
 
-		return _mapForwardCurve.containsKey (strForwardLabel) ? _mapForwardCurve.get (strForwardLabel) :
-			null;
+	public org.drip.analytics.rates.ForwardCurve forwardCurve (
+		final int iForwardSlot)
+	{
+		return _lsstForwardCurve.get (iForwardSlot);
 	}
 
 	/**
@@ -556,7 +597,12 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == fc) return false;
 
-		_mapForwardCurve.put (fc.label().fullyQualifiedName(), fc);
+		int iForwardSlot = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+			(org.drip.state.identifier.ForwardLabel.class, fc.label().fullyQualifiedName());
+
+		if (0 > iForwardSlot) return false;
+
+		_lsstForwardCurve.set (iForwardSlot, fc);
 
 		return true;
 	}
@@ -572,12 +618,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.rates.DiscountCurve fundingCurve (
 		final org.drip.state.identifier.FundingLabel fundingLabel)
 	{
-		if (null == fundingLabel) return null;
+		return null == fundingLabel ? null : fundingCurve (fundingLabel.lookupID());
+	}
 
-		String strFundingLabel = fundingLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Funding Latent State from the Slot - the Interned ID of its Label - that the Pricers may
+	 * 	resolve once and hold across a Valuation
+	 * 
+	 * @param iFundingSlot Funding Latent State Slot
+	 * 
+	 * @return The Funding Latent State
+	 */
 
-		return _mapFundingCurve.containsKey (strFundingLabel) ? _mapFundingCurve.get (strFundingLabel) :
-			null;
+	public org.drip.analytics.rates.DiscountCurve fundingCurve (
+		final int iFundingSlot)
+	{
+		return _lsstFundingCurve.get (iFundingSlot);
 	}
 
 	/**
@@ -593,7 +649,12 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == dc) return false;
 
-		_mapFundingCurve.put (dc.label().fullyQualifiedName(), dc);
+		int iFundingSlot = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+			(org.drip.state.identifier.FundingLabel.class, dc.label().fullyQualifiedName());
+
+		if (0 > iFundingSlot) return false;
+
+		_lsstFundingCurve.set (iFundingSlot, dc);
 
 		return true;
 	}
@@ -609,11 +670,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 fxCurve (
 		final org.drip.state.identifier.FXLabel fxLabel)
 	{
-		if (null == fxLabel) return null;
+		return null == fxLabel ? null : fxCurve (fxLabel.lookupID());
+	}
 
-		String strCode = fxLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the FX Curve from the Slot - the Interned ID of its Label - that the Pricers may resolve once
+	 * 	and hold across a Valuation
+	 * 
+	 * @param iFXSlot The FX Latent State Slot
+	 * 
+	 * @return FX Curve
+	 */
 
-		return _mapFXCurve.containsKey (strCode) ? _mapFXCurve.get (strCode) : null;
+	public org.drip.function.definition.R1ToR1 fxCurve (
+		final int iFXSlot)
+	{
+		return _lsstFXCurve.get (iFXSlot);
 	}
 
 	/**
@@ -631,10 +703,18 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == fxLabel || null == auFX) return false;
 
-		_mapFXCurve.put (fxLabel.fullyQualifiedName(), auFX);
+		int iFXSlot = fxLabel.internedID();
+
+		if (0 > iFXSlot) return false;
+
+		_lsstFXCurve.set (iFXSlot, auFX);
 
 		try {
-			_mapFXCurve.put (fxLabel.inverse().fullyQualifiedName(), new
+			int iInverseFXSlot = fxLabel.inverse().internedID();
+
+			if (0 > iInverseFXSlot) return false;
+
+			_lsstFXCurve.set (iInverseFXSlot, new
 				org.drip.function.R1ToR1.UnivariateReciprocal (auFX));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
@@ -656,11 +736,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.rates.DiscountCurve govvieCurve (
 		final org.drip.state.identifier.GovvieLabel govvieLabel)
 	{
-		if (null == govvieLabel) return null;
+		return null == govvieLabel ? null : govvieCurve (govvieLabel.lookupID());
+	}
 
-		String strGovvieLabel = govvieLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Government Curve from the Slot - the Interned ID of its Label - that the Pricers may
+	 * 	resolve once and hold across a Valuation
+	 * 
+	 * @param iGovvieSlot Govvie Curve Latent State Slot
+	 * 
+	 * @return Government Curve for the specified Slot
+	 */
 
-		return !_mapGovvieCurve.containsKey (strGovvieLabel) ? null : _mapGovvieCurve.get (strGovvieLabel);
+	public org.drip.analytics.rates.DiscountCurve govvieCurve (
+		final int iGovvieSlot)
+	{
+		return _lsstGovvieCurve.get (iGovvieSlot);
 	}
 
 	/**
@@ -676,7 +767,12 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == dcGovvie) return false;
 
-		_mapGovvieCurve.put (dcGovvie.label().fullyQualifiedName(), dcGovvie);
+		int iGovvieSlot = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+			(org.drip.state.identifier.GovvieLabel.class, dcGovvie.label().fullyQualifiedName());
+
+		if (0 > iGovvieSlot) return false;
+
+		_lsstGovvieCurve.set (iGovvieSlot, dcGovvie);
 
 		return true;
 	}
@@ -692,11 +788,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 paydownCurve (
 		final org.drip.state.identifier.PaydownLabel paydownLabel)
 	{
-		if (null == paydownLabel) return null;
+		return null == paydownLabel ? null : paydownCurve (paydownLabel.lookupID());
+	}
 
-		String strCode = paydownLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Pay-down Curve from the Slot - the Interned ID of its Label - that the Pricers may resolve
+	 * 	once and hold across a Valuation
+	 * 
+	 * @param iPaydownSlot The Pay-down Latent State Slot
+	 * 
+	 * @return Pay-down Curve
+	 */
 
-		return _mapPaydownCurve.containsKey (strCode) ? _mapPaydownCurve.get (strCode) : null;
+	public org.drip.function.definition.R1ToR1 paydownCurve (
+		final int iPaydownSlot)
+	{
+		return _lsstPaydownCurve.get (iPaydownSlot);
 	}
 
 	/**
@@ -714,7 +821,11 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == paydownLabel || null == auPaydown) return false;
 
-		_mapPaydownCurve.put (paydownLabel.fullyQualifiedName(), auPaydown);
+		int iPaydownSlot = paydownLabel.internedID();
+
+		if (0 > iPaydownSlot) return false;
+
+		_lsstPaydownCurve.set (iPaydownSlot, auPaydown);
 
 		return true;
 	}
@@ -730,12 +841,22 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 recoveryCurve (
 		final org.drip.state.identifier.RecoveryLabel recoveryLabel)
 	{
-		if (null == recoveryLabel) return null;
+		return null == recoveryLabel ? null : recoveryCurve (recoveryLabel.lookupID());
+	}
 
-		String strRecoveryLabel = recoveryLabel.fullyQualifiedName();
+	/**
+	 * Retrieve the Recovery Latent State from the Slot - the Interned ID of its Label - that the Pricers may
+	 * 	resolve once and hold across a Valuation
+	 * 
+	 * @param iRecoverySlot The Recovery Latent State Slot
+	 * 
+	 * @return The Recovery Latent State from the Slot
+	 */
 
-		return !_mapRecoveryCurve.containsKey (strRecoveryLabel) ? null : _mapRecoveryCurve.get
-			(strRecoveryLabel);
+	public org.drip.function.definition.R1ToR1 recoveryCurve (
+		final int iRecoverySlot)
+	{
+		return _lsstRecoveryCurve.get (iRecoverySlot);
 	}
 
 	/**
@@ -753,7 +874,11 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == recoveryLabel || null == auRC) return false;
 
-		_mapRecoveryCurve.put (recoveryLabel.fullyQualifiedName(), auRC);
+		int iRecoverySlot = recoveryLabel.internedID();
+
+		if (0 > iRecoverySlot) return false;
+
+		_lsstRecoveryCurve.set (iRecoverySlot, auRC);
 
 		return true;
 	}
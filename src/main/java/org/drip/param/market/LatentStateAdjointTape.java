@@ -0,0 +1,378 @@
+
+package org.drip.param.market;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateAdjointTape records the Valuation of a Component off of a CurveSurfaceQuoteSet onto an
+ * 	AdjointTape. The Latent State Reads - the Funding Curve Discount Factors, the Forward Curve Forward
+ * 	Rates, and the Credit Curve Survival Probabilities - are recorded as Leaves, one per Curve and Date. A
+ * 	single Backward Sweep off of the Output Node produces the Adjoint of every Leaf, and these are
+ * 	contracted against the Curve's own Leaf Jacobians (jackDDFDManifestMeasure,
+ * 	jackDForwardDManifestMeasure, and jackDSurvivalDManifestMeasure respectively) into the Sensitivity of
+ * 	the Output to the Manifest Measures of every Curve the Valuation has read. The Sensitivity is not
+ * 	available if any Curve read does not expose the Leaf Jacobian (e.g., Credit Curves other than the
+ * 	ForwardHazardCreditCurve), and the Effective Discount Factor is recorded only off of Funding Curves
+ * 	that retain DiscountCurve's Trapezoidal Quadrature (e.g., not off of the DerivedZeroRate).
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateAdjointTape {
+	private static final int LEAF_FUNDING = 0;
+	private static final int LEAF_FORWARD = 1;
+	private static final int LEAF_CREDIT = 2;
+	private static final int INITIAL_TAPE_CAPACITY = 1024;
+
+	private static final java.util.Map<java.lang.Class<?>, java.lang.Boolean> s_mapTrapezoidalEffectiveDF =
+		new java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>, java.lang.Boolean>();
+
+	private static final boolean TrapezoidalEffectiveDF (
+		final org.drip.analytics.rates.DiscountCurve dc)
+		throws java.lang.Exception
+	{
+		java.lang.Class<?> clsCurve = dc.getClass();
+
+		java.lang.Boolean boolTrapezoidal = s_mapTrapezoidalEffectiveDF.get (clsCurve);
+
+		if (null == boolTrapezoidal)
+			s_mapTrapezoidalEffectiveDF.put (clsCurve, boolTrapezoidal =
+				org.drip.analytics.rates.DiscountCurve.class == clsCurve.getMethod ("effectiveDF",
+					double.class, double.class).getDeclaringClass());
+
+		return boolTrapezoidal;
+	}
+
+	static class CurveLeaves {
+		int _iLeafType = -1;
+		org.drip.analytics.definition.Curve _curve = null;
+
+		java.util.Map<java.lang.Double, java.lang.Integer> _mapLeafNode = new
+			java.util.HashMap<java.lang.Double, java.lang.Integer>();
+
+		CurveLeaves (
+			final int iLeafType,
+			final org.drip.analytics.definition.Curve curve)
+		{
+			_curve = curve;
+			_iLeafType = iLeafType;
+		}
+
+		org.drip.quant.calculus.WengertJacobian leafJack (
+			final double dblDate,
+			final String strManifestMeasure)
+		{
+			if (LEAF_FUNDING == _iLeafType)
+				return ((org.drip.analytics.rates.DiscountCurve) _curve).jackDDFDManifestMeasure (dblDate,
+					strManifestMeasure);
+
+			if (LEAF_FORWARD == _iLeafType)
+				return ((org.drip.analytics.rates.ForwardCurve) _curve).jackDForwardDManifestMeasure
+					(strManifestMeasure, dblDate);
+
+			return ((org.drip.analytics.definition.CreditCurve) _curve).jackDSurvivalDManifestMeasure
+				(dblDate, strManifestMeasure);
+		}
+	}
+
+	private org.drip.quant.calculus.AdjointTape _tape = null;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+
+	private java.util.Map<org.drip.analytics.definition.Curve, CurveLeaves> _mapCurveLeaves = new
+		java.util.IdentityHashMap<org.drip.analytics.definition.Curve, CurveLeaves>();
+
+	private java.util.List<CurveLeaves> _lsCurveLeaves = new java.util.ArrayList<CurveLeaves>();
+
+	private int leaf (
+		final int iLeafType,
+		final org.drip.analytics.definition.Curve curve,
+		final double dblDate,
+		final double dblValue)
+		throws java.lang.Exception
+	{
+		CurveLeaves cl = _mapCurveLeaves.get (curve);
+
+		if (null == cl) {
+			_mapCurveLeaves.put (curve, cl = new CurveLeaves (iLeafType, curve));
+
+			_lsCurveLeaves.add (cl);
+		}
+
+		java.lang.Integer iNode = cl._mapLeafNode.get (dblDate);
+
+		if (null != iNode) return iNode;
+
+		int iLeafNode = _tape.leaf (dblValue);
+
+		cl._mapLeafNode.put (dblDate, iLeafNode);
+
+		return iLeafNode;
+	}
+
+	/**
+	 * LatentStateAdjointTape Constructor
+	 * 
+	 * @param csqs The Market Curve Surface/Quote Set the Valuation reads
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public LatentStateAdjointTape (
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+		throws java.lang.Exception
+	{
+		if (null == (_csqs = csqs))
+			throw new java.lang.Exception ("LatentStateAdjointTape ctr: Invalid Inputs");
+
+		_tape = new org.drip.quant.calculus.AdjointTape (INITIAL_TAPE_CAPACITY);
+	}
+
+	/**
+	 * Retrieve the Underlying AdjointTape
+	 * 
+	 * @return The Underlying AdjointTape
+	 */
+
+	public org.drip.quant.calculus.AdjointTape tape()
+	{
+		return _tape;
+	}
+
+	/**
+	 * Retrieve the Market Curve Surface/Quote Set
+	 * 
+	 * @return The Market Curve Surface/Quote Set
+	 */
+
+	public org.drip.param.market.CurveSurfaceQuoteSet csqs()
+	{
+		return _csqs;
+	}
+
+	/**
+	 * Record the Discount Factor Leaf of the Funding Curve at the specified Date
+	 * 
+	 * @param dc The Funding Curve
+	 * @param dblDate The Date
+	 * 
+	 * @return Index of the Discount Factor Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Discount Factor cannot be recorded
+	 */
+
+	public int df (
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (null == dc) throw new java.lang.Exception ("LatentStateAdjointTape::df => Invalid Inputs");
+
+		return leaf (LEAF_FUNDING, dc, dblDate, dc.df (dblDate));
+	}
+
+	/**
+	 * Record the Effective Discount Factor of the Funding Curve between the specified Dates, using the same
+	 * 	Trapezoidal Quadrature as DiscountCurve's effectiveDF. Funding Curves that override effectiveDF
+	 * 	(e.g., DerivedZeroRate) are rejected, since the recorded Node would not reproduce their Value.
+	 * 
+	 * @param dc The Funding Curve
+	 * @param dblDate1 The First Date
+	 * @param dblDate2 The Second Date
+	 * 
+	 * @return Index of the Effective Discount Factor Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Effective Discount Factor cannot be recorded
+	 */
+
+	public int effectiveDF (
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final double dblDate1,
+		final double dblDate2)
+		throws java.lang.Exception
+	{
+		if (null == dc)
+			throw new java.lang.Exception ("LatentStateAdjointTape::effectiveDF => Invalid Inputs");
+
+		if (!TrapezoidalEffectiveDF (dc))
+			throw new java.lang.Exception ("LatentStateAdjointTape::effectiveDF => " +
+				dc.label().fullyQualifiedName() + " does not use the Trapezoidal Effective DF");
+
+		if (dblDate1 == dblDate2) return df (dc, dblDate1);
+
+		int iSum = -1;
+		int iNumQuadratures = 0;
+		double dblQuadratureWidth = (dblDate2 - dblDate1) /
+			org.drip.analytics.rates.DiscountCurve.NUM_DF_QUADRATURES;
+
+		for (double dblDate = dblDate1; dblDate <= dblDate2; dblDate += dblQuadratureWidth) {
+			++iNumQuadratures;
+
+			int iQuadrature = _tape.add (df (dc, dblDate), df (dc, dblDate + dblQuadratureWidth));
+
+			iSum = -1 == iSum ? iQuadrature : _tape.add (iSum, iQuadrature);
+		}
+
+		return _tape.affine (iSum, 1. / (2. * iNumQuadratures), 0.);
+	}
+
+	/**
+	 * Record the LIBOR Rate implied by the Funding Curve between the specified Dates
+	 * 
+	 * @param dc The Funding Curve
+	 * @param dblDate1 The First Date
+	 * @param dblDate2 The Second Date
+	 * @param dblDCF The Day Count Fraction between the Dates
+	 * 
+	 * @return Index of the LIBOR Rate Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the LIBOR Rate cannot be recorded
+	 */
+
+	public int libor (
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final double dblDate1,
+		final double dblDate2,
+		final double dblDCF)
+		throws java.lang.Exception
+	{
+		if (dblDate1 == dblDate2 || !org.drip.quant.common.NumberUtil.IsValid (dblDCF) || 0. == dblDCF)
+			throw new java.lang.Exception ("LatentStateAdjointTape::libor => Invalid Inputs");
+
+		return _tape.affine (_tape.divide (df (dc, dblDate1), df (dc, dblDate2)), 1. / dblDCF, -1. / dblDCF);
+	}
+
+	/**
+	 * Record the Forward Rate Leaf of the Forward Curve at the specified Date
+	 * 
+	 * @param fc The Forward Curve
+	 * @param dblDate The Date
+	 * 
+	 * @return Index of the Forward Rate Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Forward Rate cannot be recorded
+	 */
+
+	public int forward (
+		final org.drip.analytics.rates.ForwardCurve fc,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (null == fc) throw new java.lang.Exception ("LatentStateAdjointTape::forward => Invalid Inputs");
+
+		return leaf (LEAF_FORWARD, fc, dblDate, fc.forward (dblDate));
+	}
+
+	/**
+	 * Record the Survival Probability Leaf of the Credit Curve at the specified Date
+	 * 
+	 * @param cc The Credit Curve
+	 * @param dblDate The Date
+	 * 
+	 * @return Index of the Survival Probability Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Survival Probability cannot be recorded
+	 */
+
+	public int survival (
+		final org.drip.analytics.definition.CreditCurve cc,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (null == cc) throw new java.lang.Exception ("LatentStateAdjointTape::survival => Invalid Inputs");
+
+		return leaf (LEAF_CREDIT, cc, dblDate, cc.survival (dblDate));
+	}
+
+	/**
+	 * Run a single Backward Sweep off of the Output Node, and contract the Leaf Adjoints into the
+	 * 	Sensitivities of the Output to the Manifest Measures of each Curve read
+	 * 
+	 * @param iOutput Index of the Output Node
+	 * @param strManifestMeasure The Manifest Measure
+	 * 
+	 * @return The AdjointSensitivity (NULL if any Curve read does not expose its Leaf Jacobian)
+	 */
+
+	public org.drip.analytics.output.AdjointSensitivity sensitivity (
+		final int iOutput,
+		final String strManifestMeasure)
+	{
+		try {
+			double[] adblAdjoint = _tape.adjoint (iOutput);
+
+			double dblOutput = _tape.value (iOutput);
+
+			org.drip.analytics.output.AdjointSensitivity as = new
+				org.drip.analytics.output.AdjointSensitivity (dblOutput, strManifestMeasure);
+
+			for (CurveLeaves cl : _lsCurveLeaves) {
+				org.drip.quant.calculus.WengertJacobian wjCurve = null;
+
+				for (java.util.Map.Entry<java.lang.Double, java.lang.Integer> meLeaf :
+					cl._mapLeafNode.entrySet()) {
+					double dblAdjoint = adblAdjoint[meLeaf.getValue()];
+
+					if (0. == dblAdjoint) continue;
+
+					org.drip.quant.calculus.WengertJacobian wjLeaf = cl.leafJack (meLeaf.getKey(),
+						strManifestMeasure);
+
+					if (null == wjLeaf || 0 == wjLeaf.numParameters() || (null != wjCurve &&
+						wjCurve.numParameters() != wjLeaf.numParameters()))
+						throw new java.lang.Exception ("LatentStateAdjointTape::sensitivity => " +
+							"No Leaf Jacobian for " + cl._curve.label().fullyQualifiedName());
+
+					if (null == wjCurve) {
+						wjCurve = new org.drip.quant.calculus.WengertJacobian (1, wjLeaf.numParameters());
+
+						if (!wjCurve.setWengert (0, dblOutput)) return null;
+					}
+
+					if (!wjCurve.cumulativeMerge (wjLeaf, dblAdjoint)) return null;
+				}
+
+				if (null == wjCurve) continue;
+
+				String strLabel = cl._curve.label().fullyQualifiedName();
+
+				if (LEAF_FUNDING == cl._iLeafType) {
+					if (!as.addFundingSensitivity (strLabel, wjCurve)) return null;
+				} else if (LEAF_FORWARD == cl._iLeafType) {
+					if (!as.addForwardSensitivity (strLabel, wjCurve)) return null;
+				} else if (!as.addCreditSensitivity (strLabel, wjCurve))
+					return null;
+			}
+
+			return as;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
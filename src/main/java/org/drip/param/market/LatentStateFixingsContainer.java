@@ -31,21 +31,50 @@ package org.drip.param.market;
 
 /**
  * LatentStateFixingsContainer holds the explicit fixings for a specified Latent State Quantification along
- * 	the date ordinate.
+ * 	the date ordinate. The Fixings of each Forward/FX Label are held in a Columnar
+ * 	LatentStateFixingsSeries, addressed by the Interned ID of the Label, so that the Date Lookups neither
+ * 	allocate nor compare Label Names.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class LatentStateFixingsContainer {
-	private java.util.Map<org.drip.analytics.date.JulianDate,
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>> _mmForwardFixing = new
-			java.util.TreeMap<org.drip.analytics.date.JulianDate,
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.param.market.LatentStateFixingsSeries>
+		_lsstFXFixings = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.param.market.LatentStateFixingsSeries>();
+	private org.drip.param.market.LatentStateSlotTable<org.drip.param.market.LatentStateFixingsSeries>
+		_lsstForwardFixings = new
+			org.drip.param.market.LatentStateSlotTable<org.drip.param.market.LatentStateFixingsSeries>();
+
+	org.drip.param.market.LatentStateFixingsSeries seriesOf (
+		final org.drip.state.identifier.LatentStateLabel lsl,
+		final boolean bCreate)
+	{
+		boolean bForward = lsl instanceof org.drip.state.identifier.ForwardLabel;
+
+		if (!bForward && !(lsl instanceof org.drip.state.identifier.FXLabel)) return null;
+
+		int iSlot = bCreate ? lsl.internedID() : lsl.lookupID();
+
+		if (0 > iSlot) return null;
+
+		org.drip.param.market.LatentStateSlotTable<org.drip.param.market.LatentStateFixingsSeries>
+			lsstFixings = bForward ? _lsstForwardFixings : _lsstFXFixings;
+
+		org.drip.param.market.LatentStateFixingsSeries lsfs = lsstFixings.get (iSlot);
+
+		if (null != lsfs || !bCreate) return lsfs;
 
-	private java.util.Map<org.drip.analytics.date.JulianDate,
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>> _mmFXFixing = new
-			java.util.TreeMap<org.drip.analytics.date.JulianDate,
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>();
+		try {
+			lsstFixings.set (iSlot, lsfs = new org.drip.param.market.LatentStateFixingsSeries (lsl));
+
+			return lsfs;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
 
 	/**
 	 * Empty LatentStateFixingsContainer Instance Constructor
@@ -70,35 +99,7 @@ public class LatentStateFixingsContainer {
 		final org.drip.state.identifier.LatentStateLabel lsl,
 		final double dblFixing)
 	{
-		if (null == dt || null == lsl || !org.drip.quant.common.NumberUtil.IsValid (dblFixing)) return false;
-
-		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
-			if (!_mmForwardFixing.containsKey (dt))
-				_mmForwardFixing.put (dt, new
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>());
-
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapForwardFixing =
-				_mmForwardFixing.get (dt);
-
-			mapForwardFixing.put (lsl.fullyQualifiedName(), dblFixing);
-
-			return true;
-		}
-
-		if (lsl instanceof org.drip.state.identifier.FXLabel) {
-			if (!_mmFXFixing.containsKey (dt))
-				_mmFXFixing.put (dt, new
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>());
-
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFXFixing = _mmFXFixing.get
-				(dt);
-
-			mapFXFixing.put (lsl.fullyQualifiedName(), dblFixing);
-
-			return true;
-		}
-
-		return false;
+		return null != dt && add (dt.julian(), lsl, dblFixing);
 	}
 
 	/**
@@ -116,47 +117,58 @@ public class LatentStateFixingsContainer {
 		final org.drip.state.identifier.LatentStateLabel lsl,
 		final double dblFixing)
 	{
-		try {
-			return add (new org.drip.analytics.date.JulianDate (dblDate), lsl, dblFixing);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-		}
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate) || null == lsl ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblFixing))
+			return false;
+
+		org.drip.param.market.LatentStateFixingsSeries lsfs = seriesOf (lsl, true);
 
-		return false;
+		return null != lsfs && lsfs.put ((int) dblDate, dblFixing);
 	}
 
 	/**
-	 * Remove the Latent State Fixing corresponding to the Date/Label Pair it if exists
+	 * Add the Latent State Fixings of the Label in Bulk
 	 * 
-	 * @param dt The Fixing Date
 	 * @param lsl The Latent State Fixing Label
+	 * @param adblDate Array of the Fixing Dates
+	 * @param adblFixing Array of the Fixing Amounts
 	 * 
-	 * @return TRUE => Entry successfully removed if it existed
+	 * @return TRUE => Entries successfully added
 	 */
 
-	public boolean remove (
-		final org.drip.analytics.date.JulianDate dt,
-		final org.drip.state.identifier.LatentStateLabel lsl)
+	public boolean add (
+		final org.drip.state.identifier.LatentStateLabel lsl,
+		final double[] adblDate,
+		final double[] adblFixing)
 	{
-		if (null == dt || null == lsl) return false;
+		if (null == lsl || null == adblDate || !org.drip.quant.common.NumberUtil.IsValid (adblDate))
+			return false;
 
-		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
-			if (!_mmForwardFixing.containsKey (dt)) return true;
+		int iNumFixing = adblDate.length;
+		int[] aiDay = new int[iNumFixing];
 
-			_mmForwardFixing.get (dt).remove (lsl.fullyQualifiedName());
+		for (int i = 0; i < iNumFixing; ++i)
+			aiDay[i] = (int) adblDate[i];
 
-			return true;
-		}
-
-		if (lsl instanceof org.drip.state.identifier.FXLabel) {
-			if (!_mmFXFixing.containsKey (dt)) return true;
+		org.drip.param.market.LatentStateFixingsSeries lsfs = seriesOf (lsl, true);
 
-			_mmFXFixing.get (dt).remove (lsl.fullyQualifiedName());
+		return null != lsfs && lsfs.put (aiDay, adblFixing);
+	}
 
-			return true;
-		}
+	/**
+	 * Remove the Latent State Fixing corresponding to the Date/Label Pair it if exists
+	 * 
+	 * @param dt The Fixing Date
+	 * @param lsl The Latent State Fixing Label
+	 * 
+	 * @return TRUE => Entry successfully removed if it existed
+	 */
 
-		return false;
+	public boolean remove (
+		final org.drip.analytics.date.JulianDate dt,
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		return null != dt && remove (dt.julian(), lsl);
 	}
 
 	/**
@@ -172,13 +184,16 @@ public class LatentStateFixingsContainer {
 		final double dblDate,
 		final org.drip.state.identifier.LatentStateLabel lsl)
 	{
-		try {
-			return remove (new org.drip.analytics.date.JulianDate (dblDate), lsl);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-		}
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate) || null == lsl ||
+			(!(lsl instanceof org.drip.state.identifier.ForwardLabel) && !(lsl instanceof
+				org.drip.state.identifier.FXLabel)))
+			return false;
 
-		return false;
+		org.drip.param.market.LatentStateFixingsSeries lsfs = seriesOf (lsl, false);
+
+		if (null != lsfs) lsfs.remove ((int) dblDate);
+
+		return true;
 	}
 
 	/**
@@ -197,46 +212,11 @@ public class LatentStateFixingsContainer {
 		final org.drip.state.identifier.LatentStateLabel lsl)
 		throws java.lang.Exception
 	{
-		if (null == dt || null == lsl)
+		if (null == dt)
 			throw new java.lang.Exception
 				("LatentStateFixingsContainer::fixing => Cannot locate Latent State Fixing for the Date");
 
-		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
-			if (!_mmForwardFixing.containsKey (dt))
-				throw new java.lang.Exception
-					("LatentStateFixingsContainer::fixing => Cannot locate Forward Fixing for the Date");
-
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapForwardFixing =
-				_mmForwardFixing.get (dt);
-
-			String strLabel = lsl.fullyQualifiedName();
-
-			if (!mapForwardFixing.containsKey (strLabel))
-				throw new java.lang.Exception
-					("LatentStateFixingsContainer::fixing => Cannot locate the Forward Label Entry for the Date!");
-
-			return mapForwardFixing.get (strLabel);
-		}
-
-		if (lsl instanceof org.drip.state.identifier.FXLabel) {
-			if (!_mmFXFixing.containsKey (dt))
-				throw new java.lang.Exception
-					("LatentStateFixingsContainer::fixing => Cannot locate FX Fixing for the Date");
-
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFXFixing = _mmFXFixing.get
-				(dt);
-
-			String strLabel = lsl.fullyQualifiedName();
-
-			if (!mapFXFixing.containsKey (strLabel))
-				throw new java.lang.Exception
-					("LatentStateFixingsContainer::fixing => Cannot locate the FX Label Entry for the Date!");
-
-			return mapFXFixing.get (strLabel);
-		}
-
-		throw new java.lang.Exception
-			("LatentStateFixingsContainer::fixing => No Fixings available for the Latent State");
+		return fixing (dt.julian(), lsl);
 	}
 
 	/**
@@ -255,7 +235,17 @@ public class LatentStateFixingsContainer {
 		final org.drip.state.identifier.LatentStateLabel lsl)
 		throws java.lang.Exception
 	{
-		return fixing (new org.drip.analytics.date.JulianDate (dblDate), lsl);
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate) || null == lsl)
+			throw new java.lang.Exception
+				("LatentStateFixingsContainer::fixing => Cannot locate Latent State Fixing for the Date");
+
+		org.drip.param.market.LatentStateFixingsSeries lsfs = seriesOf (lsl, false);
+
+		if (null == lsfs)
+			throw new java.lang.Exception
+				("LatentStateFixingsContainer::fixing => No Fixings available for the Latent State");
+
+		return lsfs.fixing ((int) dblDate);
 	}
 
 	/**
@@ -271,21 +261,7 @@ public class LatentStateFixingsContainer {
 		final org.drip.analytics.date.JulianDate dt,
 		final org.drip.state.identifier.LatentStateLabel lsl)
 	{
-		if (null == dt || null == lsl) return false;
-
-		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
-			if (!_mmForwardFixing.containsKey (dt)) return false;
-
-			return _mmForwardFixing.get (dt).containsKey (lsl.fullyQualifiedName());
-		}
-
-		if (lsl instanceof org.drip.state.identifier.FXLabel) {
-			if (!_mmFXFixing.containsKey (dt)) return false;
-
-			return _mmFXFixing.get (dt).containsKey (lsl.fullyQualifiedName());
-		}
-
-		return false;
+		return null != dt && available (dt.julian(), lsl);
 	}
 
 	/**
@@ -301,12 +277,70 @@ public class LatentStateFixingsContainer {
 		final double dblDate,
 		final org.drip.state.identifier.LatentStateLabel lsl)
 	{
-		try {
-			return available (new org.drip.analytics.date.JulianDate (dblDate), lsl);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate) || null == lsl) return false;
+
+		org.drip.param.market.LatentStateFixingsSeries lsfs = seriesOf (lsl, false);
+
+		return null != lsfs && lsfs.available ((int) dblDate);
+	}
+
+	/**
+	 * Retrieve the Columnar Fixings Series of the Label
+	 * 
+	 * @param lsl The Label
+	 * 
+	 * @return The Fixings Series (NULL => No Fixings have been added for the Label)
+	 */
+
+	public org.drip.param.market.LatentStateFixingsSeries series (
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		return null == lsl ? null : seriesOf (lsl, false);
+	}
+
+	/**
+	 * Retrieve all the Columnar Fixings Series, the Forward Series first and then the FX Series
+	 * 
+	 * @return List of the Fixings Series
+	 */
+
+	public java.util.List<org.drip.param.market.LatentStateFixingsSeries> series()
+	{
+		java.util.List<org.drip.param.market.LatentStateFixingsSeries> lsLSFS = new
+			java.util.ArrayList<org.drip.param.market.LatentStateFixingsSeries>();
+
+		for (org.drip.param.market.LatentStateFixingsSeries lsfs : _lsstForwardFixings.values()) {
+			if (null != lsfs && 0 != lsfs.size()) lsLSFS.add (lsfs);
+		}
+
+		for (org.drip.param.market.LatentStateFixingsSeries lsfs : _lsstFXFixings.values()) {
+			if (null != lsfs && 0 != lsfs.size()) lsLSFS.add (lsfs);
 		}
 
-		return false;
+		return lsLSFS;
+	}
+
+	/**
+	 * Slice the Fixings of the Label dated inside the [From, To] Date Range (both inclusive)
+	 * 
+	 * @param lsl The Label
+	 * @param dblFromDate The From Date
+	 * @param dblToDate The To Date
+	 * 
+	 * @return The Sliced Fixings Series (NULL => No Fixings have been added for the Label)
+	 */
+
+	public org.drip.param.market.LatentStateFixingsSeries slice (
+		final org.drip.state.identifier.LatentStateLabel lsl,
+		final double dblFromDate,
+		final double dblToDate)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblFromDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblToDate))
+			return null;
+
+		org.drip.param.market.LatentStateFixingsSeries lsfs = series (lsl);
+
+		return null == lsfs ? null : lsfs.slice ((int) dblFromDate, (int) dblToDate);
 	}
 }
@@ -0,0 +1,352 @@
+
+package org.drip.param.market;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateFixingsSeries holds the Fixings of a single Latent State Label in Columnar Form - a sorted
+ * 	Array of the Fixing Days (the Integer Part of the Julian Date) alongside the Array of the Fixing
+ * 	Values. Fixings appended in Date Order go on the end of the Arrays; the Lookups and the Range Slices
+ * 	are Binary Searches over the Days, and the Lookups do not allocate.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateFixingsSeries {
+	private int _iSize = 0;
+	private int[] _aiDay = new int[16];
+	private double[] _adblFixing = new double[16];
+	private org.drip.state.identifier.LatentStateLabel _lsl = null;
+
+	private void ensureCapacity (
+		final int iCapacity)
+	{
+		if (iCapacity <= _aiDay.length) return;
+
+		int iNewCapacity = java.lang.Math.max (iCapacity, 2 * _aiDay.length);
+
+		_aiDay = java.util.Arrays.copyOf (_aiDay, iNewCapacity);
+
+		_adblFixing = java.util.Arrays.copyOf (_adblFixing, iNewCapacity);
+	}
+
+	/**
+	 * LatentStateFixingsSeries Constructor
+	 * 
+	 * @param lsl The Latent State Label
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public LatentStateFixingsSeries (
+		final org.drip.state.identifier.LatentStateLabel lsl)
+		throws java.lang.Exception
+	{
+		if (null == (_lsl = lsl))
+			throw new java.lang.Exception ("LatentStateFixingsSeries ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Latent State Label
+	 * 
+	 * @return The Latent State Label
+	 */
+
+	public org.drip.state.identifier.LatentStateLabel label()
+	{
+		return _lsl;
+	}
+
+	/**
+	 * Retrieve the Number of Fixings
+	 * 
+	 * @return The Number of Fixings
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Locate the Fixing Day
+	 * 
+	 * @param iDay The Fixing Day
+	 * 
+	 * @return The Index of the Fixing Day if present, else (-(Insertion Index) - 1)
+	 */
+
+	public int index (
+		final int iDay)
+	{
+		if (0 != _iSize && iDay > _aiDay[_iSize - 1]) return -_iSize - 1;
+
+		return java.util.Arrays.binarySearch (_aiDay, 0, _iSize, iDay);
+	}
+
+	/**
+	 * Add/Replace the Fixing for the Day
+	 * 
+	 * @param iDay The Fixing Day
+	 * @param dblFixing The Fixing Amount
+	 * 
+	 * @return TRUE => The Fixing successfully added
+	 */
+
+	public boolean put (
+		final int iDay,
+		final double dblFixing)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblFixing)) return false;
+
+		int iIndex = index (iDay);
+
+		if (0 <= iIndex) {
+			_adblFixing[iIndex] = dblFixing;
+			return true;
+		}
+
+		iIndex = -iIndex - 1;
+
+		ensureCapacity (_iSize + 1);
+
+		if (iIndex < _iSize) {
+			java.lang.System.arraycopy (_aiDay, iIndex, _aiDay, iIndex + 1, _iSize - iIndex);
+
+			java.lang.System.arraycopy (_adblFixing, iIndex, _adblFixing, iIndex + 1, _iSize - iIndex);
+		}
+
+		_aiDay[iIndex] = iDay;
+		_adblFixing[iIndex] = dblFixing;
+		++_iSize;
+		return true;
+	}
+
+	/**
+	 * Add/Replace the Fixings in Bulk. Days that are strictly increasing and past the Last Day are appended
+	 * 	as a Block; the others are inserted one at a time.
+	 * 
+	 * @param aiDay Array of the Fixing Days
+	 * @param adblFixing Array of the Fixing Amounts
+	 * 
+	 * @return TRUE => The Fixings successfully added
+	 */
+
+	public boolean put (
+		final int[] aiDay,
+		final double[] adblFixing)
+	{
+		if (null == aiDay || null == adblFixing || aiDay.length != adblFixing.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (adblFixing))
+			return false;
+
+		int iNumFixing = aiDay.length;
+		int iNumOrdered = 0;
+
+		while (iNumOrdered < iNumFixing && (0 == iNumOrdered ? 0 == _iSize || aiDay[0] > _aiDay[_iSize - 1] :
+			aiDay[iNumOrdered] > aiDay[iNumOrdered - 1]))
+			++iNumOrdered;
+
+		ensureCapacity (_iSize + iNumOrdered);
+
+		java.lang.System.arraycopy (aiDay, 0, _aiDay, _iSize, iNumOrdered);
+
+		java.lang.System.arraycopy (adblFixing, 0, _adblFixing, _iSize, iNumOrdered);
+
+		_iSize += iNumOrdered;
+
+		for (int i = iNumOrdered; i < iNumFixing; ++i)
+			put (aiDay[i], adblFixing[i]);
+
+		return true;
+	}
+
+	/**
+	 * Remove the Fixing for the Day if it exists
+	 * 
+	 * @param iDay The Fixing Day
+	 * 
+	 * @return TRUE => The Fixing existed and was removed
+	 */
+
+	public boolean remove (
+		final int iDay)
+	{
+		int iIndex = index (iDay);
+
+		if (0 > iIndex) return false;
+
+		java.lang.System.arraycopy (_aiDay, iIndex + 1, _aiDay, iIndex, _iSize - iIndex - 1);
+
+		java.lang.System.arraycopy (_adblFixing, iIndex + 1, _adblFixing, iIndex, _iSize - iIndex - 1);
+
+		--_iSize;
+		return true;
+	}
+
+	/**
+	 * Indicate the Availability of the Fixing for the Day
+	 * 
+	 * @param iDay The Fixing Day
+	 * 
+	 * @return TRUE => The Fixing is available
+	 */
+
+	public boolean available (
+		final int iDay)
+	{
+		return 0 <= index (iDay);
+	}
+
+	/**
+	 * Retrieve the Fixing for the Day
+	 * 
+	 * @param iDay The Fixing Day
+	 * 
+	 * @return The Fixing for the Day
+	 * 
+	 * @throws java.lang.Exception Thrown if the Fixing cannot be found
+	 */
+
+	public double fixing (
+		final int iDay)
+		throws java.lang.Exception
+	{
+		int iIndex = index (iDay);
+
+		if (0 > iIndex)
+			throw new java.lang.Exception ("LatentStateFixingsSeries::fixing => Cannot locate " +
+				_lsl.fullyQualifiedName() + " Fixing for the Date");
+
+		return _adblFixing[iIndex];
+	}
+
+	/**
+	 * Retrieve the Fixing Day at the specified Index
+	 * 
+	 * @param iIndex The Index
+	 * 
+	 * @return The Fixing Day
+	 * 
+	 * @throws java.lang.Exception Thrown if the Index is Invalid
+	 */
+
+	public int day (
+		final int iIndex)
+		throws java.lang.Exception
+	{
+		if (0 > iIndex || iIndex >= _iSize)
+			throw new java.lang.Exception ("LatentStateFixingsSeries::day => Invalid Index");
+
+		return _aiDay[iIndex];
+	}
+
+	/**
+	 * Retrieve the Fixing at the specified Index
+	 * 
+	 * @param iIndex The Index
+	 * 
+	 * @return The Fixing
+	 * 
+	 * @throws java.lang.Exception Thrown if the Index is Invalid
+	 */
+
+	public double fixingAt (
+		final int iIndex)
+		throws java.lang.Exception
+	{
+		if (0 > iIndex || iIndex >= _iSize)
+			throw new java.lang.Exception ("LatentStateFixingsSeries::fixingAt => Invalid Index");
+
+		return _adblFixing[iIndex];
+	}
+
+	/**
+	 * Retrieve a Copy of the Fixing Days
+	 * 
+	 * @return Copy of the Fixing Days
+	 */
+
+	public int[] days()
+	{
+		return java.util.Arrays.copyOf (_aiDay, _iSize);
+	}
+
+	/**
+	 * Retrieve a Copy of the Fixings
+	 * 
+	 * @return Copy of the Fixings
+	 */
+
+	public double[] fixings()
+	{
+		return java.util.Arrays.copyOf (_adblFixing, _iSize);
+	}
+
+	/**
+	 * Slice the Fixings dated inside the [From, To] Day Range (both inclusive) into a separate Series
+	 * 
+	 * @param iFromDay The From Day
+	 * @param iToDay The To Day
+	 * 
+	 * @return The Sliced Series
+	 */
+
+	public LatentStateFixingsSeries slice (
+		final int iFromDay,
+		final int iToDay)
+	{
+		if (iFromDay > iToDay) return null;
+
+		int iFromIndex = index (iFromDay);
+
+		int iToIndex = index (iToDay);
+
+		if (0 > iFromIndex) iFromIndex = -iFromIndex - 1;
+
+		iToIndex = 0 > iToIndex ? -iToIndex - 1 : iToIndex + 1;
+
+		try {
+			LatentStateFixingsSeries lsfsSlice = new LatentStateFixingsSeries (_lsl);
+
+			lsfsSlice.ensureCapacity (iToIndex - iFromIndex);
+
+			java.lang.System.arraycopy (_aiDay, iFromIndex, lsfsSlice._aiDay, 0, iToIndex - iFromIndex);
+
+			java.lang.System.arraycopy (_adblFixing, iFromIndex, lsfsSlice._adblFixing, 0, iToIndex -
+				iFromIndex);
+
+			lsfsSlice._iSize = iToIndex - iFromIndex;
+			return lsfsSlice;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
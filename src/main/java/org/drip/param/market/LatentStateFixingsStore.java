@@ -0,0 +1,479 @@
+
+package org.drip.param.market;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateFixingsStore bulk loads the Fixings History of the Forward/FX Latent States into the Columnar
+ * 	Series of a LatentStateFixingsContainer, off either:
+ * 	- A CSV File: A Header Row of "Date" followed by the Label Codes, then one Row per Date (YYYY-MM-DD)
+ * 		with one Column per Label; Empty Cells are skipped.
+ * 	- A Compact Binary File: Magic, Version, Series Count, then for each Series the Label Code, the
+ * 		Fixing Count, the Decimal Places of the Fixings, the Fixing Days as Variable Length Deltas, and the
+ * 		Fixing Values - as Variable Length Deltas of the Values scaled by the Decimal Places, or, if no
+ * 		Scale up to 12 Places reproduces every Value exactly, as Raw Doubles.
+ * 
+ * The Label Codes are "CCY/CCY" for the FX Labels. The Forward Labels are written to the Binary File by
+ * 	their "CCY-FAMILY-TENOR" Fully Qualified Name, so that the Index Family survives the Round Trip; the
+ * 	CSV Header may also carry the "CCY-TENOR" Code of the Jurisdiction's Standard Index. Labels whose Fully
+ * 	Qualified Name does not resolve back to them are refused by the Write. The main entry converts a CSV
+ * 	File into the Binary File.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateFixingsStore {
+	private static final int STORE_MAGIC = 0x4C534658;
+	private static final int STORE_VERSION = 2;
+
+	private static final double[] DECIMAL_SCALE = new double[] {
+		1., 1.e+01, 1.e+02, 1.e+03, 1.e+04, 1.e+05, 1.e+06, 1.e+07, 1.e+08, 1.e+09, 1.e+10, 1.e+11, 1.e+12
+	};
+
+	private static final org.drip.state.identifier.LatentStateLabel Label (
+		final String strCode)
+	{
+		if (null == strCode || strCode.isEmpty()) return null;
+
+		if (-1 != strCode.indexOf ('/')) return org.drip.state.identifier.FXLabel.Standard (strCode);
+
+		return strCode.indexOf ('-') == strCode.lastIndexOf ('-') ?
+			org.drip.state.identifier.ForwardLabel.Standard (strCode) :
+				org.drip.state.identifier.ForwardLabel.FromFullyQualifiedName (strCode);
+	}
+
+	private static final String Code (
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		String strCode = lsl.fullyQualifiedName();
+
+		org.drip.state.identifier.LatentStateLabel lslCode = Label (strCode);
+
+		return null != lslCode && lslCode.match (lsl) ? strCode : null;
+	}
+
+	private static final int DecimalPlaces (
+		final double[] adblFixing)
+	{
+		for (int iPlace = 0; iPlace < DECIMAL_SCALE.length; ++iPlace) {
+			boolean bExact = true;
+
+			for (double dblFixing : adblFixing) {
+				double dblScaled = dblFixing * DECIMAL_SCALE[iPlace];
+
+				if (!(java.lang.Math.abs (dblScaled) < 1.e+15) || java.lang.Math.round (dblScaled) /
+					DECIMAL_SCALE[iPlace] != dblFixing) {
+					bExact = false;
+					break;
+				}
+			}
+
+			if (bExact) return iPlace;
+		}
+
+		return -1;
+	}
+
+	private static final void WriteVarLong (
+		final java.io.DataOutputStream dos,
+		final long l)
+		throws java.io.IOException
+	{
+		long lZigZag = (l << 1) ^ (l >> 63);
+
+		while (0L != (lZigZag & ~0x7FL)) {
+			dos.writeByte ((int) ((lZigZag & 0x7FL) | 0x80L));
+
+			lZigZag >>>= 7;
+		}
+
+		dos.writeByte ((int) lZigZag);
+	}
+
+	private static final long ReadVarLong (
+		final java.nio.ByteBuffer bb)
+	{
+		int iShift = 0;
+		byte bChunk = 0;
+		long lZigZag = 0L;
+
+		do {
+			bChunk = bb.get();
+
+			lZigZag |= (long) (bChunk & 0x7F) << iShift;
+			iShift += 7;
+		} while (0 != (bChunk & 0x80));
+
+		return (lZigZag >>> 1) ^ -(lZigZag & 1L);
+	}
+
+	/**
+	 * Load the Fixings off the CSV Stream into the Container
+	 * 
+	 * @param reader The CSV Stream Reader
+	 * @param lsfc The Latent State Fixings Container
+	 * 
+	 * @return The Number of Fixings loaded (-1 => The Load failed)
+	 */
+
+	public static final int LoadCSV (
+		final java.io.Reader reader,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc)
+	{
+		if (null == reader || null == lsfc) return -1;
+
+		java.io.BufferedReader br = new java.io.BufferedReader (reader);
+
+		try {
+			String strLine = br.readLine();
+
+			if (null == strLine) return -1;
+
+			String[] astrHeader = strLine.split (",");
+
+			int iNumLabel = astrHeader.length - 1;
+			int iNumFixing = 0;
+			int[] aiNumFixing = new int[iNumLabel];
+			int[][] aaiDay = new int[iNumLabel][256];
+			double[][] aadblFixing = new double[iNumLabel][256];
+			org.drip.param.market.LatentStateFixingsSeries[] aLSFS = new
+				org.drip.param.market.LatentStateFixingsSeries[iNumLabel];
+
+			for (int j = 0; j < iNumLabel; ++j) {
+				org.drip.state.identifier.LatentStateLabel lsl = Label (astrHeader[j + 1].trim());
+
+				if (null == lsl || null == (aLSFS[j] = lsfc.seriesOf (lsl, true))) return -1;
+			}
+
+			while (null != (strLine = br.readLine())) {
+				if (strLine.trim().isEmpty()) continue;
+
+				String[] astrField = strLine.split (",", -1);
+
+				org.drip.analytics.date.JulianDate dt =
+					org.drip.analytics.date.DateUtil.MakeJulianFromYYYYMMDD (astrField[0].trim(), "-");
+
+				if (null == dt) return -1;
+
+				int iDay = (int) dt.julian();
+
+				for (int j = 0; j < iNumLabel && j + 1 < astrField.length; ++j) {
+					String strFixing = astrField[j + 1].trim();
+
+					if (strFixing.isEmpty()) continue;
+
+					if (aiNumFixing[j] == aaiDay[j].length) {
+						aaiDay[j] = java.util.Arrays.copyOf (aaiDay[j], 2 * aaiDay[j].length);
+
+						aadblFixing[j] = java.util.Arrays.copyOf (aadblFixing[j], 2 * aadblFixing[j].length);
+					}
+
+					aaiDay[j][aiNumFixing[j]] = iDay;
+					aadblFixing[j][aiNumFixing[j]++] = java.lang.Double.parseDouble (strFixing);
+				}
+			}
+
+			for (int j = 0; j < iNumLabel; ++j) {
+				if (!aLSFS[j].put (java.util.Arrays.copyOf (aaiDay[j], aiNumFixing[j]),
+					java.util.Arrays.copyOf (aadblFixing[j], aiNumFixing[j])))
+					return -1;
+
+				iNumFixing += aiNumFixing[j];
+			}
+
+			return iNumFixing;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Load the Fixings off the CSV File into the Container
+	 * 
+	 * @param strFile The CSV File
+	 * @param lsfc The Latent State Fixings Container
+	 * 
+	 * @return The Number of Fixings loaded (-1 => The Load failed)
+	 */
+
+	public static final int LoadCSV (
+		final String strFile,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc)
+	{
+		if (null == strFile || strFile.isEmpty()) return -1;
+
+		java.io.Reader reader = null;
+
+		try {
+			return LoadCSV (reader = new java.io.FileReader (strFile), lsfc);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				if (null != reader) reader.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Load the Fixings off the Binary Stream into the Container
+	 * 
+	 * @param is The Binary Stream
+	 * @param lsfc The Latent State Fixings Container
+	 * 
+	 * @return The Number of Fixings loaded (-1 => The Load failed)
+	 */
+
+	public static final int LoadBinary (
+		final java.io.InputStream is,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc)
+	{
+		if (null == is || null == lsfc) return -1;
+
+		try {
+			java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+			byte[] abChunk = new byte[65536];
+			int iNumRead = 0;
+
+			while (-1 != (iNumRead = is.read (abChunk)))
+				baos.write (abChunk, 0, iNumRead);
+
+			java.nio.ByteBuffer bb = java.nio.ByteBuffer.wrap (baos.toByteArray());
+
+			if (STORE_MAGIC != bb.getInt() || STORE_VERSION != bb.getInt()) return -1;
+
+			int iNumSeries = bb.getInt();
+
+			int iNumFixing = 0;
+
+			for (int i = 0; i < iNumSeries; ++i) {
+				byte[] abCode = new byte[bb.getInt()];
+
+				bb.get (abCode);
+
+				org.drip.state.identifier.LatentStateLabel lsl = Label (new String (abCode, "UTF-8"));
+
+				int iNumSeriesFixing = bb.getInt();
+
+				int iDecimalPlaces = bb.get();
+
+				int iDay = 0;
+				long lScaledFixing = 0L;
+				int[] aiDay = new int[iNumSeriesFixing];
+				double[] adblFixing = new double[iNumSeriesFixing];
+
+				for (int j = 0; j < iNumSeriesFixing; ++j)
+					aiDay[j] = iDay += (int) ReadVarLong (bb);
+
+				for (int j = 0; j < iNumSeriesFixing; ++j)
+					adblFixing[j] = 0 > iDecimalPlaces ? bb.getDouble() : (lScaledFixing += ReadVarLong
+						(bb)) / DECIMAL_SCALE[iDecimalPlaces];
+
+				org.drip.param.market.LatentStateFixingsSeries lsfs = null == lsl ? null : lsfc.seriesOf (lsl,
+					true);
+
+				if (null == lsfs || !lsfs.put (aiDay, adblFixing)) return -1;
+
+				iNumFixing += iNumSeriesFixing;
+			}
+
+			return iNumFixing;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Load the Fixings off the Binary File into the Container
+	 * 
+	 * @param strFile The Binary File
+	 * @param lsfc The Latent State Fixings Container
+	 * 
+	 * @return The Number of Fixings loaded (-1 => The Load failed)
+	 */
+
+	public static final int LoadBinary (
+		final String strFile,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc)
+	{
+		if (null == strFile || strFile.isEmpty()) return -1;
+
+		java.io.InputStream is = null;
+
+		try {
+			return LoadBinary (is = new java.io.FileInputStream (strFile), lsfc);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				if (null != is) is.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Write the Fixings of the Container onto the Binary Stream
+	 * 
+	 * @param os The Binary Stream
+	 * @param lsfc The Latent State Fixings Container
+	 * 
+	 * @return The Number of Fixings written (-1 => The Write failed)
+	 */
+
+	public static final int WriteBinary (
+		final java.io.OutputStream os,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc)
+	{
+		if (null == os || null == lsfc) return -1;
+
+		java.util.List<org.drip.param.market.LatentStateFixingsSeries> lsLSFS = lsfc.series();
+
+		int iSeries = 0;
+		String[] astrCode = new String[lsLSFS.size()];
+
+		try {
+			for (org.drip.param.market.LatentStateFixingsSeries lsfs : lsLSFS) {
+				if (null == (astrCode[iSeries++] = Code (lsfs.label())))
+					throw new java.lang.Exception ("LatentStateFixingsStore::WriteBinary => Label " +
+						lsfs.label().fullyQualifiedName() + " cannot be read back");
+			}
+
+			java.io.DataOutputStream dos = new java.io.DataOutputStream (new java.io.BufferedOutputStream
+				(os));
+
+			dos.writeInt (STORE_MAGIC);
+
+			dos.writeInt (STORE_VERSION);
+
+			dos.writeInt (lsLSFS.size());
+
+			int iNumFixing = 0;
+			iSeries = 0;
+
+			for (org.drip.param.market.LatentStateFixingsSeries lsfs : lsLSFS) {
+				byte[] abCode = astrCode[iSeries++].getBytes ("UTF-8");
+
+				int[] aiDay = lsfs.days();
+
+				double[] adblFixing = lsfs.fixings();
+
+				int iDecimalPlaces = DecimalPlaces (adblFixing);
+
+				dos.writeInt (abCode.length);
+
+				dos.write (abCode);
+
+				dos.writeInt (aiDay.length);
+
+				dos.writeByte (iDecimalPlaces);
+
+				int iPreviousDay = 0;
+				long lPreviousScaledFixing = 0L;
+
+				for (int iDay : aiDay) {
+					WriteVarLong (dos, iDay - iPreviousDay);
+
+					iPreviousDay = iDay;
+				}
+
+				for (double dblFixing : adblFixing) {
+					if (0 > iDecimalPlaces)
+						dos.writeDouble (dblFixing);
+					else {
+						long lScaledFixing = java.lang.Math.round (dblFixing * DECIMAL_SCALE[iDecimalPlaces]);
+
+						WriteVarLong (dos, lScaledFixing - lPreviousScaledFixing);
+
+						lPreviousScaledFixing = lScaledFixing;
+					}
+				}
+
+				iNumFixing += aiDay.length;
+			}
+
+			dos.flush();
+
+			return iNumFixing;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Convert the Fixings CSV File into the Binary File
+	 * 
+	 * @param astrArgs The CSV File Path and the Binary File Path
+	 * 
+	 * @throws java.lang.Exception Thrown if the File cannot be converted
+	 */
+
+	public static final void main (
+		final String[] astrArgs)
+		throws java.lang.Exception
+	{
+		if (null == astrArgs || 2 != astrArgs.length)
+			throw new java.lang.Exception
+				("LatentStateFixingsStore::main => Usage: LatentStateFixingsStore <CSV File> <Binary File>");
+
+		org.drip.param.market.LatentStateFixingsContainer lsfc = new
+			org.drip.param.market.LatentStateFixingsContainer();
+
+		if (0 > LoadCSV (astrArgs[0], lsfc))
+			throw new java.lang.Exception ("LatentStateFixingsStore::main => Cannot load " + astrArgs[0]);
+
+		java.io.OutputStream os = new java.io.FileOutputStream (astrArgs[1]);
+
+		try {
+			int iNumFixing = WriteBinary (os, lsfc);
+
+			if (0 > iNumFixing)
+				throw new java.lang.Exception ("LatentStateFixingsStore::main => Cannot write " +
+					astrArgs[1]);
+
+			System.out.println ("LatentStateFixingsStore::main => " + iNumFixing + " Fixings written to " +
+				astrArgs[1]);
+		} finally {
+			os.close();
+		}
+	}
+}
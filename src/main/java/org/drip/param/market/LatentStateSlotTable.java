@@ -0,0 +1,131 @@
+
+package org.drip.param.market;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateSlotTable holds the Latent States of a single Label Class, addressed by the Interned ID of the
+ * 	Label. IDs below DENSE_SLOT_LIMIT live in an Array grown on demand; the ID Space is Process-wide, so
+ * 	the IDs past the Limit - Names interned late, once many others exist - are held in a Sparse Map, and a
+ * 	Table (and every Scenario Copy of it) is never sized by the whole ID Space.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateSlotTable<T> {
+
+	/**
+	 * The Number of the leading Slots held in the Dense Array
+	 */
+
+	public static final int DENSE_SLOT_LIMIT = 1024;
+
+	private java.lang.Object[] _aoDense = new java.lang.Object[0];
+	private java.util.Map<java.lang.Integer, T> _mapSparse = null;
+
+	/**
+	 * Empty LatentStateSlotTable Constructor
+	 */
+
+	public LatentStateSlotTable()
+	{
+	}
+
+	/**
+	 * Retrieve the Latent State in the Slot
+	 * 
+	 * @param iSlot The Slot - the Interned ID of the Label
+	 * 
+	 * @return The Latent State (NULL => The Slot is empty)
+	 */
+
+	@SuppressWarnings ("unchecked") public T get (
+		final int iSlot)
+	{
+		if (0 > iSlot) return null;
+
+		if (iSlot < _aoDense.length) return (T) _aoDense[iSlot];
+
+		return null == _mapSparse ? null : _mapSparse.get (iSlot);
+	}
+
+	/**
+	 * (Re)-set the Latent State in the Slot
+	 * 
+	 * @param iSlot The Slot - the Interned ID of the Label
+	 * @param t The Latent State
+	 * 
+	 * @return TRUE => Successfully set
+	 */
+
+	public boolean set (
+		final int iSlot,
+		final T t)
+	{
+		if (0 > iSlot) return false;
+
+		if (iSlot >= DENSE_SLOT_LIMIT) {
+			if (null == _mapSparse) _mapSparse = new java.util.TreeMap<java.lang.Integer, T>();
+
+			_mapSparse.put (iSlot, t);
+
+			return true;
+		}
+
+		if (iSlot >= _aoDense.length)
+			_aoDense = java.util.Arrays.copyOf (_aoDense, java.lang.Math.min (DENSE_SLOT_LIMIT,
+				java.lang.Math.max (iSlot + 1, 2 * _aoDense.length)));
+
+		_aoDense[iSlot] = t;
+
+		return true;
+	}
+
+	/**
+	 * Retrieve the Latent States held, in the Order of their Slots
+	 * 
+	 * @return List of the Latent States
+	 */
+
+	@SuppressWarnings ("unchecked") public java.util.List<T> values()
+	{
+		java.util.List<T> lsT = new java.util.ArrayList<T>();
+
+		for (java.lang.Object o : _aoDense) {
+			if (null != o) lsT.add ((T) o);
+		}
+
+		if (null != _mapSparse) {
+			for (T t : _mapSparse.values()) {
+				if (null != t) lsT.add (t);
+			}
+		}
+
+		return lsT;
+	}
+}
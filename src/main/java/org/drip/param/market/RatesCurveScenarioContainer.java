@@ -103,13 +103,13 @@ public class RatesCurveScenarioContainer extends org.drip.param.definition.Scena
 
 		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_UP & iDCMode)) {
 			if (null == (_mapDCBumpUp = _irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, dblBump,
-				astrCalibMeasure, lsfc, vcp)))
+				astrCalibMeasure, lsfc, vcp, _dcBase)))
 				return false;
 		}
 
 		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_DN & iDCMode)) {
 			if (null == (_mapDCBumpDn = _irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, -dblBump,
-				astrCalibMeasure, lsfc, vcp)))
+				astrCalibMeasure, lsfc, vcp, _dcBase)))
 				return false;
 		}
 
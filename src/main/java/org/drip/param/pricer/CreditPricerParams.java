@@ -69,6 +69,13 @@ public class CreditPricerParams implements org.drip.param.pricer.PricerParams {
 
 	public static final int PERIOD_DISCRETIZATION_FULL_COUPON = 3;
 
+	/**
+	 * Analytic Integration over the Piecewise Constant Hazard/Forward Segments (ISDA Standard Model style)
+	 * 	- the Unit Size is the Step used only against Curves that do not expose their Nodes
+	 */
+
+	public static final int PERIOD_DISCRETIZATION_ANALYTIC = 4;
+
 	private int _iUnitSize = 7;
 	private boolean _bSurvToPayDate = false;
 	private int _iDiscretizationScheme = PERIOD_DISCRETIZATION_DAY_STEP;
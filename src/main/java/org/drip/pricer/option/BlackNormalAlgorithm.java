@@ -70,15 +70,64 @@ public class BlackNormalAlgorithm extends org.drip.pricer.option.FokkerPlanckGen
 		double dblForward = bIsForward ? dblUnderlier : dblUnderlier / dblDF;
 		double dblD = (dblForward - dblStrike) / dblD1D2Diff;
 
+		if (java.lang.Double.isNaN (dblD))
+			throw new java.lang.Exception ("BlackNormalAlgorithm::payoff => Invalid Inputs");
+
 		double dblCallPayoff = dblForward * dblD1D2Diff * java.lang.Math.exp (-0.5 * dblD * dblD) /
 			java.lang.Math.sqrt (2. * java.lang.Math.PI) / dblForward - dblStrike * -1. * dblD1D2Diff * dblD
-				* org.drip.measure.continuous.Gaussian.CDF (dblD) / dblStrike;
+				* org.drip.measure.continuous.GaussianKernel.CDF (dblD) / dblStrike;
 
 		if (!bAsPrice) return bIsPut ? dblCallPayoff + dblStrike - dblForward : dblCallPayoff;
 
 		return bIsPut ? dblDF * (dblCallPayoff + dblStrike - dblForward) : dblDF * dblCallPayoff;
 	}
 
+	/**
+	 * Imply the Volatility From the Option Price through the Closed-form Bachelier Inversion of the
+	 * 	ImpliedVolatilityKernel
+	 * 
+	 * @param dblStrike Strike
+	 * @param dblTimeToExpiry Time To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Option is a Put
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param dblPrice The Price
+	 * 
+	 * @return The Implied Volatility
+	 * 
+	 * @throws java.lang.Exception Thrown if the Volatility cannot be implied
+	 */
+
+	@Override public double impliedVolatilityFromPrice (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate) ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblUnderlier) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblPrice))
+			throw new java.lang.Exception
+				("BlackNormalAlgorithm::impliedVolatilityFromPrice => Invalid Inputs");
+
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+
+		double dblVolatility = org.drip.pricer.option.ImpliedVolatilityKernel.Bachelier (bIsForward ?
+			dblUnderlier : dblUnderlier / dblDF, dblStrike, dblTimeToExpiry, dblPrice / dblDF, bIsPut);
+
+		if (java.lang.Double.isNaN (dblVolatility))
+			throw new java.lang.Exception
+				("BlackNormalAlgorithm::impliedVolatilityFromPrice => Cannot imply Volatility");
+
+		return dblVolatility;
+	}
+
 	@Override public org.drip.pricer.option.Greeks greeks (
 		final double dblStrike,
 		final double dblTimeToExpiry,
@@ -102,13 +151,15 @@ public class BlackNormalAlgorithm extends org.drip.pricer.option.FokkerPlanckGen
 		double dblForward = bIsForward ? dblUnderlier : dblUnderlier / dblDF;
 		double dblD = (dblForward - dblStrike) / dblD1D2Diff;
 
+		if (java.lang.Double.isNaN (dblD)) return null;
+
 		double dblN = java.lang.Math.exp (-0.5 * dblD * dblD) / java.lang.Math.sqrt (2. * java.lang.Math.PI);
 
 		double dblCallProb1 = dblD1D2Diff * dblN / dblForward;
 
 		try {
-			double dblCallProb2 = -1. * dblD1D2Diff * dblD * org.drip.measure.continuous.Gaussian.CDF (dblD)
-				/ dblStrike;
+			double dblCallProb2 = -1. * dblD1D2Diff * dblD * org.drip.measure.continuous.GaussianKernel.CDF
+				(dblD) / dblStrike;
 
 			double dblExpectedCallPayoff = dblForward * dblCallProb1 - dblStrike * dblCallProb2;
 			double dblATMCallPayoff = dblForward * (dblCallProb1 - dblCallProb2);
@@ -137,8 +188,8 @@ public class BlackNormalAlgorithm extends org.drip.pricer.option.FokkerPlanckGen
 					java.lang.Double.NaN
 				);
 
-			double dblPutProb1 = dblD * dblD1D2Diff * org.drip.measure.continuous.Gaussian.CDF (-1. * dblD) /
-				dblForward;
+			double dblPutProb1 = dblD * dblD1D2Diff * org.drip.measure.continuous.GaussianKernel.CDF (-1. *
+				dblD) / dblForward;
 
 			double dblPutProb2 = dblD1D2Diff * dblN / dblStrike;
 
@@ -82,14 +82,63 @@ public class BlackScholesAlgorithm extends org.drip.pricer.option.FokkerPlanckGe
 			dblD2 = dblD1;
 		}
 
-		double dblCallPayoff = dblForward * org.drip.measure.continuous.Gaussian.CDF (dblD1) - dblStrike *
-			org.drip.measure.continuous.Gaussian.CDF (dblD2);
+		if (java.lang.Double.isNaN (dblD2))
+			throw new java.lang.Exception ("BlackScholesAlgorithm::payoff => Invalid Inputs");
+
+		double dblCallPayoff = dblForward * org.drip.measure.continuous.GaussianKernel.CDF (dblD1) -
+			dblStrike * org.drip.measure.continuous.GaussianKernel.CDF (dblD2);
 
 		if (!bAsPrice) return bIsPut ? dblCallPayoff + dblStrike - dblForward : dblCallPayoff;
 
 		return bIsPut ? dblDF * (dblCallPayoff + dblStrike - dblForward) : dblDF * dblCallPayoff;
 	}
 
+	/**
+	 * Imply the Volatility From the Option Price through the Closed-form Black Inversion of the
+	 * 	ImpliedVolatilityKernel
+	 * 
+	 * @param dblStrike Strike
+	 * @param dblTimeToExpiry Time To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Option is a Put
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param dblPrice The Price
+	 * 
+	 * @return The Implied Volatility
+	 * 
+	 * @throws java.lang.Exception Thrown if the Volatility cannot be implied
+	 */
+
+	@Override public double impliedVolatilityFromPrice (
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate) ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblUnderlier) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblPrice))
+			throw new java.lang.Exception
+				("BlackScholesAlgorithm::impliedVolatilityFromPrice => Invalid Inputs");
+
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+
+		double dblVolatility = org.drip.pricer.option.ImpliedVolatilityKernel.Black (bIsForward ?
+			dblUnderlier : dblUnderlier / dblDF, dblStrike, dblTimeToExpiry, dblPrice / dblDF, bIsPut);
+
+		if (java.lang.Double.isNaN (dblVolatility))
+			throw new java.lang.Exception
+				("BlackScholesAlgorithm::impliedVolatilityFromPrice => Cannot imply Volatility");
+
+		return dblVolatility;
+	}
+
 	@Override public org.drip.pricer.option.Greeks greeks (
 		final double dblStrike,
 		final double dblTimeToExpiry,
@@ -146,13 +195,13 @@ public class BlackScholesAlgorithm extends org.drip.pricer.option.FokkerPlanckGe
 		}
 
 		try {
-			dblCallProb1 = org.drip.measure.continuous.Gaussian.CDF (dblD1);
+			dblCallProb1 = org.drip.measure.continuous.GaussianKernel.CDF (dblD1);
 
-			dblCallProb2 = org.drip.measure.continuous.Gaussian.CDF (dblD2);
+			dblCallProb2 = org.drip.measure.continuous.GaussianKernel.CDF (dblD2);
 
-			dblATMCallProb1 = org.drip.measure.continuous.Gaussian.CDF (dblATMD1);
+			dblATMCallProb1 = org.drip.measure.continuous.GaussianKernel.CDF (dblATMD1);
 
-			dblATMCallProb2 = org.drip.measure.continuous.Gaussian.CDF (dblATMD2);
+			dblATMCallProb2 = org.drip.measure.continuous.GaussianKernel.CDF (dblATMD2);
 
 			double dblD1Density = org.drip.measure.continuous.Gaussian.Density (dblD1);
 
@@ -207,9 +256,9 @@ public class BlackScholesAlgorithm extends org.drip.pricer.option.FokkerPlanckGe
 					dblUltima
 				);
 
-			double dblPutProb1 = org.drip.measure.continuous.Gaussian.CDF (-1. * dblD1);
+			double dblPutProb1 = org.drip.measure.continuous.GaussianKernel.CDF (-1. * dblD1);
 
-			double dblPutProb2 = org.drip.measure.continuous.Gaussian.CDF (-1. * dblD2);
+			double dblPutProb2 = org.drip.measure.continuous.GaussianKernel.CDF (-1. * dblD2);
 
 			double dblPutRho = -1. * dblUnderlier * dblTimeToExpiry * dblPutProb2;
 
@@ -414,4 +414,164 @@ public abstract class FokkerPlanckGenerator implements org.drip.param.pricer.Gen
 		return new org.drip.pricer.option.BlackScholesAlgorithm().impliedVolatilityFromPrice (dblStrike,
 			dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, dblPrice);
 	}
+
+	/*
+	 * Invert the Price Grid through the Scalar Implied Volatility of the specified Generator, one Expiry
+	 * 	Column per Task - the Columns are disjoint, so the Workers share no mutable State
+	 */
+
+	private static final double[][] ImpliedVolatilityGrid (
+		final org.drip.pricer.option.FokkerPlanckGenerator fpg,
+		final double[] adblStrike,
+		final double[] adblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[][] aadblPrice,
+		final int iNumThread)
+	{
+		if (null == adblStrike || null == adblTimeToExpiry || null == aadblPrice || 0 >= iNumThread)
+			return null;
+
+		final int iNumStrike = adblStrike.length;
+		int iNumExpiry = adblTimeToExpiry.length;
+
+		if (0 == iNumStrike || 0 == iNumExpiry || iNumStrike != aadblPrice.length) return null;
+
+		for (int i = 0; i < iNumStrike; ++i) {
+			if (null == aadblPrice[i] || iNumExpiry != aadblPrice[i].length) return null;
+		}
+
+		final double[][] aadblVolatility = new double[iNumStrike][iNumExpiry];
+
+		if (1 == iNumThread || 1 == iNumExpiry) {
+			for (int j = 0; j < iNumExpiry; ++j) {
+				if (!fpg.impliedVolatilityColumn (j, adblStrike, adblTimeToExpiry[j], dblRiskFreeRate,
+					dblUnderlier, bIsPut, bIsForward, aadblPrice, aadblVolatility))
+					return null;
+			}
+
+			return aadblVolatility;
+		}
+
+		java.util.List<java.util.concurrent.Future<java.lang.Boolean>> lsFuture = new
+			java.util.ArrayList<java.util.concurrent.Future<java.lang.Boolean>>();
+
+		java.util.concurrent.ExecutorService es = java.util.concurrent.Executors.newFixedThreadPool
+			(java.lang.Math.min (iNumThread, iNumExpiry));
+
+		try {
+			for (int j = 0; j < iNumExpiry; ++j) {
+				final int iExpiry = j;
+				final double dblTimeToExpiry = adblTimeToExpiry[j];
+
+				lsFuture.add (es.submit (new java.util.concurrent.Callable<java.lang.Boolean>() {
+					@Override public java.lang.Boolean call()
+					{
+						return fpg.impliedVolatilityColumn (iExpiry, adblStrike, dblTimeToExpiry,
+							dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, aadblPrice, aadblVolatility);
+					}
+				}));
+			}
+
+			for (java.util.concurrent.Future<java.lang.Boolean> f : lsFuture) {
+				if (!f.get()) return null;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		} finally {
+			es.shutdownNow();
+		}
+
+		return aadblVolatility;
+	}
+
+	private boolean impliedVolatilityColumn (
+		final int iExpiry,
+		final double[] adblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[][] aadblPrice,
+		final double[][] aadblVolatility)
+	{
+		try {
+			for (int i = 0; i < adblStrike.length; ++i)
+				aadblVolatility[i][iExpiry] = impliedVolatilityFromPrice (adblStrike[i], dblTimeToExpiry,
+					dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, aadblPrice[i][iExpiry]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Imply the Effective Volatility Grid from a Grid of Option Prices, fanning the Expiries out across the
+	 * 	Worker Threads
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param adblTimeToExpiry Array of Times To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Options are Puts
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param aadblPrice Grid of Prices, indexed by Strike and then by Expiry
+	 * @param iNumThread Number of Worker Threads
+	 * 
+	 * @return Grid of Implied Effective Volatilities, indexed by Strike and then by Expiry - the Node Layout
+	 * 	of the ScenarioMarketSurfaceBuilder Surfaces (null => The Grid cannot be implied)
+	 */
+
+	public double[][] impliedVolatilityFromPrice (
+		final double[] adblStrike,
+		final double[] adblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[][] aadblPrice,
+		final int iNumThread)
+	{
+		return ImpliedVolatilityGrid (this, adblStrike, adblTimeToExpiry, dblRiskFreeRate, dblUnderlier,
+			bIsPut, bIsForward, aadblPrice, iNumThread);
+	}
+
+	/**
+	 * Imply the Effective Black-Scholes Volatility Grid from a Grid of Option Prices, fanning the Expiries
+	 * 	out across the Worker Threads
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param adblTimeToExpiry Array of Times To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Options are Puts
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param aadblPrice Grid of Prices, indexed by Strike and then by Expiry
+	 * @param iNumThread Number of Worker Threads
+	 * 
+	 * @return Grid of Implied Black Scholes Volatilities, indexed by Strike and then by Expiry (null => The
+	 * 	Grid cannot be implied)
+	 */
+
+	public double[][] impliedBlackScholesVolatility (
+		final double[] adblStrike,
+		final double[] adblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[][] aadblPrice,
+		final int iNumThread)
+	{
+		return ImpliedVolatilityGrid (new org.drip.pricer.option.BlackScholesAlgorithm(), adblStrike,
+			adblTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, aadblPrice, iNumThread);
+	}
 }
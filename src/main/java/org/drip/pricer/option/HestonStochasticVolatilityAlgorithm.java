@@ -31,7 +31,9 @@ package org.drip.pricer.option;
 
 /**
  * HestonStochasticVolatilityAlgorithm implements the Heston 1993 Stochastic Volatility European Call and Put
- * 	Options Pricer.
+ * 	Options Pricer. The Strike-independent Part of the Fourier Quadrature Integrands is evaluated once per
+ * 	Expiry on Real/Imaginary double Pairs and cached, so payoff and greeks across the Strikes of an Expiry
+ * 	share it; the Strike Grid payoff prices a whole Expiry off a single Carr-Madan (1999) FFT instead.
  * 
  * @author Lakshmi Krishnamurthy
  */
@@ -54,342 +56,672 @@ public class HestonStochasticVolatilityAlgorithm extends org.drip.pricer.option.
 	private static final double FOURIER_FREQ_INCREMENT = 0.1;
 	private static final double FOURIER_FREQ_FINAL = 25.;
 
+	private static final int FFT_SIZE = 4096;
+	private static final int MAX_CACHED_EXPIRY = 64;
+	private static final double FFT_TRUNCATION = 1.e-16;
+	private static final double FFT_FREQ_INCREMENT = 0.25;
+
+	private static final double[] FFT_DAMPING = new double[] {1.5, 1.0, 0.75, 0.5};
+
+	private static final double[] FOURIER_FREQ = FourierFrequencyGrid();
+
 	private org.drip.param.pricer.HestonOptionPricerParams _fphp = null;
 
-	class PhaseCorrectedF {
-		double _dblCorrectedPhase = java.lang.Double.NaN;
-		org.drip.quant.fourier.ComplexNumber _cnF = null;
+	private java.util.Map<java.lang.Double, StrikeGrid> _mapStrikeGrid = new
+		java.util.HashMap<java.lang.Double, StrikeGrid>();
+
+	private java.util.Map<java.lang.Double, CharacteristicGrid> _mapCharacteristicGrid = new
+		java.util.HashMap<java.lang.Double, CharacteristicGrid>();
+
+	class ExpirySnapshot {
+		double _dblSpot = java.lang.Double.NaN;
+		double _dblRiskFreeRate = java.lang.Double.NaN;
+		double _dblInitialVolatility = java.lang.Double.NaN;
 
-		PhaseCorrectedF (
-			final double dblCorrectedPhase,
-			final org.drip.quant.fourier.ComplexNumber cnF)
+		ExpirySnapshot (
+			final double dblRiskFreeRate,
+			final double dblSpot,
+			final double dblInitialVolatility)
 		{
-			_cnF = cnF;
-			_dblCorrectedPhase = dblCorrectedPhase;
+			_dblSpot = dblSpot;
+			_dblRiskFreeRate = dblRiskFreeRate;
+			_dblInitialVolatility = dblInitialVolatility;
+		}
+
+		boolean matches (
+			final double dblRiskFreeRate,
+			final double dblSpot,
+			final double dblInitialVolatility)
+		{
+			return _dblRiskFreeRate == dblRiskFreeRate && _dblSpot == dblSpot && _dblInitialVolatility ==
+				dblInitialVolatility;
 		}
 	}
 
-	private PhaseCorrectedF fourierTransformHeston93 (
-		final double dblStrike,
-		final double dbTimeToExpiry,
+	/*
+	 * Strike-independent Quadrature Integrands, with
+	 * 	Re [F_j (K, u)] = Amplitude_j (u) * sin (Phase_j (u) - u ln K)
+	 */
+
+	class CharacteristicGrid extends ExpirySnapshot {
+		double[] _adblPhase1 = null;
+		double[] _adblPhase2 = null;
+		double[] _adblAmplitude1 = null;
+		double[] _adblAmplitude2 = null;
+
+		CharacteristicGrid (
+			final double dblRiskFreeRate,
+			final double dblSpot,
+			final double dblInitialVolatility,
+			final double[] adblAmplitude1,
+			final double[] adblPhase1,
+			final double[] adblAmplitude2,
+			final double[] adblPhase2)
+		{
+			super (dblRiskFreeRate, dblSpot, dblInitialVolatility);
+
+			_adblPhase1 = adblPhase1;
+			_adblPhase2 = adblPhase2;
+			_adblAmplitude1 = adblAmplitude1;
+			_adblAmplitude2 = adblAmplitude2;
+		}
+	}
+
+	/*
+	 * Discounted Call Prices on the Carr-Madan Log-Strike Lattice
+	 */
+
+	class StrikeGrid extends ExpirySnapshot {
+		double[] _adblCallPrice = null;
+		double _dblLogStrikeStart = java.lang.Double.NaN;
+		double _dblLogStrikeIncrement = java.lang.Double.NaN;
+
+		StrikeGrid (
+			final double dblRiskFreeRate,
+			final double dblSpot,
+			final double dblInitialVolatility,
+			final double dblLogStrikeStart,
+			final double dblLogStrikeIncrement,
+			final double[] adblCallPrice)
+		{
+			super (dblRiskFreeRate, dblSpot, dblInitialVolatility);
+
+			_adblCallPrice = adblCallPrice;
+			_dblLogStrikeStart = dblLogStrikeStart;
+			_dblLogStrikeIncrement = dblLogStrikeIncrement;
+		}
+	}
+
+	private static final double[] FourierFrequencyGrid()
+	{
+		java.util.List<java.lang.Double> lsFreq = new java.util.ArrayList<java.lang.Double>();
+
+		for (double dblFreq = FOURIER_FREQ_INIT; dblFreq <= FOURIER_FREQ_FINAL; dblFreq +=
+			FOURIER_FREQ_INCREMENT)
+			lsFreq.add (dblFreq);
+
+		double[] adblFreq = new double[lsFreq.size()];
+
+		for (int i = 0; i < adblFreq.length; ++i)
+			adblFreq[i] = lsFreq.get (i);
+
+		return adblFreq;
+	}
+
+	private static final double CallProbability (
+		final double[] adblAmplitude,
+		final double[] adblPhase,
+		final double dblLogStrike)
+	{
+		double dblIntegral = 0.;
+
+		for (int i = 0; i < FOURIER_FREQ.length; ++i)
+			dblIntegral += adblAmplitude[i] * java.lang.Math.sin (adblPhase[i] - dblLogStrike *
+				FOURIER_FREQ[i]);
+
+		return 0.5 + dblIntegral * FOURIER_FREQ_INCREMENT / java.lang.Math.PI;
+	}
+
+	private static final double LatticeCallPrice (
+		final StrikeGrid sg,
+		final double dblStrike)
+		throws java.lang.Exception
+	{
+		double dblPosition = (java.lang.Math.log (dblStrike) - sg._dblLogStrikeStart) /
+			sg._dblLogStrikeIncrement;
+
+		int i = (int) java.lang.Math.floor (dblPosition);
+
+		if (1 > i || FFT_SIZE - 3 < i)
+			throw new java.lang.Exception
+				("HestonStochasticVolatilityAlgorithm::payoff => Strike outside the FFT Lattice");
+
+		double dblT = dblPosition - i;
+
+		/*
+		 * 4-Point Lagrange Interpolation across the Lattice Nodes i - 1, i, i + 1, and i + 2
+		 */
+
+		return dblT * (dblT - 1.) * ((dblT + 1.) * sg._adblCallPrice[i + 2] - (dblT - 2.) *
+			sg._adblCallPrice[i - 1]) / 6. + (dblT + 1.) * (dblT - 2.) * ((dblT - 1.) * sg._adblCallPrice[i] -
+				dblT * sg._adblCallPrice[i + 1]) / 2.;
+	}
+
+	/*
+	 * Allocation-free Evaluation of the Exponent of the Heston 1993 Characteristic Function at a single
+	 * 	Frequency, excluding the Strike Term - the Complex Operations of ComplexNumber are carried out on
+	 * 	Real/Imaginary double Pairs in the same Order. The Output holds the Real and the Imaginary Parts of
+	 * 	the Exponent, followed by the Phase Corrected Argument of the Logarithm Term.
+	 */
+
+	private boolean characteristicExponent (
+		final double dblTimeToExpiry,
 		final double dblRiskFreeRate,
-		final double dblSpot,
+		final double dblLogSpot,
 		final double dblInitialVolatility,
 		final double dblA,
 		final double dblFreq,
 		final double dblB,
 		final double dblU,
-		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt)
+		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt,
+		final double[] adblExponent)
 	{
-		try {
-			org.drip.quant.fourier.ComplexNumber cnSmallDLHS = new org.drip.quant.fourier.ComplexNumber (dblB,
-				-1. * _fphp.rho() * _fphp.sigma() * dblFreq);
+		double dblDSign = 0.;
 
-			org.drip.quant.fourier.ComplexNumber cnSmallD = org.drip.quant.fourier.ComplexNumber.Square
-				(cnSmallDLHS);
+		int iPhaseTrackerType = _fphp.phaseTrackerType();
 
-			if (null == cnSmallD) return null;
+		int iPayoffTransformScheme = _fphp.payoffTransformScheme();
 
-			double dblSigmaScaler = _fphp.sigma() * _fphp.sigma();
+		if (PAYOFF_TRANSFORM_SCHEME_HESTON_1993 == iPayoffTransformScheme)
+			dblDSign = -1.;
+		else if (PAYOFF_TRANSFORM_SCHEME_AMST_2007 == iPayoffTransformScheme)
+			dblDSign = 1.;
+		else
+			return false;
 
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.Add (cnSmallD, new
-				org.drip.quant.fourier.ComplexNumber (dblSigmaScaler * dblFreq * dblFreq, -2. * dblSigmaScaler
-					* dblFreq * dblU))))
-				return null;
+		double dblSigma = _fphp.sigma();
 
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.SquareRoot (cnSmallD))) return null;
+		double dblLHSImaginary = -1. * _fphp.rho() * dblSigma * dblFreq;
 
-			org.drip.quant.fourier.ComplexNumber cnGNumerator = org.drip.quant.fourier.ComplexNumber.Subtract
-				(cnSmallDLHS, cnSmallD);
+		double dblSigmaScaler = dblSigma * dblSigma;
+		double dblDReal = dblB * dblB - dblLHSImaginary * dblLHSImaginary + dblSigmaScaler * dblFreq *
+			dblFreq;
+		double dblDImaginary = 2. * dblB * dblLHSImaginary + -2. * dblSigmaScaler * dblFreq * dblU;
+		double dblModulus = dblDReal * dblDReal + dblDImaginary * dblDImaginary;
 
-			if (null == cnGNumerator) return null;
+		if (0. != dblModulus) {
+			double dblRootReal = java.lang.Math.sqrt (0.5 * (dblDReal + java.lang.Math.sqrt (dblModulus)));
 
-			org.drip.quant.fourier.ComplexNumber cnG = org.drip.quant.fourier.ComplexNumber.Add (cnSmallDLHS,
-				cnSmallD);
+			dblDImaginary = 0.5 * dblDImaginary / dblRootReal;
+			dblDReal = dblRootReal;
+		} else
+			dblDReal = dblDImaginary = 0.;
 
-			if (null == cnG) return null;
+		double dblGNumeratorReal = dblB + dblDSign * dblDReal;
+		double dblGNumeratorImaginary = dblLHSImaginary + dblDSign * dblDImaginary;
+		double dblGDenominatorReal = dblB - dblDSign * dblDReal;
+		double dblGDenominatorImaginary = dblLHSImaginary - dblDSign * dblDImaginary;
 
-			if (null == (cnG = org.drip.quant.fourier.ComplexNumber.Divide (cnGNumerator, cnG))) return null;
+		if (0. == dblGDenominatorReal && 0. == dblGDenominatorImaginary) return false;
 
-			int iM = 0;
-			int iN = 0;
+		double dblInverseModulus = 1. / (dblGDenominatorReal * dblGDenominatorReal + dblGDenominatorImaginary
+			* dblGDenominatorImaginary);
+		double dblGReal = (dblGNumeratorReal * dblGDenominatorReal + dblGNumeratorImaginary *
+			dblGDenominatorImaginary) * dblInverseModulus;
+		double dblGImaginary = (dblGDenominatorReal * dblGNumeratorImaginary - dblGNumeratorReal *
+			dblGDenominatorImaginary) * dblInverseModulus;
 
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				iM = (int) ((cnG.argument() + java.lang.Math.PI) / (2. * java.lang.Math.PI));
+		int iM = 0;
+		int iN = 0;
 
-				iN = (int) ((cnG.argument() + (dbTimeToExpiry * cnSmallD.argument()) + java.lang.Math.PI) /
-					(2. * java.lang.Math.PI));
-			}
+		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
+			iPhaseTrackerType) {
+			double dblGArgument = java.lang.Math.atan (dblGImaginary / dblGReal);
 
-			org.drip.quant.fourier.ComplexNumber cnExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnSmallD, -1. * dbTimeToExpiry);
+			iM = (int) ((dblGArgument + java.lang.Math.PI) / (2. * java.lang.Math.PI));
 
-			if (null == cnExpTTEScaledSmallD) return null;
+			iN = (int) ((dblGArgument + (dblTimeToExpiry * java.lang.Math.atan (dblDImaginary / dblDReal)) +
+				java.lang.Math.PI) / (2. * java.lang.Math.PI));
+		}
 
-			if (null == (cnExpTTEScaledSmallD = org.drip.quant.fourier.ComplexNumber.Exponentiate
-				(cnExpTTEScaledSmallD)))
-				return null;
+		double dblScaledTTE = dblDSign * dblTimeToExpiry;
 
-			org.drip.quant.fourier.ComplexNumber cnD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnExpTTEScaledSmallD.real(), -1. * cnExpTTEScaledSmallD.imaginary());
+		double dblExpCoefficient = java.lang.Math.exp (dblScaledTTE * dblDReal);
 
-			org.drip.quant.fourier.ComplexNumber cnInvGExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Multiply (cnExpTTEScaledSmallD, cnG);
+		double dblExpReal = dblExpCoefficient * java.lang.Math.cos (dblScaledTTE * dblDImaginary);
 
-			if (null == cnInvGExpTTEScaledSmallD) return null;
+		double dblExpImaginary = dblExpCoefficient * java.lang.Math.sin (dblScaledTTE * dblDImaginary);
 
-			cnInvGExpTTEScaledSmallD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnInvGExpTTEScaledSmallD.real(), -1. * cnInvGExpTTEScaledSmallD.imaginary());
+		double dblSmallDReal = 1. - dblExpReal;
+		double dblSmallDImaginary = -1. * dblExpImaginary;
+		double dblInvGReal = 1. - (dblExpReal * dblGReal - dblExpImaginary * dblGImaginary);
+		double dblInvGImaginary = -1. * (dblExpReal * dblGImaginary + dblGReal * dblExpImaginary);
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Divide (cnD, cnInvGExpTTEScaledSmallD)))
-				return null;
+		if (0. == dblInvGReal && 0. == dblInvGImaginary) return false;
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Multiply (cnGNumerator, cnD)))
-				return null;
+		dblInverseModulus = 1. / (dblInvGReal * dblInvGReal + dblInvGImaginary * dblInvGImaginary);
+		double dblQuotientReal = (dblSmallDReal * dblInvGReal + dblSmallDImaginary * dblInvGImaginary) *
+			dblInverseModulus;
+		double dblQuotientImaginary = (dblInvGReal * dblSmallDImaginary - dblSmallDReal * dblInvGImaginary)
+			* dblInverseModulus;
+		dblSigmaScaler = 1. / dblSigmaScaler;
+		double dblCapDReal = dblSigmaScaler * (dblGNumeratorReal * dblQuotientReal - dblGNumeratorImaginary *
+			dblQuotientImaginary);
+		double dblCapDImaginary = dblSigmaScaler * (dblGNumeratorReal * dblQuotientImaginary +
+			dblQuotientReal * dblGNumeratorImaginary);
+		double dblCapCReal = 1. - dblGReal;
+		double dblCapCImaginary = -1. * dblGImaginary;
 
-			dblSigmaScaler = 1. / dblSigmaScaler;
+		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
+			iPhaseTrackerType) {
+			double dblAbsDenominator = java.lang.Math.sqrt (dblCapCReal * dblCapCReal + dblCapCImaginary *
+				dblCapCImaginary);
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Scale (cnD, dblSigmaScaler))) return null;
+			if (0. == dblAbsDenominator) return false;
 
-			org.drip.quant.fourier.ComplexNumber cnC = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnG.real(), -1. * cnG.imaginary());
+			double dblLogReal = java.lang.Math.log (java.lang.Math.sqrt (dblInvGReal * dblInvGReal +
+				dblInvGImaginary * dblInvGImaginary) / dblAbsDenominator);
 
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.PhaseAdjuster.PowerLogPhaseTracker
-					(cnInvGExpTTEScaledSmallD, cnC, iN, iM)))
-					return null;
-			} else if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT
-				== _fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Logarithm (cnC))) return null;
+			dblCapCImaginary = java.lang.Math.atan (dblInvGImaginary / dblInvGReal) - java.lang.Math.atan
+				(dblCapCImaginary / dblCapCReal) + 2. * java.lang.Math.PI * (iN - iM);
+			dblCapCReal = dblLogReal;
+		} else if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
+			iPhaseTrackerType) {
+			if (null == rcpt) return false;
 
-				cnC = new org.drip.quant.fourier.ComplexNumber (cnC.real(), rcpt.updateAndApply
-					(cnC.argument(), true));
-			}
+			dblModulus = dblCapCReal * dblCapCReal + dblCapCImaginary * dblCapCImaginary;
+
+			if (0. == dblModulus) return false;
 
-			double dblCorrectedPhase = cnC.argument();
+			double dblLogImaginary = java.lang.Math.atan (dblCapCImaginary / dblCapCReal);
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, -2.))) return null;
+			dblCapCReal = 0.5 * java.lang.Math.log (dblModulus);
 
-			org.drip.quant.fourier.ComplexNumber cnTTEScaledGNumerator =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnGNumerator, dbTimeToExpiry);
+			try {
+				dblCapCImaginary = rcpt.updateAndApply (java.lang.Math.atan (dblLogImaginary / dblCapCReal),
+					true);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
 
-			if (null == cnTTEScaledGNumerator) return null;
+				return false;
+			}
+		}
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (cnTTEScaledGNumerator, cnC)))
-				return null;
+		adblExponent[2] = java.lang.Math.atan (dblCapCImaginary / dblCapCReal);
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, dblA * dblSigmaScaler)))
-				return null;
+		double dblCScaler = dblA * dblSigmaScaler;
+		adblExponent[0] = dblInitialVolatility * dblCapDReal + dblCScaler * (dblTimeToExpiry *
+			dblGNumeratorReal + -2. * dblCapCReal);
+		adblExponent[1] = dblInitialVolatility * dblCapDImaginary + dblLogSpot * dblFreq + (dblRiskFreeRate *
+			dblTimeToExpiry * dblFreq + dblCScaler * (dblTimeToExpiry * dblGNumeratorImaginary + -2. *
+				dblCapCImaginary));
+
+		return org.drip.quant.common.NumberUtil.IsValid (adblExponent[0]) &&
+			org.drip.quant.common.NumberUtil.IsValid (adblExponent[1]);
+	}
+
+	/*
+	 * Run the Characteristic Exponent across the Frequency Grid for one of the two Probabilities, with its
+	 * 	own Rotation Count Direction inferred from the first two Phases.
+	 */
+
+	private boolean integrandGrid (
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblSpot,
+		final double dblInitialVolatility,
+		final double dblB,
+		final double dblU,
+		final double[] adblAmplitude,
+		final double[] adblPhase,
+		final double[] adblCorrectedPhase)
+	{
+		org.drip.quant.fourier.RotationCountPhaseTracker rcpt =
+			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
+				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (new
-				org.drip.quant.fourier.ComplexNumber (0., dblRiskFreeRate * dbTimeToExpiry * dblFreq),
-					cnC)))
-				return null;
+		double dblA = _fphp.kappa() * _fphp.theta();
 
-			org.drip.quant.fourier.ComplexNumber cnF = org.drip.quant.fourier.ComplexNumber.Scale (cnD,
-				dblInitialVolatility);
+		double dblLogSpot = java.lang.Math.log (dblSpot);
 
-			if (null == cnF) return null;
+		double dblPreviousPhase = 0.;
+		double[] adblExponent = new double[3];
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., java.lang.Math.log (dblSpot) * dblFreq))))
-				return null;
+		for (int i = 0; i < FOURIER_FREQ.length; ++i) {
+			if (!characteristicExponent (dblTimeToExpiry, dblRiskFreeRate, dblLogSpot, dblInitialVolatility,
+				dblA, FOURIER_FREQ[i], dblB, dblU, rcpt, adblExponent))
+				return false;
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, cnC))) return null;
+			if (null != rcpt) {
+				if (0 == i)
+					dblPreviousPhase = rcpt.getPreviousPhase();
+				else if (1 == i) {
+					double dblCurrentPhase = rcpt.getPreviousPhase();
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., -1. * java.lang.Math.log (dblStrike) * dblFreq))))
-				return null;
+					if (dblCurrentPhase < dblPreviousPhase) {
+						if (!rcpt.setDirection
+							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
+							return false;
+					} else if (dblCurrentPhase > dblPreviousPhase) {
+						if (!rcpt.setDirection
+							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
+							return false;
+					} else
+						return false;
+				}
+			}
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Exponentiate (cnF))) return null;
+			if (null != adblAmplitude)
+				adblAmplitude[i] = java.lang.Math.exp (adblExponent[0]) / FOURIER_FREQ[i];
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Divide (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., dblFreq))))
-				return null;
+			if (null != adblPhase) adblPhase[i] = adblExponent[1];
 
-			return new PhaseCorrectedF (dblCorrectedPhase, cnF);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
+			if (null != adblCorrectedPhase) adblCorrectedPhase[i] = adblExponent[2];
 		}
 
-		return null;
+		return true;
 	}
 
-	private PhaseCorrectedF fourierTransformAMST07 (
-		final double dblStrike,
-		final double dbTimeToExpiry,
+	/*
+	 * The Quadrature Integrands depend on the Strike only through exp (-i u ln K), so they are evaluated
+	 * 	once per Expiry/Rate/Spot/Initial Volatility and shared by payoff and greeks across the Strikes.
+	 */
+
+	private CharacteristicGrid characteristicGrid (
+		final double dblTimeToExpiry,
 		final double dblRiskFreeRate,
 		final double dblSpot,
-		final double dblInitialVolatility,
-		final double dblA,
-		final double dblFreq,
-		final double dblB,
-		final double dblU,
-		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt)
+		final double dblInitialVolatility)
 	{
-		try {
-			org.drip.quant.fourier.ComplexNumber cnSmallDLHS = new org.drip.quant.fourier.ComplexNumber (dblB,
-				-1. * _fphp.rho() * _fphp.sigma() * dblFreq);
+		synchronized (_mapCharacteristicGrid) {
+			CharacteristicGrid cg = _mapCharacteristicGrid.get (dblTimeToExpiry);
 
-			org.drip.quant.fourier.ComplexNumber cnSmallD = org.drip.quant.fourier.ComplexNumber.Square
-				(cnSmallDLHS);
+			if (null != cg && cg.matches (dblRiskFreeRate, dblSpot, dblInitialVolatility)) return cg;
+		}
 
-			if (null == cnSmallD) return null;
+		int iNumFreq = FOURIER_FREQ.length;
+		double[] adblPhase1 = new double[iNumFreq];
+		double[] adblPhase2 = new double[iNumFreq];
+		double[] adblAmplitude1 = new double[iNumFreq];
+		double[] adblAmplitude2 = new double[iNumFreq];
 
-			double dblSigmaScaler = _fphp.sigma() * _fphp.sigma();
+		double dblB2 = _fphp.kappa() + _fphp.lambda();
 
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.Add (cnSmallD, new
-				org.drip.quant.fourier.ComplexNumber (dblSigmaScaler * dblFreq * dblFreq, -2. * dblSigmaScaler
-					* dblFreq * dblU))))
-				return null;
+		double dblB1 = dblB2 - _fphp.rho() * _fphp.sigma();
 
-			if (null == (cnSmallD = org.drip.quant.fourier.ComplexNumber.SquareRoot (cnSmallD))) return null;
+		if (!integrandGrid (dblTimeToExpiry, dblRiskFreeRate, dblSpot, dblInitialVolatility, dblB1, 0.5,
+			adblAmplitude1, adblPhase1, null) || !integrandGrid (dblTimeToExpiry, dblRiskFreeRate, dblSpot,
+				dblInitialVolatility, dblB2, -0.5, adblAmplitude2, adblPhase2, null))
+			return null;
 
-			org.drip.quant.fourier.ComplexNumber cnGNumerator = org.drip.quant.fourier.ComplexNumber.Add
-				(cnSmallDLHS, cnSmallD);
+		CharacteristicGrid cg = new CharacteristicGrid (dblRiskFreeRate, dblSpot, dblInitialVolatility,
+			adblAmplitude1, adblPhase1, adblAmplitude2, adblPhase2);
 
-			if (null == cnGNumerator) return null;
+		synchronized (_mapCharacteristicGrid) {
+			if (MAX_CACHED_EXPIRY <= _mapCharacteristicGrid.size() && !_mapCharacteristicGrid.containsKey
+				(dblTimeToExpiry))
+				_mapCharacteristicGrid.clear();
 
-			org.drip.quant.fourier.ComplexNumber cnG = org.drip.quant.fourier.ComplexNumber.Subtract
-				(cnSmallDLHS, cnSmallD);
+			_mapCharacteristicGrid.put (dblTimeToExpiry, cg);
+		}
 
-			if (null == cnG) return null;
+		return cg;
+	}
 
-			if (null == (cnG = org.drip.quant.fourier.ComplexNumber.Divide (cnGNumerator, cnG))) return null;
+	/*
+	 * Largest Damping alpha on the Ladder whose Moment E [S_T ^ (alpha + 1)] stays finite out to eight times
+	 * 	the Expiry, off the Andersen and Piterbarg (2007) Moment Explosion Time - the Damped Call Transform
+	 * 	is not integrable past it, and narrows sharply in v well before it.
+	 */
 
-			int iM = 0;
-			int iN = 0;
+	private double fftDamping (
+		final double dblTimeToExpiry)
+	{
+		double dblSigma = _fphp.sigma();
 
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				iM = (int) ((cnG.argument() + java.lang.Math.PI) / (2. * java.lang.Math.PI));
+		double dblRhoSigma = _fphp.rho() * dblSigma;
 
-				iN = (int) ((cnG.argument() + (dbTimeToExpiry * cnSmallD.argument()) + java.lang.Math.PI) /
-					(2. * java.lang.Math.PI));
-			}
+		double dblB = _fphp.kappa() + _fphp.lambda();
 
-			org.drip.quant.fourier.ComplexNumber cnExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnSmallD, dbTimeToExpiry);
+		for (int i = 0; i < FFT_DAMPING.length; ++i) {
+			double dblMoment = FFT_DAMPING[i] + 1.;
+			double dblBeta = dblB - dblRhoSigma * dblMoment;
+			double dblExplosionTime = java.lang.Double.POSITIVE_INFINITY;
+			double dblDiscriminant = dblBeta * dblBeta - dblSigma * dblSigma * dblMoment * (dblMoment - 1.);
 
-			if (null == cnExpTTEScaledSmallD) return null;
+			if (0. > dblDiscriminant) {
+				double dblGamma = java.lang.Math.sqrt (-1. * dblDiscriminant);
 
-			if (null == (cnExpTTEScaledSmallD = org.drip.quant.fourier.ComplexNumber.Exponentiate
-				(cnExpTTEScaledSmallD)))
-				return null;
+				dblExplosionTime = 2. / dblGamma * ((0. <= dblBeta ? java.lang.Math.PI : 0.) -
+					java.lang.Math.atan (dblGamma / dblBeta));
+			} else if (0. > dblBeta) {
+				double dblGamma = java.lang.Math.sqrt (dblDiscriminant);
 
-			org.drip.quant.fourier.ComplexNumber cnD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnExpTTEScaledSmallD.real(), -1. * cnExpTTEScaledSmallD.imaginary());
+				dblExplosionTime = 0. == dblGamma ? -2. / dblBeta : java.lang.Math.log ((dblBeta - dblGamma) /
+					(dblBeta + dblGamma)) / dblGamma;
+			}
 
-			org.drip.quant.fourier.ComplexNumber cnInvGExpTTEScaledSmallD =
-				org.drip.quant.fourier.ComplexNumber.Multiply (cnG, cnExpTTEScaledSmallD);
+			if (dblExplosionTime > 8. * dblTimeToExpiry) return FFT_DAMPING[i];
+		}
+
+		return FFT_DAMPING[FFT_DAMPING.length - 1];
+	}
 
-			if (null == cnInvGExpTTEScaledSmallD) return null;
+	/*
+	 * Carr-Madan (1999) Lattice of Discounted Call Prices C (k_m), k_m = ln F - N Lambda / 2 + m Lambda,
+	 * 	off a single FFT of the Damped Call Transform
+	 * 		psi (v) = DF * phi (v - (alpha + 1) i) / (alpha^2 + alpha - v^2 + i (2 alpha + 1) v)
+	 * 	with Simpson Weights. phi is the Risk-Neutral Characteristic Function of ln S_T in the Albrecher,
+	 * 	Mayer, Schoutens, and Tistaert (2007) Form, with the Logarithm kept continuous in v.
+	 */
 
-			cnInvGExpTTEScaledSmallD = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnInvGExpTTEScaledSmallD.real(), -1. * cnInvGExpTTEScaledSmallD.imaginary());
+	private StrikeGrid strikeGrid (
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblSpot,
+		final double dblInitialVolatility)
+	{
+		synchronized (_mapStrikeGrid) {
+			StrikeGrid sg = _mapStrikeGrid.get (dblTimeToExpiry);
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Divide (cnD, cnInvGExpTTEScaledSmallD)))
-				return null;
+			if (null != sg && sg.matches (dblRiskFreeRate, dblSpot, dblInitialVolatility)) return sg;
+		}
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Multiply (cnGNumerator, cnD)))
-				return null;
+		double dblSigma = _fphp.sigma();
 
-			dblSigmaScaler = 1. / dblSigmaScaler;
+		double dblRhoSigma = _fphp.rho() * dblSigma;
 
-			if (null == (cnD = org.drip.quant.fourier.ComplexNumber.Scale (cnD, dblSigmaScaler))) return null;
+		double dblA = _fphp.kappa() * _fphp.theta();
 
-			org.drip.quant.fourier.ComplexNumber cnC = new org.drip.quant.fourier.ComplexNumber (1. -
-				cnG.real(), -1. * cnG.imaginary());
+		double dblB = _fphp.kappa() + _fphp.lambda();
 
-			if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_POWER_PHASE_TRACKER_KAHL_JACKEL ==
-				_fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.PhaseAdjuster.PowerLogPhaseTracker
-					(cnInvGExpTTEScaledSmallD, cnC, iN, iM)))
-					return null;
-			} else if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT
-				== _fphp.phaseTrackerType()) {
-				if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Logarithm (cnC))) return null;
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
 
-				cnC = new org.drip.quant.fourier.ComplexNumber (cnC.real(), rcpt.updateAndApply
-					(cnC.argument(), true));
-			}
+		double dblLogSpot = java.lang.Math.log (dblSpot);
 
-			double dblCorrectedPhase = cnC.argument();
+		double dblDamping = fftDamping (dblTimeToExpiry);
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, -2.))) return null;
+		double dblShift = dblDamping + 1.;
+		double dblTruncationModulus = java.lang.Double.NaN;
+		double dblPreviousLogRatioImaginary = java.lang.Double.NaN;
+		double[] adblReal = new double[FFT_SIZE];
+		double[] adblImaginary = new double[FFT_SIZE];
+		double dblSigmaScaler = 1. / (dblSigma * dblSigma);
 
-			org.drip.quant.fourier.ComplexNumber cnTTEScaledGNumerator =
-				org.drip.quant.fourier.ComplexNumber.Scale (cnGNumerator, dbTimeToExpiry);
+		/*
+		 * The Frequency Step resolves both the Damping Pole Scale alpha and the Width 1 / sqrt (Variance * T)
+		 * 	of the Characteristic Function; the Log-Strike Step follows from lambda * eta = 2 pi / N.
+		 */
 
-			if (null == cnTTEScaledGNumerator) return null;
+		double dblFreqIncrement = java.lang.Math.min (FFT_FREQ_INCREMENT, java.lang.Math.min (0.25 *
+			dblDamping, 0.0625 / java.lang.Math.sqrt (dblTimeToExpiry * java.lang.Math.max
+				(dblInitialVolatility, _fphp.theta()))));
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (cnTTEScaledGNumerator, cnC)))
-				return null;
+		double dblLogStrikeIncrement = 2. * java.lang.Math.PI / (FFT_SIZE * dblFreqIncrement);
+		double dblLogStrikeStart = dblLogSpot + dblRiskFreeRate * dblTimeToExpiry - 0.5 * FFT_SIZE *
+			dblLogStrikeIncrement;
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Scale (cnC, dblA * dblSigmaScaler)))
-				return null;
+		for (int j = 0; j < FFT_SIZE; ++j) {
+			double dblFreq = j * dblFreqIncrement;
 
-			if (null == (cnC = org.drip.quant.fourier.ComplexNumber.Add (new
-				org.drip.quant.fourier.ComplexNumber (0., dblRiskFreeRate * dbTimeToExpiry * dblFreq),
-					cnC)))
-				return null;
+			/*
+			 * With z = v - (alpha + 1) i: i z = (alpha + 1) + i v, and i z + z^2 enters the Discriminant
+			 */
 
-			org.drip.quant.fourier.ComplexNumber cnF = org.drip.quant.fourier.ComplexNumber.Scale (cnD,
-				dblInitialVolatility);
+			double dblXiReal = dblB - dblRhoSigma * dblShift;
+			double dblXiImaginary = -1. * dblRhoSigma * dblFreq;
+			double dblDReal = dblXiReal * dblXiReal - dblXiImaginary * dblXiImaginary + (dblShift + dblFreq *
+				dblFreq - dblShift * dblShift) / dblSigmaScaler;
+			double dblDImaginary = 2. * dblXiReal * dblXiImaginary + (dblFreq - 2. * dblFreq * dblShift) /
+				dblSigmaScaler;
 
-			if (null == cnF) return null;
+			double dblModulus = java.lang.Math.sqrt (dblDReal * dblDReal + dblDImaginary * dblDImaginary);
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., java.lang.Math.log (dblSpot) * dblFreq))))
-				return null;
+			if (0. <= dblDReal) {
+				double dblRootReal = java.lang.Math.sqrt (0.5 * (dblModulus + dblDReal));
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, cnC))) return null;
+				dblDImaginary = 0. == dblRootReal ? 0. : 0.5 * dblDImaginary / dblRootReal;
+				dblDReal = dblRootReal;
+			} else {
+				double dblRootImaginary = java.lang.Math.sqrt (0.5 * (dblModulus - dblDReal));
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Add (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., -1. * java.lang.Math.log (dblStrike) * dblFreq))))
-				return null;
+				if (0. > dblDImaginary) dblRootImaginary = -1. * dblRootImaginary;
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Exponentiate (cnF))) return null;
+				dblDReal = 0.5 * dblDImaginary / dblRootImaginary;
+				dblDImaginary = dblRootImaginary;
+			}
 
-			if (null == (cnF = org.drip.quant.fourier.ComplexNumber.Divide (cnF, new
-				org.drip.quant.fourier.ComplexNumber (0., dblFreq))))
-				return null;
+			double dblXiMinusDReal = dblXiReal - dblDReal;
+			double dblXiMinusDImaginary = dblXiImaginary - dblDImaginary;
+			double dblXiPlusDReal = dblXiReal + dblDReal;
+			double dblXiPlusDImaginary = dblXiImaginary + dblDImaginary;
+			double dblInverseModulus = 1. / (dblXiPlusDReal * dblXiPlusDReal + dblXiPlusDImaginary *
+				dblXiPlusDImaginary);
+			double dblGReal = (dblXiMinusDReal * dblXiPlusDReal + dblXiMinusDImaginary *
+				dblXiPlusDImaginary) * dblInverseModulus;
+			double dblGImaginary = (dblXiPlusDReal * dblXiMinusDImaginary - dblXiMinusDReal *
+				dblXiPlusDImaginary) * dblInverseModulus;
+
+			double dblExpCoefficient = java.lang.Math.exp (-1. * dblTimeToExpiry * dblDReal);
+
+			double dblExpReal = dblExpCoefficient * java.lang.Math.cos (dblTimeToExpiry * dblDImaginary);
+
+			double dblExpImaginary = -1. * dblExpCoefficient * java.lang.Math.sin (dblTimeToExpiry *
+				dblDImaginary);
+
+			double dblOneMinusGExpReal = 1. - (dblGReal * dblExpReal - dblGImaginary * dblExpImaginary);
+			double dblOneMinusGExpImaginary = -1. * (dblGReal * dblExpImaginary + dblGImaginary * dblExpReal);
+			double dblOneMinusGReal = 1. - dblGReal;
+			double dblOneMinusGImaginary = -1. * dblGImaginary;
+
+			/*
+			 * ln ((1 - g exp (-d T)) / (1 - g)) on the Principal Branch
+			 */
+
+			dblInverseModulus = 1. / (dblOneMinusGReal * dblOneMinusGReal + dblOneMinusGImaginary *
+				dblOneMinusGImaginary);
+			double dblRatioReal = (dblOneMinusGExpReal * dblOneMinusGReal + dblOneMinusGExpImaginary *
+				dblOneMinusGImaginary) * dblInverseModulus;
+			double dblRatioImaginary = (dblOneMinusGReal * dblOneMinusGExpImaginary - dblOneMinusGExpReal *
+				dblOneMinusGImaginary) * dblInverseModulus;
+			double dblLogRatioReal = 0.5 * java.lang.Math.log (dblRatioReal * dblRatioReal + dblRatioImaginary
+				* dblRatioImaginary);
+
+			double dblLogRatioImaginary = java.lang.Math.atan2 (dblRatioImaginary, dblRatioReal);
+
+			if (0 != j) {
+				while (dblLogRatioImaginary - dblPreviousLogRatioImaginary > java.lang.Math.PI)
+					dblLogRatioImaginary -= 2. * java.lang.Math.PI;
+
+				while (dblPreviousLogRatioImaginary - dblLogRatioImaginary > java.lang.Math.PI)
+					dblLogRatioImaginary += 2. * java.lang.Math.PI;
+			}
 
-			return new PhaseCorrectedF (dblCorrectedPhase, cnF);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
+			dblPreviousLogRatioImaginary = dblLogRatioImaginary;
+
+			/*
+			 * D = (xi - d) / sigma^2 * (1 - exp (-d T)) / (1 - g exp (-d T))
+			 */
+
+			double dblOneMinusExpReal = 1. - dblExpReal;
+			double dblOneMinusExpImaginary = -1. * dblExpImaginary;
+			dblInverseModulus = 1. / (dblOneMinusGExpReal * dblOneMinusGExpReal + dblOneMinusGExpImaginary *
+				dblOneMinusGExpImaginary);
+			double dblQuotientReal = (dblOneMinusExpReal * dblOneMinusGExpReal + dblOneMinusExpImaginary *
+				dblOneMinusGExpImaginary) * dblInverseModulus;
+			double dblQuotientImaginary = (dblOneMinusGExpReal * dblOneMinusExpImaginary - dblOneMinusExpReal
+				* dblOneMinusGExpImaginary) * dblInverseModulus;
+			double dblCapDReal = dblSigmaScaler * (dblXiMinusDReal * dblQuotientReal - dblXiMinusDImaginary *
+				dblQuotientImaginary);
+			double dblCapDImaginary = dblSigmaScaler * (dblXiMinusDReal * dblQuotientImaginary +
+				dblXiMinusDImaginary * dblQuotientReal);
+
+			/*
+			 * ln phi = C + D v0 + i z ln S, with C = r i z T + a / sigma^2 * ((xi - d) T - 2 ln (...))
+			 */
+
+			double dblLogPhiReal = (dblRiskFreeRate * dblTimeToExpiry + dblLogSpot) * dblShift + dblA *
+				dblSigmaScaler * (dblXiMinusDReal * dblTimeToExpiry - 2. * dblLogRatioReal) +
+					dblInitialVolatility * dblCapDReal;
+			double dblLogPhiImaginary = (dblRiskFreeRate * dblTimeToExpiry + dblLogSpot) * dblFreq + dblA *
+				dblSigmaScaler * (dblXiMinusDImaginary * dblTimeToExpiry - 2. * dblLogRatioImaginary) +
+					dblInitialVolatility * dblCapDImaginary - dblFreq * dblLogStrikeStart;
+
+			/*
+			 * x_j = exp (-i v_j k_0) psi (v_j) eta w_j - the Strike Lattice Origin is folded into the Phase
+			 */
+
+			double dblWeight = (0 == j ? 1. : (1 == (j & 1) ? 4. : 2.)) * dblFreqIncrement * dblDF / 3.;
+
+			double dblPhiModulus = dblWeight * java.lang.Math.exp (dblLogPhiReal);
+
+			double dblPhiReal = dblPhiModulus * java.lang.Math.cos (dblLogPhiImaginary);
+
+			double dblPhiImaginary = dblPhiModulus * java.lang.Math.sin (dblLogPhiImaginary);
+
+			double dblDenominatorReal = dblDamping * dblDamping + dblDamping - dblFreq * dblFreq;
+			double dblDenominatorImaginary = (2. * dblDamping + 1.) * dblFreq;
+			dblInverseModulus = 1. / (dblDenominatorReal * dblDenominatorReal + dblDenominatorImaginary *
+				dblDenominatorImaginary);
+			adblReal[j] = (dblPhiReal * dblDenominatorReal + dblPhiImaginary * dblDenominatorImaginary) *
+				dblInverseModulus;
+			adblImaginary[j] = (dblDenominatorReal * dblPhiImaginary - dblPhiReal * dblDenominatorImaginary) *
+				dblInverseModulus;
+
+			/*
+			 * The Damped Transform decays in v - the Tail below the Round-off of the v = 0 Term stays at 0
+			 */
+
+			double dblTermModulus = java.lang.Math.abs (adblReal[j]) + java.lang.Math.abs (adblImaginary[j]);
+
+			if (0 == j)
+				dblTruncationModulus = FFT_TRUNCATION * dblTermModulus;
+			else if (dblTermModulus < dblTruncationModulus)
+				break;
 		}
 
-		return null;
-	}
+		if (!org.drip.quant.fourier.FastFourierTransform.Forward (adblReal, adblImaginary)) return null;
 
-	private PhaseCorrectedF payoffTransform (
-		final double dblStrike,
-		final double dbTimeToExpiry,
-		final double dblRiskFreeRate,
-		final double dblSpot,
-		final double dblInitialVolatility,
-		final double dblA,
-		final double dblFreq,
-		final double dblB,
-		final double dblU,
-		final org.drip.quant.fourier.RotationCountPhaseTracker rcpt)
-	{
-		if (org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-			_fphp.phaseTrackerType() && null == rcpt)
-			return null;
+		for (int m = 0; m < FFT_SIZE; ++m) {
+			double dblCallPrice = java.lang.Math.exp (-1. * dblDamping * (dblLogStrikeStart + m *
+				dblLogStrikeIncrement)) * adblReal[m] / java.lang.Math.PI;
 
-		if (PAYOFF_TRANSFORM_SCHEME_HESTON_1993 == _fphp.payoffTransformScheme())
-			return fourierTransformHeston93 (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB, dblU, rcpt);
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblCallPrice)) return null;
 
-		if (PAYOFF_TRANSFORM_SCHEME_AMST_2007 == _fphp.payoffTransformScheme())
-			return fourierTransformAMST07 (dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB, dblU, rcpt);
+			adblReal[m] = dblCallPrice;
+		}
 
-		return null;
+		StrikeGrid sg = new StrikeGrid (dblRiskFreeRate, dblSpot, dblInitialVolatility, dblLogStrikeStart,
+			dblLogStrikeIncrement, adblReal);
+
+		synchronized (_mapStrikeGrid) {
+			if (MAX_CACHED_EXPIRY <= _mapStrikeGrid.size() && !_mapStrikeGrid.containsKey (dblTimeToExpiry))
+				_mapStrikeGrid.clear();
+
+			_mapStrikeGrid.put (dblTimeToExpiry, sg);
+		}
+
+		return sg;
 	}
 
 	/**
@@ -435,52 +767,21 @@ public class HestonStochasticVolatilityAlgorithm extends org.drip.pricer.option.
 					!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate))
 			return null;
 
-		int i = 0;
-		double dblU1 = 0.5;
-		double dblU2 = -0.5;
-		double dblPreviousPhase = 0.;
-
-		org.drip.quant.fourier.RotationCountPhaseTracker rcpt =
-			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
-
-		double dblA = _fphp.kappa() * _fphp.theta();
+		double[] adblCorrectedPhase = new double[FOURIER_FREQ.length];
 
 		double dblB2 = _fphp.kappa() + _fphp.lambda();
 
 		double dblB1 = dblB2 - _fphp.rho() * _fphp.sigma();
 
+		if (!integrandGrid (dbTimeToExpiry, dblRiskFreeRate, dblSpot, dblInitialVolatility, bLeft ? dblB1 :
+			dblB2, bLeft ? 0.5 : -0.5, null, null, adblCorrectedPhase))
+			return null;
+
 		java.util.Map<java.lang.Double, java.lang.Double> mapPhaseRun = new
 			java.util.TreeMap<java.lang.Double, java.lang.Double>();
 
-		for (double dblFreq = FOURIER_FREQ_INIT; dblFreq <= FOURIER_FREQ_FINAL; dblFreq +=
-			FOURIER_FREQ_INCREMENT, ++i) {
-			PhaseCorrectedF pcf = bLeft ? payoffTransform (dblStrike, dbTimeToExpiry, dblRiskFreeRate,
-				dblSpot, dblInitialVolatility, dblA, dblFreq, dblB1, dblU1, rcpt) : payoffTransform
-					(dblStrike, dbTimeToExpiry, dblRiskFreeRate, dblSpot, dblInitialVolatility, dblA,
-						dblFreq, dblB2, dblU2, rcpt);
-
-			if (null != rcpt) {
-				if (0 == i)
-					dblPreviousPhase = rcpt.getPreviousPhase();
-				else if (1 == i) {
-					double dblCurrentPhase = rcpt.getPreviousPhase();
-
-					if (dblCurrentPhase < dblPreviousPhase) {
-						if (!rcpt.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
-							return null;
-					} else if (dblCurrentPhase > dblPreviousPhase) {
-						if (!rcpt.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
-							return null;
-					} else
-						return null;
-				}
-			}
-
-			mapPhaseRun.put (dblFreq, pcf._dblCorrectedPhase);
-		}
+		for (int i = 0; i < FOURIER_FREQ.length; ++i)
+			mapPhaseRun.put (FOURIER_FREQ[i], adblCorrectedPhase[i]);
 
 		return mapPhaseRun;
 	}
@@ -503,95 +804,91 @@ public class HestonStochasticVolatilityAlgorithm extends org.drip.pricer.option.
 						!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate))
 			throw new java.lang.Exception ("HestonStochasticVolatilityAlgorithm::payoff => Invalid Inputs");
 
-		org.drip.quant.fourier.RotationCountPhaseTracker rcpt1 =
-			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
 
-		org.drip.quant.fourier.RotationCountPhaseTracker rcpt2 =
-			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
+		double dblSpot = bIsForward ? dblUnderlier * dblDF : dblUnderlier;
 
-		double dblA = _fphp.kappa() * _fphp.theta();
+		CharacteristicGrid cg = characteristicGrid (dblTimeToExpiry, dblRiskFreeRate, dblSpot,
+			dblInitialVolatility);
 
-		double dblB2 = _fphp.kappa() + _fphp.lambda();
+		if (null == cg)
+			throw new java.lang.Exception
+				("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
 
-		double dblB1 = dblB2 - _fphp.rho() * _fphp.sigma();
+		double dblLogStrike = java.lang.Math.log (dblStrike);
 
-		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+		double dblForward = dblSpot / dblDF;
+		double dblCallPayoff = dblForward * CallProbability (cg._adblAmplitude1, cg._adblPhase1, dblLogStrike)
+			- dblStrike * CallProbability (cg._adblAmplitude2, cg._adblPhase2, dblLogStrike);
 
-		int i = 0;
-		double dblU1 = 0.5;
-		double dblU2 = -0.5;
-		double dblCallProb1 = 0.;
-		double dblCallProb2 = 0.;
-		double dblPreviousPhase = 0.;
-		double dblSpot = bIsForward ? dblUnderlier * dblDF : dblUnderlier;
+		if (!bAsPrice) return bIsPut ? dblCallPayoff + dblStrike - dblForward : dblCallPayoff;
 
-		for (double dblFreq = FOURIER_FREQ_INIT; dblFreq <= FOURIER_FREQ_FINAL; dblFreq +=
-			FOURIER_FREQ_INCREMENT, ++i) {
-			PhaseCorrectedF pcf1 = payoffTransform (dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB1, dblU1, rcpt1);
+		return bIsPut ? dblDF * (dblCallPayoff + dblStrike - dblForward) : dblDF * dblCallPayoff;
+	}
 
-			if (null != rcpt1) {
-				if (0 == i)
-					dblPreviousPhase = rcpt1.getPreviousPhase();
-				else if (1 == i) {
-					double dblCurrentPhase = rcpt1.getPreviousPhase();
+	/**
+	 * Compute the Payoff across a Grid of Strikes sharing the Expiry through a single Carr-Madan FFT, in
+	 * 	place of the Strike-by-Strike Quadrature of payoff. The Call Price Lattice is cached per Expiry, so
+	 * 	further Grids (Calls or Puts) on the same Expiry, Rate, Underlier, and Initial Volatility cost only
+	 * 	the Interpolation.
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param dblTimeToExpiry Time To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Option is a Put
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param dblInitialVolatility Initial Volatility
+	 * @param bAsPrice TRUE => Return the Price, FALSE => Return the Undiscounted Payoff
+	 * 
+	 * @return The Array of Payoffs, one per Strike
+	 * 
+	 * @throws java.lang.Exception Thrown if the Payoff cannot be computed
+	 */
 
-					if (dblCurrentPhase < dblPreviousPhase) {
-						if (!rcpt1.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
-							throw new java.lang.Exception
-								("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
-					} else if (dblCurrentPhase > dblPreviousPhase) {
-						if (!rcpt1.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
-							throw new java.lang.Exception
-								("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
-					} else
-						throw new java.lang.Exception
-							("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
-				}
-			}
+	public double[] payoff (
+		final double[] adblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double dblInitialVolatility,
+		final boolean bAsPrice)
+		throws java.lang.Exception
+	{
+		if (null == adblStrike || 0 == adblStrike.length || !org.drip.quant.common.NumberUtil.IsValid
+			(dblUnderlier) || !org.drip.quant.common.NumberUtil.IsValid (dblInitialVolatility) ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate))
+			throw new java.lang.Exception ("HestonStochasticVolatilityAlgorithm::payoff => Invalid Inputs");
 
-			PhaseCorrectedF pcf2 = payoffTransform (dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB2, dblU2, rcpt2);
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
 
-			if (null != rcpt2) {
-				if (0 == i)
-					dblPreviousPhase = rcpt2.getPreviousPhase();
-				else if (1 == i) {
-					double dblCurrentPhase = rcpt2.getPreviousPhase();
+		double dblSpot = bIsForward ? dblUnderlier * dblDF : dblUnderlier;
 
-					if (dblCurrentPhase < dblPreviousPhase) {
-						if (!rcpt2.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
-							throw new java.lang.Exception
-								("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
-					} else if (dblCurrentPhase > dblPreviousPhase) {
-						if (!rcpt2.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
-							throw new java.lang.Exception
-								("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
-					} else
-						throw new java.lang.Exception
-							("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
-				}
-			}
+		StrikeGrid sg = strikeGrid (dblTimeToExpiry, dblRiskFreeRate, dblSpot, dblInitialVolatility);
 
-			dblCallProb1 += pcf1._cnF.real() * FOURIER_FREQ_INCREMENT;
+		if (null == sg)
+			throw new java.lang.Exception
+				("HestonStochasticVolatilityAlgorithm::payoff => Cannot compute payoff");
 
-			dblCallProb2 += pcf2._cnF.real() * FOURIER_FREQ_INCREMENT;
-		}
+		int iNumStrike = adblStrike.length;
+		double[] adblPayoff = new double[iNumStrike];
 
-		double dblForward = dblSpot / dblDF;
-		double dblPIScaler = 1. / java.lang.Math.PI;
-		double dblCallPayoff = dblForward * (0.5 + dblCallProb1 * dblPIScaler) - dblStrike * (0.5 +
-			dblCallProb2 * dblPIScaler);
+		for (int i = 0; i < iNumStrike; ++i) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (adblStrike[i]) || 0. >= adblStrike[i])
+				throw new java.lang.Exception
+					("HestonStochasticVolatilityAlgorithm::payoff => Invalid Strike");
 
-		if (!bAsPrice) return bIsPut ? dblCallPayoff + dblStrike - dblForward : dblCallPayoff;
+			double dblPrice = LatticeCallPrice (sg, adblStrike[i]);
 
-		return bIsPut ? dblDF * (dblCallPayoff + dblStrike - dblForward) : dblDF * dblCallPayoff;
+			if (bIsPut) dblPrice += adblStrike[i] * dblDF - dblSpot;
+
+			adblPayoff[i] = bAsPrice ? dblPrice : dblPrice / dblDF;
+		}
+
+		return adblPayoff;
 	}
 
 	@Override public org.drip.pricer.option.Greeks greeks (
@@ -610,85 +907,22 @@ public class HestonStochasticVolatilityAlgorithm extends org.drip.pricer.option.
 						!org.drip.quant.common.NumberUtil.IsValid (dblRiskFreeRate))
 			return null;
 
-		org.drip.quant.fourier.RotationCountPhaseTracker rcpt1 =
-			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
-
-		org.drip.quant.fourier.RotationCountPhaseTracker rcpt2 =
-			org.drip.quant.fourier.PhaseAdjuster.MULTI_VALUE_BRANCH_PHASE_TRACKER_ROTATION_COUNT ==
-				_fphp.phaseTrackerType() ? new org.drip.quant.fourier.RotationCountPhaseTracker() : null;
-
-		double dblA = _fphp.kappa() * _fphp.theta();
-
-		double dblB2 = _fphp.kappa() + _fphp.lambda();
-
-		double dblB1 = dblB2 - _fphp.rho() * _fphp.sigma();
-
 		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
 
-		int i = 0;
-		double dblU1 = 0.5;
-		double dblU2 = -0.5;
-		double dblCallProb1 = 0.;
-		double dblCallProb2 = 0.;
-		double dblPreviousPhase = 0.;
 		double dblSpot = bIsForward ? dblUnderlier * dblDF : dblUnderlier;
 
-		for (double dblFreq = FOURIER_FREQ_INIT; dblFreq <= FOURIER_FREQ_FINAL; dblFreq +=
-			FOURIER_FREQ_INCREMENT, ++i) {
-			PhaseCorrectedF pcf1 = payoffTransform (dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB1, dblU1, rcpt1);
-
-			if (null != rcpt1) {
-				if (0 == i)
-					dblPreviousPhase = rcpt1.getPreviousPhase();
-				else if (1 == i) {
-					double dblCurrentPhase = rcpt1.getPreviousPhase();
-
-					if (dblCurrentPhase < dblPreviousPhase) {
-						if (!rcpt1.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
-							return null;
-					} else if (dblCurrentPhase > dblPreviousPhase) {
-						if (!rcpt1.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
-							return null;
-					} else
-						return null;
-				}
-			}
-
-			PhaseCorrectedF pcf2 = payoffTransform (dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblSpot,
-				dblInitialVolatility, dblA, dblFreq, dblB2, dblU2, rcpt2);
+		CharacteristicGrid cg = characteristicGrid (dblTimeToExpiry, dblRiskFreeRate, dblSpot,
+			dblInitialVolatility);
 
-			if (null != rcpt2) {
-				if (0 == i)
-					dblPreviousPhase = rcpt2.getPreviousPhase();
-				else if (1 == i) {
-					double dblCurrentPhase = rcpt2.getPreviousPhase();
+		if (null == cg) return null;
 
-					if (dblCurrentPhase < dblPreviousPhase) {
-						if (!rcpt2.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_BACKWARD))
-							return null;
-					} else if (dblCurrentPhase > dblPreviousPhase) {
-						if (!rcpt2.setDirection
-							(org.drip.quant.fourier.RotationCountPhaseTracker.APPLY_FORWARD))
-							return null;
-					} else
-						return null;
-				}
-			}
+		double dblLogStrike = java.lang.Math.log (dblStrike);
 
-			dblCallProb1 += pcf1._cnF.real() * FOURIER_FREQ_INCREMENT;
+		double dblCallProb1 = CallProbability (cg._adblAmplitude1, cg._adblPhase1, dblLogStrike);
 
-			dblCallProb2 += pcf2._cnF.real() * FOURIER_FREQ_INCREMENT;
-		}
+		double dblCallProb2 = CallProbability (cg._adblAmplitude2, cg._adblPhase2, dblLogStrike);
 
 		double dblForward = dblSpot / dblDF;
-		double dblPIScaler = 1. / java.lang.Math.PI;
-		dblCallProb1 = 0.5 + dblCallProb1 * dblPIScaler;
-		dblCallProb2 = 0.5 + dblCallProb2 * dblPIScaler;
 		double dblATMCallPayoff = dblForward * (dblCallProb1 - dblCallProb2);
 		double dblCallPrice = dblSpot * dblCallProb1 - dblStrike * dblDF * dblCallProb2;
 		double dblExpectedCallPayoff = dblForward * dblCallProb1 - dblStrike * dblDF * dblCallProb2;
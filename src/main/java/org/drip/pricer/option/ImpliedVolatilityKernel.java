@@ -0,0 +1,601 @@
+
+package org.drip.pricer.option;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ImpliedVolatilityKernel inverts Black (Log-normal) and Bachelier (Normal) Option Prices into Implied
+ * 	Volatilities in Closed Form, with no generic Root Finder and no Checked Exceptions:
+ * 	- The Black Inversion follows Jaeckel (2015), "Let's be Rational" - the Price is normalized to
+ * 		b (x, s) with x = ln (F/K) and s = sigma * sqrt (T), and reduced to an Out-of-the-Money Call. The
+ * 		Initial Guess comes from four Rational Cubic Interpolation Branches (the lowest and the highest on
+ * 		transformed Co-ordinates), and is refined by at most two third-order Householder Steps on the
+ * 		Branch specific Objective Function.
+ * 	- The Bachelier Inversion follows Jaeckel (2017), "Implied Normal Volatility" - a Rational
+ * 		Approximation of the Inverse of the Normalized Bachelier Function, refined by a single
+ * 		Householder Step.
+ *
+ * Prices are undiscounted (Forward) Prices. Prices outside the No-Arbitrage Range map to NaN.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ImpliedVolatilityKernel {
+	private static final double DBL_EPSILON = java.lang.Math.ulp (1.);
+	private static final double SQRT_THREE = java.lang.Math.sqrt (3.);
+	private static final double SQRT_ONE_OVER_THREE = java.lang.Math.sqrt (1. / 3.);
+	private static final double TWO_PI = 2. * java.lang.Math.PI;
+	private static final double PI_OVER_SIX = java.lang.Math.PI / 6.;
+	private static final double SQRT_PI_OVER_TWO = java.lang.Math.sqrt (0.5 * java.lang.Math.PI);
+	private static final double SQRT_TWO_PI = java.lang.Math.sqrt (2. * java.lang.Math.PI);
+	private static final double INV_SQRT_TWO_PI = 1. / java.lang.Math.sqrt (2. * java.lang.Math.PI);
+	private static final double TWO_PI_OVER_SQRT_27 = 2. * java.lang.Math.PI / java.lang.Math.sqrt (27.);
+	private static final double SQRT_DBL_MAX = java.lang.Math.sqrt (java.lang.Double.MAX_VALUE);
+	private static final double MINIMUM_RATIONAL_CUBIC_CONTROL = -(1. - java.lang.Math.sqrt (DBL_EPSILON));
+	private static final double MAXIMUM_RATIONAL_CUBIC_CONTROL = 2. / (DBL_EPSILON * DBL_EPSILON);
+
+	/**
+	 * Maximum Number of Householder Refinement Steps of the Black Inversion
+	 */
+
+	public static final int MAX_REFINEMENT = 2;
+
+	private static final boolean IsZero (
+		final double dbl)
+	{
+		return java.lang.Math.abs (dbl) < java.lang.Double.MIN_NORMAL;
+	}
+
+	private static final double HouseholderFactor (
+		final double dblNewton,
+		final double dblHalley,
+		final double dblHH3)
+	{
+		return (1. + 0.5 * dblHalley * dblNewton) / (1. + dblNewton * (dblHalley + dblHH3 * dblNewton / 6.));
+	}
+
+	/*
+	 * Rational Cubic Interpolation of Delbourgo and Gregory (1985), with Control Parameter r
+	 */
+
+	private static final double RationalCubic (
+		final double dblX,
+		final double dblXLeft,
+		final double dblXRight,
+		final double dblYLeft,
+		final double dblYRight,
+		final double dblDLeft,
+		final double dblDRight,
+		final double dblR)
+	{
+		double dblH = dblXRight - dblXLeft;
+
+		if (0. >= java.lang.Math.abs (dblH)) return 0.5 * (dblYLeft + dblYRight);
+
+		double dblT = (dblX - dblXLeft) / dblH;
+
+		if (dblR >= MAXIMUM_RATIONAL_CUBIC_CONTROL) return dblYRight * dblT + dblYLeft * (1. - dblT);
+
+		double dblOneMinusT = 1. - dblT;
+		double dblTSquare = dblT * dblT;
+		double dblOneMinusTSquare = dblOneMinusT * dblOneMinusT;
+
+		return (dblYRight * dblTSquare * dblT + (dblR * dblYRight - dblH * dblDRight) * dblTSquare *
+			dblOneMinusT + (dblR * dblYLeft + dblH * dblDLeft) * dblT * dblOneMinusTSquare + dblYLeft *
+				dblOneMinusTSquare * dblOneMinusT) / (1. + (dblR - 3.) * dblT * dblOneMinusT);
+	}
+
+	private static final double MinimumRationalCubicControl (
+		final double dblDLeft,
+		final double dblDRight,
+		final double dblSlope,
+		final boolean bPreferShapePreservation)
+	{
+		boolean bMonotonic = dblDLeft * dblSlope >= 0. && dblDRight * dblSlope >= 0.;
+		boolean bConvex = dblDLeft <= dblSlope && dblSlope <= dblDRight;
+		boolean bConcave = dblDLeft >= dblSlope && dblSlope >= dblDRight;
+
+		if (!bMonotonic && !bConvex && !bConcave) return MINIMUM_RATIONAL_CUBIC_CONTROL;
+
+		double dblR1 = -java.lang.Double.MAX_VALUE;
+		double dblR2 = -java.lang.Double.MAX_VALUE;
+
+		if (bMonotonic) {
+			if (!IsZero (dblSlope))
+				dblR1 = (dblDRight + dblDLeft) / dblSlope;
+			else if (bPreferShapePreservation)
+				dblR1 = MAXIMUM_RATIONAL_CUBIC_CONTROL;
+		}
+
+		if (bConvex || bConcave) {
+			if (!IsZero (dblSlope - dblDLeft) && !IsZero (dblDRight - dblSlope))
+				dblR2 = java.lang.Math.max (java.lang.Math.abs ((dblDRight - dblDLeft) / (dblDRight -
+					dblSlope)), java.lang.Math.abs ((dblDRight - dblDLeft) / (dblSlope - dblDLeft)));
+			else if (bPreferShapePreservation)
+				dblR2 = MAXIMUM_RATIONAL_CUBIC_CONTROL;
+		} else if (bMonotonic && bPreferShapePreservation)
+			dblR2 = MAXIMUM_RATIONAL_CUBIC_CONTROL;
+
+		return java.lang.Math.max (MINIMUM_RATIONAL_CUBIC_CONTROL, java.lang.Math.max (dblR1, dblR2));
+	}
+
+	/*
+	 * Convex Rational Cubic Control Parameter matching the Second Derivative on the Left (bLeft = TRUE) or
+	 * 	the Right Edge of the Interval
+	 */
+
+	private static final double ConvexRationalCubicControl (
+		final double dblXLeft,
+		final double dblXRight,
+		final double dblYLeft,
+		final double dblYRight,
+		final double dblDLeft,
+		final double dblDRight,
+		final double dblSecondDerivative,
+		final boolean bLeft,
+		final boolean bPreferShapePreservation)
+	{
+		double dblH = dblXRight - dblXLeft;
+		double dblR = 0.;
+		double dblNumerator = 0.5 * dblH * dblSecondDerivative + (dblDRight - dblDLeft);
+
+		if (!IsZero (dblNumerator)) {
+			double dblDenominator = bLeft ? (dblYRight - dblYLeft) / dblH - dblDLeft : dblDRight -
+				(dblYRight - dblYLeft) / dblH;
+
+			if (IsZero (dblDenominator))
+				dblR = dblNumerator > 0. ? MAXIMUM_RATIONAL_CUBIC_CONTROL : MINIMUM_RATIONAL_CUBIC_CONTROL;
+			else
+				dblR = dblNumerator / dblDenominator;
+		}
+
+		return java.lang.Math.max (dblR, MinimumRationalCubicControl (dblDLeft, dblDRight, (dblYRight -
+			dblYLeft) / dblH, bPreferShapePreservation));
+	}
+
+	/*
+	 * The Lower Map f = 2 pi / sqrt (27) * |x| * CDF (-|x| / (sqrt (3) * s))^3 and its first two Derivatives
+	 * 	with respect to the Normalized Price
+	 */
+
+	private static final double[] LowerMap (
+		final double dblX,
+		final double dblS)
+	{
+		double dblAbsX = java.lang.Math.abs (dblX);
+		double dblZ = SQRT_ONE_OVER_THREE * dblAbsX / dblS;
+		double dblY = dblZ * dblZ;
+		double dblS2 = dblS * dblS;
+
+		double dblPhi = org.drip.measure.continuous.GaussianKernel.CDF (-dblZ);
+
+		double dblDensity = org.drip.measure.continuous.GaussianKernel.Density (dblZ);
+
+		double dblPhiSquare = dblPhi * dblPhi;
+
+		return new double[] {
+			TWO_PI_OVER_SQRT_27 * dblAbsX * dblPhiSquare * dblPhi,
+			TWO_PI * dblY * dblPhiSquare * java.lang.Math.exp (dblY + 0.125 * dblS2),
+			PI_OVER_SIX * dblY / (dblS2 * dblS) * dblPhi * (8. * SQRT_THREE * dblS * dblAbsX + (3. * dblS2 *
+				(dblS2 - 8.) - 8. * dblX * dblX) * dblPhi / dblDensity) * java.lang.Math.exp (2. * dblY +
+					0.25 * dblS2)
+		};
+	}
+
+	private static final double InverseLowerMap (
+		final double dblX,
+		final double dblF)
+	{
+		if (0. >= dblF) return 0.;
+
+		return java.lang.Math.abs (dblX / (SQRT_THREE * org.drip.measure.continuous.GaussianKernel.InverseCDF
+			(java.lang.Math.pow (dblF / (TWO_PI_OVER_SQRT_27 * java.lang.Math.abs (dblX)), 1. / 3.))));
+	}
+
+	/*
+	 * The Upper Map f = CDF (-s / 2) and its first two Derivatives with respect to the Normalized Price
+	 */
+
+	private static final double[] UpperMap (
+		final double dblX,
+		final double dblS)
+	{
+		double dblW = dblX * dblX / (dblS * dblS);
+
+		return new double[] {
+			org.drip.measure.continuous.GaussianKernel.CDF (-0.5 * dblS),
+			-0.5 * java.lang.Math.exp (0.5 * dblW),
+			SQRT_PI_OVER_TWO * java.lang.Math.exp (dblW + 0.125 * dblS * dblS) * dblW / dblS
+		};
+	}
+
+	/**
+	 * Compute the Normalized Black Call Price b (x, s) = exp (x/2) CDF (x/s + s/2) - exp (-x/2) CDF (x/s -
+	 * 	s/2)
+	 * 
+	 * @param dblX The Log Moneyness ln (F/K)
+	 * @param dblS The Total Standard Deviation sigma * sqrt (T)
+	 * 
+	 * @return The Normalized Black Call Price
+	 */
+
+	public static final double NormalizedBlackCall (
+		final double dblX,
+		final double dblS)
+	{
+		if (0. < dblX) return 2. * java.lang.Math.sinh (0.5 * dblX) + NormalizedBlackCall (-dblX, dblS);
+
+		if (0. >= dblS) return 0.;
+
+		double dblH = dblX / dblS;
+		double dblT = 0.5 * dblS;
+
+		return java.lang.Math.max (0., java.lang.Math.exp (0.5 * dblX) *
+			org.drip.measure.continuous.GaussianKernel.CDF (dblH + dblT) - java.lang.Math.exp (-0.5 * dblX) *
+				org.drip.measure.continuous.GaussianKernel.CDF (dblH - dblT));
+	}
+
+	/**
+	 * Compute the Normalized Black Vega db (x, s) / ds
+	 * 
+	 * @param dblX The Log Moneyness ln (F/K)
+	 * @param dblS The Total Standard Deviation sigma * sqrt (T)
+	 * 
+	 * @return The Normalized Black Vega
+	 */
+
+	public static final double NormalizedBlackVega (
+		final double dblX,
+		final double dblS)
+	{
+		if (0. >= dblS) return 0. == dblX ? INV_SQRT_TWO_PI : 0.;
+
+		double dblH = dblX / dblS;
+		double dblT = 0.5 * dblS;
+
+		return INV_SQRT_TWO_PI * java.lang.Math.exp (-0.5 * (dblH * dblH + dblT * dblT));
+	}
+
+	/**
+	 * Imply the Total Standard Deviation s = sigma * sqrt (T) from the Normalized Black Price
+	 * 
+	 * @param dblBeta The Normalized Price, i.e., the Undiscounted Price over sqrt (F K)
+	 * @param dblX The Log Moneyness ln (F/K)
+	 * @param bIsPut TRUE => The Price is that of a Put
+	 * @param iMaxRefinement The Maximum Number of Householder Refinement Steps
+	 * 
+	 * @return The Implied Total Standard Deviation (NaN => The Price is outside the No-Arbitrage Range)
+	 */
+
+	public static final double NormalizedBlackStandardDeviation (
+		final double dblBeta,
+		final double dblX,
+		final boolean bIsPut,
+		final int iMaxRefinement)
+	{
+		if (java.lang.Double.isNaN (dblBeta) || java.lang.Double.isNaN (dblX) ||
+			java.lang.Double.isInfinite (dblX) || 0. > dblBeta)
+			return java.lang.Double.NaN;
+
+		double dblTheta = bIsPut ? -1. : 1.;
+		double dblNormalizedPrice = dblBeta;
+		double dblLogMoneyness = dblX;
+
+		if (dblTheta * dblLogMoneyness > 0.) {
+			double dblIntrinsic = 2. * java.lang.Math.abs (java.lang.Math.sinh (0.5 * dblLogMoneyness));
+
+			if (dblNormalizedPrice < dblIntrinsic * (1. - 4. * DBL_EPSILON)) return java.lang.Double.NaN;
+
+			dblNormalizedPrice = java.lang.Math.max (dblNormalizedPrice - dblIntrinsic, 0.);
+			dblTheta = -dblTheta;
+		}
+
+		if (0. > dblTheta) dblLogMoneyness = -dblLogMoneyness;
+
+		double dblBMax = java.lang.Math.exp (0.5 * dblLogMoneyness);
+
+		if (0. >= dblNormalizedPrice) return 0.;
+
+		if (dblNormalizedPrice >= dblBMax) return java.lang.Double.NaN;
+
+		double dblXReduced = dblLogMoneyness;
+		double dblBetaReduced = dblNormalizedPrice;
+
+		double dblSC = java.lang.Math.sqrt (java.lang.Math.abs (2. * dblXReduced));
+
+		double dblBC = NormalizedBlackCall (dblXReduced, dblSC);
+
+		double dblVC = NormalizedBlackVega (dblXReduced, dblSC);
+
+		double dblS = 0.;
+		double dblF = -java.lang.Double.MAX_VALUE;
+		double dblSLeft = java.lang.Double.MIN_NORMAL;
+		double dblSRight = java.lang.Double.MAX_VALUE;
+		int iObjective = 0;
+
+		if (dblBetaReduced < dblBC) {
+			double dblSL = dblSC - dblBC / dblVC;
+
+			double dblBL = NormalizedBlackCall (dblXReduced, dblSL);
+
+			if (dblBetaReduced < dblBL) {
+				double[] adblLowerMap = LowerMap (dblXReduced, dblSL);
+
+				double dblRLL = ConvexRationalCubicControl (0., dblBL, 0., adblLowerMap[0], 1.,
+					adblLowerMap[1], adblLowerMap[2], false, true);
+
+				dblF = RationalCubic (dblBetaReduced, 0., dblBL, 0., adblLowerMap[0], 1., adblLowerMap[1],
+					dblRLL);
+
+				if (!(dblF > 0.)) {
+					double dblT = dblBetaReduced / dblBL;
+					dblF = (adblLowerMap[0] * dblT + dblBL * (1. - dblT)) * dblT;
+				}
+
+				dblS = InverseLowerMap (dblXReduced, dblF);
+
+				dblSRight = dblSL;
+				iObjective = -1;
+			} else {
+				double dblVL = NormalizedBlackVega (dblXReduced, dblSL);
+
+				double dblRLM = ConvexRationalCubicControl (dblBL, dblBC, dblSL, dblSC, 1. / dblVL, 1. /
+					dblVC, 0., false, false);
+
+				dblS = RationalCubic (dblBetaReduced, dblBL, dblBC, dblSL, dblSC, 1. / dblVL, 1. / dblVC,
+					dblRLM);
+
+				dblSLeft = dblSL;
+				dblSRight = dblSC;
+			}
+		} else {
+			double dblSH = dblVC > java.lang.Double.MIN_NORMAL ? dblSC + (dblBMax - dblBC) / dblVC : dblSC;
+
+			double dblBH = NormalizedBlackCall (dblXReduced, dblSH);
+
+			if (dblBetaReduced <= dblBH) {
+				double dblVH = NormalizedBlackVega (dblXReduced, dblSH);
+
+				double dblRHM = ConvexRationalCubicControl (dblBC, dblBH, dblSC, dblSH, 1. / dblVC, 1. /
+					dblVH, 0., true, false);
+
+				dblS = RationalCubic (dblBetaReduced, dblBC, dblBH, dblSC, dblSH, 1. / dblVC, 1. / dblVH,
+					dblRHM);
+
+				dblSLeft = dblSC;
+				dblSRight = dblSH;
+			} else {
+				double[] adblUpperMap = UpperMap (dblXReduced, dblSH);
+
+				if (adblUpperMap[2] > -SQRT_DBL_MAX && adblUpperMap[2] < SQRT_DBL_MAX) {
+					double dblRHH = ConvexRationalCubicControl (dblBH, dblBMax, adblUpperMap[0], 0.,
+						adblUpperMap[1], -0.5, adblUpperMap[2], true, true);
+
+					dblF = RationalCubic (dblBetaReduced, dblBH, dblBMax, adblUpperMap[0], 0.,
+						adblUpperMap[1], -0.5, dblRHH);
+				}
+
+				if (0. >= dblF) {
+					double dblH = dblBMax - dblBH;
+					double dblT = (dblBetaReduced - dblBH) / dblH;
+					dblF = (adblUpperMap[0] * (1. - dblT) + 0.5 * dblH * dblT) * (1. - dblT);
+				}
+
+				dblS = -2. * org.drip.measure.continuous.GaussianKernel.InverseCDF (dblF);
+
+				dblSLeft = dblSH;
+				if (dblBetaReduced > 0.5 * dblBMax) iObjective = 1;
+			}
+		}
+
+		double dblLnBeta = -1 == iObjective ? java.lang.Math.log (dblBetaReduced) : 0.;
+		double dblDS = dblS;
+
+		for (int i = 0; i < iMaxRefinement && java.lang.Math.abs (dblDS) > DBL_EPSILON * dblS; ++i) {
+			if (0 < i && !(dblS > dblSLeft && dblS < dblSRight)) {
+				dblS = 0.5 * (dblSLeft + dblSRight);
+
+				if (dblSRight - dblSLeft <= DBL_EPSILON * dblS) break;
+			}
+
+			double dblB = NormalizedBlackCall (dblXReduced, dblS);
+
+			double dblBP = NormalizedBlackVega (dblXReduced, dblS);
+
+			if (dblB > dblBetaReduced && dblS < dblSRight)
+				dblSRight = dblS;
+			else if (dblB < dblBetaReduced && dblS > dblSLeft)
+				dblSLeft = dblS;
+
+			double dblXOverS = dblXReduced / dblS;
+			double dblBHalley = dblXOverS * dblXOverS / dblS - 0.25 * dblS;
+			double dblBHH3 = dblBHalley * dblBHalley - 3. * dblXOverS * dblXOverS / (dblS * dblS) - 0.25;
+
+			if (-1 == iObjective) {
+				if (0. >= dblB || 0. >= dblBP)
+					dblDS = 0.5 * (dblSLeft + dblSRight) - dblS;
+				else {
+					double dblLnB = java.lang.Math.log (dblB);
+
+					double dblBPOverB = dblBP / dblB;
+					double dblNewton = (dblLnBeta - dblLnB) * dblLnB / dblLnBeta / dblBPOverB;
+					double dblHalley = dblBHalley - dblBPOverB * (1. + 2. / dblLnB);
+					double dblHH3 = dblBHH3 + 2. * dblBPOverB * dblBPOverB * (1. + 3. / dblLnB * (1. + 1. /
+						dblLnB)) - 3. * dblBHalley * dblBPOverB * (1. + 2. / dblLnB);
+
+					dblDS = dblNewton * HouseholderFactor (dblNewton, dblHalley, dblHH3);
+				}
+			} else if (1 == iObjective) {
+				if (dblB >= dblBMax || dblBP <= java.lang.Double.MIN_NORMAL)
+					dblDS = 0.5 * (dblSLeft + dblSRight) - dblS;
+				else {
+					double dblBMaxMinusB = dblBMax - dblB;
+
+					double dblG = java.lang.Math.log ((dblBMax - dblBetaReduced) / dblBMaxMinusB);
+
+					double dblGP = dblBP / dblBMaxMinusB;
+					double dblNewton = -dblG / dblGP;
+
+					dblDS = dblNewton * HouseholderFactor (dblNewton, dblBHalley + dblGP, dblBHH3 + dblGP *
+						(2. * dblGP + 3. * dblBHalley));
+				}
+			} else {
+				double dblNewton = (dblBetaReduced - dblB) / dblBP;
+
+				dblDS = dblNewton * HouseholderFactor (dblNewton, dblBHalley, dblBHH3);
+			}
+
+			dblS += (dblDS = java.lang.Math.max (-0.5 * dblS, dblDS));
+		}
+
+		return dblS;
+	}
+
+	/**
+	 * Imply the Black Volatility from the Undiscounted Option Price
+	 * 
+	 * @param dblForward The Forward
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblUndiscountedPrice The Undiscounted Option Price
+	 * @param bIsPut TRUE => The Option is a Put
+	 * 
+	 * @return The Implied Black Volatility (NaN => Invalid Inputs, or the Price is outside the No-Arbitrage
+	 * 	Range)
+	 */
+
+	public static final double Black (
+		final double dblForward,
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblUndiscountedPrice,
+		final boolean bIsPut)
+	{
+		if (!(0. < dblForward) || !(0. < dblStrike) || !(0. < dblTimeToExpiry) ||
+			java.lang.Double.isInfinite (dblForward) || java.lang.Double.isInfinite (dblStrike) ||
+				java.lang.Double.isInfinite (dblTimeToExpiry))
+			return java.lang.Double.NaN;
+
+		return NormalizedBlackStandardDeviation (dblUndiscountedPrice / java.lang.Math.sqrt (dblForward *
+			dblStrike), java.lang.Math.log (dblForward / dblStrike), bIsPut, MAX_REFINEMENT) /
+				java.lang.Math.sqrt (dblTimeToExpiry);
+	}
+
+	/**
+	 * Compute the Normalized Bachelier Function x CDF (x) + Density (x)
+	 * 
+	 * @param dblX The Normalized Moneyness (F - K) / (sigma * sqrt (T))
+	 * 
+	 * @return The Normalized Bachelier Price
+	 */
+
+	public static final double NormalizedBachelier (
+		final double dblX)
+	{
+		return dblX * org.drip.measure.continuous.GaussianKernel.CDF (dblX) +
+			org.drip.measure.continuous.GaussianKernel.Density (dblX);
+	}
+
+	/*
+	 * Inverse of phi~ (x) = CDF (x) + Density (x) / x over x < 0, for phi~ < 0
+	 */
+
+	private static final double InversePhiTilde (
+		final double dblPhiTildeStar)
+	{
+		double dblXBar = 0.;
+
+		if (dblPhiTildeStar < -0.001882039271) {
+			double dblG = 1. / (dblPhiTildeStar - 0.5);
+			double dblG2 = dblG * dblG;
+
+			double dblXiBar = (0.032114372355 - dblG2 * (0.016969777977 - dblG2 * (2.6207332461e-3 -
+				9.6066952861e-5 * dblG2))) / (1. - dblG2 * (0.6635646938 - dblG2 * (0.14528712196 -
+					0.010472855461 * dblG2)));
+
+			dblXBar = dblG * (INV_SQRT_TWO_PI + dblXiBar * dblG2);
+		} else {
+			double dblH = java.lang.Math.sqrt (-java.lang.Math.log (-dblPhiTildeStar));
+
+			dblXBar = (9.4883409779 - dblH * (9.6320903635 - dblH * (0.58556997323 + 2.1464093351 * dblH))) /
+				(1. - dblH * (0.65174820867 + dblH * (1.5120247828 + 6.6437847132e-5 * dblH)));
+		}
+
+		double dblQ = (org.drip.measure.continuous.GaussianKernel.CDF (dblXBar) +
+			org.drip.measure.continuous.GaussianKernel.Density (dblXBar) / dblXBar - dblPhiTildeStar) /
+				org.drip.measure.continuous.GaussianKernel.Density (dblXBar);
+
+		double dblX2 = dblXBar * dblXBar;
+
+		return dblXBar + 3. * dblQ * dblX2 * (2. - dblQ * dblXBar * (2. + dblX2)) / (6. + dblQ * dblXBar *
+			(-12. + dblXBar * (6. * dblQ + dblXBar * (-6. + dblQ * dblXBar * (3. + dblX2)))));
+	}
+
+	/**
+	 * Imply the Bachelier (Absolute Normal) Volatility from the Undiscounted Option Price
+	 * 
+	 * @param dblForward The Forward
+	 * @param dblStrike The Strike
+	 * @param dblTimeToExpiry The Time to Expiry
+	 * @param dblUndiscountedPrice The Undiscounted Option Price
+	 * @param bIsPut TRUE => The Option is a Put
+	 * 
+	 * @return The Implied Bachelier Volatility (NaN => Invalid Inputs, or the Price is outside the
+	 * 	No-Arbitrage Range)
+	 */
+
+	public static final double Bachelier (
+		final double dblForward,
+		final double dblStrike,
+		final double dblTimeToExpiry,
+		final double dblUndiscountedPrice,
+		final boolean bIsPut)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblForward) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblStrike) ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblUndiscountedPrice) || !(0. < dblTimeToExpiry)
+					|| java.lang.Double.isInfinite (dblTimeToExpiry))
+			return java.lang.Double.NaN;
+
+		double dblSQRTT = java.lang.Math.sqrt (dblTimeToExpiry);
+
+		if (dblForward == dblStrike)
+			return 0. > dblUndiscountedPrice ? java.lang.Double.NaN : dblUndiscountedPrice * SQRT_TWO_PI /
+				dblSQRTT;
+
+		double dblAbsoluteMoneyness = java.lang.Math.abs (dblForward - dblStrike);
+		double dblIntrinsic = java.lang.Math.max ((bIsPut ? -1. : 1.) * (dblForward - dblStrike), 0.);
+
+		if (dblUndiscountedPrice < dblIntrinsic * (1. - 4. * DBL_EPSILON)) return java.lang.Double.NaN;
+
+		if (dblUndiscountedPrice <= dblIntrinsic) return 0.;
+
+		return dblAbsoluteMoneyness / java.lang.Math.abs (InversePhiTilde ((dblIntrinsic -
+			dblUndiscountedPrice) / dblAbsoluteMoneyness) * dblSQRTT);
+	}
+}
@@ -148,6 +148,34 @@ public class CDSBasketBuilder {
 		return null;
 	}
 
+	/**
+	 * Create the CDX from the Pre-loaded Reference Data of the specified CDX Code. The Reference Data is
+	 * 	resolved on Demand from the CDXRefDataStore.
+	 * 
+	 * @param strCDXCode The CDX Code
+	 * 
+	 * @return BasketDefaultSwap
+	 */
+
+	public static final org.drip.product.definition.BasketProduct MakeCDX (
+		final String strCDXCode)
+	{
+		org.drip.product.params.CDXRefDataParams cdxrd =
+			org.drip.product.creator.CDXRefDataStore.RefData (strCDXCode);
+
+		if (null == cdxrd) return null;
+
+		String[] astrCC = new String[cdxrd._iOriginalComponentCount];
+
+		for (int i = 0; i < cdxrd._iOriginalComponentCount; ++i)
+			astrCC[i] = "CC" + (i + 1);
+
+		return MakeCDX (cdxrd._dtMaturity.subtractTenor (cdxrd._iIndexLifeSpan + "Y"), cdxrd._dtMaturity,
+			cdxrd._dblCoupon, cdxrd._strCurrency, astrCC, cdxrd._strIndexClass + "." +
+				cdxrd._strIndexGroupName + "." + cdxrd._iIndexLifeSpan + "Y." + cdxrd._iIndexSeries + "." +
+					cdxrd._iIndexVersion);
+	}
+
 	/**
 	 * Create the basket default swap from an array of the credit components.
 	 * 
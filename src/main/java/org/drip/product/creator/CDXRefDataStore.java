@@ -0,0 +1,663 @@
+
+package org.drip.product.creator;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CDXRefDataStore serves the Pre-loaded CDX Reference Data from a Compact, Sorted Binary File instead of
+ * 	the eagerly initialized CDXRefDataHolder Maps. The File is generated at Build Time from
+ * 	CDXRefDataHolder, and holds:
+ * 	- Header: Magic, Version, Record Count, Index Count
+ * 	- Record Index: The Lower-cased CDX Codes in Sorted Order, with their Record Offsets
+ * 	- Series Index: For each Index Class/Group, the First Coupon Date/Series Pairs
+ * 	- Records: The Fields of each CDXRefDataParams
+ * 
+ * Only the Record and the Series Indices are decoded at Initialization - the Records are decoded on Demand
+ * 	and retained in a Bounded LRU Cache. If the Binary File is not available, the Store falls back to the
+ * 	CDXRefDataHolder Maps.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CDXRefDataStore {
+
+	/**
+	 * Name of the Binary Reference Data Resource, relative to this Package
+	 */
+
+	public static final String RESOURCE = "cdxrefdata.bin";
+
+	/**
+	 * Default Number of Materialized CDX Reference Data Entries retained
+	 */
+
+	public static final int DEFAULT_CACHE_SIZE = 512;
+
+	private static final int STORE_MAGIC = 0x43445852;
+	private static final int STORE_VERSION = 1;
+
+	private static boolean s_bInitialized = false;
+	private static boolean s_bFromHolder = false;
+	private static int[] s_aiRecordOffset = null;
+	private static String[] s_astrCDXCode = null;
+	private static java.nio.ByteBuffer s_bb = null;
+	private static int s_iCacheSize = DEFAULT_CACHE_SIZE;
+
+	private static
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<org.drip.analytics.date.JulianDate,
+			java.lang.Integer>> s_mmFirstCouponSeries = null;
+
+	private static org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<java.lang.Integer,
+		org.drip.analytics.date.JulianDate>> s_mmSeriesFirstCoupon = null;
+
+	private static java.util.LinkedHashMap<String, org.drip.product.params.CDXRefDataParams> s_mapCache =
+		new java.util.LinkedHashMap<String, org.drip.product.params.CDXRefDataParams> (16, 0.75f, true);
+
+	private static final void PutString (
+		final java.io.DataOutputStream dos,
+		final String str)
+		throws java.lang.Exception
+	{
+		if (null == str) {
+			dos.writeInt (-1);
+
+			return;
+		}
+
+		byte[] abString = str.getBytes ("UTF-8");
+
+		dos.writeInt (abString.length);
+
+		dos.write (abString);
+	}
+
+	private static final String GetString (
+		final java.nio.ByteBuffer bb)
+		throws java.lang.Exception
+	{
+		int iLength = bb.getInt();
+
+		if (-1 == iLength) return null;
+
+		byte[] abString = new byte[iLength];
+
+		bb.get (abString);
+
+		return new String (abString, "UTF-8");
+	}
+
+	private static final byte[] RecordBlock (
+		final org.drip.product.params.CDXRefDataParams cdxrd)
+		throws java.lang.Exception
+	{
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+		java.io.DataOutputStream dos = new java.io.DataOutputStream (baos);
+
+		PutString (dos, cdxrd._strCurveID);
+
+		PutString (dos, cdxrd._strSPN);
+
+		PutString (dos, cdxrd._strIndexLabel);
+
+		PutString (dos, cdxrd._strIndexName);
+
+		PutString (dos, cdxrd._strCurveName);
+
+		dos.writeDouble (cdxrd._dtIssue.julian());
+
+		dos.writeDouble (cdxrd._dtMaturity.julian());
+
+		dos.writeDouble (cdxrd._dblCoupon);
+
+		PutString (dos, cdxrd._strCurrency);
+
+		PutString (dos, cdxrd._strDayCount);
+
+		dos.writeBoolean (cdxrd._bFullFirstStub);
+
+		dos.writeDouble (cdxrd._dblRecovery);
+
+		dos.writeInt (cdxrd._iFrequency);
+
+		PutString (dos, cdxrd._strRedID);
+
+		PutString (dos, cdxrd._strIndexClass);
+
+		dos.writeInt (cdxrd._iIndexSeries);
+
+		PutString (dos, cdxrd._strIndexGroupName);
+
+		PutString (dos, cdxrd._strIndexShortName);
+
+		PutString (dos, cdxrd._strIndexShortGroupName);
+
+		dos.writeInt (cdxrd._iIndexVersion);
+
+		dos.writeInt (cdxrd._iIndexLifeSpan);
+
+		PutString (dos, cdxrd._strCurvyCurveID);
+
+		dos.writeDouble (cdxrd._dblIndexFactor);
+
+		dos.writeInt (cdxrd._iOriginalComponentCount);
+
+		dos.writeInt (cdxrd._iDefaultedComponentCount);
+
+		PutString (dos, cdxrd._strLocation);
+
+		dos.writeBoolean (cdxrd._bPayAccrued);
+
+		dos.writeBoolean (cdxrd._bKnockOutOnDefault);
+
+		dos.writeBoolean (cdxrd._bQuoteAsCDS);
+
+		PutString (dos, cdxrd._strBBGTicker);
+
+		PutString (dos, cdxrd._strShortName);
+
+		dos.flush();
+
+		return baos.toByteArray();
+	}
+
+	private static final org.drip.product.params.CDXRefDataParams DecodeRecord (
+		final int iOffset)
+	{
+		java.nio.ByteBuffer bb = s_bb.duplicate();
+
+		bb.position (iOffset);
+
+		try {
+			return org.drip.product.params.CDXRefDataParams.CreateCDXRefDataBuilder (GetString (bb),
+				GetString (bb), GetString (bb), GetString (bb), GetString (bb), bb.getDouble(),
+					bb.getDouble(), bb.getDouble(), GetString (bb), GetString (bb), 0 != bb.get(),
+						bb.getDouble(), bb.getInt(), GetString (bb), GetString (bb), bb.getInt(), GetString
+							(bb), GetString (bb), GetString (bb), bb.getInt(), bb.getInt(), GetString (bb),
+								bb.getDouble(), bb.getInt(), bb.getInt(), GetString (bb), 0 != bb.get(), 0 !=
+									bb.get(), 0 != bb.get(), GetString (bb), GetString (bb));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private static final boolean Load (
+		final java.nio.ByteBuffer bb)
+	{
+		if (null == bb) return false;
+
+		java.nio.ByteBuffer bbIndex = bb.duplicate();
+
+		try {
+			if (STORE_MAGIC != bbIndex.getInt() || STORE_VERSION != bbIndex.getInt()) return false;
+
+			int iNumRecord = bbIndex.getInt();
+
+			int iNumIndex = bbIndex.getInt();
+
+			String[] astrCDXCode = new String[iNumRecord];
+			int[] aiRecordOffset = new int[iNumRecord];
+
+			for (int i = 0; i < iNumRecord; ++i) {
+				astrCDXCode[i] = GetString (bbIndex);
+
+				aiRecordOffset[i] = bbIndex.getInt();
+			}
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<org.drip.analytics.date.JulianDate,
+				java.lang.Integer>> mmFirstCouponSeries = new
+					org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<org.drip.analytics.date.JulianDate,
+						java.lang.Integer>>();
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<java.lang.Integer,
+				org.drip.analytics.date.JulianDate>> mmSeriesFirstCoupon = new
+					org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<java.lang.Integer,
+						org.drip.analytics.date.JulianDate>>();
+
+			for (int i = 0; i < iNumIndex; ++i) {
+				String strIndex = GetString (bbIndex);
+
+				int iNumFirstCouponSeries = bbIndex.getInt();
+
+				java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries =
+					new java.util.TreeMap<org.drip.analytics.date.JulianDate, java.lang.Integer>();
+
+				for (int j = 0; j < iNumFirstCouponSeries; ++j)
+					mapFirstCouponSeries.put (new org.drip.analytics.date.JulianDate (bbIndex.getDouble()),
+						bbIndex.getInt());
+
+				int iNumSeriesFirstCoupon = bbIndex.getInt();
+
+				java.util.Map<java.lang.Integer, org.drip.analytics.date.JulianDate> mapSeriesFirstCoupon =
+					new java.util.TreeMap<java.lang.Integer, org.drip.analytics.date.JulianDate>();
+
+				for (int j = 0; j < iNumSeriesFirstCoupon; ++j)
+					mapSeriesFirstCoupon.put (bbIndex.getInt(), new org.drip.analytics.date.JulianDate
+						(bbIndex.getDouble()));
+
+				mmFirstCouponSeries.put (strIndex, mapFirstCouponSeries);
+
+				mmSeriesFirstCoupon.put (strIndex, mapSeriesFirstCoupon);
+			}
+
+			s_bb = bb;
+			s_bFromHolder = false;
+			s_astrCDXCode = astrCDXCode;
+			s_aiRecordOffset = aiRecordOffset;
+			s_mmFirstCouponSeries = mmFirstCouponSeries;
+			s_mmSeriesFirstCoupon = mmSeriesFirstCoupon;
+
+			s_mapCache.clear();
+
+			return s_bInitialized = true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
+	private static final java.nio.ByteBuffer ReadResource()
+	{
+		java.io.InputStream is = CDXRefDataStore.class.getResourceAsStream (RESOURCE);
+
+		if (null == is) return null;
+
+		try {
+			java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+			byte[] abChunk = new byte[65536];
+			int iNumRead = 0;
+
+			while (-1 != (iNumRead = is.read (abChunk)))
+				baos.write (abChunk, 0, iNumRead);
+
+			return java.nio.ByteBuffer.wrap (baos.toByteArray());
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				is.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return null;
+	}
+
+	private static final boolean InitFromHolder()
+	{
+		if (!CDXRefDataHolder.InitFullCDXRefDataSet()) return false;
+
+		s_bb = null;
+		s_bFromHolder = true;
+		s_astrCDXCode = null;
+		s_aiRecordOffset = null;
+		s_mmFirstCouponSeries = CDXRefDataHolder._mmCDXRDBFirstCouponSeries;
+		s_mmSeriesFirstCoupon = CDXRefDataHolder._mmCDXRDBSeriesFirstCoupon;
+
+		s_mapCache.clear();
+
+		return s_bInitialized = true;
+	}
+
+	/**
+	 * Initialize the Store from the Bundled Binary Resource, falling back to the CDXRefDataHolder Maps if
+	 * 	the Resource is not available
+	 * 
+	 * @return TRUE => The Store is successfully initialized
+	 */
+
+	public static final synchronized boolean Init()
+	{
+		if (s_bInitialized) return true;
+
+		return Load (ReadResource()) || InitFromHolder();
+	}
+
+	/**
+	 * Initialize the Store by Memory Mapping the specified Binary Reference Data File
+	 * 
+	 * @param strFile The Binary Reference Data File
+	 * 
+	 * @return TRUE => The Store is successfully initialized
+	 */
+
+	public static final synchronized boolean Init (
+		final String strFile)
+	{
+		if (null == strFile || strFile.isEmpty()) return false;
+
+		java.io.RandomAccessFile raf = null;
+
+		try {
+			raf = new java.io.RandomAccessFile (strFile, "r");
+
+			java.nio.channels.FileChannel fc = raf.getChannel();
+
+			return Load (fc.map (java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, fc.size()));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				if (null != raf) raf.close();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Set the Maximum Number of Materialized Entries retained in the Cache
+	 * 
+	 * @param iCacheSize The Cache Size
+	 * 
+	 * @return TRUE => The Cache Size is successfully set
+	 */
+
+	public static final synchronized boolean SetCacheSize (
+		final int iCacheSize)
+	{
+		if (0 >= iCacheSize) return false;
+
+		s_iCacheSize = iCacheSize;
+
+		java.util.Iterator<String> iter = s_mapCache.keySet().iterator();
+
+		while (s_mapCache.size() > s_iCacheSize && iter.hasNext()) {
+			iter.next();
+
+			iter.remove();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Retrieve the Reference Data for the specified CDX Code
+	 * 
+	 * @param strCDXCode The CDX Code
+	 * 
+	 * @return The CDX Reference Data; null if the Code is not available
+	 */
+
+	public static final synchronized org.drip.product.params.CDXRefDataParams RefData (
+		final String strCDXCode)
+	{
+		if (null == strCDXCode || strCDXCode.isEmpty() || !Init()) return null;
+
+		if (s_bFromHolder) return CDXRefDataHolder._mapCDXRefData.get (strCDXCode);
+
+		String strCDXCodeKey = strCDXCode.toLowerCase();
+
+		org.drip.product.params.CDXRefDataParams cdxrd = s_mapCache.get (strCDXCodeKey);
+
+		if (null != cdxrd) return cdxrd;
+
+		int iRecord = java.util.Arrays.binarySearch (s_astrCDXCode, strCDXCodeKey);
+
+		if (0 > iRecord || null == (cdxrd = DecodeRecord (s_aiRecordOffset[iRecord]))) return null;
+
+		s_mapCache.put (strCDXCodeKey, cdxrd);
+
+		if (s_mapCache.size() > s_iCacheSize) {
+			java.util.Iterator<String> iter = s_mapCache.keySet().iterator();
+
+			iter.next();
+
+			iter.remove();
+		}
+
+		return cdxrd;
+	}
+
+	/**
+	 * Retrieve the Reference Data for the specified Index, Series, Tenor, and Version
+	 * 
+	 * @param strIndex The Index Class/Group (e.g., DJCDX.NA IG)
+	 * @param iSeries The Index Series
+	 * @param strTenor The Tenor
+	 * @param iVersion The Index Version
+	 * 
+	 * @return The CDX Reference Data; null if not available
+	 */
+
+	public static final org.drip.product.params.CDXRefDataParams RefData (
+		final String strIndex,
+		final int iSeries,
+		final String strTenor,
+		final int iVersion)
+	{
+		return RefData (strIndex + "." + strTenor + "." + iSeries + "." + iVersion);
+	}
+
+	/**
+	 * Retrieve the Full Set of the CDX Codes in the Store
+	 * 
+	 * @return Set of the CDX Codes
+	 */
+
+	public static final synchronized java.util.Set<String> CDXCodes()
+	{
+		if (!Init()) return null;
+
+		if (s_bFromHolder) return CDXRefDataHolder._mapCDXRefData.keySet();
+
+		return new java.util.TreeSet<String> (java.util.Arrays.asList (s_astrCDXCode));
+	}
+
+	/**
+	 * Retrieve the Set of the Index Class/Group Names in the Store
+	 * 
+	 * @return Set of the Index Names
+	 */
+
+	public static final synchronized java.util.Set<String> IndexNames()
+	{
+		return Init() ? s_mmFirstCouponSeries.keySet() : null;
+	}
+
+	/**
+	 * Retrieve the First Coupon Date/Series Map for the Index Class/Group
+	 * 
+	 * @param strIndex The Index Class/Group
+	 * 
+	 * @return The First Coupon Date/Series Map
+	 */
+
+	public static final synchronized java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer>
+		FirstCouponSeries (
+			final String strIndex)
+	{
+		if (null == strIndex || strIndex.isEmpty() || !Init()) return null;
+
+		return s_mmFirstCouponSeries.get (strIndex);
+	}
+
+	/**
+	 * Retrieve the Series/First Coupon Date Map for the Index Class/Group
+	 * 
+	 * @param strIndex The Index Class/Group
+	 * 
+	 * @return The Series/First Coupon Date Map
+	 */
+
+	public static final synchronized java.util.Map<java.lang.Integer, org.drip.analytics.date.JulianDate>
+		SeriesFirstCoupon (
+			final String strIndex)
+	{
+		if (null == strIndex || strIndex.isEmpty() || !Init()) return null;
+
+		return s_mmSeriesFirstCoupon.get (strIndex);
+	}
+
+	private static final byte[] IndexBlock (
+		final java.util.Map<String, byte[]> mapRecordBlock,
+		final int iRecordStart)
+		throws java.lang.Exception
+	{
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+		java.io.DataOutputStream dos = new java.io.DataOutputStream (baos);
+
+		int iOffset = iRecordStart;
+
+		for (java.util.Map.Entry<String, byte[]> me : mapRecordBlock.entrySet()) {
+			PutString (dos, me.getKey());
+
+			dos.writeInt (iOffset);
+
+			iOffset += me.getValue().length;
+		}
+
+		for (String strIndex : CDXRefDataHolder._mmCDXRDBFirstCouponSeries.keySet()) {
+			PutString (dos, strIndex);
+
+			java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries =
+				CDXRefDataHolder._mmCDXRDBFirstCouponSeries.get (strIndex);
+
+			dos.writeInt (mapFirstCouponSeries.size());
+
+			for (java.util.Map.Entry<org.drip.analytics.date.JulianDate, java.lang.Integer> me :
+				mapFirstCouponSeries.entrySet()) {
+				dos.writeDouble (me.getKey().julian());
+
+				dos.writeInt (me.getValue());
+			}
+
+			java.util.Map<java.lang.Integer, org.drip.analytics.date.JulianDate> mapSeriesFirstCoupon =
+				CDXRefDataHolder._mmCDXRDBSeriesFirstCoupon.get (strIndex);
+
+			if (null == mapSeriesFirstCoupon) {
+				dos.writeInt (0);
+
+				continue;
+			}
+
+			dos.writeInt (mapSeriesFirstCoupon.size());
+
+			for (java.util.Map.Entry<java.lang.Integer, org.drip.analytics.date.JulianDate> me :
+				mapSeriesFirstCoupon.entrySet()) {
+				dos.writeInt (me.getKey());
+
+				dos.writeDouble (me.getValue().julian());
+			}
+		}
+
+		dos.flush();
+
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Write the CDXRefDataHolder Contents in the Binary Reference Data Layout
+	 * 
+	 * @param os The Output Stream
+	 * 
+	 * @return Number of Records written; -1 on Failure
+	 */
+
+	public static final int Write (
+		final java.io.OutputStream os)
+	{
+		if (null == os || !CDXRefDataHolder.InitFullCDXRefDataSet()) return -1;
+
+		try {
+			java.util.Map<String, byte[]> mapRecordBlock = new java.util.TreeMap<String, byte[]>();
+
+			for (java.util.Map.Entry<String, org.drip.product.params.CDXRefDataParams> me :
+				CDXRefDataHolder._mapCDXRefData.entrySet())
+				mapRecordBlock.put (me.getKey().toLowerCase(), RecordBlock (me.getValue()));
+
+			byte[] abIndexBlock = IndexBlock (mapRecordBlock, 16 + IndexBlock (mapRecordBlock, 0).length);
+
+			java.io.DataOutputStream dos = new java.io.DataOutputStream (new java.io.BufferedOutputStream
+				(os));
+
+			dos.writeInt (STORE_MAGIC);
+
+			dos.writeInt (STORE_VERSION);
+
+			dos.writeInt (mapRecordBlock.size());
+
+			dos.writeInt (CDXRefDataHolder._mmCDXRDBFirstCouponSeries.size());
+
+			dos.write (abIndexBlock);
+
+			for (byte[] abRecordBlock : mapRecordBlock.values())
+				dos.write (abRecordBlock);
+
+			dos.flush();
+
+			return mapRecordBlock.size();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Generate the Binary Reference Data File from CDXRefDataHolder
+	 * 
+	 * @param astrArgs The Binary Reference Data File Path
+	 * 
+	 * @throws java.lang.Exception Thrown if the File cannot be generated
+	 */
+
+	public static final void main (
+		final String[] astrArgs)
+		throws java.lang.Exception
+	{
+		if (null == astrArgs || 1 != astrArgs.length)
+			throw new java.lang.Exception ("CDXRefDataStore::main => Usage: CDXRefDataStore <Data File>");
+
+		java.io.File fStore = new java.io.File (astrArgs[0]);
+
+		if (null != fStore.getParentFile()) fStore.getParentFile().mkdirs();
+
+		java.io.OutputStream os = new java.io.FileOutputStream (fStore);
+
+		try {
+			int iNumRecord = Write (os);
+
+			if (0 > iNumRecord)
+				throw new java.lang.Exception ("CDXRefDataStore::main => Cannot write " + astrArgs[0]);
+
+			System.out.println ("CDXRefDataStore::main => " + iNumRecord + " Records written to " +
+				astrArgs[0]);
+		} finally {
+			os.close();
+		}
+	}
+}
@@ -252,15 +252,12 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
-	@Override public org.drip.param.valuation.WorkoutInfo exerciseYieldFromPrice (
+	private org.drip.param.valuation.WorkoutInfo solveExerciseYieldFromPrice (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp,
 		final double dblPrice)
 	{
-		if (null == valParams || null == csqs || !org.drip.quant.common.NumberUtil.IsValid (dblPrice))
-			return null;
-
 		double dblMaturity = maturityDate().julian();
 
 		try {
@@ -291,6 +288,29 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
+	@Override public org.drip.param.valuation.WorkoutInfo exerciseYieldFromPrice (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final double dblPrice)
+	{
+		if (null == valParams || null == csqs || !org.drip.quant.common.NumberUtil.IsValid (dblPrice))
+			return null;
+
+		org.drip.product.credit.BondValuationContext bvc =
+			org.drip.product.credit.BondValuationContext.Current (this, valParams, csqs, vcp);
+
+		if (null == bvc) return solveExerciseYieldFromPrice (valParams, csqs, vcp, dblPrice);
+
+		org.drip.param.valuation.WorkoutInfo wi = bvc.exerciseWorkout (dblPrice);
+
+		if (null != wi) return wi;
+
+		bvc.addExerciseWorkout (dblPrice, wi = solveExerciseYieldFromPrice (valParams, csqs, vcp, dblPrice));
+
+		return wi;
+	}
+
 	private double indexRate (
 		final double dblValueDate,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -375,6 +395,11 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		double dblCreditRiskyParPV = java.lang.Double.NaN;
 		double dblCreditRisklessParPV = java.lang.Double.NaN;
 
+		double[] adblLossLeg = null != cc && null != pricerParams &&
+			org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC ==
+				pricerParams.discretizationScheme() ? new
+					double[org.drip.analytics.support.LossLegIntegrator.NUM_ACCUMULATOR] : null;
+
 		try {
 			for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
 				double dblPeriodPayDate = period.payDate();
@@ -428,33 +453,52 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 					dblPeriodCreditRiskyDirtyDV01 *= dblSurvProb;
 					dblPeriodCreditRiskyPrincipalPV *= dblSurvProb;
 
-					for (org.drip.analytics.cashflow.LossQuadratureMetrics lqm : period.lossMetrics (this,
-						valParams, pricerParams, dblWorkoutDate, csqs)) {
-						if (null == lqm) continue;
+					if (null != adblLossLeg) {
+						java.util.Arrays.fill (adblLossLeg, 0.);
+
+						if (!org.drip.analytics.support.LossLegIntegrator.Accumulate (this, valParams, period,
+							dblWorkoutDate, pricerParams.unitSize(), dcFunding, cc, adblLossLeg))
+							return null;
 
-						double dblSubPeriodEnd = lqm.end();
+						if (_creditSetting.accrualOnDefault())
+							dblPeriodCreditRiskyDirtyDV01 += 0.0001 * adblLossLeg
+								[org.drip.analytics.support.LossLegIntegrator.ACCRUAL_ON_DEFAULT_PV];
 
-						double dblSubPeriodStart = lqm.start();
+						dblRecoveryPV +=
+							adblLossLeg[org.drip.analytics.support.LossLegIntegrator.LOSS_NO_REC_PV] -
+								adblLossLeg[org.drip.analytics.support.LossLegIntegrator.LOSS_PV];
+						dblExpectedRecovery +=
+							adblLossLeg[org.drip.analytics.support.LossLegIntegrator.EXPECTED_LOSS_NO_REC] -
+								adblLossLeg[org.drip.analytics.support.LossLegIntegrator.EXPECTED_LOSS];
+					} else {
+						for (org.drip.analytics.cashflow.LossQuadratureMetrics lqm : period.lossMetrics (this,
+							valParams, pricerParams, dblWorkoutDate, csqs)) {
+							if (null == lqm) continue;
 
-						double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart +
-							_creditSetting.lossPayLag(), dblSubPeriodEnd + _creditSetting.lossPayLag());
+							double dblSubPeriodEnd = lqm.end();
 
-						double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
+							double dblSubPeriodStart = lqm.start();
 
-						double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival
-							(dblSubPeriodEnd);
+							double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart +
+								_creditSetting.lossPayLag(), dblSubPeriodEnd + _creditSetting.lossPayLag());
 
-						if (_creditSetting.accrualOnDefault())
-							dblPeriodCreditRiskyDirtyDV01 += 0.0001 * lqm.accrualDCF() * dblSubPeriodSurvival
-								* dblSubPeriodDF * dblSubPeriodNotional;
+							double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
 
-						double dblRecovery = _creditSetting.useCurveRecovery() ? cc.effectiveRecovery
-							(dblSubPeriodStart, dblSubPeriodEnd) : _creditSetting.recovery();
+							double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival
+								(dblSubPeriodEnd);
 
-						double dblSubPeriodExpRecovery = dblRecovery * dblSubPeriodSurvival *
-							dblSubPeriodNotional;
-						dblRecoveryPV += dblSubPeriodExpRecovery * dblSubPeriodDF;
-						dblExpectedRecovery += dblSubPeriodExpRecovery;
+							if (_creditSetting.accrualOnDefault())
+								dblPeriodCreditRiskyDirtyDV01 += 0.0001 * lqm.accrualDCF() *
+									dblSubPeriodSurvival * dblSubPeriodDF * dblSubPeriodNotional;
+
+							double dblRecovery = _creditSetting.useCurveRecovery() ? cc.effectiveRecovery
+								(dblSubPeriodStart, dblSubPeriodEnd) : _creditSetting.recovery();
+
+							double dblSubPeriodExpRecovery = dblRecovery * dblSubPeriodSurvival *
+								dblSubPeriodNotional;
+							dblRecoveryPV += dblSubPeriodExpRecovery * dblSubPeriodDF;
+							dblExpectedRecovery += dblSubPeriodExpRecovery;
+						}
 					}
 				}
 
@@ -535,7 +579,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> rvMeasures (
+	private boolean rvMeasures (
+		final org.drip.analytics.support.MeasureVector mv,
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -544,19 +589,20 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		final double dblPrice,
 		final String strPrefix)
 	{
-		if (null == strPrefix) return null;
+		if (null == mv || null == strPrefix) return false;
 
 		org.drip.analytics.output.BondRVMeasures bmRV = standardMeasures (valParams, pricerParams, csqs, vcp,
 			wi, dblPrice);
 
-		return null == bmRV ? null : bmRV.toMap (strPrefix);
+		return null != bmRV && bmRV.setMeasures (mv, strPrefix);
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> fairMeasures (
+	private org.drip.analytics.support.MeasureVector fairMeasures (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<String> setstrMeasureName)
 	{
 		double dblMaturity = maturityDate().julian();
 
@@ -565,22 +611,36 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 
 		if (null == bwmFair) return null;
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = bwmFair.toMap ("");
+		org.drip.analytics.support.MeasureVector mvMeasures = new org.drip.analytics.support.MeasureVector();
+
+		if (!bwmFair.setMeasures (mvMeasures, "")) return null;
+
+		boolean bRelativeValue = null == setstrMeasureName;
+
+		if (!bRelativeValue) {
+			for (String strMeasure : setstrMeasureName) {
+				String strFairMeasure = UnprefixedMeasureName (strMeasure, "Fair");
+
+				if (!mvMeasures.contains (null == strFairMeasure ? strMeasure : strFairMeasure)) {
+					bRelativeValue = true;
+					break;
+				}
+			}
+		}
+
+		if (!bRelativeValue) return mvMeasures.addPrefixed ("Fair") ? mvMeasures : null;
 
 		double dblPrice = (null == bwmFair.creditRiskyCleanbcm() || !org.drip.quant.common.NumberUtil.IsValid
 			(bwmFair.creditRiskyCleanbcm().pv())) ? bwmFair.creditRisklessCleanbcm().pv() :
 				bwmFair.creditRiskyCleanbcm().pv();
 
 		try {
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, rvMeasures (valParams,
-				pricerParams, csqs, vcp, new org.drip.param.valuation.WorkoutInfo (dblMaturity,
-					yieldFromPrice (valParams, csqs, vcp, dblPrice / notional (valParams.valueDate())), 1.,
-						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY), dblPrice, ""));
+			rvMeasures (mvMeasures, valParams, pricerParams, csqs, vcp, new
+				org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromPrice (valParams, csqs, vcp,
+					dblPrice / notional (valParams.valueDate())), 1.,
+						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY), dblPrice, "");
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures,
-				org.drip.quant.common.CollectionUtil.PrefixKeys (mapMeasures, "Fair"));
-
-			return mapMeasures;
+			return mvMeasures.addPrefixed ("Fair") ? mvMeasures : null;
 		} catch (java.lang.Exception e) {
 			if (!s_bSuppressErrors) e.printStackTrace();
 		}
@@ -588,7 +648,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> marketMeasures (
+	private org.drip.analytics.support.MeasureVector marketMeasures (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -596,14 +656,12 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		final org.drip.param.valuation.WorkoutInfo wiMarket)
 	{
 		try {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = rvMeasures
-				(valParams, pricerParams, csqs, vcp, wiMarket, priceFromYield (valParams, csqs, vcp,
-					wiMarket.date(), wiMarket.factor(), wiMarket.yield()), "");
-
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures,
-				org.drip.quant.common.CollectionUtil.PrefixKeys (mapMeasures, "Market"));
+			org.drip.analytics.support.MeasureVector mvMeasures = new
+				org.drip.analytics.support.MeasureVector();
 
-			return mapMeasures;
+			return rvMeasures (mvMeasures, valParams, pricerParams, csqs, vcp, wiMarket, priceFromYield
+				(valParams, csqs, vcp, wiMarket.date(), wiMarket.factor(), wiMarket.yield()), "") &&
+					mvMeasures.addPrefixed ("Market") ? mvMeasures : null;
 		} catch (java.lang.Exception e) {
 			if (!s_bSuppressErrors) e.printStackTrace();
 		}
@@ -8238,32 +8296,64 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			dblTSYSpread);
 	}
 
-	@Override public double priceFromYield (
+	/**
+	 * Compile the Yield Cash Flows to the Work-out off of the Coupon Periods
+	 * 
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp The Valuation Customization Parameters
+	 * @param dblWorkoutDate The Work-out Date
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * 
+	 * @return The Compiled Yield Cash Flows
+	 * 
+	 * @throws java.lang.Exception Thrown if the Cash Flows cannot be compiled
+	 */
+
+	public org.drip.product.credit.CompiledBondCashFlow compiledCashFlow (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp,
 		final double dblWorkoutDate,
-		final double dblWorkoutFactor,
-		final double dblYield)
+		final double dblWorkoutFactor)
 		throws java.lang.Exception
 	{
 		if (null == valParams || !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
 			!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutFactor))
-			throw new java.lang.Exception ("BondComponent::priceFromYield => Invalid inputs");
+			throw new java.lang.Exception ("BondComponent::compiledCashFlow => Invalid inputs");
 
 		double dblValueDate = valParams.valueDate();
 
 		if (dblValueDate >= dblWorkoutDate + LEFT_EOS_SNIP)
-			throw new java.lang.Exception ("BondComponent::priceFromYield => Invalid inputs");
+			throw new java.lang.Exception ("BondComponent::compiledCashFlow => Invalid inputs");
 
-		double dblYieldPV = 0.;
 		double dblCFPeriod = 0.;
 		boolean bFirstPeriod = true;
+		double dblCouponCumulative = 1.;
 		boolean bTerminateCouponFlow = false;
 		double dblCashPayDate = java.lang.Double.NaN;
 		double dblScalingNotional = java.lang.Double.NaN;
 		org.drip.analytics.daycount.ActActDCParams aap = null;
 
+		java.util.List<org.drip.analytics.cashflow.CompositePeriod> lsCouponPeriod = couponPeriods();
+
+		int iNumCashFlow = 0;
+
+		for (org.drip.analytics.cashflow.CompositePeriod period : lsCouponPeriod) {
+			if (period.payDate() < dblValueDate) continue;
+
+			++iNumCashFlow;
+
+			if (period.endDate() >= dblWorkoutDate) break;
+		}
+
+		int iCashFlow = 0;
+		double[] adblTime = new double[iNumCashFlow];
+		double[] adblPayDate = new double[iNumCashFlow];
+		double[] adblEndNotional = new double[iNumCashFlow];
+		double[] adblCouponAmount = new double[iNumCashFlow];
+		double[] adblStartNotional = new double[iNumCashFlow];
+
 		if (null != _notionalSetting && _notionalSetting.priceOffOfOriginalNotional())
 			dblScalingNotional = 1.;
 
@@ -8295,7 +8385,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			strCalendar = _marketConvention.valuationCustomizationParams().yieldCalendar();
 		}
 
-		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
+		for (org.drip.analytics.cashflow.CompositePeriod period : lsCouponPeriod) {
 			double dblPayDate = period.payDate();
 
 			if (dblPayDate < dblValueDate) continue;
@@ -8322,10 +8412,12 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
 				valParams, csqs);
 
-			if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromYield => No PCM");
+			if (null == pcm) throw new java.lang.Exception ("BondComponent::compiledCashFlow => No PCM");
 
 			double dblPeriodCoupon = pcm.rate();
 
+			dblCouponCumulative = pcm.cumulative();
+
 			aap = new org.drip.analytics.daycount.ActActDCParams (iFrequency, dblStartDate, dblEndDate);
 
 			if (null != vcp) {
@@ -8339,11 +8431,6 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 						(_marketConvention.valuationCustomizationParams().yieldFreq(), dblStartDate, dblEndDate);
 			}
 
-			double dblYieldAnnuity = org.drip.analytics.support.AnalyticsHelper.Yield2DF (iFrequency,
-				dblYield, s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
-					org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblPayDate, strDC,
-						bApplyCpnEOMAdj, aap, strCalendar)) * pcm.cumulative();
-
 			double dblCouponNotional = notional (dblStartDate);
 
 			if (org.drip.product.params.NotionalSetting.PERIOD_AMORT_AT_END ==
@@ -8353,8 +8440,18 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				_notionalSetting.periodAmortizationMode())
 				dblCouponNotional = notional (dblStartDate, dblEndDate);
 
-			dblYieldPV += (period.accrualDCF (dblEndDate) * dblPeriodCoupon * dblCouponNotional + notional
-				(dblStartDate) - notional (dblEndDate)) * dblYieldAnnuity;
+			adblPayDate[iCashFlow] = dblPayDate;
+
+			adblTime[iCashFlow] = s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
+				org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblPayDate, strDC,
+					bApplyCpnEOMAdj, aap, strCalendar);
+
+			adblCouponAmount[iCashFlow] = period.accrualDCF (dblEndDate) * dblPeriodCoupon *
+				dblCouponNotional;
+
+			adblStartNotional[iCashFlow] = notional (dblStartDate);
+
+			adblEndNotional[iCashFlow++] = notional (dblEndDate);
 
 			if (bTerminateCouponFlow) break;
 		}
@@ -8367,14 +8464,36 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			dblCashPayDate = valParams.cashPayDate();
 		}
 
-		return (((dblYieldPV + dblWorkoutFactor * org.drip.analytics.support.AnalyticsHelper.Yield2DF
-			(iFrequency, dblYield, s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
-				org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblWorkoutDate, strDC,
-					bApplyCpnEOMAdj, aap, strCalendar)) * notional (dblWorkoutDate)) /
-						org.drip.analytics.support.AnalyticsHelper.Yield2DF (iFrequency, dblYield,
-							org.drip.analytics.daycount.Convention.YearFraction (dblValueDate,
-								dblCashPayDate, strDC, bApplyCpnEOMAdj, aap, strCalendar))) - accrued
-									(dblValueDate, csqs)) / dblScalingNotional;
+		double dblWorkoutTime = s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
+			org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblWorkoutDate, strDC,
+				bApplyCpnEOMAdj, aap, strCalendar);
+
+		double dblCashPayTime = org.drip.analytics.daycount.Convention.YearFraction (dblValueDate,
+			dblCashPayDate, strDC, bApplyCpnEOMAdj, aap, strCalendar);
+
+		return new org.drip.product.credit.CompiledBondCashFlow (iFrequency, adblPayDate, adblTime,
+			adblCouponAmount, adblStartNotional, adblEndNotional, dblCouponCumulative, dblWorkoutFactor,
+				notional (dblWorkoutDate), dblWorkoutTime, dblCashPayTime, accrued (dblValueDate, csqs),
+					dblScalingNotional);
+	}
+
+	@Override public double priceFromYield (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor,
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		if (null == valParams || !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutFactor))
+			throw new java.lang.Exception ("BondComponent::priceFromYield => Invalid inputs");
+
+		if (valParams.valueDate() >= dblWorkoutDate + LEFT_EOS_SNIP)
+			throw new java.lang.Exception ("BondComponent::priceFromYield => Invalid inputs");
+
+		return compiledCashFlow (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor).price (dblYield);
 	}
 
 	@Override public double priceFromYield (
@@ -9289,8 +9408,28 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		final double dblPrice)
 		throws java.lang.Exception
 	{
-		return new BondCalibrator (this).calibrateYieldFromPrice (valParams, csqs, dblWorkoutDate,
-			dblWorkoutFactor, dblPrice);
+		org.drip.product.credit.BondValuationContext bvc =
+			org.drip.product.credit.BondValuationContext.Current (this, valParams, csqs, vcp);
+
+		if (null == bvc)
+			return new BondCalibrator (this).calibrateYieldFromPrice (valParams, csqs, dblWorkoutDate,
+				dblWorkoutFactor, dblPrice);
+
+		double dblYield = bvc.yield (dblWorkoutDate, dblWorkoutFactor, dblPrice);
+
+		if (!java.lang.Double.isNaN (dblYield)) return dblYield;
+
+		org.drip.product.credit.CompiledBondCashFlow cbcf = bvc.compiledCashFlow (dblWorkoutDate,
+			dblWorkoutFactor);
+
+		if (null == cbcf)
+			bvc.addCompiledCashFlow (dblWorkoutDate, dblWorkoutFactor, cbcf = compiledCashFlow (valParams,
+				csqs, null, dblWorkoutDate, dblWorkoutFactor));
+
+		bvc.addYield (dblWorkoutDate, dblWorkoutFactor, dblPrice, dblYield = new BondCalibrator
+			(this).calibrateYieldFromPrice (cbcf, dblPrice));
+
+		return dblYield;
 	}
 
 	@Override public double yieldFromPrice (
@@ -10870,6 +11009,24 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			(dblPrice))
 			return null;
 
+		org.drip.product.credit.BondValuationContext bvc = org.drip.product.credit.BondValuationContext.Open
+			(this, valParams, csqs, vcp);
+
+		try {
+			return contextStandardMeasures (valParams, pricerParams, csqs, vcp, wi, dblPrice);
+		} finally {
+			if (null != bvc) bvc.close();
+		}
+	}
+
+	private org.drip.analytics.output.BondRVMeasures contextStandardMeasures (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.param.valuation.WorkoutInfo wi,
+		final double dblPrice)
+	{
 		double dblWorkoutDate = wi.date();
 
 		double dblWorkoutYield = wi.yield();
@@ -11002,7 +11159,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
-	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+	@Override public org.drip.analytics.support.MeasureVector measureVector (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -11010,6 +11167,34 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 	{
 		if (null == valParams || null == csqs) return null;
 
+		org.drip.product.credit.BondValuationContext bvc = org.drip.product.credit.BondValuationContext.Open
+			(this, valParams, csqs, vcp);
+
+		try {
+			return contextValue (valParams, pricerParams, csqs, vcp);
+		} finally {
+			if (null != bvc) bvc.close();
+		}
+	}
+
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		org.drip.analytics.support.MeasureVector mvMeasures = measureVector (valParams, pricerParams, csqs,
+			vcp);
+
+		return null == mvMeasures ? null : mvMeasures.toMap();
+	}
+
+	private org.drip.analytics.support.MeasureVector contextValue (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
 		if (null != pricerParams) {
 			org.drip.param.definition.CalibrationParams calibParams = pricerParams.calibParams();
 
@@ -11018,42 +11203,42 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 					calibMeasures (valParams, pricerParams, csqs, vcp);
 
 				if (null != mapCalibMeasures && mapCalibMeasures.containsKey (calibParams.measure()))
-					return mapCalibMeasures;
+					return org.drip.analytics.support.MeasureVector.FromMap (mapCalibMeasures);
 			}
 		}
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = fairMeasures
-			(valParams, pricerParams, csqs, vcp);
+		org.drip.analytics.support.MeasureVector mvMeasures = fairMeasures (valParams, pricerParams, csqs,
+			vcp, null);
 
-		if (null == mapMeasures) return null;
+		if (null == mvMeasures) return null;
 
 		String strName = name();
 
 		org.drip.param.definition.ProductQuote pq = csqs.productQuote (strName);
 
-		if (null == pq) return mapMeasures;
+		if (null == pq) return mvMeasures;
 
 		double dblMaturity = maturityDate().julian();
 
 		if (null == _floaterSetting) {
-			double dblParSpread = (mapMeasures.get ("FairDirtyPV") - mapMeasures.get ("FairParPV") -
-				mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get ("FairDirtyDV01");
+			double dblParSpread = (mvMeasures.get ("FairDirtyPV") - mvMeasures.get ("FairParPV") -
+				mvMeasures.get ("FairPrincipalPV")) / mvMeasures.get ("FairDirtyDV01");
 
-			mapMeasures.put ("ParSpread", dblParSpread);
+			mvMeasures.set ("ParSpread", dblParSpread);
 
-			mapMeasures.put ("FairParSpread", dblParSpread);
+			mvMeasures.set ("FairParSpread", dblParSpread);
 		} else {
-			double dblCleanIndexCouponPV = mapMeasures.containsKey ("FairRiskyCleanIndexCouponPV") ?
-				mapMeasures.get ("FairRiskyCleanIndexCouponPV") : mapMeasures.get
+			double dblCleanIndexCouponPV = mvMeasures.contains ("FairRiskyCleanIndexCouponPV") ?
+				mvMeasures.get ("FairRiskyCleanIndexCouponPV") : mvMeasures.get
 					("FairRisklessCleanIndexCouponPV");
 
-			double dblZeroDiscountMargin = (mapMeasures.get ("FairCleanPV") - mapMeasures.get ("FairParPV") -
-				dblCleanIndexCouponPV - mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get
+			double dblZeroDiscountMargin = (mvMeasures.get ("FairCleanPV") - mvMeasures.get ("FairParPV") -
+				dblCleanIndexCouponPV - mvMeasures.get ("FairPrincipalPV")) / mvMeasures.get
 					("FairCleanDV01");
 
-			mapMeasures.put ("ZeroDiscountMargin", dblZeroDiscountMargin);
+			mvMeasures.set ("ZeroDiscountMargin", dblZeroDiscountMargin);
 
-			mapMeasures.put ("FairZeroDiscountMargin", dblZeroDiscountMargin);
+			mvMeasures.set ("FairZeroDiscountMargin", dblZeroDiscountMargin);
 		}
 
 		org.drip.param.valuation.WorkoutInfo wiMarket = null;
@@ -11061,19 +11246,19 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		if (pq.containsQuote ("Price")) {
 			double dblMarketPrice = pq.quote ("Price").value ("mid");
 
-			mapMeasures.put ("MarketInputType=CleanPrice", dblMarketPrice);
+			mvMeasures.set ("MarketInputType=CleanPrice", dblMarketPrice);
 
 			wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblMarketPrice);
 		} else if (pq.containsQuote ("CleanPrice")) {
 			double dblCleanMarketPrice = pq.quote ("CleanPrice").value ("mid");
 
-			mapMeasures.put ("MarketInputType=CleanPrice", dblCleanMarketPrice);
+			mvMeasures.set ("MarketInputType=CleanPrice", dblCleanMarketPrice);
 
 			wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblCleanMarketPrice);
 		} else if (pq.containsQuote ("QuotedMargin")) {
 			double dblQuotedMargin = pq.quote ("QuotedMargin").value ("mid");
 
-			mapMeasures.put ("MarketInputType=QuotedMargin", dblQuotedMargin);
+			mvMeasures.set ("MarketInputType=QuotedMargin", dblQuotedMargin);
 
 			try {
 				wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, priceFromDiscountMargin (valParams,
@@ -11085,7 +11270,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblDirtyMarketPrice = pq.quote ("DirtyPrice").value ("mid");
 
-				mapMeasures.put ("MarketInputType=DirtyPrice", dblDirtyMarketPrice);
+				mvMeasures.set ("MarketInputType=DirtyPrice", dblDirtyMarketPrice);
 
 				wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblDirtyMarketPrice - accrued
 					(valParams.valueDate(), csqs));
@@ -11098,7 +11283,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblTSYSpread = pq.quote ("TSYSpread").value ("mid");
 
-				mapMeasures.put ("MarketInputType=TSYSpread", dblTSYSpread);
+				mvMeasures.set ("MarketInputType=TSYSpread", dblTSYSpread);
 
 				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, treasuryBenchmarkYield
 					(valParams, csqs, dblMaturity) + dblTSYSpread, 1.,
@@ -11112,7 +11297,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblYield = pq.quote ("Yield").value ("mid");
 
-				mapMeasures.put ("MarketInputType=Yield", dblYield);
+				mvMeasures.set ("MarketInputType=Yield", dblYield);
 
 				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, dblYield, 1.,
 					org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
@@ -11125,7 +11310,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblZSpread = pq.quote ("ZSpread").value ("mid");
 
-				mapMeasures.put ("MarketInputType=ZSpread", dblZSpread);
+				mvMeasures.set ("MarketInputType=ZSpread", dblZSpread);
 
 				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromZSpread
 					(valParams, csqs, vcp, dblZSpread), 1.,
@@ -11139,7 +11324,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblISpread = pq.quote ("ISpread").value ("mid");
 
-				mapMeasures.put ("MarketInputType=ISpread", dblISpread);
+				mvMeasures.set ("MarketInputType=ISpread", dblISpread);
 
 				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromISpread
 					(valParams, csqs, vcp, dblISpread), 1.,
@@ -11153,7 +11338,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblCreditBasis = pq.quote ("CreditBasis").value ("mid");
 
-				mapMeasures.put ("MarketInputType=CreditBasis", dblCreditBasis);
+				mvMeasures.set ("MarketInputType=CreditBasis", dblCreditBasis);
 
 				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromCreditBasis
 					(valParams, csqs, vcp, dblCreditBasis), 1.,
@@ -11167,7 +11352,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			try {
 				double dblCreditBasis = pq.quote ("PECS").value ("mid");
 
-				mapMeasures.put ("MarketInputType=PECS", dblCreditBasis);
+				mvMeasures.set ("MarketInputType=PECS", dblCreditBasis);
 
 				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromPECS (valParams,
 					csqs, vcp, dblCreditBasis), 1., org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
@@ -11179,40 +11364,40 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		}
 
 		if (null != wiMarket) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapWorkoutMeasures =
-				marketMeasures (valParams, pricerParams, csqs, vcp, wiMarket);
+			org.drip.analytics.support.MeasureVector mvWorkoutMeasures = marketMeasures (valParams,
+				pricerParams, csqs, vcp, wiMarket);
 
 			if (null == _floaterSetting) {
-				double dblParSpread = (mapWorkoutMeasures.get ("Price") - mapMeasures.get ("FairParPV") -
-					mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get ("FairCleanDV01");
+				double dblParSpread = (mvWorkoutMeasures.get ("Price") - mvMeasures.get ("FairParPV") -
+					mvMeasures.get ("FairPrincipalPV")) / mvMeasures.get ("FairCleanDV01");
 
-				mapMeasures.put ("ParSpread", dblParSpread);
+				mvMeasures.set ("ParSpread", dblParSpread);
 
-				mapMeasures.put ("MarketParSpread", dblParSpread);
+				mvMeasures.set ("MarketParSpread", dblParSpread);
 			} else {
-				double dblCleanIndexCouponPV = mapMeasures.containsKey ("FairRiskyCleanIndexCouponPV") ?
-					mapMeasures.get ("FairRiskyCleanIndexCouponPV") : mapMeasures.get
+				double dblCleanIndexCouponPV = mvMeasures.contains ("FairRiskyCleanIndexCouponPV") ?
+					mvMeasures.get ("FairRiskyCleanIndexCouponPV") : mvMeasures.get
 						("FairRisklessCleanIndexCouponPV");
 
-				double dblZeroDiscountMargin = (mapMeasures.get ("Price") - mapMeasures.get ("FairParPV") -
-					dblCleanIndexCouponPV - mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get
+				double dblZeroDiscountMargin = (mvMeasures.get ("Price") - mvMeasures.get ("FairParPV") -
+					dblCleanIndexCouponPV - mvMeasures.get ("FairPrincipalPV")) / mvMeasures.get
 						("FairCleanDV01");
 
-				mapMeasures.put ("ZeroDiscountMargin", dblZeroDiscountMargin);
+				mvMeasures.set ("ZeroDiscountMargin", dblZeroDiscountMargin);
 
-				mapMeasures.put ("MarketZeroDiscountMargin", dblZeroDiscountMargin);
+				mvMeasures.set ("MarketZeroDiscountMargin", dblZeroDiscountMargin);
 			}
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapWorkoutMeasures);
+			mvMeasures.merge (mvWorkoutMeasures);
 
 			org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
 
-			if (null != mapMeasures.get ("FairYield")) {
+			if (mvMeasures.contains ("FairYield")) {
 				org.drip.param.market.CurveSurfaceQuoteSet csqsMarket =
 					org.drip.param.creator.MarketParamsBuilder.Create
 						((org.drip.analytics.rates.DiscountCurve) csqs.fundingCurve
 							(fundingLabel()).parallelShiftQuantificationMetric (wiMarket.yield() -
-								mapMeasures.get ("FairYield")), csqs.govvieCurve
+								mvMeasures.get ("FairYield")), csqs.govvieCurve
 									(org.drip.state.identifier.GovvieLabel.Standard (payCurrency())), cc,
 										strName, csqs.productQuote (strName), csqs.quoteMap(),
 											csqs.fixings());
@@ -11222,19 +11407,48 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 						pricerParams, csqsMarket, wiMarket.date(), wiMarket.factor());
 
 					if (null != bwmMarket) {
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMarketMeasures
-							= bwmMarket.toMap ("");
-
-						org.drip.quant.common.CollectionUtil.MergeWithMain (mapMarketMeasures,
-							org.drip.quant.common.CollectionUtil.PrefixKeys (mapMarketMeasures, "Market"));
+						org.drip.analytics.support.MeasureVector mvMarketMeasures = new
+							org.drip.analytics.support.MeasureVector();
 
-						org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapMarketMeasures);
+						if (bwmMarket.setMeasures (mvMarketMeasures, "") && mvMarketMeasures.addPrefixed
+							("Market"))
+							mvMeasures.merge (mvMarketMeasures);
 					}
 				}
 			}
 		}
 
-		return mapMeasures;
+		return mvMeasures;
+	}
+
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<String> setstrMeasureName)
+	{
+		if (null == setstrMeasureName || null == valParams || null == csqs || (null != pricerParams && null
+			!= pricerParams.calibParams()))
+			return super.value (valParams, pricerParams, csqs, vcp, setstrMeasureName);
+
+		/*
+		 * With a quote present only the Fair measures are left untouched by the market pass - and of
+		 * 	those, the par spread/zero discount margin are computed off of the quote.
+		 */
+
+		if (null != csqs.productQuote (name())) {
+			for (String strMeasure : setstrMeasureName) {
+				if (null == UnprefixedMeasureName (strMeasure, "Fair") || "FairParSpread".equalsIgnoreCase
+					(strMeasure) || "FairZeroDiscountMargin".equalsIgnoreCase (strMeasure))
+					return super.value (valParams, pricerParams, csqs, vcp, setstrMeasureName);
+			}
+		}
+
+		org.drip.analytics.support.MeasureVector mvFairMeasures = fairMeasures (valParams, pricerParams, csqs,
+			vcp, setstrMeasureName);
+
+		return null == mvFairMeasures ? null : mvFairMeasures.restrict (setstrMeasureName).toMap();
 	}
 
 	@Override public java.util.Set<String> measureNames()
@@ -11618,6 +11832,128 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return setstrMeasureNames;
 	}
 
+	@Override public int adjointPV (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == valParams || null == lsat)
+			throw new java.lang.Exception ("BondComponent::adjointPV => Invalid Inputs");
+
+		if (null != _floaterSetting)
+			throw new java.lang.Exception ("BondComponent::adjointPV => Floaters not supported");
+
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = lsat.csqs();
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (null == dcFunding) throw new java.lang.Exception ("BondComponent::adjointPV => No Funding Curve");
+
+		org.drip.analytics.definition.CreditCurve cc = null == pricerParams ? null : csqs.creditCurve
+			(creditLabel());
+
+		if (null != cc && org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC ==
+			pricerParams.discretizationScheme())
+			throw new java.lang.Exception
+				("BondComponent::adjointPV => Analytic Loss Integration not supported");
+
+		double dblValueDate = valParams.valueDate();
+
+		double dblMaturity = maturityDate().julian();
+
+		if (dblValueDate >= dblMaturity)
+			throw new java.lang.Exception ("BondComponent::adjointPV => Bond has matured");
+
+		org.drip.analytics.output.CompositePeriodCouponMetrics cpcm = couponMetrics (dblValueDate, valParams,
+			csqs);
+
+		if (null == cpcm)
+			throw new java.lang.Exception ("BondComponent::adjointPV => Cannot compute the Coupon Metrics");
+
+		double dblCoupon = cpcm.rate();
+
+		double dblCumulative = cpcm.cumulative();
+
+		org.drip.quant.calculus.AdjointTape tape = lsat.tape();
+
+		double dblAccrued01 = 0.;
+		boolean bPeriodZero = true;
+
+		int iDirtyPV = tape.leaf (0.);
+
+		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
+			double dblPeriodPayDate = period.payDate();
+
+			if (dblPeriodPayDate < dblValueDate) continue;
+
+			boolean bTerminateCouponFlow = false;
+
+			double dblPeriodEndDate = period.endDate();
+
+			double dblPeriodStartDate = period.startDate();
+
+			if (dblMaturity <= dblPeriodEndDate) {
+				bTerminateCouponFlow = true;
+				dblPeriodEndDate = dblMaturity;
+			}
+
+			if (bPeriodZero) {
+				bPeriodZero = false;
+
+				if (dblPeriodStartDate < dblValueDate)
+					dblAccrued01 = 0.0001 * period.accrualDCF (dblValueDate) * notional (dblPeriodStartDate,
+						dblValueDate);
+			}
+
+			int iPeriodDiscount = lsat.df (dcFunding, dblPeriodPayDate);
+
+			if (null != cc)
+				iPeriodDiscount = tape.multiply (iPeriodDiscount, lsat.survival (cc,
+					pricerParams.survivalToPayDate() ? dblPeriodPayDate : dblPeriodEndDate));
+
+			iDirtyPV = tape.linear (iDirtyPV, 1., iPeriodDiscount, dblCumulative * (dblCoupon *
+				period.accrualDCF (dblPeriodEndDate) * notional (dblPeriodStartDate, dblPeriodEndDate) +
+					notional (dblPeriodStartDate) - notional (dblPeriodEndDate)));
+
+			if (null != cc && _creditSetting.accrualOnDefault()) {
+				for (org.drip.analytics.cashflow.LossQuadratureMetrics lqm : period.lossMetrics (this,
+					valParams, pricerParams, dblMaturity, csqs)) {
+					if (null == lqm) continue;
+
+					double dblSubPeriodEnd = lqm.end();
+
+					double dblSubPeriodStart = lqm.start();
+
+					iDirtyPV = tape.linear (iDirtyPV, 1., tape.multiply (tape.subtract (lsat.survival (cc,
+						dblSubPeriodStart), lsat.survival (cc, dblSubPeriodEnd)), lsat.effectiveDF
+							(dcFunding, dblSubPeriodStart + _creditSetting.lossPayLag(), dblSubPeriodEnd +
+								_creditSetting.lossPayLag())), dblCoupon * lqm.accrualDCF() * notional
+									(dblSubPeriodStart, dblSubPeriodEnd));
+				}
+			}
+
+			if (bTerminateCouponFlow) break;
+		}
+
+		int iParDiscount = lsat.df (dcFunding, dblMaturity);
+
+		if (null != cc) iParDiscount = tape.multiply (iParDiscount, lsat.survival (cc, dblMaturity));
+
+		iDirtyPV = tape.linear (iDirtyPV, 1., iParDiscount, notional (dblMaturity));
+
+		double dblCashPayDate = java.lang.Double.NaN;
+
+		try {
+			dblCashPayDate = _marketConvention.settleDate (valParams);
+		} catch (java.lang.Exception e) {
+			dblCashPayDate = valParams.cashPayDate();
+		}
+
+		return tape.affine (tape.divide (iDirtyPV, lsat.df (dcFunding, dblCashPayDate)), 1., dblAccrued01 *
+			dblCoupon);
+	}
+
 	@Override public org.drip.quant.calculus.WengertJacobian jackDDirtyPVDManifestMeasure (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
@@ -11702,12 +12038,11 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		}
 
 		/**
-		 * Calibrate the bond yield from the market price using the root bracketing technique.
+		 * Calibrate the bond yield from the market price off of the Compiled Yield Cash Flows - using
+		 * 	Halley's Method on their Analytic Derivatives, and falling back to the root bracketing
+		 * 	technique.
 		 * 
-		 * @param valParams Valuation Parameters
-		 * @param csqs Bond Market Parameters
-		 * @param dblWorkoutDate JulianDate Work-out
-		 * @param dblWorkoutFactor Work-out factor
+		 * @param cbcf The Compiled Yield Cash Flows
 		 * @param dblPrice Price to be calibrated to
 		 * 
 		 * @return The calibrated Yield
@@ -11716,21 +12051,29 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		 */
 
 		public double calibrateYieldFromPrice (
-			final org.drip.param.valuation.ValuationParams valParams,
-			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-			final double dblWorkoutDate,
-			final double dblWorkoutFactor,
+			final org.drip.product.credit.CompiledBondCashFlow cbcf,
 			final double dblPrice)
 			throws java.lang.Exception
 		{
+			if (null == cbcf)
+				throw new java.lang.Exception
+					("BondComponent::BondCalibrator::calibrateYieldFromPrice => Invalid Inputs");
+
+			try {
+				return cbcf.yieldFromPrice (dblPrice, 0.);
+			} catch (java.lang.Exception e) {
+				/*
+				 * The compiled Halley iteration did not converge - fall back to the bracketing solvers below.
+				 */
+			}
+
 			org.drip.function.definition.R1ToR1 ofYieldToPrice = new
 				org.drip.function.definition.R1ToR1 (null) {
 				@Override public double evaluate (
 					final double dblYield)
 					throws java.lang.Exception
 				{
-					return _bond.priceFromYield (valParams, csqs, null, dblWorkoutDate, dblWorkoutFactor,
-						dblYield) - dblPrice;
+					return cbcf.price (dblYield) - dblPrice;
 				}
 			};
 
@@ -11749,6 +12092,33 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			return rfop.getRoot();
 		}
 
+		/**
+		 * Calibrate the bond yield from the market price off of the Yield Cash Flows compiled to the
+		 * 	Work-out.
+		 * 
+		 * @param valParams Valuation Parameters
+		 * @param csqs Bond Market Parameters
+		 * @param dblWorkoutDate JulianDate Work-out
+		 * @param dblWorkoutFactor Work-out factor
+		 * @param dblPrice Price to be calibrated to
+		 * 
+		 * @return The calibrated Yield
+		 * 
+		 * @throws java.lang.Exception Thrown if the yield cannot be calibrated
+		 */
+
+		public double calibrateYieldFromPrice (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice)
+			throws java.lang.Exception
+		{
+			return calibrateYieldFromPrice (_bond.compiledCashFlow (valParams, csqs, null, dblWorkoutDate,
+				dblWorkoutFactor), dblPrice);
+		}
+
 		/**
 		 * Calibrate the bond Z Spread from the market price using the root bracketing technique.
 		 * 
@@ -0,0 +1,325 @@
+
+package org.drip.product.credit;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondValuationContext memoizes, for the Duration of a single Valuation Request on a Bond, the Work-out
+ * 	Information solved off of a Price (across the Call/Put Exercise Dates), the Yield Cash Flows compiled
+ * 	to a given Work-out, and the Yields solved off of a Price to that Work-out. It is keyed off of the
+ * 	Bond, the Valuation/Cash Pay Dates, the Market Parameters, and the Valuation Customization Parameters
+ * 	- all but the Dates by Identity - so that the Re-pricing off of Bumped/Adjusted Market Parameters never
+ * 	hits it.
+ * 
+ * A Context is opened on the Current Thread, and the Bond Measure Calls made on that Thread for a matching
+ * 	Key until it is closed share the same Work-out/Yield Solves. Opening a Context that matches the one
+ * 	already open on the Thread nests into it instead, so each Open has to be paired with a close:
+ * 
+ * 	BondValuationContext bvc = BondValuationContext.Open (bond, valParams, csqs, vcp);
+ * 
+ * 	try {
+ * 		...
+ * 	} finally {
+ * 		if (null != bvc) bvc.close();
+ * 	}
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondValuationContext {
+	private static final java.lang.ThreadLocal<BondValuationContext> s_tlCurrent = new
+		java.lang.ThreadLocal<BondValuationContext>();
+
+	private int _iDepth = 1;
+	private BondValuationContext _bvcOuter = null;
+	private double _dblValueDate = java.lang.Double.NaN;
+	private org.drip.product.definition.Bond _bond = null;
+	private double _dblCashPayDate = java.lang.Double.NaN;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+	private org.drip.param.valuation.ValuationCustomizationParams _vcp = null;
+
+	private java.util.List<double[]> _lsYield = new java.util.ArrayList<double[]>();
+
+	private java.util.List<double[]> _lsCompiledWorkout = new java.util.ArrayList<double[]>();
+
+	private java.util.List<org.drip.product.credit.CompiledBondCashFlow> _lsCompiledCashFlow = new
+		java.util.ArrayList<org.drip.product.credit.CompiledBondCashFlow>();
+
+	private java.util.List<java.lang.Double> _lsExercisePrice = new java.util.ArrayList<java.lang.Double>();
+
+	private java.util.List<org.drip.param.valuation.WorkoutInfo> _lsExerciseWorkout = new
+		java.util.ArrayList<org.drip.param.valuation.WorkoutInfo>();
+
+	private BondValuationContext (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final BondValuationContext bvcOuter)
+	{
+		_vcp = vcp;
+		_bond = bond;
+		_csqs = csqs;
+		_bvcOuter = bvcOuter;
+
+		_dblValueDate = valParams.valueDate();
+
+		_dblCashPayDate = valParams.cashPayDate();
+	}
+
+	private boolean matches (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		return _bond == bond && _csqs == csqs && _vcp == vcp && _dblValueDate == valParams.valueDate() &&
+			_dblCashPayDate == valParams.cashPayDate();
+	}
+
+	/**
+	 * Open a Context for the Bond Valuation Request on the Current Thread, or nest into the matching
+	 * 	Context already open on it
+	 * 
+	 * @param bond The Bond
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp The Valuation Customization Parameters
+	 * 
+	 * @return The Open Context (NULL => The Inputs are Invalid)
+	 */
+
+	public static final BondValuationContext Open (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		if (null == bond || null == valParams || null == csqs) return null;
+
+		BondValuationContext bvcCurrent = s_tlCurrent.get();
+
+		if (null != bvcCurrent && bvcCurrent.matches (bond, valParams, csqs, vcp)) {
+			++bvcCurrent._iDepth;
+			return bvcCurrent;
+		}
+
+		BondValuationContext bvc = new BondValuationContext (bond, valParams, csqs, vcp, bvcCurrent);
+
+		s_tlCurrent.set (bvc);
+
+		return bvc;
+	}
+
+	/**
+	 * Retrieve the Context open on the Current Thread that matches the Inputs
+	 * 
+	 * @param bond The Bond
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp The Valuation Customization Parameters
+	 * 
+	 * @return The matching Context (NULL => None is open)
+	 */
+
+	public static final BondValuationContext Current (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		if (null == valParams) return null;
+
+		BondValuationContext bvc = s_tlCurrent.get();
+
+		while (null != bvc) {
+			if (bvc.matches (bond, valParams, csqs, vcp)) return bvc;
+
+			bvc = bvc._bvcOuter;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Close the Context (or leave the Nesting Level). Once the Outermost Level is left, the Context that was
+	 * 	open before it is restored on the Current Thread.
+	 */
+
+	public void close()
+	{
+		if (0 < --_iDepth || this != s_tlCurrent.get()) return;
+
+		if (null == _bvcOuter)
+			s_tlCurrent.remove();
+		else
+			s_tlCurrent.set (_bvcOuter);
+	}
+
+	/**
+	 * Retrieve the Yield solved off of the Price to the Work-out
+	 * 
+	 * @param dblWorkoutDate The Work-out Date
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * @param dblPrice The Price
+	 * 
+	 * @return The Yield (NaN => Not solved yet in this Context)
+	 */
+
+	public double yield (
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor,
+		final double dblPrice)
+	{
+		for (double[] adblEntry : _lsYield) {
+			if (adblEntry[0] == dblWorkoutDate && adblEntry[1] == dblWorkoutFactor && adblEntry[2] ==
+				dblPrice)
+				return adblEntry[3];
+		}
+
+		return java.lang.Double.NaN;
+	}
+
+	/**
+	 * Record the Yield solved off of the Price to the Work-out
+	 * 
+	 * @param dblWorkoutDate The Work-out Date
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * @param dblPrice The Price
+	 * @param dblYield The Yield
+	 * 
+	 * @return TRUE => The Yield has been recorded
+	 */
+
+	public boolean addYield (
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor,
+		final double dblPrice,
+		final double dblYield)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutFactor) ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblPrice) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblYield))
+			return false;
+
+		_lsYield.add (new double[] {dblWorkoutDate, dblWorkoutFactor, dblPrice, dblYield});
+
+		return true;
+	}
+
+	/**
+	 * Retrieve the Yield Cash Flows (compiled without the Valuation Customization Parameters, as the Yield
+	 * 	Calibration runs) to the Work-out
+	 * 
+	 * @param dblWorkoutDate The Work-out Date
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * 
+	 * @return The Compiled Yield Cash Flows (NULL => Not compiled yet in this Context)
+	 */
+
+	public org.drip.product.credit.CompiledBondCashFlow compiledCashFlow (
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor)
+	{
+		for (int i = 0; i < _lsCompiledWorkout.size(); ++i) {
+			double[] adblWorkout = _lsCompiledWorkout.get (i);
+
+			if (adblWorkout[0] == dblWorkoutDate && adblWorkout[1] == dblWorkoutFactor)
+				return _lsCompiledCashFlow.get (i);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Record the Yield Cash Flows (compiled without the Valuation Customization Parameters) to the Work-out
+	 * 
+	 * @param dblWorkoutDate The Work-out Date
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * @param cbcf The Compiled Yield Cash Flows
+	 * 
+	 * @return TRUE => The Compiled Yield Cash Flows have been recorded
+	 */
+
+	public boolean addCompiledCashFlow (
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor,
+		final org.drip.product.credit.CompiledBondCashFlow cbcf)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblWorkoutFactor) || null == cbcf)
+			return false;
+
+		_lsCompiledWorkout.add (new double[] {dblWorkoutDate, dblWorkoutFactor});
+
+		_lsCompiledCashFlow.add (cbcf);
+
+		return true;
+	}
+
+	/**
+	 * Retrieve the Work-out Information solved off of the Price across the Exercise Dates
+	 * 
+	 * @param dblPrice The Price
+	 * 
+	 * @return The Work-out Information (NULL => Not solved yet in this Context)
+	 */
+
+	public org.drip.param.valuation.WorkoutInfo exerciseWorkout (
+		final double dblPrice)
+	{
+		for (int i = 0; i < _lsExercisePrice.size(); ++i) {
+			if (_lsExercisePrice.get (i) == dblPrice) return _lsExerciseWorkout.get (i);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Record the Work-out Information solved off of the Price across the Exercise Dates
+	 * 
+	 * @param dblPrice The Price
+	 * @param wi The Work-out Information
+	 * 
+	 * @return TRUE => The Work-out Information has been recorded
+	 */
+
+	public boolean addExerciseWorkout (
+		final double dblPrice,
+		final org.drip.param.valuation.WorkoutInfo wi)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblPrice) || null == wi) return false;
+
+		_lsExercisePrice.add (dblPrice);
+
+		_lsExerciseWorkout.add (wi);
+
+		return true;
+	}
+}
@@ -47,6 +47,58 @@ package org.drip.product.credit;
  */
 
 public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap {
+	private static final int MEASURE_ACCRUAL_DAYS =
+		org.drip.analytics.support.MeasureRegistry.ID ("AccrualDays");
+	private static final int MEASURE_ACCRUED =
+		org.drip.analytics.support.MeasureRegistry.ID ("Accrued");
+	private static final int MEASURE_ACCRUED_01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("Accrued01");
+	private static final int MEASURE_CALC_TIME =
+		org.drip.analytics.support.MeasureRegistry.ID ("CalcTime");
+	private static final int MEASURE_CLEAN_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanDV01");
+	private static final int MEASURE_CLEAN_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanPV");
+	private static final int MEASURE_CLEAN_PRICE =
+		org.drip.analytics.support.MeasureRegistry.ID ("CleanPrice");
+	private static final int MEASURE_DIRTY_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyDV01");
+	private static final int MEASURE_DIRTY_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyPV");
+	private static final int MEASURE_DIRTY_PRICE =
+		org.drip.analytics.support.MeasureRegistry.ID ("DirtyPrice");
+	private static final int MEASURE_DV01 =
+		org.drip.analytics.support.MeasureRegistry.ID ("DV01");
+	private static final int MEASURE_EXP_LOSS =
+		org.drip.analytics.support.MeasureRegistry.ID ("ExpLoss");
+	private static final int MEASURE_EXP_LOSS_NO_REC =
+		org.drip.analytics.support.MeasureRegistry.ID ("ExpLossNoRec");
+	private static final int MEASURE_FAIR_PREMIUM =
+		org.drip.analytics.support.MeasureRegistry.ID ("FairPremium");
+	private static final int MEASURE_LOSS_NO_REC_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("LossNoRecPV");
+	private static final int MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT =
+		org.drip.analytics.support.MeasureRegistry.ID ("LossOnInstantaneousDefault");
+	private static final int MEASURE_LOSS_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("LossPV");
+	private static final int MEASURE_PAR_SPREAD =
+		org.drip.analytics.support.MeasureRegistry.ID ("ParSpread");
+	private static final int MEASURE_PREMIUM_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("PremiumPV");
+	private static final int MEASURE_PRICE =
+		org.drip.analytics.support.MeasureRegistry.ID ("Price");
+	private static final int MEASURE_PV =
+		org.drip.analytics.support.MeasureRegistry.ID ("PV");
+	private static final int MEASURE_UPFRONT =
+		org.drip.analytics.support.MeasureRegistry.ID ("Upfront");
+
+	private static final int LEG_LOSS_PV = 0;
+	private static final int LEG_EXP_LOSS = 1;
+	private static final int LEG_DIRTY_DV01 = 2;
+	private static final int LEG_LOSS_NO_REC_PV = 3;
+	private static final int LEG_EXP_LOSS_NO_REC = 4;
+	private static final int NUM_LEG = 5;
+
 	private double _dblNotional = 100.;
 	private String _strCode = "";
 	private String _strName = "";
@@ -70,12 +122,80 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		return null;
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> measures (
-		final String strMeasureSetPrefix,
+	private static final boolean IsAccrualMeasure (
+		final String strMeasure)
+	{
+		return "AccrualDays".equalsIgnoreCase (strMeasure) || "Accrued".equalsIgnoreCase (strMeasure) ||
+			"Accrued01".equalsIgnoreCase (strMeasure) || "LossOnInstantaneousDefault".equalsIgnoreCase
+				(strMeasure) || "CalcTime".equalsIgnoreCase (strMeasure);
+	}
+
+	private boolean periodLegs (
+		final org.drip.analytics.cashflow.CompositePeriod period,
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+		final org.drip.analytics.rates.DiscountCurve dcFunding,
+		final org.drip.analytics.definition.CreditCurve cc,
+		final double[] adblLeg,
+		final double[] adblLossLeg)
+		throws java.lang.Exception
+	{
+		double dblPayDate = period.payDate();
+
+		double dblEndDate = period.endDate();
+
+		double dblPeriodNotional = notional (period.startDate(), valParams.valueDate());
+
+		double dblSurvProb = pricerParams.survivalToPayDate() ? cc.survival (dblPayDate) : cc.survival
+			(dblEndDate);
+
+		adblLeg[LEG_DIRTY_DV01] += 0.01 * period.couponDCF() * dcFunding.df (dblPayDate) * dblSurvProb *
+			dblPeriodNotional;
+
+		if (null != adblLossLeg)
+			return org.drip.analytics.support.LossLegIntegrator.Accumulate (this, valParams, period,
+				dblEndDate, pricerParams.unitSize(), dcFunding, cc, adblLossLeg);
+
+		for (org.drip.analytics.cashflow.LossQuadratureMetrics lp : period.lossMetrics (this, valParams,
+			pricerParams, dblEndDate, csqs)) {
+			if (null == lp) continue;
+
+			double dblSubPeriodEnd = lp.end();
+
+			double dblSubPeriodStart = lp.start();
+
+			double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart + _crValParams.lossPayLag(),
+				dblSubPeriodEnd + _crValParams.lossPayLag());
+
+			double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
+
+			double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival (dblSubPeriodEnd);
+
+			double dblRec = _crValParams.useCurveRecovery() ? cc.effectiveRecovery (dblSubPeriodStart,
+				dblSubPeriodEnd) : _crValParams.recovery();
+
+			double dblSubPeriodExpLoss = (1. - dblRec) * 100. * dblSubPeriodSurvival * dblSubPeriodNotional;
+			double dblSubPeriodExpLossNoRec = 100. * dblSubPeriodSurvival * dblSubPeriodNotional;
+			adblLeg[LEG_LOSS_PV] += dblSubPeriodExpLoss * dblSubPeriodDF;
+			adblLeg[LEG_LOSS_NO_REC_PV] += dblSubPeriodExpLossNoRec * dblSubPeriodDF;
+			adblLeg[LEG_EXP_LOSS] += dblSubPeriodExpLoss;
+			adblLeg[LEG_EXP_LOSS_NO_REC] += dblSubPeriodExpLossNoRec;
+
+			adblLeg[LEG_DIRTY_DV01] += 0.01 * lp.accrualDCF() * dblSubPeriodSurvival * dblSubPeriodDF *
+				dblSubPeriodNotional;
+		}
+
+		return true;
+	}
+
+	private org.drip.analytics.support.MeasureVector measures (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final boolean bPeriodLegs,
+		final org.drip.product.credit.CDSLegContribution legContribution)
 	{
 		if (null == valParams || null == pricerParams || null == csqs) return null;
 
@@ -87,82 +207,98 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 
 		long lStart = System.nanoTime();
 
-		double dblLossPV = 0.;
-		double dblExpLoss = 0.;
 		double dblAccrued01 = 0.;
-		double dblDirtyDV01 = 0.;
-		double dblLossNoRecPV = 0.;
-		double dblExpLossNoRec = 0.;
 		boolean bFirstPeriod = true;
 		double dblCashPayDF = java.lang.Double.NaN;
 		double dblAccrualDays = java.lang.Double.NaN;
 
 		double dblValueDate = valParams.valueDate();
 
-		try {
-			for (org.drip.analytics.cashflow.CompositePeriod period : _lsCouponPeriod) {
-				double dblPayDate = period.payDate();
+		int iDiscretizationScheme = pricerParams.discretizationScheme();
 
-				if (dblPayDate < dblValueDate) continue;
+		boolean bLegContribution = null != legContribution && dblValueDate == legContribution.valueDate() &&
+			iDiscretizationScheme == legContribution.discretizationScheme();
+
+		int iNumContributedPeriod = bLegContribution ? legContribution.numPeriod() : 0;
 
-				double dblEndDate = period.endDate();
+		double[] adblLeg = bLegContribution ? legContribution.leg() : new double[NUM_LEG];
 
-				double dblStartDate = period.startDate();
+		double[] adblLossLeg = org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC ==
+			iDiscretizationScheme ? (bLegContribution ? legContribution.lossLeg() : new
+				double[org.drip.analytics.support.LossLegIntegrator.NUM_ACCUMULATOR]) : null;
 
-				double dblPeriodNotional = notional (dblStartDate, dblValueDate);
+		try {
+			for (org.drip.analytics.cashflow.CompositePeriod period : _lsCouponPeriod) {
+				if (period.payDate() < dblValueDate) continue;
 
 				if (bFirstPeriod) {
 					dblAccrualDays = 0.;
 					bFirstPeriod = false;
 
+					double dblStartDate = period.startDate();
+
 					if (dblStartDate < dblValueDate) {
 						dblAccrualDays = dblValueDate - dblStartDate;
 
-						dblAccrued01 = period.accrualDCF (dblValueDate) * 0.01 * dblPeriodNotional;
+						dblAccrued01 = period.accrualDCF (dblValueDate) * 0.01 * notional (dblStartDate,
+							dblValueDate);
 					}
 				}
 
-				double dblSurvProb = pricerParams.survivalToPayDate() ? cc.survival (dblPayDate) :
-					cc.survival (dblEndDate);
+				if (!bPeriodLegs) break;
 
-				dblDirtyDV01 += 0.01 * period.couponDCF() * dcFunding.df (dblPayDate) * dblSurvProb *
-					dblPeriodNotional;
+				if (0 < iNumContributedPeriod) {
+					--iNumContributedPeriod;
+					continue;
+				}
 
-				for (org.drip.analytics.cashflow.LossQuadratureMetrics lp : period.lossMetrics (this,
-					valParams, pricerParams, dblEndDate, csqs)) {
-					if (null == lp) continue;
+				if (!periodLegs (period, valParams, pricerParams, csqs, dcFunding, cc, adblLeg, adblLossLeg))
+					return null;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
 
-					double dblSubPeriodEnd = lp.end();
+			return null;
+		}
 
-					double dblSubPeriodStart = lp.start();
+		double dblLossPV = adblLeg[LEG_LOSS_PV];
+		double dblExpLoss = adblLeg[LEG_EXP_LOSS];
+		double dblDirtyDV01 = adblLeg[LEG_DIRTY_DV01];
+		double dblLossNoRecPV = adblLeg[LEG_LOSS_NO_REC_PV];
+		double dblExpLossNoRec = adblLeg[LEG_EXP_LOSS_NO_REC];
+
+		if (null != adblLossLeg) {
+			dblLossPV += 100. * adblLossLeg[org.drip.analytics.support.LossLegIntegrator.LOSS_PV];
+			dblExpLoss += 100. * adblLossLeg[org.drip.analytics.support.LossLegIntegrator.EXPECTED_LOSS];
+			dblLossNoRecPV += 100. *
+				adblLossLeg[org.drip.analytics.support.LossLegIntegrator.LOSS_NO_REC_PV];
+			dblExpLossNoRec += 100. *
+				adblLossLeg[org.drip.analytics.support.LossLegIntegrator.EXPECTED_LOSS_NO_REC];
+			dblDirtyDV01 += 0.01 *
+				adblLossLeg[org.drip.analytics.support.LossLegIntegrator.ACCRUAL_ON_DEFAULT_PV];
+		}
 
-					double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart +
-						_crValParams.lossPayLag(), dblSubPeriodEnd + _crValParams.lossPayLag());
+		double dblNotlFactor = _dblNotional * 0.01;
 
-					double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
+		org.drip.analytics.support.MeasureVector mvResult = new org.drip.analytics.support.MeasureVector();
 
-					double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival
-						(dblSubPeriodEnd);
+		mvResult.set (MEASURE_ACCRUAL_DAYS, dblAccrualDays);
 
-					double dblRec = _crValParams.useCurveRecovery() ? cc.effectiveRecovery (dblSubPeriodStart,
-						dblSubPeriodEnd) : _crValParams.recovery();
+		mvResult.set (MEASURE_ACCRUED, dblAccrued01 * _dblCoupon * dblNotlFactor);
 
-					double dblSubPeriodExpLoss = (1. - dblRec) * 100. * dblSubPeriodSurvival *
-						dblSubPeriodNotional;
-					double dblSubPeriodExpLossNoRec = 100. * dblSubPeriodSurvival * dblSubPeriodNotional;
-					dblLossPV += dblSubPeriodExpLoss * dblSubPeriodDF;
-					dblLossNoRecPV += dblSubPeriodExpLossNoRec * dblSubPeriodDF;
-					dblExpLoss += dblSubPeriodExpLoss;
-					dblExpLossNoRec += dblSubPeriodExpLossNoRec;
+		mvResult.set (MEASURE_ACCRUED_01, dblAccrued01 * dblNotlFactor);
 
-					dblDirtyDV01 += 0.01 * lp.accrualDCF() * dblSubPeriodSurvival * dblSubPeriodDF *
-						dblSubPeriodNotional;
-				}
+		if (!bPeriodLegs) {
+			try {
+				mvResult.set (MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT, _dblNotional * (1. -
+					cc.recovery (dblValueDate)));
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
 			}
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
 
-			return null;
+			mvResult.set (MEASURE_CALC_TIME, (System.nanoTime() - lStart) * 1.e-09);
+
+			return mvResult;
 		}
 
 		try {
@@ -177,69 +313,59 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		dblLossPV /= dblCashPayDF;
 		dblDirtyDV01 /= dblCashPayDF;
 		dblLossNoRecPV /= dblCashPayDF;
-		double dblNotlFactor = _dblNotional * 0.01;
 		double dblCleanDV01 = dblDirtyDV01 - dblAccrued01;
 		double dblCleanPV = dblCleanDV01 * 10000. * _dblCoupon - dblLossPV;
 		double dblDirtyPV = dblDirtyDV01 * 10000. * _dblCoupon - dblLossPV;
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapResult = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-		mapResult.put (strMeasureSetPrefix + "AccrualDays", dblAccrualDays);
-
-		mapResult.put (strMeasureSetPrefix + "Accrued", dblAccrued01 * _dblCoupon * dblNotlFactor);
-
-		mapResult.put (strMeasureSetPrefix + "Accrued01", dblAccrued01 * dblNotlFactor);
-
-		mapResult.put (strMeasureSetPrefix + "CleanDV01", dblCleanDV01 * dblNotlFactor);
+		mvResult.set (MEASURE_CLEAN_DV01, dblCleanDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "CleanPV", dblCleanPV * dblNotlFactor);
+		mvResult.set (MEASURE_CLEAN_PV, dblCleanPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DV01", dblDirtyDV01 * dblNotlFactor);
+		mvResult.set (MEASURE_DV01, dblDirtyDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DirtyDV01", dblDirtyDV01 * dblNotlFactor);
+		mvResult.set (MEASURE_DIRTY_DV01, dblDirtyDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DirtyPV", dblDirtyPV * dblNotlFactor);
+		mvResult.set (MEASURE_DIRTY_PV, dblDirtyPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ExpLoss", dblExpLoss * dblNotlFactor);
+		mvResult.set (MEASURE_EXP_LOSS, dblExpLoss * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ExpLossNoRec", dblExpLossNoRec * dblNotlFactor);
+		mvResult.set (MEASURE_EXP_LOSS_NO_REC, dblExpLossNoRec * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "FairPremium", dblLossPV / dblCleanDV01);
+		mvResult.set (MEASURE_FAIR_PREMIUM, dblLossPV / dblCleanDV01);
 
-		mapResult.put (strMeasureSetPrefix + "LossNoRecPV", dblLossNoRecPV * dblNotlFactor);
+		mvResult.set (MEASURE_LOSS_NO_REC_PV, dblLossNoRecPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "LossPV", dblLossPV * dblNotlFactor);
+		mvResult.set (MEASURE_LOSS_PV, dblLossPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ParSpread", dblLossPV / dblCleanDV01);
+		mvResult.set (MEASURE_PAR_SPREAD, dblLossPV / dblCleanDV01);
 
-		mapResult.put (strMeasureSetPrefix + "PremiumPV", dblDirtyDV01 * _dblCoupon * dblNotlFactor);
+		mvResult.set (MEASURE_PREMIUM_PV, dblDirtyDV01 * _dblCoupon * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "PV", dblDirtyPV * dblNotlFactor);
+		mvResult.set (MEASURE_PV, dblDirtyPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "Upfront", dblCleanPV * dblNotlFactor);
+		mvResult.set (MEASURE_UPFRONT, dblCleanPV * dblNotlFactor);
 
 		try {
 			double dblValueNotional = notional (dblValueDate);
 
-			mapResult.put (strMeasureSetPrefix + "CleanPrice", 100. * (1. + (dblCleanPV / _dblNotional /
+			mvResult.set (MEASURE_CLEAN_PRICE, 100. * (1. + (dblCleanPV / _dblNotional /
 				dblValueNotional)));
 
-			mapResult.put (strMeasureSetPrefix + "DirtyPrice", 100. * (1. + (dblDirtyPV / _dblNotional /
+			mvResult.set (MEASURE_DIRTY_PRICE, 100. * (1. + (dblDirtyPV / _dblNotional /
 				dblValueNotional)));
 
-			mapResult.put (strMeasureSetPrefix + "LossOnInstantaneousDefault", _dblNotional * (1. -
+			mvResult.set (MEASURE_LOSS_ON_INSTANTANEOUS_DEFAULT, _dblNotional * (1. -
 				cc.recovery (dblValueDate)));
 
-			mapResult.put (strMeasureSetPrefix + "Price", 100. * (1. + (dblCleanPV / _dblNotional /
+			mvResult.set (MEASURE_PRICE, 100. * (1. + (dblCleanPV / _dblNotional /
 				dblValueNotional)));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
 
-		mapResult.put (strMeasureSetPrefix + "CalcTime", (System.nanoTime() - lStart) * 1.e-09);
+		mvResult.set (MEASURE_CALC_TIME, (System.nanoTime() - lStart) * 1.e-09);
 
-		return mapResult;
+		return mvResult;
 	}
 
 	private org.drip.quant.calculus.WengertJacobian calcPeriodOnDefaultPVDFMicroJack (
@@ -691,48 +817,45 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		return sLP;
 	}
 
-	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+	@Override public org.drip.analytics.support.MeasureVector measureVector (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFairMeasures = measures ("",
-			valParams, pricerParams, csqs, vcp);
+		org.drip.analytics.support.MeasureVector mvFairMeasures = measures (valParams, pricerParams, csqs,
+			vcp, true, null);
 
-		if (null == mapFairMeasures) return null;
+		if (null == mvFairMeasures) return null;
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapFairMeasures,
-			org.drip.quant.common.CollectionUtil.PrefixKeys (mapFairMeasures, "Fair"));
+		mvFairMeasures.addPrefixed ("Fair");
 
 		String strName = name();
 
 		org.drip.param.definition.ProductQuote cq = csqs.productQuote (strName);
 
-		if ((null != pricerParams && null != pricerParams.calibParams()) || null == mapFairMeasures || null
-			== cq)
-			return mapFairMeasures;
+		if ((null != pricerParams && null != pricerParams.calibParams()) || null == cq) return mvFairMeasures;
 
 		double dblCreditBasis = java.lang.Double.NaN;
 		double dblMarketMeasure = java.lang.Double.NaN;
 		org.drip.analytics.definition.CreditCurve ccMarket = null;
 
 		if (cq.containsQuote ("Price"))
-			mapFairMeasures.put ("MarketInputType=Price", dblMarketMeasure = cq.quote ("Price").value
+			mvFairMeasures.set ("MarketInputType=Price", dblMarketMeasure = cq.quote ("Price").value
 				("mid"));
 		else if (cq.containsQuote ("CleanPrice"))
-			mapFairMeasures.put ("MarketInputType=CleanPrice", dblMarketMeasure = cq.quote
+			mvFairMeasures.set ("MarketInputType=CleanPrice", dblMarketMeasure = cq.quote
 				("CleanPrice").value ("mid"));
 		else if (cq.containsQuote ("Upfront"))
-			mapFairMeasures.put ("MarketInputType=Upfront", dblMarketMeasure = cq.quote ("Upfront").value
+			mvFairMeasures.set ("MarketInputType=Upfront", dblMarketMeasure = cq.quote ("Upfront").value
 				("mid"));
 		else if (cq.containsQuote ("FairPremium"))
-			mapFairMeasures.put ("MarketInputType=FairPremium", dblMarketMeasure = cq.quote
+			mvFairMeasures.set ("MarketInputType=FairPremium", dblMarketMeasure = cq.quote
 				("FairPremium").value ("mid"));
 		else if (cq.containsQuote ("PV"))
-			mapFairMeasures.put ("MarketInputType=PV", dblMarketMeasure = cq.quote ("PV").value ("mid"));
+			mvFairMeasures.set ("MarketInputType=PV", dblMarketMeasure = cq.quote ("PV").value ("mid"));
 		else if (cq.containsQuote ("CleanPV"))
-			mapFairMeasures.put ("MarketInputType=CleanPV", dblMarketMeasure = cq.quote ("CleanPV").value
+			mvFairMeasures.set ("MarketInputType=CleanPV", dblMarketMeasure = cq.quote ("CleanPV").value
 				("mid"));
 
 		try {
@@ -752,7 +875,7 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		}
 
 		if (org.drip.quant.common.NumberUtil.IsValid (dblCreditBasis)) {
-			mapFairMeasures.put ("MarketCreditBasis", dblCreditBasis);
+			mvFairMeasures.set ("MarketCreditBasis", dblCreditBasis);
 
 			org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
 
@@ -766,8 +889,6 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 			}
 		}
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = mapFairMeasures;
-
 		if (null != ccMarket) {
 			org.drip.param.market.CurveSurfaceQuoteSet csqsMarket =
 				org.drip.param.creator.MarketParamsBuilder.Create (csqs.fundingCurve (fundingLabel()),
@@ -775,19 +896,181 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 						ccMarket, strName, csqs.productQuote (strName), csqs.quoteMap(), csqs.fixings());
 
 			if (null != csqsMarket) {
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMarketMeasures =
-					measures ("", valParams, pricerParams, csqsMarket, vcp);
+				org.drip.analytics.support.MeasureVector mvMarketMeasures = measures (valParams, pricerParams,
+					csqsMarket, vcp, true, null);
 
-				if (null != mapMarketMeasures) {
-					org.drip.quant.common.CollectionUtil.MergeWithMain (mapMarketMeasures,
-						org.drip.quant.common.CollectionUtil.PrefixKeys (mapMarketMeasures, "Market"));
+				if (null != mvMarketMeasures) {
+					mvMarketMeasures.addPrefixed ("Market");
 
-					org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapMarketMeasures);
+					mvFairMeasures.merge (mvMarketMeasures);
 				}
 			}
 		}
 
-		return mapMeasures;
+		return mvFairMeasures;
+	}
+
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		org.drip.analytics.support.MeasureVector mvMeasures = measureVector (valParams, pricerParams, csqs,
+			vcp);
+
+		return null == mvMeasures ? null : mvMeasures.toMap();
+	}
+
+	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<String> setstrMeasureName)
+	{
+		if (null == setstrMeasureName || null == csqs)
+			return super.value (valParams, pricerParams, csqs, vcp, setstrMeasureName);
+
+		boolean bPeriodLegs = false;
+
+		for (String strMeasure : setstrMeasureName) {
+			if (null != UnprefixedMeasureName (strMeasure, "Market"))
+				return super.value (valParams, pricerParams, csqs, vcp, setstrMeasureName);
+
+			String strFairMeasure = UnprefixedMeasureName (strMeasure, "Fair");
+
+			if (!IsAccrualMeasure (null == strFairMeasure ? strMeasure : strFairMeasure)) bPeriodLegs = true;
+		}
+
+		org.drip.analytics.support.MeasureVector mvFairMeasures = measures (valParams, pricerParams, csqs,
+			vcp, bPeriodLegs, null);
+
+		if (null == mvFairMeasures) return null;
+
+		/*
+		 * With a quote present the market pass overwrites the un-prefixed measures, so they cannot be
+		 * 	served off of the fair pass.
+		 */
+
+		if (null == pricerParams.calibParams() && null != csqs.productQuote (name())) {
+			for (String strMeasure : setstrMeasureName) {
+				if (mvFairMeasures.contains (strMeasure))
+					return super.value (valParams, pricerParams, csqs, vcp, setstrMeasureName);
+			}
+		}
+
+		mvFairMeasures.addPrefixed ("Fair");
+
+		return mvFairMeasures.restrict (setstrMeasureName).toMap();
+	}
+
+	/**
+	 * Compute the Leg Contribution of the Leading Coupon Periods whose Dates all lie on or before the Frozen
+	 * 	Date
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param dblFrozenDate The Frozen Date, past which the Credit Curve may subsequently change
+	 * 
+	 * @return The CDSLegContribution
+	 */
+
+	public org.drip.product.credit.CDSLegContribution legContribution (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final double dblFrozenDate)
+	{
+		if (null == valParams || null == pricerParams || null == csqs ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblFrozenDate))
+			return null;
+
+		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (null == cc || null == dcFunding) return null;
+
+		int iNumPeriod = 0;
+		double[] adblLeg = new double[NUM_LEG];
+
+		double dblValueDate = valParams.valueDate();
+
+		int iDiscretizationScheme = pricerParams.discretizationScheme();
+
+		double[] adblLossLeg = org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC ==
+			iDiscretizationScheme ? new double[org.drip.analytics.support.LossLegIntegrator.NUM_ACCUMULATOR] :
+				null;
+
+		try {
+			for (org.drip.analytics.cashflow.CompositePeriod period : _lsCouponPeriod) {
+				double dblPayDate = period.payDate();
+
+				if (dblPayDate < dblValueDate) continue;
+
+				if (period.endDate() > dblFrozenDate || (pricerParams.survivalToPayDate() && dblPayDate >
+					dblFrozenDate))
+					break;
+
+				if (!periodLegs (period, valParams, pricerParams, csqs, dcFunding, cc, adblLeg, adblLossLeg))
+					return null;
+
+				++iNumPeriod;
+			}
+
+			return new org.drip.product.credit.CDSLegContribution (dblValueDate, dblFrozenDate,
+				iDiscretizationScheme, iNumPeriod, adblLeg, adblLossLeg);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Calculate the value of the given Measure, carrying over the Leg Contribution of the Leading Coupon
+	 * 	Periods and revaluing only the remaining ones
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param legContribution The Leg Contribution of the Leading Coupon Periods (NULL => Full Valuation)
+	 * @param strMeasure Measure String
+	 * 
+	 * @return Double measure value
+	 * 
+	 * @throws java.lang.Exception Thrown if the measure cannot be calculated
+	 */
+
+	public double measureValue (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.product.credit.CDSLegContribution legContribution,
+		final String strMeasure)
+		throws java.lang.Exception
+	{
+		if (null == legContribution || null == pricerParams || null == csqs || null == strMeasure || null !=
+			UnprefixedMeasureName (strMeasure, "Market") || (null == pricerParams.calibParams() && null !=
+				csqs.productQuote (name())))
+			return measureValue (valParams, pricerParams, csqs, vcp, strMeasure);
+
+		org.drip.analytics.support.MeasureVector mvFairMeasures = measures (valParams, pricerParams, csqs,
+			vcp, true, legContribution);
+
+		if (null == mvFairMeasures)
+			throw new java.lang.Exception ("CDSComponent::measureValue => Cannot compute the Measures");
+
+		mvFairMeasures.addPrefixed ("Fair");
+
+		if (!mvFairMeasures.contains (strMeasure))
+			throw new java.lang.Exception ("CDSComponent::measureValue => Invalid Measure: " + strMeasure);
+
+		return mvFairMeasures.get (strMeasure);
 	}
 
 	@Override public java.util.Set<String> measureNames()
@@ -996,6 +1279,80 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		return mapPV;
 	}
 
+	@Override public int adjointPV (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == valParams || null == pricerParams || null == lsat)
+			throw new java.lang.Exception ("CDSComponent::adjointPV => Invalid Inputs");
+
+		if (org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_ANALYTIC ==
+			pricerParams.discretizationScheme())
+			throw new java.lang.Exception
+				("CDSComponent::adjointPV => Analytic Loss Integration not supported");
+
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = lsat.csqs();
+
+		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (null == cc || null == dcFunding)
+			throw new java.lang.Exception ("CDSComponent::adjointPV => No Credit/Funding Curve");
+
+		org.drip.quant.calculus.AdjointTape tape = lsat.tape();
+
+		double dblValueDate = valParams.valueDate();
+
+		int iLossPV = tape.leaf (0.);
+
+		int iDirtyDV01 = tape.leaf (0.);
+
+		for (org.drip.analytics.cashflow.CompositePeriod period : _lsCouponPeriod) {
+			double dblPayDate = period.payDate();
+
+			if (dblPayDate < dblValueDate) continue;
+
+			double dblEndDate = period.endDate();
+
+			iDirtyDV01 = tape.linear (iDirtyDV01, 1., tape.multiply (lsat.df (dcFunding, dblPayDate),
+				lsat.survival (cc, pricerParams.survivalToPayDate() ? dblPayDate : dblEndDate)), 0.01 *
+					period.couponDCF() * notional (period.startDate(), dblValueDate));
+
+			for (org.drip.analytics.cashflow.LossQuadratureMetrics lp : period.lossMetrics (this, valParams,
+				pricerParams, dblEndDate, csqs)) {
+				if (null == lp) continue;
+
+				double dblSubPeriodEnd = lp.end();
+
+				double dblSubPeriodStart = lp.start();
+
+				double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
+
+				double dblRec = _crValParams.useCurveRecovery() ? cc.effectiveRecovery (dblSubPeriodStart,
+					dblSubPeriodEnd) : _crValParams.recovery();
+
+				int iSubPeriodDefault = tape.multiply (tape.subtract (lsat.survival (cc, dblSubPeriodStart),
+					lsat.survival (cc, dblSubPeriodEnd)), lsat.effectiveDF (dcFunding, dblSubPeriodStart +
+						_crValParams.lossPayLag(), dblSubPeriodEnd + _crValParams.lossPayLag()));
+
+				iLossPV = tape.linear (iLossPV, 1., iSubPeriodDefault, (1. - dblRec) * 100. *
+					dblSubPeriodNotional);
+
+				iDirtyDV01 = tape.linear (iDirtyDV01, 1., iSubPeriodDefault, 0.01 * lp.accrualDCF() *
+					dblSubPeriodNotional);
+			}
+		}
+
+		int iCashPayDF = lsat.df (dcFunding, null == _settleParams ? valParams.cashPayDate() :
+			_settleParams.cashSettleDate (dblValueDate));
+
+		return tape.affine (tape.divide (tape.linear (iDirtyDV01, 10000. * _dblCoupon, iLossPV, -1.),
+			iCashPayDF), _dblNotional * 0.01, 0.);
+	}
+
 	@Override public org.drip.quant.calculus.WengertJacobian jackDDirtyPVDManifestMeasure (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
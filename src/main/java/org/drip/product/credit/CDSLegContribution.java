@@ -0,0 +1,146 @@
+
+package org.drip.product.credit;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CDSLegContribution holds the Premium and the Protection Leg Sums of the Leading Coupon Periods of a CDS
+ * 	whose Dates all lie on or before a Frozen Date. Re-valuations that only move the Credit Curve past the
+ * 	Frozen Date - as is the case when bootstrapping the Hazard Rate Nodes in sequence - carry these Sums
+ * 	over and revalue only the remaining Periods.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CDSLegContribution {
+	private int _iNumPeriod = 0;
+	private double[] _adblLeg = null;
+	private double[] _adblLossLeg = null;
+	private int _iDiscretizationScheme = -1;
+	private double _dblValueDate = java.lang.Double.NaN;
+	private double _dblFrozenDate = java.lang.Double.NaN;
+
+	/**
+	 * CDSLegContribution Constructor
+	 * 
+	 * @param dblValueDate The Valuation Date
+	 * @param dblFrozenDate The Frozen Date
+	 * @param iDiscretizationScheme The Loss Discretization Scheme
+	 * @param iNumPeriod Number of the Leading (Live) Coupon Periods covered
+	 * @param adblLeg Array of the Leg Sums of the covered Periods
+	 * @param adblLossLeg Array of the Analytic Loss Leg Accumulators of the covered Periods (NULL => The
+	 * 	Discretization Scheme is not Analytic)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CDSLegContribution (
+		final double dblValueDate,
+		final double dblFrozenDate,
+		final int iDiscretizationScheme,
+		final int iNumPeriod,
+		final double[] adblLeg,
+		final double[] adblLossLeg)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblValueDate = dblValueDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblFrozenDate = dblFrozenDate) || 0 > (_iNumPeriod =
+				iNumPeriod) || null == (_adblLeg = adblLeg) || !org.drip.quant.common.NumberUtil.IsValid
+					(_adblLeg))
+			throw new java.lang.Exception ("CDSLegContribution ctr: Invalid Inputs");
+
+		_adblLossLeg = adblLossLeg;
+		_iDiscretizationScheme = iDiscretizationScheme;
+	}
+
+	/**
+	 * Retrieve the Valuation Date
+	 * 
+	 * @return The Valuation Date
+	 */
+
+	public double valueDate()
+	{
+		return _dblValueDate;
+	}
+
+	/**
+	 * Retrieve the Frozen Date
+	 * 
+	 * @return The Frozen Date
+	 */
+
+	public double frozenDate()
+	{
+		return _dblFrozenDate;
+	}
+
+	/**
+	 * Retrieve the Loss Discretization Scheme
+	 * 
+	 * @return The Loss Discretization Scheme
+	 */
+
+	public int discretizationScheme()
+	{
+		return _iDiscretizationScheme;
+	}
+
+	/**
+	 * Retrieve the Number of the Leading (Live) Coupon Periods covered
+	 * 
+	 * @return The Number of the Leading (Live) Coupon Periods covered
+	 */
+
+	public int numPeriod()
+	{
+		return _iNumPeriod;
+	}
+
+	/**
+	 * Retrieve a Copy of the Leg Sums of the covered Periods
+	 * 
+	 * @return Copy of the Leg Sums
+	 */
+
+	public double[] leg()
+	{
+		return _adblLeg.clone();
+	}
+
+	/**
+	 * Retrieve a Copy of the Analytic Loss Leg Accumulators of the covered Periods
+	 * 
+	 * @return Copy of the Analytic Loss Leg Accumulators (NULL => The Discretization Scheme is not Analytic)
+	 */
+
+	public double[] lossLeg()
+	{
+		return null == _adblLossLeg ? null : _adblLossLeg.clone();
+	}
+}
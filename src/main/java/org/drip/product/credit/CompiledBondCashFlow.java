@@ -0,0 +1,391 @@
+
+package org.drip.product.credit;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CompiledBondCashFlow holds the Yield Cash Flows of a Bond to a Work-out, compiled off of its Coupon
+ * 	Periods for a given Valuation Date and Market Parameters into flat Arrays of the Pay Dates, the Yield
+ * 	Year Fractions, the Coupon Amounts, and the Period Start/End Notionals, along with the Work-out
+ * 	Redemption, the Cash Pay Year Fraction, and the Accrued. The Price off of a Yield is re-evaluated off
+ * 	of these Arrays in exactly the same Sequence of Operations as BondComponent.priceFromYield used to
+ * 	walk the Periods in, so that the Two agree to the Bit.
+ * 
+ * With g = 1 + y / f, and the Cash Flows a_k discounted to the Cash Pay Date over the Year Fractions
+ * 	tau_k = t_k - t_cash, the Dirty Value is Q (y) = sum (a_k * g^(-f * tau_k)), so that
+ * 	- dQ/dy = - sum (a_k * tau_k * g^(-f * tau_k - 1))
+ * 	- d2Q/dy2 = sum (a_k * tau_k * (f * tau_k + 1) / f * g^(-f * tau_k - 2))
+ * 	These drive the Halley Yield Solver, and give the Analytic Modified/Macaulay Duration and Convexity as
+ * 	By-products.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledBondCashFlow {
+	private static final int MAX_YIELD_ITERATION = 50;
+	private static final double YIELD_TOLERANCE = 1.e-12;
+
+	private int _iFrequency = 2;
+	private double[] _adblTime = null;
+	private double[] _adblPayDate = null;
+	private double[] _adblCashFlow = null;
+	private double[] _adblEndNotional = null;
+	private double[] _adblCouponAmount = null;
+	private double[] _adblStartNotional = null;
+	private double _dblAccrued = java.lang.Double.NaN;
+	private double _dblWorkoutTime = java.lang.Double.NaN;
+	private double _dblCashPayTime = java.lang.Double.NaN;
+	private double _dblWorkoutFactor = java.lang.Double.NaN;
+	private double _dblCouponCumulative = java.lang.Double.NaN;
+	private double _dblWorkoutNotional = java.lang.Double.NaN;
+	private double _dblScalingNotional = java.lang.Double.NaN;
+
+	/**
+	 * CompiledBondCashFlow Constructor
+	 * 
+	 * @param iFrequency The Yield Frequency (0 => Semi-annual)
+	 * @param adblPayDate Array of the Cash Flow Pay Dates
+	 * @param adblTime Array of the Cash Flow Yield Year Fractions
+	 * @param adblCouponAmount Array of the Coupon Amounts (Accrual DCF x Coupon x Coupon Notional)
+	 * @param adblStartNotional Array of the Period Start Notionals
+	 * @param adblEndNotional Array of the Period End Notionals
+	 * @param dblCouponCumulative The Cumulative Coupon Factor applied to each Cash Flow Discount Factor
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * @param dblWorkoutNotional The Notional at the Work-out Date
+	 * @param dblWorkoutTime The Work-out Yield Year Fraction
+	 * @param dblCashPayTime The Cash Pay Yield Year Fraction
+	 * @param dblAccrued The Accrued
+	 * @param dblScalingNotional The Notional the Price is scaled by
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CompiledBondCashFlow (
+		final int iFrequency,
+		final double[] adblPayDate,
+		final double[] adblTime,
+		final double[] adblCouponAmount,
+		final double[] adblStartNotional,
+		final double[] adblEndNotional,
+		final double dblCouponCumulative,
+		final double dblWorkoutFactor,
+		final double dblWorkoutNotional,
+		final double dblWorkoutTime,
+		final double dblCashPayTime,
+		final double dblAccrued,
+		final double dblScalingNotional)
+		throws java.lang.Exception
+	{
+		if (null == (_adblPayDate = adblPayDate) || null == (_adblTime = adblTime) || null ==
+			(_adblCouponAmount = adblCouponAmount) || null == (_adblStartNotional = adblStartNotional) || null
+				== (_adblEndNotional = adblEndNotional) || _adblPayDate.length != _adblTime.length ||
+					_adblPayDate.length != _adblCouponAmount.length || _adblPayDate.length !=
+						_adblStartNotional.length || _adblPayDate.length != _adblEndNotional.length ||
+							!org.drip.quant.common.NumberUtil.IsValid (_dblWorkoutTime = dblWorkoutTime) ||
+								!org.drip.quant.common.NumberUtil.IsValid (_dblCashPayTime = dblCashPayTime))
+			throw new java.lang.Exception ("CompiledBondCashFlow ctr: Invalid Inputs");
+
+		_dblAccrued = dblAccrued;
+		_dblWorkoutFactor = dblWorkoutFactor;
+		_dblWorkoutNotional = dblWorkoutNotional;
+		_dblScalingNotional = dblScalingNotional;
+		_dblCouponCumulative = dblCouponCumulative;
+		_iFrequency = 0 == iFrequency ? 2 : iFrequency;
+		_adblCashFlow = new double[_adblPayDate.length];
+
+		for (int i = 0; i < _adblPayDate.length; ++i)
+			_adblCashFlow[i] = _adblCouponAmount[i] + _adblStartNotional[i] - _adblEndNotional[i];
+	}
+
+	/**
+	 * Retrieve the Yield Frequency
+	 * 
+	 * @return The Yield Frequency
+	 */
+
+	public int frequency()
+	{
+		return _iFrequency;
+	}
+
+	/**
+	 * Retrieve the Number of the Cash Flows
+	 * 
+	 * @return The Number of the Cash Flows
+	 */
+
+	public int numCashFlow()
+	{
+		return _adblPayDate.length;
+	}
+
+	/**
+	 * Retrieve a Copy of the Cash Flow Pay Dates
+	 * 
+	 * @return Copy of the Cash Flow Pay Dates
+	 */
+
+	public double[] payDate()
+	{
+		return _adblPayDate.clone();
+	}
+
+	/**
+	 * Retrieve a Copy of the Cash Flow Yield Year Fractions
+	 * 
+	 * @return Copy of the Cash Flow Yield Year Fractions
+	 */
+
+	public double[] time()
+	{
+		return _adblTime.clone();
+	}
+
+	/**
+	 * Retrieve a Copy of the Coupon Amounts
+	 * 
+	 * @return Copy of the Coupon Amounts
+	 */
+
+	public double[] couponAmount()
+	{
+		return _adblCouponAmount.clone();
+	}
+
+	/**
+	 * Retrieve a Copy of the Period Start Notionals
+	 * 
+	 * @return Copy of the Period Start Notionals
+	 */
+
+	public double[] startNotional()
+	{
+		return _adblStartNotional.clone();
+	}
+
+	/**
+	 * Retrieve a Copy of the Period End Notionals
+	 * 
+	 * @return Copy of the Period End Notionals
+	 */
+
+	public double[] endNotional()
+	{
+		return _adblEndNotional.clone();
+	}
+
+	/**
+	 * Retrieve the Work-out Yield Year Fraction
+	 * 
+	 * @return The Work-out Yield Year Fraction
+	 */
+
+	public double workoutTime()
+	{
+		return _dblWorkoutTime;
+	}
+
+	/**
+	 * Retrieve the Accrued
+	 * 
+	 * @return The Accrued
+	 */
+
+	public double accrued()
+	{
+		return _dblAccrued;
+	}
+
+	/**
+	 * Compute the Price off of the Yield
+	 * 
+	 * @param dblYield The Yield
+	 * 
+	 * @return The Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Price cannot be computed
+	 */
+
+	public double price (
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		double dblYieldPV = 0.;
+
+		for (int i = 0; i < _adblCashFlow.length; ++i)
+			dblYieldPV += _adblCashFlow[i] * (org.drip.analytics.support.AnalyticsHelper.Yield2DF
+				(_iFrequency, dblYield, _adblTime[i]) * _dblCouponCumulative);
+
+		return (((dblYieldPV + _dblWorkoutFactor * org.drip.analytics.support.AnalyticsHelper.Yield2DF
+			(_iFrequency, dblYield, _dblWorkoutTime) * _dblWorkoutNotional) /
+				org.drip.analytics.support.AnalyticsHelper.Yield2DF (_iFrequency, dblYield,
+					_dblCashPayTime)) - _dblAccrued) / _dblScalingNotional;
+	}
+
+	/**
+	 * Compute the Dirty Value (Price x Scaling Notional + Accrued) and its First and Second Yield
+	 * 	Derivatives
+	 * 
+	 * @param dblYield The Yield
+	 * 
+	 * @return Array of the Dirty Value, its First, and its Second Yield Derivatives
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double[] dirtyValueDerivatives (
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		double dblGrowth = 1. + dblYield / _iFrequency;
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblGrowth) || 0. >= dblGrowth)
+			throw new java.lang.Exception ("CompiledBondCashFlow::dirtyValueDerivatives => Invalid Yield");
+
+		double dblLogGrowth = java.lang.Math.log (dblGrowth);
+
+		double[] adblDerivative = new double[] {0., 0., 0.};
+
+		for (int i = 0; i <= _adblCashFlow.length; ++i) {
+			double dblAmount = i < _adblCashFlow.length ? _adblCashFlow[i] * _dblCouponCumulative :
+				_dblWorkoutFactor * _dblWorkoutNotional;
+
+			double dblTau = (i < _adblCashFlow.length ? _adblTime[i] : _dblWorkoutTime) - _dblCashPayTime;
+
+			double dblPV = dblAmount * java.lang.Math.exp (-_iFrequency * dblTau * dblLogGrowth);
+
+			adblDerivative[0] += dblPV;
+			adblDerivative[1] -= dblPV * dblTau / dblGrowth;
+			adblDerivative[2] += dblPV * dblTau * (_iFrequency * dblTau + 1.) / (_iFrequency * dblGrowth *
+				dblGrowth);
+		}
+
+		return adblDerivative;
+	}
+
+	/**
+	 * Solve for the Yield off of the Price using Halley's Method on the Analytic Derivatives
+	 * 
+	 * @param dblPrice The Price
+	 * @param dblYieldStart The Starting Yield
+	 * 
+	 * @return The Yield
+	 * 
+	 * @throws java.lang.Exception Thrown if the Solver does not converge
+	 */
+
+	public double yieldFromPrice (
+		final double dblPrice,
+		final double dblYieldStart)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblPrice) || !org.drip.quant.common.NumberUtil.IsValid
+			(dblYieldStart))
+			throw new java.lang.Exception ("CompiledBondCashFlow::yieldFromPrice => Invalid Inputs");
+
+		double dblYield = dblYieldStart;
+
+		for (int i = 0; i < MAX_YIELD_ITERATION; ++i) {
+			double dblObjective = price (dblYield) - dblPrice;
+
+			if (0. == dblObjective) return dblYield;
+
+			double[] adblDerivative = dirtyValueDerivatives (dblYield);
+
+			double dblSlope = adblDerivative[1] / _dblScalingNotional;
+			double dblCurvature = adblDerivative[2] / _dblScalingNotional;
+
+			double dblStep = 2. * dblObjective * dblSlope / (2. * dblSlope * dblSlope - dblObjective *
+				dblCurvature);
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblStep))
+				throw new java.lang.Exception ("CompiledBondCashFlow::yieldFromPrice => Invalid Step");
+
+			dblYield -= dblStep;
+
+			if (java.lang.Math.abs (dblStep) < YIELD_TOLERANCE) return dblYield;
+		}
+
+		throw new java.lang.Exception ("CompiledBondCashFlow::yieldFromPrice => Cannot converge");
+	}
+
+	/**
+	 * Compute the Analytic Modified Duration at the Yield
+	 * 
+	 * @param dblYield The Yield
+	 * 
+	 * @return The Analytic Modified Duration
+	 * 
+	 * @throws java.lang.Exception Thrown if the Modified Duration cannot be computed
+	 */
+
+	public double modifiedDuration (
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		double[] adblDerivative = dirtyValueDerivatives (dblYield);
+
+		return -1. * adblDerivative[1] / adblDerivative[0];
+	}
+
+	/**
+	 * Compute the Analytic Macaulay Duration at the Yield
+	 * 
+	 * @param dblYield The Yield
+	 * 
+	 * @return The Analytic Macaulay Duration
+	 * 
+	 * @throws java.lang.Exception Thrown if the Macaulay Duration cannot be computed
+	 */
+
+	public double macaulayDuration (
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		return modifiedDuration (dblYield) * (1. + dblYield / _iFrequency);
+	}
+
+	/**
+	 * Compute the Analytic Convexity at the Yield
+	 * 
+	 * @param dblYield The Yield
+	 * 
+	 * @return The Analytic Convexity
+	 * 
+	 * @throws java.lang.Exception Thrown if the Convexity cannot be computed
+	 */
+
+	public double convexity (
+		final double dblYield)
+		throws java.lang.Exception
+	{
+		double[] adblDerivative = dirtyValueDerivatives (dblYield);
+
+		return adblDerivative[2] / adblDerivative[0];
+	}
+}
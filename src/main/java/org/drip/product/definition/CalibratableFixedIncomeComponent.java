@@ -106,6 +106,60 @@ public abstract class CalibratableFixedIncomeComponent extends
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp);
 
+	/**
+	 * Record the PV of the Component on the Adjoint Tape
+	 * 
+	 * @param valParams Valuation Parameters
+	 * @param pricerParams Pricer Parameters
+	 * @param lsat The Latent State Adjoint Tape
+	 * 
+	 * @return Index of the PV Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the PV cannot be recorded (or the Component does not support it)
+	 */
+
+	public int adjointPV (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		throw new java.lang.Exception ("CalibratableFixedIncomeComponent::adjointPV => Not supported for " +
+			name());
+	}
+
+	/**
+	 * Compute the Sensitivities of the PV to the Manifest Measures of every Curve the Component reads, off
+	 * 	of a single recorded Valuation and a single Backward Sweep
+	 * 
+	 * @param valParams Valuation Parameters
+	 * @param pricerParams Pricer Parameters
+	 * @param csqs Component Market Parameters
+	 * @param strManifestMeasure The Manifest Measure
+	 * 
+	 * @return The AdjointSensitivity of the PV (NULL if any Curve read does not expose its Leaf Jacobian)
+	 */
+
+	public org.drip.analytics.output.AdjointSensitivity adjointPVSensitivity (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final String strManifestMeasure)
+	{
+		if (null == csqs) return null;
+
+		try {
+			org.drip.param.market.LatentStateAdjointTape lsat = new
+				org.drip.param.market.LatentStateAdjointTape (csqs);
+
+			return lsat.sensitivity (adjointPV (valParams, pricerParams, lsat), strManifestMeasure);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Compute the micro-Jacobian of the given measure to the DF
 	 * 
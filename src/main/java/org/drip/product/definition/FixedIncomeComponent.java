@@ -67,6 +67,100 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 			strMeasure);
 	}
 
+	private static final String[] FLAT_SCENARIO = new String[] {"FlatCreditBump", "RRBump", "IRCreditBump"};
+
+	private static final String[] AddTenorScenarios (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
+			mapTenorCSQS,
+		final java.util.List<org.drip.param.market.CurveSurfaceQuoteSet> lsScenarioCSQS)
+	{
+		if (null == mapTenorCSQS) return new String[0];
+
+		String[] astrTenor = mapTenorCSQS.keySet().toArray (new String[mapTenorCSQS.size()]);
+
+		for (String strTenor : astrTenor)
+			lsScenarioCSQS.add (mapTenorCSQS.get (strTenor));
+
+		return astrTenor;
+	}
+
+	private static final
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+		TenorScenarioMeasures (
+		final String[] astrTenor,
+		final org.drip.analytics.support.MeasureVector[] aMVScenario,
+		final int iOffset)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector> mapMV =
+			new org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>();
+
+		for (int i = 0; i < astrTenor.length; ++i) {
+			if (null != aMVScenario[iOffset + i]) mapMV.put (astrTenor[i], aMVScenario[iOffset + i]);
+		}
+
+		return mapMV;
+	}
+
+	private static final
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>
+		TenorDelta (
+		final
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+				mapUpMV,
+		final org.drip.analytics.support.MeasureVector mvBase)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>
+			mapTenorDelta = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>();
+
+		for (java.util.Map.Entry<String, org.drip.analytics.support.MeasureVector> meUp :
+			mapUpMV.entrySet()) {
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapDelta =
+				org.drip.product.definition.ScenarioValuationEngine.Delta (meUp.getValue(), mvBase);
+
+			if (null != mapDelta) mapTenorDelta.put (meUp.getKey(), mapDelta);
+		}
+
+		return mapTenorDelta;
+	}
+
+	private static final
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>
+		TenorGamma (
+		final
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+				mapDnMV,
+		final
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+				mapUpMV,
+		final org.drip.analytics.support.MeasureVector mvBase)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>
+			mapTenorGamma = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>();
+
+		for (java.util.Map.Entry<String, org.drip.analytics.support.MeasureVector> meDn :
+			mapDnMV.entrySet()) {
+			String strTenor = meDn.getKey();
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapGamma =
+				org.drip.product.definition.ScenarioValuationEngine.TenorGamma (meDn.getValue(), mapUpMV.get
+					(strTenor), mvBase);
+
+			if (null != mapGamma) mapTenorGamma.put (strTenor, mapGamma);
+		}
+
+		return mapTenorGamma;
+	}
+
+	protected static final String UnprefixedMeasureName (
+		final String strMeasure,
+		final String strPrefix)
+	{
+		return null == strMeasure || strMeasure.length() <= strPrefix.length() || !strMeasure.regionMatches
+			(true, 0, strPrefix, 0, strPrefix.length()) ? null : strMeasure.substring (strPrefix.length());
+	}
+
 	protected boolean adjustForCashSettle (
 		final double dblSettleDate,
 		final double dblPV,
@@ -224,6 +318,55 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp);
 
+	/**
+	 * Generate the full set of the Product measures as a MeasureVector. The default implementation wraps the
+	 * 	measure map; components override it to fill the vector directly.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * 
+	 * @return The MeasureVector of the Product measures
+	 */
+
+	public org.drip.analytics.support.MeasureVector measureVector (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		return org.drip.analytics.support.MeasureVector.FromMap (value (valParams, pricerParams, csqs, vcp));
+	}
+
+	/**
+	 * Generate the Product measures restricted to the requested set of measure names. The default
+	 * 	implementation filters the full measure set; components override it to skip the intermediate
+	 * 	quantities (and the market calibration passes) that none of the requested measures depend on.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param setstrMeasureName Set of the requested measure names (null => all measures)
+	 * 
+	 * @return Map of the requested measure name and value
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<String> setstrMeasureName)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = value (valParams,
+			pricerParams, csqs, vcp);
+
+		return null == setstrMeasureName ? mapMeasures :
+			org.drip.quant.common.CollectionUtil.RestrictKeys (mapMeasures, setstrMeasureName);
+	}
+
 	/**
 	 * Retrieve the ordered set of the measure names whose values will be calculated
 	 * 
@@ -273,7 +416,8 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 		final String strMeasure)
 		throws java.lang.Exception
 	{
-		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp));
+		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp,
+			java.util.Collections.singleton (strMeasure)));
 	}
 
 	/**
@@ -293,6 +437,33 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.definition.ScenarioMarketParams mpc,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		return measures (valParams, pricerParams, mpc, vcp, null);
+	}
+
+	/**
+	 * Generate a full list of the Product's measures for the set of scenario market parameters present in
+	 * 	the org.drip.param.definition.MarketParams. The Flat and the Tenor Bumped Scenarios are valued as a
+	 * 	single Batch by the Scenario Valuation Engine, and the Deltas/Gammas are assembled in the Scenario
+	 * 	Order once the Batch is complete. The Engine's Delta Measure Set cuts the Scenario Valuation Work
+	 * 	only for the Components that override the Restricted value (CDSComponent and BondComponent); the
+	 * 	Rates/FX Components still compute every Measure per Scenario before filtering.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param mpc org.drip.param.definition.MarketParams
+	 * @param vcp Valuation Customization Parameters
+	 * @param sve The Scenario Valuation Engine (NULL => Value all the Measures serially)
+	 * 
+	 * @return ComponentOutput object
+	 */
+
+	public org.drip.analytics.output.ComponentMeasures measures (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.product.definition.ScenarioValuationEngine sve)
 	{
 		if (null == valParams || null == mpc) return null;
 
@@ -305,290 +476,87 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 
 		long lStart = System.nanoTime();
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBaseMeasures = value
-			(valParams, pricerParams, csqsBase, vcp);
-
-		if (!compOp.setBaseMeasures (mapBaseMeasures)) return null;
-
-		org.drip.param.market.CurveSurfaceQuoteSet csqsFlatCreditBumpUp = mpc.scenarioMarketParams (this,
-			"FlatCreditBumpUp");
-
-		if (null != csqsFlatCreditBumpUp) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFlatCreditBumpUpMeasures =
-				value (valParams, pricerParams, csqsFlatCreditBumpUp, vcp);
-
-			java.util.Set<java.util.Map.Entry<String, java.lang.Double>> mapFlatCreditBumpUpES =
-				null == mapFlatCreditBumpUpMeasures ? null : mapFlatCreditBumpUpMeasures.entrySet();
-
-			if (null != mapFlatCreditBumpUpES && 0 != mapFlatCreditBumpUpES.size()) {
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>
-					mapFlatCreditDeltaMeasures = new
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-				for (java.util.Map.Entry<String, java.lang.Double> me : mapFlatCreditBumpUpES) {
-					String strKey = me.getKey();
-
-					mapFlatCreditDeltaMeasures.put (strKey, me.getValue() - mapBaseMeasures.get (strKey));
-				}
-
-				org.drip.param.market.CurveSurfaceQuoteSet csqsFlatCreditBumpDown = mpc.scenarioMarketParams
-					(this, "FlatCreditBumpDn");
-
-				if (compOp.setFlatCreditDeltaMeasures (mapFlatCreditDeltaMeasures) && null !=
-					csqsFlatCreditBumpDown) {
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>
-						mapFlatCreditBumpDownMeasures = value (valParams, pricerParams,
-							csqsFlatCreditBumpDown, vcp);
-
-					java.util.Set<java.util.Map.Entry<String, java.lang.Double>>
-						mapFlatCreditBumpDownES = null == mapFlatCreditBumpDownMeasures ? null :
-							mapFlatCreditBumpDownMeasures.entrySet();
-
-					if (null != mapFlatCreditBumpDownES && 0 != mapFlatCreditBumpDownES.size()) {
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>
-							mapFlatCreditGammaMeasures = new
-								org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-						for (java.util.Map.Entry<String, java.lang.Double> me :
-							mapFlatCreditBumpDownES) {
-							String strKey = me.getKey();
-
-							mapFlatCreditGammaMeasures.put (strKey, me.getValue() +
-								mapFlatCreditBumpUpMeasures.get (strKey) - 2. * mapBaseMeasures.get
-									(strKey));
-						}
-
-						compOp.setFlatCreditGammaMeasures (mapFlatCreditGammaMeasures);
-					}
-				}
-			}
-		}
-
-		org.drip.param.market.CurveSurfaceQuoteSet csqsRRBumpUp = mpc.scenarioMarketParams (this, "RRBumpUp");
-
-		if (null != csqsRRBumpUp) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapRRBumpUpMeasures = value
-				(valParams, pricerParams, csqsRRBumpUp, vcp);
-
-			java.util.Set<java.util.Map.Entry<String, java.lang.Double>> mapRRBumpUpES = null ==
-				mapRRBumpUpMeasures ? null : mapRRBumpUpMeasures.entrySet();
-
-			if (null != mapRRBumpUpES && 0 != mapRRBumpUpES.size()) {
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFlatRRDeltaMeasures =
-					new org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-				for (java.util.Map.Entry<String, java.lang.Double> me : mapRRBumpUpES) {
-					String strKey = me.getKey();
-
-					mapFlatRRDeltaMeasures.put (strKey, me.getValue() - mapBaseMeasures.get (strKey));
-				}
-
-				org.drip.param.market.CurveSurfaceQuoteSet csqsRRBumpDown = mpc.scenarioMarketParams (this,
-					"RRBumpDn");
+		org.drip.analytics.support.MeasureVector mvBase = measureVector (valParams, pricerParams, csqsBase,
+			vcp);
 
-				if (compOp.setFlatRRDeltaMeasures (mapFlatRRDeltaMeasures) && null != csqsRRBumpDown) {
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapRRBumpDownMeasures
-						= value (valParams, pricerParams, csqsRRBumpDown, vcp);
+		if (!compOp.setBaseMeasures (mvBase)) return null;
 
-					java.util.Set<java.util.Map.Entry<String, java.lang.Double>> mapRRBumpDownES =
-						null == mapRRBumpDownMeasures ? null : mapRRBumpDownMeasures.entrySet();
+		java.util.List<org.drip.param.market.CurveSurfaceQuoteSet> lsScenarioCSQS = new
+			java.util.ArrayList<org.drip.param.market.CurveSurfaceQuoteSet>();
 
-					if (null != mapRRBumpDownES && 0 != mapRRBumpDownES.size()) {
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>
-							mapFlatRRGammaMeasures = new
-								org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		for (String strFlatScenario : FLAT_SCENARIO) {
+			lsScenarioCSQS.add (mpc.scenarioMarketParams (this, strFlatScenario + "Up"));
 
-						for (java.util.Map.Entry<String, java.lang.Double> me : mapRRBumpDownES) {
-							String strKey = me.getKey();
-
-							mapFlatRRGammaMeasures.put (strKey, me.getValue() + mapRRBumpUpMeasures.get
-								(strKey) - 2. * mapBaseMeasures.get (strKey));
-						}
-
-						compOp.setFlatRRGammaMeasures (mapFlatRRGammaMeasures);
-					}
-				}
-			}
-		}
-
-		org.drip.param.market.CurveSurfaceQuoteSet csqsIRCreditBumpUp = mpc.scenarioMarketParams (this,
-			"IRCreditBumpUp");
-
-		if (null != csqsIRCreditBumpUp) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapIRCreditBumpUpMeasures =
-				value (valParams, pricerParams, csqsIRCreditBumpUp, vcp);
-
-			java.util.Set<java.util.Map.Entry<String, java.lang.Double>> mapIRCreditBumpUpES = null
-				== mapIRCreditBumpUpMeasures ? null : mapIRCreditBumpUpMeasures.entrySet();
-
-			if (null != mapIRCreditBumpUpES && 0 != mapIRCreditBumpUpES.size()) {
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFlatIRDeltaMeasures =
-					new org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-				for (java.util.Map.Entry<String, java.lang.Double> me : mapIRCreditBumpUpES) {
-					String strKey = me.getKey();
-
-					mapFlatIRDeltaMeasures.put (strKey, me.getValue() - mapBaseMeasures.get (strKey));
-				}
-
-				org.drip.param.market.CurveSurfaceQuoteSet csqsIRCreditBumpDown = mpc.scenarioMarketParams (this,
-					"IRCreditBumpDn");
-
-				if (compOp.setFlatIRDeltaMeasures (mapFlatIRDeltaMeasures) && null != csqsIRCreditBumpDown) {
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>
-						mapIRCreditBumpDownMeasures = value (valParams, pricerParams, csqsIRCreditBumpDown,
-							vcp);
-
-					java.util.Set<java.util.Map.Entry<String, java.lang.Double>>
-						mapIRCreditBumpDownES = null == mapIRCreditBumpDownMeasures ? null :
-							mapIRCreditBumpDownMeasures.entrySet();
-
-					if (null != mapIRCreditBumpDownES && 0 != mapIRCreditBumpDownES.size()) {
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>
-							mapFlatIRGammaMeasures = new
-								org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-						for (java.util.Map.Entry<String, java.lang.Double> me :
-							mapIRCreditBumpDownES) {
-							String strKey = me.getKey();
-
-							mapFlatIRGammaMeasures.put (strKey, me.getValue() +
-								mapIRCreditBumpUpMeasures.get (strKey) - 2. * mapBaseMeasures.get (strKey));
-						}
-
-						compOp.setFlatIRGammaMeasures (mapFlatIRGammaMeasures);
-					}
-				}
-			}
+			lsScenarioCSQS.add (null == lsScenarioCSQS.get (lsScenarioCSQS.size() - 1) ? null :
+				mpc.scenarioMarketParams (this, strFlatScenario + "Dn"));
 		}
 
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
 			mapCCTenorUpCSQS = mpc.creditTenorMarketParams (this, true);
 
-		if (null != mapCCTenorUpCSQS) {
-			compOp.setTenorCreditDeltaMeasures (new
-				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>());
-
-			if (null != mapCCTenorUpCSQS && null != mapCCTenorUpCSQS.entrySet()) {
-				for (java.util.Map.Entry<String, org.drip.param.market.CurveSurfaceQuoteSet>
-					meTenorUpMP : mapCCTenorUpCSQS.entrySet()) {
-					if (null == meTenorUpMP || null == meTenorUpMP.getValue()) continue;
-
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCCTenorUp = value
-						(valParams, pricerParams, meTenorUpMP.getValue(), vcp);
-
-					if (null == mapCCTenorUp || null == mapCCTenorUp.entrySet()) continue;
-
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCalcUp = new
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-					for (java.util.Map.Entry<String, java.lang.Double> me :
-						mapCCTenorUp.entrySet()) {
-						String strKey = me.getKey();
-
-						mapCalcUp.put (strKey, me.getValue() - mapBaseMeasures.get (strKey));
-					}
-
-					compOp.tenorCreditDeltaMeasures().put (meTenorUpMP.getKey(), mapCalcUp);
-				}
-
-				if (null != mpc.creditTenorMarketParams (this, false)) {
-					compOp.setTenorCreditGammaMeasures (new
-						org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>());
-
-					org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-						mapCCTenorDnCSQS = mpc.creditTenorMarketParams (this, false);
-
-					if (null != mapCCTenorDnCSQS && null != mapCCTenorDnCSQS.entrySet()) {
-						for (java.util.Map.Entry<String,
-							org.drip.param.market.CurveSurfaceQuoteSet> meTenorDnMP :
-								mapCCTenorDnCSQS.entrySet()) {
-							if (null == meTenorDnMP || null == meTenorDnMP.getValue()) continue;
-
-							org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCCTenorDn
-								= value (valParams, pricerParams, meTenorDnMP.getValue(), vcp);
-
-							if (null == mapCCTenorDn || null == mapCCTenorDn.entrySet()) continue;
-
-							org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCalcDn =
-								new org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-							for (java.util.Map.Entry<String, java.lang.Double> me :
-								mapCCTenorDn.entrySet()) {
-								String strKey = me.getKey();
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
+			mapCCTenorDnCSQS = null == mapCCTenorUpCSQS ? null : mpc.creditTenorMarketParams (this, false);
 
-								mapCalcDn.put (strKey, me.getValue() - mapBaseMeasures.get (strKey) +
-									compOp.tenorCreditDeltaMeasures().get (meTenorDnMP.getKey()).get
-										(strKey));
-							}
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
+			mapIRTenorUpCSQS = mpc.fundingTenorMarketParams (this, true);
 
-							compOp.tenorCreditGammaMeasures().put (meTenorDnMP.getKey(), mapCalcDn);
-						}
-					}
-				}
-			}
-		}
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
+			mapIRTenorDnCSQS = null == mapIRTenorUpCSQS ? null : mpc.fundingTenorMarketParams (this, false);
 
-		if (null != mpc.fundingTenorMarketParams (this, true)) {
-			compOp.setTenorIRDeltaMeasures (new
-				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>());
+		String[] astrCCTenorUp = AddTenorScenarios (mapCCTenorUpCSQS, lsScenarioCSQS);
 
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-				mapIRTenorUpCSQS = mpc.fundingTenorMarketParams (this, true);
+		String[] astrCCTenorDn = AddTenorScenarios (mapCCTenorDnCSQS, lsScenarioCSQS);
 
-			if (null != mapIRTenorUpCSQS && null != mapIRTenorUpCSQS.entrySet()) {
-				for (java.util.Map.Entry<String, org.drip.param.market.CurveSurfaceQuoteSet>
-					meTenorUpMP : mapIRTenorUpCSQS.entrySet()) {
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCCTenorUp = value
-						(valParams, pricerParams, meTenorUpMP.getValue(), vcp);
+		String[] astrIRTenorUp = AddTenorScenarios (mapIRTenorUpCSQS, lsScenarioCSQS);
 
-					if (null == mapCCTenorUp || null == mapCCTenorUp.entrySet()) continue;
+		String[] astrIRTenorDn = AddTenorScenarios (mapIRTenorDnCSQS, lsScenarioCSQS);
 
-					org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCalcUp = new
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		org.drip.analytics.support.MeasureVector[] aMVScenario = (null == sve ? new
+			org.drip.product.definition.ScenarioValuationEngine (null, null) : sve).value (this, valParams,
+				pricerParams, lsScenarioCSQS.toArray (new
+					org.drip.param.market.CurveSurfaceQuoteSet[lsScenarioCSQS.size()]), vcp);
 
-					for (java.util.Map.Entry<String, java.lang.Double> me :
-						mapCCTenorUp.entrySet()) {
-						String strKey = me.getKey();
+		if (null == aMVScenario) return null;
 
-						mapCalcUp.put (strKey, me.getValue() - mapBaseMeasures.get (strKey));
-					}
+		if (compOp.setFlatCreditDeltaMeasures (org.drip.product.definition.ScenarioValuationEngine.Delta
+			(aMVScenario[0], mvBase)))
+			compOp.setFlatCreditGammaMeasures (org.drip.product.definition.ScenarioValuationEngine.Gamma
+				(aMVScenario[1], aMVScenario[0], mvBase));
 
-					compOp.tenorIRDeltaMeasures().put (meTenorUpMP.getKey(), mapCalcUp);
-				}
-			}
+		if (compOp.setFlatRRDeltaMeasures (org.drip.product.definition.ScenarioValuationEngine.Delta
+			(aMVScenario[2], mvBase)))
+			compOp.setFlatRRGammaMeasures (org.drip.product.definition.ScenarioValuationEngine.Gamma
+				(aMVScenario[3], aMVScenario[2], mvBase));
 
-			if (null != mpc.fundingTenorMarketParams (this, false)) {
-				compOp.setTenorIRGammaMeasures (new
-					org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>());
+		if (compOp.setFlatIRDeltaMeasures (org.drip.product.definition.ScenarioValuationEngine.Delta
+			(aMVScenario[4], mvBase)))
+			compOp.setFlatIRGammaMeasures (org.drip.product.definition.ScenarioValuationEngine.Gamma
+				(aMVScenario[5], aMVScenario[4], mvBase));
 
-				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-					mapIRTenorDnCSQS = mpc.fundingTenorMarketParams (this, false);
+		int iScenario = 2 * FLAT_SCENARIO.length;
 
-				if (null != mapIRTenorDnCSQS & null != mapIRTenorDnCSQS.entrySet()) {
-					for (java.util.Map.Entry<String, org.drip.param.market.CurveSurfaceQuoteSet>
-						meTenorDnMP : mapIRTenorDnCSQS.entrySet()) {
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCCTenorDn = value
-							(valParams, pricerParams, meTenorDnMP.getValue(), vcp);
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+			mapCCTenorUpMV = TenorScenarioMeasures (astrCCTenorUp, aMVScenario, iScenario);
 
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCalcDn = new
-							org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+			mapCCTenorDnMV = TenorScenarioMeasures (astrCCTenorDn, aMVScenario, iScenario +=
+				astrCCTenorUp.length);
 
-						if (null == mapCalcDn || null == mapCalcDn.entrySet()) continue;
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+			mapIRTenorUpMV = TenorScenarioMeasures (astrIRTenorUp, aMVScenario, iScenario +=
+				astrCCTenorDn.length);
 
-						for (java.util.Map.Entry<String, java.lang.Double> me :
-							mapCCTenorDn.entrySet()) {
-							String strKey = me.getKey();
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.MeasureVector>
+			mapIRTenorDnMV = TenorScenarioMeasures (astrIRTenorDn, aMVScenario, iScenario +=
+				astrIRTenorUp.length);
 
-							mapCalcDn.put (strKey, me.getValue() - mapBaseMeasures.get (strKey) +
-								compOp.tenorIRDeltaMeasures().get (meTenorDnMP.getKey()).get (strKey));
-						}
+		if (null != mapCCTenorUpCSQS && compOp.setTenorCreditDeltaMeasures (TenorDelta (mapCCTenorUpMV,
+			mvBase)) && null != mapCCTenorDnCSQS)
+			compOp.setTenorCreditGammaMeasures (TenorGamma (mapCCTenorDnMV, mapCCTenorUpMV, mvBase));
 
-						compOp.tenorIRGammaMeasures().put (meTenorDnMP.getKey(), mapCalcDn);
-					}
-				}
-			}
-		}
+		if (null != mapIRTenorUpCSQS && compOp.setTenorIRDeltaMeasures (TenorDelta (mapIRTenorUpMV,
+			mvBase)) && null != mapIRTenorDnCSQS)
+			compOp.setTenorIRGammaMeasures (TenorGamma (mapIRTenorDnMV, mapIRTenorUpMV, mvBase));
 
 		compOp.setCalcTime ((System.nanoTime() - lStart) * 1.e-09);
 
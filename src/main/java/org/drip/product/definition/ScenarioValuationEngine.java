@@ -0,0 +1,274 @@
+
+package org.drip.product.definition;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ScenarioValuationEngine values a Component across a Set of independent Scenario Market Parameters - the
+ * 	Flat and the Tenor Bumped Scenarios of the ScenarioMarketParams - and builds the Delta/Gamma Measures
+ * 	off of the Scenario Valuations. It exposes the following functionality:
+ * 	- Value the Scenarios concurrently on a Caller supplied Executor (or serially in its absence). The
+ * 		Results are returned in the Order of the Scenarios, irrespective of the Order of Completion.
+ * 	- Restrict the Scenario Valuations to the Measures needed for the Deltas. Only the Components that
+ * 		override the Restricted value (CDSComponent and BondComponent) skip the unneeded Computation; the
+ * 		Others still compute the full Measure Map, and merely have it filtered.
+ * 	- Build the Delta/Gamma Measure Maps off of the MeasureVector Scenario Valuations.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ScenarioValuationEngine {
+	private java.util.Set<String> _setstrDeltaMeasure = null;
+	private java.util.concurrent.ExecutorService _es = null;
+
+	private org.drip.analytics.support.MeasureVector scenarioValue (
+		final org.drip.product.definition.FixedIncomeComponent comp,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		if (null == csqs) return null;
+
+		return null == _setstrDeltaMeasure ? comp.measureVector (valParams, pricerParams, csqs, vcp) :
+			org.drip.analytics.support.MeasureVector.FromMap (comp.value (valParams, pricerParams, csqs, vcp,
+				_setstrDeltaMeasure));
+	}
+
+	/**
+	 * Compute the Delta Measures as the Difference between the Bumped and the Base Measures
+	 * 
+	 * @param mvBump The Bumped Scenario Measures
+	 * @param mvBase The Base Measures
+	 * 
+	 * @return The Delta Measure Map (null => No Measure is common to both)
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> Delta (
+		final org.drip.analytics.support.MeasureVector mvBump,
+		final org.drip.analytics.support.MeasureVector mvBase)
+	{
+		if (null == mvBump || null == mvBase || 0 == mvBump.size()) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapDelta = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (int iID : mvBump.ids()) {
+			if (mvBase.contains (iID))
+				mapDelta.put (org.drip.analytics.support.MeasureRegistry.Name (iID), mvBump.get (iID) -
+					mvBase.get (iID));
+		}
+
+		return 0 == mapDelta.size() ? null : mapDelta;
+	}
+
+	/**
+	 * Compute the Gamma Measures off of the Down/Up Bumped Measures as (Down + Up - 2 x Base)
+	 * 
+	 * @param mvBumpDown The Down Bumped Scenario Measures
+	 * @param mvBumpUp The Up Bumped Scenario Measures
+	 * @param mvBase The Base Measures
+	 * 
+	 * @return The Gamma Measure Map (null => No Measure is common to all three)
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> Gamma (
+		final org.drip.analytics.support.MeasureVector mvBumpDown,
+		final org.drip.analytics.support.MeasureVector mvBumpUp,
+		final org.drip.analytics.support.MeasureVector mvBase)
+	{
+		if (null == mvBumpDown || null == mvBumpUp || null == mvBase || 0 == mvBumpDown.size()) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapGamma = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (int iID : mvBumpDown.ids()) {
+			if (mvBumpUp.contains (iID) && mvBase.contains (iID))
+				mapGamma.put (org.drip.analytics.support.MeasureRegistry.Name (iID), mvBumpDown.get (iID) +
+					mvBumpUp.get (iID) - 2. * mvBase.get (iID));
+		}
+
+		return 0 == mapGamma.size() ? null : mapGamma;
+	}
+
+	/**
+	 * Compute the Tenor Gamma Measures off of the Down/Up Bumped Measures as the Sum of the Down and the Up
+	 * 	Deltas
+	 * 
+	 * @param mvBumpDown The Down Bumped Scenario Measures
+	 * @param mvBumpUp The Up Bumped Scenario Measures
+	 * @param mvBase The Base Measures
+	 * 
+	 * @return The Tenor Gamma Measure Map (null => No Measure is common to all three)
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> TenorGamma (
+		final org.drip.analytics.support.MeasureVector mvBumpDown,
+		final org.drip.analytics.support.MeasureVector mvBumpUp,
+		final org.drip.analytics.support.MeasureVector mvBase)
+	{
+		if (null == mvBumpDown || null == mvBumpUp || null == mvBase || 0 == mvBumpDown.size()) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapGamma = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (int iID : mvBumpDown.ids()) {
+			if (!mvBumpUp.contains (iID) || !mvBase.contains (iID)) continue;
+
+			double dblBase = mvBase.get (iID);
+
+			mapGamma.put (org.drip.analytics.support.MeasureRegistry.Name (iID), mvBumpDown.get (iID) -
+				dblBase + (mvBumpUp.get (iID) - dblBase));
+		}
+
+		return 0 == mapGamma.size() ? null : mapGamma;
+	}
+
+	/**
+	 * ScenarioValuationEngine Constructor
+	 * 
+	 * @param es The Executor Service (NULL => Value the Scenarios serially). The Executor is owned (and
+	 * 	shut down) by the Caller.
+	 * @param setstrDeltaMeasure The Set of the Measures the Deltas are needed for (NULL => All Measures).
+	 * 	The Set saves Valuation Work only for Components that override the Restricted value.
+	 */
+
+	public ScenarioValuationEngine (
+		final java.util.concurrent.ExecutorService es,
+		final java.util.Set<String> setstrDeltaMeasure)
+	{
+		_es = es;
+		_setstrDeltaMeasure = setstrDeltaMeasure;
+	}
+
+	/**
+	 * Retrieve the Executor on which the Scenarios are valued
+	 * 
+	 * @return The Executor Service (NULL => The Scenarios are valued serially)
+	 */
+
+	public java.util.concurrent.ExecutorService executor()
+	{
+		return _es;
+	}
+
+	/**
+	 * Retrieve the Set of the Measures the Deltas are needed for
+	 * 
+	 * @return The Set of the Delta Measures (NULL => All Measures)
+	 */
+
+	public java.util.Set<String> deltaMeasures()
+	{
+		return _setstrDeltaMeasure;
+	}
+
+	/**
+	 * Value the Component across the Array of the Scenario Market Parameters
+	 * 
+	 * @param comp The Component
+	 * @param valParams Valuation Parameters
+	 * @param pricerParams Pricer Parameters
+	 * @param aCSQS Array of the Scenario Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * 
+	 * @return Array of the Scenario Measures, in the Order of the Scenario Market Parameters. A NULL Entry
+	 * 	indicates that the Scenario is absent, or could not be valued. (NULL => The Valuation has been
+	 * 	interrupted)
+	 */
+
+	public org.drip.analytics.support.MeasureVector[] value (
+		final org.drip.product.definition.FixedIncomeComponent comp,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet[] aCSQS,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		if (null == comp || null == aCSQS) return null;
+
+		int iNumScenario = aCSQS.length;
+		org.drip.analytics.support.MeasureVector[] aMV = new
+			org.drip.analytics.support.MeasureVector[iNumScenario];
+
+		if (null == _es || 1 >= iNumScenario) {
+			for (int i = 0; i < iNumScenario; ++i)
+				aMV[i] = scenarioValue (comp, valParams, pricerParams, aCSQS[i], vcp);
+
+			return aMV;
+		}
+
+		java.util.List<java.util.concurrent.Future<org.drip.analytics.support.MeasureVector>> lsFuture =
+			new java.util.ArrayList<java.util.concurrent.Future<org.drip.analytics.support.MeasureVector>>();
+
+		try {
+			for (int i = 0; i < iNumScenario; ++i) {
+				if (null == aCSQS[i]) {
+					lsFuture.add (null);
+
+					continue;
+				}
+
+				final org.drip.param.market.CurveSurfaceQuoteSet csqs = aCSQS[i];
+
+				lsFuture.add (_es.submit (new
+					java.util.concurrent.Callable<org.drip.analytics.support.MeasureVector>() {
+					@Override public org.drip.analytics.support.MeasureVector call()
+					{
+						return scenarioValue (comp, valParams, pricerParams, csqs, vcp);
+					}
+				}));
+			}
+
+			for (int i = 0; i < iNumScenario; ++i) {
+				java.util.concurrent.Future<org.drip.analytics.support.MeasureVector> f = lsFuture.get (i);
+
+				if (null == f) continue;
+
+				try {
+					aMV[i] = f.get();
+				} catch (java.util.concurrent.ExecutionException e) {
+					e.printStackTrace();
+				}
+			}
+		} catch (java.lang.InterruptedException e) {
+			java.lang.Thread.currentThread().interrupt();
+
+			return null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		} finally {
+			for (java.util.concurrent.Future<org.drip.analytics.support.MeasureVector> f : lsFuture) {
+				if (null != f) f.cancel (true);
+			}
+		}
+
+		return aMV;
+	}
+}
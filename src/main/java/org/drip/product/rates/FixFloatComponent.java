@@ -605,6 +605,18 @@ public class FixFloatComponent extends org.drip.product.rates.DualStreamComponen
 		return setstrMeasureNames;
 	}
 
+	@Override public int adjointPV (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == lsat) throw new java.lang.Exception ("FixFloatComponent::adjointPV => Invalid Inputs");
+
+		return lsat.tape().add (_fixReference.adjointPV (valParams, pricerParams, lsat),
+			_floatDerived.adjointPV (valParams, pricerParams, lsat));
+	}
+
 	@Override public org.drip.quant.calculus.WengertJacobian jackDDirtyPVDManifestMeasure (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
@@ -1573,6 +1573,89 @@ public class Stream {
 		return prwc;
 	}
 
+	/**
+	 * Record the (Cumulative Convexity Adjusted, Clean) PV of the Stream on the Adjoint Tape. The Period
+	 * 	Coupon Rates, the Pay Date Discount Factors/Survival Probabilities, and the Cash Pay Discount
+	 * 	Factor are recorded off of the Latent States; the DCF, the Notional, the FX, the Convexity
+	 * 	Adjustment, and the Accrued (the Current Period is taken to have been Fixed) are carried as
+	 * 	Constants.
+	 * 
+	 * @param valParams The Valuation Parameters
+	 * @param pricerParams The Pricer parameters
+	 * @param lsat The Latent State Adjoint Tape
+	 * 
+	 * @return Index of the PV Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the PV cannot be recorded
+	 */
+
+	public int adjointPV (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.LatentStateAdjointTape lsat)
+		throws java.lang.Exception
+	{
+		if (null == valParams || null == lsat)
+			throw new java.lang.Exception ("Stream::adjointPV => Invalid Inputs");
+
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = lsat.csqs();
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (null == dcFunding) throw new java.lang.Exception ("Stream::adjointPV => No Funding Curve");
+
+		org.drip.quant.calculus.AdjointTape tape = lsat.tape();
+
+		double dblValueDate = valParams.valueDate();
+
+		double dblAccrued01 = 0.;
+		double dblAccrualCoupon = java.lang.Double.NaN;
+
+		int iDirtyPV = tape.leaf (0.);
+
+		for (org.drip.analytics.cashflow.CompositePeriod period : _lsPeriod) {
+			double dblPeriodPayDate = period.payDate();
+
+			if (dblPeriodPayDate < dblValueDate) continue;
+
+			org.drip.analytics.output.CompositePeriodCouponMetrics cpcm = period.couponMetrics (dblValueDate,
+				csqs);
+
+			if (null == cpcm)
+				throw new java.lang.Exception ("Stream::adjointPV => Cannot compute the Coupon Metrics");
+
+			org.drip.analytics.output.CompositePeriodAccrualMetrics cpam = period.accrualMetrics
+				(dblValueDate, csqs);
+
+			double dblPeriodEndDate = period.endDate();
+
+			double dblPeriodNotional = period.notional (dblPeriodEndDate) * period.couponFactor
+				(dblPeriodEndDate);
+
+			double dblPeriodFX = period.fx (csqs);
+
+			if (null != cpam) {
+				dblAccrualCoupon = cpam.rate();
+
+				dblAccrued01 = 0.0001 * cpam.dcf() * dblPeriodNotional * dblPeriodFX;
+			}
+
+			int iPeriodDiscount = lsat.df (csqs.fundingCurve (period.fundingLabel()), dblPeriodPayDate);
+
+			org.drip.state.identifier.CreditLabel creditLabel = period.creditLabel();
+
+			if (null != creditLabel)
+				iPeriodDiscount = tape.multiply (iPeriodDiscount, lsat.survival (csqs.creditCurve
+					(creditLabel), dblPeriodPayDate));
+
+			iDirtyPV = tape.linear (iDirtyPV, 1., tape.multiply (iPeriodDiscount, period.adjointCouponRate
+				(lsat)), cpcm.dcf() * dblPeriodNotional * dblPeriodFX * cpcm.cumulative());
+		}
+
+		return tape.affine (tape.divide (iDirtyPV, lsat.df (dcFunding, dblValueDate)), 1., 0. ==
+			dblAccrued01 ? 0. : -dblAccrued01 * 10000. * dblAccrualCoupon);
+	}
+
 	/**
 	 * Generate the Jacobian of the Dirty PV to the Manifest Measure
 	 * 
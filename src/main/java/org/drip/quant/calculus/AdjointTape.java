@@ -0,0 +1,370 @@
+
+package org.drip.quant.calculus;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * AdjointTape records a Valuation as a Wengert List - each Node holds its Value, and the Indices and the
+ * 	Local Partials of (at most) Two Parent Nodes - and computes the Adjoints (Reverse Mode Derivatives) of
+ * 	a chosen Output Node with respect to every Node on the Tape in a single Backward Sweep. The Cost of the
+ * 	Sweep is proportional to the Length of the Tape, and does not depend on the Number of the Leaves. It
+ * 	exposes the following functionality:
+ * 	- Record Leaf (Input/Constant) Nodes
+ * 	- Record the Elementary Arithmetic, the Linear Combination, the Exponential, and the Logarithm Nodes
+ * 	- Retrieve the Node Values
+ * 	- Run the Backward Sweep off of an Output Node
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AdjointTape {
+	private int _iSize = 0;
+	private int[] _aiLeft = null;
+	private int[] _aiRight = null;
+	private double[] _adblValue = null;
+	private double[] _adblLeftPartial = null;
+	private double[] _adblRightPartial = null;
+
+	private int record (
+		final double dblValue,
+		final int iLeft,
+		final double dblLeftPartial,
+		final int iRight,
+		final double dblRightPartial)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValue) || iLeft >= _iSize || iRight >= _iSize)
+			throw new java.lang.Exception ("AdjointTape::record => Invalid Inputs");
+
+		if (_iSize == _adblValue.length) {
+			int iCapacity = 2 * _iSize;
+
+			_aiLeft = java.util.Arrays.copyOf (_aiLeft, iCapacity);
+
+			_aiRight = java.util.Arrays.copyOf (_aiRight, iCapacity);
+
+			_adblValue = java.util.Arrays.copyOf (_adblValue, iCapacity);
+
+			_adblLeftPartial = java.util.Arrays.copyOf (_adblLeftPartial, iCapacity);
+
+			_adblRightPartial = java.util.Arrays.copyOf (_adblRightPartial, iCapacity);
+		}
+
+		_aiLeft[_iSize] = iLeft;
+		_aiRight[_iSize] = iRight;
+		_adblValue[_iSize] = dblValue;
+		_adblLeftPartial[_iSize] = dblLeftPartial;
+		_adblRightPartial[_iSize] = dblRightPartial;
+		return _iSize++;
+	}
+
+	/**
+	 * AdjointTape Constructor
+	 * 
+	 * @param iCapacity The Initial Node Capacity of the Tape
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public AdjointTape (
+		final int iCapacity)
+		throws java.lang.Exception
+	{
+		if (0 >= iCapacity) throw new java.lang.Exception ("AdjointTape ctr: Invalid Inputs");
+
+		_aiLeft = new int[iCapacity];
+		_aiRight = new int[iCapacity];
+		_adblValue = new double[iCapacity];
+		_adblLeftPartial = new double[iCapacity];
+		_adblRightPartial = new double[iCapacity];
+	}
+
+	/**
+	 * Retrieve the Number of Nodes on the Tape
+	 * 
+	 * @return The Number of Nodes on the Tape
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Value of the specified Node
+	 * 
+	 * @param iNode Index of the Node
+	 * 
+	 * @return Value of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Node Index is Invalid
+	 */
+
+	public double value (
+		final int iNode)
+		throws java.lang.Exception
+	{
+		if (0 > iNode || iNode >= _iSize)
+			throw new java.lang.Exception ("AdjointTape::value => Invalid Node " + iNode);
+
+		return _adblValue[iNode];
+	}
+
+	/**
+	 * Record a Leaf Node - an Input, or a Constant that does not propagate any Adjoint
+	 * 
+	 * @param dblValue Value of the Leaf
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value is Invalid
+	 */
+
+	public int leaf (
+		final double dblValue)
+		throws java.lang.Exception
+	{
+		return record (dblValue, -1, 0., -1, 0.);
+	}
+
+	/**
+	 * Record the Node a + b
+	 * 
+	 * @param iA Index of the Node a
+	 * @param iB Index of the Node b
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int add (
+		final int iA,
+		final int iB)
+		throws java.lang.Exception
+	{
+		return record (value (iA) + value (iB), iA, 1., iB, 1.);
+	}
+
+	/**
+	 * Record the Node a - b
+	 * 
+	 * @param iA Index of the Node a
+	 * @param iB Index of the Node b
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int subtract (
+		final int iA,
+		final int iB)
+		throws java.lang.Exception
+	{
+		return record (value (iA) - value (iB), iA, 1., iB, -1.);
+	}
+
+	/**
+	 * Record the Node a * b
+	 * 
+	 * @param iA Index of the Node a
+	 * @param iB Index of the Node b
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int multiply (
+		final int iA,
+		final int iB)
+		throws java.lang.Exception
+	{
+		double dblA = value (iA);
+
+		double dblB = value (iB);
+
+		return record (dblA * dblB, iA, dblB, iB, dblA);
+	}
+
+	/**
+	 * Record the Node a / b
+	 * 
+	 * @param iA Index of the Node a
+	 * @param iB Index of the Node b
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int divide (
+		final int iA,
+		final int iB)
+		throws java.lang.Exception
+	{
+		double dblB = value (iB);
+
+		if (0. == dblB) throw new java.lang.Exception ("AdjointTape::divide => Zero Denominator");
+
+		double dblQuotient = value (iA) / dblB;
+
+		return record (dblQuotient, iA, 1. / dblB, iB, -dblQuotient / dblB);
+	}
+
+	/**
+	 * Record the Node dblScaleA * a + dblScaleB * b
+	 * 
+	 * @param iA Index of the Node a
+	 * @param dblScaleA Scale applied to the Node a
+	 * @param iB Index of the Node b
+	 * @param dblScaleB Scale applied to the Node b
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int linear (
+		final int iA,
+		final double dblScaleA,
+		final int iB,
+		final double dblScaleB)
+		throws java.lang.Exception
+	{
+		return record (dblScaleA * value (iA) + dblScaleB * value (iB), iA, dblScaleA, iB, dblScaleB);
+	}
+
+	/**
+	 * Record the Node dblScale * a + dblShift
+	 * 
+	 * @param iA Index of the Node a
+	 * @param dblScale The Scale
+	 * @param dblShift The Shift
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int affine (
+		final int iA,
+		final double dblScale,
+		final double dblShift)
+		throws java.lang.Exception
+	{
+		return record (dblScale * value (iA) + dblShift, iA, dblScale, -1, 0.);
+	}
+
+	/**
+	 * Record the Node exp (a)
+	 * 
+	 * @param iA Index of the Node a
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int exp (
+		final int iA)
+		throws java.lang.Exception
+	{
+		double dblExp = java.lang.Math.exp (value (iA));
+
+		return record (dblExp, iA, dblExp, -1, 0.);
+	}
+
+	/**
+	 * Record the Node log (a)
+	 * 
+	 * @param iA Index of the Node a
+	 * 
+	 * @return Index of the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int log (
+		final int iA)
+		throws java.lang.Exception
+	{
+		double dblA = value (iA);
+
+		if (0. >= dblA) throw new java.lang.Exception ("AdjointTape::log => Invalid Argument");
+
+		return record (java.lang.Math.log (dblA), iA, 1. / dblA, -1, 0.);
+	}
+
+	/**
+	 * Run the Backward Sweep off of the Output Node, and compute the Adjoint of every Node recorded up to it
+	 * 
+	 * @param iOutput Index of the Output Node
+	 * 
+	 * @return Array of the Adjoints d(Output)/d(Node), indexed by the Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Output Node Index is Invalid
+	 */
+
+	public double[] adjoint (
+		final int iOutput)
+		throws java.lang.Exception
+	{
+		if (0 > iOutput || iOutput >= _iSize)
+			throw new java.lang.Exception ("AdjointTape::adjoint => Invalid Node " + iOutput);
+
+		double[] adblAdjoint = new double[_iSize];
+		adblAdjoint[iOutput] = 1.;
+
+		for (int i = iOutput; i >= 0; --i) {
+			double dblAdjoint = adblAdjoint[i];
+
+			if (0. == dblAdjoint) continue;
+
+			int iLeft = _aiLeft[i];
+
+			if (0 <= iLeft) adblAdjoint[iLeft] += dblAdjoint * _adblLeftPartial[i];
+
+			int iRight = _aiRight[i];
+
+			if (0 <= iRight) adblAdjoint[iRight] += dblAdjoint * _adblRightPartial[i];
+		}
+
+		return adblAdjoint;
+	}
+
+	/**
+	 * Clear the Tape for re-use, retaining its Capacity
+	 */
+
+	public void reset()
+	{
+		_iSize = 0;
+	}
+}
@@ -73,6 +73,33 @@ public class CollectionUtil {
 		return mapOut;
 	}
 
+	/**
+	 * Restrict the map to the specified set of keys
+	 * 
+	 * @param mapIn Input map
+	 * @param setstrKey Set of keys to retain
+	 * 
+	 * @return The restricted map
+	 */
+
+	public static final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> RestrictKeys (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapIn,
+		final java.util.Set<String> setstrKey)
+	{
+		if (null == mapIn || null == setstrKey) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapOut = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (String strKey : setstrKey) {
+			java.lang.Double dbl = mapIn.get (strKey);
+
+			if (null != dbl) mapOut.put (strKey, dbl);
+		}
+
+		return mapOut;
+	}
+
 	/**
 	 * Merge two maps
 	 * 
@@ -0,0 +1,146 @@
+
+package org.drip.quant.fourier;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * FastFourierTransform implements the In-place Iterative Radix-2 Cooley-Tukey Discrete Fourier Transform over
+ * 	split Real/Imaginary double Arrays, so a Sequence of Power-of-Two Length is transformed in O (N log N)
+ * 	without creating any Complex Number Instances.
+ *
+ * The Forward Transform is X_k = sum_j x_j exp (-2 pi i j k / N); the Inverse carries the 1/N Scaling.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class FastFourierTransform {
+
+	private static final boolean Transform (
+		final double[] adblReal,
+		final double[] adblImaginary,
+		final double dblDirection)
+	{
+		if (null == adblReal || null == adblImaginary) return false;
+
+		int iSize = adblReal.length;
+
+		if (0 == iSize || iSize != adblImaginary.length || 0 != (iSize & (iSize - 1))) return false;
+
+		for (int i = 1, j = 0; i < iSize; ++i) {
+			int iBit = iSize >> 1;
+
+			for (; 0 != (j & iBit); iBit >>= 1)
+				j ^= iBit;
+
+			j ^= iBit;
+
+			if (i < j) {
+				double dblSwap = adblReal[i];
+				adblReal[i] = adblReal[j];
+				adblReal[j] = dblSwap;
+				dblSwap = adblImaginary[i];
+				adblImaginary[i] = adblImaginary[j];
+				adblImaginary[j] = dblSwap;
+			}
+		}
+
+		for (int iSpan = 2; iSpan <= iSize; iSpan <<= 1) {
+			int iHalfSpan = iSpan >> 1;
+			double dblTheta = dblDirection * 2. * java.lang.Math.PI / iSpan;
+
+			double dblHalfSine = java.lang.Math.sin (0.5 * dblTheta);
+
+			double dblStepImaginary = java.lang.Math.sin (dblTheta);
+
+			double dblStepReal = -2. * dblHalfSine * dblHalfSine;
+			double dblTwiddleImaginary = 0.;
+			double dblTwiddleReal = 1.;
+
+			for (int k = 0; k < iHalfSpan; ++k) {
+				for (int i = k; i < iSize; i += iSpan) {
+					int j = i + iHalfSpan;
+					double dblReal = dblTwiddleReal * adblReal[j] - dblTwiddleImaginary * adblImaginary[j];
+					double dblImaginary = dblTwiddleReal * adblImaginary[j] + dblTwiddleImaginary *
+						adblReal[j];
+					adblReal[j] = adblReal[i] - dblReal;
+					adblImaginary[j] = adblImaginary[i] - dblImaginary;
+					adblReal[i] += dblReal;
+					adblImaginary[i] += dblImaginary;
+				}
+
+				double dblTwiddleRealPrior = dblTwiddleReal;
+				dblTwiddleReal += dblTwiddleReal * dblStepReal - dblTwiddleImaginary * dblStepImaginary;
+				dblTwiddleImaginary += dblTwiddleImaginary * dblStepReal + dblTwiddleRealPrior *
+					dblStepImaginary;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Apply the Forward Transform in Place
+	 * 
+	 * @param adblReal Array of the Real Parts (Power-of-Two Length)
+	 * @param adblImaginary Array of the Imaginary Parts (same Length)
+	 * 
+	 * @return TRUE => The Arrays now hold the Transform
+	 */
+
+	public static final boolean Forward (
+		final double[] adblReal,
+		final double[] adblImaginary)
+	{
+		return Transform (adblReal, adblImaginary, -1.);
+	}
+
+	/**
+	 * Apply the Inverse Transform in Place
+	 * 
+	 * @param adblReal Array of the Real Parts (Power-of-Two Length)
+	 * @param adblImaginary Array of the Imaginary Parts (same Length)
+	 * 
+	 * @return TRUE => The Arrays now hold the Inverse Transform
+	 */
+
+	public static final boolean Inverse (
+		final double[] adblReal,
+		final double[] adblImaginary)
+	{
+		if (!Transform (adblReal, adblImaginary, 1.)) return false;
+
+		double dblScale = 1. / adblReal.length;
+
+		for (int i = 0; i < adblReal.length; ++i) {
+			adblReal[i] *= dblScale;
+			adblImaginary[i] *= dblScale;
+		}
+
+		return true;
+	}
+}
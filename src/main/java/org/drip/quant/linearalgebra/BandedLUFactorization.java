@@ -0,0 +1,322 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BandedLUFactorization holds the Partially Pivoted LU Factorization of a Square Banded Matrix with kl
+ * 	Sub-Diagonals and ku Super-Diagonals. Each Row is stored in a Band of 2 * kl + ku + 1 Entries, which
+ * 	leaves room for the kl extra Super-Diagonals of fill-in created by the Row Interchanges. Factorization
+ * 	costs O (n * kl * (kl + ku)) and each Solve O (n * (kl + ku)), so a Tridiagonal System (kl = ku = 1) is
+ * 	factorized and solved in linear time.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BandedLUFactorization {
+	private int _iSize = -1;
+	private int _iBandWidth = -1;
+	private int[] _aiPivot = null;
+	private double[] _adblBand = null;
+	private int _iLowerBandwidth = -1;
+	private int _iUpperBandwidth = -1;
+
+	/**
+	 * Compute the Lower Bandwidth (Number of Non-Zero Sub-Diagonals) of the Square Matrix
+	 * 
+	 * @param aadblA The Square Matrix
+	 * 
+	 * @return The Lower Bandwidth
+	 */
+
+	public static final int LowerBandwidth (
+		final double[][] aadblA)
+	{
+		int iLowerBandwidth = 0;
+		int iSize = aadblA.length;
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j < i - iLowerBandwidth; ++j) {
+				if (0. != aadblA[i][j]) {
+					iLowerBandwidth = i - j;
+					break;
+				}
+			}
+		}
+
+		return iLowerBandwidth;
+	}
+
+	/**
+	 * Compute the Upper Bandwidth (Number of Non-Zero Super-Diagonals) of the Square Matrix
+	 * 
+	 * @param aadblA The Square Matrix
+	 * 
+	 * @return The Upper Bandwidth
+	 */
+
+	public static final int UpperBandwidth (
+		final double[][] aadblA)
+	{
+		int iUpperBandwidth = 0;
+		int iSize = aadblA.length;
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = iSize - 1; j > i + iUpperBandwidth; --j) {
+				if (0. != aadblA[i][j]) {
+					iUpperBandwidth = j - i;
+					break;
+				}
+			}
+		}
+
+		return iUpperBandwidth;
+	}
+
+	/**
+	 * Factorize the Square Matrix, reading only the Entries inside the specified Band
+	 * 
+	 * @param aadblA The Square Matrix
+	 * @param iLowerBandwidth Number of Sub-Diagonals
+	 * @param iUpperBandwidth Number of Super-Diagonals
+	 * 
+	 * @return The BandedLUFactorization (null if the Inputs are Invalid or the Matrix is Singular)
+	 */
+
+	public static final BandedLUFactorization Standard (
+		final double[][] aadblA,
+		final int iLowerBandwidth,
+		final int iUpperBandwidth)
+	{
+		if (null == aadblA || 0 > iLowerBandwidth || 0 > iUpperBandwidth) return null;
+
+		int iSize = aadblA.length;
+		int iBandWidth = 2 * iLowerBandwidth + iUpperBandwidth + 1;
+
+		if (0 == iSize) return null;
+
+		int[] aiPivot = new int[iSize];
+		double[] adblBand = new double[iSize * iBandWidth];
+
+		for (int i = 0; i < iSize; ++i) {
+			if (null == aadblA[i] || iSize != aadblA[i].length) return null;
+
+			int iColEnd = java.lang.Math.min (iSize - 1, i + iUpperBandwidth);
+
+			for (int j = java.lang.Math.max (0, i - iLowerBandwidth); j <= iColEnd; ++j) {
+				if (!org.drip.quant.common.NumberUtil.IsValid (adblBand[i * iBandWidth + j - i +
+					iLowerBandwidth] = aadblA[i][j]))
+					return null;
+			}
+		}
+
+		for (int k = 0; k < iSize; ++k) {
+			int iPivotRow = k;
+			int iRowEnd = java.lang.Math.min (iSize - 1, k + iLowerBandwidth);
+			int iColEnd = java.lang.Math.min (iSize - 1, k + iLowerBandwidth + iUpperBandwidth);
+			double dblPivotMagnitude = java.lang.Math.abs (adblBand[k * iBandWidth + iLowerBandwidth]);
+
+			for (int i = k + 1; i <= iRowEnd; ++i) {
+				double dblMagnitude = java.lang.Math.abs (adblBand[i * iBandWidth + k - i +
+					iLowerBandwidth]);
+
+				if (dblMagnitude > dblPivotMagnitude) {
+					iPivotRow = i;
+					dblPivotMagnitude = dblMagnitude;
+				}
+			}
+
+			if (0. == dblPivotMagnitude) return null;
+
+			if ((aiPivot[k] = iPivotRow) != k) {
+				for (int j = k; j <= iColEnd; ++j) {
+					int iKIndex = k * iBandWidth + j - k + iLowerBandwidth;
+					int iPivotIndex = iPivotRow * iBandWidth + j - iPivotRow + iLowerBandwidth;
+					double dblSwap = adblBand[iKIndex];
+					adblBand[iKIndex] = adblBand[iPivotIndex];
+					adblBand[iPivotIndex] = dblSwap;
+				}
+			}
+
+			double dblPivot = adblBand[k * iBandWidth + iLowerBandwidth];
+
+			for (int i = k + 1; i <= iRowEnd; ++i) {
+				int iOffset = i * iBandWidth - i + iLowerBandwidth;
+				double dblMultiplier = adblBand[iOffset + k] /= dblPivot;
+
+				if (0. == dblMultiplier) continue;
+
+				int iKOffset = k * iBandWidth - k + iLowerBandwidth;
+
+				for (int j = k + 1; j <= iColEnd; ++j)
+					adblBand[iOffset + j] -= dblMultiplier * adblBand[iKOffset + j];
+			}
+		}
+
+		try {
+			return new BandedLUFactorization (iSize, iLowerBandwidth, iUpperBandwidth, adblBand, aiPivot);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private BandedLUFactorization (
+		final int iSize,
+		final int iLowerBandwidth,
+		final int iUpperBandwidth,
+		final double[] adblBand,
+		final int[] aiPivot)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iSize = iSize) || 0 > (_iLowerBandwidth = iLowerBandwidth) || 0 > (_iUpperBandwidth =
+			iUpperBandwidth) || null == (_adblBand = adblBand) || null == (_aiPivot = aiPivot))
+			throw new java.lang.Exception ("BandedLUFactorization ctr: Invalid Inputs");
+
+		_iBandWidth = 2 * _iLowerBandwidth + _iUpperBandwidth + 1;
+	}
+
+	/**
+	 * Retrieve the Size of the Factorized Matrix
+	 * 
+	 * @return The Size
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Lower Bandwidth
+	 * 
+	 * @return The Lower Bandwidth
+	 */
+
+	public int lowerBandwidth()
+	{
+		return _iLowerBandwidth;
+	}
+
+	/**
+	 * Retrieve the Upper Bandwidth
+	 * 
+	 * @return The Upper Bandwidth
+	 */
+
+	public int upperBandwidth()
+	{
+		return _iUpperBandwidth;
+	}
+
+	/**
+	 * Expand the Factors into a Dense Square Array - the Multipliers of L below the Diagonal (in their
+	 * 	un-permuted Factorization Positions), and U on and above it
+	 * 
+	 * @return The Dense Factor Array
+	 */
+
+	public double[][] factor()
+	{
+		double[][] aadblFactor = new double[_iSize][_iSize];
+
+		for (int i = 0; i < _iSize; ++i) {
+			int iColEnd = java.lang.Math.min (_iSize - 1, i + _iLowerBandwidth + _iUpperBandwidth);
+
+			for (int j = java.lang.Math.max (0, i - _iLowerBandwidth); j <= iColEnd; ++j)
+				aadblFactor[i][j] = _adblBand[i * _iBandWidth + j - i + _iLowerBandwidth];
+		}
+
+		return aadblFactor;
+	}
+
+	/**
+	 * Solve A.x = b in place, overwriting b with x
+	 * 
+	 * @param adblB The Right Hand Side, overwritten with the Solution
+	 * 
+	 * @return TRUE => The Solve succeeded
+	 */
+
+	public boolean solveInPlace (
+		final double[] adblB)
+	{
+		if (null == adblB || _iSize != adblB.length) return false;
+
+		for (int k = 0; k < _iSize; ++k) {
+			int iPivotRow = _aiPivot[k];
+
+			if (iPivotRow != k) {
+				double dblSwap = adblB[k];
+				adblB[k] = adblB[iPivotRow];
+				adblB[iPivotRow] = dblSwap;
+			}
+
+			double dblBK = adblB[k];
+
+			if (0. == dblBK) continue;
+
+			int iRowEnd = java.lang.Math.min (_iSize - 1, k + _iLowerBandwidth);
+
+			for (int i = k + 1; i <= iRowEnd; ++i)
+				adblB[i] -= _adblBand[i * _iBandWidth + k - i + _iLowerBandwidth] * dblBK;
+		}
+
+		for (int i = _iSize - 1; i >= 0; --i) {
+			double dblSum = adblB[i];
+			int iOffset = i * _iBandWidth - i + _iLowerBandwidth;
+			int iColEnd = java.lang.Math.min (_iSize - 1, i + _iLowerBandwidth + _iUpperBandwidth);
+
+			for (int j = i + 1; j <= iColEnd; ++j)
+				dblSum -= _adblBand[iOffset + j] * adblB[j];
+
+			adblB[i] = dblSum / _adblBand[iOffset + i];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Solve A.x = b
+	 * 
+	 * @param adblB The Right Hand Side
+	 * 
+	 * @return The Solution x (null if the Dimensions do not match)
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		if (null == adblB) return null;
+
+		double[] adblX = adblB.clone();
+
+		return solveInPlace (adblX) ? adblX : null;
+	}
+}
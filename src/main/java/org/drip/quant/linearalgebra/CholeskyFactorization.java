@@ -0,0 +1,286 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CholeskyFactorization holds the Cholesky-Banachiewicz Factor L of a Symmetric Positive Semi-Definite
+ * 	DenseMatrix A = L.L^T, stored Row-Major with the Strict Upper Triangle zeroed. Only the Lower Triangle of
+ * 	A is read. Zero Pivots (Semi-Definite Inputs) zero out the corresponding Column of L. Once factorized,
+ * 	it can be re-used across Solves and for generating Correlated Variates.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CholeskyFactorization {
+
+	/**
+	 * Relative Tolerance below which a negative Pivot is treated as Zero
+	 */
+
+	public static final double PIVOT_TOLERANCE = 1.e-12;
+
+	private int _iSize = -1;
+	private double[] _adblL = null;
+
+	/**
+	 * Factorize the specified Square DenseMatrix
+	 * 
+	 * @param dm The Square DenseMatrix
+	 * @param bInPlace TRUE => Overwrite the Entries of the Input Matrix with the Factor
+	 * 
+	 * @return The CholeskyFactorization (null if the Matrix is not Square or not Positive Semi-Definite)
+	 */
+
+	public static final CholeskyFactorization Standard (
+		final org.drip.quant.linearalgebra.DenseMatrix dm,
+		final boolean bInPlace)
+	{
+		if (null == dm || !dm.isSquare()) return null;
+
+		int iSize = dm.numRow();
+
+		double[] adblL = bInPlace ? dm.entries() : dm.entries().clone();
+
+		for (int i = 0; i < iSize; ++i) {
+			int iOffset = i * iSize;
+
+			for (int j = 0; j <= i; ++j) {
+				int iJOffset = j * iSize;
+				double dblSum = adblL[iOffset + j];
+
+				for (int k = 0; k < j; ++k)
+					dblSum -= adblL[iOffset + k] * adblL[iJOffset + k];
+
+				if (i == j) {
+					if (0. > dblSum) {
+						if (-dblSum > PIVOT_TOLERANCE * java.lang.Math.abs (adblL[iOffset + i])) return null;
+
+						dblSum = 0.;
+					}
+
+					adblL[iOffset + i] = java.lang.Math.sqrt (dblSum);
+				} else {
+					double dblDiagonal = adblL[iJOffset + j];
+
+					adblL[iOffset + j] = 0. == dblDiagonal ? 0. : dblSum / dblDiagonal;
+				}
+			}
+
+			for (int j = i + 1; j < iSize; ++j)
+				adblL[iOffset + j] = 0.;
+		}
+
+		try {
+			return new CholeskyFactorization (iSize, adblL);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private CholeskyFactorization (
+		final int iSize,
+		final double[] adblL)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iSize = iSize) || null == (_adblL = adblL))
+			throw new java.lang.Exception ("CholeskyFactorization ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Size of the Factorized Matrix
+	 * 
+	 * @return The Size
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Lower Triangular Factor L
+	 * 
+	 * @return L
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix l()
+	{
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iSize, _iSize, _adblL);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute L.z into the specified Output Array, touching only the Lower Triangle - this maps
+	 * 	Uncorrelated Variates z into Variates with the Factorized Covariance
+	 * 
+	 * @param adblZ The Input Vector z
+	 * @param adblY The Output Vector (must not alias z)
+	 * 
+	 * @return TRUE => The Product was computed
+	 */
+
+	public boolean lowerProduct (
+		final double[] adblZ,
+		final double[] adblY)
+	{
+		if (null == adblZ || _iSize != adblZ.length || null == adblY || _iSize != adblY.length || adblZ ==
+			adblY)
+			return false;
+
+		for (int i = 0; i < _iSize; ++i) {
+			double dblSum = 0.;
+			int iOffset = i * _iSize;
+
+			for (int j = 0; j <= i; ++j)
+				dblSum += _adblL[iOffset + j] * adblZ[j];
+
+			adblY[i] = dblSum;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Solve A.x = b in place, overwriting b with x
+	 * 
+	 * @param adblB The Right Hand Side, overwritten with the Solution
+	 * 
+	 * @return TRUE => The Solve succeeded (FALSE if the Factor is Singular)
+	 */
+
+	public boolean solveInPlace (
+		final double[] adblB)
+	{
+		if (null == adblB || _iSize != adblB.length) return false;
+
+		for (int i = 0; i < _iSize; ++i) {
+			double dblSum = adblB[i];
+			int iOffset = i * _iSize;
+
+			for (int j = 0; j < i; ++j)
+				dblSum -= _adblL[iOffset + j] * adblB[j];
+
+			if (0. == _adblL[iOffset + i]) return false;
+
+			adblB[i] = dblSum / _adblL[iOffset + i];
+		}
+
+		for (int i = _iSize - 1; i >= 0; --i) {
+			double dblSum = adblB[i];
+
+			for (int j = i + 1; j < _iSize; ++j)
+				dblSum -= _adblL[j * _iSize + i] * adblB[j];
+
+			adblB[i] = dblSum / _adblL[i * _iSize + i];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Solve A.x = b
+	 * 
+	 * @param adblB The Right Hand Side
+	 * 
+	 * @return The Solution x (null if the Dimensions do not match or the Factor is Singular)
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		if (null == adblB) return null;
+
+		double[] adblX = adblB.clone();
+
+		return solveInPlace (adblX) ? adblX : null;
+	}
+
+	/**
+	 * Solve A.X = B column by column
+	 * 
+	 * @param dmB The Right Hand Side Matrix
+	 * 
+	 * @return The Solution Matrix X (null if the Dimensions do not match or the Factor is Singular)
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix solve (
+		final org.drip.quant.linearalgebra.DenseMatrix dmB)
+	{
+		if (null == dmB || _iSize != dmB.numRow()) return null;
+
+		int iNumCol = dmB.numCol();
+
+		double[] adblColumn = new double[_iSize];
+		double[] adblB = dmB.entries();
+		double[] adblX = new double[adblB.length];
+
+		for (int c = 0; c < iNumCol; ++c) {
+			for (int i = 0; i < _iSize; ++i)
+				adblColumn[i] = adblB[i * iNumCol + c];
+
+			if (!solveInPlace (adblColumn)) return null;
+
+			for (int i = 0; i < _iSize; ++i)
+				adblX[i * iNumCol + c] = adblColumn[i];
+		}
+
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iSize, iNumCol, adblX);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the Determinant of the Factorized Matrix
+	 * 
+	 * @return The Determinant
+	 */
+
+	public double determinant()
+	{
+		double dblDeterminant = 1.;
+
+		for (int i = 0; i < _iSize; ++i) {
+			double dblDiagonal = _adblL[i * _iSize + i];
+			dblDeterminant *= dblDiagonal * dblDiagonal;
+		}
+
+		return dblDeterminant;
+	}
+}
@@ -0,0 +1,390 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * DenseMatrix holds a Matrix in a single flat Row-Major Array. It exports the following functionality:
+ * 	- Construction from a jagged Array, with a single up-front Validity Check of the Entries
+ * 	- Cache-blocked Matrix/Matrix and Matrix/Vector Products
+ * 	- Blocked Transpose
+ * 	- Conversion back to the jagged Array Form used by the Matrix Static API
+ *
+ * Entries are assumed valid once inside a DenseMatrix, so the Kernels carry no per-element Checks.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class DenseMatrix {
+
+	/**
+	 * Edge of the Square Tile used by the Blocked Kernels
+	 */
+
+	public static final int BLOCK_SIZE = 64;
+
+	private int _iNumRow = -1;
+	private int _iNumCol = -1;
+	private double[] _adblEntry = null;
+
+	/**
+	 * Construct a DenseMatrix from the jagged Array, validating every Entry once
+	 * 
+	 * @param aadbl The jagged Array
+	 * 
+	 * @return The DenseMatrix (null if the Array is ragged or contains Invalid Entries)
+	 */
+
+	public static final DenseMatrix FromArray (
+		final double[][] aadbl)
+	{
+		if (null == aadbl) return null;
+
+		int iNumRow = aadbl.length;
+
+		if (0 == iNumRow || null == aadbl[0]) return null;
+
+		int iNumCol = aadbl[0].length;
+
+		if (0 == iNumCol) return null;
+
+		double[] adblEntry = new double[iNumRow * iNumCol];
+
+		for (int i = 0; i < iNumRow; ++i) {
+			if (null == aadbl[i] || iNumCol != aadbl[i].length) return null;
+
+			int iOffset = i * iNumCol;
+
+			for (int j = 0; j < iNumCol; ++j) {
+				if (!org.drip.quant.common.NumberUtil.IsValid (adblEntry[iOffset + j] = aadbl[i][j]))
+					return null;
+			}
+		}
+
+		try {
+			return new DenseMatrix (iNumRow, iNumCol, adblEntry);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct the Identity DenseMatrix of the specified Size
+	 * 
+	 * @param iSize The Size
+	 * 
+	 * @return The Identity DenseMatrix
+	 */
+
+	public static final DenseMatrix Identity (
+		final int iSize)
+	{
+		if (0 >= iSize) return null;
+
+		double[] adblEntry = new double[iSize * iSize];
+
+		for (int i = 0; i < iSize; ++i)
+			adblEntry[i * iSize + i] = 1.;
+
+		try {
+			return new DenseMatrix (iSize, iSize, adblEntry);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * DenseMatrix Constructor - wraps the Row-Major Entry Array without copying or validating it
+	 * 
+	 * @param iNumRow Number of Rows
+	 * @param iNumCol Number of Columns
+	 * @param adblEntry Row-Major Entry Array
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public DenseMatrix (
+		final int iNumRow,
+		final int iNumCol,
+		final double[] adblEntry)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumRow = iNumRow) || 0 >= (_iNumCol = iNumCol) || null == (_adblEntry = adblEntry) ||
+			iNumRow * iNumCol != adblEntry.length)
+			throw new java.lang.Exception ("DenseMatrix ctr: Invalid Inputs");
+	}
+
+	/**
+	 * DenseMatrix Constructor - zero-filled
+	 * 
+	 * @param iNumRow Number of Rows
+	 * @param iNumCol Number of Columns
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public DenseMatrix (
+		final int iNumRow,
+		final int iNumCol)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumRow = iNumRow) || 0 >= (_iNumCol = iNumCol))
+			throw new java.lang.Exception ("DenseMatrix ctr: Invalid Inputs");
+
+		_adblEntry = new double[iNumRow * iNumCol];
+	}
+
+	/**
+	 * Retrieve the Number of Rows
+	 * 
+	 * @return The Number of Rows
+	 */
+
+	public int numRow()
+	{
+		return _iNumRow;
+	}
+
+	/**
+	 * Retrieve the Number of Columns
+	 * 
+	 * @return The Number of Columns
+	 */
+
+	public int numCol()
+	{
+		return _iNumCol;
+	}
+
+	/**
+	 * Indicate if the Matrix is Square
+	 * 
+	 * @return TRUE => The Matrix is Square
+	 */
+
+	public boolean isSquare()
+	{
+		return _iNumRow == _iNumCol;
+	}
+
+	/**
+	 * Retrieve the underlying Row-Major Entry Array
+	 * 
+	 * @return The Row-Major Entry Array
+	 */
+
+	public double[] entries()
+	{
+		return _adblEntry;
+	}
+
+	/**
+	 * Retrieve the Entry at the specified Row/Column
+	 * 
+	 * @param iRow The Row
+	 * @param iCol The Column
+	 * 
+	 * @return The Entry
+	 */
+
+	public double get (
+		final int iRow,
+		final int iCol)
+	{
+		return _adblEntry[iRow * _iNumCol + iCol];
+	}
+
+	/**
+	 * Set the Entry at the specified Row/Column
+	 * 
+	 * @param iRow The Row
+	 * @param iCol The Column
+	 * @param dblValue The Value
+	 */
+
+	public void set (
+		final int iRow,
+		final int iCol,
+		final double dblValue)
+	{
+		_adblEntry[iRow * _iNumCol + iCol] = dblValue;
+	}
+
+	/**
+	 * Create a Deep Copy of the Matrix
+	 * 
+	 * @return The Copy
+	 */
+
+	public DenseMatrix copy()
+	{
+		try {
+			return new DenseMatrix (_iNumRow, _iNumCol, _adblEntry.clone());
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Convert the Matrix into the jagged Array Form
+	 * 
+	 * @return The jagged Array
+	 */
+
+	public double[][] toArray()
+	{
+		double[][] aadbl = new double[_iNumRow][_iNumCol];
+
+		for (int i = 0; i < _iNumRow; ++i)
+			java.lang.System.arraycopy (_adblEntry, i * _iNumCol, aadbl[i], 0, _iNumCol);
+
+		return aadbl;
+	}
+
+	/**
+	 * Compute the Transpose, tile by tile
+	 * 
+	 * @return The Transpose
+	 */
+
+	public DenseMatrix transpose()
+	{
+		double[] adblTranspose = new double[_adblEntry.length];
+
+		for (int iRowBlock = 0; iRowBlock < _iNumRow; iRowBlock += BLOCK_SIZE) {
+			int iRowEnd = java.lang.Math.min (iRowBlock + BLOCK_SIZE, _iNumRow);
+
+			for (int iColBlock = 0; iColBlock < _iNumCol; iColBlock += BLOCK_SIZE) {
+				int iColEnd = java.lang.Math.min (iColBlock + BLOCK_SIZE, _iNumCol);
+
+				for (int i = iRowBlock; i < iRowEnd; ++i) {
+					for (int j = iColBlock; j < iColEnd; ++j)
+						adblTranspose[j * _iNumRow + i] = _adblEntry[i * _iNumCol + j];
+				}
+			}
+		}
+
+		try {
+			return new DenseMatrix (_iNumCol, _iNumRow, adblTranspose);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the Product of this Matrix and the specified Vector
+	 * 
+	 * @param adblX The Vector
+	 * 
+	 * @return The Product Vector (null if the Dimensions do not match)
+	 */
+
+	public double[] multiply (
+		final double[] adblX)
+	{
+		if (null == adblX || _iNumCol != adblX.length) return null;
+
+		double[] adblY = new double[_iNumRow];
+
+		for (int i = 0; i < _iNumRow; ++i) {
+			double dblSum = 0.;
+			int iOffset = i * _iNumCol;
+
+			for (int j = 0; j < _iNumCol; ++j)
+				dblSum += _adblEntry[iOffset + j] * adblX[j];
+
+			adblY[i] = dblSum;
+		}
+
+		return adblY;
+	}
+
+	/**
+	 * Compute the Product of this Matrix and the specified Matrix using an i-k-j Loop Order over Square
+	 * 	Tiles, so that the inner Loop streams contiguously over Rows of both the Right Operand and the
+	 * 	Result.
+	 * 
+	 * @param dmB The Right Operand
+	 * 
+	 * @return The Product (null if the Dimensions do not match)
+	 */
+
+	public DenseMatrix multiply (
+		final DenseMatrix dmB)
+	{
+		if (null == dmB || _iNumCol != dmB._iNumRow) return null;
+
+		int iNumProductCol = dmB._iNumCol;
+		double[] adblB = dmB._adblEntry;
+		double[] adblProduct = new double[_iNumRow * iNumProductCol];
+
+		for (int iRowBlock = 0; iRowBlock < _iNumRow; iRowBlock += BLOCK_SIZE) {
+			int iRowEnd = java.lang.Math.min (iRowBlock + BLOCK_SIZE, _iNumRow);
+
+			for (int iInnerBlock = 0; iInnerBlock < _iNumCol; iInnerBlock += BLOCK_SIZE) {
+				int iInnerEnd = java.lang.Math.min (iInnerBlock + BLOCK_SIZE, _iNumCol);
+
+				for (int iColBlock = 0; iColBlock < iNumProductCol; iColBlock += BLOCK_SIZE) {
+					int iColEnd = java.lang.Math.min (iColBlock + BLOCK_SIZE, iNumProductCol);
+
+					for (int i = iRowBlock; i < iRowEnd; ++i) {
+						int iProductOffset = i * iNumProductCol;
+						int iAOffset = i * _iNumCol;
+
+						for (int k = iInnerBlock; k < iInnerEnd; ++k) {
+							double dblA = _adblEntry[iAOffset + k];
+
+							if (0. == dblA) continue;
+
+							int iBOffset = k * iNumProductCol;
+
+							for (int j = iColBlock; j < iColEnd; ++j)
+								adblProduct[iProductOffset + j] += dblA * adblB[iBOffset + j];
+						}
+					}
+				}
+			}
+		}
+
+		try {
+			return new DenseMatrix (_iNumRow, iNumProductCol, adblProduct);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
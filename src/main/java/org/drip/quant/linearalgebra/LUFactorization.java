@@ -0,0 +1,334 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LUFactorization holds the Partially Pivoted Doolittle Factorization P.A = L.U of a Square DenseMatrix,
+ * 	with L (unit diagonal) and U packed into a single Row-Major Array. Once factorized, it can be re-used
+ * 	across any Number of Right Hand Sides, and it exposes the Inverse and the Determinant.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LUFactorization {
+	private int _iSize = -1;
+	private int[] _aiPivot = null;
+	private double[] _adblLU = null;
+	private boolean _bEvenPermutation = true;
+
+	/**
+	 * Factorize the specified Square DenseMatrix
+	 * 
+	 * @param dm The Square DenseMatrix
+	 * @param bInPlace TRUE => Overwrite the Entries of the Input Matrix with the Factors
+	 * 
+	 * @return The LUFactorization (null if the Matrix is not Square or is Singular)
+	 */
+
+	public static final LUFactorization Standard (
+		final org.drip.quant.linearalgebra.DenseMatrix dm,
+		final boolean bInPlace)
+	{
+		if (null == dm || !dm.isSquare()) return null;
+
+		int iSize = dm.numRow();
+
+		int[] aiPivot = new int[iSize];
+		boolean bEvenPermutation = true;
+		double[] adblLU = bInPlace ? dm.entries() : dm.entries().clone();
+
+		for (int k = 0; k < iSize; ++k) {
+			int iPivotRow = k;
+			double dblPivotMagnitude = java.lang.Math.abs (adblLU[k * iSize + k]);
+
+			for (int i = k + 1; i < iSize; ++i) {
+				double dblMagnitude = java.lang.Math.abs (adblLU[i * iSize + k]);
+
+				if (dblMagnitude > dblPivotMagnitude) {
+					iPivotRow = i;
+					dblPivotMagnitude = dblMagnitude;
+				}
+			}
+
+			if (0. == dblPivotMagnitude) return null;
+
+			if ((aiPivot[k] = iPivotRow) != k) {
+				int iKOffset = k * iSize;
+				int iPivotOffset = iPivotRow * iSize;
+				bEvenPermutation = !bEvenPermutation;
+
+				for (int j = 0; j < iSize; ++j) {
+					double dblSwap = adblLU[iKOffset + j];
+					adblLU[iKOffset + j] = adblLU[iPivotOffset + j];
+					adblLU[iPivotOffset + j] = dblSwap;
+				}
+			}
+
+			int iKOffset = k * iSize;
+			double dblPivot = adblLU[iKOffset + k];
+
+			for (int i = k + 1; i < iSize; ++i) {
+				int iOffset = i * iSize;
+				double dblMultiplier = adblLU[iOffset + k] /= dblPivot;
+
+				if (0. == dblMultiplier) continue;
+
+				for (int j = k + 1; j < iSize; ++j)
+					adblLU[iOffset + j] -= dblMultiplier * adblLU[iKOffset + j];
+			}
+		}
+
+		try {
+			return new LUFactorization (iSize, adblLU, aiPivot, bEvenPermutation);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private LUFactorization (
+		final int iSize,
+		final double[] adblLU,
+		final int[] aiPivot,
+		final boolean bEvenPermutation)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iSize = iSize) || null == (_adblLU = adblLU) || null == (_aiPivot = aiPivot))
+			throw new java.lang.Exception ("LUFactorization ctr: Invalid Inputs");
+
+		_bEvenPermutation = bEvenPermutation;
+	}
+
+	/**
+	 * Retrieve the Size of the Factorized Matrix
+	 * 
+	 * @return The Size
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Row Interchanges - Row k was swapped with Row pivot()[k] at Step k
+	 * 
+	 * @return The Row Interchanges
+	 */
+
+	public int[] pivot()
+	{
+		return _aiPivot;
+	}
+
+	/**
+	 * Retrieve the packed L/U Factors as a DenseMatrix
+	 * 
+	 * @return The packed L/U Factors
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix lu()
+	{
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iSize, _iSize, _adblLU);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the Determinant of the Factorized Matrix
+	 * 
+	 * @return The Determinant
+	 */
+
+	public double determinant()
+	{
+		double dblDeterminant = _bEvenPermutation ? 1. : -1.;
+
+		for (int i = 0; i < _iSize; ++i)
+			dblDeterminant *= _adblLU[i * _iSize + i];
+
+		return dblDeterminant;
+	}
+
+	/**
+	 * Solve A.x = b in place, overwriting b with x
+	 * 
+	 * @param adblB The Right Hand Side, overwritten with the Solution
+	 * 
+	 * @return TRUE => The Solve succeeded
+	 */
+
+	public boolean solveInPlace (
+		final double[] adblB)
+	{
+		if (null == adblB || _iSize != adblB.length) return false;
+
+		for (int k = 0; k < _iSize; ++k) {
+			int iPivotRow = _aiPivot[k];
+
+			if (iPivotRow != k) {
+				double dblSwap = adblB[k];
+				adblB[k] = adblB[iPivotRow];
+				adblB[iPivotRow] = dblSwap;
+			}
+		}
+
+		for (int i = 1; i < _iSize; ++i) {
+			double dblSum = adblB[i];
+			int iOffset = i * _iSize;
+
+			for (int j = 0; j < i; ++j)
+				dblSum -= _adblLU[iOffset + j] * adblB[j];
+
+			adblB[i] = dblSum;
+		}
+
+		for (int i = _iSize - 1; i >= 0; --i) {
+			double dblSum = adblB[i];
+			int iOffset = i * _iSize;
+
+			for (int j = i + 1; j < _iSize; ++j)
+				dblSum -= _adblLU[iOffset + j] * adblB[j];
+
+			adblB[i] = dblSum / _adblLU[iOffset + i];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Solve A.x = b
+	 * 
+	 * @param adblB The Right Hand Side
+	 * 
+	 * @return The Solution x (null if the Dimensions do not match)
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		if (null == adblB) return null;
+
+		double[] adblX = adblB.clone();
+
+		return solveInPlace (adblX) ? adblX : null;
+	}
+
+	/**
+	 * Solve A.X = B for all the Columns of B at once
+	 * 
+	 * @param dmB The Right Hand Side Matrix
+	 * 
+	 * @return The Solution Matrix X (null if the Dimensions do not match)
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix solve (
+		final org.drip.quant.linearalgebra.DenseMatrix dmB)
+	{
+		if (null == dmB || _iSize != dmB.numRow()) return null;
+
+		int iNumCol = dmB.numCol();
+
+		double[] adblX = dmB.entries().clone();
+
+		for (int k = 0; k < _iSize; ++k) {
+			int iPivotRow = _aiPivot[k];
+
+			if (iPivotRow == k) continue;
+
+			int iKOffset = k * iNumCol;
+			int iPivotOffset = iPivotRow * iNumCol;
+
+			for (int c = 0; c < iNumCol; ++c) {
+				double dblSwap = adblX[iKOffset + c];
+				adblX[iKOffset + c] = adblX[iPivotOffset + c];
+				adblX[iPivotOffset + c] = dblSwap;
+			}
+		}
+
+		for (int i = 1; i < _iSize; ++i) {
+			int iOffset = i * iNumCol;
+
+			for (int j = 0; j < i; ++j) {
+				double dblL = _adblLU[i * _iSize + j];
+
+				if (0. == dblL) continue;
+
+				int iJOffset = j * iNumCol;
+
+				for (int c = 0; c < iNumCol; ++c)
+					adblX[iOffset + c] -= dblL * adblX[iJOffset + c];
+			}
+		}
+
+		for (int i = _iSize - 1; i >= 0; --i) {
+			int iOffset = i * iNumCol;
+
+			for (int j = i + 1; j < _iSize; ++j) {
+				double dblU = _adblLU[i * _iSize + j];
+
+				if (0. == dblU) continue;
+
+				int iJOffset = j * iNumCol;
+
+				for (int c = 0; c < iNumCol; ++c)
+					adblX[iOffset + c] -= dblU * adblX[iJOffset + c];
+			}
+
+			double dblDiagonal = _adblLU[i * _iSize + i];
+
+			for (int c = 0; c < iNumCol; ++c)
+				adblX[iOffset + c] /= dblDiagonal;
+		}
+
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iSize, iNumCol, adblX);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the Inverse of the Factorized Matrix
+	 * 
+	 * @return The Inverse
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix inverse()
+	{
+		return solve (org.drip.quant.linearalgebra.DenseMatrix.Identity (_iSize));
+	}
+}
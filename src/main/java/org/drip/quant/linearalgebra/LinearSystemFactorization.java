@@ -0,0 +1,261 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LinearSystemFactorization holds the Factorization of the Coefficient Matrix A of the Linear System
+ * 	A * x = B, computed once and then re-used to solve against any Number of Right Hand Sides. Matrices whose
+ * 	Non-Zero Entries lie in a narrow Band around the Diagonal (Tridiagonal included) are factorized through
+ * 	the BandedLUFactorization; all others through the dense LUFactorization. Each Solve is returned as the
+ * 	usual LinearizationOutput, with the Factor as the Transformed Matrix.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LinearSystemFactorization {
+
+	/**
+	 * Dense LU Factorization Method
+	 */
+
+	public static final String DENSE_LU = "LUFactorization";
+
+	/**
+	 * Banded LU Factorization Method
+	 */
+
+	public static final String BANDED_LU = "BandedLUFactorization";
+
+	private int _iSize = -1;
+	private double[][] _aadblFactor = null;
+	private double[][] _aadblInverse = null;
+	private String _strMethod = "";
+	private org.drip.quant.linearalgebra.LUFactorization _lu = null;
+	private org.drip.quant.linearalgebra.BandedLUFactorization _blu = null;
+
+	/**
+	 * Factorize the Square Coefficient Matrix, picking the Banded Path when the Band (including the Room
+	 * 	for Pivoting Fill-in) is at most half the Matrix Size. Entries outside the Band are Zero by
+	 * 	construction, so only the Band Entries are validated on that Path.
+	 * 
+	 * @param aadblA The Square Coefficient Matrix
+	 * 
+	 * @return The LinearSystemFactorization (null if the Matrix is Invalid or Singular)
+	 */
+
+	public static final LinearSystemFactorization Standard (
+		final double[][] aadblA)
+	{
+		if (null == aadblA) return null;
+
+		int iSize = aadblA.length;
+
+		if (0 == iSize) return null;
+
+		for (int i = 0; i < iSize; ++i) {
+			if (null == aadblA[i] || iSize != aadblA[i].length) return null;
+		}
+
+		int iLowerBandwidth = org.drip.quant.linearalgebra.BandedLUFactorization.LowerBandwidth (aadblA);
+
+		int iUpperBandwidth = org.drip.quant.linearalgebra.BandedLUFactorization.UpperBandwidth (aadblA);
+
+		try {
+			if (2 * (2 * iLowerBandwidth + iUpperBandwidth + 1) <= iSize) {
+				org.drip.quant.linearalgebra.BandedLUFactorization blu =
+					org.drip.quant.linearalgebra.BandedLUFactorization.Standard (aadblA, iLowerBandwidth,
+						iUpperBandwidth);
+
+				return null == blu ? null : new LinearSystemFactorization (iSize, null, blu);
+			}
+
+			org.drip.quant.linearalgebra.LUFactorization lu =
+				org.drip.quant.linearalgebra.LUFactorization.Standard
+					(org.drip.quant.linearalgebra.DenseMatrix.FromArray (aadblA), true);
+
+			return null == lu ? null : new LinearSystemFactorization (iSize, lu, null);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private LinearSystemFactorization (
+		final int iSize,
+		final org.drip.quant.linearalgebra.LUFactorization lu,
+		final org.drip.quant.linearalgebra.BandedLUFactorization blu)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iSize = iSize) || (null == (_lu = lu) && null == (_blu = blu)))
+			throw new java.lang.Exception ("LinearSystemFactorization ctr: Invalid Inputs");
+
+		_strMethod = null == _lu ? BANDED_LU : DENSE_LU;
+	}
+
+	/**
+	 * Retrieve the Size of the System
+	 * 
+	 * @return The Size of the System
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Factorization Method
+	 * 
+	 * @return The Factorization Method
+	 */
+
+	public String method()
+	{
+		return _strMethod;
+	}
+
+	/**
+	 * Indicate if the Banded Path is in use
+	 * 
+	 * @return TRUE => The Banded Path is in use
+	 */
+
+	public boolean isBanded()
+	{
+		return null != _blu;
+	}
+
+	/**
+	 * Retrieve the Factor as a Dense Square Array (materialized once, on first use)
+	 * 
+	 * @return The Dense Factor Array
+	 */
+
+	public double[][] factor()
+	{
+		if (null == _aadblFactor) _aadblFactor = null == _lu ? _blu.factor() : _lu.lu().toArray();
+
+		return _aadblFactor;
+	}
+
+	/**
+	 * Retrieve the Inverse of the Coefficient Matrix (computed once, on first use)
+	 * 
+	 * @return The Inverse
+	 */
+
+	public double[][] inverse()
+	{
+		if (null != _aadblInverse) return _aadblInverse;
+
+		if (null != _lu) {
+			org.drip.quant.linearalgebra.DenseMatrix dmInverse = _lu.inverse();
+
+			return null == dmInverse ? null : (_aadblInverse = dmInverse.toArray());
+		}
+
+		double[][] aadblInverseTranspose = new double[_iSize][_iSize];
+
+		for (int i = 0; i < _iSize; ++i) {
+			aadblInverseTranspose[i][i] = 1.;
+
+			if (!_blu.solveInPlace (aadblInverseTranspose[i])) return null;
+		}
+
+		return _aadblInverse = org.drip.quant.linearalgebra.Matrix.Transpose (aadblInverseTranspose);
+	}
+
+	/**
+	 * Solve A.x = b in place, overwriting b with x
+	 * 
+	 * @param adblB The Right Hand Side, overwritten with the Solution
+	 * 
+	 * @return TRUE => The Solve succeeded
+	 */
+
+	public boolean solveInPlace (
+		final double[] adblB)
+	{
+		return null == _lu ? _blu.solveInPlace (adblB) : _lu.solveInPlace (adblB);
+	}
+
+	/**
+	 * Solve the System against the specified Right Hand Side
+	 * 
+	 * @param adblB The Right Hand Side
+	 * 
+	 * @return The LinearizationOutput containing the Solution
+	 */
+
+	public org.drip.quant.linearalgebra.LinearizationOutput solve (
+		final double[] adblB)
+	{
+		if (null == adblB || _iSize != adblB.length || !org.drip.quant.common.NumberUtil.IsValid (adblB))
+			return null;
+
+		double[] adblSolution = adblB.clone();
+
+		if (!solveInPlace (adblSolution)) return null;
+
+		try {
+			return new org.drip.quant.linearalgebra.LinearizationOutput (adblSolution, factor(), _strMethod);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Solve the System against each of the specified Right Hand Sides
+	 * 
+	 * @param aadblB Array of Right Hand Sides
+	 * 
+	 * @return Array of LinearizationOutput, one per Right Hand Side
+	 */
+
+	public org.drip.quant.linearalgebra.LinearizationOutput[] solve (
+		final double[][] aadblB)
+	{
+		if (null == aadblB) return null;
+
+		int iNumRHS = aadblB.length;
+		org.drip.quant.linearalgebra.LinearizationOutput[] aLO = new
+			org.drip.quant.linearalgebra.LinearizationOutput[iNumRHS];
+
+		if (0 == iNumRHS) return null;
+
+		for (int i = 0; i < iNumRHS; ++i) {
+			if (null == (aLO[i] = solve (aadblB[i]))) return null;
+		}
+
+		return aLO;
+	}
+}
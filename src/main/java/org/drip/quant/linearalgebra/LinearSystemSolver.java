@@ -38,6 +38,7 @@ package org.drip.quant.linearalgebra;
  * 	- Check for Diagonal Dominance
  * 	- Solving the linear system using any one of the following: Gaussian Elimination, Gauss Seidel reduction,
  * 		or matrix inversion.
+ * 	- Factorizing the linear system once for re-use across multiple RHS, with a Banded fast path.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -148,38 +149,66 @@ public class LinearSystemSolver {
 	}
 
 	/**
-	 * Solve the Linear System using Matrix Inversion from the Set of Values in the Array
+	 * Factorize the Coefficient Matrix once, for re-use against multiple Right Hand Sides
 	 * 
-	 * @param aadblAIn Input Matrix
+	 * @param aadblA The Coefficient Matrix
+	 * 
+	 * @return The LinearSystemFactorization (null if the Matrix is Invalid or Singular)
+	 */
+
+	public static final org.drip.quant.linearalgebra.LinearSystemFactorization Factorize (
+		final double[][] aadblA)
+	{
+		return org.drip.quant.linearalgebra.LinearSystemFactorization.Standard (aadblA);
+	}
+
+	/**
+	 * Solve the Linear System by Factorizing the Coefficient Matrix - Banded Matrices use the Banded Fast
+	 * 	Path
+	 * 
+	 * @param aadblA The Coefficient Matrix
 	 * @param adblB The Array of Values to be calibrated to
 	 * 
 	 * @return The Linear System Solution for the Coefficients
 	 */
 
-	public static final org.drip.quant.linearalgebra.LinearizationOutput SolveUsingMatrixInversion (
-		final double[][] aadblAIn,
+	public static final org.drip.quant.linearalgebra.LinearizationOutput SolveUsingFactorization (
+		final double[][] aadblA,
 		final double[] adblB)
 	{
-		if (null == aadblAIn || null == adblB) return null;
+		org.drip.quant.linearalgebra.LinearSystemFactorization lsf = Factorize (aadblA);
 
-		int iSize = aadblAIn.length;
-		double[] adblSolution = new double[iSize];
+		return null == lsf ? null : lsf.solve (adblB);
+	}
 
-		if (0 == iSize || null == aadblAIn[0] || iSize != aadblAIn[0].length) return null;
+	/**
+	 * Solve the Linear System using the (cached) Inverse of the Factorized Coefficient Matrix
+	 * 
+	 * @param lsf The Factorized Coefficient Matrix
+	 * @param adblB The Array of Values to be calibrated to
+	 * 
+	 * @return The Linear System Solution for the Coefficients
+	 */
 
-		if (adblB.length != iSize) return null;
+	public static final org.drip.quant.linearalgebra.LinearizationOutput SolveUsingMatrixInversion (
+		final org.drip.quant.linearalgebra.LinearSystemFactorization lsf,
+		final double[] adblB)
+	{
+		if (null == lsf || null == adblB || lsf.size() != adblB.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (adblB))
+			return null;
 
-		double[][] aadblInv = org.drip.quant.linearalgebra.Matrix.InvertUsingGaussianElimination (aadblAIn);
+		double[][] aadblInv = lsf.inverse();
 
 		if (null == aadblInv) return null;
 
-		double[][] aadblProduct = org.drip.quant.linearalgebra.Matrix.Product (aadblInv, adblB);
-
-		if (null == aadblProduct || iSize != aadblProduct.length || iSize != aadblProduct[0].length)
-			return null;
+		int iSize = adblB.length;
+		double[] adblSolution = new double[iSize];
 
-		for (int i = 0; i < iSize; ++i)
-			adblSolution[i] = aadblProduct[i][0];
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j < iSize; ++j)
+				adblSolution[i] += aadblInv[i][j] * adblB[j];
+		}
 
 		try {
 			return new LinearizationOutput (adblSolution, aadblInv, "GaussianElimination");
@@ -190,6 +219,24 @@ public class LinearSystemSolver {
 		return null;
 	}
 
+	/**
+	 * Solve the Linear System using Matrix Inversion from the Set of Values in the Array
+	 * 
+	 * @param aadblAIn Input Matrix
+	 * @param adblB The Array of Values to be calibrated to
+	 * 
+	 * @return The Linear System Solution for the Coefficients
+	 */
+
+	public static final org.drip.quant.linearalgebra.LinearizationOutput SolveUsingMatrixInversion (
+		final double[][] aadblAIn,
+		final double[] adblB)
+	{
+		if (null == aadblAIn || null == adblB || adblB.length != aadblAIn.length) return null;
+
+		return SolveUsingMatrixInversion (Factorize (aadblAIn), adblB);
+	}
+
 	/**
 	 * Solve the Linear System using Gaussian Elimination from the Set of Values in the Array
 	 * 
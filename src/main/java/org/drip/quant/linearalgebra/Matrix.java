@@ -38,6 +38,8 @@ package org.drip.quant.linearalgebra;
  * 	- Matrix Diagonalization and Diagonal Pivoting
  * 	- Matrix Regularization through Row Addition/Row Swap
  *
+ * Product, Inversion, and Cholesky Factorization are Adapters over the flat DenseMatrix Kernels.
+ *
  * @author Lakshmi Krishnamurthy
  */
 
@@ -111,29 +113,26 @@ public class Matrix {
 		final double[][] aadblA,
 		final double[] adblB)
 	{
-		if (null == aadblA || null == adblB) return null;
+		if (null == adblB) return null;
 
-		int iNumACol = aadblA[0].length;
 		int iNumProductCol = adblB.length;
-		int iNumProductRow = aadblA.length;
-		double[][] aadblProduct = new double[iNumProductRow][iNumProductCol];
 
-		if (0 == iNumACol || iNumACol != adblB.length || 0 == iNumProductRow || 0 == iNumProductCol)
-			return null;
+		if (0 == iNumProductCol || !org.drip.quant.common.NumberUtil.IsValid (adblB)) return null;
 
-		for (int iRow = 0; iRow < iNumProductRow; ++iRow) {
-			for (int iCol = 0; iCol < iNumProductCol; ++iCol) {
-				aadblProduct[iRow][iCol] = 0.;
+		org.drip.quant.linearalgebra.DenseMatrix dmA = org.drip.quant.linearalgebra.DenseMatrix.FromArray
+			(aadblA);
 
-				for (int i = 0; i < iNumACol; ++i) {
-					if (!org.drip.quant.common.NumberUtil.IsValid (aadblA[iRow][i]) ||
-						!org.drip.quant.common.NumberUtil.IsValid (adblB[i]))
-						return null;
+		if (null == dmA) return null;
 
-					aadblProduct[iRow][iCol] += aadblA[iRow][i] * adblB[i];
-				}
-			}
-		}
+		double[] adblAB = dmA.multiply (adblB);
+
+		if (null == adblAB) return null;
+
+		int iNumProductRow = adblAB.length;
+		double[][] aadblProduct = new double[iNumProductRow][iNumProductCol];
+
+		for (int iRow = 0; iRow < iNumProductRow; ++iRow)
+			java.util.Arrays.fill (aadblProduct[iRow], adblAB[iRow]);
 
 		return aadblProduct;
 	}
@@ -151,26 +150,29 @@ public class Matrix {
 		final double[] adblA,
 		final double[][] aadblB)
 	{
-		if (null == adblA || null == aadblB) return null;
+		if (null == adblA || !org.drip.quant.common.NumberUtil.IsValid (adblA)) return null;
+
+		org.drip.quant.linearalgebra.DenseMatrix dmB = org.drip.quant.linearalgebra.DenseMatrix.FromArray
+			(aadblB);
+
+		if (null == dmB) return null;
 
 		int iNumACol = adblA.length;
 		int iNumProductCol = aadblB.length;
-		double[][] aadblProduct = new double[iNumACol][iNumProductCol];
 
-		if (0 == iNumACol || iNumACol != aadblB.length || 0 == iNumProductCol) return null;
+		if (iNumACol != iNumProductCol || iNumProductCol > dmB.numCol()) return null;
 
-		for (int iRow = 0; iRow < iNumACol; ++iRow) {
-			for (int iCol = 0; iCol < iNumProductCol; ++iCol) {
-				aadblProduct[iRow][iCol] = 0.;
+		double[] adblBColumnSum = new double[iNumProductCol];
+		double[][] aadblProduct = new double[iNumACol][iNumProductCol];
 
-				for (int i = 0; i < iNumACol; ++i) {
-					if (!org.drip.quant.common.NumberUtil.IsValid (adblA[iRow]) ||
-						!org.drip.quant.common.NumberUtil.IsValid (aadblB[i][iCol]))
-						return null;
+		for (int i = 0; i < iNumACol; ++i) {
+			for (int iCol = 0; iCol < iNumProductCol; ++iCol)
+				adblBColumnSum[iCol] += dmB.get (i, iCol);
+		}
 
-					aadblProduct[iRow][iCol] += adblA[iRow] * aadblB[i][iCol];
-				}
-			}
+		for (int iRow = 0; iRow < iNumACol; ++iRow) {
+			for (int iCol = 0; iCol < iNumProductCol; ++iCol)
+				aadblProduct[iRow][iCol] = adblA[iRow] * adblBColumnSum[iCol];
 		}
 
 		return aadblProduct;
@@ -189,31 +191,15 @@ public class Matrix {
 		final double[][] aadblA,
 		final double[][] aadblB)
 	{
-		if (null == aadblA || null == aadblB) return null;
+		org.drip.quant.linearalgebra.DenseMatrix dmA = org.drip.quant.linearalgebra.DenseMatrix.FromArray
+			(aadblA);
 
-		int iNumACol = aadblA[0].length;
-		int iNumProductRow = aadblA.length;
-		int iNumProductCol = aadblB.length;
-		double[][] aadblProduct = new double[iNumProductRow][iNumProductCol];
-
-		if (0 == iNumACol || iNumACol != aadblB.length || 0 == iNumProductRow || 0 == iNumProductCol)
-			return null;
-
-		for (int iRow = 0; iRow < iNumProductRow; ++iRow) {
-			for (int iCol = 0; iCol < iNumProductCol; ++iCol) {
-				aadblProduct[iRow][iCol] = 0.;
+		if (null == dmA) return null;
 
-				for (int i = 0; i < iNumACol; ++i) {
-					if (!org.drip.quant.common.NumberUtil.IsValid (aadblA[iRow][i]) ||
-						!org.drip.quant.common.NumberUtil.IsValid (aadblB[i][iCol]))
-						return null;
-
-					aadblProduct[iRow][iCol] += aadblA[iRow][i] * aadblB[i][iCol];
-				}
-			}
-		}
+		org.drip.quant.linearalgebra.DenseMatrix dmProduct = dmA.multiply
+			(org.drip.quant.linearalgebra.DenseMatrix.FromArray (aadblB));
 
-		return aadblProduct;
+		return null == dmProduct ? null : dmProduct.toArray();
 	}
 
 	/**
@@ -378,57 +364,30 @@ public class Matrix {
 	}
 
 	/**
-	 * Invert the Source Matrix using Gaussian Elimination
+	 * Invert the Source Matrix using Gaussian Elimination with Partial Pivoting, i.e., through its
+	 * 	LUFactorization
 	 * 
 	 * @param aadblSource Source Matrix
 	 * 
-	 * @return The Inverted Matrix
+	 * @return The Inverted Matrix (null if the Source is Invalid or Singular)
 	 */
 
 	public static final double[][] InvertUsingGaussianElimination (
 		final double[][] aadblSource)
 	{
-		org.drip.quant.linearalgebra.MatrixComplementTransform mctRegularized =
-			org.drip.quant.linearalgebra.Matrix.PivotDiagonal (aadblSource);
-
-		if (null == mctRegularized) return null;
-
-		double[][] aadblRegularizedSource = mctRegularized.getSource();
-
-		double[][] aadblRegularizedInverse = mctRegularized.getComplement();
-
-		int iSize = aadblRegularizedSource.length;
-
-		for (int iDiagonal = 0; iDiagonal < iSize; ++iDiagonal) {
-			if (0. == aadblRegularizedSource[iDiagonal][iDiagonal]) return null;
-
-			for (int iRow = 0; iRow < iSize; ++iRow) {
-				if (iRow == iDiagonal || 0. == aadblRegularizedSource[iRow][iDiagonal]) continue;
+		org.drip.quant.linearalgebra.DenseMatrix dmSource =
+			org.drip.quant.linearalgebra.DenseMatrix.FromArray (aadblSource);
 
-				double dblColEntryEliminatorRatio = aadblRegularizedSource[iDiagonal][iDiagonal] /
-					aadblRegularizedSource[iRow][iDiagonal];
+		if (null == dmSource) return null;
 
-				for (int iCol = 0; iCol < iSize; ++iCol) {
-					aadblRegularizedSource[iRow][iCol] = aadblRegularizedSource[iRow][iCol] *
-						dblColEntryEliminatorRatio - aadblRegularizedSource[iDiagonal][iCol];
-					aadblRegularizedInverse[iRow][iCol] = aadblRegularizedInverse[iRow][iCol] *
-						dblColEntryEliminatorRatio - aadblRegularizedInverse[iDiagonal][iCol];
-				}
-			}
-		}
-
-		for (int iDiagonal = 0; iDiagonal < iSize; ++iDiagonal) {
-			double dblDiagScaleDown = aadblRegularizedSource[iDiagonal][iDiagonal];
+		org.drip.quant.linearalgebra.LUFactorization lu =
+			org.drip.quant.linearalgebra.LUFactorization.Standard (dmSource, true);
 
-			if (0. == dblDiagScaleDown) return null;
+		if (null == lu) return null;
 
-			for (int iCol = 0; iCol < iSize; ++iCol) {
-				aadblRegularizedSource[iDiagonal][iCol] /= dblDiagScaleDown;
-				aadblRegularizedInverse[iDiagonal][iCol] /= dblDiagScaleDown;
-			}
-		}
+		org.drip.quant.linearalgebra.DenseMatrix dmInverse = lu.inverse();
 
-		return aadblRegularizedInverse;
+		return null == dmInverse ? null : dmInverse.toArray();
 	}
 
 	/**
@@ -444,34 +403,11 @@ public class Matrix {
 		final double[][] aadblA,
 		final String strMethod)
 	{
-		if (null == aadblA) return null;
-
-		int iSize = aadblA.length;
-		double[][] aadblAInv = null;
-		double[][] aadblASource = new double[iSize][iSize];
-		double[][] aadblZ2YJack = new double[iSize][iSize];
-
-		if (0 == iSize || iSize != aadblA[0].length) return null;
-
-		for (int i = 0; i < iSize; ++i) {
-			for (int j = 0; j < iSize; ++j) {
-				if (!org.drip.quant.common.NumberUtil.IsValid (aadblASource[i][j] = aadblA[i][j]))
-					return null;
-
-				aadblZ2YJack[i][j] = i == j ? 1. : 0.;
-			}
-		}
-
-		for (int i = 0; i < iSize; ++i) {
-			if (0. == aadblASource[i][i] && !DiagonalizeRow (i, aadblASource, aadblZ2YJack)) return null;
-		}
-
-		if (null == strMethod || strMethod.isEmpty() || strMethod.equalsIgnoreCase ("GaussianElimination"))
-			aadblAInv = InvertUsingGaussianElimination (aadblASource);
-
-		if (null == aadblAInv || iSize != aadblAInv.length || iSize != aadblAInv[0].length) return null;
+		if (null != strMethod && !strMethod.isEmpty() && !strMethod.equalsIgnoreCase
+			("GaussianElimination"))
+			return null;
 
-		return Product (aadblAInv, aadblZ2YJack);
+		return InvertUsingGaussianElimination (aadblA);
 	}
 
 	/**
@@ -505,38 +441,21 @@ public class Matrix {
 	 * 
 	 * @param aadblA The Input Matrix
 	 * 
-	 * @return The Factorized Matrix
+	 * @return The Factorized Matrix (null if the Input is not Positive Semi-Definite)
 	 */
 
 	public static final double[][] CholeskyBanachiewiczFactorization (
 		final double[][] aadblA)
 	{
-		if (null == aadblA) return null;
-
-		int iSize = aadblA.length;
-		double[][] aadblL = new double[iSize][iSize];
+		org.drip.quant.linearalgebra.DenseMatrix dmA = org.drip.quant.linearalgebra.DenseMatrix.FromArray
+			(aadblA);
 
-		if (0 == iSize || null == aadblA[0] || iSize != aadblA[0].length) return null;
-
-		for (int i = 0; i < iSize; ++i) {
-			for (int j = 0; j < iSize; ++j) {
-				aadblL[i][j] = 0.;
-
-				if (i == j) {
-					for (int k = 0; k < j; ++k)
-						aadblL[j][j] -= aadblL[j][k] * aadblL[j][k];
+		if (null == dmA) return null;
 
-					aadblL[j][j] = java.lang.Math.sqrt (aadblL[j][j] + aadblA[j][j]);
-				} else if (i > j) {
-					for (int k = 0; k < j; ++k)
-						aadblL[i][j] -= aadblL[i][k] * aadblL[j][k];
-
-					aadblL[i][j] = (aadblA[i][j] + aadblL[i][j]) / aadblL[j][j];
-				}
-			}
-		}
+		org.drip.quant.linearalgebra.CholeskyFactorization cf =
+			org.drip.quant.linearalgebra.CholeskyFactorization.Standard (dmA, true);
 
-		return aadblL;
+		return null == cf ? null : cf.l().toArray();
 	}
 
 	/**
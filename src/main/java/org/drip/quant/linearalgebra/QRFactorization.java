@@ -0,0 +1,279 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * QRFactorization holds the Householder Factorization A = Q.R of an m x n DenseMatrix (m >= n). The
+ * 	Householder Vectors are packed below the Diagonal and R above it, in a single Row-Major Array. Once
+ * 	factorized, it can be re-used to solve the Least Squares Problem min ||A.x - b|| for any Number of
+ * 	Right Hand Sides, and to extract Q and R explicitly.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class QRFactorization {
+	private int _iNumRow = -1;
+	private int _iNumCol = -1;
+	private double[] _adblQR = null;
+	private double[] _adblRDiagonal = null;
+
+	/**
+	 * Factorize the specified DenseMatrix
+	 * 
+	 * @param dm The DenseMatrix (at least as many Rows as Columns)
+	 * @param bInPlace TRUE => Overwrite the Entries of the Input Matrix with the Factors
+	 * 
+	 * @return The QRFactorization (null if the Matrix has fewer Rows than Columns)
+	 */
+
+	public static final QRFactorization Standard (
+		final org.drip.quant.linearalgebra.DenseMatrix dm,
+		final boolean bInPlace)
+	{
+		if (null == dm || dm.numRow() < dm.numCol()) return null;
+
+		int iNumRow = dm.numRow();
+
+		int iNumCol = dm.numCol();
+
+		double[] adblRDiagonal = new double[iNumCol];
+		double[] adblQR = bInPlace ? dm.entries() : dm.entries().clone();
+
+		for (int k = 0; k < iNumCol; ++k) {
+			double dblNorm = 0.;
+
+			for (int i = k; i < iNumRow; ++i)
+				dblNorm = java.lang.Math.hypot (dblNorm, adblQR[i * iNumCol + k]);
+
+			if (0. != dblNorm) {
+				if (0. > adblQR[k * iNumCol + k]) dblNorm = -dblNorm;
+
+				for (int i = k; i < iNumRow; ++i)
+					adblQR[i * iNumCol + k] /= dblNorm;
+
+				adblQR[k * iNumCol + k] += 1.;
+
+				for (int j = k + 1; j < iNumCol; ++j) {
+					double dblDot = 0.;
+
+					for (int i = k; i < iNumRow; ++i)
+						dblDot += adblQR[i * iNumCol + k] * adblQR[i * iNumCol + j];
+
+					dblDot = -dblDot / adblQR[k * iNumCol + k];
+
+					for (int i = k; i < iNumRow; ++i)
+						adblQR[i * iNumCol + j] += dblDot * adblQR[i * iNumCol + k];
+				}
+			}
+
+			adblRDiagonal[k] = -dblNorm;
+		}
+
+		try {
+			return new QRFactorization (iNumRow, iNumCol, adblQR, adblRDiagonal);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private QRFactorization (
+		final int iNumRow,
+		final int iNumCol,
+		final double[] adblQR,
+		final double[] adblRDiagonal)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumRow = iNumRow) || 0 >= (_iNumCol = iNumCol) || null == (_adblQR = adblQR) || null
+			== (_adblRDiagonal = adblRDiagonal))
+			throw new java.lang.Exception ("QRFactorization ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Indicate if the Factorized Matrix has Full Column Rank
+	 * 
+	 * @return TRUE => Full Column Rank
+	 */
+
+	public boolean isFullRank()
+	{
+		for (int j = 0; j < _iNumCol; ++j) {
+			if (0. == _adblRDiagonal[j]) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Extract the Upper Triangular n x n R
+	 * 
+	 * @return R
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix r()
+	{
+		double[] adblR = new double[_iNumCol * _iNumCol];
+
+		for (int i = 0; i < _iNumCol; ++i) {
+			adblR[i * _iNumCol + i] = _adblRDiagonal[i];
+
+			for (int j = i + 1; j < _iNumCol; ++j)
+				adblR[i * _iNumCol + j] = _adblQR[i * _iNumCol + j];
+		}
+
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iNumCol, _iNumCol, adblR);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Extract the m x n Q with Orthonormal Columns
+	 * 
+	 * @return Q
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix q()
+	{
+		double[] adblQ = new double[_iNumRow * _iNumCol];
+
+		for (int k = _iNumCol - 1; k >= 0; --k) {
+			adblQ[k * _iNumCol + k] = 1.;
+			double dblVK = _adblQR[k * _iNumCol + k];
+
+			if (0. == dblVK) continue;
+
+			for (int j = k; j < _iNumCol; ++j) {
+				double dblDot = 0.;
+
+				for (int i = k; i < _iNumRow; ++i)
+					dblDot += _adblQR[i * _iNumCol + k] * adblQ[i * _iNumCol + j];
+
+				dblDot = -dblDot / dblVK;
+
+				for (int i = k; i < _iNumRow; ++i)
+					adblQ[i * _iNumCol + j] += dblDot * _adblQR[i * _iNumCol + k];
+			}
+		}
+
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iNumRow, _iNumCol, adblQ);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Solve the Least Squares Problem min ||A.x - b|| (the exact Solution for a Square Non-Singular A)
+	 * 
+	 * @param adblB The Right Hand Side
+	 * 
+	 * @return The Solution x (null if the Dimensions do not match or A is Rank Deficient)
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		if (null == adblB || _iNumRow != adblB.length || !isFullRank()) return null;
+
+		double[] adblY = adblB.clone();
+
+		for (int k = 0; k < _iNumCol; ++k) {
+			double dblDot = 0.;
+
+			for (int i = k; i < _iNumRow; ++i)
+				dblDot += _adblQR[i * _iNumCol + k] * adblY[i];
+
+			dblDot = -dblDot / _adblQR[k * _iNumCol + k];
+
+			for (int i = k; i < _iNumRow; ++i)
+				adblY[i] += dblDot * _adblQR[i * _iNumCol + k];
+		}
+
+		double[] adblX = new double[_iNumCol];
+
+		for (int i = _iNumCol - 1; i >= 0; --i) {
+			double dblSum = adblY[i];
+			int iOffset = i * _iNumCol;
+
+			for (int j = i + 1; j < _iNumCol; ++j)
+				dblSum -= _adblQR[iOffset + j] * adblX[j];
+
+			adblX[i] = dblSum / _adblRDiagonal[i];
+		}
+
+		return adblX;
+	}
+
+	/**
+	 * Solve the Least Squares Problem min ||A.X - B|| column by column
+	 * 
+	 * @param dmB The Right Hand Side Matrix
+	 * 
+	 * @return The Solution Matrix X (null if the Dimensions do not match or A is Rank Deficient)
+	 */
+
+	public org.drip.quant.linearalgebra.DenseMatrix solve (
+		final org.drip.quant.linearalgebra.DenseMatrix dmB)
+	{
+		if (null == dmB || _iNumRow != dmB.numRow()) return null;
+
+		int iNumRHS = dmB.numCol();
+
+		double[] adblB = dmB.entries();
+		double[] adblColumn = new double[_iNumRow];
+		double[] adblX = new double[_iNumCol * iNumRHS];
+
+		for (int c = 0; c < iNumRHS; ++c) {
+			for (int i = 0; i < _iNumRow; ++i)
+				adblColumn[i] = adblB[i * iNumRHS + c];
+
+			double[] adblColumnX = solve (adblColumn);
+
+			if (null == adblColumnX) return null;
+
+			for (int i = 0; i < _iNumCol; ++i)
+				adblX[i * iNumRHS + c] = adblColumnX[i];
+		}
+
+		try {
+			return new org.drip.quant.linearalgebra.DenseMatrix (_iNumCol, iNumRHS, adblX);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,226 @@
+
+package org.drip.sequence.metrics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ControlVariateMetrics adjusts the Monte-Carlo Estimate of the Expectation of a Target Sequence using a
+ * 	Control Sequence sampled on the same Paths whose Expectation is known in Closed Form. The Adjustment
+ * 	Coefficient is the Variance Minimizing Beta = Cov (Target, Control) / Var (Control), and the Variance
+ * 	of the Adjusted Estimate shrinks by the Factor (1 - Correlation^2).
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ControlVariateMetrics {
+	private int _iNumEntry = -1;
+	private double _dblBeta = java.lang.Double.NaN;
+	private double _dblControlMean = java.lang.Double.NaN;
+	private double _dblTargetMean = java.lang.Double.NaN;
+	private double _dblAdjustedMean = java.lang.Double.NaN;
+	private double _dblTargetVariance = java.lang.Double.NaN;
+	private double _dblControlVariance = java.lang.Double.NaN;
+	private double _dblAdjustedVariance = java.lang.Double.NaN;
+	private double _dblControlExpectation = java.lang.Double.NaN;
+
+	/**
+	 * ControlVariateMetrics Constructor
+	 * 
+	 * @param adblTarget Array of the Target Sequence Entries
+	 * @param adblControl Array of the Control Sequence Entries, sampled on the same Paths
+	 * @param dblControlExpectation The Known Expectation of the Control
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public ControlVariateMetrics (
+		final double[] adblTarget,
+		final double[] adblControl,
+		final double dblControlExpectation)
+		throws java.lang.Exception
+	{
+		if (null == adblTarget || null == adblControl || 1 >= (_iNumEntry = adblTarget.length) || _iNumEntry
+			!= adblControl.length || !org.drip.quant.common.NumberUtil.IsValid (_dblControlExpectation =
+				dblControlExpectation) || !org.drip.quant.common.NumberUtil.IsValid (adblTarget) ||
+					!org.drip.quant.common.NumberUtil.IsValid (adblControl))
+			throw new java.lang.Exception ("ControlVariateMetrics ctr: Invalid Inputs");
+
+		_dblTargetMean = 0.;
+		_dblControlMean = 0.;
+		double dblCovariance = 0.;
+		_dblTargetVariance = 0.;
+		_dblControlVariance = 0.;
+
+		for (int i = 0; i < _iNumEntry; ++i) {
+			_dblTargetMean += adblTarget[i];
+			_dblControlMean += adblControl[i];
+		}
+
+		_dblTargetMean /= _iNumEntry;
+		_dblControlMean /= _iNumEntry;
+
+		for (int i = 0; i < _iNumEntry; ++i) {
+			double dblTargetDeviation = adblTarget[i] - _dblTargetMean;
+			double dblControlDeviation = adblControl[i] - _dblControlMean;
+			_dblTargetVariance += dblTargetDeviation * dblTargetDeviation;
+			_dblControlVariance += dblControlDeviation * dblControlDeviation;
+			dblCovariance += dblTargetDeviation * dblControlDeviation;
+		}
+
+		_dblTargetVariance /= _iNumEntry;
+		_dblControlVariance /= _iNumEntry;
+		dblCovariance /= _iNumEntry;
+		_dblBeta = 0. == _dblControlVariance ? 0. : dblCovariance / _dblControlVariance;
+		_dblAdjustedMean = _dblTargetMean - _dblBeta * (_dblControlMean - _dblControlExpectation);
+		_dblAdjustedVariance = _dblTargetVariance - _dblBeta * dblCovariance;
+
+		if (0. > _dblAdjustedVariance) _dblAdjustedVariance = 0.;
+	}
+
+	/**
+	 * Retrieve the Number of Entries
+	 * 
+	 * @return The Number of Entries
+	 */
+
+	public int numEntry()
+	{
+		return _iNumEntry;
+	}
+
+	/**
+	 * Retrieve the Control Variate Adjustment Coefficient (Beta)
+	 * 
+	 * @return The Control Variate Adjustment Coefficient
+	 */
+
+	public double beta()
+	{
+		return _dblBeta;
+	}
+
+	/**
+	 * Retrieve the Known Expectation of the Control
+	 * 
+	 * @return The Known Expectation of the Control
+	 */
+
+	public double controlExpectation()
+	{
+		return _dblControlExpectation;
+	}
+
+	/**
+	 * Retrieve the Empirical Mean of the Control
+	 * 
+	 * @return The Empirical Mean of the Control
+	 */
+
+	public double controlMean()
+	{
+		return _dblControlMean;
+	}
+
+	/**
+	 * Retrieve the Un-adjusted Empirical Mean of the Target
+	 * 
+	 * @return The Un-adjusted Empirical Mean of the Target
+	 */
+
+	public double targetMean()
+	{
+		return _dblTargetMean;
+	}
+
+	/**
+	 * Retrieve the Control Variate Adjusted Estimate of the Target Expectation
+	 * 
+	 * @return The Control Variate Adjusted Estimate of the Target Expectation
+	 */
+
+	public double adjustedMean()
+	{
+		return _dblAdjustedMean;
+	}
+
+	/**
+	 * Retrieve the Empirical Variance of the Target
+	 * 
+	 * @return The Empirical Variance of the Target
+	 */
+
+	public double targetVariance()
+	{
+		return _dblTargetVariance;
+	}
+
+	/**
+	 * Retrieve the Empirical Variance of the Control
+	 * 
+	 * @return The Empirical Variance of the Control
+	 */
+
+	public double controlVariance()
+	{
+		return _dblControlVariance;
+	}
+
+	/**
+	 * Retrieve the Per-Sample Variance of the Control Variate Adjusted Target
+	 * 
+	 * @return The Per-Sample Variance of the Control Variate Adjusted Target
+	 */
+
+	public double adjustedVariance()
+	{
+		return _dblAdjustedVariance;
+	}
+
+	/**
+	 * Retrieve the Standard Error of the Control Variate Adjusted Estimate
+	 * 
+	 * @return The Standard Error of the Control Variate Adjusted Estimate
+	 */
+
+	public double adjustedStandardError()
+	{
+		return java.lang.Math.sqrt (_dblAdjustedVariance / _iNumEntry);
+	}
+
+	/**
+	 * Retrieve the Variance Reduction Ratio (Un-adjusted Variance / Adjusted Variance)
+	 * 
+	 * @return The Variance Reduction Ratio
+	 */
+
+	public double varianceReductionRatio()
+	{
+		return 0. == _dblAdjustedVariance ? java.lang.Double.POSITIVE_INFINITY : _dblTargetVariance /
+			_dblAdjustedVariance;
+	}
+}
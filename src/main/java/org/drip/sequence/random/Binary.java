@@ -37,8 +37,6 @@ package org.drip.sequence.random;
 public class Binary extends org.drip.sequence.random.Bounded {
 	private double _dblPositiveProbability = java.lang.Double.NaN;
 
-	private java.util.Random _rng = new java.util.Random();
-
 	/**
 	 * Binary Distribution Constructor
 	 * 
@@ -69,8 +67,9 @@ public class Binary extends org.drip.sequence.random.Bounded {
 		return _dblPositiveProbability;
 	}
 
-	@Override public double random()
+	@Override public double random (
+		final org.drip.sequence.random.RandomEngine re)
 	{
-		return _rng.nextDouble() < _dblPositiveProbability ? 0. : 1.;
+		return re.nextDouble() < _dblPositiveProbability ? 0. : 1.;
 	}
 }
@@ -75,10 +75,9 @@ public abstract class Bounded extends org.drip.sequence.random.UnivariateSequenc
 		final int iNumEntry,
 		final org.drip.measure.continuous.R1 distPopulation)
 	{
-		double[] adblSequence = new double[iNumEntry];
+		double[] adblSequence = sequence (iNumEntry);
 
-		for (int i = 0; i < iNumEntry; ++i)
-			adblSequence[i] = random();
+		if (null == adblSequence) return null;
 
 		try {
 			return new org.drip.sequence.metrics.UnitSequenceAgnosticMetrics (adblSequence, null ==
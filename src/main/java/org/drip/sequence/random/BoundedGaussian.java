@@ -65,13 +65,28 @@ public class BoundedGaussian extends org.drip.sequence.random.BoxMullerGaussian
 			throw new java.lang.Exception ("BoundedGaussian ctr: Invalid Inputs");
 	}
 
-	@Override public double random()
+	@Override public double random (
+		final org.drip.sequence.random.RandomEngine re)
 	{
-		double dblGaussian = super.random();
+		double dblGaussian = super.random (re);
 
 		while (dblGaussian < _dblLowerBound || dblGaussian > _dblUpperBound)
-			dblGaussian = super.random();
+			dblGaussian = super.random (re);
 
 		return dblGaussian;
 	}
+
+	@Override public boolean fill (
+		final double[] adbl,
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == adbl || null == re) return false;
+
+		int iNumEntry = adbl.length;
+
+		for (int i = 0; i < iNumEntry; ++i)
+			adbl[i] = random (re);
+
+		return true;
+	}
 }
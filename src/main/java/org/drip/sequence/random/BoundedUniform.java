@@ -36,8 +36,6 @@ package org.drip.sequence.random;
  */
 
 public class BoundedUniform extends org.drip.sequence.random.Bounded {
-	private java.util.Random _rng = new java.util.Random();
-
 	/**
 	 * BoundedUniform Distribution Constructor
 	 * 
@@ -55,10 +53,28 @@ public class BoundedUniform extends org.drip.sequence.random.Bounded {
 		super (dblLowerBound, dblUpperBound);
 	}
 
-	@Override public double random()
+	@Override public double random (
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		double dblLowerBound = lowerBound();
 
-		return dblLowerBound + _rng.nextDouble() * (upperBound() - dblLowerBound);
+		return dblLowerBound + re.nextDouble() * (upperBound() - dblLowerBound);
+	}
+
+	@Override public boolean fill (
+		final double[] adbl,
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == re || !re.fill (adbl)) return false;
+
+		int iNumEntry = adbl.length;
+		double dblLowerBound = lowerBound();
+
+		double dblWidth = upperBound() - dblLowerBound;
+
+		for (int i = 0; i < iNumEntry; ++i)
+			adbl[i] = dblLowerBound + adbl[i] * dblWidth;
+
+		return true;
 	}
 }
@@ -39,8 +39,6 @@ public class BoundedUniformInteger extends org.drip.sequence.random.UnivariateSe
 	private int _iStart = -1;
 	private int _iFinish = -1;
 
-	private java.util.Random _rng = new java.util.Random();
-
 	/**
 	 * BoundedUniformInteger Distribution Constructor
 	 * 
@@ -81,19 +79,19 @@ public class BoundedUniformInteger extends org.drip.sequence.random.UnivariateSe
 		return _iFinish;
 	}
 
-	@Override public double random()
+	@Override public double random (
+		final org.drip.sequence.random.RandomEngine re)
 	{
-		return (int) (_iStart + _rng.nextDouble() * (_iFinish - _iStart) + 0.5);
+		return (int) (_iStart + re.nextDouble() * (_iFinish - _iStart) + 0.5);
 	}
 
 	@Override public org.drip.sequence.metrics.SingleSequenceAgnosticMetrics sequence (
 		final int iNumEntry,
 		final org.drip.measure.continuous.R1 distPopulation)
 	{
-		double[] adblSequence = new double[iNumEntry];
+		double[] adblSequence = sequence (iNumEntry);
 
-		for (int i = 0; i < iNumEntry; ++i)
-			adblSequence[i] = random();
+		if (null == adblSequence) return null;
 
 		try {
 			return new org.drip.sequence.metrics.IntegerSequenceAgnosticMetrics (adblSequence, distPopulation);
@@ -39,8 +39,6 @@ public class BoxMullerGaussian extends org.drip.sequence.random.UnivariateSequen
 	private double _dblSigma = java.lang.Double.NaN;
 	private double _dblVariance = java.lang.Double.NaN;
 
-	private java.util.Random _rng = new java.util.Random();
-
 	/**
 	 * BoxMullerGaussian Constructor
 	 * 
@@ -84,9 +82,42 @@ public class BoxMullerGaussian extends org.drip.sequence.random.UnivariateSequen
 		return _dblVariance;
 	}
 
-	@Override public double random()
+	@Override public double random (
+		final org.drip.sequence.random.RandomEngine re)
 	{
-		return _dblMean + _dblSigma * java.lang.Math.sqrt (-2. * java.lang.Math.log (_rng.nextDouble())) *
-			java.lang.Math.cos (2. * java.lang.Math.PI * _rng.nextDouble());
+		return _dblMean + _dblSigma * java.lang.Math.sqrt (-2. * java.lang.Math.log (re.nextOpenDouble())) *
+			java.lang.Math.cos (2. * java.lang.Math.PI * re.nextDouble());
+	}
+
+	/**
+	 * Fill the Array with Gaussian Deviates, using both the Cosine and the Sine Outputs of each Box-Muller
+	 * 	Uniform Pair
+	 * 
+	 * @param adbl The Array
+	 * @param re The Random Engine
+	 * 
+	 * @return TRUE => The Array has been filled
+	 */
+
+	@Override public boolean fill (
+		final double[] adbl,
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == adbl || null == re) return false;
+
+		int iNumEntry = adbl.length;
+
+		for (int i = 0; i < iNumEntry; i += 2) {
+			double dblRadius = _dblSigma * java.lang.Math.sqrt (-2. * java.lang.Math.log
+				(re.nextOpenDouble()));
+
+			double dblAngle = 2. * java.lang.Math.PI * re.nextDouble();
+
+			adbl[i] = _dblMean + dblRadius * java.lang.Math.cos (dblAngle);
+
+			if (i + 1 < iNumEntry) adbl[i + 1] = _dblMean + dblRadius * java.lang.Math.sin (dblAngle);
+		}
+
+		return true;
 	}
 }
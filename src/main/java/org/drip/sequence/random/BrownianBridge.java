@@ -0,0 +1,191 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BrownianBridge maps a Vector of independent Standard Normal Variates onto the Wiener Path sampled on a
+ * 	Time Grid, filling the Terminal Point first and then the Mid-points of the successive Sub-intervals by
+ * 	Conditional (Bridge) Sampling. The leading Variates therefore carry most of the Path Variance, which is
+ * 	where Low Discrepancy Sequences are most uniform. The Path is returned as Standardized Increments
+ * 	(dW / sqrt (dt)), so it can stand in for any Sequence of IID Standard Normal Step Draws.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BrownianBridge {
+	private int[] _aiLeftIndex = null;
+	private int[] _aiRightIndex = null;
+	private int[] _aiBridgeIndex = null;
+	private double[] _adblLeftWeight = null;
+	private double[] _adblRightWeight = null;
+	private double[] _adblStepSQRT = null;
+	private double[] _adblStandardDeviation = null;
+
+	/**
+	 * Construct a BrownianBridge over the specified Number of Equally Spaced Steps
+	 * 
+	 * @param iNumStep Number of Steps
+	 * 
+	 * @return The BrownianBridge Instance
+	 */
+
+	public static final BrownianBridge Standard (
+		final int iNumStep)
+	{
+		if (0 >= iNumStep) return null;
+
+		double[] adblTime = new double[iNumStep];
+
+		for (int i = 0; i < iNumStep; ++i)
+			adblTime[i] = i + 1.;
+
+		try {
+			return new BrownianBridge (adblTime);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * BrownianBridge Constructor
+	 * 
+	 * @param adblTime The Strictly Increasing Positive Sampling Times (the Path starts at Zero)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BrownianBridge (
+		final double[] adblTime)
+		throws java.lang.Exception
+	{
+		if (null == adblTime || 0 == adblTime.length || !org.drip.quant.common.NumberUtil.IsValid (adblTime))
+			throw new java.lang.Exception ("BrownianBridge ctr: Invalid Inputs");
+
+		int iNumStep = adblTime.length;
+		_aiLeftIndex = new int[iNumStep];
+		_aiRightIndex = new int[iNumStep];
+		_aiBridgeIndex = new int[iNumStep];
+		_adblStepSQRT = new double[iNumStep];
+		_adblLeftWeight = new double[iNumStep];
+		_adblRightWeight = new double[iNumStep];
+		_adblStandardDeviation = new double[iNumStep];
+		boolean[] abFilled = new boolean[iNumStep];
+
+		for (int i = 0; i < iNumStep; ++i) {
+			double dblStep = adblTime[i] - (0 == i ? 0. : adblTime[i - 1]);
+
+			if (0. >= dblStep) throw new java.lang.Exception ("BrownianBridge ctr: Invalid Inputs");
+
+			_adblStepSQRT[i] = java.lang.Math.sqrt (dblStep);
+		}
+
+		_aiLeftIndex[0] = -1;
+		abFilled[iNumStep - 1] = true;
+		_aiBridgeIndex[0] = iNumStep - 1;
+		_adblStandardDeviation[0] = java.lang.Math.sqrt (adblTime[iNumStep - 1]);
+		int iBridge = 1;
+		int iStart = 0;
+
+		while (iBridge < iNumStep) {
+			while (iStart < iNumStep && abFilled[iStart]) ++iStart;
+
+			if (iNumStep == iStart) {
+				iStart = 0;
+				continue;
+			}
+
+			int iEnd = iStart;
+
+			while (!abFilled[iEnd]) ++iEnd;
+
+			int iMid = iStart + (iEnd - iStart) / 2;
+			double dblLeftTime = 0 == iStart ? 0. : adblTime[iStart - 1];
+			double dblSpan = adblTime[iEnd] - dblLeftTime;
+			abFilled[iMid] = true;
+			_aiBridgeIndex[iBridge] = iMid;
+			_aiLeftIndex[iBridge] = iStart - 1;
+			_aiRightIndex[iBridge] = iEnd;
+			_adblLeftWeight[iBridge] = (adblTime[iEnd] - adblTime[iMid]) / dblSpan;
+			_adblRightWeight[iBridge] = (adblTime[iMid] - dblLeftTime) / dblSpan;
+			_adblStandardDeviation[iBridge++] = java.lang.Math.sqrt ((adblTime[iMid] - dblLeftTime) *
+				(adblTime[iEnd] - adblTime[iMid]) / dblSpan);
+
+			iStart = iEnd + 1;
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Steps
+	 * 
+	 * @return The Number of Steps
+	 */
+
+	public int numStep()
+	{
+		return _aiBridgeIndex.length;
+	}
+
+	/**
+	 * Construct the Standardized Path Increments from the Standard Normal Variates
+	 * 
+	 * @param adblNormal The Standard Normal Variates (Number of Steps), in Order of Importance
+	 * @param adblIncrement The Array of Standardized Increments (Number of Steps) to fill
+	 * 
+	 * @return TRUE => The Increments have been filled
+	 */
+
+	public boolean increments (
+		final double[] adblNormal,
+		final double[] adblIncrement)
+	{
+		int iNumStep = _aiBridgeIndex.length;
+
+		if (null == adblNormal || iNumStep > adblNormal.length || null == adblIncrement || iNumStep >
+			adblIncrement.length)
+			return false;
+
+		adblIncrement[iNumStep - 1] = _adblStandardDeviation[0] * adblNormal[0];
+
+		for (int i = 1; i < iNumStep; ++i) {
+			int iLeft = _aiLeftIndex[i];
+
+			adblIncrement[_aiBridgeIndex[i]] = (0 > iLeft ? 0. : _adblLeftWeight[i] * adblIncrement[iLeft])
+				+ _adblRightWeight[i] * adblIncrement[_aiRightIndex[i]] + _adblStandardDeviation[i] *
+					adblNormal[i];
+		}
+
+		for (int i = iNumStep - 1; i > 0; --i)
+			adblIncrement[i] = (adblIncrement[i] - adblIncrement[i - 1]) / _adblStepSQRT[i];
+
+		adblIncrement[0] /= _adblStepSQRT[0];
+		return true;
+	}
+}
@@ -0,0 +1,91 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * JavaUtilRandomEngine adapts java.util.Random (48 Bit LCG) to the RandomEngine Contract, for Callers that
+ * 	need to reproduce Sequences generated against java.util.Random. Sub-streams are seeded from the Mixed
+ * 	(Seed, Index) Pair.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class JavaUtilRandomEngine extends org.drip.sequence.random.RandomEngine {
+	private long _lSeed = 0L;
+	private java.util.Random _rng = null;
+
+	/**
+	 * JavaUtilRandomEngine Constructor
+	 * 
+	 * @param lSeed The Seed
+	 */
+
+	public JavaUtilRandomEngine (
+		final long lSeed)
+	{
+		_rng = new java.util.Random (_lSeed = lSeed);
+	}
+
+	@Override public long nextLong()
+	{
+		return _rng.nextLong();
+	}
+
+	@Override public double nextDouble()
+	{
+		return _rng.nextDouble();
+	}
+
+	@Override public long seed()
+	{
+		return _lSeed;
+	}
+
+	@Override public org.drip.sequence.random.RandomEngine substream (
+		final long lStream)
+	{
+		return new JavaUtilRandomEngine (Mix64 (_lSeed) ^ Mix64 (lStream * 0xD1B54A32D192ED03L +
+			0x8CB92BA72F3D8DD7L));
+	}
+
+	@Override public boolean fill (
+		final double[] adbl,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adbl || 0 > iOffset || 0 > iLength || iOffset + iLength > adbl.length) return false;
+
+		int iEnd = iOffset + iLength;
+
+		for (int i = iOffset; i < iEnd; ++i)
+			adbl[i] = _rng.nextDouble();
+
+		return true;
+	}
+}
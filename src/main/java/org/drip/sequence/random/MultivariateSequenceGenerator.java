@@ -37,6 +37,7 @@ package org.drip.sequence.random;
 public class MultivariateSequenceGenerator {
 	private double[][] _aadblCholesky = null;
 	private double[][] _aadblCorrelation = null;
+	private org.drip.quant.linearalgebra.CholeskyFactorization _cf = null;
 	private org.drip.sequence.random.UnivariateSequenceGenerator[] _aUSG = null;
 
 	/**
@@ -56,8 +57,11 @@ public class MultivariateSequenceGenerator {
 		if (null == (_aUSG = aUSG) || null == (_aadblCorrelation = aadblCorrelation))
 			throw new java.lang.Exception ("MultivariateSequenceGenerator ctr: Invalid Inputs");
 
-		_aadblCholesky = org.drip.quant.linearalgebra.Matrix.CholeskyBanachiewiczFactorization
-			(aadblCorrelation);
+		if (null == (_cf = org.drip.quant.linearalgebra.CholeskyFactorization.Standard
+			(org.drip.quant.linearalgebra.DenseMatrix.FromArray (aadblCorrelation), true)))
+			throw new java.lang.Exception ("MultivariateSequenceGenerator ctr: Invalid Inputs");
+
+		_aadblCholesky = _cf.l().toArray();
 
 		int iNumVariate = aUSG.length;
 
@@ -135,13 +139,30 @@ public class MultivariateSequenceGenerator {
 		for (int i = 0; i < iNumVariate; ++i)
 			adblUncorrelatedRandom[i] = _aUSG[i].random();
 
-		for (int i = 0; i < iNumVariate; ++i) {
-			adblRandom[i] = 0.;
+		return _cf.lowerProduct (adblUncorrelatedRandom, adblRandom) ? adblRandom : null;
+	}
 
-			for (int j = 0; j < iNumVariate; ++j)
-				adblRandom[i] += _aadblCholesky[i][j] * adblUncorrelatedRandom[j];
-		}
+	/**
+	 * Generate the Set of Multivariate Random Numbers, with every Univariate Generator drawing from the
+	 * 	specified Engine (e.g., the Sub-stream of a single Monte-Carlo Path)
+	 * 
+	 * @param re The Random Engine
+	 * 
+	 * @return The Set of Multivariate Random Numbers
+	 */
+
+	public double[] random (
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == re) return null;
+
+		int iNumVariate = _aUSG.length;
+		double[] adblRandom = new double[iNumVariate];
+		double[] adblUncorrelatedRandom = new double[iNumVariate];
+
+		for (int i = 0; i < iNumVariate; ++i)
+			adblUncorrelatedRandom[i] = _aUSG[i].random (re);
 
-		return adblRandom;
+		return _cf.lowerProduct (adblUncorrelatedRandom, adblRandom) ? adblRandom : null;
 	}
 }
@@ -67,17 +67,16 @@ public class Poisson extends org.drip.sequence.random.UnivariateSequenceGenerato
 		return _dblLambda;
 	}
 
-	@Override public double random()
+	@Override public double random (
+		final org.drip.sequence.random.RandomEngine re)
 	{
 		int i = 0;
 		double dblPoissonProduct = 1.;
 
-		java.util.Random r = new java.util.Random();
-
 		while (dblPoissonProduct > _dblExponentialLambda) {
 			++i;
 
-			dblPoissonProduct *= r.nextDouble();
+			dblPoissonProduct *= re.nextDouble();
 		}
 
 		return i;
@@ -87,10 +86,9 @@ public class Poisson extends org.drip.sequence.random.UnivariateSequenceGenerato
 		final int iNumEntry,
 		final org.drip.measure.continuous.R1 distPopulation)
 	{
-		double[] adblSequence = new double[iNumEntry];
+		double[] adblSequence = sequence (iNumEntry);
 
-		for (int i = 0; i < iNumEntry; ++i)
-			adblSequence[i] = random();
+		if (null == adblSequence) return null;
 
 		try {
 			return new org.drip.sequence.metrics.PoissonSequenceAgnosticMetrics (adblSequence, null ==
@@ -123,9 +123,10 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 		return _adblFactorWeight;
 	}
 
-	@Override public double[] random()
+	private double[] project (
+		final double[] adblBaseRandom)
 	{
-		double[] adblBaseRandom = super.random();
+		if (null == adblBaseRandom) return null;
 
 		int iNumVariate = _aadblFactor[0].length;
 		int iNumFactor = _adblFactorWeight.length;
@@ -142,4 +143,15 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 
 		return adblRandom;
 	}
+
+	@Override public double[] random()
+	{
+		return project (super.random());
+	}
+
+	@Override public double[] random (
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		return project (super.random (re));
+	}
 }
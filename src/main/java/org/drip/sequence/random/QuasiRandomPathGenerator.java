@@ -0,0 +1,275 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * QuasiRandomPathGenerator generates Paths of Standard Normal Step Draws for a Set of Variates from the
+ * 	Sobol Low Discrepancy Sequence - one Sobol Point per Path, spanning (Number of Variates x Number of
+ * 	Steps) Dimensions. The Sobol Coordinates are inverted through the Gaussian Inverse CDF and, optionally,
+ * 	assembled through a Brownian Bridge so that the leading Coordinates drive the coarse Path Structure.
+ * 	With Antithetic Pairing, every odd Path is the Mirror Image of the preceding even one.
+ *
+ * 	Each Variate is exposed as a UnivariateSequenceGenerator whose successive random() Calls walk the Steps
+ * 	of the successive Paths, so the Generator plugs in wherever the Evolvers accept Univariate (or, through
+ * 	MultivariateSequenceGenerator/PrincipalFactorSequenceGenerator, Multivariate) Sequence Generators.
+ * 	The Variates must be consumed in Lock-step, one Step each per Evolution Step, and are not Thread Safe.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class QuasiRandomPathGenerator {
+	private int _iNumStep = -1;
+	private long _lPath = -1L;
+	private int _iNumVariate = -1;
+	private double[] _adblPoint = null;
+	private double[] _adblNormal = null;
+	private boolean _bAntithetic = false;
+	private double[][] _aadblPathNormal = null;
+	private org.drip.sequence.random.SobolSequence _ss = null;
+	private org.drip.sequence.random.BrownianBridge _bb = null;
+	private org.drip.sequence.random.UnivariateSequenceGenerator[] _aUSGVariate = null;
+
+	class QuasiRandomVariate extends org.drip.sequence.random.UnivariateSequenceGenerator {
+		private int _iStep = 0;
+		private long _lVariatePath = 0L;
+		private int _iVariate = -1;
+
+		QuasiRandomVariate (
+			final int iVariate)
+		{
+			_iVariate = iVariate;
+		}
+
+		@Override public double random (
+			final org.drip.sequence.random.RandomEngine re)
+		{
+			if (_iNumStep == _iStep) {
+				_iStep = 0;
+				++_lVariatePath;
+			}
+
+			return normal (_iVariate, _lVariatePath, _iStep++);
+		}
+	}
+
+	/**
+	 * Construct the Standard (un-randomized) QuasiRandomPathGenerator with Brownian Bridge Construction and
+	 * 	without Antithetic Pairing
+	 * 
+	 * @param iNumVariate Number of Variates
+	 * @param iNumStep Number of Steps per Path
+	 * 
+	 * @return The QuasiRandomPathGenerator Instance
+	 */
+
+	public static final QuasiRandomPathGenerator Standard (
+		final int iNumVariate,
+		final int iNumStep)
+	{
+		try {
+			return new QuasiRandomPathGenerator (iNumVariate, iNumStep, true, false, null);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * QuasiRandomPathGenerator Constructor
+	 * 
+	 * @param iNumVariate Number of Variates
+	 * @param iNumStep Number of Steps per Path
+	 * @param bBrownianBridge TRUE => Assemble the Steps through a Brownian Bridge
+	 * @param bAntithetic TRUE => Pair every Path with its Antithetic Image
+	 * @param re Random Engine for the Digital Shift of the Sobol Sequence (null => un-randomized)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public QuasiRandomPathGenerator (
+		final int iNumVariate,
+		final int iNumStep,
+		final boolean bBrownianBridge,
+		final boolean bAntithetic,
+		final org.drip.sequence.random.RandomEngine re)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumVariate = iNumVariate) || 0 >= (_iNumStep = iNumStep))
+			throw new java.lang.Exception ("QuasiRandomPathGenerator ctr: Invalid Inputs");
+
+		int iDimension = _iNumVariate * _iNumStep;
+
+		if (null == (_ss = null == re ? org.drip.sequence.random.SobolSequence.Standard (iDimension) :
+			org.drip.sequence.random.SobolSequence.DigitallyShifted (iDimension, re)))
+			throw new java.lang.Exception ("QuasiRandomPathGenerator ctr: Invalid Inputs");
+
+		if (bBrownianBridge && null == (_bb = org.drip.sequence.random.BrownianBridge.Standard (_iNumStep)))
+			throw new java.lang.Exception ("QuasiRandomPathGenerator ctr: Invalid Inputs");
+
+		_bAntithetic = bAntithetic;
+		_adblNormal = new double[_iNumStep];
+		_adblPoint = new double[iDimension];
+		_aadblPathNormal = new double[_iNumVariate][_iNumStep];
+		_aUSGVariate = new org.drip.sequence.random.UnivariateSequenceGenerator[_iNumVariate];
+
+		for (int i = 0; i < _iNumVariate; ++i)
+			_aUSGVariate[i] = new QuasiRandomVariate (i);
+	}
+
+	/**
+	 * Retrieve the Number of Variates
+	 * 
+	 * @return The Number of Variates
+	 */
+
+	public int numVariate()
+	{
+		return _iNumVariate;
+	}
+
+	/**
+	 * Retrieve the Number of Steps per Path
+	 * 
+	 * @return The Number of Steps per Path
+	 */
+
+	public int numStep()
+	{
+		return _iNumStep;
+	}
+
+	/**
+	 * Indicate if the Paths are assembled through a Brownian Bridge
+	 * 
+	 * @return TRUE => The Paths are assembled through a Brownian Bridge
+	 */
+
+	public boolean brownianBridge()
+	{
+		return null != _bb;
+	}
+
+	/**
+	 * Indicate if the Paths are paired antithetically
+	 * 
+	 * @return TRUE => The Paths are paired antithetically
+	 */
+
+	public boolean antithetic()
+	{
+		return _bAntithetic;
+	}
+
+	/**
+	 * Retrieve the Index of the Current Path (-1 before the First Path)
+	 * 
+	 * @return The Index of the Current Path
+	 */
+
+	public long pathIndex()
+	{
+		return _lPath;
+	}
+
+	/**
+	 * Retrieve the Univariate Sequence Generator that walks the Steps of the specified Variate
+	 * 
+	 * @param iVariate The Variate Index
+	 * 
+	 * @return The Univariate Sequence Generator
+	 */
+
+	public org.drip.sequence.random.UnivariateSequenceGenerator variate (
+		final int iVariate)
+	{
+		return 0 > iVariate || iVariate >= _iNumVariate ? null : _aUSGVariate[iVariate];
+	}
+
+	/**
+	 * Retrieve the Univariate Sequence Generators of all the Variates
+	 * 
+	 * @return The Array of Univariate Sequence Generators
+	 */
+
+	public org.drip.sequence.random.UnivariateSequenceGenerator[] variates()
+	{
+		return _aUSGVariate;
+	}
+
+	/**
+	 * Advance to the next Path and retrieve its Standard Normal Step Draws
+	 * 
+	 * @return The Step Draws, indexed by Variate and Step
+	 */
+
+	public double[][] nextPath()
+	{
+		++_lPath;
+
+		if (_bAntithetic && 1L == (_lPath & 1L)) {
+			for (int i = 0; i < _iNumVariate; ++i) {
+				for (int j = 0; j < _iNumStep; ++j)
+					_aadblPathNormal[i][j] = -_aadblPathNormal[i][j];
+			}
+
+			return _aadblPathNormal;
+		}
+
+		if (!_ss.next (_adblPoint) || !org.drip.measure.continuous.GaussianKernel.InverseCDF (_adblPoint,
+			_adblPoint))
+			return null;
+
+		for (int i = 0; i < _iNumVariate; ++i) {
+			double[] adblPathNormal = _aadblPathNormal[i];
+			double[] adblNormal = null == _bb ? adblPathNormal : _adblNormal;
+
+			for (int j = 0; j < _iNumStep; ++j)
+				adblNormal[j] = java.lang.Math.max (-org.drip.measure.continuous.Gaussian.INVERSE_CDF_BOUND,
+					java.lang.Math.min (org.drip.measure.continuous.Gaussian.INVERSE_CDF_BOUND, _adblPoint[j *
+						_iNumVariate + i]));
+
+			if (null != _bb && !_bb.increments (adblNormal, adblPathNormal)) return null;
+		}
+
+		return _aadblPathNormal;
+	}
+
+	private double normal (
+		final int iVariate,
+		final long lPath,
+		final int iStep)
+	{
+		while (_lPath < lPath) {
+			if (null == nextPath()) return java.lang.Double.NaN;
+		}
+
+		return _lPath == lPath ? _aadblPathNormal[iVariate][iStep] : java.lang.Double.NaN;
+	}
+}
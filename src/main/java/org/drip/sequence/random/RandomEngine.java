@@ -0,0 +1,187 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * RandomEngine is the pluggable Source of Uniform Random Bits behind the Sequence Generators. Engines are
+ * 	seedable, and expose deterministic, statistically independent Sub-streams keyed by an Index (e.g., the
+ * 	Monte-Carlo Path Number), so that Simulations run in parallel reproduce bit for bit regardless of the
+ * 	Thread Scheduling. Engines are NOT thread safe - each Thread/Path draws from its own Sub-stream.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class RandomEngine {
+	private static final double DOUBLE_UNIT = 1. / (1L << 53);
+
+	private static final java.util.concurrent.atomic.AtomicLong s_alSeedUniquifier = new
+		java.util.concurrent.atomic.AtomicLong (0x5DEECE66DL);
+
+	/**
+	 * Finalize the 64 Bit Input using the SplitMix64/MurmurHash3 Mixer
+	 * 
+	 * @param lInput The Input
+	 * 
+	 * @return The Mixed Output
+	 */
+
+	public static final long Mix64 (
+		final long lInput)
+	{
+		long l = (lInput ^ (lInput >>> 30)) * 0xBF58476D1CE4E5B9L;
+		l = (l ^ (l >>> 27)) * 0x94D049BB133111EBL;
+		return l ^ (l >>> 31);
+	}
+
+	/**
+	 * Construct the Standard (Xoshiro256**) Engine from the specified Seed
+	 * 
+	 * @param lSeed The Seed
+	 * 
+	 * @return The Seeded Engine
+	 */
+
+	public static final RandomEngine Seeded (
+		final long lSeed)
+	{
+		return new org.drip.sequence.random.Xoshiro256StarStar (lSeed);
+	}
+
+	/**
+	 * Construct the Standard (Xoshiro256**) Engine from a Seed that is unique to this Call - the
+	 * 	Replacement for an un-seeded java.util.Random
+	 * 
+	 * @return The Engine
+	 */
+
+	public static final RandomEngine Standard()
+	{
+		return Seeded (s_alSeedUniquifier.addAndGet (0x9E3779B97F4A7C15L) ^ java.lang.System.nanoTime());
+	}
+
+	/**
+	 * Generate the next 64 uniformly distributed Random Bits
+	 * 
+	 * @return The next 64 Random Bits
+	 */
+
+	public abstract long nextLong();
+
+	/**
+	 * Retrieve the Seed this Engine (and its Sub-streams) were derived from
+	 * 
+	 * @return The Seed
+	 */
+
+	public abstract long seed();
+
+	/**
+	 * Construct the Sub-stream identified by the specified Index. The Sub-stream depends only on the Seed
+	 * 	and the Index, not on how far this Engine has advanced.
+	 * 
+	 * @param lStream The Sub-stream Index
+	 * 
+	 * @return The Sub-stream Engine
+	 */
+
+	public abstract RandomEngine substream (
+		final long lStream);
+
+	/**
+	 * Split off a new, independent Engine, advancing this one
+	 * 
+	 * @return The Split-off Engine
+	 */
+
+	public RandomEngine split()
+	{
+		return Seeded (Mix64 (nextLong()));
+	}
+
+	/**
+	 * Generate a Uniform Double in [0, 1) with 53 Bits of Precision
+	 * 
+	 * @return The Uniform Double
+	 */
+
+	public double nextDouble()
+	{
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Generate a Uniform Double in (0, 1] - safe to take the Logarithm of
+	 * 
+	 * @return The Uniform Double
+	 */
+
+	public double nextOpenDouble()
+	{
+		return ((nextLong() >>> 11) + 1L) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Fill the specified Range of the Array with Uniform Doubles in [0, 1)
+	 * 
+	 * @param adbl The Array
+	 * @param iOffset The Start Offset
+	 * @param iLength The Number of Entries
+	 * 
+	 * @return TRUE => The Range has been filled
+	 */
+
+	public boolean fill (
+		final double[] adbl,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adbl || 0 > iOffset || 0 > iLength || iOffset + iLength > adbl.length) return false;
+
+		int iEnd = iOffset + iLength;
+
+		for (int i = iOffset; i < iEnd; ++i)
+			adbl[i] = (nextLong() >>> 11) * DOUBLE_UNIT;
+
+		return true;
+	}
+
+	/**
+	 * Fill the Array with Uniform Doubles in [0, 1)
+	 * 
+	 * @param adbl The Array
+	 * 
+	 * @return TRUE => The Array has been filled
+	 */
+
+	public boolean fill (
+		final double[] adbl)
+	{
+		return null != adbl && fill (adbl, 0, adbl.length);
+	}
+}
@@ -0,0 +1,256 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SobolSequence generates the Points of the Sobol Low Discrepancy Sequence in the Unit Hyper-cube using the
+ * 	Gray Code Construction of Antonov and Saleev - one XOR per Dimension per Point. The Primitive
+ * 	Polynomials and the Initial Direction Numbers of the first 21 Dimensions are those of Joe and Kuo
+ * 	(2008); further Dimensions use the subsequent Primitive Polynomials (enumerated by Degree) with Odd
+ * 	Initial Direction Numbers drawn from a fixed Seed. Points may be randomized by a Digital Shift, so that
+ * 	independent Replications yield an unbiased Estimate along with its Error. The Origin is skipped, and
+ * 	each Coordinate is centered in its 2^-32 Cell, so Points always lie strictly inside (0, 1).
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SobolSequence {
+	private static final int NUM_BITS = 32;
+	private static final double CELL_WIDTH = 1. / 4294967296.;
+	private static final long DIRECTION_NUMBER_SEED = 0x50B01L;
+
+	private static final int[][] JOE_KUO_POLYNOMIAL = new int[][] {
+		{1, 0}, {2, 1}, {3, 1}, {3, 2}, {4, 1}, {4, 4}, {5, 2}, {5, 4}, {5, 7}, {5, 11}, {5, 13}, {5, 14},
+		{6, 1}, {6, 13}, {6, 16}, {6, 19}, {6, 22}, {6, 25}, {7, 1}, {7, 4}
+	};
+
+	private static final int[][] JOE_KUO_DIRECTION = new int[][] {
+		{1}, {1, 3}, {1, 3, 1}, {1, 1, 1}, {1, 1, 3, 3}, {1, 3, 5, 13}, {1, 1, 5, 5, 17}, {1, 1, 5, 5, 5},
+		{1, 1, 7, 11, 19}, {1, 1, 5, 1, 1}, {1, 1, 1, 3, 11}, {1, 3, 5, 5, 31}, {1, 3, 3, 9, 7, 49},
+		{1, 1, 1, 15, 21, 21}, {1, 3, 1, 13, 27, 49}, {1, 1, 1, 15, 7, 5}, {1, 3, 1, 15, 13, 25},
+		{1, 1, 5, 5, 19, 61}, {1, 3, 7, 11, 23, 15, 103}, {1, 3, 7, 13, 13, 15, 69}
+	};
+
+	private long _lIndex = 0L;
+	private int _iDimension = -1;
+	private long[] _alShift = null;
+	private long[] _alCurrent = null;
+	private long[][] _aalDirection = null;
+
+	private static final boolean IsPrimitive (
+		final int iDegree,
+		final int iCoefficient)
+	{
+		long lPeriod = (1L << iDegree) - 1L;
+		long lPolynomial = (1L << iDegree) | ((long) iCoefficient << 1) | 1L;
+		long lPower = 1L;
+
+		for (long l = 1L; l <= lPeriod; ++l) {
+			if (0L != ((lPower <<= 1) & (1L << iDegree))) lPower ^= lPolynomial;
+
+			if (1L == lPower) return l == lPeriod;
+		}
+
+		return false;
+	}
+
+	private static final long[][] DirectionNumbers (
+		final int iDimension)
+	{
+		int iDegree = 7;
+		int iCoefficient = 4;
+		long[][] aalDirection = new long[iDimension][NUM_BITS];
+
+		org.drip.sequence.random.RandomEngine re = org.drip.sequence.random.RandomEngine.Seeded
+			(DIRECTION_NUMBER_SEED);
+
+		for (int k = 0; k < NUM_BITS; ++k)
+			aalDirection[0][k] = 1L << (NUM_BITS - 1 - k);
+
+		for (int iDim = 1; iDim < iDimension; ++iDim) {
+			int[] aiM = null;
+
+			if (iDim <= JOE_KUO_POLYNOMIAL.length) {
+				iDegree = JOE_KUO_POLYNOMIAL[iDim - 1][0];
+				iCoefficient = JOE_KUO_POLYNOMIAL[iDim - 1][1];
+				aiM = JOE_KUO_DIRECTION[iDim - 1];
+			} else {
+				do {
+					if (++iCoefficient >= (1 << (iDegree - 1))) {
+						++iDegree;
+						iCoefficient = 0;
+					}
+				} while (!IsPrimitive (iDegree, iCoefficient));
+
+				aiM = new int[iDegree];
+
+				for (int k = 0; k < iDegree; ++k)
+					aiM[k] = (int) ((re.nextLong() >>> (63 - k)) | 1L);
+			}
+
+			long[] alDirection = aalDirection[iDim];
+
+			for (int k = 0; k < iDegree && k < NUM_BITS; ++k)
+				alDirection[k] = (long) aiM[k] << (NUM_BITS - 1 - k);
+
+			for (int k = iDegree; k < NUM_BITS; ++k) {
+				long lDirection = alDirection[k - iDegree] ^ (alDirection[k - iDegree] >>> iDegree);
+
+				for (int j = 1; j < iDegree; ++j) {
+					if (0 != ((iCoefficient >>> (iDegree - 1 - j)) & 1))
+						lDirection ^= alDirection[k - j];
+				}
+
+				alDirection[k] = lDirection;
+			}
+		}
+
+		return aalDirection;
+	}
+
+	/**
+	 * Construct the Standard (un-randomized) Sobol Sequence of the specified Dimension
+	 * 
+	 * @param iDimension The Dimension
+	 * 
+	 * @return The SobolSequence Instance
+	 */
+
+	public static final SobolSequence Standard (
+		final int iDimension)
+	{
+		try {
+			return new SobolSequence (iDimension, null);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct a Sobol Sequence of the specified Dimension randomized by a Digital Shift drawn from the
+	 * 	specified Engine
+	 * 
+	 * @param iDimension The Dimension
+	 * @param re The Random Engine
+	 * 
+	 * @return The SobolSequence Instance
+	 */
+
+	public static final SobolSequence DigitallyShifted (
+		final int iDimension,
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == re) return null;
+
+		try {
+			return new SobolSequence (iDimension, re);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private SobolSequence (
+		final int iDimension,
+		final org.drip.sequence.random.RandomEngine re)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iDimension = iDimension))
+			throw new java.lang.Exception ("SobolSequence ctr: Invalid Inputs");
+
+		_alShift = new long[_iDimension];
+		_alCurrent = new long[_iDimension];
+		_aalDirection = DirectionNumbers (_iDimension);
+
+		if (null != re) {
+			for (int i = 0; i < _iDimension; ++i)
+				_alShift[i] = re.nextLong() >>> NUM_BITS;
+		}
+	}
+
+	/**
+	 * Retrieve the Dimension
+	 * 
+	 * @return The Dimension
+	 */
+
+	public int dimension()
+	{
+		return _iDimension;
+	}
+
+	/**
+	 * Retrieve the Number of Points generated so far
+	 * 
+	 * @return The Number of Points generated so far
+	 */
+
+	public long index()
+	{
+		return _lIndex;
+	}
+
+	/**
+	 * Generate the next Point of the Sequence into the specified Array
+	 * 
+	 * @param adblPoint The Array, at least as long as the Dimension
+	 * 
+	 * @return TRUE => The Point has been generated
+	 */
+
+	public boolean next (
+		final double[] adblPoint)
+	{
+		if (null == adblPoint || _iDimension > adblPoint.length || (1L << NUM_BITS) - 1L <= _lIndex)
+			return false;
+
+		int iBit = java.lang.Long.numberOfTrailingZeros (~_lIndex++);
+
+		for (int i = 0; i < _iDimension; ++i)
+			adblPoint[i] = (((_alCurrent[i] ^= _aalDirection[i][iBit]) ^ _alShift[i]) + 0.5) * CELL_WIDTH;
+
+		return true;
+	}
+
+	/**
+	 * Generate the next Point of the Sequence
+	 * 
+	 * @return The Point
+	 */
+
+	public double[] next()
+	{
+		double[] adblPoint = new double[_iDimension];
+
+		return next (adblPoint) ? adblPoint : null;
+	}
+}
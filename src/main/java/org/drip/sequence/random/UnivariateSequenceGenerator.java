@@ -35,34 +35,114 @@ package org.drip.sequence.random;
  */
 
 public abstract class UnivariateSequenceGenerator {
+	private org.drip.sequence.random.RandomEngine _re = org.drip.sequence.random.RandomEngine.Standard();
 
 	/**
-	 * Generate a Random Number according to the specified rule
+	 * Retrieve the Random Engine backing the Generator
+	 * 
+	 * @return The Random Engine
+	 */
+
+	public org.drip.sequence.random.RandomEngine engine()
+	{
+		return _re;
+	}
+
+	/**
+	 * Set the Random Engine backing the Generator - e.g., a Seeded Engine or a Path Sub-stream
+	 * 
+	 * @param re The Random Engine
+	 * 
+	 * @return TRUE => The Random Engine has been set
+	 */
+
+	public boolean setEngine (
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == re) return false;
+
+		_re = re;
+		return true;
+	}
+
+	/**
+	 * Generate a Random Number according to the specified rule, drawing from the specified Engine
+	 * 
+	 * @param re The Random Engine
 	 * 
 	 * @return The Random Number
 	 */
 
-	public abstract double random();
+	public abstract double random (
+		final org.drip.sequence.random.RandomEngine re);
 
 	/**
-	 * Generate a Random Sequence
+	 * Generate a Random Number according to the specified rule, drawing from the Generator's Engine
+	 * 
+	 * @return The Random Number
+	 */
+
+	public final double random()
+	{
+		return random (_re);
+	}
+
+	/**
+	 * Fill the Array with Random Numbers drawn from the specified Engine
 	 * 
+	 * @param adbl The Array
+	 * @param re The Random Engine
+	 * 
+	 * @return TRUE => The Array has been filled
+	 */
+
+	public boolean fill (
+		final double[] adbl,
+		final org.drip.sequence.random.RandomEngine re)
+	{
+		if (null == adbl || null == re) return false;
+
+		int iNumEntry = adbl.length;
+
+		for (int i = 0; i < iNumEntry; ++i)
+			adbl[i] = random (re);
+
+		return true;
+	}
+
+	/**
+	 * Generate a Random Sequence drawn from the specified Engine. The Engine leads the Arguments, so that the
+	 * 	sequence (iNumEntry, null) Calls of the Metrics Variant stay unambiguous.
+	 * 
+	 * @param re The Random Engine
 	 * @param iNumEntry Number of Entries in the Sequence
 	 * 
 	 * @return The Random Sequence
 	 */
 
 	public double[] sequence (
+		final org.drip.sequence.random.RandomEngine re,
 		final int iNumEntry)
 	{
 		if (0 >= iNumEntry) return null;
 
 		double[] adblSequence = new double[iNumEntry];
 
-		for (int i = 0; i < iNumEntry; ++i)
-			adblSequence[i] = random();
+		return fill (adblSequence, re) ? adblSequence : null;
+	}
+
+	/**
+	 * Generate a Random Sequence
+	 * 
+	 * @param iNumEntry Number of Entries in the Sequence
+	 * 
+	 * @return The Random Sequence
+	 */
 
-		return adblSequence;
+	public double[] sequence (
+		final int iNumEntry)
+	{
+		return sequence (_re, iNumEntry);
 	}
 
 	/**
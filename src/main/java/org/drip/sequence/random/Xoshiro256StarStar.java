@@ -0,0 +1,135 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * Xoshiro256StarStar implements the xoshiro256** Generator of Blackman and Vigna - 256 Bits of State, a
+ * 	Period of 2^256 - 1, and a handful of Shift/Rotate/Multiply Operations per 64 Bit Output. The State is
+ * 	initialized from the (Seed, Sub-stream Index) Pair through SplitMix64, so Sub-streams are deterministic
+ * 	and decorrelated.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class Xoshiro256StarStar extends org.drip.sequence.random.RandomEngine {
+	private long _lS0 = 0L;
+	private long _lS1 = 0L;
+	private long _lS2 = 0L;
+	private long _lS3 = 0L;
+	private long _lSeed = 0L;
+
+	/**
+	 * Xoshiro256StarStar Constructor
+	 * 
+	 * @param lSeed The Seed
+	 */
+
+	public Xoshiro256StarStar (
+		final long lSeed)
+	{
+		this (lSeed, 0L);
+	}
+
+	/**
+	 * Xoshiro256StarStar Constructor for the specified Sub-stream of the Seed
+	 * 
+	 * @param lSeed The Seed
+	 * @param lStream The Sub-stream Index
+	 */
+
+	public Xoshiro256StarStar (
+		final long lSeed,
+		final long lStream)
+	{
+		_lSeed = lSeed;
+
+		long lSplitMix = Mix64 (lSeed) ^ Mix64 (lStream * 0xD1B54A32D192ED03L + 0x8CB92BA72F3D8DD7L);
+
+		_lS0 = Mix64 (lSplitMix += 0x9E3779B97F4A7C15L);
+		_lS1 = Mix64 (lSplitMix += 0x9E3779B97F4A7C15L);
+		_lS2 = Mix64 (lSplitMix += 0x9E3779B97F4A7C15L);
+		_lS3 = Mix64 (lSplitMix + 0x9E3779B97F4A7C15L);
+	}
+
+	@Override public long nextLong()
+	{
+		long lResult = java.lang.Long.rotateLeft (_lS1 * 5L, 7) * 9L;
+		long lT = _lS1 << 17;
+		_lS2 ^= _lS0;
+		_lS3 ^= _lS1;
+		_lS1 ^= _lS2;
+		_lS0 ^= _lS3;
+		_lS2 ^= lT;
+		_lS3 = java.lang.Long.rotateLeft (_lS3, 45);
+		return lResult;
+	}
+
+	@Override public long seed()
+	{
+		return _lSeed;
+	}
+
+	@Override public org.drip.sequence.random.RandomEngine substream (
+		final long lStream)
+	{
+		return new Xoshiro256StarStar (_lSeed, lStream);
+	}
+
+	@Override public boolean fill (
+		final double[] adbl,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adbl || 0 > iOffset || 0 > iLength || iOffset + iLength > adbl.length) return false;
+
+		long lS0 = _lS0;
+		long lS1 = _lS1;
+		long lS2 = _lS2;
+		long lS3 = _lS3;
+		int iEnd = iOffset + iLength;
+
+		for (int i = iOffset; i < iEnd; ++i) {
+			long lResult = java.lang.Long.rotateLeft (lS1 * 5L, 7) * 9L;
+			long lT = lS1 << 17;
+			lS2 ^= lS0;
+			lS3 ^= lS1;
+			lS1 ^= lS2;
+			lS0 ^= lS3;
+			lS2 ^= lT;
+			lS3 = java.lang.Long.rotateLeft (lS3, 45);
+			adbl[i] = (lResult >>> 11) * 0x1.0p-53;
+		}
+
+		_lS0 = lS0;
+		_lS1 = lS1;
+		_lS2 = lS2;
+		_lS3 = lS3;
+		return true;
+	}
+}
@@ -336,19 +336,26 @@ public class BondManager {
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures> mapBMRV =
 			new org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>();
 
-		org.drip.param.valuation.WorkoutInfo wiAsk = bond.exerciseYieldFromPrice (valParams, mktParams, null,
-			dblAskPrice);
+		org.drip.product.credit.BondValuationContext bvc = org.drip.product.credit.BondValuationContext.Open
+			(bond, valParams, mktParams, null);
 
-		if (null != wiAsk)
-			mapBMRV.put ("ASK", bond.standardMeasures (valParams, null, mktParams, null, wiAsk,
-				dblAskPrice));
+		try {
+			org.drip.param.valuation.WorkoutInfo wiAsk = bond.exerciseYieldFromPrice (valParams, mktParams,
+				null, dblAskPrice);
+
+			if (null != wiAsk)
+				mapBMRV.put ("ASK", bond.standardMeasures (valParams, null, mktParams, null, wiAsk,
+					dblAskPrice));
 
-		org.drip.param.valuation.WorkoutInfo wiBid = bond.exerciseYieldFromPrice (valParams, mktParams, null,
-			dblBidPrice);
+			org.drip.param.valuation.WorkoutInfo wiBid = bond.exerciseYieldFromPrice (valParams, mktParams,
+				null, dblBidPrice);
 
-		if (null != wiBid)
-			mapBMRV.put ("BID", bond.standardMeasures (valParams, null, mktParams, null, wiBid,
-				dblBidPrice));
+			if (null != wiBid)
+				mapBMRV.put ("BID", bond.standardMeasures (valParams, null, mktParams, null, wiBid,
+					dblBidPrice));
+		} finally {
+			if (null != bvc) bvc.close();
+		}
 
 		return mapBMRV;
 	}
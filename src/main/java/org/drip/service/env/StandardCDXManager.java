@@ -519,7 +519,7 @@ public class StandardCDXManager {
 			return false;
 		}
 
-		return org.drip.product.creator.CDXRefDataHolder.InitFullCDXRefDataSet();
+		return org.drip.product.creator.CDXRefDataStore.Init();
 	}
 
 	private static final org.drip.product.definition.BasketProduct ConstructCDX (
@@ -621,20 +621,7 @@ public class StandardCDXManager {
 
 		if (null == strCDXCode || strCDXCode.isEmpty()) return null;
 
-		org.drip.product.params.CDXRefDataParams cdxrdb =
-			org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.get (strCDXCode);
-
-		if (null == cdxrdb) return null;
-
-		String[] astrCC = new String[cdxrdb._iOriginalComponentCount];
-
-		for (int i = 0; i < cdxrdb._iOriginalComponentCount; ++i)
-			astrCC[i] = "CC" + (i + 1);
-
-		return org.drip.product.creator.CDSBasketBuilder.MakeCDX (cdxrdb._dtMaturity.subtractTenor
-			(cdxrdb._iIndexLifeSpan + "Y"), cdxrdb._dtMaturity, cdxrdb._dblCoupon, cdxrdb._strCurrency,
-				astrCC, cdxrdb._strIndexClass + "." + cdxrdb._strIndexGroupName + "." +
-					cdxrdb._iIndexLifeSpan + "Y." + cdxrdb._iIndexSeries + "." + cdxrdb._iIndexVersion);
+		return org.drip.product.creator.CDSBasketBuilder.MakeCDX (strCDXCode);
 	}
 
 	private static final org.drip.product.definition.BasketProduct GetPresetOnTheRun (
@@ -669,7 +656,7 @@ public class StandardCDXManager {
 			return null;
 
 		java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries =
-			org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.get (strIndex);
+			org.drip.product.creator.CDXRefDataStore.FirstCouponSeries (strIndex);
 
 		org.drip.analytics.date.JulianDate dtFirstCoupon = dt.firstCreditIMMDate (3);
 
@@ -706,13 +693,13 @@ public class StandardCDXManager {
 			return false;
 		}
 
-		for (java.util.Map.Entry<String, org.drip.product.params.CDXRefDataParams> meCDXRefData :
-			org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.entrySet()) {
-			org.drip.product.params.CDXRefDataParams cdxrdb = meCDXRefData.getValue();
+		for (String strCDXCode : org.drip.product.creator.CDXRefDataStore.CDXCodes()) {
+			org.drip.product.params.CDXRefDataParams cdxrdb =
+				org.drip.product.creator.CDXRefDataStore.RefData (strCDXCode);
 
 			if (null == cdxrdb) continue;
 
-			String strIndexDetails = " , " + meCDXRefData.getKey() + ", " + cdxrdb._strIndexName +
+			String strIndexDetails = " , " + strCDXCode + ", " + cdxrdb._strIndexName +
 				", " + cdxrdb._dtIssue + ", " + cdxrdb._dtMaturity + ", " + cdxrdb._iFrequency + ", " + (int)
 					(10000. * cdxrdb._dblCoupon) + "\n";
 
@@ -802,7 +789,7 @@ public class StandardCDXManager {
 
 	public static final java.util.Set<String> GetPreLoadedIndexNames()
 	{
-		return org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.keySet();
+		return org.drip.product.creator.CDXRefDataStore.IndexNames();
 	}
 
 	/**
@@ -853,7 +840,7 @@ public class StandardCDXManager {
 	{
 		if (null == strCDXName || strCDXName.isEmpty()) return null;
 
-		return org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.get (strCDXName);
+		return org.drip.product.creator.CDXRefDataStore.FirstCouponSeries (strCDXName);
 	}
 
 	/**
@@ -917,9 +904,12 @@ public class StandardCDXManager {
 		org.drip.analytics.support.CaseInsensitiveTreeMap<String> mapCDXDescr = new
 			org.drip.analytics.support.CaseInsensitiveTreeMap<String>();
 
-		for (java.util.Map.Entry<String, org.drip.product.params.CDXRefDataParams> meCDXRefData :
-			org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.entrySet())
-			mapCDXDescr.put (meCDXRefData.getKey(), meCDXRefData.getValue()._strIndexName);
+		for (String strCDXCode : org.drip.product.creator.CDXRefDataStore.CDXCodes()) {
+			org.drip.product.params.CDXRefDataParams cdxrdb =
+				org.drip.product.creator.CDXRefDataStore.RefData (strCDXCode);
+
+			if (null != cdxrdb) mapCDXDescr.put (strCDXCode, cdxrdb._strIndexName);
+		}
 
 		return mapCDXDescr;
 	}
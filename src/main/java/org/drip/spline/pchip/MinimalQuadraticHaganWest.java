@@ -113,6 +113,10 @@ public class MinimalQuadraticHaganWest {
 		 * 
 		 * 	- Left index => Equation Index
 		 * 	- Right Index => Coefficient Index
+		 * 
+		 * The Equations of each Segment are laid out next to its Coefficients (left boundary first, then the
+		 * 	conserved quantity, continuity, and penalty Equations of successive Segments, then the right
+		 * 	boundary), which keeps the Coefficient Matrix banded.
 		 */
 
 		/*
@@ -122,10 +126,11 @@ public class MinimalQuadraticHaganWest {
 
 		for (int iEq = 0; iEq < iNumObservation; ++iEq) {
 			int iSegmentIndex = iEq;
-			adblRHS[iEq] = _adblObservation[iEq]; // Z_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex] = 1.; // A_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 1] = 0.5 * adblH[iSegmentIndex]; // B_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 2] = adblH[iSegmentIndex] * adblH[iSegmentIndex] / 3.; // C_i
+			int iRow = 3 * iSegmentIndex + 1;
+			adblRHS[iRow] = _adblObservation[iEq]; // Z_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex] = 1.; // A_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 1] = 0.5 * adblH[iSegmentIndex]; // B_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 2] = adblH[iSegmentIndex] * adblH[iSegmentIndex] / 3.; // C_i
 		}
 
 		/*
@@ -134,12 +139,13 @@ public class MinimalQuadraticHaganWest {
 		 */
 
 		for (int iEq = iNumObservation; iEq < 2 * iNumObservation - 1; ++iEq) {
-			adblRHS[iEq] = 0.;
 			int iSegmentIndex = iEq - iNumObservation;
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex] = 1.; // A_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 1] = adblH[iSegmentIndex]; // B_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 2] = adblH[iSegmentIndex] * adblH[iSegmentIndex]; // C_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 3] = -1.; // A_i+1
+			int iRow = 3 * iSegmentIndex + 2;
+			adblRHS[iRow] = 0.;
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex] = 1.; // A_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 1] = adblH[iSegmentIndex]; // B_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 2] = adblH[iSegmentIndex] * adblH[iSegmentIndex]; // C_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 3] = -1.; // A_i+1
 		}
 
 		/*
@@ -148,19 +154,20 @@ public class MinimalQuadraticHaganWest {
 		 */
 
 		for (int iEq = 2 * iNumObservation - 1; iEq < 3 * iNumObservation - 2; ++iEq) {
-			adblRHS[iEq] = 0.;
 			int iSegmentIndex = iEq - 2 * iNumObservation + 1;
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 1] = _dblWeight; // B_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 2] = 2. * adblH[iSegmentIndex]; // C_i
-			aadblCoeffMatrix[iEq][3 * iSegmentIndex + 4] = -1. * _dblWeight; // B_i+1
+			int iRow = 3 * iSegmentIndex + 3;
+			adblRHS[iRow] = 0.;
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 1] = _dblWeight; // B_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 2] = 2. * adblH[iSegmentIndex]; // C_i
+			aadblCoeffMatrix[iRow][3 * iSegmentIndex + 4] = -1. * _dblWeight; // B_i+1
 		}
 
 		/*
 		 * Left Boundary Condition: Starting Left Slope is zero, i.e., B_0 = 0.
 		 */
 
-		adblRHS[3 * iNumObservation - 2] = 0.;
-		aadblCoeffMatrix[3 * iNumObservation - 2][1] = 1.;
+		adblRHS[0] = 0.;
+		aadblCoeffMatrix[0][1] = 1.;
 
 		/*
 		 * Right Boundary Condition: Final First Derivative is zero, i.e., B_n-1 = 0.
@@ -169,13 +176,13 @@ public class MinimalQuadraticHaganWest {
 		adblRHS[3 * iNumObservation - 1] = 0.;
 		aadblCoeffMatrix[3 * iNumObservation - 1][3 * iNumObservation - 2] = 1.;
 
-		org.drip.quant.linearalgebra.LinearizationOutput lssGaussianElimination =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingGaussianElimination (aadblCoeffMatrix,
+		org.drip.quant.linearalgebra.LinearizationOutput lssFactorization =
+			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingFactorization (aadblCoeffMatrix,
 				adblRHS);
 
-		if (null == lssGaussianElimination) return false;
+		if (null == lssFactorization) return false;
 
-		double[] adblCoeff = lssGaussianElimination.getTransformedRHS();
+		double[] adblCoeff = lssFactorization.getTransformedRHS();
 
 		if (null == adblCoeff || 3 * iNumObservation != adblCoeff.length) return false;
 
@@ -86,9 +86,11 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 
 	private double[] _adblResponseBasisCoeff = null;
 	private org.drip.spline.segment.BasisEvaluator _be = null;
+	private double[][] _aadblResponseBasisCoeffConstraint = null;
 	private double[][] _aadblDResponseBasisCoeffDConstraint = null;
 	private org.drip.spline.params.SegmentInelasticDesignControl _sidc = null;
 	private org.drip.quant.calculus.WengertJacobian _wjDBasisCoeffDEdgeValue = null;
+	private org.drip.quant.linearalgebra.LinearSystemFactorization _lsfResponseBasisCoeffConstraint = null;
 
 	private
 		org.drip.analytics.support.CaseInsensitiveHashMap<org.drip.spline.segment.LatentStateManifestSensitivity>
@@ -418,12 +420,20 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 			return false;
 		}
 
+		org.drip.quant.linearalgebra.LinearSystemFactorization lsf =
+			org.drip.quant.linearalgebra.LinearSystemSolver.Factorize (aadblResponseBasisCoeffConstraint);
+
+		if (null == lsf) return false;
+
 		org.drip.quant.linearalgebra.LinearizationOutput lo =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion
-				(aadblResponseBasisCoeffConstraint, adblPredictorResponseConstraintValue);
+			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion (lsf,
+				adblPredictorResponseConstraintValue);
 
 		if (null == lo) return false;
 
+		_lsfResponseBasisCoeffConstraint = lsf;
+		_aadblResponseBasisCoeffConstraint = aadblResponseBasisCoeffConstraint;
+
 		double[] adblCalibResponseBasisCoeff = lo.getTransformedRHS();
 
 		if (null == adblCalibResponseBasisCoeff || adblCalibResponseBasisCoeff.length !=
@@ -568,10 +578,14 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 			return null;
 		}
 
+		org.drip.quant.linearalgebra.LinearSystemFactorization lsf = java.util.Arrays.deepEquals
+			(aadblResponseCoeffConstraintManifestSensitivity, _aadblResponseBasisCoeffConstraint) ?
+				_lsfResponseBasisCoeffConstraint : org.drip.quant.linearalgebra.LinearSystemSolver.Factorize
+					(aadblResponseCoeffConstraintManifestSensitivity);
+
 		org.drip.quant.linearalgebra.LinearizationOutput lo =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion
-				(aadblResponseCoeffConstraintManifestSensitivity,
-					adblPredictorResponseManifestSensitivityConstraint);
+			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion (lsf,
+				adblPredictorResponseManifestSensitivityConstraint);
 
 		return null == lo ? null : lo.getTransformedRHS();
 	}
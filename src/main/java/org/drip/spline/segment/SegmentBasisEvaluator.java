@@ -38,6 +38,7 @@ package org.drip.spline.segment;
  */
 
 public class SegmentBasisEvaluator implements org.drip.spline.segment.BasisEvaluator {
+	private int[] _aiPolynomialDegree = null;
 	private org.drip.spline.basis.FunctionSet _fs = null;
 	private org.drip.spline.segment.LatentStateInelastic _ics = null;
 	private org.drip.spline.params.ResponseScalingShapeControl _rssc = null;
@@ -59,6 +60,21 @@ public class SegmentBasisEvaluator implements org.drip.spline.segment.BasisEvalu
 		if (null == (_fs = fs)) throw new java.lang.Exception ("SegmentBasisEvaluator ctr: Invalid Inputs");
 
 		_rssc = rssc;
+
+		int iNumBasis = _fs.numBasis();
+
+		_aiPolynomialDegree = new int[iNumBasis];
+
+		for (int i = 0; i < iNumBasis; ++i) {
+			org.drip.function.definition.R1ToR1 au = _fs.indexedBasisFunction (i);
+
+			if (null == au || org.drip.function.R1ToR1.Polynomial.class != au.getClass()) {
+				_aiPolynomialDegree = null;
+				break;
+			}
+
+			_aiPolynomialDegree[i] = (int) ((org.drip.function.R1ToR1.Polynomial) au).getDegree();
+		}
 	}
 
 	@Override public int numBasis()
@@ -106,6 +122,19 @@ public class SegmentBasisEvaluator implements org.drip.spline.segment.BasisEvalu
 
 		int iNumBasis = numBasis();
 
+		if (null != _aiPolynomialDegree) {
+			double dblX = null == _ics ? dblPredictorOrdinate : _ics.localize (dblPredictorOrdinate);
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblX))
+				throw new java.lang.Exception
+					("SegmentBasisEvaluator::unshapedResponseValue => Invalid Inputs");
+
+			for (int i = 0; i < iNumBasis; ++i)
+				dblResponse += adblResponseBasisCoeff[i] * java.lang.Math.pow (dblX, _aiPolynomialDegree[i]);
+
+			return dblResponse;
+		}
+
 		for (int i = 0; i < iNumBasis; ++i) {
 			dblResponse += adblResponseBasisCoeff[i] * _fs.indexedBasisFunction (i).evaluate (null == _ics ?
 				dblPredictorOrdinate : _ics.localize (dblPredictorOrdinate));
@@ -190,6 +219,22 @@ public class SegmentBasisEvaluator implements org.drip.spline.segment.BasisEvalu
 
 		double dblX = null == _ics ? dblPredictorOrdinate : _ics.localize (dblPredictorOrdinate);
 
+		if (null != _aiPolynomialDegree) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblX) || 0 > iOrder)
+				throw new java.lang.Exception
+					("SegmentBasisEvaluator::unshapedBasisFunctionDerivative => Invalid Inputs");
+
+			for (int i = 0; i < iNumBasis; ++i) {
+				int iDegree = _aiPolynomialDegree[i];
+
+				dblDerivative += adblResponseBasisCoeff[i] * (iOrder > iDegree ? 0. : java.lang.Math.pow
+					(dblX, iDegree - iOrder) * org.drip.quant.common.NumberUtil.NPK (iDegree, iDegree -
+						iOrder));
+			}
+
+			return dblDerivative;
+		}
+
 		for (int i = 0; i < iNumBasis; ++i)
 			dblDerivative += adblResponseBasisCoeff[i] * _fs.indexedBasisFunction (i).derivative (dblX,
 				iOrder);
@@ -46,6 +46,9 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 	private static final int MONOTONE_PREDICTOR_ORDINATE_NODE = 4;
 
 	private String _strName = "";
+	private boolean _bContiguousKnot = false;
+	private double[] _adblSegmentLeft = null;
+	private double[] _adblSegmentRight = null;
 	private org.drip.spline.stretch.SegmentSequenceBuilder _ssb = null;
 	private org.drip.spline.segment.LatentStateResponseModel[] _aLSRM = null;
 	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBC = null;
@@ -135,9 +138,21 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 		if (0 == iNumSegment || iNumSegment != aSCBC.length)
 			throw new java.lang.Exception ("CalibratableMultiSegmentSequence ctr => Invalid inputs!");
 
+		_bContiguousKnot = true;
+		_adblSegmentLeft = new double[iNumSegment];
+		_adblSegmentRight = new double[iNumSegment];
+
 		for (int i = 0; i < iNumSegment; ++i) {
 			if (null == (_aLSRM[i] = aCS[i]) || null == (_aSCBC[i] = aSCBC[i]))
 				throw new java.lang.Exception ("CalibratableMultiSegmentSequence ctr => Invalid inputs!");
+
+			_adblSegmentLeft[i] = _aLSRM[i].left();
+
+			_adblSegmentRight[i] = _aLSRM[i].right();
+
+			if (_adblSegmentLeft[i] > _adblSegmentRight[i] || (0 != i && _adblSegmentLeft[i] !=
+				_adblSegmentRight[i - 1]))
+				_bContiguousKnot = false;
 		}
 	}
 
@@ -399,6 +414,36 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 			(dblPredictorOrdinate);
 	}
 
+	@Override public double[] responseValues (
+		final double[] adblPredictorOrdinate)
+		throws java.lang.Exception
+	{
+		if (null == adblPredictorOrdinate)
+			throw new java.lang.Exception
+				("CalibratableMultiSegmentSequence::responseValues => Invalid Inputs");
+
+		int iSegment = 0;
+		int iNumSegment = _aLSRM.length;
+		int iNumPredictorOrdinate = adblPredictorOrdinate.length;
+		double[] adblResponseValue = new double[iNumPredictorOrdinate];
+
+		for (int i = 0; i < iNumPredictorOrdinate; ++i) {
+			double dblPredictorOrdinate = adblPredictorOrdinate[i];
+
+			if (!_bContiguousKnot || !in (dblPredictorOrdinate) || (0 != iSegment &&
+				_adblSegmentLeft[iSegment] >= dblPredictorOrdinate))
+				iSegment = containingIndex (dblPredictorOrdinate, true, true);
+			else {
+				while (iSegment < iNumSegment - 1 && _adblSegmentRight[iSegment] < dblPredictorOrdinate)
+					++iSegment;
+			}
+
+			adblResponseValue[i] = _aLSRM[iSegment].responseValue (dblPredictorOrdinate);
+		}
+
+		return adblResponseValue;
+	}
+
 	@Override public double responseValueDerivative (
 		final double dblPredictorOrdinate,
 		final int iOrder)
@@ -704,6 +749,28 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 
 		int iNumSegment = _aLSRM.length;
 
+		if (_bContiguousKnot) {
+			int iLow = 0;
+			int iHigh = iNumSegment;
+
+			while (iLow < iHigh) {
+				int iMid = (iLow + iHigh) >>> 1;
+
+				if (bIncludeRight ? _adblSegmentRight[iMid] < dblPredictorOrdinate : _adblSegmentRight[iMid]
+					<= dblPredictorOrdinate)
+					iLow = iMid + 1;
+				else
+					iHigh = iMid;
+			}
+
+			if (iLow < iNumSegment && (bIncludeLeft ? _adblSegmentLeft[iLow] <= dblPredictorOrdinate :
+				_adblSegmentLeft[iLow] < dblPredictorOrdinate))
+				return iLow;
+
+			throw new java.lang.Exception
+				("CalibratableMultiSegmentSequence::containingIndex => Cannot locate Containing Index");
+		}
+
 		for (int i = 0 ; i < iNumSegment; ++i) {
 			boolean bLeftValid = bIncludeLeft ? _aLSRM[i].left() <= dblPredictorOrdinate : _aLSRM[i].left() <
 				dblPredictorOrdinate;
@@ -201,6 +201,21 @@ public interface MultiSegmentSequence extends org.drip.spline.stretch.SingleSegm
 		final boolean bIncludeRight)
 		throws java.lang.Exception;
 
+	/**
+	 * Calculate the Response Values at the given Array of Predictor Ordinates. Ordinates sorted in the
+	 * 	Ascending Order are located by walking the Segments forward once.
+	 * 
+	 * @param adblPredictorOrdinate Array of the Predictor Ordinates
+	 * 
+	 * @return Array of the Response Values
+	 * 
+	 * @throws java.lang.Exception Thrown if the Response Values cannot be calculated
+	 */
+
+	public abstract double[] responseValues (
+		final double[] adblPredictorOrdinate)
+		throws java.lang.Exception;
+
 	/**
 	 * Set up (i.e., calibrate) the individual Segments in the Stretch to the Stretch Edge, the Target
 	 *  Constraints, and the custom segment sequence builder.
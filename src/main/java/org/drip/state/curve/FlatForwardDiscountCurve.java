@@ -38,6 +38,7 @@ package org.drip.state.curve;
  *  - Boot Methods - Set/Bump Specific Node Quantification Metric, or Set Flat Value
  *  - Boot Calibration - Initialize Run, Compute Calibration Metric
  *  - Compute the discount factor, forward rate, or the zero rate from the Forward Rate Latent State
+ *  - Compute the discount factors to an array of dates in bulk
  *  - Create a ForwardRateEstimator instance for the given Index
  *  - Retrieve Array of the Calibration Components
  *  - Retrieve the Curve Construction Input Set
@@ -46,6 +47,10 @@ package org.drip.state.curve;
  *  - Synthesize scenario Latent State by parallel/custom shifting/custom tweaking the manifest measure
  *  - Serialize into and de-serialize out of byte array
  *
+ * The forward nodes are compiled into a PiecewiseFlatIntegral of the cumulative discount exponent (or of the
+ *  cumulative compounded discount factor under discrete compounding) each time they are set or bumped, so
+ *  the node year fractions are computed once, and the discount factor lookup is a binary search.
+ *
  * @author Lakshmi Krishnamurthy
  */
 
@@ -55,6 +60,7 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 	private double _adblForwardRate[] = null;
 	private boolean _bDiscreteCompounding = false;
 	private String _strCompoundingDayCount = "";
+	private org.drip.state.curve.PiecewiseFlatIntegral _pfiForward = null;
 
 	private double yearFract (
 		final double dblStartDate,
@@ -66,6 +72,58 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 				365.25;
 	}
 
+	private boolean compileForward()
+	{
+		int iNumDate = _adblDate.length;
+		double dblStartDate = _dblEpochDate;
+		double[] adblCumulative = new double[iNumDate + 1];
+		adblCumulative[0] = _bDiscreteCompounding ? 1. : 0.;
+
+		try {
+			for (int i = 0; i < iNumDate; ++i) {
+				if (_bDiscreteCompounding)
+					adblCumulative[i + 1] = adblCumulative[i] * java.lang.Math.pow (1. + (_adblForwardRate[i]
+						/ _iCompoundingFreq), yearFract (dblStartDate, _adblDate[i]) * _iCompoundingFreq);
+				else
+					adblCumulative[i + 1] = adblCumulative[i] - _adblForwardRate[i] * yearFract
+						(dblStartDate, _adblDate[i]);
+
+				dblStartDate = _adblDate[i];
+			}
+
+			_pfiForward = new org.drip.state.curve.PiecewiseFlatIntegral (_dblEpochDate, _adblDate,
+				_adblForwardRate, adblCumulative, true);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private double df (
+		final org.drip.state.curve.PiecewiseFlatIntegral pfiForward,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("FlatForwardDiscountCurve::df => Got NaN for date");
+
+		if (dblDate <= _dblEpochDate) return 1.;
+
+		int iSegment = pfiForward.segment (dblDate);
+
+		double dblForwardRate = pfiForward.response (iSegment);
+
+		double dblStubYearFract = yearFract (pfiForward.segmentStart (iSegment), dblDate);
+
+		return (_bDiscreteCompounding ? pfiForward.cumulative (iSegment) * java.lang.Math.pow (1. +
+			(dblForwardRate / _iCompoundingFreq), dblStubYearFract * _iCompoundingFreq) : java.lang.Math.exp
+				(pfiForward.cumulative (iSegment) - dblForwardRate * dblStubYearFract)) * turnAdjust
+					(_dblEpochDate, dblDate);
+	}
+
 	private FlatForwardDiscountCurve shiftManifestMeasure (
 		final double[] adblShift)
 	{
@@ -164,6 +222,8 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 			_adblDate[i] = adblDate[i];
 			_adblForwardRate[i] = adblForwardRate[i];
 		}
+
+		if (!compileForward()) throw new java.lang.Exception ("FlatForwardDiscountCurve ctr: Invalid inputs");
 	}
 
 	protected FlatForwardDiscountCurve (
@@ -175,6 +235,7 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		_adblDate = dc._adblDate;
 		_strCurrency = dc._strCurrency;
 		_dblEpochDate = dc._dblEpochDate;
+		_pfiForward = dc._pfiForward;
 		_adblForwardRate = dc._adblForwardRate;
 		_iCompoundingFreq = dc._iCompoundingFreq;
 		_bDiscreteCompounding = dc._bDiscreteCompounding;
@@ -190,37 +251,35 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		final double dblDate)
 		throws java.lang.Exception
 	{
-		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
-			throw new java.lang.Exception ("FlatForwardDiscountCurve::df => Got NaN for date");
-
-		if (dblDate <= _dblEpochDate) return 1.;
+		return df (_pfiForward, dblDate);
+	}
 
-		int i = 0;
-		double dblDF = 1.;
-		double dblExpArg = 0.;
-		int iNumDate = _adblDate.length;
-		double dblStartDate = _dblEpochDate;
+	@Override public double[] df (
+		final double[] adblDate)
+		throws java.lang.Exception
+	{
+		if (null == adblDate || 0 == adblDate.length)
+			throw new java.lang.Exception ("FlatForwardDiscountCurve::df => Invalid Dates");
 
-		while (i < iNumDate && (int) dblDate >= (int) _adblDate[i]) {
-			if (_bDiscreteCompounding)
-				dblDF *= java.lang.Math.pow (1. + (_adblForwardRate[i] / _iCompoundingFreq), yearFract
-					(dblStartDate, _adblDate[i]) * _iCompoundingFreq);
-			else
-				dblExpArg -= _adblForwardRate[i] * yearFract (dblStartDate, _adblDate[i]);
+		int iNumDate = adblDate.length;
+		double[] adblDF = new double[iNumDate];
+		org.drip.state.curve.PiecewiseFlatIntegral pfiForward = _pfiForward;
 
-			dblStartDate = _adblDate[i++];
-		}
+		for (int i = 0; i < iNumDate; ++i)
+			adblDF[i] = df (pfiForward, adblDate[i]);
 
-		if (i >= iNumDate) i = iNumDate - 1;
+		return adblDF;
+	}
 
-		if (_bDiscreteCompounding)
-			dblDF *= java.lang.Math.pow (1. + (_adblForwardRate[i] / _iCompoundingFreq), yearFract
-				(dblStartDate, dblDate) * _iCompoundingFreq);
-		else
-			dblExpArg -= _adblForwardRate[i] * yearFract (dblStartDate, dblDate);
+	/**
+	 * Retrieve the Compiled Cumulative Forward Integral of the Current Nodes
+	 * 
+	 * @return The Compiled Cumulative Forward Integral
+	 */
 
-		return (_bDiscreteCompounding ? dblDF : java.lang.Math.exp (dblExpArg)) * turnAdjust (_dblEpochDate,
-			dblDate);
+	public org.drip.state.curve.PiecewiseFlatIntegral compiledForward()
+	{
+		return _pfiForward;
 	}
 
 	@Override public double forward (
@@ -435,7 +494,7 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		for (int i = iNodeIndex; i < _adblForwardRate.length; ++i)
 			_adblForwardRate[i] = dblValue;
 
-		return true;
+		return compileForward();
 	}
 
 	@Override public boolean bumpNodeValue (
@@ -448,7 +507,7 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		for (int i = iNodeIndex; i < _adblForwardRate.length; ++i)
 			_adblForwardRate[i] += dblValue;
 
-		return true;
+		return compileForward();
 	}
 
 	@Override public boolean setFlatValue (
@@ -459,6 +518,6 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		for (int i = 0; i < _adblForwardRate.length; ++i)
 			_adblForwardRate[i] = dblValue;
 
-		return true;
+		return compileForward();
 	}
 }
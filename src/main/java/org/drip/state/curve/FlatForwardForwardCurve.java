@@ -85,6 +85,17 @@ public class FlatForwardForwardCurve extends org.drip.analytics.rates.ForwardCur
 		final String strManifestMeasure,
 		final double dblDate)
 	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate)) return null;
+
+		try {
+			org.drip.quant.calculus.WengertJacobian wj = new org.drip.quant.calculus.WengertJacobian (1, 1);
+
+			return wj.setWengert (0, _dblFlatForwardRate) && wj.accumulatePartialFirstDerivative (0, 0, 1.) ?
+				wj : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
 		return null;
 	}
 }
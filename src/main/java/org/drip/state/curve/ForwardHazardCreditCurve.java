@@ -38,12 +38,16 @@ package org.drip.state.curve;
  *  - Boot Methods - Set/Bump Specific Node Quantification Metric, or Set Flat Value
  *  - Boot Calibration - Initialize Run, Compute Calibration Metric
  *  - Compute the survival probability, recovery rate, or the hazard rate from the Hazard Rate Latent State
+ *  - Compute the survival probabilities to an array of dates in bulk
  *  - Retrieve Array of the Calibration Components
  *  - Retrieve the Curve Construction Input Set
  *  - Synthesize scenario Latent State by parallel shifting/custom tweaking the quantification metric
  *  - Synthesize scenario Latent State by parallel/custom shifting/custom tweaking the manifest measure
  *  - Serialize into and de-serialize out of byte array
  *
+ * The hazard nodes are compiled into a PiecewiseFlatIntegral of the cumulative integrated hazard each time
+ *  they are set or bumped, so the survival lookup is a binary search rather than a scan from the epoch.
+ *
  * @author Lakshmi Krishnamurthy
  */
 
@@ -52,6 +56,51 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 	private double[] _adblHazardRate = null;
 	private double[] _adblRecoveryDate = null;
 	private double[] _adblRecoveryRate = null;
+	private org.drip.state.curve.PiecewiseFlatIntegral _pfiHazard = null;
+
+	private boolean compileHazard()
+	{
+		int iNumNode = _adblHazardRate.length;
+		double dblExpArg = 0.;
+		double dblStartDate = _dblEpochDate;
+		double[] adblCumulative = new double[iNumNode + 1];
+
+		for (int i = 0; i < iNumNode; ++i) {
+			adblCumulative[i + 1] = (dblExpArg -= _adblHazardRate[i] * (_adblHazardDate[i] - dblStartDate));
+			dblStartDate = _adblHazardDate[i];
+		}
+
+		try {
+			_pfiHazard = new org.drip.state.curve.PiecewiseFlatIntegral (_dblEpochDate, _adblHazardDate,
+				_adblHazardRate, adblCumulative, false);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private double survival (
+		final org.drip.state.curve.PiecewiseFlatIntegral pfiHazard,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("ForwardHazardCreditCurve::survival => No surv for NaN date");
+
+		if (dblDate <= _dblEpochDate) return 1.;
+
+		if (org.drip.quant.common.NumberUtil.IsValid (_dblSpecificDefaultDate) && dblDate >=
+			_dblSpecificDefaultDate)
+			return 0.;
+
+		int iSegment = pfiHazard.segment (dblDate);
+
+		return java.lang.Math.exp ((pfiHazard.cumulative (iSegment) - pfiHazard.response (iSegment) *
+			(dblDate - pfiHazard.segmentStart (iSegment))) / 365.25);
+	}
 
 	private org.drip.analytics.definition.CreditCurve createFromBaseMMTP (
 		final org.drip.param.definition.ResponseValueTweakParams mmtp)
@@ -122,6 +171,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 		for (int i = 0; i < adblRecoveryDate.length; ++i)
 			_adblRecoveryDate[i] = adblRecoveryDate[i];
+
+		if (!compileHazard()) throw new java.lang.Exception ("ForwardHazardCreditCurve ctr: Invalid Params!");
 	}
 
 	@Override public org.drip.param.valuation.CollateralizationParams collateralParams()
@@ -133,29 +184,71 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		final double dblDate)
 		throws java.lang.Exception
 	{
-		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
-			throw new java.lang.Exception ("ForwardHazardCreditCurve::survival => No surv for NaN date");
+		return survival (_pfiHazard, dblDate);
+	}
 
-		if (dblDate <= _dblEpochDate) return 1.;
+	@Override public double[] survival (
+		final double[] adblDate)
+		throws java.lang.Exception
+	{
+		if (null == adblDate || 0 == adblDate.length)
+			throw new java.lang.Exception ("ForwardHazardCreditCurve::survival => Invalid Dates");
 
-		if (org.drip.quant.common.NumberUtil.IsValid (_dblSpecificDefaultDate) && dblDate >=
-			_dblSpecificDefaultDate)
-			return 0.;
+		int iNumDate = adblDate.length;
+		double[] adblSurvival = new double[iNumDate];
+		org.drip.state.curve.PiecewiseFlatIntegral pfiHazard = _pfiHazard;
 
-		int i = 0;
-		double dblExpArg = 0.;
-		double dblStartDate = _dblEpochDate;
+		for (int i = 0; i < iNumDate; ++i)
+			adblSurvival[i] = survival (pfiHazard, adblDate[i]);
 
-		while (i < _adblHazardRate.length && dblDate > _adblHazardDate[i]) {
-			dblExpArg -= _adblHazardRate[i] * (_adblHazardDate[i] - dblStartDate);
-			dblStartDate = _adblHazardDate[i++];
-		}
+		return adblSurvival;
+	}
+
+	/**
+	 * Retrieve the Compiled Cumulative Hazard Integral of the Current Nodes
+	 * 
+	 * @return The Compiled Cumulative Hazard Integral
+	 */
 
-		if (i >= _adblHazardRate.length) i = _adblHazardRate.length - 1;
+	public org.drip.state.curve.PiecewiseFlatIntegral compiledHazard()
+	{
+		return _pfiHazard;
+	}
+
+	@Override public org.drip.quant.calculus.WengertJacobian jackDSurvivalDManifestMeasure (
+		final double dblDate,
+		final String strManifestMeasure)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate)) return null;
 
-		dblExpArg -= _adblHazardRate[i] * (dblDate - dblStartDate);
+		int iNumNode = _adblHazardRate.length;
+		org.drip.state.curve.PiecewiseFlatIntegral pfiHazard = _pfiHazard;
 
-		return java.lang.Math.exp (dblExpArg / 365.25);
+		try {
+			org.drip.quant.calculus.WengertJacobian wj = new org.drip.quant.calculus.WengertJacobian (1,
+				iNumNode);
+
+			double dblSurvival = survival (pfiHazard, dblDate);
+
+			if (!wj.setWengert (0, dblSurvival)) return null;
+
+			if (dblDate <= _dblEpochDate || 0. == dblSurvival) return wj;
+
+			int iSegment = pfiHazard.segment (dblDate);
+
+			for (int i = 0; i < iSegment && i < iNumNode; ++i) {
+				if (!wj.accumulatePartialFirstDerivative (0, i, -dblSurvival * (pfiHazard.segmentStart (i + 1)
+					- pfiHazard.segmentStart (i)) / 365.25))
+					return null;
+			}
+
+			return wj.accumulatePartialFirstDerivative (0, iSegment < iNumNode ? iSegment : iNumNode - 1,
+				-dblSurvival * (dblDate - pfiHazard.segmentStart (iSegment)) / 365.25) ? wj : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
 	}
 
 	@Override public double recovery (
@@ -459,7 +552,7 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = iNodeIndex; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] = dblValue;
 
-		return true;
+		return compileHazard();
 	}
 
 	@Override public boolean bumpNodeValue (
@@ -472,7 +565,7 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = iNodeIndex; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] += dblValue;
 
-		return true;
+		return compileHazard();
 	}
 
 	@Override public boolean setFlatValue (
@@ -483,6 +576,6 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = 0; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] = dblValue;
 
-		return true;
+		return compileHazard();
 	}
 }
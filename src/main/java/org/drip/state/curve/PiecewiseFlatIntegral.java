@@ -0,0 +1,210 @@
+
+package org.drip.state.curve;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PiecewiseFlatIntegral is the Immutable Compiled Form of a Curve whose Latent State Response (the Hazard
+ * 	Rate, the Forward Rate) is Flat between Successive Nodes. It holds the Cumulative Integral of the Response
+ * 	from the Epoch up to each Node, so a Lookup is a Binary Search for the Containing Segment plus the
+ * 	Integral across the Stub inside it, instead of a Re-accumulation of every Segment from the Epoch.
+ *
+ * Segment k runs from the Node k - 1 (the Epoch for k = 0) to the Node k; Dates past the Final Node fall in
+ * 	Segment n, which carries on at the Final Node's Response. The Node Dates are expected to ascend. In the
+ * 	Day-Truncated Mode the Date and the Node Dates are compared as Whole Days, and a Date on a Node falls
+ * 	into the Next Segment; otherwise a Date on a Node falls into the Segment the Node closes.
+ *
+ * The Cumulative Integral is supplied by the Owning Curve, so that it may be carried either as an Additive
+ * 	Exponent or as a Multiplicative Compounded Factor.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PiecewiseFlatIntegral {
+	private boolean _bDayTruncated = false;
+	private double[] _adblNodeKey = null;
+	private double[] _adblResponse = null;
+	private double[] _adblCumulative = null;
+	private double[] _adblSegmentStart = null;
+
+	/**
+	 * PiecewiseFlatIntegral Constructor
+	 * 
+	 * @param dblEpochDate The Epoch Date
+	 * @param adblNodeDate Array of the Node Dates
+	 * @param adblResponse Array of the Flat Response over the Segment each Node closes
+	 * @param adblCumulative Array of the Cumulative Integral up to the Start of each Segment (One more than
+	 * 	the Number of Nodes)
+	 * @param bDayTruncated TRUE => Compare the Dates as Whole Days
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PiecewiseFlatIntegral (
+		final double dblEpochDate,
+		final double[] adblNodeDate,
+		final double[] adblResponse,
+		final double[] adblCumulative,
+		final boolean bDayTruncated)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblEpochDate) || null == adblNodeDate || null ==
+			adblResponse || null == adblCumulative)
+			throw new java.lang.Exception ("PiecewiseFlatIntegral ctr: Invalid Inputs");
+
+		int iNumNode = adblNodeDate.length;
+
+		if (0 == iNumNode || iNumNode != adblResponse.length || iNumNode + 1 != adblCumulative.length)
+			throw new java.lang.Exception ("PiecewiseFlatIntegral ctr: Invalid Inputs");
+
+		_bDayTruncated = bDayTruncated;
+		_adblNodeKey = new double[iNumNode];
+		_adblResponse = new double[iNumNode];
+		_adblCumulative = new double[iNumNode + 1];
+		_adblSegmentStart = new double[iNumNode + 1];
+		_adblCumulative[0] = adblCumulative[0];
+		_adblSegmentStart[0] = dblEpochDate;
+
+		for (int i = 0; i < iNumNode; ++i) {
+			if (0 != i && adblNodeDate[i] < adblNodeDate[i - 1])
+				throw new java.lang.Exception ("PiecewiseFlatIntegral ctr: Node Dates out of Order");
+
+			_adblResponse[i] = adblResponse[i];
+			_adblCumulative[i + 1] = adblCumulative[i + 1];
+			_adblSegmentStart[i + 1] = adblNodeDate[i];
+			_adblNodeKey[i] = bDayTruncated ? (int) adblNodeDate[i] : adblNodeDate[i];
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Nodes
+	 * 
+	 * @return The Number of Nodes
+	 */
+
+	public int numNode()
+	{
+		return _adblNodeKey.length;
+	}
+
+	/**
+	 * Locate the Segment containing the specified Date
+	 * 
+	 * @param dblDate The Date
+	 * 
+	 * @return Index of the Segment, between 0 and the Number of Nodes
+	 */
+
+	public int segment (
+		final double dblDate)
+	{
+		int iLeft = 0;
+		int iRight = _adblNodeKey.length;
+		double dblKey = _bDayTruncated ? (int) dblDate : dblDate;
+
+		while (iLeft < iRight) {
+			int iMid = (iLeft + iRight) >>> 1;
+
+			if (_bDayTruncated ? dblKey >= _adblNodeKey[iMid] : dblKey > _adblNodeKey[iMid])
+				iLeft = iMid + 1;
+			else
+				iRight = iMid;
+		}
+
+		return iLeft;
+	}
+
+	/**
+	 * Locate the First Node past the specified Date at which the Response changes
+	 * 
+	 * @param dblDate The Date
+	 * 
+	 * @return The Node Date (the Whole Day in the Day-Truncated Mode), or Positive Infinity if the Date is
+	 * 	past the Final Node
+	 */
+
+	public double nextNode (
+		final double dblDate)
+	{
+		int iLeft = 0;
+		int iRight = _adblNodeKey.length;
+
+		while (iLeft < iRight) {
+			int iMid = (iLeft + iRight) >>> 1;
+
+			if (dblDate >= _adblNodeKey[iMid])
+				iLeft = iMid + 1;
+			else
+				iRight = iMid;
+		}
+
+		return iLeft < _adblNodeKey.length ? _adblNodeKey[iLeft] : java.lang.Double.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Retrieve the Start Date of the Segment
+	 * 
+	 * @param iSegment Index of the Segment
+	 * 
+	 * @return The Segment Start Date
+	 */
+
+	public double segmentStart (
+		final int iSegment)
+	{
+		return _adblSegmentStart[iSegment];
+	}
+
+	/**
+	 * Retrieve the Flat Response inside the Segment
+	 * 
+	 * @param iSegment Index of the Segment
+	 * 
+	 * @return The Segment Response
+	 */
+
+	public double response (
+		final int iSegment)
+	{
+		return _adblResponse[iSegment < _adblResponse.length ? iSegment : _adblResponse.length - 1];
+	}
+
+	/**
+	 * Retrieve the Cumulative Integral from the Epoch up to the Start of the Segment
+	 * 
+	 * @param iSegment Index of the Segment
+	 * 
+	 * @return The Cumulative Integral
+	 */
+
+	public double cumulative (
+		final int iSegment)
+	{
+		return _adblCumulative[iSegment];
+	}
+}
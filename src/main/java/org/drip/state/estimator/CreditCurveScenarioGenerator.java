@@ -81,10 +81,175 @@ public class CreditCurveScenarioGenerator {
 	}
 
 	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCalibInst = null;
+	private java.util.concurrent.ExecutorService _es = null;
 
 	private org.drip.state.estimator.NonlinearCurveCalibrator _compCalib = new
 		org.drip.state.estimator.NonlinearCurveCalibrator();
 
+	private org.drip.analytics.definition.CreditCurve calibrateCC (
+		final String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblRecovery,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat,
+		final org.drip.analytics.definition.CreditCurve ccBase,
+		final int iStartNode)
+	{
+		int iNumInstr = adblQuotes.length;
+		double adblDate[] = new double[iNumInstr];
+		double adblHazardRate[] = new double[iNumInstr];
+		org.drip.analytics.definition.ExplicitBootCreditCurve cc = null;
+		org.drip.state.curve.PiecewiseFlatIntegral pfiBase = null;
+
+		if (0 == iNumInstr || iNumInstr != astrCalibMeasure.length || iNumInstr != astrCalibMeasure.length)
+			return null;
+
+		for (int i = 0; i < iNumInstr; ++i)
+			adblDate[i] = _aCalibInst[i].maturityDate().julian();
+
+		if (!bFlat && 0 < iStartNode && iStartNode < iNumInstr && ccBase instanceof
+			org.drip.state.curve.ForwardHazardCreditCurve) {
+			pfiBase = ((org.drip.state.curve.ForwardHazardCreditCurve) ccBase).compiledHazard();
+
+			if (iNumInstr != pfiBase.numNode())
+				pfiBase = null;
+			else {
+				for (int i = 0; i < iNumInstr; ++i) {
+					if (adblDate[i] != pfiBase.segmentStart (i + 1)) {
+						pfiBase = null;
+						break;
+					}
+				}
+			}
+		}
+
+		for (int i = 0; i < iNumInstr; ++i)
+			adblHazardRate[i] = null == pfiBase ? java.lang.Double.NaN : pfiBase.response
+				(java.lang.Math.min (i, iStartNode - 1));
+
+		try {
+			cc = org.drip.state.creator.CreditCurveBuilder.CreateCreditCurve (new
+				org.drip.analytics.date.JulianDate (valParams.valueDate()), strName, dc.currency(),
+					adblDate, adblHazardRate, dblRecovery);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		org.drip.param.pricer.CreditPricerParams pricerParams = new org.drip.param.pricer.CreditPricerParams
+			(7, null, false, org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+
+		for (int i = null == pfiBase ? 0 : iStartNode; i < iNumInstr; ++i) {
+			TranslatedQuoteMeasure tqm = translateQuoteMeasure (_aCalibInst[i], valParams, pricerParams, dc,
+				cc, astrCalibMeasure[i], adblQuotes[i]);
+
+			if (null == tqm) return null;
+
+			if (!_compCalib.bootstrapHazardRate (cc, _aCalibInst[i], i, valParams, dc, dcTSY, pricerParams,
+				tqm._strMeasure, tqm._dblQuote, lsfc, quotingParams, bFlat))
+				return null;
+		}
+
+		cc.setInstrCalibInputs (valParams, bFlat, dc, dcTSY, pricerParams, _aCalibInst, adblQuotes,
+			astrCalibMeasure, lsfc, quotingParams);
+
+		return cc;
+	}
+
+	private org.drip.analytics.definition.CreditCurve tenorBumpedCC (
+		final int iTenor,
+		final String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final double dblRecovery,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat,
+		final org.drip.analytics.definition.CreditCurve ccBase)
+	{
+		double[] adblTenorQuotes = new double[_aCalibInst.length];
+
+		for (int j = 0; j < _aCalibInst.length; ++j) {
+			if (j == iTenor)
+				adblTenorQuotes[j] = adblQuotes[j] + dblBump;
+			else
+				adblTenorQuotes[j] = adblQuotes[j];
+		}
+
+		return calibrateCC (strName, valParams, dc, dcTSY, adblTenorQuotes, dblRecovery, astrCalibMeasure,
+			lsfc, quotingParams, bFlat, ccBase, iTenor);
+	}
+
+	private org.drip.analytics.definition.CreditCurve[] tenorBumpedCCSet (
+		final String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final double dblRecovery,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat,
+		final org.drip.analytics.definition.CreditCurve ccBase)
+	{
+		int iNumTenor = _aCalibInst.length;
+		org.drip.analytics.definition.CreditCurve[] aCC = new
+			org.drip.analytics.definition.CreditCurve[iNumTenor];
+
+		if (null == _es || 1 == iNumTenor) {
+			for (int i = 0; i < iNumTenor; ++i) {
+				if (null == (aCC[i] = tenorBumpedCC (i, strName, valParams, dc, dcTSY, adblQuotes, dblBump,
+					dblRecovery, astrCalibMeasure, lsfc, quotingParams, bFlat, ccBase)))
+					return null;
+			}
+
+			return aCC;
+		}
+
+		java.util.List<java.util.concurrent.Future<org.drip.analytics.definition.CreditCurve>> lsFuture =
+			new java.util.ArrayList<java.util.concurrent.Future<org.drip.analytics.definition.CreditCurve>>();
+
+		try {
+			for (int i = 0; i < iNumTenor; ++i) {
+				final int iTenor = i;
+
+				lsFuture.add (_es.submit (new
+					java.util.concurrent.Callable<org.drip.analytics.definition.CreditCurve>() {
+					@Override public org.drip.analytics.definition.CreditCurve call()
+					{
+						return tenorBumpedCC (iTenor, strName, valParams, dc, dcTSY, adblQuotes, dblBump,
+							dblRecovery, astrCalibMeasure, lsfc, quotingParams, bFlat, ccBase);
+					}
+				}));
+			}
+
+			for (int i = 0; i < iNumTenor; ++i) {
+				if (null == (aCC[i] = lsFuture.get (i).get())) return null;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		} finally {
+			for (java.util.concurrent.Future<org.drip.analytics.definition.CreditCurve> f : lsFuture)
+				f.cancel (true);
+		}
+
+		return aCC;
+	}
+
 	/**
 	 * Construct a CreditCurveScenarioGenerator instance from the calibratable instrument array
 	 * 
@@ -101,6 +266,28 @@ public class CreditCurveScenarioGenerator {
 			throw new java.lang.Exception ("CreditCurveScenarioGenerator ctr: Invalid calib instr!");
 	}
 
+	/**
+	 * Construct a CreditCurveScenarioGenerator instance from the calibratable instrument array and the
+	 * 	Executor on which the Tenor Bumped Curves are calibrated in parallel. The Executor is owned (and
+	 * 	shut down) by the Caller.
+	 * 
+	 * @param aCalibInst Array of calibration instruments
+	 * @param es The Executor Service (NULL => Calibrate the Tenor Bumped Curves serially)
+	 * 
+	 * @throws java.lang.Exception Thrown if inputs are invalid
+	 */
+
+	public CreditCurveScenarioGenerator (
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final java.util.concurrent.ExecutorService es)
+		throws java.lang.Exception
+	{
+		if (null == (_aCalibInst = aCalibInst) || 0 == _aCalibInst.length)
+			throw new java.lang.Exception ("CreditCurveScenarioGenerator ctr: Invalid calib instr!");
+
+		_es = es;
+	}
+
 	/**
 	 * Return an array of the calibration instruments
 	 * 
@@ -112,6 +299,17 @@ public class CreditCurveScenarioGenerator {
 		return _aCalibInst;
 	}
 
+	/**
+	 * Retrieve the Executor on which the Tenor Bumped Curves are calibrated
+	 * 
+	 * @return The Executor Service (NULL => The Tenor Bumped Curves are calibrated serially)
+	 */
+
+	public java.util.concurrent.ExecutorService executor()
+	{
+		return _es;
+	}
+
 	/**
 	 * Calibrate a Credit Curve
 	 * 
@@ -146,48 +344,8 @@ public class CreditCurveScenarioGenerator {
 				null == dc)
 			return null;
 
-		int iNumInstr = adblQuotes.length;
-		double adblDate[] = new double[iNumInstr];
-		double adblHazardRate[] = new double[iNumInstr];
-		org.drip.analytics.definition.ExplicitBootCreditCurve cc = null;
-
-		if (0 == iNumInstr || iNumInstr != astrCalibMeasure.length || iNumInstr != astrCalibMeasure.length)
-			return null;
-
-		for (int i = 0; i < iNumInstr; ++i) {
-			adblHazardRate[i] = java.lang.Double.NaN;
-
-			adblDate[i] = _aCalibInst[i].maturityDate().julian();
-		}
-
-		try {
-			cc = org.drip.state.creator.CreditCurveBuilder.CreateCreditCurve (new
-				org.drip.analytics.date.JulianDate (valParams.valueDate()), strName, dc.currency(),
-					adblDate, adblHazardRate, dblRecovery);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-
-			return null;
-		}
-
-		org.drip.param.pricer.CreditPricerParams pricerParams = new org.drip.param.pricer.CreditPricerParams
-			(7, null, false, org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
-
-		for (int i = 0; i < iNumInstr; ++i) {
-			TranslatedQuoteMeasure tqm = translateQuoteMeasure (_aCalibInst[i], valParams, pricerParams, dc,
-				cc, astrCalibMeasure[i], adblQuotes[i]);
-
-			if (null == tqm) return null;
-
-			if (!_compCalib.bootstrapHazardRate (cc, _aCalibInst[i], i, valParams, dc, dcTSY, pricerParams,
-				tqm._strMeasure, tqm._dblQuote, lsfc, quotingParams, bFlat))
-				return null;
-		}
-
-		cc.setInstrCalibInputs (valParams, bFlat, dc, dcTSY, pricerParams, _aCalibInst, adblQuotes,
-			astrCalibMeasure, lsfc, quotingParams);
-
-		return cc;
+		return calibrateCC (strName, valParams, dc, dcTSY, adblQuotes, dblRecovery, astrCalibMeasure, lsfc,
+			quotingParams, bFlat, null, 0);
 	}
 
 	/**
@@ -220,30 +378,54 @@ public class CreditCurveScenarioGenerator {
 		final org.drip.param.market.LatentStateFixingsContainer lsfc,
 		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
 		final boolean bFlat)
+	{
+		return createTenorCC (strName, valParams, dc, dcTSY, adblQuotes, dblBump, dblRecovery,
+			astrCalibMeasure, lsfc, quotingParams, bFlat, null);
+	}
+
+	/**
+	 * Create an array of tenor bumped credit curves, warm-started off the Base Curve calibrated from the
+	 * 	un-bumped Quotes. Bumping the Quote of a Tenor leaves the Hazard Nodes ahead of it unchanged, so
+	 * 	these are carried over from the Base Curve, and only the Nodes from the bumped Tenor onwards are
+	 * 	re-calibrated.
+	 * 
+	 * @param strName Credit Curve Name
+	 * @param valParams ValuationParams
+	 * @param dc Base Discount Curve
+	 * @param dcTSY Treasury Discount Curve
+	 * @param adblQuotes Array of component quotes
+	 * @param dblBump Amount of bump applied to the tenor
+	 * @param dblRecovery Component recovery
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param bFlat Flat Calibration (True), or real bootstrapping (false)
+	 * @param ccBase The Base Credit Curve (NULL => Calibrate each Tenor Bumped Curve from scratch)
+	 * 
+	 * @return Array of CreditCurves
+	 */
+
+	public org.drip.analytics.definition.CreditCurve[] createTenorCC (
+		final String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final double dblRecovery,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat,
+		final org.drip.analytics.definition.CreditCurve ccBase)
 	{
 		if (null == strName || null == adblQuotes || null == astrCalibMeasure || null == valParams || null ==
 			dc || adblQuotes.length != astrCalibMeasure.length || _aCalibInst.length !=
 				astrCalibMeasure.length || !org.drip.quant.common.NumberUtil.IsValid (dblRecovery))
 			return null;
 
-		org.drip.analytics.definition.CreditCurve[] aCC = new
-			org.drip.analytics.definition.CreditCurve[_aCalibInst.length];
-
-		for (int i = 0; i < aCC.length; ++i) {
-			double[] adblTenorQuotes = new double [aCC.length];
-
-			for (int j = 0; j < aCC.length; ++j) {
-				adblTenorQuotes[j] = adblQuotes[j];
-
-				if (j == i) adblTenorQuotes[j] += dblBump;
-			}
-
-			if (null == (aCC[i] = createCC (strName, valParams, dc, dcTSY, adblTenorQuotes, dblRecovery,
-				astrCalibMeasure, lsfc, quotingParams, bFlat)))
-				return null;
-		}
-
-		return aCC;
+		return tenorBumpedCCSet (strName, valParams, dc, dcTSY, adblQuotes, dblBump, dblRecovery,
+			astrCalibMeasure, lsfc, quotingParams, bFlat, ccBase);
 	}
 
 	/**
@@ -277,34 +459,63 @@ public class CreditCurveScenarioGenerator {
 			final org.drip.param.market.LatentStateFixingsContainer lsfc,
 			final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
 			final boolean bFlat)
+	{
+		return createTenorCCMap (strName, valParams, dc, dcTSY, adblQuotes, dblBump, dblRecovery,
+			astrCalibMeasure, lsfc, quotingParams, bFlat, null);
+	}
+
+	/**
+	 * Create an tenor named map of tenor bumped credit curves, warm-started off the Base Curve calibrated
+	 * 	from the un-bumped Quotes
+	 * 
+	 * @param strName Credit Curve name
+	 * @param valParams ValuationParams
+	 * @param dc Base Discount Curve
+	 * @param dcTSY Treasury Discount Curve
+	 * @param adblQuotes Array of component quotes
+	 * @param dblBump Amount of bump applied to the tenor
+	 * @param dblRecovery Component recovery
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param bFlat Flat Calibration (True), or real bootstrapping (false)
+	 * @param ccBase The Base Credit Curve (NULL => Calibrate each Tenor Bumped Curve from scratch)
+	 * 
+	 * @return Tenor named map of tenor bumped credit curves
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+		createTenorCCMap (
+			final String strName,
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.analytics.rates.DiscountCurve dc,
+			final org.drip.analytics.rates.DiscountCurve dcTSY,
+			final double[] adblQuotes,
+			final double dblBump,
+			final double dblRecovery,
+			final String[] astrCalibMeasure,
+			final org.drip.param.market.LatentStateFixingsContainer lsfc,
+			final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+			final boolean bFlat,
+			final org.drip.analytics.definition.CreditCurve ccBase)
 	{
 		if (null == strName || null == valParams || null == dc || null == adblQuotes || null ==
 			astrCalibMeasure || adblQuotes.length != astrCalibMeasure.length || _aCalibInst.length !=
 				astrCalibMeasure.length || !org.drip.quant.common.NumberUtil.IsValid (dblRecovery))
 			return null;
 
+		org.drip.analytics.definition.CreditCurve[] aCC = tenorBumpedCCSet (strName, valParams, dc, dcTSY,
+			adblQuotes, dblBump, dblRecovery, astrCalibMeasure, lsfc, quotingParams, bFlat, ccBase);
+
+		if (null == aCC) return null;
+
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
 			mapTenorCC = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
 
-		for (int i = 0; i < _aCalibInst.length; ++i) {
-			org.drip.analytics.definition.CreditCurve cc = null;
-			double[] adblTenorQuotes = new double[_aCalibInst.length];
-
-			for (int j = 0; j < _aCalibInst.length; ++j) {
-				if (j == i)
-					adblTenorQuotes[j] = adblQuotes[j] + dblBump;
-				else
-					adblTenorQuotes[j] = adblQuotes[j];
-			}
-
-			if (null == (cc = createCC (strName, valParams, dc, dcTSY, adblTenorQuotes, dblRecovery,
-				astrCalibMeasure, lsfc, quotingParams, bFlat)))
-				return null;
-
+		for (int i = 0; i < _aCalibInst.length; ++i)
 			mapTenorCC.put (org.drip.analytics.date.DateUtil.FromJulian
-				(_aCalibInst[i].maturityDate().julian()), cc);
-		}
+				(_aCalibInst[i].maturityDate().julian()), aCC[i]);
 
 		return mapTenorCC;
 	}
@@ -50,6 +50,8 @@ package org.drip.state.estimator;
  */
 
 public class NonlinearCurveCalibrator {
+	private boolean _bIncrementalHazardBootstrap = true;
+
 	class CreditCurveCalibrator extends org.drip.function.definition.R1ToR1 {
 		private int _iInstr = -1;
 		private boolean _bFlat = false;
@@ -63,6 +65,8 @@ public class NonlinearCurveCalibrator {
 		private org.drip.param.market.LatentStateFixingsContainer _lsfc = null;
 		private org.drip.analytics.definition.ExplicitBootCreditCurve _cc = null;
 		private org.drip.param.valuation.ValuationCustomizationParams _quotingParams = null;
+		private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+		private org.drip.product.credit.CDSLegContribution _legContribution = null;
 
 		public CreditCurveCalibrator (
 			org.drip.analytics.definition.ExplicitBootCreditCurve cc,
@@ -96,6 +100,25 @@ public class NonlinearCurveCalibrator {
 			_pricerParams = new org.drip.param.pricer.CreditPricerParams (pricerParamsIn.unitSize(), new
 				org.drip.param.definition.CalibrationParams (strMeasure, 0, null),
 					pricerParamsIn.survivalToPayDate(), pricerParamsIn.discretizationScheme());
+
+			_csqs = org.drip.param.creator.MarketParamsBuilder.Create (_dc, _dcTSY, _cc, null, null, null,
+				_lsfc);
+
+			/*
+			 * The Nodes ahead of this one are already calibrated, so the Legs of the CDS Coupon Periods that
+			 * 	end on or before the Start of this Node's Segment stay fixed across the Solver Iterations.
+			 */
+
+			if (_bIncrementalHazardBootstrap && !_bFlat && 0 < _iInstr && null != _csqs && _comp instanceof
+				org.drip.product.credit.CDSComponent && _cc instanceof
+					org.drip.state.curve.ForwardHazardCreditCurve) {
+				org.drip.state.curve.PiecewiseFlatIntegral pfiHazard =
+					((org.drip.state.curve.ForwardHazardCreditCurve) _cc).compiledHazard();
+
+				if (null != pfiHazard && _iInstr <= pfiHazard.numNode())
+					_legContribution = ((org.drip.product.credit.CDSComponent) _comp).legContribution
+						(_valParams, _pricerParams, _csqs, pfiHazard.segmentStart (_iInstr));
+			}
 		}
 
 		@Override public double evaluate (
@@ -105,9 +128,12 @@ public class NonlinearCurveCalibrator {
 			if (!SetNode (_cc, _iInstr, _bFlat, dblRate))
 				throw new java.lang.Exception ("Cannot set CC = " + dblRate + " for node #" + _iInstr);
 
-			return _dblCalibValue - _comp.measureValue (_valParams, _pricerParams,
-				org.drip.param.creator.MarketParamsBuilder.Create (_dc, _dcTSY, _cc, null, null, null,
-					_lsfc), _quotingParams, _strMeasure);
+			if (null != _legContribution)
+				return _dblCalibValue - ((org.drip.product.credit.CDSComponent) _comp).measureValue
+					(_valParams, _pricerParams, _csqs, _quotingParams, _legContribution, _strMeasure);
+
+			return _dblCalibValue - _comp.measureValue (_valParams, _pricerParams, _csqs, _quotingParams,
+				_strMeasure);
 		}
 
 		@Override public double integrate (
@@ -212,6 +238,21 @@ public class NonlinearCurveCalibrator {
 	{
 	}
 
+	/**
+	 * Construct a NonlinearCurveCalibrator with the Incremental Hazard Bootstrap turned on/off. In the
+	 * 	Incremental Mode the Premium/Protection Legs of a CDS Calibration Instrument's Coupon Periods that
+	 * 	lie entirely under the already calibrated Hazard Nodes are computed once per Node, and each Solver
+	 * 	Iteration revalues only the remaining Periods.
+	 * 
+	 * @param bIncrementalHazardBootstrap TRUE => Bootstrap the Hazard Nodes incrementally (the Default)
+	 */
+
+	public NonlinearCurveCalibrator (
+		final boolean bIncrementalHazardBootstrap)
+	{
+		_bIncrementalHazardBootstrap = bIncrementalHazardBootstrap;
+	}
+
 	/**
 	 * Calibrate a single Hazard Rate Node from the corresponding Component
 	 * 
@@ -379,10 +420,47 @@ public class NonlinearCurveCalibrator {
 		final org.drip.param.market.LatentStateFixingsContainer lsfc,
 		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
 		final boolean bFlat)
+	{
+		return bootstrapInterestRateSequence (dc, dcTSY, aCalibComp, valParams, astrCalibMeasure,
+			adblCalibValue, dblBump, lsfc, quotingParams, bFlat, 0);
+	}
+
+	/**
+	 * Boot-strap an interest rate curve from the set of calibration components, starting at the specified
+	 * 	Node. The Nodes ahead of it are taken to be already calibrated. The Non-linear Discount Factor
+	 * 	Curves are always calibrated globally across all the Nodes.
+	 * 
+	 * @param dc The discount curve to be bootstrapped
+	 * @param dcTSY The TSY discount curve
+	 * @param aCalibComp Array of the calibration components
+	 * @param valParams Calibration Valuation Parameters
+	 * @param astrCalibMeasure Array of Calibration Measures
+	 * @param adblCalibValue Array of Calibration Values
+	 * @param dblBump Amount to bump the Quotes by
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param bFlat TRUE => Calibrate a Flat Curve across all Tenors
+	 * @param iStartNode Index of the Node to start the Bootstrap at
+	 * 
+	 * @return TRUE => Bootstrapping was successful
+	 */
+
+	public boolean bootstrapInterestRateSequence (
+		final org.drip.analytics.rates.ExplicitBootDiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final org.drip.product.definition.FixedIncomeComponent[] aCalibComp,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final String[] astrCalibMeasure,
+		final double[] adblCalibValue,
+		final double dblBump,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat,
+		final int iStartNode)
 	{
 		if (null == dc || null == adblCalibValue || null == aCalibComp || null == astrCalibMeasure || 0 ==
 			aCalibComp.length || adblCalibValue.length != aCalibComp.length || adblCalibValue.length !=
-				astrCalibMeasure.length)
+				astrCalibMeasure.length || 0 > iStartNode || iStartNode >= adblCalibValue.length)
 			return false;
 
 		if (dc instanceof org.drip.state.curve.NonlinearDiscountFactorDiscountCurve)
@@ -390,7 +468,7 @@ public class NonlinearCurveCalibrator {
 				((org.drip.state.curve.NonlinearDiscountFactorDiscountCurve) dc, dcTSY, aCalibComp,
 					valParams, astrCalibMeasure, adblCalibValue, dblBump, lsfc, quotingParams, bFlat);
 
-		for (int i = 0; i < adblCalibValue.length; ++i) {
+		for (int i = iStartNode; i < adblCalibValue.length; ++i) {
 			try {
 				if (!org.drip.quant.common.NumberUtil.IsValid (calibrateIRNode (dc, dcTSY, aCalibComp[i], i,
 					valParams, astrCalibMeasure[i], adblCalibValue[i] + dblBump, lsfc, quotingParams,
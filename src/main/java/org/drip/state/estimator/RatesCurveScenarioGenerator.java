@@ -48,6 +48,7 @@ public class RatesCurveScenarioGenerator {
 	private static final boolean s_bBlog = false;
 
 	private String _strCurrency = "";
+	private java.util.concurrent.ExecutorService _es = null;
 	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCalibInst = null;
 	private String _strBootstrapMode =
 		org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD;
@@ -55,6 +56,165 @@ public class RatesCurveScenarioGenerator {
 	private org.drip.state.estimator.NonlinearCurveCalibrator _compCalib = new
 		org.drip.state.estimator.NonlinearCurveCalibrator();
 
+	private org.drip.analytics.rates.DiscountCurve calibrateDC (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final org.drip.analytics.rates.DiscountCurve dcBase,
+		final int iStartNode)
+	{
+		double adblDates[] = new double[adblQuotes.length];
+		double adblRates[] = new double[adblQuotes.length];
+		org.drip.analytics.rates.ExplicitBootDiscountCurve dc = null;
+		org.drip.state.curve.PiecewiseFlatIntegral pfiBase = null;
+
+		for (int i = 0; i < adblQuotes.length; ++i) {
+			if (null == _aCalibInst[i] || null == _aCalibInst[i].maturityDate()) {
+				System.out.println ("Param " + i + " invalid in IRCurveScenarioGenerator::createIRCurve!");
+
+				return null;
+			}
+
+			adblDates[i] = _aCalibInst[i].maturityDate().julian();
+		}
+
+		if (0 < iStartNode && iStartNode < adblQuotes.length && dcBase instanceof
+			org.drip.state.curve.FlatForwardDiscountCurve) {
+			pfiBase = ((org.drip.state.curve.FlatForwardDiscountCurve) dcBase).compiledForward();
+
+			if (adblQuotes.length != pfiBase.numNode())
+				pfiBase = null;
+			else {
+				for (int i = 0; i < adblQuotes.length; ++i) {
+					if (adblDates[i] != pfiBase.segmentStart (i + 1)) {
+						pfiBase = null;
+						break;
+					}
+				}
+			}
+		}
+
+		for (int i = 0; i < adblQuotes.length; ++i)
+			adblRates[i] = null == pfiBase ? 0.02 : pfiBase.response (java.lang.Math.min (i, iStartNode -
+				1));
+
+		try {
+			dc = org.drip.state.creator.DiscountCurveBuilder.CreateDC (new org.drip.analytics.date.JulianDate
+				(valParams.valueDate()), _strCurrency, null == quotingParams ? null :
+					quotingParams.coreCollateralizationParams(), adblDates, adblRates, _strBootstrapMode);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		if (!(dc instanceof org.drip.state.curve.FlatForwardDiscountCurve)) pfiBase = null;
+
+		if (!_compCalib.bootstrapInterestRateSequence (dc, dcTSY, _aCalibInst, valParams, astrCalibMeasure,
+			adblQuotes, dblBump, lsfc, quotingParams, false, null == pfiBase ? 0 : iStartNode))
+			return null;
+
+		if (s_bBlog) {
+			for (int i = 0; i < adblQuotes.length; ++i) {
+				try {
+					System.out.println (i + "=" +_aCalibInst[i].measureValue (valParams, null,
+						org.drip.param.creator.MarketParamsBuilder.Create (dc, null, null, null,
+							null, null, lsfc), null, astrCalibMeasure[i]));
+				} catch (java.lang.Exception e) {
+					e.printStackTrace();
+				}
+			}
+		}
+
+		dc.setCCIS (org.drip.analytics.input.BootCurveConstructionInput.Create (valParams, quotingParams,
+			_aCalibInst, adblQuotes, astrCalibMeasure, lsfc));
+
+		return dc;
+	}
+
+	private org.drip.analytics.rates.DiscountCurve tenorBumpedDC (
+		final int iTenor,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final org.drip.analytics.rates.DiscountCurve dcBase)
+	{
+		double[] adblTenorQuotes = new double [_aCalibInst.length];
+
+		for (int j = 0; j < _aCalibInst.length; ++j) {
+			if (j == iTenor)
+				adblTenorQuotes[j] = adblQuotes[j] + dblBump;
+			else
+				adblTenorQuotes[j] = adblQuotes[j];
+		}
+
+		return calibrateDC (valParams, dcTSY, adblTenorQuotes, 0., astrCalibMeasure, lsfc, quotingParams,
+			dcBase, iTenor);
+	}
+
+	private org.drip.analytics.rates.DiscountCurve[] tenorBumpedDCSet (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final org.drip.analytics.rates.DiscountCurve dcBase)
+	{
+		int iNumTenor = _aCalibInst.length;
+		org.drip.analytics.rates.DiscountCurve[] aDC = new org.drip.analytics.rates.DiscountCurve[iNumTenor];
+
+		if (null == _es || 1 == iNumTenor) {
+			for (int i = 0; i < iNumTenor; ++i) {
+				if (null == (aDC[i] = tenorBumpedDC (i, valParams, dcTSY, adblQuotes, dblBump,
+					astrCalibMeasure, lsfc, quotingParams, dcBase)))
+					return null;
+			}
+
+			return aDC;
+		}
+
+		java.util.List<java.util.concurrent.Future<org.drip.analytics.rates.DiscountCurve>> lsFuture = new
+			java.util.ArrayList<java.util.concurrent.Future<org.drip.analytics.rates.DiscountCurve>>();
+
+		try {
+			for (int i = 0; i < iNumTenor; ++i) {
+				final int iTenor = i;
+
+				lsFuture.add (_es.submit (new
+					java.util.concurrent.Callable<org.drip.analytics.rates.DiscountCurve>() {
+					@Override public org.drip.analytics.rates.DiscountCurve call()
+					{
+						return tenorBumpedDC (iTenor, valParams, dcTSY, adblQuotes, dblBump,
+							astrCalibMeasure, lsfc, quotingParams, dcBase);
+					}
+				}));
+			}
+
+			for (int i = 0; i < iNumTenor; ++i) {
+				if (null == (aDC[i] = lsFuture.get (i).get())) return null;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		} finally {
+			for (java.util.concurrent.Future<org.drip.analytics.rates.DiscountCurve> f : lsFuture)
+				f.cancel (true);
+		}
+
+		return aDC;
+	}
+
 	/**
 	 * Construct a RatesCurveScenarioGenerator instance from the calibratable instrument array
 	 * 
@@ -70,10 +230,34 @@ public class RatesCurveScenarioGenerator {
 		final String strBootstrapMode,
 		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst)
 		throws java.lang.Exception
+	{
+		this (strCurrency, strBootstrapMode, aCalibInst, null);
+	}
+
+	/**
+	 * Construct a RatesCurveScenarioGenerator instance from the calibratable instrument array and the
+	 * 	Executor on which the Tenor Bumped Curves are calibrated in parallel. The Executor is owned (and
+	 * 	shut down) by the Caller.
+	 * 
+	 * @param strCurrency Currency
+	 * @param strBootstrapMode Bootstrap Mode - one of the choices in DiscountCurveBuilder.BOOTSTRAP_MODE_xxx
+	 * @param aCalibInst Array of calibration instruments
+	 * @param es The Executor Service (NULL => Calibrate the Tenor Bumped Curves serially)
+	 * 
+	 * @throws java.lang.Exception Thrown if inputs are invalid
+	 */
+
+	public RatesCurveScenarioGenerator (
+		final String strCurrency,
+		final String strBootstrapMode,
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final java.util.concurrent.ExecutorService es)
+		throws java.lang.Exception
 	{
 		if (null == strCurrency || strCurrency.isEmpty() || null == aCalibInst || 0 == aCalibInst.length)
 			throw new java.lang.Exception ("IRCurveScenarioGenerator.ctr: Invalid ccy/calib inst inputs");
 
+		_es = es;
 		_aCalibInst = aCalibInst;
 		_strCurrency = strCurrency;
 
@@ -93,6 +277,17 @@ public class RatesCurveScenarioGenerator {
 		return _aCalibInst;
 	}
 
+	/**
+	 * Retrieve the Executor on which the Tenor Bumped Curves are calibrated
+	 * 
+	 * @return The Executor Service (NULL => The Tenor Bumped Curves are calibrated serially)
+	 */
+
+	public java.util.concurrent.ExecutorService executor()
+	{
+		return _es;
+	}
+
 	/**
 	 * Calibrate a discount curve
 	 * 
@@ -124,52 +319,8 @@ public class RatesCurveScenarioGenerator {
 			return null;
 		}
 
-		double adblDates[] = new double[adblQuotes.length];
-		double adblRates[] = new double[adblQuotes.length];
-		org.drip.analytics.rates.ExplicitBootDiscountCurve dc = null;
-
-		for (int i = 0; i < adblQuotes.length; ++i) {
-			adblRates[i] = 0.02;
-
-			if (null == _aCalibInst[i] || null == _aCalibInst[i].maturityDate()) {
-				System.out.println ("Param " + i + " invalid in IRCurveScenarioGenerator::createIRCurve!");
-
-				return null;
-			}
-
-			adblDates[i] = _aCalibInst[i].maturityDate().julian();
-		}
-
-		try {
-			dc = org.drip.state.creator.DiscountCurveBuilder.CreateDC (new org.drip.analytics.date.JulianDate
-				(valParams.valueDate()), _strCurrency, null == quotingParams ? null :
-					quotingParams.coreCollateralizationParams(), adblDates, adblRates, _strBootstrapMode);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-
-			return null;
-		}
-
-		if (!_compCalib.bootstrapInterestRateSequence (dc, dcTSY, _aCalibInst, valParams, astrCalibMeasure,
-			adblQuotes, dblBump, lsfc, quotingParams, false))
-			return null;
-
-		if (s_bBlog) {
-			for (int i = 0; i < adblQuotes.length; ++i) {
-				try {
-					System.out.println (i + "=" +_aCalibInst[i].measureValue (valParams, null,
-						org.drip.param.creator.MarketParamsBuilder.Create (dc, null, null, null,
-							null, null, lsfc), null, astrCalibMeasure[i]));
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
-				}
-			}
-		}
-
-		dc.setCCIS (org.drip.analytics.input.BootCurveConstructionInput.Create (valParams, quotingParams,
-			_aCalibInst, adblQuotes, astrCalibMeasure, lsfc));
-
-		return dc;
+		return calibrateDC (valParams, dcTSY, adblQuotes, dblBump, astrCalibMeasure, lsfc, quotingParams,
+			null, 0);
 	}
 
 	/**
@@ -194,6 +345,38 @@ public class RatesCurveScenarioGenerator {
 		final String[] astrCalibMeasure,
 		final org.drip.param.market.LatentStateFixingsContainer lsfc,
 		final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+	{
+		return createTenorIRCurves (valParams, dcTSY, adblQuotes, dblBump, astrCalibMeasure, lsfc,
+			quotingParams, null);
+	}
+
+	/**
+	 * Calibrate an array of tenor bumped discount curves, warm-started off the Base Curve calibrated from
+	 * 	the un-bumped Quotes. Bumping the Quote of a Tenor leaves the Forward Nodes ahead of it unchanged,
+	 * 	so these are carried over from the (Constant Forward) Base Curve, and only the Nodes from the
+	 * 	bumped Tenor onwards are re-calibrated.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param dcTSY Treasury Discount Curve
+	 * @param adblQuotes Array of component quotes
+	 * @param dblBump Quote bump
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param dcBase The Base Discount Curve (NULL => Calibrate each Tenor Bumped Curve from scratch)
+	 * 
+	 * @return Array of tenor bumped discount curves
+	 */
+
+	public org.drip.analytics.rates.DiscountCurve[] createTenorIRCurves (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblBump,
+		final String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final org.drip.analytics.rates.DiscountCurve dcBase)
 	{
 		if (null == _aCalibInst || 0 == _aCalibInst.length || null == adblQuotes || null == astrCalibMeasure
 			|| adblQuotes.length != astrCalibMeasure.length || _aCalibInst.length != astrCalibMeasure.length
@@ -203,25 +386,8 @@ public class RatesCurveScenarioGenerator {
 			return null;
 		}
 
-		org.drip.analytics.rates.DiscountCurve[] aDC = new
-				org.drip.analytics.rates.DiscountCurve[_aCalibInst.length];
-
-		for (int i = 0; i < aDC.length; ++i) {
-			double[] adblTenorQuotes = new double [aDC.length];
-
-			for (int j = 0; j < aDC.length; ++j) {
-				if (j == i)
-					adblTenorQuotes[j] = adblQuotes[j] + dblBump;
-				else
-					adblTenorQuotes[j] = adblQuotes[j];
-			}
-
-			if (null == (aDC[i] = createIRCurve (valParams, dcTSY, adblQuotes, 0., astrCalibMeasure, lsfc,
-				quotingParams)))
-				return null;
-		}
-
-		return aDC;
+		return tenorBumpedDCSet (valParams, dcTSY, adblQuotes, dblBump, astrCalibMeasure, lsfc,
+			quotingParams, dcBase);
 	}
 
 	/**
@@ -247,6 +413,37 @@ public class RatesCurveScenarioGenerator {
 			final String[] astrCalibMeasure,
 			final org.drip.param.market.LatentStateFixingsContainer lsfc,
 			final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+	{
+		return createTenorIRCurveMap (valParams, dcTSY, adblQuotes, dblBump, astrCalibMeasure, lsfc,
+			quotingParams, null);
+	}
+
+	/**
+	 * Calibrate a tenor map of tenor bumped discount curves, warm-started off the Base Curve calibrated
+	 * 	from the un-bumped Quotes
+	 * 
+	 * @param valParams ValuationParams
+	 * @param dcTSY Treasury Discount Curve
+	 * @param adblQuotes Array of component quotes
+	 * @param dblBump Quote bump
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param dcBase The Base Discount Curve (NULL => Calibrate each Tenor Bumped Curve from scratch)
+	 * 
+	 * @return Tenor map of tenor bumped discount curves
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+		createTenorIRCurveMap (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.analytics.rates.DiscountCurve dcTSY,
+			final double[] adblQuotes,
+			final double dblBump,
+			final String[] astrCalibMeasure,
+			final org.drip.param.market.LatentStateFixingsContainer lsfc,
+			final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+			final org.drip.analytics.rates.DiscountCurve dcBase)
 	{
 		if (null == adblQuotes || null == astrCalibMeasure || adblQuotes.length != astrCalibMeasure.length ||
 			_aCalibInst.length != astrCalibMeasure.length || null == valParams ||
@@ -256,24 +453,18 @@ public class RatesCurveScenarioGenerator {
 			return null;
 		}
 
+		org.drip.analytics.rates.DiscountCurve[] aDC = tenorBumpedDCSet (valParams, dcTSY, adblQuotes,
+			dblBump, astrCalibMeasure, lsfc, quotingParams, dcBase);
+
+		if (null == aDC) return null;
+
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve> mapTenorDC
 			= new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
 
-		for (int i = 0; i < _aCalibInst.length; ++i) {
-			double[] adblTenorQuotes = new double [_aCalibInst.length];
-
-			for (int j = 0; j < _aCalibInst.length; ++j) {
-				if (j == i)
-					adblTenorQuotes[j] = adblQuotes[j] + dblBump;
-				else
-					adblTenorQuotes[j] = adblQuotes[j];
-			}
-
+		for (int i = 0; i < _aCalibInst.length; ++i)
 			mapTenorDC.put (org.drip.analytics.date.DateUtil.FromJulian
-				(_aCalibInst[i].maturityDate().julian()), createIRCurve (valParams, dcTSY, adblTenorQuotes,
-					0., astrCalibMeasure, lsfc, quotingParams));
-		}
+				(_aCalibInst[i].maturityDate().julian()), aDC[i]);
 
 		return mapTenorDC;
 	}
@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class CustomMetricLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iInternedID = -1;
 	private String _strLabel = "";
 
 	/**
@@ -75,6 +76,24 @@ public class CustomMetricLabel implements org.drip.state.identifier.LatentStateL
 			throw new java.lang.Exception ("CustomMetricLabel ctr: Invalid Inputs");
 	}
 
+	@Override public int internedID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+				(org.drip.state.identifier.CustomMetricLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
+	@Override public int lookupID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Lookup
+				(org.drip.state.identifier.CustomMetricLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
 	@Override public String fullyQualifiedName()
 	{
 		return _strLabel;
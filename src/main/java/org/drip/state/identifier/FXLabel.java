@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class FXLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iInternedID = -1;
 	private org.drip.product.params.CurrencyPair _cp = null;
 
 	/**
@@ -94,6 +95,24 @@ public class FXLabel implements org.drip.state.identifier.LatentStateLabel {
 		if (null == (_cp = cp)) throw new java.lang.Exception ("FXLabel ctr: Invalid Inputs");
 	}
 
+	@Override public int internedID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+				(org.drip.state.identifier.FXLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
+	@Override public int lookupID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Lookup
+				(org.drip.state.identifier.FXLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
 	@Override public String fullyQualifiedName()
 	{
 		return _cp.code();
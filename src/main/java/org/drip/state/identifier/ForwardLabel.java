@@ -41,6 +41,7 @@ package org.drip.state.identifier;
  */
 
 public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iInternedID = -1;
 	private String _strTenor = "";
 	private org.drip.market.definition.FloaterIndex _floaterIndex = null;
 
@@ -78,6 +79,55 @@ public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel
 		return null;
 	}
 
+	/**
+	 * Construct a ForwardLabel from the "CCY-FAMILY-TENOR" Fully Qualified Name it reports, resolving the
+	 * 	Floater Index by Name off the IBOR/Overnight Index Containers, and then by Jurisdiction
+	 * 
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 * 
+	 * @return ForwardLabel Instance (NULL => No Container Index reproduces the Fully Qualified Name)
+	 */
+
+	public static final ForwardLabel FromFullyQualifiedName (
+		final String strFullyQualifiedName)
+	{
+		if (null == strFullyQualifiedName || strFullyQualifiedName.isEmpty()) return null;
+
+		int iFamilyStart = strFullyQualifiedName.indexOf ('-');
+
+		int iTenorStart = strFullyQualifiedName.lastIndexOf ('-');
+
+		if (0 >= iFamilyStart || iFamilyStart == iTenorStart) return null;
+
+		String strCurrency = strFullyQualifiedName.substring (0, iFamilyStart);
+
+		String strIndex = strFullyQualifiedName.substring (0, iTenorStart);
+
+		String strTenor = strFullyQualifiedName.substring (iTenorStart + 1);
+
+		org.drip.market.definition.FloaterIndex[] aFloaterIndex = new
+			org.drip.market.definition.FloaterIndex[] {
+				org.drip.market.definition.IBORIndexContainer.IndexFromName (strIndex),
+				org.drip.market.definition.OvernightIndexContainer.IndexFromName (strIndex),
+				org.drip.market.definition.IBORIndexContainer.IndexFromJurisdiction (strCurrency),
+				org.drip.market.definition.OvernightIndexContainer.IndexFromJurisdiction (strCurrency)
+			};
+
+		for (org.drip.market.definition.FloaterIndex floaterIndex : aFloaterIndex) {
+			if (null == floaterIndex || !strIndex.equalsIgnoreCase (floaterIndex.currency() + "-" +
+				floaterIndex.family()) || strTenor.isEmpty())
+				continue;
+
+			try {
+				return new ForwardLabel (floaterIndex, strTenor);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * Construct a ForwardLabel from the tenor and the index
 	 * 
@@ -211,6 +261,24 @@ public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel
 		return null;
 	}
 
+	@Override public int internedID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+				(org.drip.state.identifier.ForwardLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
+	@Override public int lookupID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Lookup
+				(org.drip.state.identifier.ForwardLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
 	@Override public String fullyQualifiedName()
 	{
 		return _floaterIndex.currency() + "-" + _floaterIndex.family() + "-" + _strTenor;
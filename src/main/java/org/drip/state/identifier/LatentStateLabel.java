@@ -47,6 +47,24 @@ public interface LatentStateLabel {
 
 	public abstract String fullyQualifiedName();
 
+	/**
+	 * Retrieve the ID interned for the Fully Qualified Name in the LatentStateLabelRegistry ID Space of this
+	 * 	Label Class
+	 * 
+	 * @return The Interned ID
+	 */
+
+	public abstract int internedID();
+
+	/**
+	 * Look up the ID of the Fully Qualified Name in the LatentStateLabelRegistry ID Space of this Label
+	 * 	Class, without interning it
+	 * 
+	 * @return The Interned ID (-1 => The Name has not been interned yet)
+	 */
+
+	public abstract int lookupID();
+
 	/**
 	 * Indicate whether this Label matches the supplied.
 	 * 
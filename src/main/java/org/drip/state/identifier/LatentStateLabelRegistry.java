@@ -0,0 +1,126 @@
+
+package org.drip.state.identifier;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateLabelRegistry interns the Fully Qualified Names of the Latent State Labels into stable, dense
+ * 	Integer IDs, one ID Space per Label Class. Names are matched Case-insensitively, as the
+ * 	CaseInsensitiveTreeMap Keys of CurveSurfaceQuoteSet were. The IDs address the Latent State Slots of
+ * 	CurveSurfaceQuoteSet directly, and each Label caches its own ID on first use, so that resolving a
+ * 	Latent State off a Label does not re-build or re-compare the Name.
+ * 
+ * Only Intern takes the Registry Lock; Lookup and Size read the Concurrent Maps without it, and Lookup never
+ * 	interns, so that probing for a Latent State that was never set leaves the ID Space untouched.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateLabelRegistry {
+	private static final java.util.concurrent.ConcurrentMap<java.lang.Class<?>,
+		java.util.concurrent.ConcurrentMap<String, java.lang.Integer>> s_mapLabelClassID = new
+			java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>,
+				java.util.concurrent.ConcurrentMap<String, java.lang.Integer>>();
+
+	/**
+	 * Intern the Fully Qualified Name in the ID Space of the Label Class
+	 * 
+	 * @param clsLabel The Label Class
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 * 
+	 * @return The Interned ID (-1 => The Inputs are Invalid)
+	 */
+
+	public static final synchronized int Intern (
+		final java.lang.Class<?> clsLabel,
+		final String strFullyQualifiedName)
+	{
+		if (null == clsLabel || null == strFullyQualifiedName || strFullyQualifiedName.isEmpty()) return -1;
+
+		java.util.concurrent.ConcurrentMap<String, java.lang.Integer> mapID = s_mapLabelClassID.get
+			(clsLabel);
+
+		if (null == mapID)
+			s_mapLabelClassID.put (clsLabel, mapID = new java.util.concurrent.ConcurrentHashMap<String,
+				java.lang.Integer>());
+
+		String strKey = strFullyQualifiedName.toLowerCase();
+
+		java.lang.Integer iID = mapID.get (strKey);
+
+		if (null != iID) return iID;
+
+		int iNewID = mapID.size();
+
+		mapID.put (strKey, iNewID);
+
+		return iNewID;
+	}
+
+	/**
+	 * Look up the ID of the Fully Qualified Name in the ID Space of the Label Class, without interning it
+	 * 
+	 * @param clsLabel The Label Class
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 * 
+	 * @return The Interned ID (-1 => The Name has not been interned, or the Inputs are Invalid)
+	 */
+
+	public static final int Lookup (
+		final java.lang.Class<?> clsLabel,
+		final String strFullyQualifiedName)
+	{
+		if (null == clsLabel || null == strFullyQualifiedName || strFullyQualifiedName.isEmpty()) return -1;
+
+		java.util.concurrent.ConcurrentMap<String, java.lang.Integer> mapID = s_mapLabelClassID.get
+			(clsLabel);
+
+		if (null == mapID) return -1;
+
+		java.lang.Integer iID = mapID.get (strFullyQualifiedName.toLowerCase());
+
+		return null == iID ? -1 : iID;
+	}
+
+	/**
+	 * Retrieve the Number of IDs interned so far in the ID Space of the Label Class
+	 * 
+	 * @param clsLabel The Label Class
+	 * 
+	 * @return The Number of IDs interned
+	 */
+
+	public static final int Size (
+		final java.lang.Class<?> clsLabel)
+	{
+		java.util.Map<String, java.lang.Integer> mapID = null == clsLabel ? null : s_mapLabelClassID.get
+			(clsLabel);
+
+		return null == mapID ? 0 : mapID.size();
+	}
+}
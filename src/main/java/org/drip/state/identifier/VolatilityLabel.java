@@ -36,6 +36,7 @@ package org.drip.state.identifier;
  */
 
 public class VolatilityLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iInternedID = -1;
 	private org.drip.state.identifier.LatentStateLabel _lslUnderlyingState = null;
 
 	/**
@@ -74,6 +75,24 @@ public class VolatilityLabel implements org.drip.state.identifier.LatentStateLab
 			throw new java.lang.Exception ("VolatilityLabel ctr: Invalid Inputs");
 	}
 
+	@Override public int internedID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Intern
+				(org.drip.state.identifier.VolatilityLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
+	@Override public int lookupID()
+	{
+		if (0 > _iInternedID)
+			_iInternedID = org.drip.state.identifier.LatentStateLabelRegistry.Lookup
+				(org.drip.state.identifier.VolatilityLabel.class, fullyQualifiedName());
+
+		return _iInternedID;
+	}
+
 	@Override public String fullyQualifiedName()
 	{
 		return _lslUnderlyingState.fullyQualifiedName() + "::VOL";